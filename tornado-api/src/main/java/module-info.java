@@ -46,9 +46,13 @@ module tornado.api {
     opens uk.ac.manchester.tornado.api.types.volumes;
     exports uk.ac.manchester.tornado.api.types.vectors;
     opens uk.ac.manchester.tornado.api.types.vectors;
+    exports uk.ac.manchester.tornado.api.types.sparse;
+    opens uk.ac.manchester.tornado.api.types.sparse;
     exports uk.ac.manchester.tornado.api.types;
     opens uk.ac.manchester.tornado.api.types;
     opens uk.ac.manchester.tornado.api.runtime;
     exports uk.ac.manchester.tornado.api.plan.types;
     opens uk.ac.manchester.tornado.api.plan.types;
+    exports uk.ac.manchester.tornado.api.primitives;
+    opens uk.ac.manchester.tornado.api.primitives;
 }
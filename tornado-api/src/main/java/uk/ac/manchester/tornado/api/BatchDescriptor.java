@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.api;
+
+import java.util.Objects;
+
+import uk.ac.manchester.tornado.api.enums.BatchMode;
+import uk.ac.manchester.tornado.api.exceptions.TornadoRuntimeException;
+
+/**
+ * Describes how an argument of a task-graph is processed when batch processing
+ * is enabled with
+ * {@link TornadoExecutionPlan#withBatch(String, BatchDescriptor...)}.
+ *
+ * <p>
+ * Arguments without a descriptor are split with a ratio of one element per
+ * iteration. For example, a matrix-vector multiplication that does not fit in
+ * the device memory can process the matrix in blocks of rows, while the vector
+ * is copied only once:
+ * </p>
+ *
+ * <code>
+ * executionPlan.withBatch("256MB", //
+ * BatchDescriptor.split(matrix, numColumns), //
+ * BatchDescriptor.broadcast(vector), //
+ * BatchDescriptor.split(result)).execute();
+ * </code>
+ */
+public final class BatchDescriptor {
+
+    private final Object object;
+    private final BatchMode mode;
+    private final long ratio;
+
+    private BatchDescriptor(Object object, BatchMode mode, long ratio) {
+        this.object = Objects.requireNonNull(object);
+        this.mode = mode;
+        this.ratio = ratio;
+    }
+
+    /**
+     * Splits the argument into chunks of one element per iteration of the
+     * parallel loop.
+     *
+     * @param object
+     *     Array to split.
+     * @return {@link BatchDescriptor}
+     */
+    public static BatchDescriptor split(Object object) {
+        return split(object, 1);
+    }
+
+    /**
+     * Splits the argument into chunks of {@code ratio} elements per iteration of
+     * the parallel loop. For a row-major matrix processed by rows, the ratio is
+     * the number of columns.
+     *
+     * @param object
+     *     Array to split.
+     * @param ratio
+     *     Number of elements of the array for each iteration.
+     * @return {@link BatchDescriptor}
+     */
+    public static BatchDescriptor split(Object object, long ratio) {
+        if (ratio <= 0) {
+            throw new TornadoRuntimeException("[ERROR] The split ratio must be greater than 0: " + ratio);
+        }
+        return new BatchDescriptor(object, BatchMode.SPLIT, ratio);
+    }
+
+    /**
+     * Copies the whole argument once and keeps it on the device for all chunks.
+     *
+     * @param object
+     *     Read-only argument.
+     * @return {@link BatchDescriptor}
+     */
+    public static BatchDescriptor broadcast(Object object) {
+        return new BatchDescriptor(object, BatchMode.BROADCAST, 0);
+    }
+
+    /**
+     * Keeps the whole argument on the device for all chunks, so the kernels can
+     * accumulate into it. The result is copied back after the last chunk.
+     *
+     * @param object
+     *     Argument written by the kernels.
+     * @return {@link BatchDescriptor}
+     */
+    public static BatchDescriptor reduce(Object object) {
+        return new BatchDescriptor(object, BatchMode.REDUCE, 0);
+    }
+
+    public Object getObject() {
+        return object;
+    }
+
+    public BatchMode getMode() {
+        return mode;
+    }
+
+    public long getRatio() {
+        return ratio;
+    }
+
+    @Override
+    public String toString() {
+        return switch (mode) {
+            case SPLIT -> "split(" + object.getClass().getSimpleName() + ", " + ratio + ")";
+            case BROADCAST -> "broadcast(" + object.getClass().getSimpleName() + ")";
+            case REDUCE -> "reduce(" + object.getClass().getSimpleName() + ")";
+        };
+    }
+}
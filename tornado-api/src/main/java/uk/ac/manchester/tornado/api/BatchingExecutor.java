@@ -0,0 +1,366 @@
+/*
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.api;
+
+import java.lang.foreign.MemorySegment;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import uk.ac.manchester.tornado.api.exceptions.TornadoRuntimeException;
+import uk.ac.manchester.tornado.api.types.arrays.TornadoNativeArray;
+
+/**
+ * Coalesces concurrent requests for the same execution plan into a single
+ * execution. Requests submitted by different threads within a time window are
+ * packed into the batched arrays of the task-graph, the plan is executed once,
+ * and the results are copied back to the arrays of each request.
+ *
+ * <p>
+ * The task-graph is built with batched arrays that hold {@code maxBatchSize}
+ * requests one after the other. Slot {@code i} of a batched array starts at
+ * element {@code i * (batched.getSize() / maxBatchSize)}, and the arrays of each
+ * request must have exactly that number of elements. Kernels process the
+ * batched arrays as a whole, so each element of the output must only depend on
+ * the elements of the same slot of the inputs.
+ * </p>
+ *
+ * <code>
+ * FloatArray batchedInput = new FloatArray(maxBatchSize * requestSize);
+ * FloatArray batchedOutput = new FloatArray(maxBatchSize * requestSize);
+ * TaskGraph taskGraph = new TaskGraph("s0") //
+ * .transferToDevice(DataTransferMode.EVERY_EXECUTION, batchedInput) //
+ * .task("t0", Model::infer, batchedInput, batchedOutput) //
+ * .transferToHost(DataTransferMode.EVERY_EXECUTION, batchedOutput);
+ *
+ * try (BatchingExecutor executor = new BatchingExecutor(executionPlan, maxBatchSize) //
+ * .withInputs(batchedInput) //
+ * .withOutputs(batchedOutput) //
+ * .withMaxDelay(500, TimeUnit.MICROSECONDS)) {
+ * executor.submit(new Object[] { input }, new Object[] { output }).join();
+ * }
+ * </code>
+ *
+ * <p>
+ * When the execution plan uses a {@link GridScheduler}, the worker grid passed
+ * to {@link #withWorkerGrid(WorkerGrid, long)} is resized before each
+ * execution to cover only the requests of the batch.
+ * </p>
+ */
+public class BatchingExecutor implements AutoCloseable {
+
+    private static final long DEFAULT_MAX_DELAY_NANOS = TimeUnit.MICROSECONDS.toNanos(200);
+
+    private final TornadoExecutionPlan executionPlan;
+    private final int maxBatchSize;
+    private final BlockingQueue<Request> pendingRequests;
+    private final AtomicLong numBatches;
+    private final AtomicLong numRequests;
+
+    private TornadoNativeArray[] batchedInputs;
+    private TornadoNativeArray[] batchedOutputs;
+    private long maxDelayNanos;
+    private WorkerGrid workerGrid;
+    private long threadsPerRequest;
+
+    private volatile boolean closed;
+    private Thread dispatcher;
+
+    private record Request(Object[] inputs, Object[] outputs, CompletableFuture<Void> future) {
+    }
+
+    /**
+     * Creates a batching executor on top of an execution plan.
+     *
+     * @param executionPlan
+     *     Execution plan with the batched task-graph. The plan is not closed by
+     *     this executor.
+     * @param maxBatchSize
+     *     Maximum number of requests executed together. The batched arrays have
+     *     room for this number of requests.
+     */
+    public BatchingExecutor(TornadoExecutionPlan executionPlan, int maxBatchSize) {
+        if (maxBatchSize <= 0) {
+            throw new TornadoRuntimeException("[ERROR] The maximum batch size must be greater than 0: " + maxBatchSize);
+        }
+        this.executionPlan = Objects.requireNonNull(executionPlan);
+        this.maxBatchSize = maxBatchSize;
+        this.pendingRequests = new LinkedBlockingQueue<>();
+        this.numBatches = new AtomicLong();
+        this.numRequests = new AtomicLong();
+        this.batchedInputs = new TornadoNativeArray[0];
+        this.batchedOutputs = new TornadoNativeArray[0];
+        this.maxDelayNanos = DEFAULT_MAX_DELAY_NANOS;
+    }
+
+    private TornadoNativeArray[] checkBatchedArrays(Object... arrays) {
+        TornadoNativeArray[] batched = new TornadoNativeArray[arrays.length];
+        for (int i = 0; i < arrays.length; i++) {
+            if (!(arrays[i] instanceof TornadoNativeArray array)) {
+                throw new TornadoRuntimeException("[ERROR] Only TornadoVM native arrays can be batched: " + arrays[i]);
+            }
+            if (array.getSize() % maxBatchSize != 0) {
+                throw new TornadoRuntimeException("[ERROR] The size of a batched array (" + array.getSize() + ") must be a multiple of the maximum batch size (" + maxBatchSize + ")");
+            }
+            batched[i] = array;
+        }
+        return batched;
+    }
+
+    private void checkNotStarted() {
+        if (dispatcher != null) {
+            throw new TornadoRuntimeException("[ERROR] The batching executor cannot be configured after the first request");
+        }
+    }
+
+    /**
+     * Sets the batched arrays of the task-graph that receive the inputs of each
+     * request, in the order in which the inputs are passed to
+     * {@link #submit(Object[], Object[])}.
+     *
+     * @param arrays
+     *     Batched input arrays.
+     * @return {@link BatchingExecutor}
+     */
+    public BatchingExecutor withInputs(Object... arrays) {
+        checkNotStarted();
+        batchedInputs = checkBatchedArrays(arrays);
+        return this;
+    }
+
+    /**
+     * Sets the batched arrays of the task-graph that hold the outputs of each
+     * request, in the order in which the outputs are passed to
+     * {@link #submit(Object[], Object[])}.
+     *
+     * @param arrays
+     *     Batched output arrays.
+     * @return {@link BatchingExecutor}
+     */
+    public BatchingExecutor withOutputs(Object... arrays) {
+        checkNotStarted();
+        batchedOutputs = checkBatchedArrays(arrays);
+        return this;
+    }
+
+    /**
+     * Sets the time that the first request of a batch waits for other requests
+     * before the batch is executed. A batch is executed earlier if it reaches the
+     * maximum batch size.
+     *
+     * @param delay
+     *     Maximum delay.
+     * @param unit
+     *     Time unit of the delay.
+     * @return {@link BatchingExecutor}
+     */
+    public BatchingExecutor withMaxDelay(long delay, TimeUnit unit) {
+        checkNotStarted();
+        if (delay < 0) {
+            throw new TornadoRuntimeException("[ERROR] The maximum delay cannot be negative: " + delay);
+        }
+        maxDelayNanos = unit.toNanos(delay);
+        return this;
+    }
+
+    /**
+     * Resizes a worker grid of the execution plan before each execution, so the
+     * global work is {@code threadsPerRequest} times the number of requests of the
+     * batch. The other dimensions of the grid are not modified.
+     *
+     * @param workerGrid
+     *     Worker grid registered in the {@link GridScheduler} of the plan.
+     * @param threadsPerRequest
+     *     Number of threads in the first dimension for each request.
+     * @return {@link BatchingExecutor}
+     */
+    public BatchingExecutor withWorkerGrid(WorkerGrid workerGrid, long threadsPerRequest) {
+        checkNotStarted();
+        if (threadsPerRequest <= 0) {
+            throw new TornadoRuntimeException("[ERROR] The number of threads per request must be greater than 0: " + threadsPerRequest);
+        }
+        this.workerGrid = Objects.requireNonNull(workerGrid);
+        this.threadsPerRequest = threadsPerRequest;
+        return this;
+    }
+
+    private static void checkRequestArrays(TornadoNativeArray[] batched, Object[] arrays, int maxBatchSize) {
+        if (arrays.length != batched.length) {
+            throw new TornadoRuntimeException("[ERROR] Expected " + batched.length + " arrays per request, but found " + arrays.length);
+        }
+        for (int i = 0; i < arrays.length; i++) {
+            if (arrays[i] == null || arrays[i].getClass() != batched[i].getClass()) {
+                throw new TornadoRuntimeException("[ERROR] Argument " + i + " of the request must be of type " + batched[i].getClass().getSimpleName());
+            }
+            int slotSize = batched[i].getSize() / maxBatchSize;
+            int size = ((TornadoNativeArray) arrays[i]).getSize();
+            if (size != slotSize) {
+                throw new TornadoRuntimeException("[ERROR] Argument " + i + " of the request has " + size + " elements, but the batched array has " + slotSize + " elements per request");
+            }
+        }
+    }
+
+    /**
+     * Submits a request. The inputs are copied into a free slot of the batched
+     * input arrays, and the outputs are updated when the batch that contains the
+     * request finishes.
+     *
+     * @param inputs
+     *     Input arrays of the request, one per batched input array.
+     * @param outputs
+     *     Output arrays of the request, one per batched output array.
+     * @return {@link CompletableFuture} completed when the outputs are updated,
+     *     or completed exceptionally if the execution of the batch failed.
+     */
+    public CompletableFuture<Void> submit(Object[] inputs, Object[] outputs) {
+        checkRequestArrays(batchedInputs, inputs, maxBatchSize);
+        checkRequestArrays(batchedOutputs, outputs, maxBatchSize);
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        synchronized (this) {
+            if (closed) {
+                throw new TornadoRuntimeException("[ERROR] The batching executor is closed");
+            }
+            if (dispatcher == null) {
+                dispatcher = new Thread(this::dispatch, "tornado-batching-executor");
+                dispatcher.setDaemon(true);
+                dispatcher.start();
+            }
+            pendingRequests.add(new Request(inputs, outputs, future));
+        }
+        return future;
+    }
+
+    private void dispatch() {
+        List<Request> batch = new ArrayList<>(maxBatchSize);
+        boolean interrupted = false;
+        while (!interrupted && (!closed || !pendingRequests.isEmpty())) {
+            try {
+                Request first = pendingRequests.poll(10, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + maxDelayNanos;
+                while (batch.size() < maxBatchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    Request next = remaining > 0 ? pendingRequests.poll(remaining, TimeUnit.NANOSECONDS) : pendingRequests.poll();
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+            if (!batch.isEmpty()) {
+                executeBatch(batch);
+                batch.clear();
+            }
+        }
+        synchronized (this) {
+            closed = true;
+        }
+        Request request;
+        while ((request = pendingRequests.poll()) != null) {
+            request.future().completeExceptionally(new TornadoRuntimeException("[ERROR] The batching executor was interrupted"));
+        }
+    }
+
+    private void executeBatch(List<Request> batch) {
+        try {
+            for (int slot = 0; slot < batch.size(); slot++) {
+                copySlot(batch.get(slot).inputs(), batchedInputs, slot, true);
+            }
+            if (workerGrid != null) {
+                long[] globalWork = workerGrid.getGlobalWork();
+                workerGrid.setGlobalWork(threadsPerRequest * batch.size(), globalWork[1], globalWork[2]);
+            }
+            executionPlan.execute();
+            for (int slot = 0; slot < batch.size(); slot++) {
+                copySlot(batch.get(slot).outputs(), batchedOutputs, slot, false);
+            }
+            numBatches.incrementAndGet();
+            numRequests.addAndGet(batch.size());
+        } catch (Throwable e) {
+            batch.forEach(request -> request.future().completeExceptionally(e));
+            return;
+        }
+        batch.forEach(request -> request.future().complete(null));
+    }
+
+    private void copySlot(Object[] arrays, TornadoNativeArray[] batched, int slot, boolean toBatch) {
+        for (int i = 0; i < arrays.length; i++) {
+            MemorySegment segment = ((TornadoNativeArray) arrays[i]).getSegment();
+            long bytesPerRequest = (long) (batched[i].getSize() / maxBatchSize) * batched[i].getElementSize();
+            long offset = slot * bytesPerRequest;
+            if (toBatch) {
+                MemorySegment.copy(segment, 0, batched[i].getSegment(), offset, bytesPerRequest);
+            } else {
+                MemorySegment.copy(batched[i].getSegment(), offset, segment, 0, bytesPerRequest);
+            }
+        }
+    }
+
+    /**
+     * @return Number of executions of the plan.
+     */
+    public long getNumBatches() {
+        return numBatches.get();
+    }
+
+    /**
+     * @return Number of requests processed by all executions of the plan.
+     */
+    public long getNumRequests() {
+        return numRequests.get();
+    }
+
+    /**
+     * @return Average number of requests per execution of the plan, or 0 if the
+     *     plan has not been executed.
+     */
+    public double getAverageBatchSize() {
+        long batches = numBatches.get();
+        return batches == 0 ? 0 : (double) numRequests.get() / batches;
+    }
+
+    /**
+     * Executes the pending requests and stops the dispatcher thread. Requests
+     * submitted after this call are rejected.
+     */
+    @Override
+    public void close() {
+        Thread thread;
+        synchronized (this) {
+            closed = true;
+            thread = dispatcher;
+        }
+        if (thread != null) {
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.api;
+
+import java.util.Arrays;
+
+import uk.ac.manchester.tornado.api.exceptions.TornadoRuntimeException;
+
+/**
+ * Selects how the iteration space of a task-graph is partitioned across the
+ * devices of
+ * {@link TornadoExecutionPlan#withCoExecution(uk.ac.manchester.tornado.api.common.TornadoDevice[], CoExecutionPartitioner, BatchDescriptor...)}.
+ *
+ * <p>
+ * Each device receives a contiguous range of iterations with a size
+ * proportional to its ratio. With an adaptive partitioner, the ratios are
+ * updated after each execution from the throughput measured on each device
+ * (iterations per second), so faster devices receive more iterations in the
+ * next execution.
+ * </p>
+ *
+ * <code>
+ * executionPlan.withCoExecution(new TornadoDevice[] { gpu, cpu }, CoExecutionPartitioner.ratios(0.8, 0.2)).execute();
+ * </code>
+ */
+public final class CoExecutionPartitioner {
+
+    private final double[] ratios;
+    private final boolean adaptive;
+
+    private CoExecutionPartitioner(double[] ratios, boolean adaptive) {
+        this.ratios = ratios;
+        this.adaptive = adaptive;
+    }
+
+    private static double[] checkRatios(double... ratios) {
+        if (ratios.length == 0) {
+            throw new TornadoRuntimeException("[ERROR] At least one ratio must be specified");
+        }
+        for (double ratio : ratios) {
+            if (!(ratio > 0) || Double.isInfinite(ratio)) {
+                throw new TornadoRuntimeException("[ERROR] The co-execution ratios must be greater than 0: " + Arrays.toString(ratios));
+            }
+        }
+        return ratios.clone();
+    }
+
+    /**
+     * Assigns the same number of iterations to each device.
+     *
+     * @return {@link CoExecutionPartitioner}
+     */
+    public static CoExecutionPartitioner even() {
+        return new CoExecutionPartitioner(null, false);
+    }
+
+    /**
+     * Assigns to each device a number of iterations proportional to its ratio.
+     * The ratios do not need to add up to one.
+     *
+     * @param ratios
+     *     One ratio per device, in the same order as the devices.
+     * @return {@link CoExecutionPartitioner}
+     */
+    public static CoExecutionPartitioner ratios(double... ratios) {
+        return new CoExecutionPartitioner(checkRatios(ratios), false);
+    }
+
+    /**
+     * Starts with the same number of iterations per device, and rebalances the
+     * iterations after each execution from the throughput measured on each
+     * device.
+     *
+     * @return {@link CoExecutionPartitioner}
+     */
+    public static CoExecutionPartitioner adaptive() {
+        return new CoExecutionPartitioner(null, true);
+    }
+
+    /**
+     * Starts with the given ratios, and rebalances the iterations after each
+     * execution from the throughput measured on each device.
+     *
+     * @param initialRatios
+     *     One ratio per device, in the same order as the devices.
+     * @return {@link CoExecutionPartitioner}
+     */
+    public static CoExecutionPartitioner adaptive(double... initialRatios) {
+        return new CoExecutionPartitioner(checkRatios(initialRatios), true);
+    }
+
+    public boolean isAdaptive() {
+        return adaptive;
+    }
+
+    /**
+     * Returns the initial ratios normalised to add up to one.
+     *
+     * @param numDevices
+     *     Number of devices of the co-execution.
+     * @return double[] with one ratio per device.
+     */
+    public double[] getRatios(int numDevices) {
+        double[] normalised = new double[numDevices];
+        if (ratios == null) {
+            Arrays.fill(normalised, 1.0 / numDevices);
+            return normalised;
+        }
+        if (ratios.length != numDevices) {
+            throw new TornadoRuntimeException("[ERROR] " + ratios.length + " co-execution ratios specified for " + numDevices + " devices");
+        }
+        double sum = 0;
+        for (double ratio : ratios) {
+            sum += ratio;
+        }
+        for (int i = 0; i < numDevices; i++) {
+            normalised[i] = ratios[i] / sum;
+        }
+        return normalised;
+    }
+
+    @Override
+    public String toString() {
+        String partition = (ratios == null) ? "even" : Arrays.toString(ratios);
+        return adaptive ? "adaptive(" + partition + ")" : partition;
+    }
+}
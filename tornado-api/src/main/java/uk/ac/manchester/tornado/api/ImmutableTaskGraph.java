@@ -20,9 +20,13 @@ package uk.ac.manchester.tornado.api;
 import java.util.Collection;
 
 import uk.ac.manchester.tornado.api.common.TornadoDevice;
+import uk.ac.manchester.tornado.api.enums.MixedPrecisionFormat;
 import uk.ac.manchester.tornado.api.enums.ProfilerMode;
 import uk.ac.manchester.tornado.api.enums.TornadoVMBackendType;
+import uk.ac.manchester.tornado.api.math.MathPolicy;
 import uk.ac.manchester.tornado.api.runtime.ExecutorFrame;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.api.types.utils.FloatingPointError;
 
 /**
  * A {@link TaskGraph} is encapsulated in this class and all actions over a task
@@ -74,6 +78,34 @@ public class ImmutableTaskGraph {
         taskGraph.withoutStagedTransfers();
     }
 
+    void withRecordedReplay() {
+        taskGraph.withRecordedReplay();
+    }
+
+    void withoutRecordedReplay() {
+        taskGraph.withoutRecordedReplay();
+    }
+
+    void withMixedPrecision(MixedPrecisionFormat format, Object... arrays) {
+        taskGraph.withMixedPrecision(format, arrays);
+    }
+
+    FloatingPointError getMixedPrecisionError(FloatArray array) {
+        return taskGraph.getMixedPrecisionError(array);
+    }
+
+    void withMathPolicy(MathPolicy policy) {
+        taskGraph.withMathPolicy(policy);
+    }
+
+    boolean withMathPolicy(String taskName, MathPolicy policy) {
+        return taskGraph.withMathPolicy(taskName, policy);
+    }
+
+    FloatingPointError getMathPolicyError(FloatArray array) {
+        return taskGraph.getMathPolicyError(array);
+    }
+
     void withDevice(TornadoDevice device) {
         taskGraph.withDevice(device);
     }
@@ -170,8 +202,20 @@ public class ImmutableTaskGraph {
         taskGraph.useDefaultThreadScheduler(useDefaultScheduler);
     }
 
-    void withBatch(String batchSize) {
-        taskGraph.batch(batchSize);
+    void withBatch(String batchSize, BatchDescriptor... descriptors) {
+        taskGraph.batch(batchSize, descriptors);
+    }
+
+    void withAutoBatch(BatchDescriptor... descriptors) {
+        taskGraph.autoBatch(descriptors);
+    }
+
+    void withCoExecution(TornadoDevice[] devices, CoExecutionPartitioner partitioner, BatchDescriptor... descriptors) {
+        taskGraph.withCoExecution(devices, partitioner, descriptors);
+    }
+
+    void withoutCoExecution() {
+        taskGraph.withoutCoExecution();
     }
 
     void withMemoryLimit(String memoryLimit) {
@@ -238,6 +282,46 @@ public class ImmutableTaskGraph {
         return taskGraph.getCurrentDeviceMemoryUsage();
     }
 
+    long getBatchSize() {
+        return taskGraph.getBatchSize();
+    }
+
+    int getNumberOfBatchChunks() {
+        return taskGraph.getNumberOfBatchChunks();
+    }
+
+    long getTotalBytesCopyDevice() {
+        return taskGraph.getTotalBytesCopyDevice();
+    }
+
+    long getDeviceEvictions() {
+        return taskGraph.getDeviceEvictions();
+    }
+
+    long getTotalBytesCompressedRaw() {
+        return taskGraph.getTotalBytesCompressedRaw();
+    }
+
+    long getTotalBytesCompressedEncoded() {
+        return taskGraph.getTotalBytesCompressedEncoded();
+    }
+
+    long getSchedulerWaitTime() {
+        return taskGraph.getSchedulerWaitTime();
+    }
+
+    long getSchedulerQueueDepth() {
+        return taskGraph.getSchedulerQueueDepth();
+    }
+
+    long getTotalBytesPagedOut() {
+        return taskGraph.getTotalBytesPagedOut();
+    }
+
+    long getTotalBytesPagedIn() {
+        return taskGraph.getTotalBytesPagedIn();
+    }
+
     void mapOnDeviceMemoryRegion(Object destArray, Object srcArray, long offset, ImmutableTaskGraph taskGraphSrc) {
         taskGraph.mapOnDeviceMemoryRegion(destArray, srcArray, offset, taskGraphSrc.taskGraph.taskGraphImpl);
     }
@@ -249,4 +333,8 @@ public class ImmutableTaskGraph {
     boolean isGridRegistered() {
         return taskGraph.isGridRegistered();
     }
+
+    boolean isObjectUsed(Object object) {
+        return taskGraph.isObjectUsed(object);
+    }
 }
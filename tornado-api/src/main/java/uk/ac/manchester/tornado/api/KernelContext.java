@@ -266,6 +266,470 @@ public class KernelContext implements ExecutionContext {
         return val;
     }
 
+    // Subgroup (warp, SIMD-group) collectives. The shuffles and the subgroup
+    // size are replaced by the backends with hardware instructions. The rest of
+    // the operations are written over them and inlined into the kernel. Backends
+    // without subgroup instructions, as well as the JVM, use subgroups of one
+    // lane, so code written against getSubgroupSize() stays correct.
+
+    /**
+     * Returns the number of lanes of a subgroup.
+     * <p>
+     * OpenCL equivalent: {@code get_sub_group_size()}<br>
+     * PTX/CUDA equivalent: warp size (32)<br>
+     * Metal equivalent: SIMD-group size (32)
+     */
+    public int getSubgroupSize() {
+        return 1;
+    }
+
+    /**
+     * Returns the lane of the thread within its subgroup. Lanes are assigned
+     * consecutively to the threads of the work-group, in the order of the local
+     * identifiers (x first).
+     * <p>
+     * OpenCL equivalent: {@code get_sub_group_local_id()}
+     */
+    public int getSubgroupLocalId() {
+        int linearId = localIdx + localGroupSizeX * (localIdy + localGroupSizeY * localIdz);
+        return linearId % getSubgroupSize();
+    }
+
+    /**
+     * Returns the value held by lane {@code srcLane} of the subgroup.
+     * <p>
+     * OpenCL equivalent: {@code sub_group_shuffle(val, srcLane)}<br>
+     * CUDA equivalent: {@code __shfl_sync}<br>
+     * PTX equivalent: {@code shfl.sync.idx.b32}<br>
+     * Metal equivalent: {@code simd_shuffle(val, srcLane)}
+     */
+    public int subgroupShuffle(int val, int srcLane) {
+        return val;
+    }
+
+    /**
+     * Returns the value held by lane {@code srcLane} of the subgroup.
+     * <p>
+     * OpenCL equivalent: {@code sub_group_shuffle(val, srcLane)}<br>
+     * CUDA equivalent: {@code __shfl_sync}<br>
+     * PTX equivalent: {@code shfl.sync.idx.b32}<br>
+     * Metal equivalent: {@code simd_shuffle(val, srcLane)}
+     */
+    public float subgroupShuffle(float val, int srcLane) {
+        return val;
+    }
+
+    /**
+     * Long version of {@link #subgroupShuffle(int, int)}, done as two 32-bit
+     * shuffles.
+     */
+    public long subgroupShuffle(long val, int srcLane) {
+        int low = subgroupShuffle((int) val, srcLane);
+        int high = subgroupShuffle((int) (val >>> 32), srcLane);
+        return ((long) high << 32) | (low & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Half-float version of {@link #subgroupShuffle(float, int)}.
+     */
+    public HalfFloat subgroupShuffle(HalfFloat val, int srcLane) {
+        return new HalfFloat(subgroupShuffle(val.getFloat32(), srcLane));
+    }
+
+    /**
+     * Returns the value held by the lane {@code delta} positions ahead in the
+     * subgroup. Lanes without a source lane receive an undefined value.
+     * <p>
+     * OpenCL equivalent: {@code sub_group_shuffle_down(val, delta)}<br>
+     * CUDA equivalent: {@code __shfl_down_sync}<br>
+     * PTX equivalent: {@code shfl.sync.down.b32}<br>
+     * Metal equivalent: {@code simd_shuffle_down(val, delta)}
+     */
+    public int subgroupShuffleDown(int val, int delta) {
+        return val;
+    }
+
+    /**
+     * Returns the value held by the lane {@code delta} positions ahead in the
+     * subgroup. Lanes without a source lane receive an undefined value.
+     * <p>
+     * OpenCL equivalent: {@code sub_group_shuffle_down(val, delta)}<br>
+     * CUDA equivalent: {@code __shfl_down_sync}<br>
+     * PTX equivalent: {@code shfl.sync.down.b32}<br>
+     * Metal equivalent: {@code simd_shuffle_down(val, delta)}
+     */
+    public float subgroupShuffleDown(float val, int delta) {
+        return val;
+    }
+
+    /**
+     * Long version of {@link #subgroupShuffleDown(int, int)}, done as two 32-bit
+     * shuffles.
+     */
+    public long subgroupShuffleDown(long val, int delta) {
+        int low = subgroupShuffleDown((int) val, delta);
+        int high = subgroupShuffleDown((int) (val >>> 32), delta);
+        return ((long) high << 32) | (low & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Half-float version of {@link #subgroupShuffleDown(float, int)}.
+     */
+    public HalfFloat subgroupShuffleDown(HalfFloat val, int delta) {
+        return new HalfFloat(subgroupShuffleDown(val.getFloat32(), delta));
+    }
+
+    /**
+     * Returns the value held by the lane {@code delta} positions behind in the
+     * subgroup. Lanes without a source lane receive an undefined value.
+     * <p>
+     * OpenCL equivalent: {@code sub_group_shuffle_up(val, delta)}<br>
+     * CUDA equivalent: {@code __shfl_up_sync}<br>
+     * PTX equivalent: {@code shfl.sync.up.b32}<br>
+     * Metal equivalent: {@code simd_shuffle_up(val, delta)}
+     */
+    public int subgroupShuffleUp(int val, int delta) {
+        return val;
+    }
+
+    /**
+     * Returns the value held by the lane {@code delta} positions behind in the
+     * subgroup. Lanes without a source lane receive an undefined value.
+     * <p>
+     * OpenCL equivalent: {@code sub_group_shuffle_up(val, delta)}<br>
+     * CUDA equivalent: {@code __shfl_up_sync}<br>
+     * PTX equivalent: {@code shfl.sync.up.b32}<br>
+     * Metal equivalent: {@code simd_shuffle_up(val, delta)}
+     */
+    public float subgroupShuffleUp(float val, int delta) {
+        return val;
+    }
+
+    /**
+     * Long version of {@link #subgroupShuffleUp(int, int)}, done as two 32-bit
+     * shuffles.
+     */
+    public long subgroupShuffleUp(long val, int delta) {
+        int low = subgroupShuffleUp((int) val, delta);
+        int high = subgroupShuffleUp((int) (val >>> 32), delta);
+        return ((long) high << 32) | (low & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Half-float version of {@link #subgroupShuffleUp(float, int)}.
+     */
+    public HalfFloat subgroupShuffleUp(HalfFloat val, int delta) {
+        return new HalfFloat(subgroupShuffleUp(val.getFloat32(), delta));
+    }
+
+    /**
+     * Returns the value held by the lane
+     * {@code getSubgroupLocalId() ^ laneMask} (butterfly exchange).
+     * <p>
+     * OpenCL equivalent: {@code sub_group_shuffle_xor(val, laneMask)}<br>
+     * CUDA equivalent: {@code __shfl_xor_sync}<br>
+     * PTX equivalent: {@code shfl.sync.bfly.b32}<br>
+     * Metal equivalent: {@code simd_shuffle_xor(val, laneMask)}
+     */
+    public int subgroupShuffleXor(int val, int laneMask) {
+        return val;
+    }
+
+    /**
+     * Returns the value held by the lane
+     * {@code getSubgroupLocalId() ^ laneMask} (butterfly exchange).
+     * <p>
+     * OpenCL equivalent: {@code sub_group_shuffle_xor(val, laneMask)}<br>
+     * CUDA equivalent: {@code __shfl_xor_sync}<br>
+     * PTX equivalent: {@code shfl.sync.bfly.b32}<br>
+     * Metal equivalent: {@code simd_shuffle_xor(val, laneMask)}
+     */
+    public float subgroupShuffleXor(float val, int laneMask) {
+        return val;
+    }
+
+    /**
+     * Long version of {@link #subgroupShuffleXor(int, int)}, done as two 32-bit
+     * shuffles.
+     */
+    public long subgroupShuffleXor(long val, int laneMask) {
+        int low = subgroupShuffleXor((int) val, laneMask);
+        int high = subgroupShuffleXor((int) (val >>> 32), laneMask);
+        return ((long) high << 32) | (low & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Half-float version of {@link #subgroupShuffleXor(float, int)}.
+     */
+    public HalfFloat subgroupShuffleXor(HalfFloat val, int laneMask) {
+        return new HalfFloat(subgroupShuffleXor(val.getFloat32(), laneMask));
+    }
+
+    /**
+     * Returns the sum of {@code val} across the lanes of the subgroup. All
+     * lanes receive the result. The subgroup size must be a power of two.
+     */
+    public int subgroupReduceAdd(int val) {
+        int acc = val;
+        for (int laneMask = getSubgroupSize() / 2; laneMask > 0; laneMask /= 2) {
+            int other = subgroupShuffleXor(acc, laneMask);
+            acc = acc + other;
+        }
+        return acc;
+    }
+
+    /**
+     * Long version of {@link #subgroupReduceAdd(int)}.
+     */
+    public long subgroupReduceAdd(long val) {
+        long acc = val;
+        for (int laneMask = getSubgroupSize() / 2; laneMask > 0; laneMask /= 2) {
+            long other = subgroupShuffleXor(acc, laneMask);
+            acc = acc + other;
+        }
+        return acc;
+    }
+
+    /**
+     * Float version of {@link #subgroupReduceAdd(int)}.
+     */
+    public float subgroupReduceAdd(float val) {
+        float acc = val;
+        for (int laneMask = getSubgroupSize() / 2; laneMask > 0; laneMask /= 2) {
+            float other = subgroupShuffleXor(acc, laneMask);
+            acc = acc + other;
+        }
+        return acc;
+    }
+
+    /**
+     * Half-float version of {@link #subgroupReduceAdd(int)}. The values are
+     * combined in single precision.
+     */
+    public HalfFloat subgroupReduceAdd(HalfFloat val) {
+        return new HalfFloat(subgroupReduceAdd(val.getFloat32()));
+    }
+
+    /**
+     * Returns the maximum of {@code val} across the lanes of the subgroup. All
+     * lanes receive the result. The subgroup size must be a power of two.
+     */
+    public int subgroupReduceMax(int val) {
+        int acc = val;
+        for (int laneMask = getSubgroupSize() / 2; laneMask > 0; laneMask /= 2) {
+            int other = subgroupShuffleXor(acc, laneMask);
+            acc = Math.max(acc, other);
+        }
+        return acc;
+    }
+
+    /**
+     * Long version of {@link #subgroupReduceMax(int)}.
+     */
+    public long subgroupReduceMax(long val) {
+        long acc = val;
+        for (int laneMask = getSubgroupSize() / 2; laneMask > 0; laneMask /= 2) {
+            long other = subgroupShuffleXor(acc, laneMask);
+            acc = Math.max(acc, other);
+        }
+        return acc;
+    }
+
+    /**
+     * Float version of {@link #subgroupReduceMax(int)}.
+     */
+    public float subgroupReduceMax(float val) {
+        float acc = val;
+        for (int laneMask = getSubgroupSize() / 2; laneMask > 0; laneMask /= 2) {
+            float other = subgroupShuffleXor(acc, laneMask);
+            acc = Math.max(acc, other);
+        }
+        return acc;
+    }
+
+    /**
+     * Half-float version of {@link #subgroupReduceMax(int)}. The values are
+     * combined in single precision.
+     */
+    public HalfFloat subgroupReduceMax(HalfFloat val) {
+        return new HalfFloat(subgroupReduceMax(val.getFloat32()));
+    }
+
+    /**
+     * Returns the minimum of {@code val} across the lanes of the subgroup. All
+     * lanes receive the result. The subgroup size must be a power of two.
+     */
+    public int subgroupReduceMin(int val) {
+        int acc = val;
+        for (int laneMask = getSubgroupSize() / 2; laneMask > 0; laneMask /= 2) {
+            int other = subgroupShuffleXor(acc, laneMask);
+            acc = Math.min(acc, other);
+        }
+        return acc;
+    }
+
+    /**
+     * Long version of {@link #subgroupReduceMin(int)}.
+     */
+    public long subgroupReduceMin(long val) {
+        long acc = val;
+        for (int laneMask = getSubgroupSize() / 2; laneMask > 0; laneMask /= 2) {
+            long other = subgroupShuffleXor(acc, laneMask);
+            acc = Math.min(acc, other);
+        }
+        return acc;
+    }
+
+    /**
+     * Float version of {@link #subgroupReduceMin(int)}.
+     */
+    public float subgroupReduceMin(float val) {
+        float acc = val;
+        for (int laneMask = getSubgroupSize() / 2; laneMask > 0; laneMask /= 2) {
+            float other = subgroupShuffleXor(acc, laneMask);
+            acc = Math.min(acc, other);
+        }
+        return acc;
+    }
+
+    /**
+     * Half-float version of {@link #subgroupReduceMin(int)}. The values are
+     * combined in single precision.
+     */
+    public HalfFloat subgroupReduceMin(HalfFloat val) {
+        return new HalfFloat(subgroupReduceMin(val.getFloat32()));
+    }
+
+    /**
+     * Inclusive prefix sum of {@code val} across the lanes of the subgroup: lane
+     * {@code i} receives the sum of the values of lanes {@code 0..i}.
+     */
+    public int subgroupInclusiveScanAdd(int val) {
+        int lane = getSubgroupLocalId();
+        int acc = val;
+        for (int offset = 1; offset < getSubgroupSize(); offset *= 2) {
+            int other = subgroupShuffleUp(acc, offset);
+            if (lane >= offset) {
+                acc += other;
+            }
+        }
+        return acc;
+    }
+
+    /**
+     * Exclusive prefix sum of {@code val} across the lanes of the subgroup: lane
+     * {@code i} receives the sum of the values of lanes {@code 0..i-1}, and lane
+     * 0 receives 0.
+     */
+    public int subgroupExclusiveScanAdd(int val) {
+        int inclusive = subgroupInclusiveScanAdd(val);
+        int previous = subgroupShuffleUp(inclusive, 1);
+        if (getSubgroupLocalId() == 0) {
+            return 0;
+        }
+        return previous;
+    }
+
+    /**
+     * Long version of {@link #subgroupInclusiveScanAdd(int)}.
+     */
+    public long subgroupInclusiveScanAdd(long val) {
+        int lane = getSubgroupLocalId();
+        long acc = val;
+        for (int offset = 1; offset < getSubgroupSize(); offset *= 2) {
+            long other = subgroupShuffleUp(acc, offset);
+            if (lane >= offset) {
+                acc += other;
+            }
+        }
+        return acc;
+    }
+
+    /**
+     * Long version of {@link #subgroupExclusiveScanAdd(int)}.
+     */
+    public long subgroupExclusiveScanAdd(long val) {
+        long inclusive = subgroupInclusiveScanAdd(val);
+        long previous = subgroupShuffleUp(inclusive, 1);
+        if (getSubgroupLocalId() == 0) {
+            return 0L;
+        }
+        return previous;
+    }
+
+    /**
+     * Float version of {@link #subgroupInclusiveScanAdd(int)}.
+     */
+    public float subgroupInclusiveScanAdd(float val) {
+        int lane = getSubgroupLocalId();
+        float acc = val;
+        for (int offset = 1; offset < getSubgroupSize(); offset *= 2) {
+            float other = subgroupShuffleUp(acc, offset);
+            if (lane >= offset) {
+                acc += other;
+            }
+        }
+        return acc;
+    }
+
+    /**
+     * Float version of {@link #subgroupExclusiveScanAdd(int)}.
+     */
+    public float subgroupExclusiveScanAdd(float val) {
+        float inclusive = subgroupInclusiveScanAdd(val);
+        float previous = subgroupShuffleUp(inclusive, 1);
+        if (getSubgroupLocalId() == 0) {
+            return 0.0f;
+        }
+        return previous;
+    }
+
+    /**
+     * Half-float version of {@link #subgroupInclusiveScanAdd(int)}. The values
+     * are accumulated in single precision.
+     */
+    public HalfFloat subgroupInclusiveScanAdd(HalfFloat val) {
+        return new HalfFloat(subgroupInclusiveScanAdd(val.getFloat32()));
+    }
+
+    /**
+     * Half-float version of {@link #subgroupExclusiveScanAdd(int)}. The values
+     * are accumulated in single precision.
+     */
+    public HalfFloat subgroupExclusiveScanAdd(HalfFloat val) {
+        return new HalfFloat(subgroupExclusiveScanAdd(val.getFloat32()));
+    }
+
+    /**
+     * Returns a mask with bit {@code i} set if the predicate is true in lane
+     * {@code i}. Only the first 32 lanes are represented in the mask.
+     */
+    public int subgroupBallot(boolean predicate) {
+        int bits = 0;
+        int lane = getSubgroupLocalId();
+        if (predicate && lane < 32) {
+            bits = 1 << lane;
+        }
+        for (int laneMask = getSubgroupSize() / 2; laneMask > 0; laneMask /= 2) {
+            bits |= subgroupShuffleXor(bits, laneMask);
+        }
+        return bits;
+    }
+
+    /**
+     * Returns true if the predicate is true in any lane of the subgroup.
+     */
+    public boolean subgroupAny(boolean predicate) {
+        return subgroupReduceMax(predicate ? 1 : 0) == 1;
+    }
+
+    /**
+     * Returns true if the predicate is true in all lanes of the subgroup.
+     */
+    public boolean subgroupAll(boolean predicate) {
+        return subgroupReduceMin(predicate ? 1 : 0) == 1;
+    }
+
     /**
      * Cooperative 8x8 single-precision matrix multiply for one SIMD group, using
      * Apple's {@code simdgroup_float8x8} hardware matrix units (MMA).
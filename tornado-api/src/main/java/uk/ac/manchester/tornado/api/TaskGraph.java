@@ -66,11 +66,16 @@ import uk.ac.manchester.tornado.api.common.TornadoFunctions.Task7;
 import uk.ac.manchester.tornado.api.common.TornadoFunctions.Task8;
 import uk.ac.manchester.tornado.api.common.TornadoFunctions.Task9;
 import uk.ac.manchester.tornado.api.enums.DataTransferMode;
+import uk.ac.manchester.tornado.api.enums.MixedPrecisionFormat;
 import uk.ac.manchester.tornado.api.enums.ProfilerMode;
 import uk.ac.manchester.tornado.api.enums.TornadoVMBackendType;
+import uk.ac.manchester.tornado.api.enums.TransferCodec;
 import uk.ac.manchester.tornado.api.exceptions.TornadoTaskRuntimeException;
+import uk.ac.manchester.tornado.api.math.MathPolicy;
 import uk.ac.manchester.tornado.api.runtime.ExecutorFrame;
 import uk.ac.manchester.tornado.api.runtime.TornadoAPIProvider;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.api.types.utils.FloatingPointError;
 
 /**
  * Tornado Task Graph API.
@@ -929,6 +934,38 @@ public class TaskGraph implements TaskGraphInterface {
         return this;
     }
 
+    /**
+     * Tag a set of arrays to be compressed on the host and transferred to the
+     * device in every execution of the task-graph. This reduces the time spent in
+     * host-to-device copies for sparse or low-entropy inputs (e.g., masks,
+     * mostly-zero activations or quantised IDs) when the link to the device is
+     * the bottleneck.
+     *
+     * <p>
+     * The arrays are encoded on the host before each execution, using several
+     * threads for large arrays, and only the encoded bytes are copied. The
+     * runtime inserts a task at this point of the task-graph that decodes the
+     * arrays on the device. Therefore, this method must be called before the
+     * tasks that read the arrays. The effective bandwidth of the transfers is
+     * reported by {@link TornadoProfilerResult#getEffectiveCopyInBandwidth()}.
+     * </p>
+     *
+     * @param codec
+     *     Codec from {@link TransferCodec}. {@link TransferCodec#RUN_LENGTH}
+     *     and {@link TransferCodec#BIT_PACKING} accept
+     *     {@link uk.ac.manchester.tornado.api.types.arrays.IntArray} and
+     *     {@link uk.ac.manchester.tornado.api.types.arrays.ByteArray}, and
+     *     {@link TransferCodec#ZERO_SUPPRESSION} accepts {@link FloatArray}.
+     * @param objects
+     *     Arrays to be compressed.
+     * @return {@link TaskGraph}
+     */
+    @Override
+    public TaskGraph transferToDeviceCompressed(TransferCodec codec, Object... objects) {
+        taskGraphImpl.transferToDeviceCompressed(codec, objects);
+        return this;
+    }
+
     /**
      * Tag a set of objects to be used directly from the device. It requires
      * objects to be tagged as persisted objects from a previous taskgraph.
@@ -1036,8 +1073,20 @@ public class TaskGraph implements TaskGraphInterface {
         taskGraphImpl.setDevice(taskName, device);
     }
 
-    void batch(String batchSize) {
-        taskGraphImpl.withBatch(batchSize);
+    void batch(String batchSize, BatchDescriptor... descriptors) {
+        taskGraphImpl.withBatch(batchSize, descriptors);
+    }
+
+    void autoBatch(BatchDescriptor... descriptors) {
+        taskGraphImpl.withAutoBatch(descriptors);
+    }
+
+    void withCoExecution(TornadoDevice[] devices, CoExecutionPartitioner partitioner, BatchDescriptor... descriptors) {
+        taskGraphImpl.withCoExecution(devices, partitioner, descriptors);
+    }
+
+    void withoutCoExecution() {
+        taskGraphImpl.withoutCoExecution();
     }
 
     void withMemoryLimit(String memoryLimit) {
@@ -1072,6 +1121,34 @@ public class TaskGraph implements TaskGraphInterface {
         taskGraphImpl.withoutStagedTransfers();
     }
 
+    void withRecordedReplay() {
+        taskGraphImpl.withRecordedReplay();
+    }
+
+    void withoutRecordedReplay() {
+        taskGraphImpl.withoutRecordedReplay();
+    }
+
+    void withMixedPrecision(MixedPrecisionFormat format, Object... arrays) {
+        taskGraphImpl.withMixedPrecision(format, arrays);
+    }
+
+    FloatingPointError getMixedPrecisionError(FloatArray array) {
+        return taskGraphImpl.getMixedPrecisionError(array);
+    }
+
+    void withMathPolicy(MathPolicy policy) {
+        taskGraphImpl.withMathPolicy(policy);
+    }
+
+    boolean withMathPolicy(String taskName, MathPolicy policy) {
+        return taskGraphImpl.withMathPolicy(taskName, policy);
+    }
+
+    FloatingPointError getMathPolicyError(FloatArray array) {
+        return taskGraphImpl.getMathPolicyError(array);
+    }
+
     void dumpProfiles() {
         taskGraphImpl.dumpProfiles();
     }
@@ -1211,6 +1288,46 @@ public class TaskGraph implements TaskGraphInterface {
         return taskGraphImpl.getCurrentDeviceMemoryUsage();
     }
 
+    long getBatchSize() {
+        return taskGraphImpl.getBatchSize();
+    }
+
+    int getNumberOfBatchChunks() {
+        return taskGraphImpl.getNumberOfBatchChunks();
+    }
+
+    long getTotalBytesCopyDevice() {
+        return taskGraphImpl.getTotalBytesCopyDevice();
+    }
+
+    long getDeviceEvictions() {
+        return taskGraphImpl.getDeviceEvictions();
+    }
+
+    long getTotalBytesCompressedRaw() {
+        return taskGraphImpl.getTotalBytesCompressedRaw();
+    }
+
+    long getTotalBytesCompressedEncoded() {
+        return taskGraphImpl.getTotalBytesCompressedEncoded();
+    }
+
+    long getSchedulerWaitTime() {
+        return taskGraphImpl.getSchedulerWaitTime();
+    }
+
+    long getSchedulerQueueDepth() {
+        return taskGraphImpl.getSchedulerQueueDepth();
+    }
+
+    long getTotalBytesPagedOut() {
+        return taskGraphImpl.getTotalBytesPagedOut();
+    }
+
+    long getTotalBytesPagedIn() {
+        return taskGraphImpl.getTotalBytesPagedIn();
+    }
+
     void mapOnDeviceMemoryRegion(Object destArray, Object srcArray, long offset, TornadoTaskGraphInterface taskGraphSrc) {
         taskGraphImpl.mapOnDeviceMemoryRegion(destArray, srcArray, offset, taskGraphSrc);
     }
@@ -1231,6 +1348,10 @@ public class TaskGraph implements TaskGraphInterface {
         return taskGraphImpl.isGridRegistered();
     }
 
+    boolean isObjectUsed(Object object) {
+        return taskGraphImpl.isObjectUsed(object);
+    }
+
     /**
      * @deprecated Use {@link TornadoExecutionPlan#withIntraPlanConcurrency()} instead.
      */
@@ -56,6 +56,7 @@ import uk.ac.manchester.tornado.api.common.TornadoFunctions.Task6;
 import uk.ac.manchester.tornado.api.common.TornadoFunctions.Task7;
 import uk.ac.manchester.tornado.api.common.TornadoFunctions.Task8;
 import uk.ac.manchester.tornado.api.common.TornadoFunctions.Task9;
+import uk.ac.manchester.tornado.api.enums.TransferCodec;
 
 /**
  * Base interface of the Tornado API.
@@ -632,6 +633,19 @@ public interface TaskGraphInterface {
      */
     TaskGraphInterface transferToDevice(int mode, Object... objects);
 
+    /**
+     * Tag a set of arrays to be compressed on the host and transferred to the
+     * device in every execution of the task-graph. The arrays are decoded on the
+     * device by a task that the runtime inserts at this point of the task-graph.
+     *
+     * @param codec
+     *     Codec from {@link TransferCodec}.
+     * @param objects
+     *     Arrays to be compressed.
+     * @return {@link TaskGraphInterface}
+     */
+    TaskGraphInterface transferToDeviceCompressed(TransferCodec codec, Object... objects);
+
 
     TaskGraph consumeFromDevice(String uniqueTaskGraphName, Object... objects);
 
@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.api;
+
+import java.util.List;
+
+/**
+ * Provides the task-graphs of an application to the ahead-of-time kernel
+ * compiler. Implementations must have a public constructor without arguments.
+ *
+ * <p>
+ * The compiler builds an execution plan for each task-graph and compiles all
+ * its tasks for the target described in the virtual device descriptor. The
+ * kernels are specialised with the arguments of the tasks: the values of scalar
+ * arguments and the sizes of arrays become constants of the generated code.
+ * The runtime only installs a kernel of the bundle for tasks with the same
+ * scalar values and array sizes, so the task-graphs must be built with the
+ * sizes that the application uses.
+ * </p>
+ */
+public interface TaskGraphProvider {
+
+    /**
+     * Returns the task-graphs to compile.
+     *
+     * @return {@link List<ImmutableTaskGraph>}
+     */
+    List<ImmutableTaskGraph> getTaskGraphs();
+}
@@ -23,19 +23,24 @@ import java.util.Objects;
 import java.util.concurrent.atomic.AtomicLong;
 
 import uk.ac.manchester.tornado.api.common.TornadoDevice;
+import uk.ac.manchester.tornado.api.enums.MixedPrecisionFormat;
 import uk.ac.manchester.tornado.api.enums.ProfilerMode;
 import uk.ac.manchester.tornado.api.enums.TornadoVMBackendType;
 import uk.ac.manchester.tornado.api.exceptions.TornadoExecutionPlanException;
 import uk.ac.manchester.tornado.api.exceptions.TornadoRuntimeException;
+import uk.ac.manchester.tornado.api.math.MathPolicy;
+import uk.ac.manchester.tornado.api.plan.types.OffCoExecution;
 import uk.ac.manchester.tornado.api.plan.types.OffConcurrentDevices;
 import uk.ac.manchester.tornado.api.plan.types.OffMemoryLimit;
 import uk.ac.manchester.tornado.api.plan.types.OffPrintKernel;
 import uk.ac.manchester.tornado.api.plan.types.OffProfiler;
 import uk.ac.manchester.tornado.api.plan.types.OffThreadInfo;
 import uk.ac.manchester.tornado.api.plan.types.WithAllGraphs;
+import uk.ac.manchester.tornado.api.plan.types.WithAutoBatch;
 import uk.ac.manchester.tornado.api.plan.types.WithBatch;
 import uk.ac.manchester.tornado.api.plan.types.WithCUDAGraph;
 import uk.ac.manchester.tornado.api.plan.types.WithClearProfiles;
+import uk.ac.manchester.tornado.api.plan.types.WithCoExecution;
 import uk.ac.manchester.tornado.api.plan.types.WithCompilerFlags;
 import uk.ac.manchester.tornado.api.plan.types.WithConcurrentDevices;
 import uk.ac.manchester.tornado.api.plan.types.WithDefaultScheduler;
@@ -45,10 +50,14 @@ import uk.ac.manchester.tornado.api.plan.types.WithGraph;
 import uk.ac.manchester.tornado.api.plan.types.WithGridScheduler;
 import uk.ac.manchester.tornado.api.plan.types.WithIntraPlanConcurrency;
 import uk.ac.manchester.tornado.api.plan.types.WithStagedTransfers;
+import uk.ac.manchester.tornado.api.plan.types.WithMathPolicy;
 import uk.ac.manchester.tornado.api.plan.types.WithMemoryLimit;
+import uk.ac.manchester.tornado.api.plan.types.WithMixedPrecision;
 import uk.ac.manchester.tornado.api.plan.types.WithPreCompilation;
 import uk.ac.manchester.tornado.api.plan.types.WithPrintKernel;
+import uk.ac.manchester.tornado.api.plan.types.WithPriority;
 import uk.ac.manchester.tornado.api.plan.types.WithProfiler;
+import uk.ac.manchester.tornado.api.plan.types.WithRecordedReplay;
 import uk.ac.manchester.tornado.api.plan.types.WithResetDevice;
 import uk.ac.manchester.tornado.api.plan.types.WithThreadInfo;
 import uk.ac.manchester.tornado.api.plan.types.WithWarmUpIterations;
@@ -389,6 +398,107 @@ public sealed class TornadoExecutionPlan implements AutoCloseable permits Execut
         return new WithBatch(this, batchSize);
     }
 
+    /**
+     * Enable batch processing with a rule per argument. Each argument can be split
+     * into chunks with its own ratio of elements per iteration, broadcast (copied
+     * once and kept on the device), or reduced (kept on the device while the
+     * kernels accumulate into it). This allows batching task-graphs whose
+     * arguments have different sizes or element types, such as matrix-vector
+     * multiplications. Arguments without a descriptor are split with a ratio of
+     * one element per iteration.
+     *
+     * <p>
+     * The number of iterations per chunk is computed so that the largest chunk of
+     * a split argument does not exceed the batch size.
+     * </p>
+     *
+     * @param batchSize
+     *     String in the format a number + "MB" Example "512MB".
+     * @param descriptors
+     *     {@link BatchDescriptor} for the arguments of the task-graph.
+     * @return {@link TornadoExecutionPlan}
+     *
+     * @since 5.2.1
+     */
+    public TornadoExecutionPlan withBatch(String batchSize, BatchDescriptor... descriptors) {
+        tornadoExecutor.withBatch(batchSize, descriptors);
+        return new WithBatch(this, batchSize, descriptors);
+    }
+
+    /**
+     * Enable batch processing with a batch size selected by the runtime. Before
+     * each execution, TornadoVM computes the footprint of each task-graph and
+     * compares it against the limit set with {@link #withMemoryLimit(String)} or,
+     * if there is no limit, against the global memory of the device. If the
+     * task-graph does not fit, the iteration space is split into the fewest
+     * chunks whose buffers fit in the memory left by the arrays that are not
+     * split. Otherwise, the task-graph runs without batches.
+     *
+     * <p>
+     * The selected batch size and number of chunks are reported by
+     * {@link TornadoProfilerResult#getBatchSize()} and
+     * {@link TornadoProfilerResult#getNumberOfBatchChunks()}.
+     * </p>
+     *
+     * @param descriptors
+     *     {@link BatchDescriptor} for the arguments of the task-graph. Arguments
+     *     without a descriptor are split with a ratio of one element per
+     *     iteration.
+     * @return {@link TornadoExecutionPlan}
+     *
+     * @since 5.2.1
+     */
+    public TornadoExecutionPlan withAutoBatch(BatchDescriptor... descriptors) {
+        tornadoExecutor.withAutoBatch(descriptors);
+        return new WithAutoBatch(this, descriptors);
+    }
+
+    /**
+     * Run each task-graph on several devices at the same time. The iteration
+     * space of the parallel loops is split into one contiguous partition per
+     * device, following the {@link CoExecutionPartitioner}. Each device receives
+     * only the slice of the split arguments for its partition, and the outputs
+     * are copied back into the corresponding region of the host arrays.
+     * Arguments are split and broadcast following the same rules as
+     * {@link #withBatch(String, BatchDescriptor...)}, and a batch size set with
+     * {@link #withBatch(String, BatchDescriptor...)} is applied within each
+     * partition.
+     *
+     * <p>
+     * Reduce arguments, kernels launched with a {@link GridScheduler} and
+     * outputs copied under demand are not supported, since partial results of
+     * different devices would need to be merged.
+     * </p>
+     *
+     * @param devices
+     *     Devices in which the task-graphs run.
+     * @param partitioner
+     *     {@link CoExecutionPartitioner} to distribute the iterations.
+     * @param descriptors
+     *     {@link BatchDescriptor} for the arguments of the task-graph. Arguments
+     *     without a descriptor are split with a ratio of one element per
+     *     iteration.
+     * @return {@link TornadoExecutionPlan}
+     *
+     * @since 5.2.1
+     */
+    public TornadoExecutionPlan withCoExecution(TornadoDevice[] devices, CoExecutionPartitioner partitioner, BatchDescriptor... descriptors) {
+        tornadoExecutor.withCoExecution(devices, partitioner, descriptors);
+        return new WithCoExecution(this, devices, partitioner);
+    }
+
+    /**
+     * Disables co-execution. The task-graphs run again on a single device.
+     *
+     * @return {@link TornadoExecutionPlan}
+     *
+     * @since 5.2.1
+     */
+    public TornadoExecutionPlan withoutCoExecution() {
+        tornadoExecutor.withoutCoExecution();
+        return new OffCoExecution(this);
+    }
+
     /**
      * Enables the profiler. The profiler includes options to query device kernel
      * time, data transfers and compilation at different stages (JIT, driver
@@ -417,7 +527,8 @@ public sealed class TornadoExecutionPlan implements AutoCloseable permits Execut
      * This method sets a limit to the amount of memory used on the target
      * hardware accelerator. The TornadoVM runtime will check that the
      * current instance of the {@link TornadoExecutionPlan} does not exceed
-     * the limit that was specified.
+     * the limit that was specified. With {@link #withAutoBatch(BatchDescriptor...)},
+     * the limit is used to select the batch size instead.
      *
      * @param memoryLimit
      *     Specify the limit in a string format. E.g., "1GB", "512MB".
@@ -674,11 +785,13 @@ public sealed class TornadoExecutionPlan implements AutoCloseable permits Execut
      * pinned host staging buffers, so filling chunk {@code i+1} overlaps the DMA of chunk
      * {@code i}. Buffers served by the ring also skip the whole-segment host pin, whose
      * synchronous page-in dominates the cost of large (often mmap'd) sources.
-     * Only transfers that are non-batched, read-only and at least
-     * {@code -Dtornado.staged.min.size} bytes (default 16MB) are staged; every other buffer keeps
-     * the default direct path, including host pinning.
-     * Currently realised on the PTX and CUDA backends.
-     * A no-op for OPENCL, METAL and SPIRV backends.
+     * Only transfers that are non-batched and at least {@code -Dtornado.staged.min.size} bytes
+     * (default 16MB) are staged; every other buffer keeps the default direct path, including host
+     * pinning. Large copies to the host are also chunked through the ring when the host segment is
+     * not pinned.
+     * Currently realised on the PTX, CUDA and OPENCL backends. OPENCL stages through page-aligned
+     * off-heap slots, since it cannot pin host memory.
+     * A no-op for METAL and SPIRV backends.
      * Default is off, and can also be enabled process-wide with
      * {@code -Dtornado.staged.transfers=true}.
      *
@@ -698,4 +811,159 @@ public sealed class TornadoExecutionPlan implements AutoCloseable permits Execut
         tornadoExecutor.withoutStagedTransfers();
         return this;
     }
+
+    /**
+     * Enables the recorded replay of this execution plan. The first execution
+     * interprets the TornadoVM bytecodes and records the resolved commands
+     * (allocations, transfers, kernel launches with their stack frames, and the
+     * event dependencies between them). The following executions replay the
+     * recorded commands without decoding the bytecodes or checking the
+     * compilation of each task again. The recording is discarded when the device,
+     * the grid scheduler or the batch configuration of the plan change.
+     * Available for all backends. Plans that use CUDA graphs or batch processing
+     * are always interpreted.
+     * Default is off, and can also be enabled process-wide with
+     * {@code -Dtornado.recorded.replay=true}.
+     *
+     * @return {@link TornadoExecutionPlan}
+     *
+     * @since 5.2.1
+     */
+    public TornadoExecutionPlan withRecordedReplay() {
+        tornadoExecutor.withRecordedReplay();
+        return new WithRecordedReplay(this);
+    }
+
+    /**
+     * Disables the recorded replay for this execution plan. All executions
+     * interpret the TornadoVM bytecodes.
+     *
+     * @return {@link TornadoExecutionPlan}
+     *
+     * @since 5.2.1
+     */
+    public TornadoExecutionPlan withoutRecordedReplay() {
+        tornadoExecutor.withoutRecordedReplay();
+        return this;
+    }
+
+    /**
+     * Stores the given {@link uk.ac.manchester.tornado.api.types.arrays.FloatArray}
+     * objects in the device memory using a 16-bit floating-point format. Kernels
+     * are not modified by the user: the compiler widens each load of these arrays
+     * to float and narrows each store, and the runtime converts the data on the
+     * host before copying it in and after copying it out. This halves the device
+     * memory and the bandwidth used by the arrays at the cost of accuracy.
+     *
+     * <p>
+     * The error introduced when the input data is narrowed can be queried after
+     * the execution with
+     * {@link TornadoExecutionResult#getMixedPrecisionError(uk.ac.manchester.tornado.api.types.arrays.FloatArray)}.
+     * This method must be invoked before the first execution of the plan, and
+     * when the code falls back to Java (bailout), the tasks run in full
+     * precision.
+     * </p>
+     *
+     * @param format
+     *     {@link MixedPrecisionFormat} used to store the arrays on the device.
+     * @param arrays
+     *     Arrays to store in the 16-bit format. They must be of type
+     *     {@link uk.ac.manchester.tornado.api.types.arrays.FloatArray} and be
+     *     passed as arguments of the tasks.
+     * @return {@link TornadoExecutionPlan}
+     */
+    public TornadoExecutionPlan withMixedPrecision(MixedPrecisionFormat format, Object... arrays) {
+        Objects.requireNonNull(format);
+        tornadoExecutor.withMixedPrecision(format, arrays);
+        return new WithMixedPrecision(this, format, arrays.length);
+    }
+
+    /**
+     * Sets the priority of the kernel launches of this execution plan on shared
+     * devices. When the device scheduler is enabled
+     * ({@code -Dtornado.device.scheduler.max.inflight=<N>}, with N greater than 0),
+     * at most N kernels of all execution plans run on a device at the same time,
+     * and the queued launches of plans with higher priorities are admitted first.
+     * This lets latency-sensitive plans overtake bulk plans at kernel-launch
+     * granularity. The default priority is 0.
+     *
+     * @param priority
+     *     Priority of the execution plan. Higher values are admitted first.
+     * @return {@link TornadoExecutionPlan}
+     *
+     * @since 5.2.1
+     */
+    public TornadoExecutionPlan withPriority(int priority) {
+        return withPriority(priority, executionFrame.getSchedulingWeight());
+    }
+
+    /**
+     * Sets the priority and the weight of the kernel launches of this execution
+     * plan on shared devices. Plans with the same priority share the device
+     * scheduler in proportion to their weights: a plan with weight 2 is admitted
+     * twice as often as a plan with weight 1 when both have queued launches. See
+     * {@link #withPriority(int)}.
+     *
+     * @param priority
+     *     Priority of the execution plan. Higher values are admitted first.
+     * @param weight
+     *     Weight of the execution plan (greater than 0). The default weight is 1.
+     * @return {@link TornadoExecutionPlan}
+     *
+     * @since 5.2.1
+     */
+    public TornadoExecutionPlan withPriority(int priority, int weight) {
+        if (weight <= 0) {
+            throw new TornadoRuntimeException("[ERROR] The scheduling weight of an execution plan must be greater than 0. Found: " + weight);
+        }
+        executionFrame.setPriority(priority).setSchedulingWeight(weight);
+        return new WithPriority(this, priority, weight);
+    }
+
+    /**
+     * Selects the precision of the math functions (exp, log, rsqrt and tanh) in
+     * the kernels of all tasks of the execution plan. The policy is applied when
+     * the tasks are compiled, so this method must be invoked before the first
+     * execution of the plan. Policies set for a task with
+     * {@link #withMathPolicy(String, MathPolicy)} take precedence.
+     *
+     * <p>
+     * If the policy enables the error report, the runtime runs the task-graphs on
+     * the JVM after each execution and the error of each output can be queried
+     * with
+     * {@link TornadoExecutionResult#getMathPolicyError(uk.ac.manchester.tornado.api.types.arrays.FloatArray)}.
+     * </p>
+     *
+     * @param policy
+     *     {@link MathPolicy}
+     * @return {@link TornadoExecutionPlan}
+     *
+     * @since 5.2.1
+     */
+    public TornadoExecutionPlan withMathPolicy(MathPolicy policy) {
+        Objects.requireNonNull(policy);
+        tornadoExecutor.withMathPolicy(policy);
+        return new WithMathPolicy(this, "all tasks", policy);
+    }
+
+    /**
+     * Selects the precision of the math functions in the kernel of one task.
+     * This allows, for instance, exact math in one task and fast approximations
+     * in another task of the same task-graph. See
+     * {@link #withMathPolicy(MathPolicy)}.
+     *
+     * @param taskName
+     *     Name of the task in the format {@code <task-graph>.<task>}.
+     * @param policy
+     *     {@link MathPolicy}
+     * @return {@link TornadoExecutionPlan}
+     *
+     * @since 5.2.1
+     */
+    public TornadoExecutionPlan withMathPolicy(String taskName, MathPolicy policy) {
+        Objects.requireNonNull(taskName);
+        Objects.requireNonNull(policy);
+        tornadoExecutor.withMathPolicy(taskName, policy);
+        return new WithMathPolicy(this, taskName, policy);
+    }
 }
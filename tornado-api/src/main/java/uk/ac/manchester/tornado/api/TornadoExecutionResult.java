@@ -17,6 +17,9 @@
  */
 package uk.ac.manchester.tornado.api;
 
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.api.types.utils.FloatingPointError;
+
 /**
  * Object created when the {@link TornadoExecutionPlan#execute()} is finished.
  * This objects stores the results of the execution. Additionally, if the
@@ -96,4 +99,44 @@ public class TornadoExecutionResult {
         return tornadoProfilerResult.getExecutor().isFinished();
     }
 
+    /**
+     * It returns the error introduced by storing an array in a 16-bit format
+     * selected with
+     * {@link TornadoExecutionPlan#withMixedPrecision(uk.ac.manchester.tornado.api.enums.MixedPrecisionFormat, Object...)}.
+     * The error is measured in ULPs of float between the host values and the
+     * values copied to the device in the latest execution. The number of errors
+     * counts the elements that overflowed to infinity or were flushed to zero.
+     *
+     * @param array
+     *     Array selected for mixed precision.
+     * @return {@link FloatingPointError}, or null if the array is not stored in
+     *     mixed precision or has not been copied to the device yet.
+     *
+     * @since 5.2.1
+     */
+    public FloatingPointError getMixedPrecisionError(FloatArray array) {
+        return tornadoProfilerResult.getExecutor().getMixedPrecisionError(array);
+    }
+
+    /**
+     * It returns the error of the device results with respect to the JVM for a
+     * plan with a {@link uk.ac.manchester.tornado.api.math.MathPolicy} that
+     * enables the error report. After each execution, the runtime runs the
+     * task-graph on the JVM with a copy of the inputs, and compares the arrays
+     * in ULPs of float. The number of errors counts the elements for which only
+     * one of the two results is NaN or infinite.
+     *
+     * @param array
+     *     Array passed to a task of the execution plan. It must be copied to the
+     *     host with {@link uk.ac.manchester.tornado.api.enums.DataTransferMode#EVERY_EXECUTION}.
+     * @return {@link FloatingPointError}, or null if the report is not enabled
+     *     or the task-graph cannot run on the JVM (e.g., tasks that use a
+     *     {@link uk.ac.manchester.tornado.api.KernelContext}).
+     *
+     * @since 5.2.1
+     */
+    public FloatingPointError getMathPolicyError(FloatArray array) {
+        return tornadoProfilerResult.getExecutor().getMathPolicyError(array);
+    }
+
 }
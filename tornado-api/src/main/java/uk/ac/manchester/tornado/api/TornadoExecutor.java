@@ -25,9 +25,13 @@ import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import uk.ac.manchester.tornado.api.common.TornadoDevice;
+import uk.ac.manchester.tornado.api.enums.MixedPrecisionFormat;
 import uk.ac.manchester.tornado.api.enums.TornadoVMBackendType;
 import uk.ac.manchester.tornado.api.exceptions.TornadoRuntimeException;
+import uk.ac.manchester.tornado.api.math.MathPolicy;
 import uk.ac.manchester.tornado.api.runtime.ExecutorFrame;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.api.types.utils.FloatingPointError;
 
 /**
  * Executor Class to dispatch Tornado Task-Graphs. An executor plan
@@ -65,6 +69,52 @@ class TornadoExecutor {
         immutableTaskGraphList.forEach(ImmutableTaskGraph::withoutStagedTransfers);
     }
 
+    public void withRecordedReplay() {
+        immutableTaskGraphList.forEach(ImmutableTaskGraph::withRecordedReplay);
+    }
+
+    public void withoutRecordedReplay() {
+        immutableTaskGraphList.forEach(ImmutableTaskGraph::withoutRecordedReplay);
+    }
+
+    void withMixedPrecision(MixedPrecisionFormat format, Object... arrays) {
+        immutableTaskGraphList.forEach(immutableTaskGraph -> immutableTaskGraph.withMixedPrecision(format, arrays));
+    }
+
+    FloatingPointError getMixedPrecisionError(FloatArray array) {
+        for (ImmutableTaskGraph immutableTaskGraph : immutableTaskGraphList) {
+            FloatingPointError error = immutableTaskGraph.getMixedPrecisionError(array);
+            if (error != null) {
+                return error;
+            }
+        }
+        return null;
+    }
+
+    void withMathPolicy(MathPolicy policy) {
+        immutableTaskGraphList.forEach(immutableTaskGraph -> immutableTaskGraph.withMathPolicy(policy));
+    }
+
+    void withMathPolicy(String taskName, MathPolicy policy) {
+        boolean found = false;
+        for (ImmutableTaskGraph immutableTaskGraph : immutableTaskGraphList) {
+            found |= immutableTaskGraph.withMathPolicy(taskName, policy);
+        }
+        if (!found) {
+            throw new TornadoRuntimeException("[ERROR] Task not found in the execution plan: " + taskName + ". The expected format is <task-graph>.<task>");
+        }
+    }
+
+    FloatingPointError getMathPolicyError(FloatArray array) {
+        for (ImmutableTaskGraph immutableTaskGraph : immutableTaskGraphList) {
+            FloatingPointError error = immutableTaskGraph.getMathPolicyError(array);
+            if (error != null) {
+                return error;
+            }
+        }
+        return null;
+    }
+
     void execute(ExecutorFrame executionPackage) {
         immutableTaskGraphList.forEach(immutableTaskGraph -> immutableTaskGraph.execute(executionPackage));
     }
@@ -93,8 +143,39 @@ class TornadoExecutor {
         immutableTaskGraphList.forEach(immutableTaskGraph -> immutableTaskGraph.withPreCompilation(executorFrame));
     }
 
-    void withBatch(String batchSize) {
-        immutableTaskGraphList.forEach(immutableTaskGraph -> immutableTaskGraph.withBatch(batchSize));
+    /**
+     * Each task-graph only applies the batch descriptors of its own arrays, so
+     * the descriptors that no task-graph of the plan uses are rejected here.
+     */
+    private void checkBatchDescriptors(BatchDescriptor... descriptors) {
+        for (BatchDescriptor descriptor : descriptors) {
+            boolean used = false;
+            for (ImmutableTaskGraph immutableTaskGraph : immutableTaskGraphList) {
+                used |= immutableTaskGraph.isObjectUsed(descriptor.getObject());
+            }
+            if (!used) {
+                throw new TornadoRuntimeException("[ERROR] The object of the batch descriptor " + descriptor + " is not used by any task-graph of the execution plan");
+            }
+        }
+    }
+
+    void withBatch(String batchSize, BatchDescriptor... descriptors) {
+        checkBatchDescriptors(descriptors);
+        immutableTaskGraphList.forEach(immutableTaskGraph -> immutableTaskGraph.withBatch(batchSize, descriptors));
+    }
+
+    void withAutoBatch(BatchDescriptor... descriptors) {
+        checkBatchDescriptors(descriptors);
+        immutableTaskGraphList.forEach(immutableTaskGraph -> immutableTaskGraph.withAutoBatch(descriptors));
+    }
+
+    void withCoExecution(TornadoDevice[] devices, CoExecutionPartitioner partitioner, BatchDescriptor... descriptors) {
+        checkBatchDescriptors(descriptors);
+        immutableTaskGraphList.forEach(immutableTaskGraph -> immutableTaskGraph.withCoExecution(devices, partitioner, descriptors));
+    }
+
+    void withoutCoExecution() {
+        immutableTaskGraphList.forEach(ImmutableTaskGraph::withoutCoExecution);
     }
 
     void withMemoryLimit(String memoryLimit) {
@@ -201,6 +282,38 @@ class TornadoExecutor {
         return immutableTaskGraphList.stream().map(ImmutableTaskGraph::getTotalBytesCopyOut).mapToLong(Long::longValue).sum();
     }
 
+    long getTotalBytesCopyDevice() {
+        return immutableTaskGraphList.stream().mapToLong(ImmutableTaskGraph::getTotalBytesCopyDevice).sum();
+    }
+
+    long getDeviceEvictions() {
+        return immutableTaskGraphList.stream().mapToLong(ImmutableTaskGraph::getDeviceEvictions).sum();
+    }
+
+    long getTotalBytesCompressedRaw() {
+        return immutableTaskGraphList.stream().mapToLong(ImmutableTaskGraph::getTotalBytesCompressedRaw).sum();
+    }
+
+    long getTotalBytesCompressedEncoded() {
+        return immutableTaskGraphList.stream().mapToLong(ImmutableTaskGraph::getTotalBytesCompressedEncoded).sum();
+    }
+
+    long getSchedulerWaitTime() {
+        return immutableTaskGraphList.stream().mapToLong(ImmutableTaskGraph::getSchedulerWaitTime).sum();
+    }
+
+    long getSchedulerQueueDepth() {
+        return immutableTaskGraphList.stream().mapToLong(ImmutableTaskGraph::getSchedulerQueueDepth).max().orElse(0);
+    }
+
+    long getTotalBytesPagedOut() {
+        return immutableTaskGraphList.stream().mapToLong(ImmutableTaskGraph::getTotalBytesPagedOut).sum();
+    }
+
+    long getTotalBytesPagedIn() {
+        return immutableTaskGraphList.stream().mapToLong(ImmutableTaskGraph::getTotalBytesPagedIn).sum();
+    }
+
     String getProfileLog() {
         return immutableTaskGraphList.stream().map(ImmutableTaskGraph::getProfileLog).collect(Collectors.joining());
     }
@@ -262,6 +375,14 @@ class TornadoExecutor {
         return immutableTaskGraphList.stream().mapToLong(ImmutableTaskGraph::getCurrentDeviceMemoryUsage).sum();
     }
 
+    long getBatchSize() {
+        return immutableTaskGraphList.stream().mapToLong(ImmutableTaskGraph::getBatchSize).max().orElse(0);
+    }
+
+    int getNumberOfBatchChunks() {
+        return immutableTaskGraphList.stream().mapToInt(ImmutableTaskGraph::getNumberOfBatchChunks).max().orElse(0);
+    }
+
     void selectGraph(int graphIndex) {
         if (subgraphList == null) {
             subgraphList = new ArrayList<>();
@@ -194,6 +194,120 @@ public class TornadoProfilerResult implements ProfilerInterface {
         return executor.getTotalBytesCopyOut();
     }
 
+    /**
+     * Returns the total number of bytes copied between devices for the current
+     * execution of the execution plan. These copies move the objects persisted
+     * by a task-graph to the device of a task-graph that consumes them.
+     *
+     * @return long
+     *     Number of bytes
+     */
+    public long getTotalBytesCopyDevice() {
+        return executor.getTotalBytesCopyDevice();
+    }
+
+    /**
+     * Returns the number of device buffers of other execution plans that were
+     * evicted to make room for the allocations of the current execution.
+     *
+     * @return long
+     *     Number of evicted buffers
+     */
+    public long getDeviceEvictions() {
+        return executor.getDeviceEvictions();
+    }
+
+    /**
+     * Returns the number of bytes of the arrays transferred with
+     * {@link TaskGraph#transferToDeviceCompressed} before they were encoded, for
+     * the current execution of the execution plan.
+     *
+     * @return long
+     *     Number of bytes
+     */
+    public long getTotalBytesCompressedRaw() {
+        return executor.getTotalBytesCompressedRaw();
+    }
+
+    /**
+     * Returns the number of encoded bytes copied to the device for the arrays
+     * transferred with {@link TaskGraph#transferToDeviceCompressed}, for the
+     * current execution of the execution plan. These bytes are included in
+     * {@link #getTotalBytesCopyIn()}.
+     *
+     * @return long
+     *     Number of bytes
+     */
+    public long getTotalBytesCompressedEncoded() {
+        return executor.getTotalBytesCompressedEncoded();
+    }
+
+    /**
+     * Returns the effective bandwidth (in GB/s) of the host-to-device transfers
+     * of the current execution. The compressed arrays count with their size
+     * before encoding, so the value is higher than the bandwidth of the link when
+     * the compression reduces the transferred bytes.
+     *
+     * @return double
+     *     Bandwidth in GB/s, or 0 if there were no transfers.
+     */
+    public double getEffectiveCopyInBandwidth() {
+        long copyInTime = getDeviceWriteTime();
+        if (copyInTime <= 0) {
+            return 0;
+        }
+        long effectiveBytes = getTotalBytesCopyIn() - getTotalBytesCompressedEncoded() + getTotalBytesCompressedRaw();
+        // bytes per nanosecond are GB/s
+        return (double) effectiveBytes / copyInTime;
+    }
+
+    /**
+     * Returns the total time (in ns) that the kernel launches of the current
+     * execution waited to be admitted by the device scheduler. It is 0 when the
+     * scheduler is disabled (see {@link TornadoExecutionPlan#withPriority(int)}).
+     *
+     * @return long
+     *     Time in nanoseconds
+     */
+    public long getSchedulerWaitTime() {
+        return executor.getSchedulerWaitTime();
+    }
+
+    /**
+     * Returns the longest queue of the device scheduler found by the kernel
+     * launches of the current execution, including the launch itself. It is 0
+     * when the scheduler is disabled.
+     *
+     * @return long
+     *     Number of queued launches
+     */
+    public long getSchedulerQueueDepth() {
+        return executor.getSchedulerQueueDepth();
+    }
+
+    /**
+     * Returns the number of bytes written back to the host by the evictions of
+     * the current execution. Evicted buffers that hold the same values as their
+     * host objects are released without a copy.
+     *
+     * @return long
+     *     Number of bytes
+     */
+    public long getTotalBytesPagedOut() {
+        return executor.getTotalBytesPagedOut();
+    }
+
+    /**
+     * Returns the number of bytes copied back to the device, in the current
+     * execution, for objects of the execution plan that had been evicted.
+     *
+     * @return long
+     *     Number of bytes
+     */
+    public long getTotalBytesPagedIn() {
+        return executor.getTotalBytesPagedIn();
+    }
+
     TornadoExecutor getExecutor() {
         return executor;
     }
@@ -228,6 +342,29 @@ public class TornadoProfilerResult implements ProfilerInterface {
         return executor.getTotalDeviceMemoryUsage();
     }
 
+    /**
+     * Returns the batch size, in bytes, used in the latest execution. For
+     * execution plans with {@link TornadoExecutionPlan#withAutoBatch}, this is the
+     * batch size selected by the runtime.
+     *
+     * @return long
+     *     Number of bytes, or 0 if the task-graphs run without batches.
+     */
+    public long getBatchSize() {
+        return executor.getBatchSize();
+    }
+
+    /**
+     * Returns the number of chunks in which the iteration space was split in the
+     * latest execution, including the chunk with the remaining iterations.
+     *
+     * @return int
+     *     Number of chunks, or 0 if the task-graphs run without batches.
+     */
+    public int getNumberOfBatchChunks() {
+        return executor.getNumberOfBatchChunks();
+    }
+
     public String getTraceExecutionPlan() {
         return traceExecutionPlan;
     }
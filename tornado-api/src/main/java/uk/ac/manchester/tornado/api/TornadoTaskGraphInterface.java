@@ -27,11 +27,15 @@ import uk.ac.manchester.tornado.api.common.LibraryTaskDescriptor;
 import uk.ac.manchester.tornado.api.common.SchedulableTask;
 import uk.ac.manchester.tornado.api.common.TaskPackage;
 import uk.ac.manchester.tornado.api.common.TornadoDevice;
+import uk.ac.manchester.tornado.api.enums.MixedPrecisionFormat;
 import uk.ac.manchester.tornado.api.enums.ProfilerMode;
 import uk.ac.manchester.tornado.api.enums.TornadoVMBackendType;
+import uk.ac.manchester.tornado.api.enums.TransferCodec;
+import uk.ac.manchester.tornado.api.math.MathPolicy;
 import uk.ac.manchester.tornado.api.profiler.ProfilerInterface;
 import uk.ac.manchester.tornado.api.runtime.ExecutorFrame;
 import uk.ac.manchester.tornado.api.runtime.TaskContextInterface;
+import uk.ac.manchester.tornado.api.types.utils.FloatingPointError;
 
 public interface TornadoTaskGraphInterface extends ProfilerInterface {
 
@@ -53,7 +57,33 @@ public interface TornadoTaskGraphInterface extends ProfilerInterface {
 
     void scheduleInner();
 
-    void withBatch(String batchSize);
+    void withBatch(String batchSize, BatchDescriptor... descriptors);
+
+    void withAutoBatch(BatchDescriptor... descriptors);
+
+    long getBatchSize();
+
+    int getNumberOfBatchChunks();
+
+    long getTotalBytesCopyDevice();
+
+    long getDeviceEvictions();
+
+    long getTotalBytesCompressedRaw();
+
+    long getTotalBytesCompressedEncoded();
+
+    long getSchedulerWaitTime();
+
+    long getSchedulerQueueDepth();
+
+    long getTotalBytesPagedOut();
+
+    long getTotalBytesPagedIn();
+
+    void withCoExecution(TornadoDevice[] devices, CoExecutionPartitioner partitioner, BatchDescriptor... descriptors);
+
+    void withoutCoExecution();
 
     void withCUDAGraph();
 
@@ -77,6 +107,8 @@ public interface TornadoTaskGraphInterface extends ProfilerInterface {
 
     void transferToDevice(int mode, Object... objects);
 
+    void transferToDeviceCompressed(TransferCodec codec, Object... objects);
+
     void transferToHost(int mode, Object... objects);
 
     void consumeFromDevice(String uniqueTaskGraphName, Object... objects);
@@ -149,6 +181,8 @@ public interface TornadoTaskGraphInterface extends ProfilerInterface {
 
     boolean isGridRegistered();
 
+    boolean isObjectUsed(Object object);
+
     void withIntraPlanConcurrency();
 
     void withoutIntraPlanConcurrency();
@@ -156,4 +190,18 @@ public interface TornadoTaskGraphInterface extends ProfilerInterface {
     void withStagedTransfers();
 
     void withoutStagedTransfers();
+
+    void withRecordedReplay();
+
+    void withoutRecordedReplay();
+
+    void withMixedPrecision(MixedPrecisionFormat format, Object... arrays);
+
+    FloatingPointError getMixedPrecisionError(Object array);
+
+    void withMathPolicy(MathPolicy policy);
+
+    boolean withMathPolicy(String taskName, MathPolicy policy);
+
+    FloatingPointError getMathPolicyError(Object array);
 }
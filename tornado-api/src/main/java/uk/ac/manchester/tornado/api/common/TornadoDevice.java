@@ -192,6 +192,23 @@ public interface TornadoDevice {
         return Runtime.getRuntime().availableProcessors();
     }
 
+    /**
+     * Returns the number of kernel launches of all execution plans that wait to
+     * be admitted on this device by the device scheduler. It is 0 when the
+     * scheduler is disabled.
+     */
+    default int getLaunchQueueDepth() {
+        return 0;
+    }
+
+    /**
+     * Returns the number of kernel launches admitted on this device by the
+     * device scheduler that did not complete yet.
+     */
+    default int getLaunchesInFlight() {
+        return 0;
+    }
+
     Object getAtomic();
 
     @Deprecated
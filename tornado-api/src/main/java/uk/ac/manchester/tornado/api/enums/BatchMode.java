@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.api.enums;
+
+import uk.ac.manchester.tornado.api.BatchDescriptor;
+
+/**
+ * Modes in which an argument of a task-graph is processed when batch
+ * processing is enabled. See {@link BatchDescriptor}.
+ */
+public enum BatchMode {
+
+    /**
+     * The argument is split into chunks, and each chunk is copied to the device
+     * before the kernels process it. The chunks are contiguous regions of the
+     * argument, so the argument is split along its outermost dimension.
+     */
+    SPLIT, //
+
+    /**
+     * The whole argument is copied to the device once, before the first chunk,
+     * and it stays on the device for all chunks. The argument must be read-only.
+     */
+    BROADCAST, //
+
+    /**
+     * The whole argument stays on the device for all chunks, and the kernels
+     * accumulate their results into it. It is copied to the device before the
+     * first chunk and copied back to the host after the last chunk.
+     */
+    REDUCE;
+}
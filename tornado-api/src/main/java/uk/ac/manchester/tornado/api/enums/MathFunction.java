@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.api.enums;
+
+import uk.ac.manchester.tornado.api.math.MathPolicy;
+
+/**
+ * Math functions whose precision can be selected with a {@link MathPolicy}.
+ * The policy applies to the float versions of the functions in
+ * {@link uk.ac.manchester.tornado.api.math.TornadoMath} and {@link Math}.
+ * {@code TornadoMath.sigmoid} and {@code TornadoMath.gelu} are expressed with
+ * {@link #EXP} and {@link #TANH}, so they follow the precision of these
+ * functions.
+ */
+public enum MathFunction {
+
+    EXP, //
+
+    LOG, //
+
+    /**
+     * Inverse square root, written as {@code 1.0f / TornadoMath.sqrt(x)} in the
+     * kernel.
+     */
+    RSQRT, //
+
+    TANH;
+}
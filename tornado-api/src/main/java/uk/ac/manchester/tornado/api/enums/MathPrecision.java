@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.api.enums;
+
+import uk.ac.manchester.tornado.api.math.MathPolicy;
+
+/**
+ * Precision levels of the math functions selected with a {@link MathPolicy}.
+ * The levels that a backend cannot express fall back to the closest more
+ * precise level.
+ */
+public enum MathPrecision {
+
+    /**
+     * The precise function of the backend (e.g., {@code exp} in OpenCL C). The
+     * OpenCL kernels of a task with a policy are also built without
+     * {@code -cl-fast-relaxed-math}.
+     */
+    EXACT, //
+
+    /**
+     * The fast implementation of the device, with an implementation-defined
+     * error (e.g., {@code native_exp} in OpenCL, {@code __expf} in CUDA and
+     * {@code fast::exp} in Metal).
+     */
+    NATIVE, //
+
+    /**
+     * Reduced accuracy (around 11 bits) for inputs in the range of half
+     * precision (e.g., {@code half_exp} in OpenCL and SPIR-V). Backends without
+     * these functions use {@link #NATIVE}.
+     */
+    HALF;
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.api.enums;
+
+import uk.ac.manchester.tornado.api.TornadoExecutionPlan;
+
+/**
+ * Storage formats of the arrays selected with
+ * {@link TornadoExecutionPlan#withMixedPrecision(MixedPrecisionFormat, Object...)}.
+ * The arrays are kept in the device memory in the 16-bit format, and kernels
+ * still compute in 32-bit float.
+ */
+public enum MixedPrecisionFormat {
+
+    /**
+     * IEEE-754 half precision (1 sign bit, 5 exponent bits, 10 mantissa bits).
+     * Values with a magnitude larger than 65504 overflow to infinity and values
+     * smaller than 2^-14 are flushed to zero.
+     */
+    FP16, //
+
+    /**
+     * Brain floating-point format (1 sign bit, 8 exponent bits, 7 mantissa bits).
+     * It keeps the range of float with a reduced precision.
+     */
+    BF16;
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.api.enums;
+
+import uk.ac.manchester.tornado.api.TaskGraph;
+
+/**
+ * Codecs used to compress the arrays selected with
+ * {@link TaskGraph#transferToDeviceCompressed(TransferCodec, Object...)}. The
+ * arrays are encoded on the host before each execution, only the encoded bytes
+ * are copied to the device, and a task generated by the runtime decodes them on
+ * the device before the tasks that consume the arrays. All codecs are lossless.
+ */
+public enum TransferCodec {
+
+    /**
+     * Run-length encoding for {@code IntArray} and {@code ByteArray}. It suits
+     * masks, labels and other arrays with long runs of repeated values.
+     */
+    RUN_LENGTH, //
+
+    /**
+     * Frame-of-reference bit-packing for {@code IntArray} and
+     * {@code ByteArray}. Each block of values is stored as the differences to
+     * the minimum of the block, with the number of bits needed by the largest
+     * difference. It suits quantised values and IDs within small ranges.
+     */
+    BIT_PACKING, //
+
+    /**
+     * Zero-suppression for {@code FloatArray}. Only the values that are not
+     * {@code 0.0f} are copied, together with a bitmask of their positions. It
+     * suits sparse arrays, such as activations after a ReLU.
+     */
+    ZERO_SUPPRESSION;
+}
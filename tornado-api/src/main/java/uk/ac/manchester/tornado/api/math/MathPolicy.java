@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.api.math;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+
+import uk.ac.manchester.tornado.api.enums.MathFunction;
+import uk.ac.manchester.tornado.api.enums.MathPrecision;
+
+/**
+ * Precision selected for each {@link MathFunction} in the kernels of an
+ * execution plan or a task. Policies are immutable: each {@code with} method
+ * returns a new policy.
+ *
+ * <p>
+ * The selection is applied by the compiler when the task is compiled, so it
+ * only affects the code generated for the device. When the error report is
+ * enabled ({@link #withErrorReport()}), the runtime also runs the task-graph on
+ * the JVM after each execution and measures the distance, in ULPs, between the
+ * device and the JVM results. The report can be obtained with
+ * {@link uk.ac.manchester.tornado.api.TornadoExecutionResult#getMathPolicyError(uk.ac.manchester.tornado.api.types.arrays.FloatArray)}.
+ * </p>
+ *
+ * <p>
+ * Example:
+ * </p>
+ *
+ * <code>
+ * MathPolicy policy = MathPolicy.exact().with(MathFunction.EXP, MathPrecision.NATIVE);
+ * executionPlan.withMathPolicy(policy);
+ * </code>
+ */
+public final class MathPolicy {
+
+    private final Map<MathFunction, MathPrecision> precisions;
+    private final boolean errorReport;
+
+    private MathPolicy(Map<MathFunction, MathPrecision> precisions, boolean errorReport) {
+        this.precisions = precisions;
+        this.errorReport = errorReport;
+    }
+
+    /**
+     * Policy that uses the given precision for all functions.
+     *
+     * @param precision
+     *     {@link MathPrecision}
+     * @return {@link MathPolicy}
+     */
+    public static MathPolicy of(MathPrecision precision) {
+        Objects.requireNonNull(precision);
+        Map<MathFunction, MathPrecision> precisions = new EnumMap<>(MathFunction.class);
+        for (MathFunction function : MathFunction.values()) {
+            precisions.put(function, precision);
+        }
+        return new MathPolicy(precisions, false);
+    }
+
+    /**
+     * Policy that uses the precise version of all functions.
+     *
+     * @return {@link MathPolicy}
+     */
+    public static MathPolicy exact() {
+        return of(MathPrecision.EXACT);
+    }
+
+    /**
+     * Policy that uses the native version of all functions.
+     *
+     * @return {@link MathPolicy}
+     */
+    public static MathPolicy fast() {
+        return of(MathPrecision.NATIVE);
+    }
+
+    /**
+     * Returns a copy of this policy that uses the given precision for a
+     * function.
+     *
+     * @param function
+     *     {@link MathFunction}
+     * @param precision
+     *     {@link MathPrecision}
+     * @return {@link MathPolicy}
+     */
+    public MathPolicy with(MathFunction function, MathPrecision precision) {
+        Objects.requireNonNull(function);
+        Objects.requireNonNull(precision);
+        Map<MathFunction, MathPrecision> copy = new EnumMap<>(precisions);
+        copy.put(function, precision);
+        return new MathPolicy(copy, errorReport);
+    }
+
+    /**
+     * Returns a copy of this policy that also computes the error of the device
+     * results with respect to the JVM after each execution. The JVM run
+     * doubles the cost of the execution, so this is meant for tuning.
+     *
+     * @return {@link MathPolicy}
+     */
+    public MathPolicy withErrorReport() {
+        return new MathPolicy(precisions, true);
+    }
+
+    public MathPrecision getPrecision(MathFunction function) {
+        return precisions.get(function);
+    }
+
+    public boolean isErrorReportEnabled() {
+        return errorReport;
+    }
+
+    /**
+     * @return true if all functions use {@link MathPrecision#EXACT}.
+     */
+    public boolean isExact() {
+        return precisions.values().stream().allMatch(precision -> precision == MathPrecision.EXACT);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof MathPolicy policy)) {
+            return false;
+        }
+        return errorReport == policy.errorReport && precisions.equals(policy.precisions);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(precisions, errorReport);
+    }
+
+    @Override
+    public String toString() {
+        return precisions + (errorReport ? " (error report)" : "");
+    }
+}
@@ -414,6 +414,47 @@ public class TornadoMath {
         return Math.tanh(value);
     }
 
+    /**
+     * Logistic function 1 / (1 + e^-x). It is expressed with {@link #exp(float)},
+     * so it follows the precision selected for
+     * {@link uk.ac.manchester.tornado.api.enums.MathFunction#EXP} in a
+     * {@link MathPolicy}.
+     */
+    public static float sigmoid(float value) {
+        return 1.0f / (1.0f + exp(-value));
+    }
+
+    public static double sigmoid(double value) {
+        return 1.0 / (1.0 + exp(-value));
+    }
+
+    /**
+     * GELU activation with the tanh approximation:
+     * 0.5 * x * (1 + tanh(sqrt(2 / PI) * (x + 0.044715 * x^3))). It is expressed
+     * with {@link #tanh(float)}, so it follows the precision selected for
+     * {@link uk.ac.manchester.tornado.api.enums.MathFunction#TANH} in a
+     * {@link MathPolicy}.
+     */
+    public static float gelu(float value) {
+        return 0.5f * value * (1.0f + tanh(0.7978846f * (value + 0.044715f * value * value * value)));
+    }
+
+    public static double gelu(double value) {
+        return 0.5 * value * (1.0 + tanh(0.7978845608028654 * (value + 0.044715 * value * value * value)));
+    }
+
+    /**
+     * SiLU (swish) activation: x * sigmoid(x). Like {@link #sigmoid(float)}, it
+     * follows the precision selected for EXP.
+     */
+    public static float silu(float value) {
+        return value / (1.0f + exp(-value));
+    }
+
+    public static double silu(double value) {
+        return value / (1.0 + exp(-value));
+    }
+
     public static float floatPI() {
         return (float) Math.PI;
     }
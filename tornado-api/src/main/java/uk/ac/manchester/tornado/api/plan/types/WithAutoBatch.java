@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.api.plan.types;
+
+import java.util.Arrays;
+
+import uk.ac.manchester.tornado.api.BatchDescriptor;
+import uk.ac.manchester.tornado.api.ExecutionPlanType;
+import uk.ac.manchester.tornado.api.TornadoExecutionPlan;
+
+public final class WithAutoBatch extends ExecutionPlanType {
+
+    private final BatchDescriptor[] descriptors;
+
+    public WithAutoBatch(TornadoExecutionPlan parent, BatchDescriptor... descriptors) {
+        super(parent);
+        this.descriptors = descriptors;
+    }
+
+    @Override
+    public String toString() {
+        if (descriptors.length == 0) {
+            return parentLink.toString() + "\n -> withAutoBatch()";
+        }
+        return parentLink.toString() + "\n -> withAutoBatch(" + Arrays.toString(descriptors) + ")";
+    }
+}
@@ -17,20 +17,32 @@
  */
 package uk.ac.manchester.tornado.api.plan.types;
 
+import java.util.Arrays;
+
+import uk.ac.manchester.tornado.api.BatchDescriptor;
 import uk.ac.manchester.tornado.api.ExecutionPlanType;
 import uk.ac.manchester.tornado.api.TornadoExecutionPlan;
 
 public final class WithBatch extends ExecutionPlanType {
 
     private final String batchSize;
+    private final BatchDescriptor[] descriptors;
 
     public WithBatch(TornadoExecutionPlan parent, String batchSize) {
+        this(parent, batchSize, new BatchDescriptor[0]);
+    }
+
+    public WithBatch(TornadoExecutionPlan parent, String batchSize, BatchDescriptor... descriptors) {
         super(parent);
         this.batchSize = batchSize;
+        this.descriptors = descriptors;
     }
 
     @Override
     public String toString() {
-        return parentLink.toString() + "\n -> withBatch(<" + batchSize + ">";
+        if (descriptors.length == 0) {
+            return parentLink.toString() + "\n -> withBatch(<" + batchSize + ">";
+        }
+        return parentLink.toString() + "\n -> withBatch(<" + batchSize + ">, " + Arrays.toString(descriptors) + ")";
     }
 }
@@ -0,0 +1,255 @@
+/*
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.api.primitives;
+
+import static uk.ac.manchester.tornado.api.primitives.PrimitiveKernels.BLOCK_SIZE;
+
+import uk.ac.manchester.tornado.api.KernelContext;
+import uk.ac.manchester.tornado.api.annotations.Parallel;
+import uk.ac.manchester.tornado.api.math.TornadoMath;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+
+/**
+ * Kernels used by {@link FusedPrimitives}. Each row of a normalisation is
+ * processed by one work-group of {@link PrimitiveKernels#BLOCK_SIZE} threads.
+ *
+ * <p>
+ * The statistics of a row (maximum and sum of exponentials for softmax, mean
+ * and variance for layer-norm, and sum of squares for RMS-norm) are computed in
+ * a single read of the row, reduced within each subgroup with shuffles, and
+ * then across the subgroups of the work-group in local memory. Rows of up to
+ * {@link #ROW_CACHE_SIZE} elements are kept in local memory, so the output is
+ * written without reading the row from global memory again.
+ * </p>
+ *
+ * <p>
+ * The kernels are public so they can be compiled by TornadoVM, but they are
+ * meant to be added to a task-graph through {@link FusedPrimitives}.
+ * </p>
+ */
+public final class FusedKernels {
+
+    /**
+     * Maximum number of elements of a row kept in local memory (16 KB).
+     */
+    public static final int ROW_CACHE_SIZE = 4096;
+
+    private FusedKernels() {
+    }
+
+    /**
+     * Row-wise softmax with an online maximum: the sum of exponentials is
+     * rescaled every time the maximum of the thread grows, so the row is read
+     * once to compute both values.
+     */
+    public static void softmax(KernelContext context, FloatArray input, FloatArray output, int cols) {
+        int localIdx = context.localIdx;
+        int groupSize = context.localGroupSizeX;
+        int subgroupSize = context.getSubgroupSize();
+        int offset = context.groupIdx * cols;
+        boolean cached = cols <= ROW_CACHE_SIZE;
+
+        float[] row = context.allocateFloatLocalArray(ROW_CACHE_SIZE);
+        float[] partialMax = context.allocateFloatLocalArray(BLOCK_SIZE);
+        float[] partialSum = context.allocateFloatLocalArray(BLOCK_SIZE);
+
+        float max = Float.NEGATIVE_INFINITY;
+        float sum = 0.0f;
+        for (int i = localIdx; i < cols; i += groupSize) {
+            float value = input.get(offset + i);
+            if (cached) {
+                row[i] = value;
+            }
+            float newMax = TornadoMath.max(max, value);
+            // Masked elements (-inf) add nothing, and would give exp(-inf - -inf) while the maximum is still -inf
+            float term = (value == Float.NEGATIVE_INFINITY) ? 0.0f : TornadoMath.exp(value - newMax);
+            sum = rescale(sum, max, newMax) + term;
+            max = newMax;
+        }
+
+        for (int laneMask = subgroupSize / 2; laneMask > 0; laneMask /= 2) {
+            float otherMax = context.subgroupShuffleXor(max, laneMask);
+            float otherSum = context.subgroupShuffleXor(sum, laneMask);
+            float newMax = TornadoMath.max(max, otherMax);
+            sum = rescale(sum, max, newMax) + rescale(otherSum, otherMax, newMax);
+            max = newMax;
+        }
+        if (context.getSubgroupLocalId() == 0) {
+            partialMax[localIdx / subgroupSize] = max;
+            partialSum[localIdx / subgroupSize] = sum;
+        }
+        context.localBarrier();
+
+        // Every thread merges the partials of the subgroups in the same order
+        int numSubgroups = (groupSize + subgroupSize - 1) / subgroupSize;
+        max = Float.NEGATIVE_INFINITY;
+        sum = 0.0f;
+        for (int s = 0; s < numSubgroups; s++) {
+            float newMax = TornadoMath.max(max, partialMax[s]);
+            sum = rescale(sum, max, newMax) + rescale(partialSum[s], partialMax[s], newMax);
+            max = newMax;
+        }
+
+        float scale = 1.0f / sum;
+        for (int i = localIdx; i < cols; i += groupSize) {
+            float value = cached ? row[i] : input.get(offset + i);
+            output.set(offset + i, TornadoMath.exp(value - max) * scale);
+        }
+    }
+
+    /**
+     * Row-wise layer normalisation. The mean and the variance of the row are
+     * computed with Welford's algorithm, and the partial results of the threads
+     * are merged with the parallel formula of Chan et al.
+     */
+    public static void layerNorm(KernelContext context, FloatArray input, FloatArray gamma, FloatArray beta, FloatArray output, int cols, float epsilon) {
+        int localIdx = context.localIdx;
+        int groupSize = context.localGroupSizeX;
+        int subgroupSize = context.getSubgroupSize();
+        int offset = context.groupIdx * cols;
+        boolean cached = cols <= ROW_CACHE_SIZE;
+
+        float[] row = context.allocateFloatLocalArray(ROW_CACHE_SIZE);
+        float[] partialCount = context.allocateFloatLocalArray(BLOCK_SIZE);
+        float[] partialMean = context.allocateFloatLocalArray(BLOCK_SIZE);
+        float[] partialM2 = context.allocateFloatLocalArray(BLOCK_SIZE);
+
+        float count = 0.0f;
+        float mean = 0.0f;
+        float m2 = 0.0f;
+        for (int i = localIdx; i < cols; i += groupSize) {
+            float value = input.get(offset + i);
+            if (cached) {
+                row[i] = value;
+            }
+            count += 1.0f;
+            float delta = value - mean;
+            mean += delta / count;
+            m2 += delta * (value - mean);
+        }
+
+        for (int laneMask = subgroupSize / 2; laneMask > 0; laneMask /= 2) {
+            float otherCount = context.subgroupShuffleXor(count, laneMask);
+            float otherMean = context.subgroupShuffleXor(mean, laneMask);
+            float otherM2 = context.subgroupShuffleXor(m2, laneMask);
+            float total = count + otherCount;
+            float weight = (total == 0.0f) ? 0.0f : otherCount / total;
+            float delta = otherMean - mean;
+            mean += delta * weight;
+            m2 += otherM2 + delta * delta * count * weight;
+            count = total;
+        }
+        if (context.getSubgroupLocalId() == 0) {
+            partialCount[localIdx / subgroupSize] = count;
+            partialMean[localIdx / subgroupSize] = mean;
+            partialM2[localIdx / subgroupSize] = m2;
+        }
+        context.localBarrier();
+
+        int numSubgroups = (groupSize + subgroupSize - 1) / subgroupSize;
+        count = 0.0f;
+        mean = 0.0f;
+        m2 = 0.0f;
+        for (int s = 0; s < numSubgroups; s++) {
+            float otherCount = partialCount[s];
+            float total = count + otherCount;
+            float weight = (total == 0.0f) ? 0.0f : otherCount / total;
+            float delta = partialMean[s] - mean;
+            mean += delta * weight;
+            m2 += partialM2[s] + delta * delta * count * weight;
+            count = total;
+        }
+
+        float invStdDev = 1.0f / TornadoMath.sqrt(m2 / cols + epsilon);
+        for (int i = localIdx; i < cols; i += groupSize) {
+            float value = cached ? row[i] : input.get(offset + i);
+            output.set(offset + i, (value - mean) * invStdDev * gamma.get(i) + beta.get(i));
+        }
+    }
+
+    /**
+     * Row-wise RMS normalisation: {@code x / sqrt(mean(x^2) + epsilon) * weight}.
+     */
+    public static void rmsNorm(KernelContext context, FloatArray input, FloatArray weight, FloatArray output, int cols, float epsilon) {
+        int localIdx = context.localIdx;
+        int groupSize = context.localGroupSizeX;
+        int subgroupSize = context.getSubgroupSize();
+        int offset = context.groupIdx * cols;
+        boolean cached = cols <= ROW_CACHE_SIZE;
+
+        float[] row = context.allocateFloatLocalArray(ROW_CACHE_SIZE);
+        float[] partialSum = context.allocateFloatLocalArray(BLOCK_SIZE);
+
+        float sumSquares = 0.0f;
+        for (int i = localIdx; i < cols; i += groupSize) {
+            float value = input.get(offset + i);
+            if (cached) {
+                row[i] = value;
+            }
+            sumSquares += value * value;
+        }
+
+        sumSquares = context.subgroupReduceAdd(sumSquares);
+        if (context.getSubgroupLocalId() == 0) {
+            partialSum[localIdx / subgroupSize] = sumSquares;
+        }
+        context.localBarrier();
+
+        int numSubgroups = (groupSize + subgroupSize - 1) / subgroupSize;
+        sumSquares = 0.0f;
+        for (int s = 0; s < numSubgroups; s++) {
+            sumSquares += partialSum[s];
+        }
+
+        float scale = 1.0f / TornadoMath.sqrt(sumSquares / cols + epsilon);
+        for (int i = localIdx; i < cols; i += groupSize) {
+            float value = cached ? row[i] : input.get(offset + i);
+            output.set(offset + i, value * scale * weight.get(i));
+        }
+    }
+
+    public static void gelu(FloatArray input, FloatArray output) {
+        for (@Parallel int i = 0; i < input.getSize(); i++) {
+            output.set(i, TornadoMath.gelu(input.get(i)));
+        }
+    }
+
+    public static void silu(FloatArray input, FloatArray output) {
+        for (@Parallel int i = 0; i < input.getSize(); i++) {
+            output.set(i, TornadoMath.silu(input.get(i)));
+        }
+    }
+
+    /**
+     * SwiGLU gate of the feed-forward layers: {@code silu(gate) * up}.
+     */
+    public static void swiGlu(FloatArray gate, FloatArray up, FloatArray output) {
+        for (@Parallel int i = 0; i < gate.getSize(); i++) {
+            output.set(i, TornadoMath.silu(gate.get(i)) * up.get(i));
+        }
+    }
+
+    /**
+     * Scales a sum of exponentials computed with the maximum {@code max} to the
+     * maximum {@code newMax}. Empty sums stay at zero, which avoids
+     * {@code exp(-inf - -inf)} for threads without elements.
+     */
+    private static float rescale(float sum, float max, float newMax) {
+        return (sum == 0.0f) ? 0.0f : sum * TornadoMath.exp(max - newMax);
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.api.primitives;
+
+import static uk.ac.manchester.tornado.api.primitives.PrimitiveKernels.BLOCK_SIZE;
+
+import uk.ac.manchester.tornado.api.GridScheduler;
+import uk.ac.manchester.tornado.api.KernelContext;
+import uk.ac.manchester.tornado.api.TaskGraph;
+import uk.ac.manchester.tornado.api.WorkerGrid;
+import uk.ac.manchester.tornado.api.WorkerGrid1D;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+
+/**
+ * Fused activation and normalisation operations for the layers of neural
+ * networks. The normalisations work on the rows of a row-major matrix of
+ * {@code cols} columns, and each of them is a single task. Like
+ * {@link ParallelPrimitives}, each method appends its task to a task-graph,
+ * and registers the worker grid of the task in the given {@link GridScheduler}
+ * when it uses a {@link KernelContext}.
+ *
+ * <p>
+ * The input and output arrays must be registered in the task-graph by the
+ * caller. The output can be the same array as the input.
+ * </p>
+ *
+ * <p>
+ * Example:
+ * </p>
+ *
+ * <pre>
+ * TaskGraph taskGraph = new TaskGraph("s0").transferToDevice(DataTransferMode.EVERY_EXECUTION, logits);
+ * GridScheduler gridScheduler = new GridScheduler();
+ * FusedPrimitives.softmax(taskGraph, gridScheduler, "softmax", logits, probabilities, vocabularySize);
+ * taskGraph.transferToHost(DataTransferMode.EVERY_EXECUTION, probabilities);
+ * </pre>
+ *
+ * {@link PrimitivesReference} provides the sequential versions of the
+ * operations to validate the results.
+ */
+public final class FusedPrimitives {
+
+    private FusedPrimitives() {
+    }
+
+    /**
+     * Softmax of each row: {@code output[r][i] = exp(input[r][i] - max(input[r])) / sum}.
+     *
+     * @param taskGraph
+     *     Task-graph to append the task to.
+     * @param gridScheduler
+     *     Grid scheduler in which the worker grid of the task is registered.
+     * @param taskName
+     *     Name of the task.
+     * @param input
+     *     Input matrix.
+     * @param output
+     *     Output matrix.
+     * @param cols
+     *     Number of elements of each row.
+     * @return {@link TaskGraph}
+     */
+    public static TaskGraph softmax(TaskGraph taskGraph, GridScheduler gridScheduler, String taskName, FloatArray input, FloatArray output, int cols) {
+        final int rows = checkRows(input, output, cols);
+        taskGraph.task(taskName, FusedKernels::softmax, new KernelContext(), input, output, cols);
+        gridScheduler.addWorkerGrid(taskGraph.getTaskGraphName() + "." + taskName, createWorkerGrid(rows));
+        return taskGraph;
+    }
+
+    /**
+     * Layer normalisation of each row:
+     * {@code output[r][i] = (input[r][i] - mean) / sqrt(variance + epsilon) * gamma[i] + beta[i]}.
+     *
+     * @param taskGraph
+     *     Task-graph to append the task to.
+     * @param gridScheduler
+     *     Grid scheduler in which the worker grid of the task is registered.
+     * @param taskName
+     *     Name of the task.
+     * @param input
+     *     Input matrix.
+     * @param gamma
+     *     Scale of each column.
+     * @param beta
+     *     Shift of each column.
+     * @param output
+     *     Output matrix.
+     * @param cols
+     *     Number of elements of each row.
+     * @param epsilon
+     *     Value added to the variance.
+     * @return {@link TaskGraph}
+     */
+    public static TaskGraph layerNorm(TaskGraph taskGraph, GridScheduler gridScheduler, String taskName, FloatArray input, FloatArray gamma, FloatArray beta, FloatArray output, int cols,
+            float epsilon) {
+        final int rows = checkRows(input, output, cols);
+        checkColumnArray(gamma, cols);
+        checkColumnArray(beta, cols);
+        taskGraph.task(taskName, FusedKernels::layerNorm, new KernelContext(), input, gamma, beta, output, cols, epsilon);
+        gridScheduler.addWorkerGrid(taskGraph.getTaskGraphName() + "." + taskName, createWorkerGrid(rows));
+        return taskGraph;
+    }
+
+    /**
+     * RMS normalisation of each row:
+     * {@code output[r][i] = input[r][i] / sqrt(mean(input[r]^2) + epsilon) * weight[i]}.
+     *
+     * @param taskGraph
+     *     Task-graph to append the task to.
+     * @param gridScheduler
+     *     Grid scheduler in which the worker grid of the task is registered.
+     * @param taskName
+     *     Name of the task.
+     * @param input
+     *     Input matrix.
+     * @param weight
+     *     Scale of each column.
+     * @param output
+     *     Output matrix.
+     * @param cols
+     *     Number of elements of each row.
+     * @param epsilon
+     *     Value added to the mean of the squares.
+     * @return {@link TaskGraph}
+     */
+    public static TaskGraph rmsNorm(TaskGraph taskGraph, GridScheduler gridScheduler, String taskName, FloatArray input, FloatArray weight, FloatArray output, int cols, float epsilon) {
+        final int rows = checkRows(input, output, cols);
+        checkColumnArray(weight, cols);
+        taskGraph.task(taskName, FusedKernels::rmsNorm, new KernelContext(), input, weight, output, cols, epsilon);
+        gridScheduler.addWorkerGrid(taskGraph.getTaskGraphName() + "." + taskName, createWorkerGrid(rows));
+        return taskGraph;
+    }
+
+    /**
+     * GELU activation of each element, with the tanh approximation of
+     * {@link uk.ac.manchester.tornado.api.math.TornadoMath#gelu(float)}.
+     *
+     * @return {@link TaskGraph}
+     */
+    public static TaskGraph gelu(TaskGraph taskGraph, String taskName, FloatArray input, FloatArray output) {
+        checkSizes(input.getSize(), output.getSize());
+        return taskGraph.task(taskName, FusedKernels::gelu, input, output);
+    }
+
+    /**
+     * SiLU activation of each element. See
+     * {@link uk.ac.manchester.tornado.api.math.TornadoMath#silu(float)}.
+     *
+     * @return {@link TaskGraph}
+     */
+    public static TaskGraph silu(TaskGraph taskGraph, String taskName, FloatArray input, FloatArray output) {
+        checkSizes(input.getSize(), output.getSize());
+        return taskGraph.task(taskName, FusedKernels::silu, input, output);
+    }
+
+    /**
+     * SwiGLU: {@code output[i] = silu(gate[i]) * up[i]}.
+     *
+     * @return {@link TaskGraph}
+     */
+    public static TaskGraph swiGlu(TaskGraph taskGraph, String taskName, FloatArray gate, FloatArray up, FloatArray output) {
+        checkSizes(gate.getSize(), up.getSize());
+        checkSizes(gate.getSize(), output.getSize());
+        return taskGraph.task(taskName, FusedKernels::swiGlu, gate, up, output);
+    }
+
+    private static int checkRows(FloatArray input, FloatArray output, int cols) {
+        final int size = input.getSize();
+        checkSizes(size, output.getSize());
+        if (cols <= 0 || size % cols != 0) {
+            throw new IllegalArgumentException("The number of elements (" + size + ") is not a multiple of the number of columns (" + cols + ")");
+        }
+        return size / cols;
+    }
+
+    private static void checkColumnArray(FloatArray array, int cols) {
+        if (array.getSize() != cols) {
+            throw new IllegalArgumentException("The per-column arrays must have " + cols + " elements");
+        }
+    }
+
+    private static void checkSizes(int size, int otherSize) {
+        if (size == 0) {
+            throw new IllegalArgumentException("The primitives require non-empty arrays");
+        }
+        if (size != otherSize) {
+            throw new IllegalArgumentException("The arrays of a primitive must have the same size: " + size + " != " + otherSize);
+        }
+    }
+
+    private static WorkerGrid createWorkerGrid(int rows) {
+        WorkerGrid workerGrid = new WorkerGrid1D(rows * BLOCK_SIZE);
+        workerGrid.setLocalWork(BLOCK_SIZE, 1, 1);
+        return workerGrid;
+    }
+}
@@ -0,0 +1,725 @@
+/*
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.api.primitives;
+
+import static uk.ac.manchester.tornado.api.primitives.PrimitiveKernels.BLOCK_SIZE;
+
+import uk.ac.manchester.tornado.api.GridScheduler;
+import uk.ac.manchester.tornado.api.KernelContext;
+import uk.ac.manchester.tornado.api.TaskGraph;
+import uk.ac.manchester.tornado.api.WorkerGrid;
+import uk.ac.manchester.tornado.api.WorkerGrid1D;
+import uk.ac.manchester.tornado.api.common.TornadoDevice;
+import uk.ac.manchester.tornado.api.enums.DataTransferMode;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.api.types.arrays.HalfFloatArray;
+import uk.ac.manchester.tornado.api.runtime.TornadoRuntimeProvider;
+import uk.ac.manchester.tornado.api.types.arrays.IntArray;
+
+/**
+ * Device-wide scan, compaction, sort, top-k and histogram primitives. Each
+ * method appends the tasks of the primitive to a task-graph, and registers the
+ * worker grids of the tasks that use a {@link KernelContext} in the given
+ * {@link GridScheduler}. The grid scheduler must be passed to the execution
+ * plan with {@code withGridScheduler}.
+ *
+ * <p>
+ * The input and output arrays must be registered in the task-graph by the
+ * caller. The temporary buffers are allocated by the primitives and live on the
+ * device.
+ * </p>
+ *
+ * <p>
+ * Example:
+ * </p>
+ *
+ * <pre>
+ * TaskGraph taskGraph = new TaskGraph("s0").transferToDevice(DataTransferMode.EVERY_EXECUTION, input);
+ * GridScheduler gridScheduler = new GridScheduler();
+ * ParallelPrimitives.exclusiveScan(taskGraph, gridScheduler, "scan", input, output);
+ * taskGraph.transferToHost(DataTransferMode.EVERY_EXECUTION, output);
+ * </pre>
+ *
+ * {@link PrimitivesReference} provides the sequential versions of the
+ * primitives to validate the results.
+ */
+public final class ParallelPrimitives {
+
+    /**
+     * Number of bins accumulated in local memory by each pass of a histogram
+     * when the device does not report its local memory size (16 KB for 4-byte
+     * bins).
+     */
+    public static final int DEFAULT_LOCAL_BINS = 4096;
+
+    /**
+     * Local memory of the float and half-float scatter-add kernels used to stage
+     * a block of keys and values (2 KB).
+     */
+    private static final int STAGING_BYTES = BLOCK_SIZE * (Integer.BYTES + Float.BYTES);
+
+    /**
+     * Maximum number of work-groups of a histogram. Each work-group processes
+     * the elements in a grid-stride loop.
+     */
+    private static final int MAX_HISTOGRAM_GROUPS = 128;
+
+    private ParallelPrimitives() {
+    }
+
+    /**
+     * Inclusive prefix sum: {@code output[i] = input[0] + ... + input[i]}.
+     *
+     * @param taskGraph
+     *     Task-graph to append the tasks to.
+     * @param gridScheduler
+     *     Grid scheduler in which the worker grids of the tasks are registered.
+     * @param prefix
+     *     Prefix for the names of the tasks.
+     * @param input
+     *     Input array.
+     * @param output
+     *     Output array. It can be the same as the input array.
+     * @return {@link TaskGraph}
+     */
+    public static TaskGraph inclusiveScan(TaskGraph taskGraph, GridScheduler gridScheduler, String prefix, IntArray input, IntArray output) {
+        return scan(taskGraph, gridScheduler, prefix, input, output, 1);
+    }
+
+    /**
+     * Exclusive prefix sum: {@code output[0] = 0} and
+     * {@code output[i] = input[0] + ... + input[i - 1]}.
+     *
+     * @param taskGraph
+     *     Task-graph to append the tasks to.
+     * @param gridScheduler
+     *     Grid scheduler in which the worker grids of the tasks are registered.
+     * @param prefix
+     *     Prefix for the names of the tasks.
+     * @param input
+     *     Input array.
+     * @param output
+     *     Output array. It can be the same as the input array.
+     * @return {@link TaskGraph}
+     */
+    public static TaskGraph exclusiveScan(TaskGraph taskGraph, GridScheduler gridScheduler, String prefix, IntArray input, IntArray output) {
+        return scan(taskGraph, gridScheduler, prefix, input, output, 0);
+    }
+
+    /**
+     * Inclusive prefix sum that restarts at every element with a non-zero flag.
+     *
+     * @param taskGraph
+     *     Task-graph to append the tasks to.
+     * @param gridScheduler
+     *     Grid scheduler in which the worker grids of the tasks are registered.
+     * @param prefix
+     *     Prefix for the names of the tasks.
+     * @param input
+     *     Input array.
+     * @param flags
+     *     Flags that mark the first element of each segment.
+     * @param output
+     *     Output array.
+     * @return {@link TaskGraph}
+     */
+    public static TaskGraph segmentedInclusiveScan(TaskGraph taskGraph, GridScheduler gridScheduler, String prefix, IntArray input, IntArray flags, IntArray output) {
+        final int size = checkSizes(input, flags, output);
+        final int numBlocks = numBlocks(size);
+        IntArray headSeen = new IntArray(size);
+        IntArray blockSums = new IntArray(numBlocks);
+        IntArray blockHeads = new IntArray(numBlocks);
+        taskGraph.transferToDevice(DataTransferMode.FIRST_EXECUTION, headSeen, blockSums, blockHeads);
+
+        KernelContext context = new KernelContext();
+        String blockTask = prefix + "_block";
+        taskGraph.task(blockTask, PrimitiveKernels::blockSegmentedScan, context, input, flags, output, headSeen, blockSums, blockHeads, size);
+        gridScheduler.addWorkerGrid(taskGraph.getTaskGraphName() + "." + blockTask, createWorkerGrid(numBlocks));
+        taskGraph.task(prefix + "_sums", PrimitiveKernels::scanSegmentedBlockSums, blockSums, blockHeads, numBlocks);
+        taskGraph.task(prefix + "_offsets", PrimitiveKernels::addSegmentedBlockOffsets, output, headSeen, blockSums, size);
+        return taskGraph;
+    }
+
+    /**
+     * Stream compaction: copies the elements with a flag set to 1 to the
+     * beginning of the output, keeping their order, and stores the number of
+     * selected elements in {@code count[0]}.
+     *
+     * @param taskGraph
+     *     Task-graph to append the tasks to.
+     * @param gridScheduler
+     *     Grid scheduler in which the worker grids of the tasks are registered.
+     * @param prefix
+     *     Prefix for the names of the tasks.
+     * @param input
+     *     Input array.
+     * @param flags
+     *     Selection flags. Each flag must be 0 or 1.
+     * @param output
+     *     Output array. The elements after the selected ones are not modified.
+     * @param count
+     *     Array of one element that receives the number of selected elements.
+     * @return {@link TaskGraph}
+     */
+    public static TaskGraph compact(TaskGraph taskGraph, GridScheduler gridScheduler, String prefix, IntArray input, IntArray flags, IntArray output, IntArray count) {
+        final int size = checkSizes(input, flags, output);
+        if (count.getSize() < 1) {
+            throw new IllegalArgumentException("The count array must have at least one element");
+        }
+        IntArray positions = new IntArray(size);
+        taskGraph.transferToDevice(DataTransferMode.FIRST_EXECUTION, positions);
+        scan(taskGraph, gridScheduler, prefix, flags, positions, 0);
+        taskGraph.task(prefix + "_scatter", PrimitiveKernels::scatterSelected, input, flags, positions, output, count, size);
+        return taskGraph;
+    }
+
+    /**
+     * Sorts the keys in ascending order with a least-significant-bit radix sort.
+     * Each of the 32 passes splits the keys on one bit with an exclusive scan.
+     * The sort is stable and the keys are sorted in place.
+     *
+     * @param taskGraph
+     *     Task-graph to append the tasks to.
+     * @param gridScheduler
+     *     Grid scheduler in which the worker grids of the tasks are registered.
+     * @param prefix
+     *     Prefix for the names of the tasks.
+     * @param keys
+     *     Keys to sort.
+     * @return {@link TaskGraph}
+     */
+    public static TaskGraph radixSort(TaskGraph taskGraph, GridScheduler gridScheduler, String prefix, IntArray keys) {
+        checkSizes(keys);
+        return radixSortPairs(taskGraph, gridScheduler, prefix, keys, null, Integer.SIZE);
+    }
+
+    /**
+     * Sorts the float keys in ascending order. The keys are mapped to int keys
+     * with the same order, sorted with a radix sort and mapped back. Negative
+     * zero is sorted before positive zero.
+     *
+     * @param taskGraph
+     *     Task-graph to append the tasks to.
+     * @param gridScheduler
+     *     Grid scheduler in which the worker grids of the tasks are registered.
+     * @param prefix
+     *     Prefix for the names of the tasks.
+     * @param keys
+     *     Keys to sort. NaN values are not supported.
+     * @return {@link TaskGraph}
+     */
+    public static TaskGraph radixSort(TaskGraph taskGraph, GridScheduler gridScheduler, String prefix, FloatArray keys) {
+        final int size = keys.getSize();
+        checkNotEmpty(size);
+        IntArray intKeys = new IntArray(size);
+        taskGraph.transferToDevice(DataTransferMode.FIRST_EXECUTION, intKeys);
+        taskGraph.task(prefix + "_toKeys", PrimitiveKernels::floatToSortableKeys, keys, intKeys, size, 0);
+        radixSortPairs(taskGraph, gridScheduler, prefix, intKeys, null, Integer.SIZE);
+        taskGraph.task(prefix + "_toFloat", PrimitiveKernels::sortableKeysToFloat, intKeys, keys, size);
+        return taskGraph;
+    }
+
+    /**
+     * Sorts the keys in ascending order and applies the same permutation to the
+     * values. The sort is stable, and the keys and values are sorted in place.
+     *
+     * @param taskGraph
+     *     Task-graph to append the tasks to.
+     * @param gridScheduler
+     *     Grid scheduler in which the worker grids of the tasks are registered.
+     * @param prefix
+     *     Prefix for the names of the tasks.
+     * @param keys
+     *     Keys to sort.
+     * @param values
+     *     Value of each key.
+     * @return {@link TaskGraph}
+     */
+    public static TaskGraph sortPairs(TaskGraph taskGraph, GridScheduler gridScheduler, String prefix, IntArray keys, IntArray values) {
+        checkSizes(keys, values);
+        return radixSortPairs(taskGraph, gridScheduler, prefix, keys, values, Integer.SIZE);
+    }
+
+    /**
+     * Sorts the float keys in ascending order and applies the same permutation
+     * to the values. See
+     * {@link #radixSort(TaskGraph, GridScheduler, String, FloatArray)}.
+     *
+     * @return {@link TaskGraph}
+     */
+    public static TaskGraph sortPairs(TaskGraph taskGraph, GridScheduler gridScheduler, String prefix, FloatArray keys, IntArray values) {
+        final int size = keys.getSize();
+        checkSizes(size, values.getSize());
+        IntArray intKeys = new IntArray(size);
+        taskGraph.transferToDevice(DataTransferMode.FIRST_EXECUTION, intKeys);
+        taskGraph.task(prefix + "_toKeys", PrimitiveKernels::floatToSortableKeys, keys, intKeys, size, 0);
+        radixSortPairs(taskGraph, gridScheduler, prefix, intKeys, values, Integer.SIZE);
+        taskGraph.task(prefix + "_toFloat", PrimitiveKernels::sortableKeysToFloat, intKeys, keys, size);
+        return taskGraph;
+    }
+
+    /**
+     * Selects the {@code k} largest scores and their indices, in descending
+     * order of score. Scores with the same value are ordered by index. The
+     * scores are not modified.
+     *
+     * <p>
+     * When {@code k} is smaller than {@link PrimitiveKernels#BLOCK_SIZE}, each
+     * work-group first selects the best {@code k} scores of its block, and only
+     * these candidates are sorted. Otherwise, all the scores are sorted.
+     * </p>
+     *
+     * @param taskGraph
+     *     Task-graph to append the tasks to.
+     * @param gridScheduler
+     *     Grid scheduler in which the worker grids of the tasks are registered.
+     * @param prefix
+     *     Prefix for the names of the tasks.
+     * @param scores
+     *     Scores to rank. NaN values are not supported.
+     * @param k
+     *     Number of elements to select.
+     * @param topScores
+     *     Array of {@code k} elements that receives the selected scores.
+     * @param topIndices
+     *     Array of {@code k} elements that receives the indices of the selected
+     *     scores.
+     * @return {@link TaskGraph}
+     */
+    public static TaskGraph topK(TaskGraph taskGraph, GridScheduler gridScheduler, String prefix, FloatArray scores, int k, FloatArray topScores, IntArray topIndices) {
+        final int size = scores.getSize();
+        checkNotEmpty(size);
+        checkTopK(k, size, 1, topScores, topIndices);
+        IntArray keys = new IntArray(size);
+        taskGraph.transferToDevice(DataTransferMode.FIRST_EXECUTION, keys);
+        taskGraph.task(prefix + "_keys", PrimitiveKernels::floatToSortableKeys, scores, keys, size, 1);
+
+        IntArray sortedIndices;
+        if (k < BLOCK_SIZE) {
+            final int numBlocks = numBlocks(size);
+            IntArray candidateKeys = new IntArray(numBlocks * k);
+            sortedIndices = new IntArray(numBlocks * k);
+            taskGraph.transferToDevice(DataTransferMode.FIRST_EXECUTION, candidateKeys, sortedIndices);
+            String selectTask = prefix + "_select";
+            taskGraph.task(selectTask, PrimitiveKernels::blockTopK, new KernelContext(), keys, candidateKeys, sortedIndices, size, k);
+            gridScheduler.addWorkerGrid(taskGraph.getTaskGraphName() + "." + selectTask, createWorkerGrid(numBlocks));
+            radixSortPairs(taskGraph, gridScheduler, prefix + "_sort", candidateKeys, sortedIndices, Integer.SIZE);
+        } else {
+            sortedIndices = new IntArray(size);
+            taskGraph.transferToDevice(DataTransferMode.FIRST_EXECUTION, sortedIndices);
+            taskGraph.task(prefix + "_indices", PrimitiveKernels::initIndices, sortedIndices, size);
+            radixSortPairs(taskGraph, gridScheduler, prefix + "_sort", keys, sortedIndices, Integer.SIZE);
+        }
+        taskGraph.task(prefix + "_gather", PrimitiveKernels::gatherTopK, scores, sortedIndices, topScores, topIndices, k);
+        return taskGraph;
+    }
+
+    /**
+     * Selects the {@code k} largest scores of each segment. Segment {@code s}
+     * contains the scores {@code [segmentOffsets[s], segmentOffsets[s + 1])}.
+     * The offsets must start at 0, end at the number of scores and be
+     * non-decreasing.
+     *
+     * <p>
+     * The results of segment {@code s} are stored in
+     * {@code [s * k, (s + 1) * k)} of the output arrays, in descending order of
+     * score. The slots of the segments with fewer than {@code k} scores receive
+     * the index -1 and a score of negative infinity.
+     * </p>
+     *
+     * @param taskGraph
+     *     Task-graph to append the tasks to.
+     * @param gridScheduler
+     *     Grid scheduler in which the worker grids of the tasks are registered.
+     * @param prefix
+     *     Prefix for the names of the tasks.
+     * @param scores
+     *     Scores to rank. NaN values are not supported.
+     * @param segmentOffsets
+     *     Offsets of the segments. It has one element more than the number of
+     *     segments.
+     * @param k
+     *     Number of elements to select per segment.
+     * @param topScores
+     *     Array of {@code numSegments * k} elements that receives the selected
+     *     scores.
+     * @param topIndices
+     *     Array of {@code numSegments * k} elements that receives the indices of
+     *     the selected scores.
+     * @return {@link TaskGraph}
+     */
+    public static TaskGraph segmentedTopK(TaskGraph taskGraph, GridScheduler gridScheduler, String prefix, FloatArray scores, IntArray segmentOffsets, int k, FloatArray topScores,
+            IntArray topIndices) {
+        final int size = scores.getSize();
+        checkNotEmpty(size);
+        final int numSegments = segmentOffsets.getSize() - 1;
+        if (numSegments < 1) {
+            throw new IllegalArgumentException("The segment offsets must have at least two elements");
+        }
+        checkTopK(k, Integer.MAX_VALUE, numSegments, topScores, topIndices);
+        IntArray keys = new IntArray(size);
+        IntArray sortedIndices = new IntArray(size);
+        IntArray segments = new IntArray(size);
+        taskGraph.transferToDevice(DataTransferMode.FIRST_EXECUTION, keys, sortedIndices, segments);
+
+        // Sort all the scores, then sort by segment. The second sort is stable,
+        // so the scores of each segment stay in descending order.
+        taskGraph.task(prefix + "_keys", PrimitiveKernels::floatToSortableKeys, scores, keys, size, 1);
+        taskGraph.task(prefix + "_indices", PrimitiveKernels::initIndices, sortedIndices, size);
+        radixSortPairs(taskGraph, gridScheduler, prefix + "_sort", keys, sortedIndices, Integer.SIZE);
+        taskGraph.task(prefix + "_segments", PrimitiveKernels::segmentKeys, segmentOffsets, sortedIndices, segments, numSegments, size);
+        final int segmentBits = Integer.SIZE - Integer.numberOfLeadingZeros(numSegments - 1);
+        radixSortPairs(taskGraph, gridScheduler, prefix + "_segmentSort", segments, sortedIndices, segmentBits);
+        taskGraph.task(prefix + "_gather", PrimitiveKernels::gatherSegmentedTopK, scores, segmentOffsets, sortedIndices, topScores, topIndices, numSegments, k);
+        return taskGraph;
+    }
+
+    /**
+     * Histogram of the keys: {@code bins[keys[i]]} is incremented by one for
+     * each element. Keys outside {@code [0, bins.getSize())} are ignored. The
+     * counts are added to the current values of the bins. The number of bins of
+     * each pass is derived from the local memory of the default device; use
+     * {@link #getMaxLocalBins(TornadoDevice)} for another device.
+     *
+     * @param taskGraph
+     *     Task-graph to append the tasks to.
+     * @param gridScheduler
+     *     Grid scheduler in which the worker grids of the tasks are registered.
+     * @param prefix
+     *     Prefix for the names of the tasks.
+     * @param keys
+     *     Bin of each element.
+     * @param bins
+     *     Histogram bins.
+     * @return {@link TaskGraph}
+     */
+    public static TaskGraph histogram(TaskGraph taskGraph, GridScheduler gridScheduler, String prefix, IntArray keys, IntArray bins) {
+        return histogram(taskGraph, gridScheduler, prefix, keys, bins, getMaxLocalBins(getDefaultDevice()));
+    }
+
+    /**
+     * Histogram of the keys that accumulates at most {@code maxLocalBins} bins in
+     * local memory at a time. Histograms with more bins are computed in several
+     * passes over the keys.
+     *
+     * @param maxLocalBins
+     *     Maximum number of bins allocated in the local memory of a work-group.
+     * @return {@link TaskGraph}
+     */
+    public static TaskGraph histogram(TaskGraph taskGraph, GridScheduler gridScheduler, String prefix, IntArray keys, IntArray bins, int maxLocalBins) {
+        final int size = checkSizes(keys);
+        final int numBins = checkBins(bins.getSize(), maxLocalBins);
+        final int binsPerPass = Math.min(numBins, maxLocalBins);
+        final int numGroups = Math.min(numBlocks(size), MAX_HISTOGRAM_GROUPS);
+
+        KernelContext context = new KernelContext();
+        for (int pass = 0; pass * binsPerPass < numBins; pass++) {
+            String histogramTask = prefix + "_" + pass + "_histogram";
+            taskGraph.task(histogramTask, PrimitiveKernels::privatisedHistogram, context, keys, bins, size, pass * binsPerPass, binsPerPass, numBins);
+            gridScheduler.addWorkerGrid(taskGraph.getTaskGraphName() + "." + histogramTask, createWorkerGrid(numGroups));
+        }
+        return taskGraph;
+    }
+
+    /**
+     * Scatter-add: {@code bins[keys[i]] += values[i]} for each element. Keys
+     * outside {@code [0, bins.getSize())} are ignored. As for the histogram, the
+     * number of bins of each pass is derived from the local memory of the
+     * default device.
+     *
+     * @param taskGraph
+     *     Task-graph to append the tasks to.
+     * @param gridScheduler
+     *     Grid scheduler in which the worker grids of the tasks are registered.
+     * @param prefix
+     *     Prefix for the names of the tasks.
+     * @param keys
+     *     Bin of each element.
+     * @param values
+     *     Value of each element.
+     * @param bins
+     *     Bins to accumulate the values.
+     * @return {@link TaskGraph}
+     */
+    public static TaskGraph scatterAdd(TaskGraph taskGraph, GridScheduler gridScheduler, String prefix, IntArray keys, IntArray values, IntArray bins) {
+        return scatterAdd(taskGraph, gridScheduler, prefix, keys, values, bins, getMaxLocalBins(getDefaultDevice()));
+    }
+
+    /**
+     * Scatter-add that accumulates at most {@code maxLocalBins} bins in local
+     * memory at a time.
+     *
+     * @param maxLocalBins
+     *     Maximum number of bins allocated in the local memory of a work-group.
+     * @return {@link TaskGraph}
+     */
+    public static TaskGraph scatterAdd(TaskGraph taskGraph, GridScheduler gridScheduler, String prefix, IntArray keys, IntArray values, IntArray bins, int maxLocalBins) {
+        final int size = checkSizes(keys, values);
+        final int numBins = checkBins(bins.getSize(), maxLocalBins);
+        final int binsPerPass = Math.min(numBins, maxLocalBins);
+        final int numGroups = Math.min(numBlocks(size), MAX_HISTOGRAM_GROUPS);
+
+        KernelContext context = new KernelContext();
+        for (int pass = 0; pass * binsPerPass < numBins; pass++) {
+            String scatterTask = prefix + "_" + pass + "_scatter";
+            taskGraph.task(scatterTask, PrimitiveKernels::privatisedScatterAddInt, context, keys, values, bins, size, pass * binsPerPass, binsPerPass, numBins);
+            gridScheduler.addWorkerGrid(taskGraph.getTaskGraphName() + "." + scatterTask, createWorkerGrid(numGroups));
+        }
+        return taskGraph;
+    }
+
+    /**
+     * Scatter-add for float values. See
+     * {@link #scatterAdd(TaskGraph, GridScheduler, String, IntArray, IntArray, IntArray)}.
+     *
+     * @return {@link TaskGraph}
+     */
+    public static TaskGraph scatterAdd(TaskGraph taskGraph, GridScheduler gridScheduler, String prefix, IntArray keys, FloatArray values, FloatArray bins) {
+        return scatterAdd(taskGraph, gridScheduler, prefix, keys, values, bins, getMaxLocalFloatBins(getDefaultDevice()));
+    }
+
+    /**
+     * Scatter-add for float values. The bins of each work-group are merged by a
+     * second task, one thread per bin, so the result does not depend on the
+     * order of floating-point atomics.
+     *
+     * @param maxLocalBins
+     *     Maximum number of bins allocated in the local memory of a work-group.
+     * @return {@link TaskGraph}
+     */
+    public static TaskGraph scatterAdd(TaskGraph taskGraph, GridScheduler gridScheduler, String prefix, IntArray keys, FloatArray values, FloatArray bins, int maxLocalBins) {
+        final int size = keys.getSize();
+        checkSizes(size, values.getSize());
+        final int numBins = checkBins(bins.getSize(), maxLocalBins);
+        final int binsPerPass = Math.min(numBins, maxLocalBins);
+        final int numGroups = Math.min(numBlocks(size), MAX_HISTOGRAM_GROUPS);
+        FloatArray partials = new FloatArray(numGroups * binsPerPass);
+        taskGraph.transferToDevice(DataTransferMode.FIRST_EXECUTION, partials);
+
+        KernelContext context = new KernelContext();
+        for (int pass = 0; pass * binsPerPass < numBins; pass++) {
+            String scatterTask = prefix + "_" + pass + "_scatter";
+            taskGraph.task(scatterTask, PrimitiveKernels::privatisedScatterAddFloat, context, keys, values, partials, size, pass * binsPerPass, binsPerPass);
+            gridScheduler.addWorkerGrid(taskGraph.getTaskGraphName() + "." + scatterTask, createWorkerGrid(numGroups));
+            taskGraph.task(prefix + "_" + pass + "_merge", PrimitiveKernels::mergePartialsFloat, partials, bins, numGroups, pass * binsPerPass, binsPerPass, numBins);
+        }
+        return taskGraph;
+    }
+
+    /**
+     * Scatter-add for half-float values. See
+     * {@link #scatterAdd(TaskGraph, GridScheduler, String, IntArray, IntArray, IntArray)}.
+     *
+     * @return {@link TaskGraph}
+     */
+    public static TaskGraph scatterAdd(TaskGraph taskGraph, GridScheduler gridScheduler, String prefix, IntArray keys, HalfFloatArray values, HalfFloatArray bins) {
+        return scatterAdd(taskGraph, gridScheduler, prefix, keys, values, bins, getMaxLocalFloatBins(getDefaultDevice()));
+    }
+
+    /**
+     * Scatter-add for half-float values. The bins are accumulated in single
+     * precision and rounded to half precision once, when they are merged.
+     *
+     * @param maxLocalBins
+     *     Maximum number of bins allocated in the local memory of a work-group.
+     * @return {@link TaskGraph}
+     */
+    public static TaskGraph scatterAdd(TaskGraph taskGraph, GridScheduler gridScheduler, String prefix, IntArray keys, HalfFloatArray values, HalfFloatArray bins, int maxLocalBins) {
+        final int size = keys.getSize();
+        checkSizes(size, values.getSize());
+        final int numBins = checkBins(bins.getSize(), maxLocalBins);
+        final int binsPerPass = Math.min(numBins, maxLocalBins);
+        final int numGroups = Math.min(numBlocks(size), MAX_HISTOGRAM_GROUPS);
+        FloatArray partials = new FloatArray(numGroups * binsPerPass);
+        taskGraph.transferToDevice(DataTransferMode.FIRST_EXECUTION, partials);
+
+        KernelContext context = new KernelContext();
+        for (int pass = 0; pass * binsPerPass < numBins; pass++) {
+            String scatterTask = prefix + "_" + pass + "_scatter";
+            taskGraph.task(scatterTask, PrimitiveKernels::privatisedScatterAddHalf, context, keys, values, partials, size, pass * binsPerPass, binsPerPass);
+            gridScheduler.addWorkerGrid(taskGraph.getTaskGraphName() + "." + scatterTask, createWorkerGrid(numGroups));
+            taskGraph.task(prefix + "_" + pass + "_merge", PrimitiveKernels::mergePartialsHalf, partials, bins, numGroups, pass * binsPerPass, binsPerPass, numBins);
+        }
+        return taskGraph;
+    }
+
+    /**
+     * Maximum number of 4-byte bins of the histogram and scatter-add primitives
+     * that fit in the local memory of a device. The float and half-float
+     * scatter-add kernels also stage a block of keys and values in local
+     * memory, so they use {@link #getMaxLocalFloatBins(TornadoDevice)}.
+     *
+     * @param device
+     *     Device that runs the primitive.
+     * @return number of bins, to pass as {@code maxLocalBins}
+     */
+    public static int getMaxLocalBins(TornadoDevice device) {
+        return getMaxLocalBins(device, 0);
+    }
+
+    /**
+     * Maximum number of bins of the float and half-float scatter-add primitives
+     * that fit in the local memory of a device, after the staging arrays.
+     *
+     * @param device
+     *     Device that runs the primitive.
+     * @return number of bins, to pass as {@code maxLocalBins}
+     */
+    public static int getMaxLocalFloatBins(TornadoDevice device) {
+        return getMaxLocalBins(device, STAGING_BYTES);
+    }
+
+    private static int getMaxLocalBins(TornadoDevice device, int reservedBytes) {
+        long localMemorySize = (device == null) ? 0 : device.getDeviceLocalMemorySize();
+        long bins = (localMemorySize - reservedBytes) / Integer.BYTES;
+        if (bins < BLOCK_SIZE) {
+            // The device does not report its local memory size
+            return DEFAULT_LOCAL_BINS;
+        }
+        return (int) Math.min(bins, Integer.MAX_VALUE);
+    }
+
+    private static TornadoDevice getDefaultDevice() {
+        return TornadoRuntimeProvider.getTornadoRuntime().getDefaultDevice();
+    }
+
+    private static TaskGraph scan(TaskGraph taskGraph, GridScheduler gridScheduler, String prefix, IntArray input, IntArray output, int inclusive) {
+        final int size = checkSizes(input, output);
+        final int numBlocks = numBlocks(size);
+        IntArray blockSums = new IntArray(numBlocks);
+        taskGraph.transferToDevice(DataTransferMode.FIRST_EXECUTION, blockSums);
+
+        KernelContext context = new KernelContext();
+        String blockTask = prefix + "_block";
+        taskGraph.task(blockTask, PrimitiveKernels::blockScan, context, input, output, blockSums, size, inclusive);
+        gridScheduler.addWorkerGrid(taskGraph.getTaskGraphName() + "." + blockTask, createWorkerGrid(numBlocks));
+        taskGraph.task(prefix + "_sums", PrimitiveKernels::scanBlockSums, blockSums, numBlocks);
+        taskGraph.task(prefix + "_offsets", PrimitiveKernels::addBlockOffsets, output, blockSums, size);
+        return taskGraph;
+    }
+
+    /**
+     * Radix sort on the lowest {@code numBits} bits of the keys. The values are
+     * moved with the keys when they are not null.
+     */
+    private static TaskGraph radixSortPairs(TaskGraph taskGraph, GridScheduler gridScheduler, String prefix, IntArray keys, IntArray values, int numBits) {
+        final int size = keys.getSize();
+        if (numBits == 0) {
+            return taskGraph;
+        }
+        final int numBlocks = numBlocks(size);
+        IntArray swapKeys = new IntArray(size);
+        IntArray positions = new IntArray(size);
+        IntArray blockSums = new IntArray(numBlocks);
+        taskGraph.transferToDevice(DataTransferMode.FIRST_EXECUTION, swapKeys, positions, blockSums);
+        IntArray swapValues = null;
+        if (values != null) {
+            swapValues = new IntArray(size);
+            taskGraph.transferToDevice(DataTransferMode.FIRST_EXECUTION, swapValues);
+        }
+
+        KernelContext context = new KernelContext();
+        IntArray sourceKeys = keys;
+        IntArray destinationKeys = swapKeys;
+        IntArray sourceValues = values;
+        IntArray destinationValues = swapValues;
+        for (int bit = 0; bit < numBits; bit++) {
+            String passPrefix = prefix + "_" + bit;
+            String blockTask = passPrefix + "_block";
+            taskGraph.task(blockTask, PrimitiveKernels::blockScanRadix, context, sourceKeys, positions, blockSums, size, bit);
+            gridScheduler.addWorkerGrid(taskGraph.getTaskGraphName() + "." + blockTask, createWorkerGrid(numBlocks));
+            taskGraph.task(passPrefix + "_sums", PrimitiveKernels::scanBlockSums, blockSums, numBlocks);
+            taskGraph.task(passPrefix + "_offsets", PrimitiveKernels::addBlockOffsets, positions, blockSums, size);
+            if (values == null) {
+                taskGraph.task(passPrefix + "_scatter", PrimitiveKernels::scatterRadix, sourceKeys, positions, destinationKeys, size, bit);
+            } else {
+                taskGraph.task(passPrefix + "_scatter", PrimitiveKernels::scatterRadixPairs, sourceKeys, sourceValues, positions, destinationKeys, destinationValues, size, bit);
+                IntArray tmp = sourceValues;
+                sourceValues = destinationValues;
+                destinationValues = tmp;
+            }
+            IntArray tmp = sourceKeys;
+            sourceKeys = destinationKeys;
+            destinationKeys = tmp;
+        }
+        // After an odd number of passes the sorted data is in the swap buffers
+        if (numBits % 2 == 1) {
+            taskGraph.task(prefix + "_copyKeys", PrimitiveKernels::copyKeys, swapKeys, keys, size);
+            if (values != null) {
+                taskGraph.task(prefix + "_copyValues", PrimitiveKernels::copyKeys, swapValues, values, size);
+            }
+        }
+        return taskGraph;
+    }
+
+    private static void checkTopK(int k, int maxK, int numSegments, FloatArray topScores, IntArray topIndices) {
+        if (k <= 0 || k > maxK) {
+            throw new IllegalArgumentException("Invalid number of elements to select: " + k);
+        }
+        final long outputSize = (long) numSegments * k;
+        if (topScores.getSize() != outputSize || topIndices.getSize() != outputSize) {
+            throw new IllegalArgumentException("The top-k output arrays must have " + outputSize + " elements");
+        }
+    }
+
+    private static WorkerGrid createWorkerGrid(int numBlocks) {
+        WorkerGrid workerGrid = new WorkerGrid1D(numBlocks * BLOCK_SIZE);
+        workerGrid.setLocalWork(BLOCK_SIZE, 1, 1);
+        return workerGrid;
+    }
+
+    private static int numBlocks(int size) {
+        return (size + BLOCK_SIZE - 1) / BLOCK_SIZE;
+    }
+
+    private static void checkNotEmpty(int size) {
+        if (size == 0) {
+            throw new IllegalArgumentException("The primitives require non-empty arrays");
+        }
+    }
+
+    private static void checkSizes(int size, int otherSize) {
+        checkNotEmpty(size);
+        if (size != otherSize) {
+            throw new IllegalArgumentException("The arrays of a primitive must have the same size: " + size + " != " + otherSize);
+        }
+    }
+
+    private static int checkBins(int numBins, int maxLocalBins) {
+        if (numBins == 0) {
+            throw new IllegalArgumentException("The histogram requires at least one bin");
+        }
+        if (maxLocalBins <= 0) {
+            throw new IllegalArgumentException("The number of local bins must be positive: " + maxLocalBins);
+        }
+        return numBins;
+    }
+
+    private static int checkSizes(IntArray... arrays) {
+        final int size = arrays[0].getSize();
+        if (size == 0) {
+            throw new IllegalArgumentException("The primitives require non-empty arrays");
+        }
+        for (IntArray array : arrays) {
+            if (array.getSize() != size) {
+                throw new IllegalArgumentException("The arrays of a primitive must have the same size: " + size + " != " + array.getSize());
+            }
+        }
+        return size;
+    }
+}
@@ -0,0 +1,652 @@
+/*
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.api.primitives;
+
+import uk.ac.manchester.tornado.api.KernelContext;
+import uk.ac.manchester.tornado.api.annotations.Parallel;
+import uk.ac.manchester.tornado.api.types.HalfFloat;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.api.types.arrays.HalfFloatArray;
+import uk.ac.manchester.tornado.api.types.arrays.IntArray;
+
+/**
+ * Kernels used by {@link ParallelPrimitives}. Each block of
+ * {@link #BLOCK_SIZE} elements is scanned in local memory by one work-group,
+ * the totals of the blocks are scanned by a single thread, and the scanned
+ * totals are added back to every element of the block.
+ *
+ * <p>
+ * The histogram kernels accumulate the bins of a range
+ * {@code [binStart, binStart + binsPerPass)} in local memory, so each
+ * work-group updates each global bin once.
+ * </p>
+ *
+ * <p>
+ * The top-k kernels select the best {@code k} elements of each block with a
+ * bitonic sort in local memory, so only {@code k} candidates per block are
+ * sorted device-wide.
+ * </p>
+ *
+ * <p>
+ * The kernels are public so they can be compiled by TornadoVM, but they are
+ * meant to be added to a task-graph through {@link ParallelPrimitives}.
+ * </p>
+ */
+public final class PrimitiveKernels {
+
+    /**
+     * Number of elements scanned by each work-group.
+     */
+    public static final int BLOCK_SIZE = 256;
+
+    private PrimitiveKernels() {
+    }
+
+    /**
+     * Scans a block of the input in local memory. The block totals are stored
+     * in {@code blockSums}.
+     *
+     * @param inclusive
+     *     1 for an inclusive scan, 0 for an exclusive scan.
+     */
+    public static void blockScan(KernelContext context, IntArray input, IntArray output, IntArray blockSums, int size, int inclusive) {
+        int globalIdx = context.globalIdx;
+        int localIdx = context.localIdx;
+        int localGroupSize = context.localGroupSizeX;
+
+        int[] values = context.allocateIntLocalArray(BLOCK_SIZE);
+        int value = 0;
+        if (globalIdx < size) {
+            value = input.get(globalIdx);
+        }
+        values[localIdx] = value;
+        context.localBarrier();
+
+        for (int offset = 1; offset < localGroupSize; offset *= 2) {
+            int partial = 0;
+            if (localIdx >= offset) {
+                partial = values[localIdx - offset];
+            }
+            context.localBarrier();
+            values[localIdx] += partial;
+            context.localBarrier();
+        }
+
+        if (globalIdx < size) {
+            if (inclusive == 1) {
+                output.set(globalIdx, values[localIdx]);
+            } else {
+                output.set(globalIdx, values[localIdx] - value);
+            }
+        }
+        if (localIdx == localGroupSize - 1) {
+            blockSums.set(context.groupIdx, values[localIdx]);
+        }
+    }
+
+    /**
+     * Exclusive scan of the flags of one radix pass. An element is flagged when
+     * it goes to the front of the output for the given bit.
+     */
+    public static void blockScanRadix(KernelContext context, IntArray keys, IntArray positions, IntArray blockSums, int size, int bit) {
+        int globalIdx = context.globalIdx;
+        int localIdx = context.localIdx;
+        int localGroupSize = context.localGroupSizeX;
+
+        int[] values = context.allocateIntLocalArray(BLOCK_SIZE);
+        int value = 0;
+        if (globalIdx < size) {
+            value = radixFlag(keys.get(globalIdx), bit);
+        }
+        values[localIdx] = value;
+        context.localBarrier();
+
+        for (int offset = 1; offset < localGroupSize; offset *= 2) {
+            int partial = 0;
+            if (localIdx >= offset) {
+                partial = values[localIdx - offset];
+            }
+            context.localBarrier();
+            values[localIdx] += partial;
+            context.localBarrier();
+        }
+
+        if (globalIdx < size) {
+            positions.set(globalIdx, values[localIdx] - value);
+        }
+        if (localIdx == localGroupSize - 1) {
+            blockSums.set(context.groupIdx, values[localIdx]);
+        }
+    }
+
+    /**
+     * Segmented inclusive scan of a block in local memory. A non-zero flag
+     * starts a new segment. {@code headSeen} records, for each element, whether
+     * a segment starts before it within its block, and {@code blockHeads} does
+     * the same for the whole block.
+     */
+    public static void blockSegmentedScan(KernelContext context, IntArray input, IntArray flags, IntArray output, IntArray headSeen, IntArray blockSums, IntArray blockHeads, int size) {
+        int globalIdx = context.globalIdx;
+        int localIdx = context.localIdx;
+        int localGroupSize = context.localGroupSizeX;
+
+        int[] values = context.allocateIntLocalArray(BLOCK_SIZE);
+        int[] heads = context.allocateIntLocalArray(BLOCK_SIZE);
+        values[localIdx] = 0;
+        heads[localIdx] = 0;
+        if (globalIdx < size) {
+            values[localIdx] = input.get(globalIdx);
+            if (flags.get(globalIdx) != 0) {
+                heads[localIdx] = 1;
+            }
+        }
+        context.localBarrier();
+
+        for (int offset = 1; offset < localGroupSize; offset *= 2) {
+            int partial = 0;
+            int partialHead = 0;
+            if (localIdx >= offset) {
+                partial = values[localIdx - offset];
+                partialHead = heads[localIdx - offset];
+            }
+            context.localBarrier();
+            if (heads[localIdx] == 0) {
+                values[localIdx] += partial;
+            }
+            heads[localIdx] |= partialHead;
+            context.localBarrier();
+        }
+
+        if (globalIdx < size) {
+            output.set(globalIdx, values[localIdx]);
+            headSeen.set(globalIdx, heads[localIdx]);
+        }
+        if (localIdx == localGroupSize - 1) {
+            blockSums.set(context.groupIdx, values[localIdx]);
+            blockHeads.set(context.groupIdx, heads[localIdx]);
+        }
+    }
+
+    /**
+     * Exclusive scan of the block totals, executed by a single thread.
+     */
+    public static void scanBlockSums(IntArray blockSums, int numBlocks) {
+        int acc = 0;
+        for (int i = 0; i < numBlocks; i++) {
+            int value = blockSums.get(i);
+            blockSums.set(i, acc);
+            acc += value;
+        }
+    }
+
+    /**
+     * Computes the value carried into each block of a segmented scan, executed
+     * by a single thread. The carry stops at the blocks that start a segment.
+     */
+    public static void scanSegmentedBlockSums(IntArray blockSums, IntArray blockHeads, int numBlocks) {
+        int carry = 0;
+        for (int i = 0; i < numBlocks; i++) {
+            int value = blockSums.get(i);
+            blockSums.set(i, carry);
+            if (blockHeads.get(i) != 0) {
+                carry = value;
+            } else {
+                carry += value;
+            }
+        }
+    }
+
+    public static void addBlockOffsets(IntArray output, IntArray blockOffsets, int size) {
+        for (@Parallel int i = 0; i < size; i++) {
+            output.set(i, output.get(i) + blockOffsets.get(i / BLOCK_SIZE));
+        }
+    }
+
+    public static void addSegmentedBlockOffsets(IntArray output, IntArray headSeen, IntArray blockOffsets, int size) {
+        for (@Parallel int i = 0; i < size; i++) {
+            if (headSeen.get(i) == 0) {
+                output.set(i, output.get(i) + blockOffsets.get(i / BLOCK_SIZE));
+            }
+        }
+    }
+
+    public static void scatterSelected(IntArray input, IntArray flags, IntArray positions, IntArray output, IntArray count, int size) {
+        for (@Parallel int i = 0; i < size; i++) {
+            if (flags.get(i) != 0) {
+                output.set(positions.get(i), input.get(i));
+            }
+            if (i == size - 1) {
+                count.set(0, positions.get(i) + flags.get(i));
+            }
+        }
+    }
+
+    public static void scatterRadix(IntArray keys, IntArray positions, IntArray output, int size, int bit) {
+        for (@Parallel int i = 0; i < size; i++) {
+            int numFront = positions.get(size - 1) + radixFlag(keys.get(size - 1), bit);
+            int key = keys.get(i);
+            int position = positions.get(i);
+            if (radixFlag(key, bit) == 1) {
+                output.set(position, key);
+            } else {
+                output.set(numFront + i - position, key);
+            }
+        }
+    }
+
+    /**
+     * Counts the keys of the bin range in local memory with local atomics, and
+     * adds the local counts to the global bins with one atomic per bin.
+     */
+    public static void privatisedHistogram(KernelContext context, IntArray keys, IntArray bins, int size, int binStart, int binsPerPass, int numBins) {
+        int localIdx = context.localIdx;
+        int localGroupSize = context.localGroupSizeX;
+
+        int[] localBins = context.allocateIntLocalArray(binsPerPass);
+        for (int b = localIdx; b < binsPerPass; b += localGroupSize) {
+            localBins[b] = 0;
+        }
+        context.localBarrier();
+
+        for (int i = context.globalIdx; i < size; i += context.globalGroupSizeX) {
+            int bin = keys.get(i) - binStart;
+            if (bin >= 0 && bin < binsPerPass) {
+                context.atomicAdd(localBins, bin, 1);
+            }
+        }
+        context.localBarrier();
+
+        for (int b = localIdx; b < binsPerPass && binStart + b < numBins; b += localGroupSize) {
+            int count = localBins[b];
+            if (count != 0) {
+                context.atomicAdd(bins, binStart + b, count);
+            }
+        }
+    }
+
+    /**
+     * Same as {@link #privatisedHistogram} but adds the given values instead of
+     * one.
+     */
+    public static void privatisedScatterAddInt(KernelContext context, IntArray keys, IntArray values, IntArray bins, int size, int binStart, int binsPerPass, int numBins) {
+        int localIdx = context.localIdx;
+        int localGroupSize = context.localGroupSizeX;
+
+        int[] localBins = context.allocateIntLocalArray(binsPerPass);
+        for (int b = localIdx; b < binsPerPass; b += localGroupSize) {
+            localBins[b] = 0;
+        }
+        context.localBarrier();
+
+        for (int i = context.globalIdx; i < size; i += context.globalGroupSizeX) {
+            int bin = keys.get(i) - binStart;
+            if (bin >= 0 && bin < binsPerPass) {
+                context.atomicAdd(localBins, bin, values.get(i));
+            }
+        }
+        context.localBarrier();
+
+        for (int b = localIdx; b < binsPerPass && binStart + b < numBins; b += localGroupSize) {
+            int sum = localBins[b];
+            if (sum != 0) {
+                context.atomicAdd(bins, binStart + b, sum);
+            }
+        }
+    }
+
+    /**
+     * Accumulates the values of the bin range in local memory and stores the
+     * bins of the work-group in {@code partials}. Floating-point atomics are not
+     * available on every backend, so the elements are staged in local memory
+     * one block at a time, sorted by bin with a bitonic sort, and reduced with a
+     * segmented scan. The last element of each run of equal bins then adds the
+     * sum of the run to its bin: a bin appears in one run per block, so the
+     * updates do not race. Each thread does O(log^2 localGroupSize) steps per
+     * block.
+     */
+    public static void privatisedScatterAddFloat(KernelContext context, IntArray keys, FloatArray values, FloatArray partials, int size, int binStart, int binsPerPass) {
+        int localIdx = context.localIdx;
+        int localGroupSize = context.localGroupSizeX;
+        int groupIdx = context.groupIdx;
+
+        float[] localBins = context.allocateFloatLocalArray(binsPerPass);
+        int[] localKeys = context.allocateIntLocalArray(BLOCK_SIZE);
+        float[] localValues = context.allocateFloatLocalArray(BLOCK_SIZE);
+        for (int b = localIdx; b < binsPerPass; b += localGroupSize) {
+            localBins[b] = 0.0f;
+        }
+
+        for (int base = groupIdx * localGroupSize; base < size; base += context.globalGroupSizeX) {
+            int i = base + localIdx;
+            context.localBarrier();
+            localKeys[localIdx] = -1;
+            localValues[localIdx] = 0.0f;
+            if (i < size) {
+                int bin = keys.get(i) - binStart;
+                if (bin >= 0 && bin < binsPerPass) {
+                    localKeys[localIdx] = bin;
+                    localValues[localIdx] = values.get(i);
+                }
+            }
+            context.localBarrier();
+
+            for (int width = 2; width <= localGroupSize; width *= 2) {
+                for (int stride = width / 2; stride > 0; stride /= 2) {
+                    int partner = localIdx ^ stride;
+                    if (partner > localIdx) {
+                        int key = localKeys[localIdx];
+                        int partnerKey = localKeys[partner];
+                        boolean ascending = (localIdx & width) == 0;
+                        if ((key > partnerKey) == ascending && key != partnerKey) {
+                            float value = localValues[localIdx];
+                            localKeys[localIdx] = partnerKey;
+                            localValues[localIdx] = localValues[partner];
+                            localKeys[partner] = key;
+                            localValues[partner] = value;
+                        }
+                    }
+                    context.localBarrier();
+                }
+            }
+
+            int key = localKeys[localIdx];
+            for (int offset = 1; offset < localGroupSize; offset *= 2) {
+                float previous = 0.0f;
+                if (localIdx >= offset && localKeys[localIdx - offset] == key) {
+                    previous = localValues[localIdx - offset];
+                }
+                context.localBarrier();
+                localValues[localIdx] += previous;
+                context.localBarrier();
+            }
+
+            boolean lastOfRun = localIdx == localGroupSize - 1 || localKeys[localIdx + 1] != key;
+            if (key >= 0 && lastOfRun) {
+                localBins[key] += localValues[localIdx];
+            }
+        }
+        context.localBarrier();
+
+        for (int b = localIdx; b < binsPerPass; b += localGroupSize) {
+            partials.set(groupIdx * binsPerPass + b, localBins[b]);
+        }
+    }
+
+    /**
+     * Half-float version of {@link #privatisedScatterAddFloat}. The bins are
+     * accumulated in single precision.
+     */
+    public static void privatisedScatterAddHalf(KernelContext context, IntArray keys, HalfFloatArray values, FloatArray partials, int size, int binStart, int binsPerPass) {
+        int localIdx = context.localIdx;
+        int localGroupSize = context.localGroupSizeX;
+        int groupIdx = context.groupIdx;
+
+        float[] localBins = context.allocateFloatLocalArray(binsPerPass);
+        int[] localKeys = context.allocateIntLocalArray(BLOCK_SIZE);
+        float[] localValues = context.allocateFloatLocalArray(BLOCK_SIZE);
+        for (int b = localIdx; b < binsPerPass; b += localGroupSize) {
+            localBins[b] = 0.0f;
+        }
+
+        for (int base = groupIdx * localGroupSize; base < size; base += context.globalGroupSizeX) {
+            int i = base + localIdx;
+            context.localBarrier();
+            localKeys[localIdx] = -1;
+            localValues[localIdx] = 0.0f;
+            if (i < size) {
+                int bin = keys.get(i) - binStart;
+                if (bin >= 0 && bin < binsPerPass) {
+                    localKeys[localIdx] = bin;
+                    localValues[localIdx] = values.get(i).getFloat32();
+                }
+            }
+            context.localBarrier();
+
+            for (int width = 2; width <= localGroupSize; width *= 2) {
+                for (int stride = width / 2; stride > 0; stride /= 2) {
+                    int partner = localIdx ^ stride;
+                    if (partner > localIdx) {
+                        int key = localKeys[localIdx];
+                        int partnerKey = localKeys[partner];
+                        boolean ascending = (localIdx & width) == 0;
+                        if ((key > partnerKey) == ascending && key != partnerKey) {
+                            float value = localValues[localIdx];
+                            localKeys[localIdx] = partnerKey;
+                            localValues[localIdx] = localValues[partner];
+                            localKeys[partner] = key;
+                            localValues[partner] = value;
+                        }
+                    }
+                    context.localBarrier();
+                }
+            }
+
+            int key = localKeys[localIdx];
+            for (int offset = 1; offset < localGroupSize; offset *= 2) {
+                float previous = 0.0f;
+                if (localIdx >= offset && localKeys[localIdx - offset] == key) {
+                    previous = localValues[localIdx - offset];
+                }
+                context.localBarrier();
+                localValues[localIdx] += previous;
+                context.localBarrier();
+            }
+
+            boolean lastOfRun = localIdx == localGroupSize - 1 || localKeys[localIdx + 1] != key;
+            if (key >= 0 && lastOfRun) {
+                localBins[key] += localValues[localIdx];
+            }
+        }
+        context.localBarrier();
+
+        for (int b = localIdx; b < binsPerPass; b += localGroupSize) {
+            partials.set(groupIdx * binsPerPass + b, localBins[b]);
+        }
+    }
+
+    public static void mergePartialsFloat(FloatArray partials, FloatArray bins, int numGroups, int binStart, int binsPerPass, int numBins) {
+        for (@Parallel int b = 0; b < binsPerPass; b++) {
+            if (binStart + b < numBins) {
+                float sum = bins.get(binStart + b);
+                for (int g = 0; g < numGroups; g++) {
+                    sum += partials.get(g * binsPerPass + b);
+                }
+                bins.set(binStart + b, sum);
+            }
+        }
+    }
+
+    public static void mergePartialsHalf(FloatArray partials, HalfFloatArray bins, int numGroups, int binStart, int binsPerPass, int numBins) {
+        for (@Parallel int b = 0; b < binsPerPass; b++) {
+            if (binStart + b < numBins) {
+                float sum = bins.get(binStart + b).getFloat32();
+                for (int g = 0; g < numGroups; g++) {
+                    sum += partials.get(g * binsPerPass + b);
+                }
+                bins.set(binStart + b, new HalfFloat(sum));
+            }
+        }
+    }
+
+    public static void scatterRadixPairs(IntArray keys, IntArray values, IntArray positions, IntArray outputKeys, IntArray outputValues, int size, int bit) {
+        for (@Parallel int i = 0; i < size; i++) {
+            int numFront = positions.get(size - 1) + radixFlag(keys.get(size - 1), bit);
+            int key = keys.get(i);
+            int position = positions.get(i);
+            if (radixFlag(key, bit) == 0) {
+                position = numFront + i - position;
+            }
+            outputKeys.set(position, key);
+            outputValues.set(position, values.get(i));
+        }
+    }
+
+    public static void copyKeys(IntArray source, IntArray destination, int size) {
+        for (@Parallel int i = 0; i < size; i++) {
+            destination.set(i, source.get(i));
+        }
+    }
+
+    public static void initIndices(IntArray indices, int size) {
+        for (@Parallel int i = 0; i < size; i++) {
+            indices.set(i, i);
+        }
+    }
+
+    /**
+     * Maps each float to an int key with the same order, so the floats can be
+     * sorted with the int radix sort. The bits of the negative floats are
+     * flipped, except the sign bit.
+     *
+     * @param descending
+     *     1 to invert the order of the keys, 0 otherwise.
+     */
+    public static void floatToSortableKeys(FloatArray input, IntArray keys, int size, int descending) {
+        for (@Parallel int i = 0; i < size; i++) {
+            int bits = Float.floatToRawIntBits(input.get(i));
+            if (bits < 0) {
+                bits = bits ^ 0x7FFFFFFF;
+            }
+            if (descending == 1) {
+                bits = ~bits;
+            }
+            keys.set(i, bits);
+        }
+    }
+
+    /**
+     * Inverse of {@link #floatToSortableKeys} for ascending keys.
+     */
+    public static void sortableKeysToFloat(IntArray keys, FloatArray output, int size) {
+        for (@Parallel int i = 0; i < size; i++) {
+            int bits = keys.get(i);
+            if (bits < 0) {
+                bits = bits ^ 0x7FFFFFFF;
+            }
+            output.set(i, Float.intBitsToFloat(bits));
+        }
+    }
+
+    /**
+     * Sorts a block of keys in local memory with a bitonic sort, and writes the
+     * first {@code k} keys of the block and their indices. Keys with the same
+     * value are ordered by index, so the selection is deterministic.
+     */
+    public static void blockTopK(KernelContext context, IntArray keys, IntArray candidateKeys, IntArray candidateIndices, int size, int k) {
+        int globalIdx = context.globalIdx;
+        int localIdx = context.localIdx;
+        int localGroupSize = context.localGroupSizeX;
+
+        int[] localKeys = context.allocateIntLocalArray(BLOCK_SIZE);
+        int[] localIndices = context.allocateIntLocalArray(BLOCK_SIZE);
+        if (globalIdx < size) {
+            localKeys[localIdx] = keys.get(globalIdx);
+            localIndices[localIdx] = globalIdx;
+        } else {
+            localKeys[localIdx] = Integer.MAX_VALUE;
+            localIndices[localIdx] = Integer.MAX_VALUE;
+        }
+        context.localBarrier();
+
+        for (int width = 2; width <= localGroupSize; width *= 2) {
+            for (int stride = width / 2; stride > 0; stride /= 2) {
+                int partner = localIdx ^ stride;
+                if (partner > localIdx) {
+                    int key = localKeys[localIdx];
+                    int index = localIndices[localIdx];
+                    int partnerKey = localKeys[partner];
+                    int partnerIndex = localIndices[partner];
+                    boolean greater = key > partnerKey || (key == partnerKey && index > partnerIndex);
+                    boolean ascending = (localIdx & width) == 0;
+                    if (greater == ascending) {
+                        localKeys[localIdx] = partnerKey;
+                        localIndices[localIdx] = partnerIndex;
+                        localKeys[partner] = key;
+                        localIndices[partner] = index;
+                    }
+                }
+                context.localBarrier();
+            }
+        }
+
+        if (localIdx < k) {
+            int position = context.groupIdx * k + localIdx;
+            candidateKeys.set(position, localKeys[localIdx]);
+            candidateIndices.set(position, localIndices[localIdx]);
+        }
+    }
+
+    public static void gatherTopK(FloatArray scores, IntArray sortedIndices, FloatArray topScores, IntArray topIndices, int k) {
+        for (@Parallel int i = 0; i < k; i++) {
+            int index = sortedIndices.get(i);
+            topIndices.set(i, index);
+            topScores.set(i, scores.get(index));
+        }
+    }
+
+    /**
+     * Finds the segment of each element with a binary search over the segment
+     * offsets.
+     */
+    public static void segmentKeys(IntArray segmentOffsets, IntArray indices, IntArray segments, int numSegments, int size) {
+        for (@Parallel int i = 0; i < size; i++) {
+            int index = indices.get(i);
+            int low = 0;
+            int high = numSegments - 1;
+            while (low < high) {
+                int middle = (low + high + 1) / 2;
+                if (segmentOffsets.get(middle) <= index) {
+                    low = middle;
+                } else {
+                    high = middle - 1;
+                }
+            }
+            segments.set(i, low);
+        }
+    }
+
+    /**
+     * Copies the first {@code k} elements of each segment. The slots of the
+     * segments with fewer than {@code k} elements are filled with index -1 and
+     * a score of negative infinity.
+     */
+    public static void gatherSegmentedTopK(FloatArray scores, IntArray segmentOffsets, IntArray sortedIndices, FloatArray topScores, IntArray topIndices, int numSegments, int k) {
+        for (@Parallel int i = 0; i < numSegments * k; i++) {
+            int segment = i / k;
+            int rank = i % k;
+            int start = segmentOffsets.get(segment);
+            if (start + rank < segmentOffsets.get(segment + 1)) {
+                int index = sortedIndices.get(start + rank);
+                topIndices.set(i, index);
+                topScores.set(i, scores.get(index));
+            } else {
+                topIndices.set(i, -1);
+                topScores.set(i, Float.NEGATIVE_INFINITY);
+            }
+        }
+    }
+
+    private static int radixFlag(int key, int bit) {
+        int value = (key >>> bit) & 1;
+        // Keys with the sign bit set are negative, so they go first
+        if (bit == 31) {
+            return value;
+        }
+        return 1 - value;
+    }
+}
@@ -0,0 +1,399 @@
+/*
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.api.primitives;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.stream.IntStream;
+
+import uk.ac.manchester.tornado.api.math.TornadoMath;
+import uk.ac.manchester.tornado.api.types.HalfFloat;
+import uk.ac.manchester.tornado.api.types.arrays.ByteArray;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.api.types.arrays.HalfFloatArray;
+import uk.ac.manchester.tornado.api.types.arrays.IntArray;
+import uk.ac.manchester.tornado.api.types.sparse.CSRMatrixFloat;
+
+/**
+ * Implementations of the primitives in {@link ParallelPrimitives},
+ * {@link FusedPrimitives}, {@link QuantizedPrimitives},
+ * {@link SparsePrimitives} and {@link ReducePrimitives} that run on the JVM. They are used to validate the
+ * results computed on the device. The sort and top-k methods use the parallel
+ * sorts of {@link Arrays}, and the quantised and sparse multiplications use
+ * parallel streams over the rows of the matrices.
+ */
+public final class PrimitivesReference {
+
+    private PrimitivesReference() {
+    }
+
+    public static void inclusiveScan(IntArray input, IntArray output) {
+        int acc = 0;
+        for (int i = 0; i < input.getSize(); i++) {
+            acc += input.get(i);
+            output.set(i, acc);
+        }
+    }
+
+    public static void exclusiveScan(IntArray input, IntArray output) {
+        int acc = 0;
+        for (int i = 0; i < input.getSize(); i++) {
+            int value = input.get(i);
+            output.set(i, acc);
+            acc += value;
+        }
+    }
+
+    public static void segmentedInclusiveScan(IntArray input, IntArray flags, IntArray output) {
+        int acc = 0;
+        for (int i = 0; i < input.getSize(); i++) {
+            if (flags.get(i) != 0) {
+                acc = 0;
+            }
+            acc += input.get(i);
+            output.set(i, acc);
+        }
+    }
+
+    /**
+     * @return the number of selected elements.
+     */
+    public static int compact(IntArray input, IntArray flags, IntArray output) {
+        int count = 0;
+        for (int i = 0; i < input.getSize(); i++) {
+            if (flags.get(i) != 0) {
+                output.set(count++, input.get(i));
+            }
+        }
+        return count;
+    }
+
+    public static void sort(IntArray keys) {
+        int[] values = keys.toHeapArray();
+        Arrays.parallelSort(values);
+        for (int i = 0; i < values.length; i++) {
+            keys.set(i, values[i]);
+        }
+    }
+
+    public static void sort(FloatArray keys) {
+        float[] values = keys.toHeapArray();
+        Arrays.parallelSort(values);
+        for (int i = 0; i < values.length; i++) {
+            keys.set(i, values[i]);
+        }
+    }
+
+    /**
+     * Stable sort of the keys that applies the same permutation to the values.
+     */
+    public static void sortPairs(IntArray keys, IntArray values) {
+        Integer[] order = sortedOrder(keys.getSize(), (a, b) -> Integer.compare(keys.get(a), keys.get(b)));
+        permute(keys.toHeapArray(), values.toHeapArray(), order, keys, values);
+    }
+
+    /**
+     * Stable sort of the float keys that applies the same permutation to the
+     * values.
+     */
+    public static void sortPairs(FloatArray keys, IntArray values) {
+        Integer[] order = sortedOrder(keys.getSize(), (a, b) -> Float.compare(keys.get(a), keys.get(b)));
+        float[] sourceKeys = keys.toHeapArray();
+        int[] sourceValues = values.toHeapArray();
+        for (int i = 0; i < order.length; i++) {
+            keys.set(i, sourceKeys[order[i]]);
+            values.set(i, sourceValues[order[i]]);
+        }
+    }
+
+    /**
+     * Selects the {@code k} largest scores. Scores with the same value are
+     * ordered by index.
+     */
+    public static void topK(FloatArray scores, int k, FloatArray topScores, IntArray topIndices) {
+        Integer[] order = sortedOrder(scores.getSize(), (a, b) -> Float.compare(scores.get(b), scores.get(a)));
+        for (int i = 0; i < k; i++) {
+            topIndices.set(i, order[i]);
+            topScores.set(i, scores.get(order[i]));
+        }
+    }
+
+    /**
+     * Selects the {@code k} largest scores of each segment. The missing elements
+     * of the short segments receive the index -1 and a score of negative
+     * infinity.
+     */
+    public static void segmentedTopK(FloatArray scores, IntArray segmentOffsets, int k, FloatArray topScores, IntArray topIndices) {
+        IntStream.range(0, segmentOffsets.getSize() - 1).parallel().forEach(segment -> {
+            int start = segmentOffsets.get(segment);
+            Integer[] order = new Integer[segmentOffsets.get(segment + 1) - start];
+            for (int i = 0; i < order.length; i++) {
+                order[i] = start + i;
+            }
+            Arrays.sort(order, (a, b) -> Float.compare(scores.get(b), scores.get(a)));
+            for (int rank = 0; rank < k; rank++) {
+                int position = segment * k + rank;
+                if (rank < order.length) {
+                    topIndices.set(position, order[rank]);
+                    topScores.set(position, scores.get(order[rank]));
+                } else {
+                    topIndices.set(position, -1);
+                    topScores.set(position, Float.NEGATIVE_INFINITY);
+                }
+            }
+        });
+    }
+
+    public static void histogram(IntArray keys, IntArray bins) {
+        for (int i = 0; i < keys.getSize(); i++) {
+            int bin = keys.get(i);
+            if (bin >= 0 && bin < bins.getSize()) {
+                bins.set(bin, bins.get(bin) + 1);
+            }
+        }
+    }
+
+    public static void scatterAdd(IntArray keys, IntArray values, IntArray bins) {
+        for (int i = 0; i < keys.getSize(); i++) {
+            int bin = keys.get(i);
+            if (bin >= 0 && bin < bins.getSize()) {
+                bins.set(bin, bins.get(bin) + values.get(i));
+            }
+        }
+    }
+
+    public static void scatterAdd(IntArray keys, FloatArray values, FloatArray bins) {
+        for (int i = 0; i < keys.getSize(); i++) {
+            int bin = keys.get(i);
+            if (bin >= 0 && bin < bins.getSize()) {
+                bins.set(bin, bins.get(bin) + values.get(i));
+            }
+        }
+    }
+
+    /**
+     * The bins are accumulated in single precision, as on the device.
+     */
+    public static void scatterAdd(IntArray keys, HalfFloatArray values, HalfFloatArray bins) {
+        float[] sums = new float[bins.getSize()];
+        for (int b = 0; b < sums.length; b++) {
+            sums[b] = bins.get(b).getFloat32();
+        }
+        for (int i = 0; i < keys.getSize(); i++) {
+            int bin = keys.get(i);
+            if (bin >= 0 && bin < sums.length) {
+                sums[bin] += values.get(i).getFloat32();
+            }
+        }
+        for (int b = 0; b < sums.length; b++) {
+            bins.set(b, new HalfFloat(sums[b]));
+        }
+    }
+
+    public static void argMax(FloatArray input, FloatArray maxValue, IntArray maxIndex) {
+        int index = 0;
+        for (int i = 1; i < input.getSize(); i++) {
+            if (input.get(i) > input.get(index)) {
+                index = i;
+            }
+        }
+        maxValue.set(0, input.get(index));
+        maxIndex.set(0, index);
+    }
+
+    public static void argMin(FloatArray input, FloatArray minValue, IntArray minIndex) {
+        int index = 0;
+        for (int i = 1; i < input.getSize(); i++) {
+            if (input.get(i) < input.get(index)) {
+                index = i;
+            }
+        }
+        minValue.set(0, input.get(index));
+        minIndex.set(0, index);
+    }
+
+    /**
+     * Mean and population variance, computed in double precision with a
+     * separate pass for the variance.
+     */
+    public static void meanVariance(FloatArray input, FloatArray mean, FloatArray variance) {
+        final int size = input.getSize();
+        double sum = 0.0;
+        for (int i = 0; i < size; i++) {
+            sum += input.get(i);
+        }
+        double average = sum / size;
+        double squares = 0.0;
+        for (int i = 0; i < size; i++) {
+            double delta = input.get(i) - average;
+            squares += delta * delta;
+        }
+        mean.set(0, (float) average);
+        variance.set(0, (float) (squares / size));
+    }
+
+    /**
+     * Softmax of each row of {@code cols} elements, computed in double
+     * precision with a separate pass for the maximum and the sum.
+     */
+    public static void softmax(FloatArray input, FloatArray output, int cols) {
+        for (int offset = 0; offset < input.getSize(); offset += cols) {
+            double max = Double.NEGATIVE_INFINITY;
+            for (int i = 0; i < cols; i++) {
+                max = Math.max(max, input.get(offset + i));
+            }
+            double sum = 0.0;
+            for (int i = 0; i < cols; i++) {
+                sum += Math.exp(input.get(offset + i) - max);
+            }
+            for (int i = 0; i < cols; i++) {
+                output.set(offset + i, (float) (Math.exp(input.get(offset + i) - max) / sum));
+            }
+        }
+    }
+
+    public static void layerNorm(FloatArray input, FloatArray gamma, FloatArray beta, FloatArray output, int cols, float epsilon) {
+        for (int offset = 0; offset < input.getSize(); offset += cols) {
+            double mean = 0.0;
+            for (int i = 0; i < cols; i++) {
+                mean += input.get(offset + i);
+            }
+            mean /= cols;
+            double variance = 0.0;
+            for (int i = 0; i < cols; i++) {
+                double delta = input.get(offset + i) - mean;
+                variance += delta * delta;
+            }
+            variance /= cols;
+            double invStdDev = 1.0 / Math.sqrt(variance + epsilon);
+            for (int i = 0; i < cols; i++) {
+                output.set(offset + i, (float) ((input.get(offset + i) - mean) * invStdDev * gamma.get(i) + beta.get(i)));
+            }
+        }
+    }
+
+    public static void rmsNorm(FloatArray input, FloatArray weight, FloatArray output, int cols, float epsilon) {
+        for (int offset = 0; offset < input.getSize(); offset += cols) {
+            double sumSquares = 0.0;
+            for (int i = 0; i < cols; i++) {
+                double value = input.get(offset + i);
+                sumSquares += value * value;
+            }
+            double scale = 1.0 / Math.sqrt(sumSquares / cols + epsilon);
+            for (int i = 0; i < cols; i++) {
+                output.set(offset + i, (float) (input.get(offset + i) * scale * weight.get(i)));
+            }
+        }
+    }
+
+    public static void gelu(FloatArray input, FloatArray output) {
+        for (int i = 0; i < input.getSize(); i++) {
+            output.set(i, (float) TornadoMath.gelu((double) input.get(i)));
+        }
+    }
+
+    public static void silu(FloatArray input, FloatArray output) {
+        for (int i = 0; i < input.getSize(); i++) {
+            output.set(i, (float) TornadoMath.silu((double) input.get(i)));
+        }
+    }
+
+    public static void swiGlu(FloatArray gate, FloatArray up, FloatArray output) {
+        for (int i = 0; i < gate.getSize(); i++) {
+            output.set(i, (float) (TornadoMath.silu((double) gate.get(i)) * up.get(i)));
+        }
+    }
+
+    /**
+     * Quantised matrix-vector multiplication. Each row of the weights is
+     * dequantised once, and the rows are processed in parallel.
+     */
+    public static void gemv(QuantizedLayout layout, ByteArray weights, FloatArray input, FloatArray output, int rows, int cols) {
+        IntStream.range(0, rows).parallel().forEach(r -> {
+            float[] row = new float[cols];
+            layout.dequantizeRow(weights, rows, cols, r, row);
+            output.set(r, dot(row, input, 0));
+        });
+    }
+
+    /**
+     * Quantised matrix multiplication with the transposed weights for
+     * {@code n} input vectors. Each row of the weights is dequantised once, and
+     * the rows are processed in parallel.
+     */
+    public static void gemm(QuantizedLayout layout, ByteArray weights, FloatArray input, FloatArray output, int rows, int cols, int n) {
+        IntStream.range(0, rows).parallel().forEach(r -> {
+            float[] row = new float[cols];
+            layout.dequantizeRow(weights, rows, cols, r, row);
+            for (int i = 0; i < n; i++) {
+                output.set(i * rows + r, dot(row, input, i * cols));
+            }
+        });
+    }
+
+    /**
+     * Sparse matrix-vector multiplication, with the rows processed in parallel.
+     */
+    public static void spmv(CSRMatrixFloat matrix, FloatArray x, FloatArray y) {
+        spmm(matrix, x, y, 1);
+    }
+
+    /**
+     * Sparse matrix-dense matrix multiplication with row-major dense matrices
+     * of {@code k} columns, with the rows processed in parallel.
+     */
+    public static void spmm(CSRMatrixFloat matrix, FloatArray x, FloatArray y, int k) {
+        final IntArray rowOffsets = matrix.getRowOffsets();
+        final IntArray colIndices = matrix.getColIndices();
+        final FloatArray values = matrix.getValues();
+        IntStream.range(0, matrix.getRows()).parallel().forEach(r -> {
+            for (int j = 0; j < k; j++) {
+                float sum = 0.0f;
+                for (int i = rowOffsets.get(r); i < rowOffsets.get(r + 1); i++) {
+                    sum += values.get(i) * x.get(colIndices.get(i) * k + j);
+                }
+                y.set(r * k + j, sum);
+            }
+        });
+    }
+
+    private static float dot(float[] row, FloatArray input, int offset) {
+        float sum = 0.0f;
+        for (int k = 0; k < row.length; k++) {
+            sum += row[k] * input.get(offset + k);
+        }
+        return sum;
+    }
+
+    private static Integer[] sortedOrder(int size, Comparator<Integer> comparator) {
+        Integer[] order = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        // The parallel sort of objects is stable
+        Arrays.parallelSort(order, comparator);
+        return order;
+    }
+
+    private static void permute(int[] sourceKeys, int[] sourceValues, Integer[] order, IntArray keys, IntArray values) {
+        for (int i = 0; i < order.length; i++) {
+            keys.set(i, sourceKeys[order[i]]);
+            values.set(i, sourceValues[order[i]]);
+        }
+    }
+}
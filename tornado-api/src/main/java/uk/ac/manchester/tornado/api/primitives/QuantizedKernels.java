@@ -0,0 +1,207 @@
+/*
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.api.primitives;
+
+import static uk.ac.manchester.tornado.api.primitives.PrimitiveKernels.BLOCK_SIZE;
+
+import uk.ac.manchester.tornado.api.KernelContext;
+import uk.ac.manchester.tornado.api.annotations.Parallel;
+import uk.ac.manchester.tornado.api.types.arrays.ByteArray;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+
+/**
+ * Kernels used by {@link QuantizedPrimitives}. The weights are dequantised in
+ * registers or local memory while they are multiplied, so the full-precision
+ * matrix is never written to global memory.
+ *
+ * <p>
+ * The position of the scales and quantised weights in the {@link ByteArray}
+ * is given by the strides and offsets of the {@link QuantizedLayout}, so the
+ * same kernels handle interleaved and planar scales. {@code bits} is 8 for
+ * Q8_0 and 4 for Q4_0.
+ * </p>
+ *
+ * <p>
+ * The kernels are public so they can be compiled by TornadoVM, but they are
+ * meant to be added to a task-graph through {@link QuantizedPrimitives}.
+ * </p>
+ */
+public final class QuantizedKernels {
+
+    /**
+     * Number of rows and columns of the output tile of a work-group in
+     * {@link #gemm}.
+     */
+    public static final int TILE_SIZE = 16;
+
+    /**
+     * Number of elements of the reduction dimension loaded in local memory per
+     * iteration of {@link #gemm}.
+     */
+    public static final int K_TILE_SIZE = 32;
+
+    // One padding element per row of the tiles avoids bank conflicts
+    private static final int TILE_STRIDE = K_TILE_SIZE + 1;
+
+    private QuantizedKernels() {
+    }
+
+    /**
+     * Matrix-vector multiplication: {@code output[r] = sum(W[r][k] * input[k])}.
+     * Each row is processed by one work-group. The threads of the work-group
+     * read consecutive groups of 4 bytes of the row, which hold 4 (Q8_0) or 8
+     * (Q4_0) weights of the same block, so the reads of the weights are
+     * coalesced. The partial dot products are reduced within each subgroup and
+     * then in local memory.
+     */
+    public static void gemv(KernelContext context, ByteArray weights, FloatArray input, FloatArray output, int cols, int bits, int blockSize, int quantStride, int quantOffset,
+            int scaleStride, int scaleOffset) {
+        int localIdx = context.localIdx;
+        int groupSize = context.localGroupSizeX;
+        int subgroupSize = context.getSubgroupSize();
+        int row = context.groupIdx;
+
+        float[] partialSum = context.allocateFloatLocalArray(BLOCK_SIZE);
+
+        int blocksPerRow = cols / blockSize;
+        int groupsPerBlock = blockSize * bits / 32;
+        int half = blockSize / 2;
+
+        float sum = 0.0f;
+        for (int g = localIdx; g < blocksPerRow * groupsPerBlock; g += groupSize) {
+            int b = g / groupsPerBlock;
+            int byteInBlock = (g % groupsPerBlock) * 4;
+            int block = row * blocksPerRow + b;
+            float scale = weights.getHalfFloat(block * scaleStride + scaleOffset).getFloat32();
+            int quantBase = block * quantStride + quantOffset + byteInBlock;
+            int inputBase = b * blockSize + byteInBlock;
+
+            // The quantised weights are integers, so the scale is applied once per group
+            float dot = 0.0f;
+            if (bits == 8) {
+                for (int k = 0; k < 4; k++) {
+                    dot += weights.get(quantBase + k) * input.get(inputBase + k);
+                }
+            } else {
+                for (int k = 0; k < 4; k++) {
+                    int packed = weights.get(quantBase + k) & 0xFF;
+                    dot += ((packed & 0x0F) - 8) * input.get(inputBase + k) + ((packed >> 4) - 8) * input.get(inputBase + half + k);
+                }
+            }
+            sum += scale * dot;
+        }
+
+        sum = context.subgroupReduceAdd(sum);
+        if (context.getSubgroupLocalId() == 0) {
+            partialSum[localIdx / subgroupSize] = sum;
+        }
+        context.localBarrier();
+
+        if (localIdx == 0) {
+            int numSubgroups = (groupSize + subgroupSize - 1) / subgroupSize;
+            float total = 0.0f;
+            for (int s = 0; s < numSubgroups; s++) {
+                total += partialSum[s];
+            }
+            output.set(row, total);
+        }
+    }
+
+    /**
+     * Matrix multiplication with the transposed weights:
+     * {@code output[i][r] = sum(input[i][k] * W[r][k])}, where {@code input} has
+     * {@code n} rows. Each work-group computes a tile of
+     * {@link #TILE_SIZE}x{@link #TILE_SIZE} outputs. For every
+     * {@link #K_TILE_SIZE} elements of the reduction dimension, the work-group
+     * dequantises the weights of its tile and loads the inputs into local
+     * memory, and then each thread accumulates its output from local memory.
+     */
+    public static void gemm(KernelContext context, ByteArray weights, FloatArray input, FloatArray output, int rows, int cols, int n, int bits, int blockSize, int quantStride,
+            int quantOffset, int scaleStride, int scaleOffset) {
+        int tx = context.localIdx;
+        int ty = context.localIdy;
+        int firstRow = context.groupIdx * TILE_SIZE;
+        int firstInput = context.groupIdy * TILE_SIZE;
+        int linearId = ty * TILE_SIZE + tx;
+
+        float[] weightTile = context.allocateFloatLocalArray(TILE_SIZE * TILE_STRIDE);
+        float[] inputTile = context.allocateFloatLocalArray(TILE_SIZE * TILE_STRIDE);
+
+        int blocksPerRow = cols / blockSize;
+        float sum = 0.0f;
+        for (int k0 = 0; k0 < cols; k0 += K_TILE_SIZE) {
+            // Consecutive threads load consecutive elements of a row
+            for (int e = linearId; e < TILE_SIZE * K_TILE_SIZE; e += TILE_SIZE * TILE_SIZE) {
+                int tileRow = e / K_TILE_SIZE;
+                int tileCol = e % K_TILE_SIZE;
+                int k = k0 + tileCol;
+
+                int weightRow = firstRow + tileRow;
+                float weight = 0.0f;
+                if (weightRow < rows && k < cols) {
+                    weight = dequantizeWeight(weights, bits, blockSize, quantStride, quantOffset, scaleStride, scaleOffset, weightRow * blocksPerRow + k / blockSize, k % blockSize);
+                }
+                weightTile[tileRow * TILE_STRIDE + tileCol] = weight;
+
+                int inputRow = firstInput + tileRow;
+                float value = 0.0f;
+                if (inputRow < n && k < cols) {
+                    value = input.get(inputRow * cols + k);
+                }
+                inputTile[tileRow * TILE_STRIDE + tileCol] = value;
+            }
+            context.localBarrier();
+
+            for (int k = 0; k < K_TILE_SIZE; k++) {
+                sum += weightTile[tx * TILE_STRIDE + k] * inputTile[ty * TILE_STRIDE + k];
+            }
+            context.localBarrier();
+        }
+
+        int row = firstRow + tx;
+        int inputRow = firstInput + ty;
+        if (row < rows && inputRow < n) {
+            output.set(inputRow * rows + row, sum);
+        }
+    }
+
+    /**
+     * Dequantises a matrix of {@code cols} columns into {@code output}.
+     */
+    public static void dequantize(ByteArray weights, FloatArray output, int cols, int bits, int blockSize, int quantStride, int quantOffset, int scaleStride, int scaleOffset) {
+        for (@Parallel int i = 0; i < output.getSize(); i++) {
+            int row = i / cols;
+            int col = i % cols;
+            output.set(i, dequantizeWeight(weights, bits, blockSize, quantStride, quantOffset, scaleStride, scaleOffset, row * (cols / blockSize) + col / blockSize, col % blockSize));
+        }
+    }
+
+    private static float dequantizeWeight(ByteArray weights, int bits, int blockSize, int quantStride, int quantOffset, int scaleStride, int scaleOffset, int block, int j) {
+        float scale = weights.getHalfFloat(block * scaleStride + scaleOffset).getFloat32();
+        int quantBase = block * quantStride + quantOffset;
+        int quant;
+        if (bits == 8) {
+            quant = weights.get(quantBase + j);
+        } else {
+            int half = blockSize / 2;
+            int packed = weights.get(quantBase + (j % half)) & 0xFF;
+            quant = ((j < half) ? (packed & 0x0F) : (packed >> 4)) - 8;
+        }
+        return scale * quant;
+    }
+}
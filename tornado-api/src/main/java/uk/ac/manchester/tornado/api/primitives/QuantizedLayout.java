@@ -0,0 +1,316 @@
+/*
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.api.primitives;
+
+import java.util.Objects;
+
+import uk.ac.manchester.tornado.api.types.HalfFloat;
+import uk.ac.manchester.tornado.api.types.arrays.ByteArray;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+
+/**
+ * Layout of a block-quantised matrix stored in a {@link ByteArray}. Each row
+ * is split in blocks of {@link #getBlockSize()} weights that share one
+ * half-float scale, and the weight {@code w} of a block is stored as an integer
+ * {@code q} with {@code w = scale * q}.
+ *
+ * <ul>
+ * <li>{@link Format#Q8_0}: one signed byte per weight.</li>
+ * <li>{@link Format#Q4_0}: two weights per byte, stored as {@code q + 8}. The
+ * low nibbles of a block hold its first half, and the high nibbles its second
+ * half.</li>
+ * </ul>
+ *
+ * <p>
+ * With {@link ScalePlacement#INTERLEAVED}, each block is stored as its scale
+ * followed by its quantised weights, as in the GGUF files ({@link #q8_0()} and
+ * {@link #q4_0()}). With {@link ScalePlacement#PLANAR}, the quantised weights of
+ * all the blocks are stored first, followed by all the scales.
+ * </p>
+ */
+public final class QuantizedLayout {
+
+    /**
+     * Number of weights per block of the GGUF formats.
+     */
+    public static final int DEFAULT_BLOCK_SIZE = 32;
+
+    private static final int SCALE_BYTES = 2;
+
+    private final Format format;
+    private final int blockSize;
+    private final ScalePlacement scalePlacement;
+
+    private QuantizedLayout(Format format, int blockSize, ScalePlacement scalePlacement) {
+        this.format = format;
+        this.blockSize = blockSize;
+        this.scalePlacement = scalePlacement;
+    }
+
+    /**
+     * Q8_0 blocks of 32 weights with interleaved scales (34 bytes per block).
+     *
+     * @return {@link QuantizedLayout}
+     */
+    public static QuantizedLayout q8_0() {
+        return of(Format.Q8_0, DEFAULT_BLOCK_SIZE, ScalePlacement.INTERLEAVED);
+    }
+
+    /**
+     * Q4_0 blocks of 32 weights with interleaved scales (18 bytes per block).
+     *
+     * @return {@link QuantizedLayout}
+     */
+    public static QuantizedLayout q4_0() {
+        return of(Format.Q4_0, DEFAULT_BLOCK_SIZE, ScalePlacement.INTERLEAVED);
+    }
+
+    /**
+     * @param format
+     *     {@link Format}
+     * @param blockSize
+     *     Number of weights per block. It must be a positive multiple of 8, so
+     *     the scales are aligned to 2 bytes and the quantised weights of a
+     *     block can be read in groups of 4 bytes.
+     * @param scalePlacement
+     *     {@link ScalePlacement}
+     * @return {@link QuantizedLayout}
+     */
+    public static QuantizedLayout of(Format format, int blockSize, ScalePlacement scalePlacement) {
+        Objects.requireNonNull(format);
+        Objects.requireNonNull(scalePlacement);
+        if (blockSize <= 0 || blockSize % 8 != 0) {
+            throw new IllegalArgumentException("The block size must be a positive multiple of 8: " + blockSize);
+        }
+        return new QuantizedLayout(format, blockSize, scalePlacement);
+    }
+
+    public Format getFormat() {
+        return format;
+    }
+
+    public int getBlockSize() {
+        return blockSize;
+    }
+
+    public ScalePlacement getScalePlacement() {
+        return scalePlacement;
+    }
+
+    /**
+     * @return number of bytes of the quantised weights of a block.
+     */
+    public int getQuantBytesPerBlock() {
+        return blockSize * format.getBitsPerWeight() / Byte.SIZE;
+    }
+
+    /**
+     * @return number of bytes of a block, including its scale.
+     */
+    public int getBytesPerBlock() {
+        return getQuantBytesPerBlock() + SCALE_BYTES;
+    }
+
+    /**
+     * @return number of bytes of a matrix of {@code rows x cols} weights.
+     */
+    public int getNumBytes(int rows, int cols) {
+        checkColumns(cols);
+        return rows * (cols / blockSize) * getBytesPerBlock();
+    }
+
+    /**
+     * Distance, in bytes, between the quantised weights of two consecutive
+     * blocks.
+     */
+    int getQuantStride() {
+        return scalePlacement == ScalePlacement.INTERLEAVED ? getBytesPerBlock() : getQuantBytesPerBlock();
+    }
+
+    /**
+     * Position, in bytes, of the quantised weights of the first block.
+     */
+    int getQuantOffset() {
+        return scalePlacement == ScalePlacement.INTERLEAVED ? SCALE_BYTES : 0;
+    }
+
+    /**
+     * Distance, in bytes, between the scales of two consecutive blocks.
+     */
+    int getScaleStride() {
+        return scalePlacement == ScalePlacement.INTERLEAVED ? getBytesPerBlock() : SCALE_BYTES;
+    }
+
+    /**
+     * Position, in bytes, of the scale of the first block of a matrix with
+     * {@code numBlocks} blocks.
+     */
+    int getScaleOffset(int numBlocks) {
+        return scalePlacement == ScalePlacement.INTERLEAVED ? 0 : numBlocks * getQuantBytesPerBlock();
+    }
+
+    void checkColumns(int cols) {
+        if (cols <= 0 || cols % blockSize != 0) {
+            throw new IllegalArgumentException("The number of columns (" + cols + ") must be a multiple of the block size (" + blockSize + ")");
+        }
+    }
+
+    /**
+     * Quantises a row-major matrix of {@code rows x cols} weights on the JVM.
+     *
+     * @param weights
+     *     Weights in single precision.
+     * @param rows
+     *     Number of rows.
+     * @param cols
+     *     Number of columns. It must be a multiple of the block size.
+     * @return {@link ByteArray} with the quantised matrix.
+     */
+    public ByteArray quantize(FloatArray weights, int rows, int cols) {
+        if (weights.getSize() != rows * cols) {
+            throw new IllegalArgumentException("The weights must have " + rows * cols + " elements");
+        }
+        ByteArray data = new ByteArray(getNumBytes(rows, cols));
+        final int numBlocks = rows * (cols / blockSize);
+        final int half = blockSize / 2;
+        for (int block = 0; block < numBlocks; block++) {
+            final int base = block * blockSize;
+            final int quantBase = block * getQuantStride() + getQuantOffset();
+            if (format == Format.Q8_0) {
+                float maxAbs = 0.0f;
+                for (int j = 0; j < blockSize; j++) {
+                    maxAbs = Math.max(maxAbs, Math.abs(weights.get(base + j)));
+                }
+                float scale = maxAbs / 127.0f;
+                float inverse = (scale == 0.0f) ? 0.0f : 1.0f / scale;
+                data.setHalfFloat(block * getScaleStride() + getScaleOffset(numBlocks), new HalfFloat(scale));
+                for (int j = 0; j < blockSize; j++) {
+                    data.set(quantBase + j, (byte) Math.round(weights.get(base + j) * inverse));
+                }
+            } else {
+                // The value with the largest magnitude is mapped to -8
+                float max = 0.0f;
+                for (int j = 0; j < blockSize; j++) {
+                    float value = weights.get(base + j);
+                    if (Math.abs(value) > Math.abs(max)) {
+                        max = value;
+                    }
+                }
+                float scale = max / -8.0f;
+                float inverse = (scale == 0.0f) ? 0.0f : 1.0f / scale;
+                data.setHalfFloat(block * getScaleStride() + getScaleOffset(numBlocks), new HalfFloat(scale));
+                for (int j = 0; j < half; j++) {
+                    int low = Math.min(15, (int) (weights.get(base + j) * inverse + 8.5f));
+                    int high = Math.min(15, (int) (weights.get(base + half + j) * inverse + 8.5f));
+                    data.set(quantBase + j, (byte) (low | (high << 4)));
+                }
+            }
+        }
+        return data;
+    }
+
+    /**
+     * Dequantises the row {@code row} of a matrix on the JVM.
+     *
+     * @param data
+     *     Quantised matrix.
+     * @param rows
+     *     Number of rows of the matrix.
+     * @param cols
+     *     Number of columns of the matrix.
+     * @param row
+     *     Row to dequantise.
+     * @param output
+     *     Array of at least {@code cols} elements.
+     */
+    public void dequantizeRow(ByteArray data, int rows, int cols, int row, float[] output) {
+        final int blocksPerRow = cols / blockSize;
+        final int numBlocks = rows * blocksPerRow;
+        final int half = blockSize / 2;
+        for (int b = 0; b < blocksPerRow; b++) {
+            final int block = row * blocksPerRow + b;
+            final float scale = data.getHalfFloat(block * getScaleStride() + getScaleOffset(numBlocks)).getFloat32();
+            final int quantBase = block * getQuantStride() + getQuantOffset();
+            final int base = b * blockSize;
+            if (format == Format.Q8_0) {
+                for (int j = 0; j < blockSize; j++) {
+                    output[base + j] = scale * data.get(quantBase + j);
+                }
+            } else {
+                for (int j = 0; j < half; j++) {
+                    int packed = data.get(quantBase + j) & 0xFF;
+                    output[base + j] = scale * ((packed & 0x0F) - 8);
+                    output[base + half + j] = scale * ((packed >> 4) - 8);
+                }
+            }
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof QuantizedLayout layout)) {
+            return false;
+        }
+        return format == layout.format && blockSize == layout.blockSize && scalePlacement == layout.scalePlacement;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(format, blockSize, scalePlacement);
+    }
+
+    @Override
+    public String toString() {
+        return format + "[blockSize=" + blockSize + ", scales=" + scalePlacement + "]";
+    }
+
+    /**
+     * Encoding of the quantised weights.
+     */
+    public enum Format {
+        Q8_0(8),
+        Q4_0(4);
+
+        private final int bitsPerWeight;
+
+        Format(int bitsPerWeight) {
+            this.bitsPerWeight = bitsPerWeight;
+        }
+
+        public int getBitsPerWeight() {
+            return bitsPerWeight;
+        }
+    }
+
+    /**
+     * Position of the scales of the blocks.
+     */
+    public enum ScalePlacement {
+        /**
+         * Each scale is stored before the weights of its block.
+         */
+        INTERLEAVED,
+        /**
+         * The scales are stored after the weights of all blocks.
+         */
+        PLANAR
+    }
+}
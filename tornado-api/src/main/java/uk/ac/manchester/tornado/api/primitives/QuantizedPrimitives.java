@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.api.primitives;
+
+import static uk.ac.manchester.tornado.api.primitives.PrimitiveKernels.BLOCK_SIZE;
+import static uk.ac.manchester.tornado.api.primitives.QuantizedKernels.TILE_SIZE;
+
+import uk.ac.manchester.tornado.api.GridScheduler;
+import uk.ac.manchester.tornado.api.KernelContext;
+import uk.ac.manchester.tornado.api.TaskGraph;
+import uk.ac.manchester.tornado.api.WorkerGrid;
+import uk.ac.manchester.tornado.api.WorkerGrid1D;
+import uk.ac.manchester.tornado.api.WorkerGrid2D;
+import uk.ac.manchester.tornado.api.types.arrays.ByteArray;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+
+/**
+ * Matrix-vector and matrix-matrix multiplications with block-quantised
+ * weights. The weights are a row-major matrix of {@code rows x cols} elements
+ * stored with a {@link QuantizedLayout}, and they are dequantised on the fly
+ * by the kernels. Like {@link ParallelPrimitives}, each method appends its task
+ * to a task-graph, and registers the worker grid of the task in the given
+ * {@link GridScheduler}.
+ *
+ * <p>
+ * The arrays must be registered in the task-graph by the caller. The weights
+ * are usually transferred once with {@code DataTransferMode.FIRST_EXECUTION}.
+ * </p>
+ *
+ * <p>
+ * Example:
+ * </p>
+ *
+ * <pre>
+ * QuantizedLayout layout = QuantizedLayout.q8_0();
+ * ByteArray weights = layout.quantize(matrix, rows, cols);
+ * TaskGraph taskGraph = new TaskGraph("s0") //
+ *         .transferToDevice(DataTransferMode.FIRST_EXECUTION, weights) //
+ *         .transferToDevice(DataTransferMode.EVERY_EXECUTION, x);
+ * GridScheduler gridScheduler = new GridScheduler();
+ * QuantizedPrimitives.gemv(taskGraph, gridScheduler, "gemv", layout, weights, x, y, rows, cols);
+ * taskGraph.transferToHost(DataTransferMode.EVERY_EXECUTION, y);
+ * </pre>
+ *
+ * {@link PrimitivesReference} provides parallel versions of the operations that
+ * run on the JVM.
+ */
+public final class QuantizedPrimitives {
+
+    private QuantizedPrimitives() {
+    }
+
+    /**
+     * Matrix-vector multiplication: {@code output[r] = sum(W[r][k] * input[k])}.
+     *
+     * @param taskGraph
+     *     Task-graph to append the task to.
+     * @param gridScheduler
+     *     Grid scheduler in which the worker grid of the task is registered.
+     * @param taskName
+     *     Name of the task.
+     * @param layout
+     *     Layout of the weights.
+     * @param weights
+     *     Quantised weights.
+     * @param input
+     *     Vector of {@code cols} elements.
+     * @param output
+     *     Vector of {@code rows} elements.
+     * @param rows
+     *     Number of rows of the weights.
+     * @param cols
+     *     Number of columns of the weights. It must be a multiple of the block
+     *     size.
+     * @return {@link TaskGraph}
+     */
+    public static TaskGraph gemv(TaskGraph taskGraph, GridScheduler gridScheduler, String taskName, QuantizedLayout layout, ByteArray weights, FloatArray input, FloatArray output,
+            int rows, int cols) {
+        checkWeights(layout, weights, rows, cols);
+        checkSize(input, cols, "input");
+        checkSize(output, rows, "output");
+        final int numBlocks = rows * (cols / layout.getBlockSize());
+        taskGraph.task(taskName, QuantizedKernels::gemv, new KernelContext(), weights, input, output, cols, layout.getFormat().getBitsPerWeight(), layout.getBlockSize(),
+                layout.getQuantStride(), layout.getQuantOffset(), layout.getScaleStride(), layout.getScaleOffset(numBlocks));
+        WorkerGrid workerGrid = new WorkerGrid1D(rows * BLOCK_SIZE);
+        workerGrid.setLocalWork(BLOCK_SIZE, 1, 1);
+        gridScheduler.addWorkerGrid(taskGraph.getTaskGraphName() + "." + taskName, workerGrid);
+        return taskGraph;
+    }
+
+    /**
+     * Matrix multiplication with the transposed weights:
+     * {@code output[i][r] = sum(input[i][k] * W[r][k])}. This is the projection
+     * of a batch of {@code n} input vectors.
+     *
+     * @param taskGraph
+     *     Task-graph to append the task to.
+     * @param gridScheduler
+     *     Grid scheduler in which the worker grid of the task is registered.
+     * @param taskName
+     *     Name of the task.
+     * @param layout
+     *     Layout of the weights.
+     * @param weights
+     *     Quantised weights.
+     * @param input
+     *     Row-major matrix of {@code n x cols} elements.
+     * @param output
+     *     Row-major matrix of {@code n x rows} elements.
+     * @param rows
+     *     Number of rows of the weights.
+     * @param cols
+     *     Number of columns of the weights. It must be a multiple of the block
+     *     size.
+     * @param n
+     *     Number of input vectors.
+     * @return {@link TaskGraph}
+     */
+    public static TaskGraph gemm(TaskGraph taskGraph, GridScheduler gridScheduler, String taskName, QuantizedLayout layout, ByteArray weights, FloatArray input, FloatArray output,
+            int rows, int cols, int n) {
+        checkWeights(layout, weights, rows, cols);
+        if (n <= 0) {
+            throw new IllegalArgumentException("The number of input vectors must be positive: " + n);
+        }
+        checkSize(input, n * cols, "input");
+        checkSize(output, n * rows, "output");
+        final int numBlocks = rows * (cols / layout.getBlockSize());
+        taskGraph.task(taskName, QuantizedKernels::gemm, new KernelContext(), weights, input, output, rows, cols, n, layout.getFormat().getBitsPerWeight(), layout.getBlockSize(),
+                layout.getQuantStride(), layout.getQuantOffset(), layout.getScaleStride(), layout.getScaleOffset(numBlocks));
+        WorkerGrid workerGrid = new WorkerGrid2D(roundUp(rows, TILE_SIZE), roundUp(n, TILE_SIZE));
+        workerGrid.setLocalWork(TILE_SIZE, TILE_SIZE, 1);
+        gridScheduler.addWorkerGrid(taskGraph.getTaskGraphName() + "." + taskName, workerGrid);
+        return taskGraph;
+    }
+
+    /**
+     * Dequantises the weights into a row-major matrix of {@code rows x cols}
+     * elements.
+     *
+     * @return {@link TaskGraph}
+     */
+    public static TaskGraph dequantize(TaskGraph taskGraph, String taskName, QuantizedLayout layout, ByteArray weights, FloatArray output, int rows, int cols) {
+        checkWeights(layout, weights, rows, cols);
+        checkSize(output, rows * cols, "output");
+        final int numBlocks = rows * (cols / layout.getBlockSize());
+        return taskGraph.task(taskName, QuantizedKernels::dequantize, weights, output, cols, layout.getFormat().getBitsPerWeight(), layout.getBlockSize(), layout.getQuantStride(),
+                layout.getQuantOffset(), layout.getScaleStride(), layout.getScaleOffset(numBlocks));
+    }
+
+    private static void checkWeights(QuantizedLayout layout, ByteArray weights, int rows, int cols) {
+        if (rows <= 0) {
+            throw new IllegalArgumentException("The number of rows must be positive: " + rows);
+        }
+        layout.checkColumns(cols);
+        final int numBytes = layout.getNumBytes(rows, cols);
+        if (weights.getSize() < numBytes) {
+            throw new IllegalArgumentException("The weights of a " + rows + "x" + cols + " matrix with layout " + layout + " need " + numBytes + " bytes");
+        }
+    }
+
+    private static void checkSize(FloatArray array, int size, String name) {
+        if (array.getSize() != size) {
+            throw new IllegalArgumentException("The " + name + " array must have " + size + " elements");
+        }
+    }
+
+    private static int roundUp(int value, int multiple) {
+        return (value + multiple - 1) / multiple * multiple;
+    }
+}
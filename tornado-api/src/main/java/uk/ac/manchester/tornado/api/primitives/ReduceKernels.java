@@ -0,0 +1,224 @@
+/*
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.api.primitives;
+
+import static uk.ac.manchester.tornado.api.primitives.PrimitiveKernels.BLOCK_SIZE;
+
+import uk.ac.manchester.tornado.api.KernelContext;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.api.types.arrays.IntArray;
+
+/**
+ * Kernels used by {@link ReducePrimitives}. Each reduction is defined by an
+ * identity and an associative combine method, and runs in two tasks. The
+ * work-groups of the first task reduce the elements in a grid-stride loop and
+ * combine the values of their threads in local memory. A single work-group of
+ * the second task combines the partial results of the work-groups with the
+ * same combine method.
+ *
+ * <p>
+ * The kernels are public so they can be compiled by TornadoVM, but they are
+ * meant to be added to a task-graph through {@link ReducePrimitives}.
+ * </p>
+ */
+public final class ReduceKernels {
+
+    private ReduceKernels() {
+    }
+
+    /**
+     * First task of argmax ({@code max} = 1) and argmin ({@code max} = 0). The
+     * identity is the index -1, which any element replaces.
+     */
+    public static void blockArg(KernelContext context, FloatArray input, FloatArray partialValues, IntArray partialIndices, int size, int max) {
+        int localIdx = context.localIdx;
+        float[] values = context.allocateFloatLocalArray(BLOCK_SIZE);
+        int[] indices = context.allocateIntLocalArray(BLOCK_SIZE);
+
+        float value = 0.0f;
+        int index = -1;
+        for (int i = context.globalIdx; i < size; i += context.globalGroupSizeX) {
+            float candidate = input.get(i);
+            if (selects(candidate, i, value, index, max)) {
+                value = candidate;
+                index = i;
+            }
+        }
+        values[localIdx] = value;
+        indices[localIdx] = index;
+
+        for (int stride = context.localGroupSizeX / 2; stride > 0; stride /= 2) {
+            context.localBarrier();
+            if (localIdx < stride && selects(values[localIdx + stride], indices[localIdx + stride], values[localIdx], indices[localIdx], max)) {
+                values[localIdx] = values[localIdx + stride];
+                indices[localIdx] = indices[localIdx + stride];
+            }
+        }
+        if (localIdx == 0) {
+            partialValues.set(context.groupIdx, values[0]);
+            partialIndices.set(context.groupIdx, indices[0]);
+        }
+    }
+
+    /**
+     * Second task of argmax and argmin: combines the partial results of the
+     * work-groups of {@link #blockArg}.
+     */
+    public static void mergeArg(KernelContext context, FloatArray partialValues, IntArray partialIndices, int numPartials, FloatArray result, IntArray resultIndex, int max) {
+        int localIdx = context.localIdx;
+        float[] values = context.allocateFloatLocalArray(BLOCK_SIZE);
+        int[] indices = context.allocateIntLocalArray(BLOCK_SIZE);
+
+        float value = 0.0f;
+        int index = -1;
+        for (int i = localIdx; i < numPartials; i += context.localGroupSizeX) {
+            float candidate = partialValues.get(i);
+            int candidateIndex = partialIndices.get(i);
+            if (selects(candidate, candidateIndex, value, index, max)) {
+                value = candidate;
+                index = candidateIndex;
+            }
+        }
+        values[localIdx] = value;
+        indices[localIdx] = index;
+
+        for (int stride = context.localGroupSizeX / 2; stride > 0; stride /= 2) {
+            context.localBarrier();
+            if (localIdx < stride && selects(values[localIdx + stride], indices[localIdx + stride], values[localIdx], indices[localIdx], max)) {
+                values[localIdx] = values[localIdx + stride];
+                indices[localIdx] = indices[localIdx + stride];
+            }
+        }
+        if (localIdx == 0) {
+            result.set(0, values[0]);
+            resultIndex.set(0, indices[0]);
+        }
+    }
+
+    /**
+     * First task of the mean and the variance. Each thread computes the count,
+     * the mean and the sum of squared deviations (M2) of its elements with
+     * Welford's algorithm, and the states are combined with the parallel
+     * formula of Chan et al. The identity is the empty state (count 0).
+     */
+    public static void blockMoments(KernelContext context, FloatArray input, FloatArray partialCounts, FloatArray partialMeans, FloatArray partialM2, int size) {
+        int localIdx = context.localIdx;
+        float[] counts = context.allocateFloatLocalArray(BLOCK_SIZE);
+        float[] means = context.allocateFloatLocalArray(BLOCK_SIZE);
+        float[] m2s = context.allocateFloatLocalArray(BLOCK_SIZE);
+
+        float count = 0.0f;
+        float mean = 0.0f;
+        float m2 = 0.0f;
+        for (int i = context.globalIdx; i < size; i += context.globalGroupSizeX) {
+            float value = input.get(i);
+            count += 1.0f;
+            float delta = value - mean;
+            mean += delta / count;
+            m2 += delta * (value - mean);
+        }
+        counts[localIdx] = count;
+        means[localIdx] = mean;
+        m2s[localIdx] = m2;
+
+        for (int stride = context.localGroupSizeX / 2; stride > 0; stride /= 2) {
+            context.localBarrier();
+            if (localIdx < stride) {
+                float otherCount = counts[localIdx + stride];
+                float otherMean = means[localIdx + stride];
+                m2s[localIdx] = combineM2(counts[localIdx], means[localIdx], m2s[localIdx], otherCount, otherMean, m2s[localIdx + stride]);
+                means[localIdx] = combineMean(counts[localIdx], means[localIdx], otherCount, otherMean);
+                counts[localIdx] += otherCount;
+            }
+        }
+        if (localIdx == 0) {
+            partialCounts.set(context.groupIdx, counts[0]);
+            partialMeans.set(context.groupIdx, means[0]);
+            partialM2.set(context.groupIdx, m2s[0]);
+        }
+    }
+
+    /**
+     * Second task of the mean and the variance: combines the partial states of
+     * the work-groups of {@link #blockMoments} and writes both outputs.
+     */
+    public static void mergeMoments(KernelContext context, FloatArray partialCounts, FloatArray partialMeans, FloatArray partialM2, int numPartials, FloatArray mean, FloatArray variance) {
+        int localIdx = context.localIdx;
+        float[] counts = context.allocateFloatLocalArray(BLOCK_SIZE);
+        float[] means = context.allocateFloatLocalArray(BLOCK_SIZE);
+        float[] m2s = context.allocateFloatLocalArray(BLOCK_SIZE);
+
+        float count = 0.0f;
+        float threadMean = 0.0f;
+        float m2 = 0.0f;
+        for (int i = localIdx; i < numPartials; i += context.localGroupSizeX) {
+            float otherCount = partialCounts.get(i);
+            float otherMean = partialMeans.get(i);
+            m2 = combineM2(count, threadMean, m2, otherCount, otherMean, partialM2.get(i));
+            threadMean = combineMean(count, threadMean, otherCount, otherMean);
+            count += otherCount;
+        }
+        counts[localIdx] = count;
+        means[localIdx] = threadMean;
+        m2s[localIdx] = m2;
+
+        for (int stride = context.localGroupSizeX / 2; stride > 0; stride /= 2) {
+            context.localBarrier();
+            if (localIdx < stride) {
+                float otherCount = counts[localIdx + stride];
+                float otherMean = means[localIdx + stride];
+                m2s[localIdx] = combineM2(counts[localIdx], means[localIdx], m2s[localIdx], otherCount, otherMean, m2s[localIdx + stride]);
+                means[localIdx] = combineMean(counts[localIdx], means[localIdx], otherCount, otherMean);
+                counts[localIdx] += otherCount;
+            }
+        }
+        if (localIdx == 0) {
+            mean.set(0, means[0]);
+            variance.set(0, m2s[0] / counts[0]);
+        }
+    }
+
+    /**
+     * Combine method of argmax and argmin: returns true if the element
+     * {@code (value, index)} replaces the current one. Ties select the lowest
+     * index, so the result does not depend on the order of the combines.
+     */
+    private static boolean selects(float value, int index, float current, int currentIndex, int max) {
+        if (index < 0) {
+            return false;
+        }
+        if (currentIndex < 0) {
+            return true;
+        }
+        if (value == current) {
+            return index < currentIndex;
+        }
+        return (max == 1) ? value > current : value < current;
+    }
+
+    private static float combineMean(float count, float mean, float otherCount, float otherMean) {
+        float total = count + otherCount;
+        return (total == 0.0f) ? 0.0f : mean + (otherMean - mean) * (otherCount / total);
+    }
+
+    private static float combineM2(float count, float mean, float m2, float otherCount, float otherMean, float otherM2) {
+        float total = count + otherCount;
+        float delta = otherMean - mean;
+        return (total == 0.0f) ? 0.0f : m2 + otherM2 + delta * delta * count * (otherCount / total);
+    }
+}
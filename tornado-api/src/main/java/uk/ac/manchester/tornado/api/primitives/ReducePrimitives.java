@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.api.primitives;
+
+import static uk.ac.manchester.tornado.api.primitives.PrimitiveKernels.BLOCK_SIZE;
+
+import uk.ac.manchester.tornado.api.GridScheduler;
+import uk.ac.manchester.tornado.api.KernelContext;
+import uk.ac.manchester.tornado.api.TaskGraph;
+import uk.ac.manchester.tornado.api.WorkerGrid;
+import uk.ac.manchester.tornado.api.WorkerGrid1D;
+import uk.ac.manchester.tornado.api.enums.DataTransferMode;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.api.types.arrays.IntArray;
+
+/**
+ * Reductions that {@code @Reduce} does not express: argmax, argmin, and the
+ * mean and the variance of an array computed in one pass. Each reduction is
+ * defined by an identity and an associative combine method over a state of
+ * one or more values (a value and its index, or the count, the mean and the
+ * sum of squared deviations), and runs in two tasks with the same combine
+ * method: one reduction per work-group and a final one over the partial
+ * results. Like {@link ParallelPrimitives}, each method appends its tasks to a
+ * task-graph and registers their worker grids in the given
+ * {@link GridScheduler}.
+ *
+ * <p>
+ * The input and output arrays must be registered in the task-graph by the
+ * caller. The outputs are arrays of one element. The temporary buffers are
+ * allocated by the primitives and live on the device.
+ * </p>
+ *
+ * <p>
+ * Example:
+ * </p>
+ *
+ * <pre>
+ * TaskGraph taskGraph = new TaskGraph("s0").transferToDevice(DataTransferMode.EVERY_EXECUTION, scores);
+ * GridScheduler gridScheduler = new GridScheduler();
+ * ReducePrimitives.argMax(taskGraph, gridScheduler, "argmax", scores, maxScore, maxIndex);
+ * taskGraph.transferToHost(DataTransferMode.EVERY_EXECUTION, maxScore, maxIndex);
+ * </pre>
+ *
+ * {@link PrimitivesReference} provides the sequential versions of the
+ * reductions to validate the results.
+ */
+public final class ReducePrimitives {
+
+    /**
+     * Maximum number of work-groups of the first task. The partial results fit
+     * in the local memory of the single work-group of the second task.
+     */
+    private static final int MAX_GROUPS = BLOCK_SIZE;
+
+    private ReducePrimitives() {
+    }
+
+    /**
+     * Largest element of the input and its index. If the largest value appears
+     * several times, the lowest index is selected.
+     *
+     * @param taskGraph
+     *     Task-graph to append the tasks to.
+     * @param gridScheduler
+     *     Grid scheduler in which the worker grids of the tasks are registered.
+     * @param prefix
+     *     Prefix for the names of the tasks.
+     * @param input
+     *     Input array. NaN values are not supported.
+     * @param maxValue
+     *     Array of one element that receives the largest value.
+     * @param maxIndex
+     *     Array of one element that receives the index of the largest value.
+     * @return {@link TaskGraph}
+     */
+    public static TaskGraph argMax(TaskGraph taskGraph, GridScheduler gridScheduler, String prefix, FloatArray input, FloatArray maxValue, IntArray maxIndex) {
+        return arg(taskGraph, gridScheduler, prefix, input, maxValue, maxIndex, 1);
+    }
+
+    /**
+     * Smallest element of the input and its index. If the smallest value
+     * appears several times, the lowest index is selected.
+     *
+     * @param taskGraph
+     *     Task-graph to append the tasks to.
+     * @param gridScheduler
+     *     Grid scheduler in which the worker grids of the tasks are registered.
+     * @param prefix
+     *     Prefix for the names of the tasks.
+     * @param input
+     *     Input array. NaN values are not supported.
+     * @param minValue
+     *     Array of one element that receives the smallest value.
+     * @param minIndex
+     *     Array of one element that receives the index of the smallest value.
+     * @return {@link TaskGraph}
+     */
+    public static TaskGraph argMin(TaskGraph taskGraph, GridScheduler gridScheduler, String prefix, FloatArray input, FloatArray minValue, IntArray minIndex) {
+        return arg(taskGraph, gridScheduler, prefix, input, minValue, minIndex, 0);
+    }
+
+    /**
+     * Mean and population variance of the input, computed in a single read of
+     * the input with Welford's algorithm. Unlike a sum of squares, it does not
+     * lose precision for inputs with a large mean.
+     *
+     * @param taskGraph
+     *     Task-graph to append the tasks to.
+     * @param gridScheduler
+     *     Grid scheduler in which the worker grids of the tasks are registered.
+     * @param prefix
+     *     Prefix for the names of the tasks.
+     * @param input
+     *     Input array.
+     * @param mean
+     *     Array of one element that receives the mean.
+     * @param variance
+     *     Array of one element that receives the variance.
+     * @return {@link TaskGraph}
+     */
+    public static TaskGraph meanVariance(TaskGraph taskGraph, GridScheduler gridScheduler, String prefix, FloatArray input, FloatArray mean, FloatArray variance) {
+        final int size = input.getSize();
+        checkNotEmpty(size);
+        checkScalar(mean.getSize());
+        checkScalar(variance.getSize());
+        final int numGroups = numGroups(size);
+        FloatArray partialCounts = new FloatArray(numGroups);
+        FloatArray partialMeans = new FloatArray(numGroups);
+        FloatArray partialM2 = new FloatArray(numGroups);
+        taskGraph.transferToDevice(DataTransferMode.FIRST_EXECUTION, partialCounts, partialMeans, partialM2);
+
+        KernelContext context = new KernelContext();
+        String blockTask = prefix + "_block";
+        taskGraph.task(blockTask, ReduceKernels::blockMoments, context, input, partialCounts, partialMeans, partialM2, size);
+        gridScheduler.addWorkerGrid(taskGraph.getTaskGraphName() + "." + blockTask, createWorkerGrid(numGroups));
+        String mergeTask = prefix + "_merge";
+        taskGraph.task(mergeTask, ReduceKernels::mergeMoments, context, partialCounts, partialMeans, partialM2, numGroups, mean, variance);
+        gridScheduler.addWorkerGrid(taskGraph.getTaskGraphName() + "." + mergeTask, createWorkerGrid(1));
+        return taskGraph;
+    }
+
+    private static TaskGraph arg(TaskGraph taskGraph, GridScheduler gridScheduler, String prefix, FloatArray input, FloatArray value, IntArray index, int max) {
+        final int size = input.getSize();
+        checkNotEmpty(size);
+        checkScalar(value.getSize());
+        checkScalar(index.getSize());
+        final int numGroups = numGroups(size);
+        FloatArray partialValues = new FloatArray(numGroups);
+        IntArray partialIndices = new IntArray(numGroups);
+        taskGraph.transferToDevice(DataTransferMode.FIRST_EXECUTION, partialValues, partialIndices);
+
+        KernelContext context = new KernelContext();
+        String blockTask = prefix + "_block";
+        taskGraph.task(blockTask, ReduceKernels::blockArg, context, input, partialValues, partialIndices, size, max);
+        gridScheduler.addWorkerGrid(taskGraph.getTaskGraphName() + "." + blockTask, createWorkerGrid(numGroups));
+        String mergeTask = prefix + "_merge";
+        taskGraph.task(mergeTask, ReduceKernels::mergeArg, context, partialValues, partialIndices, numGroups, value, index, max);
+        gridScheduler.addWorkerGrid(taskGraph.getTaskGraphName() + "." + mergeTask, createWorkerGrid(1));
+        return taskGraph;
+    }
+
+    private static WorkerGrid createWorkerGrid(int numGroups) {
+        WorkerGrid workerGrid = new WorkerGrid1D(numGroups * BLOCK_SIZE);
+        workerGrid.setLocalWork(BLOCK_SIZE, 1, 1);
+        return workerGrid;
+    }
+
+    private static int numGroups(int size) {
+        return Math.min((size + BLOCK_SIZE - 1) / BLOCK_SIZE, MAX_GROUPS);
+    }
+
+    private static void checkNotEmpty(int size) {
+        if (size == 0) {
+            throw new IllegalArgumentException("The primitives require non-empty arrays");
+        }
+    }
+
+    private static void checkScalar(int size) {
+        if (size != 1) {
+            throw new IllegalArgumentException("The output arrays of a reduction must have one element");
+        }
+    }
+}
@@ -0,0 +1,223 @@
+/*
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.api.primitives;
+
+import static uk.ac.manchester.tornado.api.primitives.PrimitiveKernels.BLOCK_SIZE;
+
+import uk.ac.manchester.tornado.api.KernelContext;
+import uk.ac.manchester.tornado.api.annotations.Parallel;
+import uk.ac.manchester.tornado.api.math.TornadoMath;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.api.types.arrays.IntArray;
+
+/**
+ * Kernels used by {@link SparsePrimitives}. The dense matrices of SpMM are
+ * row-major, so the threads that compute consecutive columns of an output row
+ * read consecutive elements of the input.
+ *
+ * <p>
+ * The kernels are public so they can be compiled by TornadoVM, but they are
+ * meant to be added to a task-graph through {@link SparsePrimitives}.
+ * </p>
+ */
+public final class SparseKernels {
+
+    /**
+     * Number of threads that process a row in {@link #csrSpmvVector}.
+     */
+    public static final int VECTOR_WIDTH = 32;
+
+    /**
+     * Number of rows processed by a work-group of {@link #csrSpmvVector}.
+     */
+    public static final int ROWS_PER_GROUP = BLOCK_SIZE / VECTOR_WIDTH;
+
+    private SparseKernels() {
+    }
+
+    public static void csrSpmvScalar(IntArray rowOffsets, IntArray colIndices, FloatArray values, FloatArray x, FloatArray y, int rows) {
+        for (@Parallel int r = 0; r < rows; r++) {
+            float sum = 0.0f;
+            for (int i = rowOffsets.get(r); i < rowOffsets.get(r + 1); i++) {
+                sum += values.get(i) * x.get(colIndices.get(i));
+            }
+            y.set(r, sum);
+        }
+    }
+
+    /**
+     * SpMV with {@link #VECTOR_WIDTH} threads per row. The threads of a row
+     * read consecutive elements, and their partial sums are reduced in local
+     * memory. The reduction does not depend on the subgroup size of the
+     * device.
+     */
+    public static void csrSpmvVector(KernelContext context, IntArray rowOffsets, IntArray colIndices, FloatArray values, FloatArray x, FloatArray y, int rows) {
+        int localIdx = context.localIdx;
+        int lane = localIdx % VECTOR_WIDTH;
+        int row = context.groupIdx * ROWS_PER_GROUP + localIdx / VECTOR_WIDTH;
+
+        float[] partialSum = context.allocateFloatLocalArray(BLOCK_SIZE);
+
+        float sum = 0.0f;
+        if (row < rows) {
+            for (int i = rowOffsets.get(row) + lane; i < rowOffsets.get(row + 1); i += VECTOR_WIDTH) {
+                sum += values.get(i) * x.get(colIndices.get(i));
+            }
+        }
+        partialSum[localIdx] = sum;
+
+        for (int stride = VECTOR_WIDTH / 2; stride > 0; stride /= 2) {
+            context.localBarrier();
+            if (lane < stride) {
+                partialSum[localIdx] += partialSum[localIdx + stride];
+            }
+        }
+
+        if (lane == 0 && row < rows) {
+            y.set(row, partialSum[localIdx]);
+        }
+    }
+
+    public static void csrSpmmScalar(IntArray rowOffsets, IntArray colIndices, FloatArray values, FloatArray x, FloatArray y, int rows, int k) {
+        for (@Parallel int r = 0; r < rows; r++) {
+            for (@Parallel int j = 0; j < k; j++) {
+                float sum = 0.0f;
+                for (int i = rowOffsets.get(r); i < rowOffsets.get(r + 1); i++) {
+                    sum += values.get(i) * x.get(colIndices.get(i) * k + j);
+                }
+                y.set(r * k + j, sum);
+            }
+        }
+    }
+
+    /**
+     * Merge-path SpMM (SpMV when {@code k} is 1). The merge of the row ends and
+     * the indices of the non-zero elements is split in segments of
+     * {@code itemsPerThread} items, one per thread. Each thread finds the start
+     * and end of its segment with a binary search, writes the rows that end in
+     * its segment, and stores the partial sum of the row that continues after
+     * its segment in {@code carryRows} and {@code carryValues}. The first row of
+     * a segment can be incomplete: the partial sums of the previous segments
+     * are added by {@link #mergePathFixUp}.
+     */
+    public static void mergePathSpmm(IntArray rowOffsets, IntArray colIndices, FloatArray values, FloatArray x, FloatArray y, IntArray carryRows, FloatArray carryValues, int rows,
+            int k, int itemsPerThread) {
+        for (@Parallel int t = 0; t < carryRows.getSize(); t++) {
+            for (@Parallel int j = 0; j < k; j++) {
+                int numNonZeros = rowOffsets.get(rows);
+                int diagonal = TornadoMath.min(t * itemsPerThread, rows + numNonZeros);
+                int diagonalEnd = TornadoMath.min(diagonal + itemsPerThread, rows + numNonZeros);
+                int row = mergePathSearch(rowOffsets, rows, numNonZeros, diagonal);
+                int rowEnd = mergePathSearch(rowOffsets, rows, numNonZeros, diagonalEnd);
+                int i = diagonal - row;
+                int iEnd = diagonalEnd - rowEnd;
+
+                float sum = 0.0f;
+                while (row < rowEnd) {
+                    int end = rowOffsets.get(row + 1);
+                    while (i < end) {
+                        sum += values.get(i) * x.get(colIndices.get(i) * k + j);
+                        i++;
+                    }
+                    y.set(row * k + j, sum);
+                    sum = 0.0f;
+                    row++;
+                }
+                while (i < iEnd) {
+                    sum += values.get(i) * x.get(colIndices.get(i) * k + j);
+                    i++;
+                }
+                carryValues.set(t * k + j, sum);
+                if (j == 0) {
+                    carryRows.set(t, rowEnd);
+                }
+            }
+        }
+    }
+
+    /**
+     * Adds the partial sums carried by the threads of {@link #mergePathSpmm}.
+     * The carries of a row come from consecutive threads, so the first of them
+     * adds all of them and no atomics are needed.
+     */
+    public static void mergePathFixUp(IntArray carryRows, FloatArray carryValues, FloatArray y, int rows, int k) {
+        for (@Parallel int t = 0; t < carryRows.getSize(); t++) {
+            for (@Parallel int j = 0; j < k; j++) {
+                int row = carryRows.get(t);
+                boolean first = t == 0 || carryRows.get(TornadoMath.max(t - 1, 0)) != row;
+                if (row < rows && first) {
+                    float sum = 0.0f;
+                    int s = t;
+                    while (s < carryRows.getSize() && carryRows.get(s) == row) {
+                        sum += carryValues.get(s * k + j);
+                        s++;
+                    }
+                    y.set(row * k + j, y.get(row * k + j) + sum);
+                }
+            }
+        }
+    }
+
+    public static void ellSpmv(IntArray colIndices, FloatArray values, FloatArray x, FloatArray y, int rows, int width) {
+        for (@Parallel int r = 0; r < rows; r++) {
+            float sum = 0.0f;
+            for (int k = 0; k < width; k++) {
+                int col = colIndices.get(k * rows + r);
+                if (col >= 0) {
+                    sum += values.get(k * rows + r) * x.get(col);
+                }
+            }
+            y.set(r, sum);
+        }
+    }
+
+    public static void sellSpmv(IntArray sliceOffsets, IntArray colIndices, FloatArray values, IntArray permutation, FloatArray x, FloatArray y, int rows, int sliceHeight) {
+        for (@Parallel int i = 0; i < rows; i++) {
+            int slice = i / sliceHeight;
+            int lane = i % sliceHeight;
+            int start = sliceOffsets.get(slice);
+            int width = (sliceOffsets.get(slice + 1) - start) / sliceHeight;
+            float sum = 0.0f;
+            for (int k = 0; k < width; k++) {
+                int col = colIndices.get(start + k * sliceHeight + lane);
+                if (col >= 0) {
+                    sum += values.get(start + k * sliceHeight + lane) * x.get(col);
+                }
+            }
+            y.set(permutation.get(i), sum);
+        }
+    }
+
+    /**
+     * Finds the row of the merge-path coordinate on a diagonal: the number of
+     * row ends consumed before the {@code diagonal}-th item of the merge.
+     */
+    private static int mergePathSearch(IntArray rowOffsets, int rows, int numNonZeros, int diagonal) {
+        int low = TornadoMath.max(diagonal - numNonZeros, 0);
+        int high = TornadoMath.min(diagonal, rows);
+        while (low < high) {
+            int pivot = (low + high) >> 1;
+            if (rowOffsets.get(pivot + 1) <= diagonal - pivot - 1) {
+                low = pivot + 1;
+            } else {
+                high = pivot;
+            }
+        }
+        return low;
+    }
+}
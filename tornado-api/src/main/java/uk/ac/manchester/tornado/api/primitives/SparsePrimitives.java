@@ -0,0 +1,223 @@
+/*
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.api.primitives;
+
+import static uk.ac.manchester.tornado.api.primitives.PrimitiveKernels.BLOCK_SIZE;
+import static uk.ac.manchester.tornado.api.primitives.SparseKernels.ROWS_PER_GROUP;
+
+import uk.ac.manchester.tornado.api.GridScheduler;
+import uk.ac.manchester.tornado.api.KernelContext;
+import uk.ac.manchester.tornado.api.TaskGraph;
+import uk.ac.manchester.tornado.api.WorkerGrid;
+import uk.ac.manchester.tornado.api.WorkerGrid1D;
+import uk.ac.manchester.tornado.api.enums.DataTransferMode;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.api.types.arrays.IntArray;
+import uk.ac.manchester.tornado.api.types.sparse.CSRMatrixFloat;
+import uk.ac.manchester.tornado.api.types.sparse.ELLMatrixFloat;
+import uk.ac.manchester.tornado.api.types.sparse.SELLMatrixFloat;
+
+/**
+ * Sparse matrix-vector (SpMV) and sparse matrix-dense matrix (SpMM)
+ * multiplications that run on any backend. Like {@link ParallelPrimitives},
+ * each method appends the tasks of the operation to a task-graph, and registers
+ * the worker grids of the tasks that use a {@link KernelContext} in the given
+ * {@link GridScheduler}.
+ *
+ * <p>
+ * For matrices in CSR format, the kernel is selected from the statistics of
+ * the row lengths with {@link SparseStrategy#select}, unless a strategy is
+ * given. The arrays of the matrix and the dense arrays must be registered in
+ * the task-graph by the caller, for example with
+ * {@code taskGraph.transferToDevice(DataTransferMode.FIRST_EXECUTION, matrix.getArrays())}.
+ * The temporary buffers of merge-path are allocated by the primitives and live
+ * on the device.
+ * </p>
+ *
+ * <p>
+ * Example:
+ * </p>
+ *
+ * <pre>
+ * CSRMatrixFloat matrix = cooMatrix.toCSR();
+ * TaskGraph taskGraph = new TaskGraph("s0") //
+ *         .transferToDevice(DataTransferMode.FIRST_EXECUTION, matrix.getArrays()) //
+ *         .transferToDevice(DataTransferMode.EVERY_EXECUTION, x);
+ * GridScheduler gridScheduler = new GridScheduler();
+ * SparsePrimitives.spmv(taskGraph, gridScheduler, "spmv", matrix, x, y);
+ * taskGraph.transferToHost(DataTransferMode.EVERY_EXECUTION, y);
+ * </pre>
+ *
+ * {@link PrimitivesReference} provides parallel versions of the operations that
+ * run on the JVM.
+ */
+public final class SparsePrimitives {
+
+    /**
+     * Minimum number of merge-path items (rows plus non-zero elements)
+     * processed by a thread.
+     */
+    public static final int MERGE_PATH_ITEMS_PER_THREAD = 32;
+
+    /**
+     * Maximum number of merge-path threads per column of the output. Larger
+     * matrices use more items per thread, which bounds the number of carries.
+     */
+    private static final int MAX_MERGE_PATH_THREADS = 1 << 16;
+
+    private SparsePrimitives() {
+    }
+
+    /**
+     * SpMV {@code y = A * x} with the strategy selected from the row lengths of
+     * {@code A}.
+     *
+     * @param taskGraph
+     *     Task-graph to append the tasks to.
+     * @param gridScheduler
+     *     Grid scheduler in which the worker grids of the tasks are registered.
+     * @param prefix
+     *     Prefix for the names of the tasks.
+     * @param matrix
+     *     Sparse matrix.
+     * @param x
+     *     Vector with one element per column of the matrix.
+     * @param y
+     *     Vector with one element per row of the matrix.
+     * @return {@link TaskGraph}
+     */
+    public static TaskGraph spmv(TaskGraph taskGraph, GridScheduler gridScheduler, String prefix, CSRMatrixFloat matrix, FloatArray x, FloatArray y) {
+        return spmv(taskGraph, gridScheduler, prefix, matrix, x, y, SparseStrategy.AUTO);
+    }
+
+    /**
+     * SpMV {@code y = A * x} with the given strategy.
+     *
+     * @return {@link TaskGraph}
+     */
+    public static TaskGraph spmv(TaskGraph taskGraph, GridScheduler gridScheduler, String prefix, CSRMatrixFloat matrix, FloatArray x, FloatArray y, SparseStrategy strategy) {
+        checkSize(x, matrix.getCols(), "x");
+        checkSize(y, matrix.getRows(), "y");
+        final int rows = matrix.getRows();
+        switch (resolve(strategy, matrix)) {
+            case SCALAR -> taskGraph.task(prefix, SparseKernels::csrSpmvScalar, matrix.getRowOffsets(), matrix.getColIndices(), matrix.getValues(), x, y, rows);
+            case VECTOR -> {
+                taskGraph.task(prefix, SparseKernels::csrSpmvVector, new KernelContext(), matrix.getRowOffsets(), matrix.getColIndices(), matrix.getValues(), x, y, rows);
+                WorkerGrid workerGrid = new WorkerGrid1D((rows + ROWS_PER_GROUP - 1) / ROWS_PER_GROUP * BLOCK_SIZE);
+                workerGrid.setLocalWork(BLOCK_SIZE, 1, 1);
+                gridScheduler.addWorkerGrid(taskGraph.getTaskGraphName() + "." + prefix, workerGrid);
+            }
+            default -> mergePath(taskGraph, prefix, matrix, x, y, 1);
+        }
+        return taskGraph;
+    }
+
+    /**
+     * SpMM {@code Y = A * X} with the strategy selected from the row lengths of
+     * {@code A}: merge-path for irregular matrices, and one thread per output
+     * element otherwise.
+     *
+     * @param taskGraph
+     *     Task-graph to append the tasks to.
+     * @param prefix
+     *     Prefix for the names of the tasks.
+     * @param matrix
+     *     Sparse matrix.
+     * @param x
+     *     Row-major dense matrix with {@code k} columns and one row per column
+     *     of the sparse matrix.
+     * @param y
+     *     Row-major dense matrix with {@code k} columns and one row per row of
+     *     the sparse matrix.
+     * @param k
+     *     Number of columns of the dense matrices.
+     * @return {@link TaskGraph}
+     */
+    public static TaskGraph spmm(TaskGraph taskGraph, String prefix, CSRMatrixFloat matrix, FloatArray x, FloatArray y, int k) {
+        return spmm(taskGraph, prefix, matrix, x, y, k, SparseStrategy.AUTO);
+    }
+
+    /**
+     * SpMM {@code Y = A * X} with the given strategy. {@link SparseStrategy#VECTOR}
+     * is not supported, because the threads of the columns of a row already
+     * read the input with coalesced accesses.
+     *
+     * @return {@link TaskGraph}
+     */
+    public static TaskGraph spmm(TaskGraph taskGraph, String prefix, CSRMatrixFloat matrix, FloatArray x, FloatArray y, int k, SparseStrategy strategy) {
+        if (k <= 0) {
+            throw new IllegalArgumentException("The number of columns of the dense matrices must be positive: " + k);
+        }
+        if (strategy == SparseStrategy.VECTOR) {
+            throw new IllegalArgumentException("The vector strategy is not supported by SpMM");
+        }
+        checkSize(x, matrix.getCols() * k, "x");
+        checkSize(y, matrix.getRows() * k, "y");
+        if (resolve(strategy, matrix) == SparseStrategy.MERGE_PATH) {
+            return mergePath(taskGraph, prefix, matrix, x, y, k);
+        }
+        return taskGraph.task(prefix, SparseKernels::csrSpmmScalar, matrix.getRowOffsets(), matrix.getColIndices(), matrix.getValues(), x, y, matrix.getRows(), k);
+    }
+
+    /**
+     * SpMV {@code y = A * x} for a matrix in ELLPACK format.
+     *
+     * @return {@link TaskGraph}
+     */
+    public static TaskGraph spmv(TaskGraph taskGraph, String taskName, ELLMatrixFloat matrix, FloatArray x, FloatArray y) {
+        checkSize(x, matrix.getCols(), "x");
+        checkSize(y, matrix.getRows(), "y");
+        return taskGraph.task(taskName, SparseKernels::ellSpmv, matrix.getColIndices(), matrix.getValues(), x, y, matrix.getRows(), matrix.getWidth());
+    }
+
+    /**
+     * SpMV {@code y = A * x} for a matrix in SELL-C-sigma format.
+     *
+     * @return {@link TaskGraph}
+     */
+    public static TaskGraph spmv(TaskGraph taskGraph, String taskName, SELLMatrixFloat matrix, FloatArray x, FloatArray y) {
+        checkSize(x, matrix.getCols(), "x");
+        checkSize(y, matrix.getRows(), "y");
+        return taskGraph.task(taskName, SparseKernels::sellSpmv, matrix.getSliceOffsets(), matrix.getColIndices(), matrix.getValues(), matrix.getPermutation(), x, y, matrix.getRows(),
+                matrix.getSliceHeight());
+    }
+
+    private static TaskGraph mergePath(TaskGraph taskGraph, String prefix, CSRMatrixFloat matrix, FloatArray x, FloatArray y, int k) {
+        final int rows = matrix.getRows();
+        final long numItems = (long) rows + matrix.getNumNonZeros();
+        final int itemsPerThread = (int) Math.max(MERGE_PATH_ITEMS_PER_THREAD, (numItems + MAX_MERGE_PATH_THREADS - 1) / MAX_MERGE_PATH_THREADS);
+        final int numThreads = (int) ((numItems + itemsPerThread - 1) / itemsPerThread);
+        IntArray carryRows = new IntArray(numThreads);
+        FloatArray carryValues = new FloatArray(numThreads * k);
+        taskGraph.transferToDevice(DataTransferMode.FIRST_EXECUTION, carryRows, carryValues);
+        taskGraph.task(prefix + "_merge", SparseKernels::mergePathSpmm, matrix.getRowOffsets(), matrix.getColIndices(), matrix.getValues(), x, y, carryRows, carryValues, rows, k,
+                itemsPerThread);
+        taskGraph.task(prefix + "_fixUp", SparseKernels::mergePathFixUp, carryRows, carryValues, y, rows, k);
+        return taskGraph;
+    }
+
+    private static SparseStrategy resolve(SparseStrategy strategy, CSRMatrixFloat matrix) {
+        return strategy == SparseStrategy.AUTO ? SparseStrategy.select(matrix.getRowStatistics()) : strategy;
+    }
+
+    private static void checkSize(FloatArray array, int size, String name) {
+        if (array.getSize() != size) {
+            throw new IllegalArgumentException("The " + name + " array must have " + size + " elements");
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.api.primitives;
+
+import uk.ac.manchester.tornado.api.types.sparse.SparseRowStatistics;
+
+/**
+ * Parallelisation strategy of the sparse multiplications of
+ * {@link SparsePrimitives} for matrices in CSR format.
+ */
+public enum SparseStrategy {
+
+    /**
+     * Selects the strategy with {@link #select(SparseRowStatistics)}.
+     */
+    AUTO,
+
+    /**
+     * One thread per row. Efficient for short rows of similar lengths.
+     */
+    SCALAR,
+
+    /**
+     * {@link SparseKernels#VECTOR_WIDTH} threads of a work-group per row, which
+     * read the row with coalesced accesses. Efficient for long rows.
+     */
+    VECTOR,
+
+    /**
+     * Merge-path: the rows and the non-zero elements are split evenly across
+     * the threads, so the work is balanced for any distribution of the row
+     * lengths. Each thread carries the partial sum of its last row, which is
+     * added in a second task.
+     */
+    MERGE_PATH;
+
+    /**
+     * Mean row length from which {@link #VECTOR} is selected.
+     */
+    public static final double VECTOR_MIN_MEAN_LENGTH = 16.0;
+
+    /**
+     * Coefficient of variation of the row lengths from which
+     * {@link #MERGE_PATH} is selected.
+     */
+    public static final double MERGE_PATH_MIN_VARIATION = 1.0;
+
+    /**
+     * Selects a strategy from the statistics of the row lengths: merge-path
+     * for irregular matrices (for example, with a power-law distribution of the
+     * row lengths), vector-per-row for long rows, and scalar otherwise.
+     *
+     * @param statistics
+     *     {@link SparseRowStatistics}
+     * @return {@link #SCALAR}, {@link #VECTOR} or {@link #MERGE_PATH}.
+     */
+    public static SparseStrategy select(SparseRowStatistics statistics) {
+        if (statistics.coefficientOfVariation() >= MERGE_PATH_MIN_VARIATION) {
+            return MERGE_PATH;
+        }
+        if (statistics.meanLength() >= VECTOR_MIN_MEAN_LENGTH) {
+            return VECTOR;
+        }
+        return SCALAR;
+    }
+}
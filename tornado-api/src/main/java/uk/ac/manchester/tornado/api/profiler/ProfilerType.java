@@ -36,6 +36,16 @@ public enum ProfilerType {
     ALLOCATION_BYTES("Allocation-(Bytes)"),
     TOTAL_COPY_IN_SIZE_BYTES("CopyIn-Size-(Bytes)"),
     TOTAL_COPY_OUT_SIZE_BYTES("CopyOut-Size-(Bytes)"),
+    TOTAL_COPY_DEVICE_SIZE_BYTES("CopyDevice-Size-(Bytes)"),
+    DEVICE_EVICTIONS("Device-Evictions"),
+    COMPRESSED_RAW_SIZE_BYTES("Compressed-Raw-Size-(Bytes)"),
+    COMPRESSED_ENCODED_SIZE_BYTES("Compressed-Encoded-Size-(Bytes)"),
+    SCHEDULER_WAIT_TIME("Scheduler-Wait-Time"),
+    SCHEDULER_QUEUE_DEPTH("Scheduler-Queue-Depth"),
+    PAGED_OUT_SIZE_BYTES("PagedOut-Size-(Bytes)"),
+    PAGED_IN_SIZE_BYTES("PagedIn-Size-(Bytes)"),
+    BATCH_SIZE_BYTES("Batch-Size-(Bytes)"),
+    BATCH_CHUNKS("Batch-Chunks"),
     TASK_COMPILE_DRIVER_TIME("Task-Compile-Driver"),
     TASK_COMPILE_GRAAL_TIME("Task-Compile-Graal"),
 
@@ -28,6 +28,8 @@ public class ExecutorFrame {
     private final long executionPlanId;
     private GridScheduler gridScheduler;
     private ProfilerMode profilerMode;
+    private int priority;
+    private int schedulingWeight = 1;
 
     public ExecutorFrame(long id) {
         this.executionPlanId = id;
@@ -59,4 +61,22 @@ public class ExecutorFrame {
     public ProfilerMode getProfilerMode() {
         return profilerMode;
     }
+
+    public ExecutorFrame setPriority(int priority) {
+        this.priority = priority;
+        return this;
+    }
+
+    public int getPriority() {
+        return priority;
+    }
+
+    public ExecutorFrame setSchedulingWeight(int schedulingWeight) {
+        this.schedulingWeight = schedulingWeight;
+        return this;
+    }
+
+    public int getSchedulingWeight() {
+        return schedulingWeight;
+    }
 }
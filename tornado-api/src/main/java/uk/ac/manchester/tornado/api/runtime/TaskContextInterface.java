@@ -22,6 +22,7 @@ import java.util.List;
 import uk.ac.manchester.tornado.api.common.TornadoDevice;
 import uk.ac.manchester.tornado.api.common.TornadoEvents;
 import uk.ac.manchester.tornado.api.enums.TornadoVMBackendType;
+import uk.ac.manchester.tornado.api.math.MathPolicy;
 
 public interface TaskContextInterface {
 
@@ -29,6 +30,8 @@ public interface TaskContextInterface {
 
     void setCompilerFlags(TornadoVMBackendType backendType, String flags);
 
+    void setMathPolicy(MathPolicy policy);
+
     void setGlobalWork(long[] global);
 
     void setLocalWork(long[] local);
@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.api.types.sparse;
+
+import java.util.Arrays;
+
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.api.types.arrays.IntArray;
+
+/**
+ * Sparse matrix in coordinate (COO) format: a list of
+ * {@code (row, column, value)} triplets in any order. It is the format used to
+ * build a matrix, and it is converted to {@link CSRMatrixFloat} with
+ * {@link #toCSR()} for the multiplications.
+ */
+public final class COOMatrixFloat {
+
+    private final int rows;
+    private final int cols;
+    private final IntArray rowIndices;
+    private final IntArray colIndices;
+    private final FloatArray values;
+
+    /**
+     * @param rows
+     *     Number of rows.
+     * @param cols
+     *     Number of columns.
+     * @param rowIndices
+     *     Row of each element.
+     * @param colIndices
+     *     Column of each element.
+     * @param values
+     *     Value of each element.
+     */
+    public COOMatrixFloat(int rows, int cols, IntArray rowIndices, IntArray colIndices, FloatArray values) {
+        if (rows <= 0 || cols <= 0) {
+            throw new IllegalArgumentException("The matrix must have at least one row and one column: " + rows + "x" + cols);
+        }
+        if (rowIndices.getSize() != colIndices.getSize() || rowIndices.getSize() != values.getSize()) {
+            throw new IllegalArgumentException("The row indices, column indices and values must have the same size");
+        }
+        for (int i = 0; i < rowIndices.getSize(); i++) {
+            if (rowIndices.get(i) < 0 || rowIndices.get(i) >= rows || colIndices.get(i) < 0 || colIndices.get(i) >= cols) {
+                throw new IllegalArgumentException("Element " + i + " out of bounds: (" + rowIndices.get(i) + ", " + colIndices.get(i) + ")");
+            }
+        }
+        this.rows = rows;
+        this.cols = cols;
+        this.rowIndices = rowIndices;
+        this.colIndices = colIndices;
+        this.values = values;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getCols() {
+        return cols;
+    }
+
+    public int getNumElements() {
+        return values.getSize();
+    }
+
+    public IntArray getRowIndices() {
+        return rowIndices;
+    }
+
+    public IntArray getColIndices() {
+        return colIndices;
+    }
+
+    public FloatArray getValues() {
+        return values;
+    }
+
+    /**
+     * @return the arrays of the matrix, to register them in a task-graph.
+     */
+    public Object[] getArrays() {
+        return new Object[] { rowIndices, colIndices, values };
+    }
+
+    /**
+     * Converts the matrix to CSR format. The elements of each row are sorted by
+     * column, and the values of duplicated coordinates are added.
+     *
+     * @return {@link CSRMatrixFloat}
+     */
+    public CSRMatrixFloat toCSR() {
+        final int size = values.getSize();
+        Integer[] order = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        Arrays.parallelSort(order, (a, b) -> {
+            int compare = Integer.compare(rowIndices.get(a), rowIndices.get(b));
+            return compare != 0 ? compare : Integer.compare(colIndices.get(a), colIndices.get(b));
+        });
+
+        int[] csrColIndices = new int[size];
+        float[] csrValues = new float[size];
+        IntArray rowOffsets = new IntArray(rows + 1);
+        rowOffsets.init(0);
+        int numNonZeros = 0;
+        int previousRow = -1;
+        int previousCol = -1;
+        for (int i = 0; i < size; i++) {
+            final int row = rowIndices.get(order[i]);
+            final int col = colIndices.get(order[i]);
+            if (row == previousRow && col == previousCol) {
+                csrValues[numNonZeros - 1] += values.get(order[i]);
+                continue;
+            }
+            csrColIndices[numNonZeros] = col;
+            csrValues[numNonZeros] = values.get(order[i]);
+            numNonZeros++;
+            rowOffsets.set(row + 1, numNonZeros);
+            previousRow = row;
+            previousCol = col;
+        }
+        // Empty rows keep the offset of the previous row
+        for (int r = 1; r <= rows; r++) {
+            rowOffsets.set(r, Math.max(rowOffsets.get(r), rowOffsets.get(r - 1)));
+        }
+        // The arrays keep at least one element, so an empty matrix can still be passed to a task
+        final int length = Math.max(1, numNonZeros);
+        return new CSRMatrixFloat(rows, cols, rowOffsets, IntArray.fromArray(Arrays.copyOf(csrColIndices, length)), FloatArray.fromArray(Arrays.copyOf(csrValues, length)));
+    }
+
+    @Override
+    public String toString() {
+        return "COOMatrixFloat[" + rows + "x" + cols + ", elements=" + getNumElements() + "]";
+    }
+}
@@ -0,0 +1,233 @@
+/*
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.api.types.sparse;
+
+import java.util.Arrays;
+
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.api.types.arrays.IntArray;
+
+/**
+ * Sparse matrix in Compressed Sparse Row (CSR) format. The non-zero elements
+ * of row {@code r} are stored in positions {@code [rowOffsets[r],
+ * rowOffsets[r + 1])} of {@code colIndices} and {@code values}, sorted by
+ * column.
+ *
+ * <p>
+ * The arrays are native arrays, so they can be passed to a task-graph as
+ * they are, for example with
+ * {@code taskGraph.transferToDevice(DataTransferMode.FIRST_EXECUTION, matrix.getArrays())}.
+ * CSR is the format used by
+ * {@link uk.ac.manchester.tornado.api.primitives.SparsePrimitives} to select a
+ * kernel, and the other formats are built from it with {@link #toCOO()},
+ * {@link #toELL()} and {@link #toSELL(int, int)}.
+ * </p>
+ */
+public final class CSRMatrixFloat {
+
+    private final int rows;
+    private final int cols;
+    private final IntArray rowOffsets;
+    private final IntArray colIndices;
+    private final FloatArray values;
+
+    /**
+     * @param rows
+     *     Number of rows.
+     * @param cols
+     *     Number of columns.
+     * @param rowOffsets
+     *     Offsets of the rows, with {@code rows + 1} elements.
+     * @param colIndices
+     *     Column of each non-zero element.
+     * @param values
+     *     Value of each non-zero element.
+     */
+    public CSRMatrixFloat(int rows, int cols, IntArray rowOffsets, IntArray colIndices, FloatArray values) {
+        if (rows <= 0 || cols <= 0) {
+            throw new IllegalArgumentException("The matrix must have at least one row and one column: " + rows + "x" + cols);
+        }
+        if (rowOffsets.getSize() != rows + 1) {
+            throw new IllegalArgumentException("The row offsets must have " + (rows + 1) + " elements");
+        }
+        final int numNonZeros = rowOffsets.get(rows);
+        if (colIndices.getSize() < numNonZeros || values.getSize() < numNonZeros) {
+            throw new IllegalArgumentException("The column indices and values must have at least " + numNonZeros + " elements");
+        }
+        if (rowOffsets.get(0) != 0) {
+            throw new IllegalArgumentException("The offset of the first row must be 0");
+        }
+        for (int r = 0; r < rows; r++) {
+            if (rowOffsets.get(r + 1) < rowOffsets.get(r)) {
+                throw new IllegalArgumentException("The row offsets must be non-decreasing (row " + r + ")");
+            }
+        }
+        for (int i = 0; i < numNonZeros; i++) {
+            if (colIndices.get(i) < 0 || colIndices.get(i) >= cols) {
+                throw new IllegalArgumentException("Column index out of bounds at position " + i + ": " + colIndices.get(i));
+            }
+        }
+        this.rows = rows;
+        this.cols = cols;
+        this.rowOffsets = rowOffsets;
+        this.colIndices = colIndices;
+        this.values = values;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getCols() {
+        return cols;
+    }
+
+    public int getNumNonZeros() {
+        return rowOffsets.get(rows);
+    }
+
+    public IntArray getRowOffsets() {
+        return rowOffsets;
+    }
+
+    public IntArray getColIndices() {
+        return colIndices;
+    }
+
+    public FloatArray getValues() {
+        return values;
+    }
+
+    /**
+     * @return the arrays of the matrix, to register them in a task-graph.
+     */
+    public Object[] getArrays() {
+        return new Object[] { rowOffsets, colIndices, values };
+    }
+
+    /**
+     * @return {@link SparseRowStatistics} of the matrix.
+     */
+    public SparseRowStatistics getRowStatistics() {
+        return SparseRowStatistics.of(rowOffsets, rows);
+    }
+
+    /**
+     * @return the matrix in COO format, sorted by row and column.
+     */
+    public COOMatrixFloat toCOO() {
+        final int numNonZeros = getNumNonZeros();
+        IntArray rowIndices = new IntArray(numNonZeros);
+        IntArray cooColIndices = new IntArray(numNonZeros);
+        FloatArray cooValues = new FloatArray(numNonZeros);
+        for (int r = 0; r < rows; r++) {
+            for (int i = rowOffsets.get(r); i < rowOffsets.get(r + 1); i++) {
+                rowIndices.set(i, r);
+                cooColIndices.set(i, colIndices.get(i));
+                cooValues.set(i, values.get(i));
+            }
+        }
+        return new COOMatrixFloat(rows, cols, rowIndices, cooColIndices, cooValues);
+    }
+
+    /**
+     * @return the matrix in ELLPACK format, padded to the length of the longest
+     *     row.
+     */
+    public ELLMatrixFloat toELL() {
+        final int width = Math.max(1, getRowStatistics().maxLength());
+        IntArray ellColIndices = new IntArray(rows * width);
+        FloatArray ellValues = new FloatArray(rows * width);
+        ellColIndices.init(ELLMatrixFloat.PADDING);
+        for (int r = 0; r < rows; r++) {
+            final int start = rowOffsets.get(r);
+            for (int i = start; i < rowOffsets.get(r + 1); i++) {
+                final int position = (i - start) * rows + r;
+                ellColIndices.set(position, colIndices.get(i));
+                ellValues.set(position, values.get(i));
+            }
+        }
+        return new ELLMatrixFloat(rows, cols, width, ellColIndices, ellValues);
+    }
+
+    /**
+     * Converts the matrix to the SELL-C-sigma format: the rows are sorted by
+     * length in windows of {@code sigma} rows, and each slice of
+     * {@code sliceHeight} consecutive sorted rows is stored in ELLPACK format,
+     * padded to the length of its longest row.
+     *
+     * @param sliceHeight
+     *     Number of rows of a slice (C), usually the subgroup size of the
+     *     device.
+     * @param sigma
+     *     Number of rows of a sorting window. 1 keeps the rows in their
+     *     original order.
+     * @return {@link SELLMatrixFloat}
+     */
+    public SELLMatrixFloat toSELL(int sliceHeight, int sigma) {
+        if (sliceHeight <= 0 || sigma <= 0) {
+            throw new IllegalArgumentException("The slice height and sigma must be positive");
+        }
+        Integer[] order = new Integer[rows];
+        for (int r = 0; r < rows; r++) {
+            order[r] = r;
+        }
+        for (int start = 0; start < rows; start += sigma) {
+            // The sort of objects is stable, so rows of the same length keep their order
+            Arrays.sort(order, start, Math.min(start + sigma, rows), (a, b) -> Integer.compare(rowLength(b), rowLength(a)));
+        }
+
+        final int numSlices = (rows + sliceHeight - 1) / sliceHeight;
+        IntArray sliceOffsets = new IntArray(numSlices + 1);
+        int offset = 0;
+        for (int s = 0; s < numSlices; s++) {
+            sliceOffsets.set(s, offset);
+            int width = 0;
+            for (int i = s * sliceHeight; i < Math.min((s + 1) * sliceHeight, rows); i++) {
+                width = Math.max(width, rowLength(order[i]));
+            }
+            offset += width * sliceHeight;
+        }
+        sliceOffsets.set(numSlices, offset);
+
+        IntArray sellColIndices = new IntArray(Math.max(1, offset));
+        FloatArray sellValues = new FloatArray(Math.max(1, offset));
+        IntArray permutation = new IntArray(rows);
+        sellColIndices.init(ELLMatrixFloat.PADDING);
+        for (int i = 0; i < rows; i++) {
+            final int row = order[i];
+            final int base = sliceOffsets.get(i / sliceHeight) + i % sliceHeight;
+            final int start = rowOffsets.get(row);
+            permutation.set(i, row);
+            for (int j = start; j < rowOffsets.get(row + 1); j++) {
+                sellColIndices.set(base + (j - start) * sliceHeight, colIndices.get(j));
+                sellValues.set(base + (j - start) * sliceHeight, values.get(j));
+            }
+        }
+        return new SELLMatrixFloat(rows, cols, sliceHeight, sigma, sliceOffsets, sellColIndices, sellValues, permutation);
+    }
+
+    private int rowLength(int row) {
+        return rowOffsets.get(row + 1) - rowOffsets.get(row);
+    }
+
+    @Override
+    public String toString() {
+        return "CSRMatrixFloat[" + rows + "x" + cols + ", nnz=" + getNumNonZeros() + "]";
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.api.types.sparse;
+
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.api.types.arrays.IntArray;
+
+/**
+ * Sparse matrix in ELLPACK format. Every row is padded to {@code width}
+ * elements, and the elements are stored in column-major order: the
+ * {@code k}-th element of row {@code r} is in position {@code k * rows + r}, so
+ * consecutive threads processing consecutive rows read consecutive positions.
+ * The padding elements have the column index {@link #PADDING}.
+ *
+ * <p>
+ * ELLPACK is efficient when the rows have similar lengths. It is built from a
+ * {@link CSRMatrixFloat} with {@link CSRMatrixFloat#toELL()}.
+ * </p>
+ */
+public final class ELLMatrixFloat {
+
+    /**
+     * Column index of the padding elements.
+     */
+    public static final int PADDING = -1;
+
+    private final int rows;
+    private final int cols;
+    private final int width;
+    private final IntArray colIndices;
+    private final FloatArray values;
+
+    /**
+     * @param rows
+     *     Number of rows.
+     * @param cols
+     *     Number of columns.
+     * @param width
+     *     Number of elements stored per row.
+     * @param colIndices
+     *     Column of each element, or {@link #PADDING}.
+     * @param values
+     *     Value of each element.
+     */
+    public ELLMatrixFloat(int rows, int cols, int width, IntArray colIndices, FloatArray values) {
+        if (rows <= 0 || cols <= 0 || width <= 0) {
+            throw new IllegalArgumentException("The rows, columns and width must be positive");
+        }
+        if (colIndices.getSize() != rows * width || values.getSize() != rows * width) {
+            throw new IllegalArgumentException("The column indices and values must have " + rows * width + " elements");
+        }
+        this.rows = rows;
+        this.cols = cols;
+        this.width = width;
+        this.colIndices = colIndices;
+        this.values = values;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getCols() {
+        return cols;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public IntArray getColIndices() {
+        return colIndices;
+    }
+
+    public FloatArray getValues() {
+        return values;
+    }
+
+    /**
+     * @return the arrays of the matrix, to register them in a task-graph.
+     */
+    public Object[] getArrays() {
+        return new Object[] { colIndices, values };
+    }
+
+    /**
+     * @return the matrix in CSR format, without the padding elements.
+     */
+    public CSRMatrixFloat toCSR() {
+        IntArray rowOffsets = new IntArray(rows + 1);
+        rowOffsets.set(0, 0);
+        for (int r = 0; r < rows; r++) {
+            int length = 0;
+            for (int k = 0; k < width; k++) {
+                if (colIndices.get(k * rows + r) != PADDING) {
+                    length++;
+                }
+            }
+            rowOffsets.set(r + 1, rowOffsets.get(r) + length);
+        }
+        final int length = Math.max(1, rowOffsets.get(rows));
+        IntArray csrColIndices = new IntArray(length);
+        FloatArray csrValues = new FloatArray(length);
+        for (int r = 0; r < rows; r++) {
+            int position = rowOffsets.get(r);
+            for (int k = 0; k < width; k++) {
+                final int col = colIndices.get(k * rows + r);
+                if (col != PADDING) {
+                    csrColIndices.set(position, col);
+                    csrValues.set(position, values.get(k * rows + r));
+                    position++;
+                }
+            }
+        }
+        return new CSRMatrixFloat(rows, cols, rowOffsets, csrColIndices, csrValues);
+    }
+
+    @Override
+    public String toString() {
+        return "ELLMatrixFloat[" + rows + "x" + cols + ", width=" + width + "]";
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.api.types.sparse;
+
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.api.types.arrays.IntArray;
+
+/**
+ * Sparse matrix in SELL-C-sigma format. The rows are sorted by length within
+ * windows of {@code sigma} rows, and the sorted rows are split in slices of
+ * {@code C} (the slice height) rows. Each slice is stored in ELLPACK format,
+ * padded to the length of its longest row: the {@code k}-th element of the
+ * {@code lane}-th row of slice {@code s} is in position
+ * {@code sliceOffsets[s] + k * C + lane}. Sorting the rows reduces the padding
+ * of ELLPACK for matrices with rows of different lengths.
+ *
+ * <p>
+ * {@code permutation[i]} is the row of the original matrix stored in the
+ * {@code i}-th sorted position. The padding elements have the column index
+ * {@link ELLMatrixFloat#PADDING}. The matrix is built from a
+ * {@link CSRMatrixFloat} with {@link CSRMatrixFloat#toSELL(int, int)}.
+ * </p>
+ */
+public final class SELLMatrixFloat {
+
+    private final int rows;
+    private final int cols;
+    private final int sliceHeight;
+    private final int sigma;
+    private final IntArray sliceOffsets;
+    private final IntArray colIndices;
+    private final FloatArray values;
+    private final IntArray permutation;
+
+    /**
+     * @param rows
+     *     Number of rows.
+     * @param cols
+     *     Number of columns.
+     * @param sliceHeight
+     *     Number of rows of a slice (C).
+     * @param sigma
+     *     Number of rows of the windows in which the rows were sorted.
+     * @param sliceOffsets
+     *     Position of the first element of each slice, with one extra element
+     *     for the end of the last slice.
+     * @param colIndices
+     *     Column of each element, or {@link ELLMatrixFloat#PADDING}.
+     * @param values
+     *     Value of each element.
+     * @param permutation
+     *     Original row of each sorted position.
+     */
+    public SELLMatrixFloat(int rows, int cols, int sliceHeight, int sigma, IntArray sliceOffsets, IntArray colIndices, FloatArray values, IntArray permutation) {
+        if (rows <= 0 || cols <= 0 || sliceHeight <= 0 || sigma <= 0) {
+            throw new IllegalArgumentException("The rows, columns, slice height and sigma must be positive");
+        }
+        final int numSlices = (rows + sliceHeight - 1) / sliceHeight;
+        if (sliceOffsets.getSize() != numSlices + 1) {
+            throw new IllegalArgumentException("The slice offsets must have " + (numSlices + 1) + " elements");
+        }
+        if (colIndices.getSize() < sliceOffsets.get(numSlices) || values.getSize() < sliceOffsets.get(numSlices)) {
+            throw new IllegalArgumentException("The column indices and values must have at least " + sliceOffsets.get(numSlices) + " elements");
+        }
+        if (permutation.getSize() != rows) {
+            throw new IllegalArgumentException("The permutation must have " + rows + " elements");
+        }
+        this.rows = rows;
+        this.cols = cols;
+        this.sliceHeight = sliceHeight;
+        this.sigma = sigma;
+        this.sliceOffsets = sliceOffsets;
+        this.colIndices = colIndices;
+        this.values = values;
+        this.permutation = permutation;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getCols() {
+        return cols;
+    }
+
+    public int getSliceHeight() {
+        return sliceHeight;
+    }
+
+    public int getSigma() {
+        return sigma;
+    }
+
+    public IntArray getSliceOffsets() {
+        return sliceOffsets;
+    }
+
+    public IntArray getColIndices() {
+        return colIndices;
+    }
+
+    public FloatArray getValues() {
+        return values;
+    }
+
+    public IntArray getPermutation() {
+        return permutation;
+    }
+
+    /**
+     * @return number of stored elements, including the padding.
+     */
+    public int getNumStoredElements() {
+        return sliceOffsets.get(sliceOffsets.getSize() - 1);
+    }
+
+    /**
+     * @return the arrays of the matrix, to register them in a task-graph.
+     */
+    public Object[] getArrays() {
+        return new Object[] { sliceOffsets, colIndices, values, permutation };
+    }
+
+    /**
+     * @return the matrix in CSR format, with the rows in their original order
+     *     and without the padding elements.
+     */
+    public CSRMatrixFloat toCSR() {
+        int[] lengths = new int[rows];
+        for (int i = 0; i < rows; i++) {
+            final int slice = i / sliceHeight;
+            final int width = (sliceOffsets.get(slice + 1) - sliceOffsets.get(slice)) / sliceHeight;
+            for (int k = 0; k < width; k++) {
+                if (colIndices.get(sliceOffsets.get(slice) + k * sliceHeight + i % sliceHeight) != ELLMatrixFloat.PADDING) {
+                    lengths[permutation.get(i)]++;
+                }
+            }
+        }
+        IntArray rowOffsets = new IntArray(rows + 1);
+        rowOffsets.set(0, 0);
+        for (int r = 0; r < rows; r++) {
+            rowOffsets.set(r + 1, rowOffsets.get(r) + lengths[r]);
+        }
+        final int length = Math.max(1, rowOffsets.get(rows));
+        IntArray csrColIndices = new IntArray(length);
+        FloatArray csrValues = new FloatArray(length);
+        for (int i = 0; i < rows; i++) {
+            final int slice = i / sliceHeight;
+            final int width = (sliceOffsets.get(slice + 1) - sliceOffsets.get(slice)) / sliceHeight;
+            int position = rowOffsets.get(permutation.get(i));
+            for (int k = 0; k < width; k++) {
+                final int index = sliceOffsets.get(slice) + k * sliceHeight + i % sliceHeight;
+                if (colIndices.get(index) != ELLMatrixFloat.PADDING) {
+                    csrColIndices.set(position, colIndices.get(index));
+                    csrValues.set(position, values.get(index));
+                    position++;
+                }
+            }
+        }
+        return new CSRMatrixFloat(rows, cols, rowOffsets, csrColIndices, csrValues);
+    }
+
+    @Override
+    public String toString() {
+        return "SELLMatrixFloat[" + rows + "x" + cols + ", C=" + sliceHeight + ", sigma=" + sigma + ", stored=" + getNumStoredElements() + "]";
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.api.types.sparse;
+
+import uk.ac.manchester.tornado.api.types.arrays.IntArray;
+
+/**
+ * Statistics of the number of non-zero elements of the rows of a sparse
+ * matrix. They are used to select the kernel of a sparse multiplication.
+ *
+ * @param rows
+ *     Number of rows.
+ * @param minLength
+ *     Length of the shortest row.
+ * @param maxLength
+ *     Length of the longest row.
+ * @param meanLength
+ *     Mean length of the rows.
+ * @param stdDevLength
+ *     Standard deviation of the length of the rows.
+ */
+public record SparseRowStatistics(int rows, int minLength, int maxLength, double meanLength, double stdDevLength) {
+
+    /**
+     * Computes the statistics of a matrix in CSR format.
+     *
+     * @param rowOffsets
+     *     Offsets of the rows, with {@code rows + 1} elements.
+     * @param rows
+     *     Number of rows.
+     * @return {@link SparseRowStatistics}
+     */
+    public static SparseRowStatistics of(IntArray rowOffsets, int rows) {
+        if (rows == 0) {
+            return new SparseRowStatistics(0, 0, 0, 0.0, 0.0);
+        }
+        int min = Integer.MAX_VALUE;
+        int max = 0;
+        double sum = 0.0;
+        double sumSquares = 0.0;
+        for (int r = 0; r < rows; r++) {
+            int length = rowOffsets.get(r + 1) - rowOffsets.get(r);
+            min = Math.min(min, length);
+            max = Math.max(max, length);
+            sum += length;
+            sumSquares += (double) length * length;
+        }
+        double mean = sum / rows;
+        double variance = Math.max(0.0, sumSquares / rows - mean * mean);
+        return new SparseRowStatistics(rows, min, max, mean, Math.sqrt(variance));
+    }
+
+    /**
+     * @return standard deviation of the length of the rows divided by their
+     *     mean, or 0 for an empty matrix.
+     */
+    public double coefficientOfVariation() {
+        return meanLength == 0.0 ? 0.0 : stdDevLength / meanLength;
+    }
+}
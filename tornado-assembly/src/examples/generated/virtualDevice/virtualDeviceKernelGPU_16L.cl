@@ -85,39 +85,42 @@ __kernel void maxReduction(__global long *_kernel_context, __constant uchar *_co
 
 #pragma OPENCL EXTENSION cl_khr_fp64 : enable
 #pragma OPENCL EXTENSION cl_khr_int64_base_atomics : enable
-__kernel void rMax(__global long *_kernel_context, __constant uchar *_constant_region, __local uchar *_local_region, __global int *_atomics, __global uchar *array, __private int size)
+__kernel void rMax(__global long *_kernel_context, __constant uchar *_constant_region, __local uchar *_local_region, __global int *_atomics, __global uchar *array, __private int size, __global uchar *result)
 {
-  ulong ul_7, ul_5, ul_11, ul_9, ul_15, ul_0, ul_13, ul_3, ul_1, ul_17;
-  float f_2, f_4, f_6, f_8, f_10, f_12, f_14, f_16, f_19, f_18, f_21, f_20, f_23, f_22, f_25, f_24, f_26;
+  float f_17, f_19, f_21, f_20, f_23, f_22, f_25, f_24, f_27, f_26, f_3, f_5, f_7, f_9, f_11, f_13, f_15;
+  ulong ul_14, ul_0, ul_16, ul_1, ul_2, ul_18, ul_4, ul_6, ul_8, ul_10, ul_12, ul_28;
 
   // BLOCK 0
   ul_0  =  (ulong) array;
-  ul_1  =  ul_0 + 16L;
-  f_2  =  *((__global float *) ul_1);
-  ul_3  =  ul_0 + 20L;
-  f_4  =  *((__global float *) ul_3);
-  ul_5  =  ul_0 + 24L;
-  f_6  =  *((__global float *) ul_5);
-  ul_7  =  ul_0 + 28L;
-  f_8  =  *((__global float *) ul_7);
-  ul_9  =  ul_0 + 32L;
-  f_10  =  *((__global float *) ul_9);
-  ul_11  =  ul_0 + 36L;
-  f_12  =  *((__global float *) ul_11);
-  ul_13  =  ul_0 + 40L;
-  f_14  =  *((__global float *) ul_13);
-  ul_15  =  ul_0 + 44L;
-  f_16  =  *((__global float *) ul_15);
-  ul_17  =  ul_0 + 48L;
-  f_18  =  *((__global float *) ul_17);
-  f_19  =  fmax(f_2, f_4);
-  f_20  =  fmax(f_19, f_6);
-  f_21  =  fmax(f_20, f_8);
-  f_22  =  fmax(f_21, f_10);
-  f_23  =  fmax(f_22, f_12);
-  f_24  =  fmax(f_23, f_14);
-  f_25  =  fmax(f_24, f_16);
-  f_26  =  fmax(f_25, f_18);
-  *((__global float *) ul_1)  =  f_26;
+  ul_1  =  (ulong) result;
+  ul_2  =  ul_0 + 16L;
+  f_3  =  *((__global float *) ul_2);
+  ul_4  =  ul_0 + 20L;
+  f_5  =  *((__global float *) ul_4);
+  ul_6  =  ul_0 + 24L;
+  f_7  =  *((__global float *) ul_6);
+  ul_8  =  ul_0 + 28L;
+  f_9  =  *((__global float *) ul_8);
+  ul_10  =  ul_0 + 32L;
+  f_11  =  *((__global float *) ul_10);
+  ul_12  =  ul_0 + 36L;
+  f_13  =  *((__global float *) ul_12);
+  ul_14  =  ul_0 + 40L;
+  f_15  =  *((__global float *) ul_14);
+  ul_16  =  ul_0 + 44L;
+  f_17  =  *((__global float *) ul_16);
+  ul_18  =  ul_0 + 48L;
+  f_19  =  *((__global float *) ul_18);
+  f_20  =  fmax(f_3, f_5);
+  f_21  =  fmax(f_20, f_7);
+  f_22  =  fmax(f_21, f_9);
+  f_23  =  fmax(f_22, f_11);
+  f_24  =  fmax(f_23, f_13);
+  f_25  =  fmax(f_24, f_15);
+  f_26  =  fmax(f_25, f_17);
+  f_27  =  fmax(f_26, f_19);
+  *((__global float *) ul_2)  =  f_27;
+  ul_28  =  ul_1 + 16L;
+  *((__global float *) ul_28)  =  f_27;
   return;
 }  //  kernel
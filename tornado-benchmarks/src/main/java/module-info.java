@@ -38,6 +38,8 @@ module tornado.benchmarks {
     exports uk.ac.manchester.tornado.benchmarks.mandelbrot;
     exports uk.ac.manchester.tornado.benchmarks.montecarlo;
     exports uk.ac.manchester.tornado.benchmarks.nbody;
+    exports uk.ac.manchester.tornado.benchmarks.normalisation;
+    exports uk.ac.manchester.tornado.benchmarks.quantized;
     exports uk.ac.manchester.tornado.benchmarks.rotateimage;
     exports uk.ac.manchester.tornado.benchmarks.rotatevector;
     exports uk.ac.manchester.tornado.benchmarks.saxpy;
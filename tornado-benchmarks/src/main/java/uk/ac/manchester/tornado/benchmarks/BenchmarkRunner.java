@@ -22,6 +22,7 @@ import java.io.IOException;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -251,7 +252,10 @@ public abstract class BenchmarkRunner {
 
     public abstract void parseArgs(String[] args);
 
-    private static BenchmarkRunner getBenchMarkInstance(String benchmark) {
+    static final List<String> BENCHMARKS = List.of("addimage", "blackscholes", "blurfilter", "convolvearray", "convolveimage", "dft", "dgemm", "dotimage", "dotvector", "euler", "hilbert",
+            "juliaset", "mandelbrot", "montecarlo", "nbody", "normalisation", "quantized", "rendertrack", "rotateimage", "rotatevector", "saxpy", "sgemm", "spmv", "stencil");
+
+    static BenchmarkRunner getBenchMarkInstance(String benchmark) {
         benchmark = benchmark.toLowerCase();
         return switch (benchmark) {
             case "addimage" -> new uk.ac.manchester.tornado.benchmarks.addImage.Benchmark();
@@ -262,13 +266,15 @@ public abstract class BenchmarkRunner {
             case "dft" -> new uk.ac.manchester.tornado.benchmarks.dft.Benchmark();
             case "dgemm" -> new uk.ac.manchester.tornado.benchmarks.dgemm.Benchmark();
             case "dotimage" -> new uk.ac.manchester.tornado.benchmarks.dotimage.Benchmark();
-            case "dorvector" -> new uk.ac.manchester.tornado.benchmarks.dotvector.Benchmark();
+            case "dotvector", "dorvector" -> new uk.ac.manchester.tornado.benchmarks.dotvector.Benchmark();
             case "euler" -> new uk.ac.manchester.tornado.benchmarks.euler.Benchmark();
             case "hilbert" -> new uk.ac.manchester.tornado.benchmarks.hilbert.Benchmark();
             case "juliaset" -> new uk.ac.manchester.tornado.benchmarks.juliaset.Benchmark();
             case "mandelbrot" -> new uk.ac.manchester.tornado.benchmarks.mandelbrot.Benchmark();
             case "montecarlo" -> new uk.ac.manchester.tornado.benchmarks.montecarlo.Benchmark();
             case "nbody" -> new uk.ac.manchester.tornado.benchmarks.nbody.Benchmark();
+            case "normalisation" -> new uk.ac.manchester.tornado.benchmarks.normalisation.Benchmark();
+            case "quantized" -> new uk.ac.manchester.tornado.benchmarks.quantized.Benchmark();
             case "rendertrack" -> new uk.ac.manchester.tornado.benchmarks.renderTrack.Benchmark();
             case "rotateimage" -> new uk.ac.manchester.tornado.benchmarks.rotateimage.Benchmark();
             case "rotatevector" -> new uk.ac.manchester.tornado.benchmarks.rotatevector.Benchmark();
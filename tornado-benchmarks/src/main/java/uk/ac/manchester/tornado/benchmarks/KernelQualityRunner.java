@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import uk.ac.manchester.tornado.api.ImmutableTaskGraph;
+import uk.ac.manchester.tornado.api.TaskGraphProvider;
+import uk.ac.manchester.tornado.api.TornadoExecutionPlan;
+import uk.ac.manchester.tornado.api.common.TornadoDevice;
+import uk.ac.manchester.tornado.api.exceptions.TornadoExecutionPlanException;
+import uk.ac.manchester.tornado.api.runtime.TornadoRuntimeProvider;
+
+/**
+ * Compiles the kernels of the benchmarks (and of any {@link TaskGraphProvider}
+ * passed with {@code --providers}) to build the kernel-quality report. It is
+ * meant to be run with a virtual device, so each kernel is compiled once and not
+ * executed.
+ *
+ * <p>
+ * How to run?
+ * </p>
+ * <code>
+ * tornado --jvm="-Dtornado.virtual.device=True -Dtornado.device.desc=etc/virtual-device-template.json -Dtornado.kernel.quality.report=quality.csv"
+ * -m tornado.benchmarks/uk.ac.manchester.tornado.benchmarks.KernelQualityRunner --params "[benchmark ...] [--providers <TaskGraphProvider class> ...]"
+ * </code>
+ *
+ * <p>
+ * Two reports can then be compared with
+ * {@code uk.ac.manchester.tornado.runtime.profiler.KernelQualityReport}.
+ * </p>
+ */
+public class KernelQualityRunner {
+
+    private static final String PROVIDERS_OPTION = "--providers";
+
+    private static void compileBenchmark(String name, TornadoDevice device) {
+        BenchmarkRunner runner = BenchmarkRunner.getBenchMarkInstance(name);
+        runner.parseArgs(new String[0]);
+        BenchmarkDriver driver = runner.getTornadoDriver();
+        driver.setUp();
+        driver.runBenchmark(device);
+        driver.tearDown();
+    }
+
+    private static void compileProvider(String className) throws ReflectiveOperationException, TornadoExecutionPlanException {
+        Class<?> klass = Class.forName(className, true, Thread.currentThread().getContextClassLoader());
+        TaskGraphProvider provider = (TaskGraphProvider) klass.getDeclaredConstructor().newInstance();
+        for (ImmutableTaskGraph taskGraph : provider.getTaskGraphs()) {
+            try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(taskGraph)) {
+                executionPlan.execute();
+            }
+        }
+    }
+
+    public static void main(String[] args) throws ReflectiveOperationException, TornadoExecutionPlanException {
+        List<String> benchmarks = new ArrayList<>();
+        List<String> providers = new ArrayList<>();
+        List<String> current = benchmarks;
+        for (String arg : args) {
+            if (arg.equals(PROVIDERS_OPTION)) {
+                current = providers;
+            } else {
+                current.add(arg);
+            }
+        }
+        if (benchmarks.isEmpty() && providers.isEmpty()) {
+            benchmarks.addAll(BenchmarkRunner.BENCHMARKS);
+        }
+
+        TornadoDevice device = TornadoRuntimeProvider.getTornadoRuntime().getDefaultDevice();
+        int failures = 0;
+        for (String benchmark : benchmarks) {
+            try {
+                compileBenchmark(benchmark, device);
+            } catch (Exception e) {
+                System.err.printf("[KernelQuality] Unable to compile %s: %s%n", benchmark, e.getMessage());
+                failures++;
+            }
+        }
+        for (String provider : providers) {
+            compileProvider(provider);
+        }
+        System.out.printf("[KernelQuality] %d benchmarks and %d task-graph providers compiled for %s (%d failed)%n", benchmarks.size() - failures, providers.size(), device, failures);
+    }
+}
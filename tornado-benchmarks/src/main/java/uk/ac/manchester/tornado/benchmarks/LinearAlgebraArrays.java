@@ -54,6 +54,19 @@ public class LinearAlgebraArrays {
 
     }
 
+    public static void sgemmTransposed(final int M, final int N, final int K, final FloatArray A, final FloatArray B, final FloatArray C) {
+        // C[M x N] = A[M x K] * transpose(B[N x K])
+        for (@Parallel int i = 0; i < M; i++) {
+            for (@Parallel int j = 0; j < N; j++) {
+                float sum = 0.0f;
+                for (int k = 0; k < K; k++) {
+                    sum += A.get((i * K) + k) * B.get((j * K) + k);
+                }
+                C.set((i * N) + j, sum);
+            }
+        }
+    }
+
     public static void dgemm(final int M, final int N, final int K, final DoubleArray A, final DoubleArray B, final DoubleArray C) {
         for (@Parallel int i = 0; i < N; i++) {
             for (@Parallel int j = 0; j < N; j++) {
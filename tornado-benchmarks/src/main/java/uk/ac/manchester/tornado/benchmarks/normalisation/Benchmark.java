@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.benchmarks.normalisation;
+
+import java.util.Random;
+
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.benchmarks.BenchmarkDriver;
+import uk.ac.manchester.tornado.benchmarks.BenchmarkRunner;
+
+/**
+ * Softmax, layer-norm and RMS-norm over the rows of a matrix, with the fused
+ * operations of {@link uk.ac.manchester.tornado.api.primitives.FusedPrimitives}.
+ */
+public class Benchmark extends BenchmarkRunner {
+
+    static final float EPSILON = 1e-5f;
+
+    private int rows;
+    private int cols;
+
+    static FloatArray initData(int size, long seed) {
+        Random random = new Random(seed);
+        FloatArray array = new FloatArray(size);
+        for (int i = 0; i < size; i++) {
+            array.set(i, random.nextFloat() * 2 - 1);
+        }
+        return array;
+    }
+
+    @Override
+    public void parseArgs(String[] args) {
+        if (args.length == 3) {
+            iterations = Integer.parseInt(args[0]);
+            rows = Integer.parseInt(args[1]);
+            cols = Integer.parseInt(args[2]);
+        } else {
+            iterations = 100;
+            rows = 2048;
+            cols = 4096;
+        }
+    }
+
+    @Override
+    protected String getName() {
+        return "normalisation";
+    }
+
+    @Override
+    protected String getIdString() {
+        return String.format("%s-%d-%d-%d", getName(), iterations, rows, cols);
+    }
+
+    @Override
+    protected String getConfigString() {
+        return String.format("rows=%d, cols=%d", rows, cols);
+    }
+
+    @Override
+    protected BenchmarkDriver getJavaDriver() {
+        return new NormalisationJava(iterations, rows, cols);
+    }
+
+    @Override
+    protected BenchmarkDriver getTornadoDriver() {
+        return new NormalisationTornado(iterations, rows, cols);
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.benchmarks.normalisation;
+
+import static uk.ac.manchester.tornado.benchmarks.normalisation.Benchmark.EPSILON;
+import static uk.ac.manchester.tornado.benchmarks.normalisation.Benchmark.initData;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import uk.ac.manchester.tornado.api.GridScheduler;
+import uk.ac.manchester.tornado.api.TaskGraph;
+import uk.ac.manchester.tornado.api.TornadoExecutionPlan;
+import uk.ac.manchester.tornado.api.enums.DataTransferMode;
+import uk.ac.manchester.tornado.api.primitives.FusedPrimitives;
+import uk.ac.manchester.tornado.api.primitives.PrimitivesReference;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+
+/**
+ * <p>
+ * How to run in isolation?
+ * </p>
+ * <code>
+ * tornado -jar tornado-benchmarks/target/jmhbenchmarks.jar uk.ac.manchester.tornado.benchmarks.normalisation.JMHNormalisation
+ * </code>
+ */
+public class JMHNormalisation {
+    @State(Scope.Thread)
+    public static class BenchmarkSetup {
+
+        private final int rows = Integer.parseInt(System.getProperty("x", "2048"));
+        private final int cols = Integer.parseInt(System.getProperty("y", "4096"));
+        private FloatArray input;
+        private FloatArray gamma;
+        private FloatArray beta;
+        private FloatArray output;
+        private TornadoExecutionPlan softmaxExecutor;
+        private TornadoExecutionPlan layerNormExecutor;
+        private TornadoExecutionPlan rmsNormExecutor;
+
+        @Setup(Level.Trial)
+        public void doSetup() {
+            input = initData(rows * cols, 1);
+            gamma = initData(cols, 2);
+            beta = initData(cols, 3);
+            output = new FloatArray(rows * cols);
+
+            GridScheduler softmaxScheduler = new GridScheduler();
+            TaskGraph softmaxGraph = new TaskGraph("softmax") //
+                    .transferToDevice(DataTransferMode.EVERY_EXECUTION, input);
+            FusedPrimitives.softmax(softmaxGraph, softmaxScheduler, "t0", input, output, cols);
+            softmaxGraph.transferToHost(DataTransferMode.EVERY_EXECUTION, output);
+            softmaxExecutor = new TornadoExecutionPlan(softmaxGraph.snapshot());
+            softmaxExecutor.withGridScheduler(softmaxScheduler).withPreCompilation();
+
+            GridScheduler layerNormScheduler = new GridScheduler();
+            TaskGraph layerNormGraph = new TaskGraph("layerNorm") //
+                    .transferToDevice(DataTransferMode.EVERY_EXECUTION, input) //
+                    .transferToDevice(DataTransferMode.FIRST_EXECUTION, gamma, beta);
+            FusedPrimitives.layerNorm(layerNormGraph, layerNormScheduler, "t0", input, gamma, beta, output, cols, EPSILON);
+            layerNormGraph.transferToHost(DataTransferMode.EVERY_EXECUTION, output);
+            layerNormExecutor = new TornadoExecutionPlan(layerNormGraph.snapshot());
+            layerNormExecutor.withGridScheduler(layerNormScheduler).withPreCompilation();
+
+            GridScheduler rmsNormScheduler = new GridScheduler();
+            TaskGraph rmsNormGraph = new TaskGraph("rmsNorm") //
+                    .transferToDevice(DataTransferMode.EVERY_EXECUTION, input) //
+                    .transferToDevice(DataTransferMode.FIRST_EXECUTION, gamma);
+            FusedPrimitives.rmsNorm(rmsNormGraph, rmsNormScheduler, "t0", input, gamma, output, cols, EPSILON);
+            rmsNormGraph.transferToHost(DataTransferMode.EVERY_EXECUTION, output);
+            rmsNormExecutor = new TornadoExecutionPlan(rmsNormGraph.snapshot());
+            rmsNormExecutor.withGridScheduler(rmsNormScheduler).withPreCompilation();
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = 2, time = 30, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 5, time = 30, timeUnit = TimeUnit.SECONDS)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Fork(1)
+    public void softmaxJava(BenchmarkSetup state) {
+        PrimitivesReference.softmax(state.input, state.output, state.cols);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = 2, time = 30, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 5, time = 30, timeUnit = TimeUnit.SECONDS)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Fork(1)
+    public void softmaxTornado(BenchmarkSetup state, Blackhole blackhole) {
+        TornadoExecutionPlan executor = state.softmaxExecutor;
+        executor.execute();
+        blackhole.consume(executor);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = 2, time = 30, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 5, time = 30, timeUnit = TimeUnit.SECONDS)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Fork(1)
+    public void layerNormJava(BenchmarkSetup state) {
+        PrimitivesReference.layerNorm(state.input, state.gamma, state.beta, state.output, state.cols, EPSILON);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = 2, time = 30, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 5, time = 30, timeUnit = TimeUnit.SECONDS)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Fork(1)
+    public void layerNormTornado(BenchmarkSetup state, Blackhole blackhole) {
+        TornadoExecutionPlan executor = state.layerNormExecutor;
+        executor.execute();
+        blackhole.consume(executor);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = 2, time = 30, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 5, time = 30, timeUnit = TimeUnit.SECONDS)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Fork(1)
+    public void rmsNormJava(BenchmarkSetup state) {
+        PrimitivesReference.rmsNorm(state.input, state.gamma, state.output, state.cols, EPSILON);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = 2, time = 30, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 5, time = 30, timeUnit = TimeUnit.SECONDS)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Fork(1)
+    public void rmsNormTornado(BenchmarkSetup state, Blackhole blackhole) {
+        TornadoExecutionPlan executor = state.rmsNormExecutor;
+        executor.execute();
+        blackhole.consume(executor);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder() //
+                .include(JMHNormalisation.class.getName() + ".*") //
+                .mode(Mode.AverageTime) //
+                .timeUnit(TimeUnit.NANOSECONDS) //
+                .warmupTime(TimeValue.seconds(30)) //
+                .warmupIterations(2) //
+                .measurementTime(TimeValue.seconds(30)) //
+                .measurementIterations(5) //
+                .forks(1) //
+                .build();
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.benchmarks.normalisation;
+
+import static uk.ac.manchester.tornado.benchmarks.normalisation.Benchmark.EPSILON;
+import static uk.ac.manchester.tornado.benchmarks.normalisation.Benchmark.initData;
+
+import uk.ac.manchester.tornado.api.common.TornadoDevice;
+import uk.ac.manchester.tornado.api.primitives.PrimitivesReference;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.benchmarks.BenchmarkDriver;
+
+public class NormalisationJava extends BenchmarkDriver {
+
+    private final int rows;
+    private final int cols;
+    private FloatArray input;
+    private FloatArray gamma;
+    private FloatArray beta;
+    private FloatArray softmax;
+    private FloatArray layerNorm;
+    private FloatArray rmsNorm;
+
+    public NormalisationJava(int iterations, int rows, int cols) {
+        super(iterations);
+        this.rows = rows;
+        this.cols = cols;
+    }
+
+    @Override
+    public void setUp() {
+        input = initData(rows * cols, 1);
+        gamma = initData(cols, 2);
+        beta = initData(cols, 3);
+        softmax = new FloatArray(rows * cols);
+        layerNorm = new FloatArray(rows * cols);
+        rmsNorm = new FloatArray(rows * cols);
+    }
+
+    @Override
+    public void tearDown() {
+        input = null;
+        gamma = null;
+        beta = null;
+        softmax = null;
+        layerNorm = null;
+        rmsNorm = null;
+        super.tearDown();
+    }
+
+    @Override
+    public void runBenchmark(TornadoDevice device) {
+        PrimitivesReference.softmax(input, softmax, cols);
+        PrimitivesReference.layerNorm(input, gamma, beta, layerNorm, cols, EPSILON);
+        PrimitivesReference.rmsNorm(input, gamma, rmsNorm, cols, EPSILON);
+    }
+
+    @Override
+    public void barrier() {
+
+    }
+
+    @Override
+    public boolean validate(TornadoDevice device) {
+        return true;
+    }
+
+    public void printSummary() {
+        System.out.printf("id=java-serial, elapsed=%f, per iteration=%f\n", getElapsed(), getElapsedPerIteration());
+    }
+}
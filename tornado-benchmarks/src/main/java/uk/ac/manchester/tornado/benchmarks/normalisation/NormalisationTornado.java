@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.benchmarks.normalisation;
+
+import static uk.ac.manchester.tornado.benchmarks.normalisation.Benchmark.EPSILON;
+import static uk.ac.manchester.tornado.benchmarks.normalisation.Benchmark.initData;
+
+import uk.ac.manchester.tornado.api.GridScheduler;
+import uk.ac.manchester.tornado.api.TaskGraph;
+import uk.ac.manchester.tornado.api.TornadoExecutionPlan;
+import uk.ac.manchester.tornado.api.common.TornadoDevice;
+import uk.ac.manchester.tornado.api.enums.DataTransferMode;
+import uk.ac.manchester.tornado.api.primitives.FusedPrimitives;
+import uk.ac.manchester.tornado.api.primitives.PrimitivesReference;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.benchmarks.BenchmarkDriver;
+
+/**
+ * <p>
+ * How to run?
+ * </p>
+ * <code>
+ * tornado -m tornado.benchmarks/uk.ac.manchester.tornado.benchmarks.BenchmarkRunner normalisation
+ * </code>
+ */
+public class NormalisationTornado extends BenchmarkDriver {
+
+    private static final float MAX_ERROR = 1e-3f;
+
+    private final int rows;
+    private final int cols;
+    private FloatArray input;
+    private FloatArray gamma;
+    private FloatArray beta;
+    private FloatArray softmax;
+    private FloatArray layerNorm;
+    private FloatArray rmsNorm;
+
+    public NormalisationTornado(int iterations, int rows, int cols) {
+        super(iterations);
+        this.rows = rows;
+        this.cols = cols;
+    }
+
+    @Override
+    public void setUp() {
+        input = initData(rows * cols, 1);
+        gamma = initData(cols, 2);
+        beta = initData(cols, 3);
+        softmax = new FloatArray(rows * cols);
+        layerNorm = new FloatArray(rows * cols);
+        rmsNorm = new FloatArray(rows * cols);
+
+        GridScheduler gridScheduler = new GridScheduler();
+        taskGraph = new TaskGraph("benchmark") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, input) //
+                .transferToDevice(DataTransferMode.FIRST_EXECUTION, gamma, beta);
+        FusedPrimitives.softmax(taskGraph, gridScheduler, "softmax", input, softmax, cols);
+        FusedPrimitives.layerNorm(taskGraph, gridScheduler, "layerNorm", input, gamma, beta, layerNorm, cols, EPSILON);
+        FusedPrimitives.rmsNorm(taskGraph, gridScheduler, "rmsNorm", input, gamma, rmsNorm, cols, EPSILON);
+        taskGraph.transferToHost(DataTransferMode.EVERY_EXECUTION, softmax, layerNorm, rmsNorm);
+        immutableTaskGraph = taskGraph.snapshot();
+        executionPlan = new TornadoExecutionPlan(immutableTaskGraph);
+        executionPlan.withGridScheduler(gridScheduler).withPreCompilation();
+    }
+
+    @Override
+    public void tearDown() {
+        executionResult.getProfilerResult().dumpProfiles();
+
+        input = null;
+        gamma = null;
+        beta = null;
+        softmax = null;
+        layerNorm = null;
+        rmsNorm = null;
+
+        executionPlan.resetDevice();
+        super.tearDown();
+    }
+
+    @Override
+    public void runBenchmark(TornadoDevice device) {
+        executionResult = executionPlan.withDevice(device).execute();
+    }
+
+    @Override
+    public boolean validate(TornadoDevice device) {
+        final FloatArray expected = new FloatArray(rows * cols);
+
+        runBenchmark(device);
+        executionPlan.clearProfiles();
+
+        PrimitivesReference.softmax(input, expected, cols);
+        boolean valid = isClose(expected, softmax);
+        PrimitivesReference.layerNorm(input, gamma, beta, expected, cols, EPSILON);
+        valid &= isClose(expected, layerNorm);
+        PrimitivesReference.rmsNorm(input, gamma, expected, cols, EPSILON);
+        valid &= isClose(expected, rmsNorm);
+        return valid;
+    }
+
+    private static boolean isClose(FloatArray expected, FloatArray actual) {
+        for (int i = 0; i < expected.getSize(); i++) {
+            float tolerance = Math.max(MAX_ERROR, Math.abs(expected.get(i)) * MAX_ERROR);
+            if (Math.abs(expected.get(i) - actual.get(i)) > tolerance) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
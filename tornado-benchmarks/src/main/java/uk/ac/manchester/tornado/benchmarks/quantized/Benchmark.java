@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.benchmarks.quantized;
+
+import java.util.Random;
+
+import uk.ac.manchester.tornado.api.primitives.QuantizedLayout;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.benchmarks.BenchmarkDriver;
+import uk.ac.manchester.tornado.benchmarks.BenchmarkRunner;
+
+/**
+ * Projection of {@code n} vectors by a quantised matrix of {@code rows x cols}
+ * weights, with the kernels of
+ * {@link uk.ac.manchester.tornado.api.primitives.QuantizedPrimitives}. A
+ * single vector uses the GEMV kernel, and a batch uses the GEMM kernel.
+ */
+public class Benchmark extends BenchmarkRunner {
+
+    private int rows;
+    private int cols;
+    private int n;
+    private QuantizedLayout layout;
+
+    static FloatArray initData(int size, long seed) {
+        Random random = new Random(seed);
+        FloatArray array = new FloatArray(size);
+        for (int i = 0; i < size; i++) {
+            array.set(i, random.nextFloat() * 2 - 1);
+        }
+        return array;
+    }
+
+    static QuantizedLayout parseLayout(String format) {
+        return switch (format.toLowerCase()) {
+            case "q8_0" -> QuantizedLayout.q8_0();
+            case "q4_0" -> QuantizedLayout.q4_0();
+            default -> throw new IllegalArgumentException("Quantisation format not supported: " + format);
+        };
+    }
+
+    @Override
+    public void parseArgs(String[] args) {
+        if (args.length == 5) {
+            iterations = Integer.parseInt(args[0]);
+            rows = Integer.parseInt(args[1]);
+            cols = Integer.parseInt(args[2]);
+            n = Integer.parseInt(args[3]);
+            layout = parseLayout(args[4]);
+        } else {
+            iterations = 100;
+            rows = 4096;
+            cols = 4096;
+            n = 1;
+            layout = QuantizedLayout.q8_0();
+        }
+    }
+
+    @Override
+    protected String getName() {
+        return "quantized";
+    }
+
+    @Override
+    protected String getIdString() {
+        return String.format("%s-%d-%d-%d-%d-%s", getName(), iterations, rows, cols, n, layout.getFormat());
+    }
+
+    @Override
+    protected String getConfigString() {
+        return String.format("rows=%d, cols=%d, n=%d, layout=%s", rows, cols, n, layout);
+    }
+
+    @Override
+    protected BenchmarkDriver getJavaDriver() {
+        return new QuantizedJava(iterations, layout, rows, cols, n);
+    }
+
+    @Override
+    protected BenchmarkDriver getTornadoDriver() {
+        return new QuantizedTornado(iterations, layout, rows, cols, n);
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.benchmarks.quantized;
+
+import static uk.ac.manchester.tornado.benchmarks.quantized.Benchmark.initData;
+import static uk.ac.manchester.tornado.benchmarks.quantized.Benchmark.parseLayout;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import uk.ac.manchester.tornado.api.GridScheduler;
+import uk.ac.manchester.tornado.api.TaskGraph;
+import uk.ac.manchester.tornado.api.TornadoExecutionPlan;
+import uk.ac.manchester.tornado.api.enums.DataTransferMode;
+import uk.ac.manchester.tornado.api.primitives.PrimitivesReference;
+import uk.ac.manchester.tornado.api.primitives.QuantizedLayout;
+import uk.ac.manchester.tornado.api.primitives.QuantizedPrimitives;
+import uk.ac.manchester.tornado.api.types.arrays.ByteArray;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.benchmarks.LinearAlgebraArrays;
+
+/**
+ * Compares the quantised GEMV and GEMM kernels, which dequantise the weights
+ * on the fly, with the dequantisation of the weights followed by an SGEMV or
+ * SGEMM in single precision, and with the parallel versions on the JVM. The
+ * weights are transferred once, and the dequantised weights are written to
+ * the device memory in every execution, as when the full-precision weights do
+ * not fit in memory.
+ *
+ * <p>
+ * How to run in isolation?
+ * </p>
+ * <code>
+ * tornado -jar tornado-benchmarks/target/jmhbenchmarks.jar uk.ac.manchester.tornado.benchmarks.quantized.JMHQuantized
+ * </code>
+ */
+public class JMHQuantized {
+    @State(Scope.Thread)
+    public static class BenchmarkSetup {
+
+        private final int rows = Integer.parseInt(System.getProperty("x", "4096"));
+        private final int cols = Integer.parseInt(System.getProperty("y", "4096"));
+        private final int n = Integer.parseInt(System.getProperty("z", "64"));
+        private final QuantizedLayout layout = parseLayout(System.getProperty("format", "q8_0"));
+        private ByteArray weights;
+        private FloatArray vector;
+        private FloatArray batch;
+        private FloatArray dequantized;
+        private FloatArray gemvOutput;
+        private FloatArray gemmOutput;
+        private TornadoExecutionPlan gemvExecutor;
+        private TornadoExecutionPlan gemvDequantizeExecutor;
+        private TornadoExecutionPlan gemmExecutor;
+        private TornadoExecutionPlan gemmDequantizeExecutor;
+
+        @Setup(Level.Trial)
+        public void doSetup() {
+            weights = layout.quantize(initData(rows * cols, 1), rows, cols);
+            vector = initData(cols, 2);
+            batch = initData(n * cols, 3);
+            dequantized = new FloatArray(rows * cols);
+            gemvOutput = new FloatArray(rows);
+            gemmOutput = new FloatArray(n * rows);
+
+            GridScheduler gemvScheduler = new GridScheduler();
+            TaskGraph gemvGraph = new TaskGraph("gemv") //
+                    .transferToDevice(DataTransferMode.FIRST_EXECUTION, weights) //
+                    .transferToDevice(DataTransferMode.EVERY_EXECUTION, vector);
+            QuantizedPrimitives.gemv(gemvGraph, gemvScheduler, "t0", layout, weights, vector, gemvOutput, rows, cols);
+            gemvGraph.transferToHost(DataTransferMode.EVERY_EXECUTION, gemvOutput);
+            gemvExecutor = new TornadoExecutionPlan(gemvGraph.snapshot());
+            gemvExecutor.withGridScheduler(gemvScheduler).withPreCompilation();
+
+            TaskGraph gemvDequantizeGraph = new TaskGraph("gemvDequantize") //
+                    .transferToDevice(DataTransferMode.FIRST_EXECUTION, weights) //
+                    .transferToDevice(DataTransferMode.EVERY_EXECUTION, vector);
+            QuantizedPrimitives.dequantize(gemvDequantizeGraph, "t0", layout, weights, dequantized, rows, cols);
+            gemvDequantizeGraph.task("t1", LinearAlgebraArrays::sgemv, rows, cols, dequantized, vector, gemvOutput) //
+                    .transferToHost(DataTransferMode.EVERY_EXECUTION, gemvOutput);
+            gemvDequantizeExecutor = new TornadoExecutionPlan(gemvDequantizeGraph.snapshot());
+            gemvDequantizeExecutor.withPreCompilation();
+
+            GridScheduler gemmScheduler = new GridScheduler();
+            TaskGraph gemmGraph = new TaskGraph("gemm") //
+                    .transferToDevice(DataTransferMode.FIRST_EXECUTION, weights) //
+                    .transferToDevice(DataTransferMode.EVERY_EXECUTION, batch);
+            QuantizedPrimitives.gemm(gemmGraph, gemmScheduler, "t0", layout, weights, batch, gemmOutput, rows, cols, n);
+            gemmGraph.transferToHost(DataTransferMode.EVERY_EXECUTION, gemmOutput);
+            gemmExecutor = new TornadoExecutionPlan(gemmGraph.snapshot());
+            gemmExecutor.withGridScheduler(gemmScheduler).withPreCompilation();
+
+            TaskGraph gemmDequantizeGraph = new TaskGraph("gemmDequantize") //
+                    .transferToDevice(DataTransferMode.FIRST_EXECUTION, weights) //
+                    .transferToDevice(DataTransferMode.EVERY_EXECUTION, batch);
+            QuantizedPrimitives.dequantize(gemmDequantizeGraph, "t0", layout, weights, dequantized, rows, cols);
+            gemmDequantizeGraph.task("t1", LinearAlgebraArrays::sgemmTransposed, n, rows, cols, batch, dequantized, gemmOutput) //
+                    .transferToHost(DataTransferMode.EVERY_EXECUTION, gemmOutput);
+            gemmDequantizeExecutor = new TornadoExecutionPlan(gemmDequantizeGraph.snapshot());
+            gemmDequantizeExecutor.withPreCompilation();
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = 2, time = 30, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 5, time = 30, timeUnit = TimeUnit.SECONDS)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Fork(1)
+    public void gemvJava(BenchmarkSetup state) {
+        PrimitivesReference.gemv(state.layout, state.weights, state.vector, state.gemvOutput, state.rows, state.cols);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = 2, time = 30, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 5, time = 30, timeUnit = TimeUnit.SECONDS)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Fork(1)
+    public void gemvTornado(BenchmarkSetup state, Blackhole blackhole) {
+        TornadoExecutionPlan executor = state.gemvExecutor;
+        executor.execute();
+        blackhole.consume(executor);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = 2, time = 30, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 5, time = 30, timeUnit = TimeUnit.SECONDS)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Fork(1)
+    public void gemvDequantizeTornado(BenchmarkSetup state, Blackhole blackhole) {
+        TornadoExecutionPlan executor = state.gemvDequantizeExecutor;
+        executor.execute();
+        blackhole.consume(executor);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = 2, time = 30, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 5, time = 30, timeUnit = TimeUnit.SECONDS)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Fork(1)
+    public void gemmJava(BenchmarkSetup state) {
+        PrimitivesReference.gemm(state.layout, state.weights, state.batch, state.gemmOutput, state.rows, state.cols, state.n);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = 2, time = 30, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 5, time = 30, timeUnit = TimeUnit.SECONDS)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Fork(1)
+    public void gemmTornado(BenchmarkSetup state, Blackhole blackhole) {
+        TornadoExecutionPlan executor = state.gemmExecutor;
+        executor.execute();
+        blackhole.consume(executor);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = 2, time = 30, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 5, time = 30, timeUnit = TimeUnit.SECONDS)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Fork(1)
+    public void gemmDequantizeTornado(BenchmarkSetup state, Blackhole blackhole) {
+        TornadoExecutionPlan executor = state.gemmDequantizeExecutor;
+        executor.execute();
+        blackhole.consume(executor);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder() //
+                .include(JMHQuantized.class.getName() + ".*") //
+                .mode(Mode.AverageTime) //
+                .timeUnit(TimeUnit.NANOSECONDS) //
+                .warmupTime(TimeValue.seconds(30)) //
+                .warmupIterations(2) //
+                .measurementTime(TimeValue.seconds(30)) //
+                .measurementIterations(5) //
+                .forks(1) //
+                .build();
+        new Runner(opt).run();
+    }
+}
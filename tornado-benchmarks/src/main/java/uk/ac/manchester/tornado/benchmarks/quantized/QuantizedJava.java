@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.benchmarks.quantized;
+
+import static uk.ac.manchester.tornado.benchmarks.quantized.Benchmark.initData;
+
+import uk.ac.manchester.tornado.api.common.TornadoDevice;
+import uk.ac.manchester.tornado.api.primitives.PrimitivesReference;
+import uk.ac.manchester.tornado.api.primitives.QuantizedLayout;
+import uk.ac.manchester.tornado.api.types.arrays.ByteArray;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.benchmarks.BenchmarkDriver;
+
+public class QuantizedJava extends BenchmarkDriver {
+
+    private final QuantizedLayout layout;
+    private final int rows;
+    private final int cols;
+    private final int n;
+    private ByteArray weights;
+    private FloatArray input;
+    private FloatArray output;
+
+    public QuantizedJava(int iterations, QuantizedLayout layout, int rows, int cols, int n) {
+        super(iterations);
+        this.layout = layout;
+        this.rows = rows;
+        this.cols = cols;
+        this.n = n;
+    }
+
+    @Override
+    public void setUp() {
+        weights = layout.quantize(initData(rows * cols, 1), rows, cols);
+        input = initData(n * cols, 2);
+        output = new FloatArray(n * rows);
+    }
+
+    @Override
+    public void tearDown() {
+        weights = null;
+        input = null;
+        output = null;
+        super.tearDown();
+    }
+
+    @Override
+    public void runBenchmark(TornadoDevice device) {
+        if (n == 1) {
+            PrimitivesReference.gemv(layout, weights, input, output, rows, cols);
+        } else {
+            PrimitivesReference.gemm(layout, weights, input, output, rows, cols, n);
+        }
+    }
+
+    @Override
+    public void barrier() {
+
+    }
+
+    @Override
+    public boolean validate(TornadoDevice device) {
+        return true;
+    }
+
+    public void printSummary() {
+        System.out.printf("id=java-parallel, elapsed=%f, per iteration=%f\n", getElapsed(), getElapsedPerIteration());
+    }
+}
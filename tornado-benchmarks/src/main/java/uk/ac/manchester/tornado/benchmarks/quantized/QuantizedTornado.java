@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.benchmarks.quantized;
+
+import static uk.ac.manchester.tornado.benchmarks.quantized.Benchmark.initData;
+
+import uk.ac.manchester.tornado.api.GridScheduler;
+import uk.ac.manchester.tornado.api.TaskGraph;
+import uk.ac.manchester.tornado.api.TornadoExecutionPlan;
+import uk.ac.manchester.tornado.api.common.TornadoDevice;
+import uk.ac.manchester.tornado.api.enums.DataTransferMode;
+import uk.ac.manchester.tornado.api.primitives.PrimitivesReference;
+import uk.ac.manchester.tornado.api.primitives.QuantizedLayout;
+import uk.ac.manchester.tornado.api.primitives.QuantizedPrimitives;
+import uk.ac.manchester.tornado.api.types.arrays.ByteArray;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.benchmarks.BenchmarkDriver;
+
+/**
+ * <p>
+ * How to run?
+ * </p>
+ * <code>
+ * tornado -m tornado.benchmarks/uk.ac.manchester.tornado.benchmarks.BenchmarkRunner quantized 100 4096 4096 1 q4_0
+ * </code>
+ */
+public class QuantizedTornado extends BenchmarkDriver {
+
+    private static final float MAX_ERROR = 1e-3f;
+
+    private final QuantizedLayout layout;
+    private final int rows;
+    private final int cols;
+    private final int n;
+    private ByteArray weights;
+    private FloatArray input;
+    private FloatArray output;
+
+    public QuantizedTornado(int iterations, QuantizedLayout layout, int rows, int cols, int n) {
+        super(iterations);
+        this.layout = layout;
+        this.rows = rows;
+        this.cols = cols;
+        this.n = n;
+    }
+
+    @Override
+    public void setUp() {
+        weights = layout.quantize(initData(rows * cols, 1), rows, cols);
+        input = initData(n * cols, 2);
+        output = new FloatArray(n * rows);
+
+        GridScheduler gridScheduler = new GridScheduler();
+        taskGraph = new TaskGraph("benchmark") //
+                .transferToDevice(DataTransferMode.FIRST_EXECUTION, weights) //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, input);
+        if (n == 1) {
+            QuantizedPrimitives.gemv(taskGraph, gridScheduler, "gemv", layout, weights, input, output, rows, cols);
+        } else {
+            QuantizedPrimitives.gemm(taskGraph, gridScheduler, "gemm", layout, weights, input, output, rows, cols, n);
+        }
+        taskGraph.transferToHost(DataTransferMode.EVERY_EXECUTION, output);
+        immutableTaskGraph = taskGraph.snapshot();
+        executionPlan = new TornadoExecutionPlan(immutableTaskGraph);
+        executionPlan.withGridScheduler(gridScheduler).withPreCompilation();
+    }
+
+    @Override
+    public void tearDown() {
+        executionResult.getProfilerResult().dumpProfiles();
+
+        weights = null;
+        input = null;
+        output = null;
+
+        executionPlan.resetDevice();
+        super.tearDown();
+    }
+
+    @Override
+    public void runBenchmark(TornadoDevice device) {
+        executionResult = executionPlan.withDevice(device).execute();
+    }
+
+    @Override
+    public boolean validate(TornadoDevice device) {
+        final FloatArray expected = new FloatArray(n * rows);
+
+        runBenchmark(device);
+        executionPlan.clearProfiles();
+
+        PrimitivesReference.gemm(layout, weights, input, expected, rows, cols, n);
+        for (int i = 0; i < expected.getSize(); i++) {
+            float tolerance = Math.max(MAX_ERROR, Math.abs(expected.get(i)) * MAX_ERROR);
+            if (Math.abs(expected.get(i) - output.get(i)) > tolerance) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
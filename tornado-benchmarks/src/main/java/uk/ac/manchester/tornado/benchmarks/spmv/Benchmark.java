@@ -29,6 +29,7 @@ public class Benchmark extends BenchmarkRunner {
 
     private CSRMatrix<FloatArray> matrix;
     private String path;
+    private String strategy;
 
     public static void initData(final FloatArray v) {
         final Random rand = new Random();
@@ -40,6 +41,8 @@ public class Benchmark extends BenchmarkRunner {
 
     @Override
     public void parseArgs(String[] args) {
+        // baseline, auto, scalar, vector, merge_path, ell or sell
+        strategy = System.getProperty("spmv.strategy", "auto").toLowerCase();
         if (args.length == 2) {
             iterations = Integer.parseInt(args[0]);
             final String fullPath = args[1];
@@ -59,12 +62,12 @@ public class Benchmark extends BenchmarkRunner {
 
     @Override
     protected String getIdString() {
-        return String.format("%s-%d-%d-%s", getName(), iterations, matrix.size, path);
+        return String.format("%s-%d-%d-%s-%s", getName(), iterations, matrix.size, path, strategy);
     }
 
     @Override
     protected String getConfigString() {
-        return String.format("matrix=%s", path);
+        return String.format("matrix=%s, strategy=%s", path, strategy);
     }
 
     @Override
@@ -74,7 +77,7 @@ public class Benchmark extends BenchmarkRunner {
 
     @Override
     protected BenchmarkDriver getTornadoDriver() {
-        return new SpmvTornado(iterations, matrix);
+        return new SpmvTornado(iterations, matrix, strategy);
     }
 
 }
@@ -40,15 +40,25 @@ import org.openjdk.jmh.runner.options.Options;
 import org.openjdk.jmh.runner.options.OptionsBuilder;
 import org.openjdk.jmh.runner.options.TimeValue;
 
+import uk.ac.manchester.tornado.api.GridScheduler;
 import uk.ac.manchester.tornado.api.ImmutableTaskGraph;
 import uk.ac.manchester.tornado.api.TaskGraph;
 import uk.ac.manchester.tornado.api.TornadoExecutionPlan;
 import uk.ac.manchester.tornado.api.enums.DataTransferMode;
+import uk.ac.manchester.tornado.api.primitives.SparsePrimitives;
+import uk.ac.manchester.tornado.api.primitives.SparseStrategy;
 import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.api.types.sparse.CSRMatrixFloat;
+import uk.ac.manchester.tornado.api.types.sparse.ELLMatrixFloat;
+import uk.ac.manchester.tornado.api.types.sparse.SELLMatrixFloat;
 import uk.ac.manchester.tornado.benchmarks.LinearAlgebraArrays;
 import uk.ac.manchester.tornado.matrix.SparseMatrixUtils;
 
 /**
+ * Compares the baseline SpMV kernel with the CSR strategies of
+ * {@link SparsePrimitives} and the ELLPACK and SELL-C-sigma formats. The
+ * matrix is a Matrix Market file selected with {@code -Dspmv.matrix}.
+ *
  * <p>
  * How to run in isolation?
  * </p>
@@ -64,12 +74,29 @@ public class JMHSpmv {
         private FloatArray v;
         private FloatArray y;
         private TornadoExecutionPlan executor;
+        private TornadoExecutionPlan scalarExecutor;
+        private TornadoExecutionPlan vectorExecutor;
+        private TornadoExecutionPlan mergePathExecutor;
+        private TornadoExecutionPlan ellExecutor;
+        private TornadoExecutionPlan sellExecutor;
+
+        private TornadoExecutionPlan createCSRPlan(CSRMatrixFloat csrMatrix, SparseStrategy strategy) {
+            GridScheduler gridScheduler = new GridScheduler();
+            TaskGraph taskGraph = new TaskGraph("csr" + strategy) //
+                    .transferToDevice(DataTransferMode.EVERY_EXECUTION, csrMatrix.getArrays()) //
+                    .transferToDevice(DataTransferMode.EVERY_EXECUTION, v);
+            SparsePrimitives.spmv(taskGraph, gridScheduler, "spmv", csrMatrix, v, y, strategy);
+            taskGraph.transferToHost(DataTransferMode.EVERY_EXECUTION, y);
+            TornadoExecutionPlan plan = new TornadoExecutionPlan(taskGraph.snapshot());
+            plan.withGridScheduler(gridScheduler).withPreCompilation();
+            return plan;
+        }
 
         @Setup(Level.Trial)
         public void doSetup() {
             String path = System.getProperty("spmv.matrix", "/bcsstk32.mtx");
             matrix = SparseMatrixUtils.loadMatrixF(uk.ac.manchester.tornado.benchmarks.spmv.Benchmark.class.getResourceAsStream(path));
-            v = new FloatArray(matrix.size);
+            v = new FloatArray(matrix.numColumns);
             y = new FloatArray(matrix.size);
             initData(v);
             TaskGraph taskGraph = new TaskGraph("benchmark") //
@@ -79,6 +106,29 @@ public class JMHSpmv {
             ImmutableTaskGraph immutableTaskGraph = taskGraph.snapshot();
             executor = new TornadoExecutionPlan(immutableTaskGraph);
             executor.withPreCompilation();
+
+            CSRMatrixFloat csrMatrix = SparseMatrixUtils.toCSRMatrixFloat(matrix);
+            scalarExecutor = createCSRPlan(csrMatrix, SparseStrategy.SCALAR);
+            vectorExecutor = createCSRPlan(csrMatrix, SparseStrategy.VECTOR);
+            mergePathExecutor = createCSRPlan(csrMatrix, SparseStrategy.MERGE_PATH);
+
+            ELLMatrixFloat ellMatrix = csrMatrix.toELL();
+            TaskGraph ellGraph = new TaskGraph("ell") //
+                    .transferToDevice(DataTransferMode.EVERY_EXECUTION, ellMatrix.getArrays()) //
+                    .transferToDevice(DataTransferMode.EVERY_EXECUTION, v);
+            SparsePrimitives.spmv(ellGraph, "spmv", ellMatrix, v, y);
+            ellGraph.transferToHost(DataTransferMode.EVERY_EXECUTION, y);
+            ellExecutor = new TornadoExecutionPlan(ellGraph.snapshot());
+            ellExecutor.withPreCompilation();
+
+            SELLMatrixFloat sellMatrix = csrMatrix.toSELL(32, 1024);
+            TaskGraph sellGraph = new TaskGraph("sell") //
+                    .transferToDevice(DataTransferMode.EVERY_EXECUTION, sellMatrix.getArrays()) //
+                    .transferToDevice(DataTransferMode.EVERY_EXECUTION, v);
+            SparsePrimitives.spmv(sellGraph, "spmv", sellMatrix, v, y);
+            sellGraph.transferToHost(DataTransferMode.EVERY_EXECUTION, y);
+            sellExecutor = new TornadoExecutionPlan(sellGraph.snapshot());
+            sellExecutor.withPreCompilation();
         }
     }
 
@@ -105,6 +155,66 @@ public class JMHSpmv {
         blackhole.consume(executor);
     }
 
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = 2, time = 30, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 5, time = 30, timeUnit = TimeUnit.SECONDS)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Fork(1)
+    public void spmvScalarTornado(BenchmarkSetup state, Blackhole blackhole) {
+        TornadoExecutionPlan executor = state.scalarExecutor;
+        executor.execute();
+        blackhole.consume(executor);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = 2, time = 30, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 5, time = 30, timeUnit = TimeUnit.SECONDS)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Fork(1)
+    public void spmvVectorTornado(BenchmarkSetup state, Blackhole blackhole) {
+        TornadoExecutionPlan executor = state.vectorExecutor;
+        executor.execute();
+        blackhole.consume(executor);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = 2, time = 30, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 5, time = 30, timeUnit = TimeUnit.SECONDS)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Fork(1)
+    public void spmvMergePathTornado(BenchmarkSetup state, Blackhole blackhole) {
+        TornadoExecutionPlan executor = state.mergePathExecutor;
+        executor.execute();
+        blackhole.consume(executor);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = 2, time = 30, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 5, time = 30, timeUnit = TimeUnit.SECONDS)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Fork(1)
+    public void spmvELLTornado(BenchmarkSetup state, Blackhole blackhole) {
+        TornadoExecutionPlan executor = state.ellExecutor;
+        executor.execute();
+        blackhole.consume(executor);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = 2, time = 30, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 5, time = 30, timeUnit = TimeUnit.SECONDS)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Fork(1)
+    public void spmvSELLTornado(BenchmarkSetup state, Blackhole blackhole) {
+        TornadoExecutionPlan executor = state.sellExecutor;
+        executor.execute();
+        blackhole.consume(executor);
+    }
+
     public static void main(String[] args) throws RunnerException {
         Options opt = new OptionsBuilder() //
                 .include(JMHSpmv.class.getName() + ".*") //
@@ -37,7 +37,7 @@ public class SpmvJava extends BenchmarkDriver {
 
     @Override
     public void setUp() {
-        v = new FloatArray(matrix.size);
+        v = new FloatArray(matrix.numColumns);
         y = new FloatArray(matrix.size);
         Benchmark.initData(v);
     }
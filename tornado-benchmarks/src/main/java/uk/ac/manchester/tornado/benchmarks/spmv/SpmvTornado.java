@@ -21,13 +21,20 @@ import static uk.ac.manchester.tornado.api.math.TornadoMath.findULPDistance;
 import static uk.ac.manchester.tornado.benchmarks.LinearAlgebraArrays.spmv;
 import static uk.ac.manchester.tornado.benchmarks.spmv.Benchmark.initData;
 
+import uk.ac.manchester.tornado.api.GridScheduler;
 import uk.ac.manchester.tornado.api.TaskGraph;
 import uk.ac.manchester.tornado.api.TornadoExecutionPlan;
 import uk.ac.manchester.tornado.api.common.TornadoDevice;
 import uk.ac.manchester.tornado.api.enums.DataTransferMode;
+import uk.ac.manchester.tornado.api.primitives.SparsePrimitives;
+import uk.ac.manchester.tornado.api.primitives.SparseStrategy;
 import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.api.types.sparse.CSRMatrixFloat;
+import uk.ac.manchester.tornado.api.types.sparse.ELLMatrixFloat;
+import uk.ac.manchester.tornado.api.types.sparse.SELLMatrixFloat;
 import uk.ac.manchester.tornado.benchmarks.BenchmarkDriver;
 import uk.ac.manchester.tornado.benchmarks.LinearAlgebraArrays;
+import uk.ac.manchester.tornado.matrix.SparseMatrixUtils;
 import uk.ac.manchester.tornado.matrix.SparseMatrixUtils.CSRMatrix;
 
 /**
@@ -37,32 +44,73 @@ import uk.ac.manchester.tornado.matrix.SparseMatrixUtils.CSRMatrix;
  * <code>
  * tornado -m tornado.benchmarks/uk.ac.manchester.tornado.benchmarks.BenchmarkRunner spmv
  * </code>
+ *
+ * <p>
+ * The kernel is selected with {@code -Dspmv.strategy}: {@code baseline} (one
+ * thread per row of {@link LinearAlgebraArrays#spmv}), {@code auto},
+ * {@code scalar}, {@code vector} and {@code merge_path} (CSR kernels of
+ * {@link SparsePrimitives}), {@code ell} or {@code sell}.
+ * </p>
  */
 public class SpmvTornado extends BenchmarkDriver {
 
+    /**
+     * Height of the slices of the SELL-C-sigma format.
+     */
+    private static final int SLICE_HEIGHT = 32;
+
+    /**
+     * Number of rows of the sorting windows of the SELL-C-sigma format.
+     */
+    private static final int SIGMA = 1024;
+
     private final CSRMatrix<FloatArray> matrix;
+    private final String strategy;
 
     private FloatArray v;
     private FloatArray y;
 
-    public SpmvTornado(int iterations, CSRMatrix<FloatArray> matrix) {
+    public SpmvTornado(int iterations, CSRMatrix<FloatArray> matrix, String strategy) {
         super(iterations);
         this.matrix = matrix;
+        this.strategy = strategy;
     }
 
     @Override
     public void setUp() {
-        v = new FloatArray(matrix.size);
+        v = new FloatArray(matrix.numColumns);
         y = new FloatArray(matrix.size);
         initData(v);
-        taskGraph = new TaskGraph("benchmark") //
-                .transferToDevice(DataTransferMode.EVERY_EXECUTION, matrix.vals, matrix.cols, matrix.rows, v, y) //
-                .task("spmv", LinearAlgebraArrays::spmv, matrix.vals, matrix.cols, matrix.rows, v, matrix.size, y) //
-                .transferToHost(DataTransferMode.EVERY_EXECUTION, y);
+        GridScheduler gridScheduler = new GridScheduler();
+        CSRMatrixFloat csrMatrix = SparseMatrixUtils.toCSRMatrixFloat(matrix);
+        // The matrix is transferred in every execution for all the strategies, as in the baseline
+        taskGraph = new TaskGraph("benchmark");
+        switch (strategy) {
+            case "baseline" -> taskGraph.transferToDevice(DataTransferMode.EVERY_EXECUTION, matrix.vals, matrix.cols, matrix.rows, v, y) //
+                    .task("spmv", LinearAlgebraArrays::spmv, matrix.vals, matrix.cols, matrix.rows, v, matrix.size, y);
+            case "ell" -> {
+                ELLMatrixFloat ellMatrix = csrMatrix.toELL();
+                taskGraph.transferToDevice(DataTransferMode.EVERY_EXECUTION, ellMatrix.getArrays()) //
+                        .transferToDevice(DataTransferMode.EVERY_EXECUTION, v);
+                SparsePrimitives.spmv(taskGraph, "spmv", ellMatrix, v, y);
+            }
+            case "sell" -> {
+                SELLMatrixFloat sellMatrix = csrMatrix.toSELL(SLICE_HEIGHT, SIGMA);
+                taskGraph.transferToDevice(DataTransferMode.EVERY_EXECUTION, sellMatrix.getArrays()) //
+                        .transferToDevice(DataTransferMode.EVERY_EXECUTION, v);
+                SparsePrimitives.spmv(taskGraph, "spmv", sellMatrix, v, y);
+            }
+            default -> {
+                taskGraph.transferToDevice(DataTransferMode.EVERY_EXECUTION, csrMatrix.getArrays()) //
+                        .transferToDevice(DataTransferMode.EVERY_EXECUTION, v);
+                SparsePrimitives.spmv(taskGraph, gridScheduler, "spmv", csrMatrix, v, y, SparseStrategy.valueOf(strategy.toUpperCase()));
+            }
+        }
+        taskGraph.transferToHost(DataTransferMode.EVERY_EXECUTION, y);
 
         immutableTaskGraph = taskGraph.snapshot();
         executionPlan = new TornadoExecutionPlan(immutableTaskGraph);
-        executionPlan.withPreCompilation();
+        executionPlan.withGridScheduler(gridScheduler).withPreCompilation();
     }
 
     @Override
@@ -484,6 +484,49 @@ JNIEXPORT void JNICALL Java_uk_ac_manchester_tornado_drivers_cuda_CUDACommandQue
     memcpy((void *) dstPtr, (const void *) srcPtr, (size_t) numBytes);
 }
 
+/*
+ * Class:     uk_ac_manchester_tornado_drivers_cuda_CUDACommandQueue
+ * Method:    cuMemcpyPeerAsync
+ * Signature: (JJJJJ)J
+ *
+ * Device-to-device copy from the buffer of another CUDA context (another GPU)
+ * into a buffer of this queue's context. The copy waits on the work already
+ * submitted to the source stream, so it observes the latest writes of the
+ * source device. The driver uses a direct peer transfer when the devices can
+ * access each other's memory.
+ */
+JNIEXPORT jlong JNICALL Java_uk_ac_manchester_tornado_drivers_cuda_CUDACommandQueue_cuMemcpyPeerAsync
+        (JNIEnv *env, jclass clazz, jlong queue_id, jlong dst_ptr, jlong src_queue_id, jlong src_ptr, jlong num_bytes) {
+    cuda_queue_t *queue = (cuda_queue_t *) queue_id;
+    cuda_queue_t *src_queue = (cuda_queue_t *) src_queue_id;
+    if (queue == nullptr || src_queue == nullptr) {
+        return 0;
+    }
+    char nvtxLabel[48];
+    format_transfer_label(nvtxLabel, sizeof(nvtxLabel), "P2P", (long long) num_bytes);
+    NvtxRange _nvtx(nvtxLabel);
+
+    cuCtxSetCurrent(src_queue->context);
+    CUevent src_ready;
+    CUresult result = cuEventCreate(&src_ready, CU_EVENT_DISABLE_TIMING);
+    LOG_CUDA_AND_VALIDATE("cuEventCreate(peer)", result);
+    result = cuEventRecord(src_ready, src_queue->stream);
+    LOG_CUDA_AND_VALIDATE("cuEventRecord(peer)", result);
+
+    cuCtxSetCurrent(queue->context);
+    cuStreamWaitEvent(queue->stream, src_ready, 0);
+    cuda_event_t *ev = begin_event(queue);
+    result = cuMemcpyPeerAsync(
+            (CUdeviceptr) dst_ptr, queue->context,
+            (CUdeviceptr) src_ptr, src_queue->context,
+            (size_t) num_bytes,
+            queue->stream);
+    LOG_CUDA_AND_VALIDATE("cuMemcpyPeerAsync", result);
+    // The wait is already enqueued, so the event can be released
+    cuEventDestroy(src_ready);
+    return end_event(ev, queue);
+}
+
 /*
  * Class:     uk_ac_manchester_tornado_drivers_cuda_CUDACommandQueue
  * Method:    clEnqueueWaitForEvents
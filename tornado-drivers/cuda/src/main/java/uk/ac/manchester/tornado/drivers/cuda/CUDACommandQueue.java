@@ -182,6 +182,9 @@ public class CUDACommandQueue extends CommandQueue {
     /** Plain host-side memcpy between raw pointers (staged-transfer slot fill). */
     static native void memcpyHostToHost(long dstPtr, long srcPtr, long numBytes);
 
+    /** Device-to-device copy from a buffer of the context of another queue. */
+    static native long cuMemcpyPeerAsync(long queueId, long dstPtr, long srcQueueId, long srcPtr, long bytes) throws CUDAException;
+
     /*
      * for CUDADriver 1.2 implementations
      */
@@ -525,6 +528,30 @@ public class CUDACommandQueue extends CommandQueue {
         }
     }
 
+    /**
+     * Copies a buffer of the device of another queue into a buffer of this
+     * queue's device. The copy starts after the work already submitted to the
+     * source queue.
+     *
+     * @param dstPtr
+     *     Device pointer of the destination buffer.
+     * @param srcQueue
+     *     Queue of the device that holds the source buffer.
+     * @param srcPtr
+     *     Device pointer of the source buffer.
+     * @param bytes
+     *     Number of bytes to copy.
+     * @return event of the copy.
+     */
+    public long enqueueCopyFromPeer(long dstPtr, CUDACommandQueue srcQueue, long srcPtr, long bytes) {
+        try {
+            return cuMemcpyPeerAsync(commandQueuePtr, dstPtr, srcQueue.getCommandQueuePtr(), srcPtr, bytes);
+        } catch (CUDAException e) {
+            logger.error(e.getMessage());
+            throw new TornadoBailoutRuntimeException(e.getMessage());
+        }
+    }
+
     public void finish() {
         try {
             clFinish(commandQueuePtr);
@@ -40,8 +40,12 @@ import java.util.concurrent.atomic.AtomicInteger;
 
 import uk.ac.manchester.tornado.api.common.Event;
 import uk.ac.manchester.tornado.api.common.SchedulableTask;
+import uk.ac.manchester.tornado.api.exceptions.TornadoBailoutRuntimeException;
+import uk.ac.manchester.tornado.api.exceptions.TornadoOutOfMemoryException;
 import uk.ac.manchester.tornado.api.runtime.TornadoRuntimeProvider;
 import uk.ac.manchester.tornado.drivers.common.TornadoBufferProvider;
+import uk.ac.manchester.tornado.drivers.common.mm.StagingBackend;
+import uk.ac.manchester.tornado.drivers.common.mm.StagingBufferPool;
 import uk.ac.manchester.tornado.drivers.common.power.PowerMetric;
 import uk.ac.manchester.tornado.drivers.common.utils.EventDescriptor;
 import uk.ac.manchester.tornado.drivers.cuda.enums.CUDADeviceType;
@@ -72,15 +76,10 @@ public class CUDADeviceContext implements CUDADeviceContextInterface {
     private final Set<Long> executionIDs;
 
     /**
-     * Ring of pinned host staging slots for staged transfers (one pinned block of
-     * depth * chunk bytes, sliced into slots). 0 = unallocated (lazy). Shared across plans;
-     * access is serialised by the synchronized staged-write method.
+     * Ring of pinned host staging slots for staged transfers, allocated lazily by the
+     * first staged transfer. Shared across plans; the pool serialises the transfers.
      */
-    private long stagedRingPtr = 0L;
-    private long stagedChunkSize;
-    private int stagedRingDepth;
-    /** Per-slot raw CUevent handle of the slot's last enqueued DMA; 0 = slot never used. */
-    private long[] stagedSlotEvents;
+    private final StagingBufferPool stagingPool = StagingBufferPool.fromOptions(new CUDAStagingBackend());
 
     /** Execution plans that requested intra-plan concurrency (multi-queue issue). */
     private final Set<Long> intraPlanConcurrencyPlans = Collections.synchronizedSet(new HashSet<>());
@@ -479,58 +478,43 @@ public class CUDADeviceContext implements CUDADeviceContextInterface {
      * async copy, so the staging of chunk i+1 overlaps the DMA of chunk i. Slot reuse is gated
      * on the slot's previous DMA event. Unlike the direct path, the source segment does not
      * need to be page-locked - the pinned slots are what makes the DMA asynchronous. Returns
-     * the pool id of the LAST chunk's event (ordering-equivalent to the single-copy event of
-     * the direct path, since all chunks are issued in-order on the same queue).
+     * the pool id of a marker enqueued after the LAST chunk (ordering-equivalent to the
+     * single-copy event of the direct path, since all chunks are issued in-order on the same queue).
      */
-    public synchronized int enqueueStagedWriteBuffer(long executionPlanId, long bufferId, long deviceOffset, long bytes, long hostPointer, long hostOffset, int[] waitEvents) {
+    public int enqueueStagedWriteBuffer(long executionPlanId, long bufferId, long deviceOffset, long bytes, long hostPointer, long hostOffset, int[] waitEvents) {
         if (isStreamCapturing(executionPlanId)) {
             // Host-side slot waits are illegal during CUDA graph capture; use the direct path.
             return enqueueWriteBuffer(executionPlanId, bufferId, deviceOffset, bytes, hostPointer, hostOffset, waitEvents);
         }
         CUDACommandQueue commandQueue = getCommandQueue(executionPlanId, CUDAStreamType.DATA_TRANSFER_H2D);
         CUDAEventPool eventPool = getCUDAEventPool(executionPlanId);
-        ensureStagedRing();
-        long[] firstChunkWaits = eventPool.serialiseEvents(waitEvents, commandQueue, isMultiStreamEnabled(executionPlanId)) ? eventPool.waitEventsBuffer : null;
-        long offset = 0;
-        int chunkIndex = 0;
-        while (offset < bytes) {
-            int slot = chunkIndex % stagedRingDepth;
-            long chunkBytes = Math.min(stagedChunkSize, bytes - offset);
-            if (stagedSlotEvents[slot] != 0) {
-                // Wait (host-side) until the slot's previous upload has drained before refilling
-                // it, then destroy the guard: slot-guard events are RING-owned. They must NOT be
-                // registered in the per-plan event pool - the pool destroys its events on slot
-                // recycling and on plan reset, while this ring is device-wide and outlives plans,
-                // so a pooled handle kept here would dangle (use-after-free in the driver).
-                try {
-                    CUDAEvent.clWaitForEvents(new long[] { 1, stagedSlotEvents[slot] });
-                    CUDAEvent.clReleaseEvent(stagedSlotEvents[slot]);
-                } catch (uk.ac.manchester.tornado.drivers.cuda.exceptions.CUDAException e) {
-                    throw new uk.ac.manchester.tornado.api.exceptions.TornadoBailoutRuntimeException(e.getMessage());
-                }
-                stagedSlotEvents[slot] = 0;
-            }
-            long slotPtr = stagedRingPtr + (long) slot * stagedChunkSize;
-            fillSlot(slotPtr, hostPointer + hostOffset + offset, chunkBytes);
-            stagedSlotEvents[slot] = commandQueue.enqueueWrite(bufferId, CUDABlocking.FALSE, deviceOffset + offset, chunkBytes, slotPtr, 0, chunkIndex == 0 ? firstChunkWaits : null);
-            offset += chunkBytes;
-            chunkIndex++;
+        synchronized (stagingPool) {
+            long[] firstChunkWaits = eventPool.serialiseEvents(waitEvents, commandQueue, isMultiStreamEnabled(executionPlanId)) ? eventPool.waitEventsBuffer : null;
+            stagingPool.upload(hostPointer + hostOffset, bytes, (slotAddress, offset, chunkBytes, chunkIndex) -> commandQueue.enqueueWrite(bufferId, CUDABlocking.FALSE, deviceOffset + offset, chunkBytes,
+                    slotAddress, 0, chunkIndex == 0 ? firstChunkWaits : null));
+            // The dependency event handed back to the caller is a pool-registered marker enqueued
+            // AFTER all chunks. The event pool owns this marker; the ring keeps owning the chunk events.
+            return eventPool.registerEvent(commandQueue.enqueueMarker(), EventDescriptor.DESC_WRITE_SEGMENT, commandQueue);
         }
-        // The dependency event handed back to the caller is a pool-registered marker enqueued
-        // AFTER all chunks (the queue is in-order, so it is ordering-equivalent to the last
-        // chunk's event). The pool owns this marker; the ring keeps owning the chunk events.
-        return eventPool.registerEvent(commandQueue.enqueueMarker(), EventDescriptor.DESC_WRITE_SEGMENT, commandQueue);
-    }
-
-    private void ensureStagedRing() {
-        if (stagedRingPtr == 0L) {
-            stagedChunkSize = TornadoOptions.STAGED_TRANSFER_CHUNK_SIZE;
-            stagedRingDepth = Math.max(2, TornadoOptions.STAGED_TRANSFER_RING_DEPTH);
-            stagedRingPtr = CUDACommandQueue.cuMemAllocHost(stagedChunkSize * stagedRingDepth);
-            if (stagedRingPtr == 0L) {
-                throw new uk.ac.manchester.tornado.api.exceptions.TornadoOutOfMemoryException("[CUDA] cuMemAllocHost failed: could not allocate " + (stagedChunkSize * stagedRingDepth) + " bytes of pinned host memory for the staging ring");
-            }
-            stagedSlotEvents = new long[stagedRingDepth];
+    }
+
+    /**
+     * Staged D2H transfer through the ring of pinned host slots. Each chunk is read into a pinned
+     * slot with an async copy and copied (multi-threaded) to the destination once the slot is
+     * needed again, so the copy of chunk i overlaps the DMA of the following chunks. The call
+     * returns when the destination holds all the data; the returned marker is already complete.
+     */
+    public int enqueueStagedReadBuffer(long executionPlanId, long bufferId, long deviceOffset, long bytes, long hostPointer, long hostOffset, int[] waitEvents) {
+        if (isStreamCapturing(executionPlanId)) {
+            return enqueueReadBuffer(executionPlanId, bufferId, deviceOffset, bytes, hostPointer, hostOffset, waitEvents);
+        }
+        CUDACommandQueue commandQueue = getCommandQueue(executionPlanId, CUDAStreamType.DATA_TRANSFER_D2H);
+        CUDAEventPool eventPool = getCUDAEventPool(executionPlanId);
+        synchronized (stagingPool) {
+            long[] firstChunkWaits = eventPool.serialiseEvents(waitEvents, commandQueue, isMultiStreamEnabled(executionPlanId)) ? eventPool.waitEventsBuffer : null;
+            stagingPool.download(hostPointer + hostOffset, bytes, (slotAddress, offset, chunkBytes, chunkIndex) -> commandQueue.enqueueRead(bufferId, CUDABlocking.FALSE, deviceOffset + offset, chunkBytes,
+                    slotAddress, 0, chunkIndex == 0 ? firstChunkWaits : null));
+            return eventPool.registerEvent(commandQueue.enqueueMarker(), EventDescriptor.DESC_READ_SEGMENT, commandQueue);
         }
     }
 
@@ -540,49 +524,58 @@ public class CUDADeviceContext implements CUDADeviceContextInterface {
      * would pull it out from under a concurrent plan. Mirrors the PTX backend, which frees its ring in
      * {@code PTXStream.cuDestroyStream()}.
      * <p>
-     * Each in-flight slot DMA reads FROM ring memory, so every outstanding slot event is drained
-     * before the pinned block is released; freeing it under a live DMA is undefined behaviour. The
-     * ring is left unallocated, so a subsequent staged transfer lazily rebuilds it.
+     * The pool drains every in-flight slot DMA before the pinned block is released; freeing it under
+     * a live DMA is undefined behaviour. A subsequent staged transfer lazily rebuilds the ring.
      */
     @Override
-    public synchronized void releaseStagedRing() {
-        if (stagedRingPtr == 0L) {
-            return;
-        }
-        for (int slot = 0; slot < stagedSlotEvents.length; slot++) {
-            if (stagedSlotEvents[slot] != 0) {
-                try {
-                    CUDAEvent.clWaitForEvents(new long[] { 1, stagedSlotEvents[slot] });
-                    CUDAEvent.clReleaseEvent(stagedSlotEvents[slot]);
-                } catch (uk.ac.manchester.tornado.drivers.cuda.exceptions.CUDAException e) {
-                    throw new uk.ac.manchester.tornado.api.exceptions.TornadoBailoutRuntimeException(e.getMessage());
-                }
-                stagedSlotEvents[slot] = 0;
-            }
-        }
-        CUDACommandQueue.cuMemFreeHost(stagedRingPtr);
-        stagedRingPtr = 0L;
-        stagedSlotEvents = null;
+    public void releaseStagedRing() {
+        stagingPool.release();
     }
 
     /**
-     * Fills a pinned staging slot from the source. A single thread's memcpy is slower than the
-     * PCIe DMA it feeds, which would make the staged path fill-bound; splitting the copy across
-     * threads lifts the fill above the DMA rate so the transfer stays DMA-bound.
+     * Staging hooks of the CUDA backend: the slots are page-locked with cuMemAllocHost, and the
+     * slot-guard events are RING-owned. They must NOT be registered in the per-plan event pool -
+     * the pool destroys its events on slot recycling and on plan reset, while the ring is
+     * device-wide and outlives plans, so a pooled handle kept by the ring would dangle.
      */
-    private void fillSlot(long dstPtr, long srcPtr, long bytes) {
-        int threads = TornadoOptions.STAGED_TRANSFER_FILL_THREADS;
-        long minPerThread = 1 << 21;
-        if (threads <= 1 || bytes < threads * minPerThread) {
-            CUDACommandQueue.memcpyHostToHost(dstPtr, srcPtr, bytes);
-            return;
+    private static final class CUDAStagingBackend implements StagingBackend {
+
+        @Override
+        public long allocateHostMemory(long numBytes) {
+            long hostPointer = CUDACommandQueue.cuMemAllocHost(numBytes);
+            if (hostPointer == 0L) {
+                throw new TornadoOutOfMemoryException("[CUDA] cuMemAllocHost failed: could not allocate " + numBytes + " bytes of pinned host memory for the staging ring");
+            }
+            return hostPointer;
+        }
+
+        @Override
+        public void freeHostMemory(long hostAddress) {
+            CUDACommandQueue.cuMemFreeHost(hostAddress);
+        }
+
+        @Override
+        public void waitForTransfer(long transfer) {
+            try {
+                CUDAEvent.clWaitForEvents(new long[] { 1, transfer });
+            } catch (uk.ac.manchester.tornado.drivers.cuda.exceptions.CUDAException e) {
+                throw new TornadoBailoutRuntimeException(e.getMessage());
+            }
+        }
+
+        @Override
+        public void releaseTransfer(long transfer) {
+            try {
+                CUDAEvent.clReleaseEvent(transfer);
+            } catch (uk.ac.manchester.tornado.drivers.cuda.exceptions.CUDAException e) {
+                throw new TornadoBailoutRuntimeException(e.getMessage());
+            }
+        }
+
+        @Override
+        public void copyHostToHost(long destination, long source, long numBytes) {
+            CUDACommandQueue.memcpyHostToHost(destination, source, numBytes);
         }
-        long subSize = bytes / threads;
-        java.util.stream.IntStream.range(0, threads).parallel().forEach(t -> {
-            long subOffset = t * subSize;
-            long subBytes = (t == threads - 1) ? bytes - subOffset : subSize;
-            CUDACommandQueue.memcpyHostToHost(dstPtr + subOffset, srcPtr + subOffset, subBytes);
-        });
     }
 
     /**
@@ -1016,6 +1009,19 @@ public class CUDADeviceContext implements CUDADeviceContextInterface {
         return getCUDACodeCache(executionPlanId);
     }
 
+    /**
+     * Copies a buffer from the memory of another CUDA device into a buffer of
+     * this device. The copy is submitted to the queue of the execution plan and
+     * waits for the work already submitted to the queue of the source device.
+     */
+    public int enqueueCopyFromPeer(long executionPlanId, long destDevicePtr, CUDADeviceContext srcDeviceContext, long srcDevicePtr, long bytes) {
+        CUDACommandQueue commandQueue = getCommandQueue(executionPlanId);
+        CUDACommandQueue srcCommandQueue = srcDeviceContext.getCommandQueue(executionPlanId);
+        CUDAEventPool eventPool = getCUDAEventPool(executionPlanId);
+        long eventId = commandQueue.enqueueCopyFromPeer(destDevicePtr, srcCommandQueue, srcDevicePtr, bytes);
+        return eventPool.registerEvent(eventId, EventDescriptor.DESC_COPY_PEER, commandQueue);
+    }
+
     public long mapOnDeviceMemoryRegion(long executionPlanId, long destDevicePtr, long srcDevicePtr, long offset, int sizeOfType, long sizeSource, long sizeDest) {
         CUDACommandQueue commandQueue = getCommandQueue(executionPlanId);
         return commandQueue.mapOnDeviceMemoryRegion(commandQueue.getCommandQueuePtr(), destDevicePtr, srcDevicePtr, offset, sizeOfType, sizeSource, sizeDest);
@@ -711,6 +711,9 @@ public final class CUDAAssembler extends Assembler {
         public static final CUDAUnaryIntrinsic NATIVE_SIN = new CUDAUnaryIntrinsic("sin");
         public static final CUDAUnaryIntrinsic NATIVE_SQRT = new CUDAUnaryIntrinsic("sqrt");
         public static final CUDAUnaryIntrinsic NATIVE_TAN = new CUDAUnaryIntrinsic("tan");
+        public static final CUDAUnaryIntrinsic NATIVE_EXP = new CUDAUnaryIntrinsic("__expf");
+        public static final CUDAUnaryIntrinsic NATIVE_LOG = new CUDAUnaryIntrinsic("__logf");
+        public static final CUDAUnaryIntrinsic NATIVE_RSQRT = new CUDAUnaryIntrinsic("rsqrtf");
         public static final CUDAUnaryIntrinsic SIN = new CUDAUnaryIntrinsic("sin");
         public static final CUDAUnaryIntrinsic COS = new CUDAUnaryIntrinsic("cos");
         public static final CUDAUnaryIntrinsic TAN = new CUDAUnaryIntrinsic("tan");
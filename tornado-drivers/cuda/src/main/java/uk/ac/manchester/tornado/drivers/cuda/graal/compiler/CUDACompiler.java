@@ -367,7 +367,7 @@ public class CUDACompiler {
         final long batchThreads = (taskMeta.getNumThreads() > 0) ? taskMeta.getNumThreads() : task.getBatchThreads();
         final int batchNumber = task.getBatchNumber();
         final long batchSize = task.getBatchSize();
-        BatchCompilationConfig batchCompilationConfig = new BatchCompilationConfig(batchThreads, batchNumber, batchSize);
+        BatchCompilationConfig batchCompilationConfig = new BatchCompilationConfig(batchThreads, batchNumber, batchSize, taskMeta.getPartitionOffset());
         taskMeta.setCompiledGraph(resolvedMethod);
 
         OptimisticOptimizations optimisticOpts = OptimisticOptimizations.ALL;
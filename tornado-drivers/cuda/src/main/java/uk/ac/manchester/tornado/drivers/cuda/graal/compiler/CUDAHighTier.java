@@ -41,6 +41,7 @@ import uk.ac.manchester.tornado.drivers.common.compiler.phases.guards.ExceptionS
 import uk.ac.manchester.tornado.drivers.common.compiler.phases.guards.TornadoValueTypeCleanup;
 import uk.ac.manchester.tornado.drivers.common.compiler.phases.memalloc.TornadoFieldAccessFixup;
 import uk.ac.manchester.tornado.drivers.common.compiler.phases.memalloc.TornadoLocalMemoryAllocation;
+import uk.ac.manchester.tornado.drivers.common.compiler.phases.memalloc.TornadoMixedPrecisionStorage;
 import uk.ac.manchester.tornado.drivers.common.compiler.phases.memalloc.TornadoNewArrayDevirtualizationReplacement;
 import uk.ac.manchester.tornado.drivers.common.compiler.phases.memalloc.TornadoPrivateArrayPiRemoval;
 import uk.ac.manchester.tornado.drivers.cuda.graal.phases.TornadoBatchGlobalIndexOffset;
@@ -80,6 +81,7 @@ public class CUDAHighTier extends TornadoHighTier {
         appendPhase(new TornadoTaskSpecialisation(canonicalizer));
         appendPhase(new TornadoBatchGlobalIndexOffset());
         appendPhase(new TornadoFieldAccessFixup());
+        appendPhase(new TornadoMixedPrecisionStorage());
         appendPhase(canonicalizer);
         appendPhase(new DeadCodeEliminationPhase(Optional));
 
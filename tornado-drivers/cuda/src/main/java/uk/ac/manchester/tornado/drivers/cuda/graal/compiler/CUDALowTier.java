@@ -115,7 +115,7 @@ public class CUDALowTier extends TornadoLowTier {
 
         appendPhase(new SchedulePhase(SchedulePhase.SchedulingStrategy.LATEST_OUT_OF_LOOPS));
 
-        if (TornadoOptions.FEATURE_EXTRACTION) {
+        if (TornadoOptions.isCodeFeatureExtractionEnabled()) {
             appendPhase(new TornadoFeatureExtraction(tornadoDeviceContext));
         }
 
@@ -94,6 +94,7 @@ import uk.ac.manchester.tornado.drivers.cuda.graal.nodes.CUDAMMAStoreNode;
 import uk.ac.manchester.tornado.drivers.cuda.graal.nodes.CUDAShuffleDownNode;
 import uk.ac.manchester.tornado.drivers.cuda.graal.nodes.CUDASimdBroadcastFirstNode;
 import uk.ac.manchester.tornado.drivers.cuda.graal.nodes.CUDASimdSumNode;
+import uk.ac.manchester.tornado.drivers.cuda.graal.nodes.CUDASubgroupShuffleNode;
 import uk.ac.manchester.tornado.drivers.cuda.graal.nodes.DecAtomicNode;
 import uk.ac.manchester.tornado.drivers.cuda.graal.nodes.GetAtomicNode;
 import uk.ac.manchester.tornado.drivers.cuda.graal.nodes.GlobalThreadIdNode;
@@ -143,6 +144,8 @@ import static uk.ac.manchester.tornado.drivers.cuda.graal.nodes.CUDAIntUnaryIntr
 
 public class CUDAGraphBuilderPlugins {
 
+    private static final int WARP_SIZE = 32;
+
     public static void registerInvocationPlugins(final Plugins ps, final InvocationPlugins plugins, final HotSpotMetaAccessProvider metaAccessProvider) {
         if (TornadoOptions.INLINE_DURING_BYTECODE_PARSING) {
             ps.appendInlineInvokePlugin(new InlineDuringParsingPlugin());
@@ -481,6 +484,7 @@ public class CUDAGraphBuilderPlugins {
         localArraysPlugins(r);
         registerAtomicAddOperation(r);
         registerSIMDPlugins(r);
+        registerSubgroupPlugins(r);
         registerMMAPlugins(r);
         registerCpAsyncPlugins(r);
         registerSwizzledLocalAccessesPlugins(r);
@@ -887,6 +891,35 @@ public class CUDAGraphBuilderPlugins {
         });
     }
 
+    private static void registerSubgroupPlugins(Registration r) {
+        // A subgroup is a warp. The lane id is computed from the local id by the
+        // KernelContext implementation, and the reductions and scans are built on
+        // top of the shuffles below.
+        r.register(new InvocationPlugin("getSubgroupSize", InvocationPlugin.Receiver.class) {
+            @Override
+            public boolean apply(GraphBuilderContext b, ResolvedJavaMethod targetMethod, Receiver receiver) {
+                b.addPush(JavaKind.Int, ConstantNode.forInt(WARP_SIZE));
+                return true;
+            }
+        });
+        registerSubgroupShufflePlugin(r, "subgroupShuffle", CUDALIRStmt.ShuffleSyncStmt.Mode.IDX);
+        registerSubgroupShufflePlugin(r, "subgroupShuffleDown", CUDALIRStmt.ShuffleSyncStmt.Mode.DOWN);
+        registerSubgroupShufflePlugin(r, "subgroupShuffleUp", CUDALIRStmt.ShuffleSyncStmt.Mode.UP);
+        registerSubgroupShufflePlugin(r, "subgroupShuffleXor", CUDALIRStmt.ShuffleSyncStmt.Mode.XOR);
+    }
+
+    private static void registerSubgroupShufflePlugin(Registration r, String methodName, CUDALIRStmt.ShuffleSyncStmt.Mode mode) {
+        for (JavaKind kind : new JavaKind[] { JavaKind.Int, JavaKind.Float }) {
+            r.register(new InvocationPlugin(methodName, InvocationPlugin.Receiver.class, kind.toJavaClass(), int.class) {
+                @Override
+                public boolean apply(GraphBuilderContext b, ResolvedJavaMethod targetMethod, Receiver receiver, ValueNode value, ValueNode operand) {
+                    b.addPush(kind, new CUDASubgroupShuffleNode(kind, value, operand, mode));
+                    return true;
+                }
+            });
+        }
+    }
+
     private static void registerSwizzledLocalAccessesPlugins(Registration r) {
         r.register(new InvocationPlugin("swizzleLoadFp16Stride32", InvocationPlugin.Receiver.class, HalfFloat[].class, int.class, int.class, int.class) {
             @Override
@@ -48,6 +48,9 @@ import static uk.ac.manchester.tornado.drivers.cuda.graal.asm.CUDAAssembler.CUDA
 import static uk.ac.manchester.tornado.drivers.cuda.graal.asm.CUDAAssembler.CUDAUnaryIntrinsic.FLOAT_TRUNC;
 import static uk.ac.manchester.tornado.drivers.cuda.graal.asm.CUDAAssembler.CUDAUnaryIntrinsic.LOG;
 import static uk.ac.manchester.tornado.drivers.cuda.graal.asm.CUDAAssembler.CUDAUnaryIntrinsic.NATIVE_COS;
+import static uk.ac.manchester.tornado.drivers.cuda.graal.asm.CUDAAssembler.CUDAUnaryIntrinsic.NATIVE_EXP;
+import static uk.ac.manchester.tornado.drivers.cuda.graal.asm.CUDAAssembler.CUDAUnaryIntrinsic.NATIVE_LOG;
+import static uk.ac.manchester.tornado.drivers.cuda.graal.asm.CUDAAssembler.CUDAUnaryIntrinsic.NATIVE_RSQRT;
 import static uk.ac.manchester.tornado.drivers.cuda.graal.asm.CUDAAssembler.CUDAUnaryIntrinsic.NATIVE_SIN;
 import static uk.ac.manchester.tornado.drivers.cuda.graal.asm.CUDAAssembler.CUDAUnaryIntrinsic.NATIVE_SQRT;
 import static uk.ac.manchester.tornado.drivers.cuda.graal.asm.CUDAAssembler.CUDAUnaryIntrinsic.NATIVE_TAN;
@@ -159,6 +162,11 @@ public class CUDABuiltinTool {
         return new CUDAUnary.Intrinsic(EXP, LIRKind.value(input.getPlatformKind()), input);
     }
 
+    public Value genFloatNativeExp(Value input) {
+        Logger.traceBuildLIR(Logger.BACKEND.OpenCL, "genNativeExp: __expf(%s)", input);
+        return new CUDAUnary.Intrinsic(NATIVE_EXP, LIRKind.value(input.getPlatformKind()), input);
+    }
+
     public Value genFloatExp2(Value input) {
         unimplemented();
         return null;
@@ -194,6 +202,11 @@ public class CUDABuiltinTool {
         return new CUDAUnary.Intrinsic(LOG, LIRKind.value(input.getPlatformKind()), input);
     }
 
+    public Value genFloatNativeLog(Value input) {
+        Logger.traceBuildLIR(Logger.BACKEND.OpenCL, "genNativeLog: __logf(%s)", input);
+        return new CUDAUnary.Intrinsic(NATIVE_LOG, LIRKind.value(input.getPlatformKind()), input);
+    }
+
     public Value genFloatRadians(Value input) {
         Logger.traceBuildLIR(Logger.BACKEND.OpenCL, "genFloatRadians: radians(%s)", input);
         return new CUDAUnary.Intrinsic(RADIANS, LIRKind.value(input.getPlatformKind()), input);
@@ -249,6 +262,11 @@ public class CUDABuiltinTool {
         return null;
     }
 
+    public Value genFloatNativeRSqrt(Value input) {
+        Logger.traceBuildLIR(Logger.BACKEND.OpenCL, "genNativeRSqrt: rsqrtf(%s)", input);
+        return new CUDAUnary.Intrinsic(NATIVE_RSQRT, LIRKind.value(input.getPlatformKind()), input);
+    }
+
     public Value genFloatSign(Value input) {
         Logger.traceBuildLIR(Logger.BACKEND.OpenCL, "genSign: sign(%s)", input);
         return new CUDAUnary.Intrinsic(SIGN, LIRKind.value(input.getPlatformKind()), input);
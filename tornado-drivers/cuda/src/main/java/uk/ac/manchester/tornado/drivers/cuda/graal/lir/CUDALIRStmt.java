@@ -882,6 +882,8 @@ public class CUDALIRStmt {
          * <ul>
          *   <li>{@code DOWN} -> {@code __shfl_down_sync(mask, var, delta)}: each lane
          *       receives {@code var} from the lane {@code delta} positions ahead.</li>
+         *   <li>{@code UP}   -> {@code __shfl_up_sync(mask, var, delta)}: each lane
+         *       receives {@code var} from the lane {@code delta} positions behind.</li>
          *   <li>{@code IDX}  -> {@code __shfl_sync(mask, var, srcLane)}: each lane
          *       receives {@code var} from {@code srcLane} (broadcast when srcLane=0).</li>
          *   <li>{@code XOR}  -> {@code __shfl_xor_sync(mask, var, laneMask)}: butterfly
@@ -890,6 +892,7 @@ public class CUDALIRStmt {
          */
         public enum Mode {
             DOWN("__shfl_down_sync"),
+            UP("__shfl_up_sync"),
             IDX("__shfl_sync"),
             XOR("__shfl_xor_sync");
 
@@ -107,10 +107,11 @@ public class CUDAFPUnaryIntrinsicNode extends UnaryNode implements ArithmeticLIR
             case ACOS -> Math.acos(value);
             case ACOSH -> computeAcosh(value);
             case FABS -> Math.abs(value);
-            case EXP -> Math.exp(value);
+            case EXP, NATIVE_EXP -> Math.exp(value);
             case SQRT -> Math.sqrt(value);
             case FLOOR -> Math.floor(value);
-            case LOG -> Math.log(value);
+            case LOG, NATIVE_LOG -> Math.log(value);
+            case NATIVE_RSQRT -> 1.0 / Math.sqrt(value);
             default -> throw new TornadoInternalError("unable to compute op %s", op);
         };
     }
@@ -123,10 +124,11 @@ public class CUDAFPUnaryIntrinsicNode extends UnaryNode implements ArithmeticLIR
             case ACOS -> (float) Math.acos(value);
             case ACOSH -> computeAcosh(value);
             case FABS -> Math.abs(value);
-            case EXP -> (float) Math.exp(value);
+            case EXP, NATIVE_EXP -> (float) Math.exp(value);
             case SQRT -> (float) Math.sqrt(value);
             case FLOOR -> (float) Math.floor(value);
-            case LOG -> (float) Math.log(value);
+            case LOG, NATIVE_LOG -> (float) Math.log(value);
+            case NATIVE_RSQRT -> (float) (1.0 / Math.sqrt(value));
             default -> throw new TornadoInternalError("unable to compute op %s", op);
         };
     }
@@ -176,6 +178,9 @@ public class CUDAFPUnaryIntrinsicNode extends UnaryNode implements ArithmeticLIR
             case RADIANS -> gen.genFloatRadians(input);
             case COSPI -> gen.genFloatCosPI(input);
             case SINPI -> gen.genFloatSinPI(input);
+            case NATIVE_EXP -> gen.genFloatNativeExp(input);
+            case NATIVE_LOG -> gen.genFloatNativeLog(input);
+            case NATIVE_RSQRT -> gen.genFloatNativeRSqrt(input);
             default -> throw shouldNotReachHere();
         };
         Variable x = builder.getLIRGeneratorTool().newVariable(result.getValueKind());
@@ -229,7 +234,10 @@ public class CUDAFPUnaryIntrinsicNode extends UnaryNode implements ArithmeticLIR
         TANH,
         TANPI,
         TGAMMA,
-        TRUNC
+        TRUNC,
+        NATIVE_EXP,
+        NATIVE_LOG,
+        NATIVE_RSQRT
     }
     // @formatter:on
 
@@ -50,11 +50,14 @@ import java.util.Optional;
  * <p> E.g.
  *     {@code output.set(i, i)} will be transformed to {@code output.set(i, i + batchNumber * batchSize)}
  * </p>
+ * <p>
+ * With co-execution, the first iteration of the partition that runs on the
+ * device is added to the offset as well.
+ * </p>
  */
 public class TornadoBatchGlobalIndexOffset extends BasePhase<TornadoHighTierContext> {
 
-    private long batchSize;
-    private int batchNumber;
+    private long indexOffset;
 
     @Override
     public Optional<BasePhase.NotApplicable> notApplicableTo(GraphState graphState) {
@@ -63,14 +66,12 @@ public class TornadoBatchGlobalIndexOffset extends BasePhase<TornadoHighTierCont
 
     protected void run(StructuredGraph graph, TornadoHighTierContext context) {
         BatchCompilationConfig batchCompilationConfig = context.getBatchCompilationConfig();
-        batchSize = batchCompilationConfig.getBatchSize();
-        // This phase is only applied for batch processing.
-        if (batchSize == 0) {
+        indexOffset = batchCompilationConfig.getIndexOffset();
+        // This phase is only applied for batch processing and co-execution.
+        if (indexOffset == 0) {
             return;
         }
 
-        batchNumber = batchCompilationConfig.getBatchNumber();
-
         for (ValuePhiNode phiNode : graph.getNodes().filter(ValuePhiNode.class)) {
             ArrayList<ValueNode> indexUsages = new ArrayList<>();
             for (Node phiNodeUsage : phiNode.usages()) {
@@ -79,7 +80,7 @@ public class TornadoBatchGlobalIndexOffset extends BasePhase<TornadoHighTierCont
                 }
             }
             for (ValueNode phiIndexUsage : indexUsages) {
-                Constant batchNumberConstant = new RawConstant(batchNumber * batchSize);
+                Constant batchNumberConstant = new RawConstant(indexOffset);
                 ConstantNode batchNumberNode = new ConstantNode(batchNumberConstant, StampFactory.forKind(JavaKind.Int));
                 graph.addWithoutUnique(batchNumberNode);
 
@@ -45,6 +45,9 @@ import jdk.vm.ci.meta.JavaKind;
 import jdk.vm.ci.meta.MetaAccessProvider;
 import jdk.vm.ci.meta.PrimitiveConstant;
 import jdk.vm.ci.meta.ResolvedJavaType;
+import uk.ac.manchester.tornado.api.enums.MathFunction;
+import uk.ac.manchester.tornado.api.enums.MathPrecision;
+import uk.ac.manchester.tornado.drivers.common.compiler.phases.utils.MathPolicyReplacements;
 import uk.ac.manchester.tornado.drivers.cuda.graal.CUDAArchitecture;
 import uk.ac.manchester.tornado.drivers.cuda.graal.CUDALoweringProvider;
 import uk.ac.manchester.tornado.drivers.cuda.graal.nodes.FixedArrayNode;
@@ -55,6 +58,7 @@ import uk.ac.manchester.tornado.drivers.cuda.graal.nodes.LocalArrayNode;
 import uk.ac.manchester.tornado.drivers.cuda.graal.nodes.LocalGroupSizeNode;
 import uk.ac.manchester.tornado.drivers.cuda.graal.nodes.LocalThreadIDFixedNode;
 import uk.ac.manchester.tornado.drivers.cuda.graal.nodes.CUDABarrierNode;
+import uk.ac.manchester.tornado.drivers.cuda.graal.nodes.CUDAFPUnaryIntrinsicNode;
 import uk.ac.manchester.tornado.drivers.cuda.graal.nodes.CUDAPrintf;
 import uk.ac.manchester.tornado.runtime.graal.phases.TornadoHighTierContext;
 
@@ -135,6 +139,20 @@ public class TornadoCUDAIntrinsicsReplacements extends BasePhase<TornadoHighTier
                     break;
             }
         }
+
+        MathPolicyReplacements.apply(graph, context, TornadoCUDAIntrinsicsReplacements::createMathIntrinsic);
+    }
+
+    private static ValueNode createMathIntrinsic(ValueNode input, MathFunction function, MathPrecision precision) {
+        // CUDA does not have half-precision variants of the float functions: HALF uses the fast intrinsics
+        CUDAFPUnaryIntrinsicNode.Operation operation = switch (function) {
+            case EXP -> CUDAFPUnaryIntrinsicNode.Operation.NATIVE_EXP;
+            case LOG -> CUDAFPUnaryIntrinsicNode.Operation.NATIVE_LOG;
+            case RSQRT -> CUDAFPUnaryIntrinsicNode.Operation.NATIVE_RSQRT;
+            // There is no fast tanh intrinsic: it is expressed with __expf
+            case TANH -> null;
+        };
+        return (operation == null) ? null : CUDAFPUnaryIntrinsicNode.create(input, operation, JavaKind.Float);
     }
 
     private void lowerLocalInvokeNodeNewArray(StructuredGraph graph, int length, JavaKind elementKind, InvokeNode newArray) {
@@ -26,6 +26,7 @@
 package uk.ac.manchester.tornado.drivers.cuda.graal.snippets;
 
 import org.graalvm.compiler.api.replacements.Snippet;
+import org.graalvm.compiler.api.replacements.Snippet.ConstantParameter;
 import org.graalvm.compiler.nodes.GraphState;
 import org.graalvm.compiler.nodes.ValueNode;
 import org.graalvm.compiler.nodes.java.NewArrayNode;
@@ -40,6 +41,7 @@ import org.graalvm.compiler.replacements.Snippets;
 
 import jdk.vm.ci.meta.JavaKind;
 import uk.ac.manchester.tornado.api.math.TornadoMath;
+import uk.ac.manchester.tornado.drivers.common.utils.ReduceBitwiseOperation;
 import uk.ac.manchester.tornado.drivers.cuda.builtins.CUDAIntrinsics;
 import uk.ac.manchester.tornado.drivers.cuda.graal.nodes.GlobalThreadSizeNode;
 import uk.ac.manchester.tornado.drivers.cuda.graal.nodes.CUDAFPBinaryIntrinsicNode;
@@ -802,6 +804,99 @@ public class ReduceGPUSnippets implements Snippets {
         }
     }
 
+    @Snippet
+    public static void partialReduceIntBitwise(int[] inputArray, int[] outputArray, int gidx, @ConstantParameter int operation) {
+        int[] localArray = (int[]) NewArrayNode.newUninitializedArray(int.class, LOCAL_WORK_GROUP_SIZE);
+
+        int localIdx = CUDAIntrinsics.get_local_id(0);
+        int localGroupSize = CUDAIntrinsics.get_local_size(0);
+        int groupID = CUDAIntrinsics.get_group_id(0);
+
+        localArray[localIdx] = inputArray[gidx];
+
+        for (int stride = (localGroupSize / 2); stride > 0; stride /= 2) {
+            CUDAIntrinsics.localBarrier();
+            if (localIdx < stride) {
+                localArray[localIdx] = ReduceBitwiseOperation.apply(localArray[localIdx], localArray[localIdx + stride], operation);
+            }
+        }
+
+        CUDAIntrinsics.globalBarrier();
+        if (localIdx == 0) {
+            outputArray[groupID + 1] = localArray[0];
+        }
+    }
+
+    @Snippet
+    public static void partialReduceIntBitwiseCarrierValue(int[] inputArray, int[] outputArray, int gidx, int value, @ConstantParameter int operation) {
+
+        int[] localArray = (int[]) NewArrayNode.newUninitializedArray(int.class, LOCAL_WORK_GROUP_SIZE);
+
+        int localIdx = CUDAIntrinsics.get_local_id(0);
+        int localGroupSize = CUDAIntrinsics.get_local_size(0);
+        int groupID = CUDAIntrinsics.get_group_id(0);
+
+        localArray[localIdx] = value;
+
+        for (int stride = (localGroupSize / 2); stride > 0; stride /= 2) {
+            CUDAIntrinsics.localBarrier();
+            if (localIdx < stride) {
+                localArray[localIdx] = ReduceBitwiseOperation.apply(localArray[localIdx], localArray[localIdx + stride], operation);
+            }
+        }
+        CUDAIntrinsics.globalBarrier();
+        if (localIdx == 0) {
+            outputArray[groupID + 1] = localArray[0];
+        }
+    }
+
+    @Snippet
+    public static void partialReduceLongBitwise(long[] inputArray, long[] outputArray, int gidx, @ConstantParameter int operation) {
+        long[] localArray = (long[]) NewArrayNode.newUninitializedArray(long.class, LOCAL_WORK_GROUP_SIZE);
+
+        int localIdx = CUDAIntrinsics.get_local_id(0);
+        int localGroupSize = CUDAIntrinsics.get_local_size(0);
+        int groupID = CUDAIntrinsics.get_group_id(0);
+
+        localArray[localIdx] = inputArray[gidx];
+
+        for (int stride = (localGroupSize / 2); stride > 0; stride /= 2) {
+            CUDAIntrinsics.localBarrier();
+            if (localIdx < stride) {
+                localArray[localIdx] = ReduceBitwiseOperation.apply(localArray[localIdx], localArray[localIdx + stride], operation);
+            }
+        }
+
+        CUDAIntrinsics.globalBarrier();
+        if (localIdx == 0) {
+            outputArray[groupID + 1] = localArray[0];
+        }
+    }
+
+    @Snippet
+    public static void partialReduceLongBitwiseCarrierValue(long[] inputArray, long[] outputArray, int gidx, long value, @ConstantParameter int operation) {
+
+        int localIdx = CUDAIntrinsics.get_local_id(0);
+        int localGroupSize = CUDAIntrinsics.get_local_size(0);
+        int groupID = CUDAIntrinsics.get_group_id(0);
+
+        int myID = localIdx + (localGroupSize * groupID);
+
+        inputArray[myID] = value;
+
+        for (int stride = (localGroupSize / 2); stride > 0; stride /= 2) {
+            CUDAIntrinsics.localBarrier();
+            if (localIdx < stride) {
+                inputArray[myID] = ReduceBitwiseOperation.apply(inputArray[myID], inputArray[myID + stride], operation);
+
+            }
+        }
+        CUDAIntrinsics.globalBarrier();
+        if (localIdx == 0) {
+            outputArray[groupID + 1] = inputArray[myID];
+        }
+    }
+
     protected static class Tuple2<T0, T1> {
         T0 t0;
         T1 t1;
@@ -862,6 +957,12 @@ public class ReduceGPUSnippets implements Snippets {
         private final Tuple2<Class<? extends ReduceGPUSnippets>, String> partialReduceMinDoubleSnippet = new Tuple2<>(ReduceGPUSnippets.class, "partialReduceDoubleMin");
         private final Tuple2<Class<? extends ReduceGPUSnippets>, String> partialReduceMinDoubleSnippetCarrierValue = new Tuple2<>(ReduceGPUSnippets.class, "partialReduceDoubleMinCarrierValue");
 
+        // And, Or and Xor: the operation is a constant parameter of the snippet
+        private final Tuple2<Class<? extends ReduceGPUSnippets>, String> partialReduceIntBitwiseSnippet = new Tuple2<>(ReduceGPUSnippets.class, "partialReduceIntBitwise");
+        private final Tuple2<Class<? extends ReduceGPUSnippets>, String> partialReduceIntBitwiseSnippetCarrierValue = new Tuple2<>(ReduceGPUSnippets.class, "partialReduceIntBitwiseCarrierValue");
+        private final Tuple2<Class<? extends ReduceGPUSnippets>, String> partialReduceLongBitwiseSnippet = new Tuple2<>(ReduceGPUSnippets.class, "partialReduceLongBitwise");
+        private final Tuple2<Class<? extends ReduceGPUSnippets>, String> partialReduceLongBitwiseSnippetCarrierValue = new Tuple2<>(ReduceGPUSnippets.class, "partialReduceLongBitwiseCarrierValue");
+
         Providers providers;
 
         public Templates(OptionValues options, Providers providers) {
@@ -907,6 +1008,8 @@ public class ReduceGPUSnippets implements Snippets {
             } else if (value instanceof CUDAIntBinaryIntrinsicNode) {
                 CUDAIntBinaryIntrinsicNode op = (CUDAIntBinaryIntrinsicNode) value;
                 snippet = getSnippetFromCUDABinaryNodeInteger(op, extra);
+            } else if (ReduceBitwiseOperation.isBitwise(value)) {
+                snippet = (extra == null) ? snippet(partialReduceIntBitwiseSnippet) : snippet(partialReduceIntBitwiseSnippetCarrierValue);
             } else {
                 throw new RuntimeException("Reduce Operation no supported yet: snippet not installed");
             }
@@ -923,6 +1026,8 @@ public class ReduceGPUSnippets implements Snippets {
             } else if (value instanceof CUDAIntBinaryIntrinsicNode) {
                 CUDAIntBinaryIntrinsicNode op = (CUDAIntBinaryIntrinsicNode) value;
                 snippet = getSnippetFromCUDABinaryNodeLong(op, extra);
+            } else if (ReduceBitwiseOperation.isBitwise(value)) {
+                snippet = (extra == null) ? snippet(partialReduceLongBitwiseSnippet) : snippet(partialReduceLongBitwiseSnippetCarrierValue);
             } else {
                 throw new RuntimeException("Reduce Operation no supported yet: snippet not installed");
             }
@@ -1015,6 +1120,9 @@ public class ReduceGPUSnippets implements Snippets {
             if (extra != null) {
                 args.add("value", extra);
             }
+            if (ReduceBitwiseOperation.isBitwise(value)) {
+                args.addConst("operation", ReduceBitwiseOperation.of(value));
+            }
             SnippetTemplate template = template(tool, storeAtomicIndexed, args);
             template.instantiate(tool.getMetaAccess(), storeAtomicIndexed, SnippetTemplate.DEFAULT_REPLACER, args);
 
@@ -1039,6 +1147,9 @@ public class ReduceGPUSnippets implements Snippets {
             if (extra != null) {
                 args.add("value", extra);
             }
+            if (ReduceBitwiseOperation.isBitwise(value)) {
+                args.addConst("operation", ReduceBitwiseOperation.of(value));
+            }
 
             SnippetTemplate template = template(tool, writeAtomic, args);
             template.instantiate(tool.getMetaAccess(), writeAtomic, SnippetTemplate.DEFAULT_REPLACER, args);
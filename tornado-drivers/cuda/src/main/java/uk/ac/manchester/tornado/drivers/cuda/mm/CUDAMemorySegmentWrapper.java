@@ -84,6 +84,14 @@ public class CUDAMemorySegmentWrapper implements XPUBuffer {
         return deviceContext.isStagedTransfersEnabled() && batchSize <= 0 && bufferSize >= TornadoOptions.STAGED_TRANSFER_MIN_SIZE;
     }
 
+    /**
+     * Downloads go through the staging ring only when the host segment could not be pinned;
+     * a pinned destination is already a DMA target and staging would add a copy.
+     */
+    private boolean useStagedRead() {
+        return useStagedTransfer() && pinnedHostPointer == 0;
+    }
+
     @Override
     public long toBuffer() {
         return this.bufferId;
@@ -128,6 +136,9 @@ public class CUDAMemorySegmentWrapper implements XPUBuffer {
             // Partial Copy Out due to an under demand copy by the user
             // in this case the host offset is equal to the device offset
             returnEvent = deviceContext.readBuffer(executionPlanId, toBuffer(), hostOffset, partialReadSize, segment.address(), hostOffset, (useDeps) ? events : null);
+        } else if (useStagedRead()) {
+            // Large copy out to a pageable segment through the pinned staging ring
+            returnEvent = deviceContext.enqueueStagedReadBuffer(executionPlanId, toBuffer(), bufferOffset, numBytes, segment.address(), hostOffset, (useDeps) ? events : null);
         } else if (batchSize <= 0) {
             // Partial Copy Out due to batch processing
             returnEvent = deviceContext.readBuffer(executionPlanId, toBuffer(), bufferOffset, numBytes, segment.address(), hostOffset, (useDeps) ? events : null);
@@ -159,7 +170,9 @@ public class CUDAMemorySegmentWrapper implements XPUBuffer {
         segment = getSegmentWithHeader(reference);
 
         final int returnEvent;
-        if (batchSize <= 0) {
+        if (useStagedRead()) {
+            returnEvent = deviceContext.enqueueStagedReadBuffer(executionPlanId, toBuffer(), bufferOffset, bufferSize, segment.address(), hostOffset, (useDeps) ? events : null);
+        } else if (batchSize <= 0) {
             returnEvent = deviceContext.enqueueReadBuffer(executionPlanId, toBuffer(), bufferOffset, bufferSize, segment.address(), hostOffset, (useDeps) ? events : null);
         } else {
             throw new TornadoUnsupportedError("[UNSUPPORTED] batch processing for enqueueReadBuffer operation");
@@ -93,6 +93,8 @@ import uk.ac.manchester.tornado.drivers.cuda.mm.CUDAMultiDimArrayWrapper;
 import uk.ac.manchester.tornado.drivers.cuda.mm.CUDAShortArrayWrapper;
 import uk.ac.manchester.tornado.drivers.cuda.mm.CUDAVectorWrapper;
 import uk.ac.manchester.tornado.runtime.TornadoCoreRuntime;
+import uk.ac.manchester.tornado.runtime.aot.KernelBundle;
+import uk.ac.manchester.tornado.runtime.aot.KernelBundleEntry;
 import uk.ac.manchester.tornado.runtime.common.KernelStackFrame;
 import uk.ac.manchester.tornado.runtime.library.spi.TornadoNativeStreamSupport;
 import uk.ac.manchester.tornado.runtime.common.RuntimeUtilities;
@@ -270,6 +272,13 @@ public class CUDATornadoDevice implements TornadoXPUDevice, TornadoNativeStreamS
         final Access[] taskAccess = taskMeta.getArgumentsAccess();
         System.arraycopy(sketchAccess, 0, taskAccess, 0, sketchAccess.length);
 
+        // Kernels compiled ahead-of-time skip the Graal compilation. Batched tasks are specialised at runtime.
+        final int dimensions = (taskMeta.getDomain() != null) ? taskMeta.getDomain().getDepth() : 0;
+        final KernelBundleEntry aotKernel = KernelBundle.lookupKernel(TornadoVMBackendType.CUDA, executable, this, taskAccess, dimensions);
+        if (aotKernel != null && executable.getBatchThreads() == 0 && !CUDABackend.isDeviceAnFPGAAccelerator(deviceContext)) {
+            return installKernelFromBundle(executionPlanId, executable, resolvedMethod, aotKernel);
+        }
+
         try {
             CUDAProviders providers = (CUDAProviders) getBackend().getProviders();
             TornadoProfiler profiler = task.getProfiler();
@@ -319,6 +328,22 @@ public class CUDATornadoDevice implements TornadoXPUDevice, TornadoNativeStreamS
         }
     }
 
+    private TornadoInstalledCode installKernelFromBundle(long executionPlanId, CompilableTask task, ResolvedJavaMethod resolvedMethod, KernelBundleEntry kernel) {
+        final TaskDataContext taskMeta = task.meta();
+        taskMeta.setCompiledGraph(resolvedMethod);
+        final byte[] code = KernelBundle.getRuntimeBundle().readCode(kernel);
+        if (taskMeta.isPrintKernelEnabled()) {
+            RuntimeUtilities.dumpKernel(code);
+        }
+
+        TornadoProfiler profiler = task.getProfiler();
+        profiler.start(ProfilerType.TASK_COMPILE_DRIVER_TIME, taskMeta.getId());
+        CUDAInstalledCode installedCode = getDeviceContext().installCode(executionPlanId, taskMeta, task.getId(), kernel.entryPoint(), code);
+        profiler.stop(ProfilerType.TASK_COMPILE_DRIVER_TIME, taskMeta.getId());
+        profiler.sum(ProfilerType.TOTAL_DRIVER_COMPILE_TIME, profiler.getTaskTimer(ProfilerType.TASK_COMPILE_DRIVER_TIME, taskMeta.getId()));
+        return installedCode;
+    }
+
     private TornadoInstalledCode compilePreBuiltTask(long executionPlanId, SchedulableTask task) {
         final CUDADeviceContextInterface deviceContext = getDeviceContext();
         final PrebuiltTask executable = (PrebuiltTask) task;
@@ -634,8 +659,9 @@ public class CUDATornadoDevice implements TornadoXPUDevice, TornadoNativeStreamS
         final XPUBuffer buffer;
         TornadoInternalError.guarantee(deviceObjectState.isAtomicRegionPresent() || !deviceObjectState.hasObjectBuffer() || batchSize != 0, "A device memory leak might be occurring.");
         buffer = createDeviceBuffer(object.getClass(), object, (CUDADeviceContext) getDeviceContext(), batchSize, access);
-        deviceObjectState.setXPUBuffer(buffer);
         buffer.allocate(object, batchSize, access);
+        // The state keeps its previous buffer if the allocation fails, so it can be retried
+        deviceObjectState.setXPUBuffer(buffer);
         return buffer;
     }
 
@@ -937,6 +963,22 @@ public class CUDATornadoDevice implements TornadoXPUDevice, TornadoNativeStreamS
         return majorVersion == 2 && minorVersion >= 1;
     }
 
+    @Override
+    public boolean isPeerCopySupported(TornadoXPUDevice srcDevice) {
+        return srcDevice instanceof CUDATornadoDevice && srcDevice.getDeviceContext() instanceof CUDADeviceContext && getDeviceContext() instanceof CUDADeviceContext;
+    }
+
+    @Override
+    public int copyFromPeer(long executionPlanId, TornadoXPUDevice srcDevice, XPUDeviceBufferState srcState, XPUDeviceBufferState destState) {
+        XPUBuffer srcBuffer = srcState.getXPUBuffer();
+        XPUBuffer destBuffer = destState.getXPUBuffer();
+        long bytes = Math.min(srcBuffer.size(), destBuffer.size());
+        CUDADeviceContext deviceContext = (CUDADeviceContext) getDeviceContext();
+        CUDADeviceContext srcDeviceContext = (CUDADeviceContext) srcDevice.getDeviceContext();
+        return deviceContext.enqueueCopyFromPeer(executionPlanId, destBuffer.toBuffer() + destBuffer.getBufferOffset(), srcDeviceContext, srcBuffer.toBuffer() + srcBuffer.getBufferOffset(),
+                bytes);
+    }
+
     @Override
     public void mapDeviceRegion(long executionPlanId, Object destArray, Object srcArray, DeviceBufferState deviceStateSrc, DeviceBufferState deviceStateDest, long offset) {
         XPUBuffer devicePointer = deviceStateDest.getXPUBuffer();
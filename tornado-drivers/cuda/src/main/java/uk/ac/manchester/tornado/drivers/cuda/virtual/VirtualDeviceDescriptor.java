@@ -35,8 +35,10 @@ public class VirtualDeviceDescriptor {
     private final CUDADeviceType deviceType;
     private final String deviceExtensions;
     private final int availableProcessors;
+    private final long localMemorySize;
 
-    public VirtualDeviceDescriptor(String deviceName, boolean doubleFPSupport, long[] maxWorkItemSizes, int deviceAddressBits, CUDADeviceType deviceType, String deviceExtensions, int availableProcessors) {
+    public VirtualDeviceDescriptor(String deviceName, boolean doubleFPSupport, long[] maxWorkItemSizes, int deviceAddressBits, CUDADeviceType deviceType, String deviceExtensions, int availableProcessors,
+            long localMemorySize) {
         this.deviceName = deviceName;
         this.doubleFPSupport = doubleFPSupport;
         this.maxWorkItemSizes = maxWorkItemSizes;
@@ -44,6 +46,7 @@ public class VirtualDeviceDescriptor {
         this.deviceType = deviceType;
         this.deviceExtensions = deviceExtensions;
         this.availableProcessors = availableProcessors;
+        this.localMemorySize = localMemorySize;
     }
 
     public String getDeviceName() {
@@ -73,4 +76,8 @@ public class VirtualDeviceDescriptor {
     public int getAvailableProcessors() {
         return availableProcessors;
     }
+
+    public long getLocalMemorySize() {
+        return localMemorySize;
+    }
 }
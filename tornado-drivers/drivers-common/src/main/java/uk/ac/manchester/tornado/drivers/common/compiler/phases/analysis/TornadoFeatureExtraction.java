@@ -62,6 +62,7 @@ import org.graalvm.compiler.phases.Phase;
 
 import jdk.vm.ci.meta.JavaKind;
 import uk.ac.manchester.tornado.api.TornadoDeviceContext;
+import uk.ac.manchester.tornado.runtime.common.TornadoOptions;
 import uk.ac.manchester.tornado.runtime.graal.nodes.interfaces.MarkCastNode;
 import uk.ac.manchester.tornado.runtime.graal.nodes.interfaces.MarkFloatingPointIntrinsicsNode;
 import uk.ac.manchester.tornado.runtime.graal.nodes.interfaces.MarkGlobalThreadID;
@@ -90,7 +91,15 @@ public class TornadoFeatureExtraction extends Phase {
 
         irfeatures = extractFeatures(graph, FeatureExtractionUtilities.initializeFeatureMap());
 
-        FeatureExtractionUtilities.emitFeatureProfileJsonFile(irfeatures, graph, tornadoDeviceContext);
+        if (TornadoOptions.DEVICE_SELECTION_MODEL) {
+            FeatureExtractionUtilities.registerFeaturesForDeviceSelection(irfeatures, graph);
+        }
+        if (TornadoOptions.FEATURE_EXTRACTION) {
+            FeatureExtractionUtilities.emitFeatureProfileJsonFile(irfeatures, graph, tornadoDeviceContext);
+        }
+        if (!TornadoOptions.KERNEL_QUALITY_REPORT.isEmpty()) {
+            FeatureExtractionUtilities.registerFeaturesForKernelQuality(irfeatures, graph);
+        }
     }
 
     private LinkedHashMap<ProfilerCodeFeatures, Integer> extractFeatures(StructuredGraph graph, LinkedHashMap<ProfilerCodeFeatures, Integer> initMap) {
@@ -0,0 +1,250 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.drivers.common.compiler.phases.memalloc;
+
+import java.util.Optional;
+
+import org.graalvm.compiler.core.common.memory.BarrierType;
+import org.graalvm.compiler.core.common.memory.MemoryOrderMode;
+import org.graalvm.compiler.nodes.ConstantNode;
+import org.graalvm.compiler.nodes.GraphState;
+import org.graalvm.compiler.nodes.LogicNode;
+import org.graalvm.compiler.nodes.NodeView;
+import org.graalvm.compiler.nodes.ParameterNode;
+import org.graalvm.compiler.nodes.PiNode;
+import org.graalvm.compiler.nodes.StructuredGraph;
+import org.graalvm.compiler.nodes.ValueNode;
+import org.graalvm.compiler.nodes.calc.AddNode;
+import org.graalvm.compiler.nodes.calc.AndNode;
+import org.graalvm.compiler.nodes.calc.ConditionalNode;
+import org.graalvm.compiler.nodes.calc.IntegerEqualsNode;
+import org.graalvm.compiler.nodes.calc.IntegerLessThanNode;
+import org.graalvm.compiler.nodes.calc.LeftShiftNode;
+import org.graalvm.compiler.nodes.calc.NegateNode;
+import org.graalvm.compiler.nodes.calc.ReinterpretNode;
+import org.graalvm.compiler.nodes.calc.RightShiftNode;
+import org.graalvm.compiler.nodes.calc.SubNode;
+import org.graalvm.compiler.nodes.extended.JavaReadNode;
+import org.graalvm.compiler.nodes.extended.JavaWriteNode;
+import org.graalvm.compiler.nodes.java.LoadFieldNode;
+import org.graalvm.compiler.nodes.memory.address.AddressNode;
+import org.graalvm.compiler.nodes.memory.address.OffsetAddressNode;
+import org.graalvm.compiler.phases.BasePhase;
+
+import jdk.vm.ci.meta.JavaKind;
+import uk.ac.manchester.tornado.api.enums.MixedPrecisionFormat;
+import uk.ac.manchester.tornado.api.types.arrays.BFloat16Array;
+import uk.ac.manchester.tornado.api.types.arrays.HalfFloatArray;
+import uk.ac.manchester.tornado.runtime.common.TornadoOptions;
+import uk.ac.manchester.tornado.runtime.graal.nodes.calc.TornadoAddressArithmeticNode;
+import uk.ac.manchester.tornado.runtime.graal.phases.TornadoHighTierContext;
+
+/**
+ * Compiler phase for the mixed-precision storage of the execution plans
+ * ({@code TornadoExecutionPlan#withMixedPrecision}). The runtime replaces the
+ * selected {@code FloatArray} arguments with a {@link HalfFloatArray} or a
+ * {@link BFloat16Array} of the same size, so the kernel receives a 16-bit
+ * buffer while its code still accesses a {@code FloatArray}.
+ *
+ * <p>
+ * This phase rewrites each float load of such a parameter into a 16-bit load
+ * followed by a conversion to float, and each float store into a conversion to
+ * 16 bits followed by a 16-bit store. The {@code baseIndex} of the array is
+ * specialised for a {@code FloatArray} (header size / 4) by the sketcher, so
+ * the float byte offset is {@code header + 4 * index}. The 16-bit element
+ * lives at {@code header + 2 * index}: the header is kept, and only the
+ * element part of the offset is halved.
+ * </p>
+ *
+ * <p>
+ * The conversions are expressed with integer operations, so they do not depend
+ * on half-float support in the backend. FP16 subnormals are flushed to zero,
+ * and values are rounded to the nearest even. The host-side conversion in the
+ * runtime uses the same rules.
+ * </p>
+ */
+public class TornadoMixedPrecisionStorage extends BasePhase<TornadoHighTierContext> {
+
+    @Override
+    public Optional<NotApplicable> notApplicableTo(GraphState graphState) {
+        return ALWAYS_APPLICABLE;
+    }
+
+    private static ParameterNode getParameter(ValueNode base) {
+        ValueNode node = base;
+        while (node != null) {
+            if (node instanceof ParameterNode parameterNode) {
+                return parameterNode;
+            } else if (node instanceof PiNode piNode) {
+                node = piNode.object();
+            } else if (node instanceof TornadoAddressArithmeticNode addressArithmeticNode) {
+                node = addressArithmeticNode.getBase();
+            } else if (node instanceof LoadFieldNode loadFieldNode) {
+                node = loadFieldNode.object();
+            } else {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    private static MixedPrecisionFormat getStorageFormat(AddressNode address, TornadoHighTierContext context) {
+        if (!(address instanceof OffsetAddressNode offsetAddressNode)) {
+            return null;
+        }
+        ParameterNode parameterNode = getParameter(offsetAddressNode.getBase());
+        if (parameterNode == null) {
+            return null;
+        }
+        // A float access to a 16-bit array can only come from a FloatArray replaced by the runtime
+        Object argument = context.getArgs()[parameterNode.index()];
+        if (argument instanceof HalfFloatArray) {
+            return MixedPrecisionFormat.FP16;
+        } else if (argument instanceof BFloat16Array) {
+            return MixedPrecisionFormat.BF16;
+        }
+        return null;
+    }
+
+    private static <T extends ValueNode> T add(StructuredGraph graph, T node) {
+        return graph.addOrUniqueWithInputs(node);
+    }
+
+    private static ValueNode intConstant(StructuredGraph graph, int value) {
+        return graph.addOrUnique(ConstantNode.forInt(value));
+    }
+
+    private static ValueNode select(StructuredGraph graph, LogicNode condition, ValueNode trueValue, ValueNode falseValue) {
+        return add(graph, ConditionalNode.create(condition, trueValue, falseValue, NodeView.DEFAULT));
+    }
+
+    private static LogicNode lessThan(StructuredGraph graph, ValueNode x, int value) {
+        return add(graph, IntegerLessThanNode.create(x, intConstant(graph, value), NodeView.DEFAULT));
+    }
+
+    /**
+     * Rewrites the byte offset {@code header + 4 * index} of the float element
+     * into the byte offset {@code header + 2 * index} of the 16-bit element.
+     */
+    private static OffsetAddressNode halfAddress(StructuredGraph graph, OffsetAddressNode address) {
+        ValueNode offset = address.getOffset();
+        JavaKind offsetKind = offset.getStackKind();
+        ValueNode header = graph.addOrUnique(ConstantNode.forIntegerKind(offsetKind, TornadoOptions.PANAMA_OBJECT_HEADER_SIZE));
+        ValueNode elementOffset = add(graph, SubNode.create(offset, header, NodeView.DEFAULT));
+        ValueNode halfElementOffset = add(graph, RightShiftNode.create(elementOffset, intConstant(graph, 1), NodeView.DEFAULT));
+        ValueNode halfOffset = add(graph, AddNode.create(halfElementOffset, header, NodeView.DEFAULT));
+        return graph.addOrUnique(new OffsetAddressNode(address.getBase(), halfOffset));
+    }
+
+    /**
+     * Converts the 16-bit value (sign-extended to int by the load) into a float.
+     * The sign is applied with a float negation, so the integer operations only
+     * work on non-negative values.
+     */
+    private static ValueNode decode(StructuredGraph graph, ValueNode value, MixedPrecisionFormat format) {
+        // Zero-extend the loaded short
+        ValueNode bits = select(graph, lessThan(graph, value, 0), add(graph, AddNode.create(value, intConstant(graph, 0x10000), NodeView.DEFAULT)), value);
+        ValueNode magnitude = add(graph, AndNode.create(bits, intConstant(graph, 0x7FFF), NodeView.DEFAULT));
+        ValueNode floatBits;
+        if (format == MixedPrecisionFormat.BF16) {
+            floatBits = add(graph, LeftShiftNode.create(magnitude, intConstant(graph, 16), NodeView.DEFAULT));
+        } else {
+            ValueNode exponent = add(graph, RightShiftNode.create(magnitude, intConstant(graph, 10), NodeView.DEFAULT));
+            ValueNode shifted = add(graph, LeftShiftNode.create(magnitude, intConstant(graph, 13), NodeView.DEFAULT));
+            LogicNode isInfOrNaN = add(graph, IntegerEqualsNode.create(exponent, intConstant(graph, 0x1F), NodeView.DEFAULT));
+            ValueNode rebias = select(graph, isInfOrNaN, intConstant(graph, 0x70000000), intConstant(graph, 0x38000000));
+            ValueNode normal = add(graph, AddNode.create(shifted, rebias, NodeView.DEFAULT));
+            LogicNode isZeroOrSubnormal = add(graph, IntegerEqualsNode.create(exponent, intConstant(graph, 0), NodeView.DEFAULT));
+            floatBits = select(graph, isZeroOrSubnormal, intConstant(graph, 0), normal);
+        }
+        ValueNode result = add(graph, ReinterpretNode.create(JavaKind.Float, floatBits, NodeView.DEFAULT));
+        ValueNode negated = add(graph, NegateNode.create(result, NodeView.DEFAULT));
+        return select(graph, lessThan(graph, bits, 0x8000), result, negated);
+    }
+
+    /**
+     * Converts a float into its 16-bit representation (in the low bits of an
+     * int), rounding to the nearest even.
+     */
+    private static ValueNode encode(StructuredGraph graph, ValueNode value, MixedPrecisionFormat format) {
+        ValueNode bits = add(graph, ReinterpretNode.create(JavaKind.Int, value, NodeView.DEFAULT));
+        LogicNode isNegative = lessThan(graph, bits, 0);
+        ValueNode magnitude = select(graph, isNegative, add(graph, AddNode.create(bits, intConstant(graph, Integer.MIN_VALUE), NodeView.DEFAULT)), bits);
+        LogicNode isNotNaN = lessThan(graph, magnitude, 0x7F800001);
+
+        ValueNode result;
+        if (format == MixedPrecisionFormat.BF16) {
+            ValueNode lsb = add(graph, AndNode.create(add(graph, RightShiftNode.create(magnitude, intConstant(graph, 16), NodeView.DEFAULT)), intConstant(graph, 1), NodeView.DEFAULT));
+            ValueNode bias = add(graph, AddNode.create(lsb, intConstant(graph, 0x7FFF), NodeView.DEFAULT));
+            ValueNode rounded = add(graph, RightShiftNode.create(add(graph, AddNode.create(magnitude, bias, NodeView.DEFAULT)), intConstant(graph, 16), NodeView.DEFAULT));
+            result = select(graph, isNotNaN, rounded, intConstant(graph, 0x7FC0));
+        } else {
+            ValueNode rebased = add(graph, SubNode.create(magnitude, intConstant(graph, 0x38000000), NodeView.DEFAULT));
+            ValueNode lsb = add(graph, AndNode.create(add(graph, RightShiftNode.create(rebased, intConstant(graph, 13), NodeView.DEFAULT)), intConstant(graph, 1), NodeView.DEFAULT));
+            ValueNode bias = add(graph, AddNode.create(lsb, intConstant(graph, 0x0FFF), NodeView.DEFAULT));
+            ValueNode rounded = add(graph, RightShiftNode.create(add(graph, AddNode.create(rebased, bias, NodeView.DEFAULT)), intConstant(graph, 13), NodeView.DEFAULT));
+            ValueNode infOrNaN = select(graph, isNotNaN, intConstant(graph, 0x7C00), intConstant(graph, 0x7E00));
+            ValueNode finite = select(graph, lessThan(graph, magnitude, 0x477FF000), rounded, infOrNaN);
+            result = select(graph, lessThan(graph, magnitude, 0x38800000), intConstant(graph, 0), finite);
+        }
+        ValueNode negative = add(graph, AddNode.create(result, intConstant(graph, 0x8000), NodeView.DEFAULT));
+        return select(graph, isNegative, negative, result);
+    }
+
+    @Override
+    protected void run(StructuredGraph graph, TornadoHighTierContext context) {
+        if (!context.hasArgs()) {
+            return;
+        }
+
+        for (JavaReadNode read : graph.getNodes().filter(JavaReadNode.class).snapshot()) {
+            if (read.getReadKind() != JavaKind.Float) {
+                continue;
+            }
+            MixedPrecisionFormat format = getStorageFormat(read.getAddress(), context);
+            if (format == null) {
+                continue;
+            }
+            OffsetAddressNode address = halfAddress(graph, (OffsetAddressNode) read.getAddress());
+            JavaReadNode halfRead = graph.add(new JavaReadNode(JavaKind.Short, address, read.getLocationIdentity(), BarrierType.NONE, MemoryOrderMode.PLAIN, false));
+            graph.addBeforeFixed(read, halfRead);
+            read.replaceAtUsages(decode(graph, halfRead, format));
+            graph.removeFixed(read);
+        }
+
+        for (JavaWriteNode write : graph.getNodes().filter(JavaWriteNode.class).snapshot()) {
+            if (write.getWriteKind() != JavaKind.Float) {
+                continue;
+            }
+            MixedPrecisionFormat format = getStorageFormat(write.getAddress(), context);
+            if (format == null) {
+                continue;
+            }
+            OffsetAddressNode address = halfAddress(graph, (OffsetAddressNode) write.getAddress());
+            JavaWriteNode halfWrite = graph.add(new JavaWriteNode(JavaKind.Short, address, write.getLocationIdentity(), encode(graph, write.value(), format), BarrierType.NONE, false));
+            halfWrite.setStateAfter(write.stateAfter());
+            graph.replaceFixedWithFixed(write, halfWrite);
+        }
+    }
+}
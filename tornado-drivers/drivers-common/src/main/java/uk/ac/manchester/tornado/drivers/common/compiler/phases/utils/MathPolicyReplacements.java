@@ -0,0 +1,174 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.drivers.common.compiler.phases.utils;
+
+import org.graalvm.compiler.graph.Node;
+import org.graalvm.compiler.nodes.ConstantNode;
+import org.graalvm.compiler.nodes.StructuredGraph;
+import org.graalvm.compiler.nodes.ValueNode;
+import org.graalvm.compiler.nodes.calc.AddNode;
+import org.graalvm.compiler.nodes.calc.FloatDivNode;
+import org.graalvm.compiler.nodes.calc.MulNode;
+import org.graalvm.compiler.nodes.calc.SqrtNode;
+import org.graalvm.compiler.nodes.calc.SubNode;
+import org.graalvm.compiler.nodes.calc.UnaryNode;
+
+import jdk.vm.ci.meta.JavaConstant;
+import jdk.vm.ci.meta.JavaKind;
+import uk.ac.manchester.tornado.api.enums.MathFunction;
+import uk.ac.manchester.tornado.api.enums.MathPrecision;
+import uk.ac.manchester.tornado.api.math.MathPolicy;
+import uk.ac.manchester.tornado.runtime.graal.nodes.interfaces.MarkFloatingPointIntrinsicsNode;
+import uk.ac.manchester.tornado.runtime.graal.phases.TornadoHighTierContext;
+
+/**
+ * Replaces the float math functions of a kernel with the variants selected by
+ * the {@link MathPolicy} of the task ({@code TornadoExecutionPlan#withMathPolicy}).
+ * It is invoked by the intrinsics replacement phase of each backend, which
+ * provides the nodes of its native and half-precision functions through a
+ * {@link MathIntrinsicFactory}.
+ *
+ * <p>
+ * The functions are matched as follows:
+ * </p>
+ * <ul>
+ * <li>EXP, LOG and TANH: floating-point intrinsic nodes of the backend (from
+ * {@code TornadoMath} and {@code Math}).</li>
+ * <li>RSQRT: {@code 1.0f / sqrt(x)}, with sqrt from {@code TornadoMath} or
+ * {@code Math}.</li>
+ * </ul>
+ *
+ * <p>
+ * If a backend does not provide an approximate tanh, it is expressed as
+ * {@code 1 - 2 / (exp(2x) + 1)} with the exp variant of the same precision.
+ * Double-precision functions are not modified.
+ * </p>
+ */
+public final class MathPolicyReplacements {
+
+    /**
+     * Builds the backend node of a math function for a precision.
+     */
+    @FunctionalInterface
+    public interface MathIntrinsicFactory {
+        /**
+         * @return the node, not yet added to the graph, or null if the backend
+         *     does not have the variant.
+         */
+        ValueNode create(ValueNode input, MathFunction function, MathPrecision precision);
+    }
+
+    private MathPolicyReplacements() {
+    }
+
+    public static void apply(StructuredGraph graph, TornadoHighTierContext context, MathIntrinsicFactory factory) {
+        MathPolicy policy = context.hasMeta() ? context.getMeta().getMathPolicy() : null;
+        if (policy == null || policy.isExact()) {
+            return;
+        }
+
+        for (Node node : graph.getNodes().filter(MarkFloatingPointIntrinsicsNode.class::isInstance).snapshot()) {
+            if (!(node instanceof UnaryNode intrinsic) || !isFloat(intrinsic)) {
+                continue;
+            }
+            MathFunction function = switch (((MarkFloatingPointIntrinsicsNode) node).getOperation()) {
+                case "EXP" -> MathFunction.EXP;
+                case "LOG" -> MathFunction.LOG;
+                case "TANH" -> MathFunction.TANH;
+                default -> null;
+            };
+            if (function == null || policy.getPrecision(function) == MathPrecision.EXACT) {
+                continue;
+            }
+            ValueNode replacement = createApproximation(graph, intrinsic.getValue(), function, policy.getPrecision(function), factory);
+            if (replacement != null) {
+                intrinsic.replaceAtUsagesAndDelete(replacement);
+            }
+        }
+
+        MathPrecision rsqrtPrecision = policy.getPrecision(MathFunction.RSQRT);
+        if (rsqrtPrecision == MathPrecision.EXACT) {
+            return;
+        }
+        for (FloatDivNode division : graph.getNodes().filter(FloatDivNode.class).snapshot()) {
+            UnaryNode sqrt = getInverseSquareRoot(division);
+            if (sqrt == null) {
+                continue;
+            }
+            ValueNode rsqrt = factory.create(sqrt.getValue(), MathFunction.RSQRT, rsqrtPrecision);
+            if (rsqrt != null) {
+                division.replaceAtUsagesAndDelete(graph.addOrUniqueWithInputs(rsqrt));
+                if (sqrt.isAlive() && sqrt.hasNoUsages()) {
+                    sqrt.safeDelete();
+                }
+            }
+        }
+    }
+
+    private static boolean isFloat(ValueNode node) {
+        return node.getStackKind() == JavaKind.Float;
+    }
+
+    private static ValueNode createApproximation(StructuredGraph graph, ValueNode input, MathFunction function, MathPrecision precision, MathIntrinsicFactory factory) {
+        ValueNode node = factory.create(input, function, precision);
+        if (node != null) {
+            return graph.addOrUniqueWithInputs(node);
+        }
+        if (function != MathFunction.TANH) {
+            return null;
+        }
+        // tanh(x) = 1 - 2 / (exp(2x) + 1), which saturates to +-1 when exp(2x) overflows or underflows
+        ValueNode one = ConstantNode.forFloat(1.0f, graph);
+        ValueNode two = ConstantNode.forFloat(2.0f, graph);
+        ValueNode twoX = graph.addOrUnique(new MulNode(two, input));
+        ValueNode exp = createApproximation(graph, twoX, MathFunction.EXP, precision, factory);
+        if (exp == null) {
+            return null;
+        }
+        ValueNode denominator = graph.addOrUnique(new AddNode(exp, one));
+        ValueNode quotient = graph.addOrUnique(new FloatDivNode(two, denominator));
+        return graph.addOrUnique(new SubNode(one, quotient));
+    }
+
+    /**
+     * @return the square root of a division {@code 1.0f / sqrt(x)}, or null if
+     *     the division does not have this form.
+     */
+    private static UnaryNode getInverseSquareRoot(FloatDivNode division) {
+        if (!isFloat(division) || !division.getX().isConstant()) {
+            return null;
+        }
+        JavaConstant constant = division.getX().asJavaConstant();
+        if (constant == null || constant.getJavaKind() != JavaKind.Float || constant.asFloat() != 1.0f) {
+            return null;
+        }
+        ValueNode divisor = division.getY();
+        if (divisor instanceof SqrtNode sqrtNode) {
+            return sqrtNode;
+        } else if (divisor instanceof MarkFloatingPointIntrinsicsNode intrinsic && intrinsic.getOperation().equals("SQRT") && divisor instanceof UnaryNode unaryNode) {
+            return unaryNode;
+        }
+        return null;
+    }
+}
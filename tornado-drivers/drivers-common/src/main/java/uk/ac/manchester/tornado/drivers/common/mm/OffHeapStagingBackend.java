@@ -0,0 +1,58 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.drivers.common.mm;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Staging backend for drivers that cannot page-lock host memory. The slots are
+ * allocated off-heap, aligned to the page size, so the driver can still copy
+ * each chunk without an intermediate copy of its own. Subclasses only provide
+ * the synchronisation with the transfers.
+ */
+public abstract class OffHeapStagingBackend implements StagingBackend {
+
+    private static final long PAGE_SIZE = 4096;
+
+    private final Map<Long, Arena> arenas = new HashMap<>();
+
+    @Override
+    public synchronized long allocateHostMemory(long numBytes) {
+        Arena arena = Arena.ofShared();
+        MemorySegment segment = arena.allocate(numBytes, PAGE_SIZE);
+        arenas.put(segment.address(), arena);
+        return segment.address();
+    }
+
+    @Override
+    public synchronized void freeHostMemory(long hostAddress) {
+        Arena arena = arenas.remove(hostAddress);
+        if (arena != null) {
+            arena.close();
+        }
+    }
+}
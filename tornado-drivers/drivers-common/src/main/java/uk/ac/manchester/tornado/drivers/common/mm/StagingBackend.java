@@ -0,0 +1,78 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.drivers.common.mm;
+
+import java.lang.foreign.MemorySegment;
+
+/**
+ * Backend hooks used by the {@link StagingBufferPool}. A backend provides the
+ * host memory of the staging slots (page-locked when the driver can pin it)
+ * and the synchronisation with the transfers that read from, or write to, a
+ * slot.
+ */
+public interface StagingBackend {
+
+    /**
+     * Allocates the host memory of the staging ring.
+     *
+     * @param numBytes
+     *     Number of bytes of the ring.
+     * @return Host address of the ring.
+     */
+    long allocateHostMemory(long numBytes);
+
+    /**
+     * Releases the host memory allocated by {@link #allocateHostMemory(long)}.
+     *
+     * @param hostAddress
+     *     Host address of the ring.
+     */
+    void freeHostMemory(long hostAddress);
+
+    /**
+     * Blocks until the transfer identified by {@code transfer} has finished.
+     *
+     * @param transfer
+     *     Handle returned by a {@link StagingBufferPool.ChunkTransfer}.
+     */
+    void waitForTransfer(long transfer);
+
+    /**
+     * Releases the handle of a finished transfer. The staging ring is shared by
+     * all execution plans of a device, so the handles it keeps must not belong
+     * to the per-plan event pools.
+     *
+     * @param transfer
+     *     Handle returned by a {@link StagingBufferPool.ChunkTransfer}.
+     */
+    default void releaseTransfer(long transfer) {
+    }
+
+    /**
+     * Copies {@code numBytes} between two host addresses.
+     */
+    default void copyHostToHost(long destination, long source, long numBytes) {
+        MemorySegment.copy(MemorySegment.ofAddress(source).reinterpret(numBytes), 0, MemorySegment.ofAddress(destination).reinterpret(numBytes), 0, numBytes);
+    }
+}
@@ -0,0 +1,240 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.drivers.common.mm;
+
+import java.util.stream.IntStream;
+
+import uk.ac.manchester.tornado.api.exceptions.TornadoRuntimeException;
+import uk.ac.manchester.tornado.runtime.common.TornadoOptions;
+
+/**
+ * Ring of reusable host staging slots for chunked transfers between the host
+ * and a device.
+ *
+ * <p>
+ * A transfer is split into chunks of the slot size. For an upload, each chunk
+ * is copied (with several threads) into a slot and handed to the backend, so
+ * the copy of chunk {@code i+1} overlaps the transfer of chunk {@code i}. For
+ * a download, the chunks are read into the slots and copied to the host when
+ * the slot is needed again, so the copy of chunk {@code i} overlaps the
+ * transfers of the following chunks. A slot is reused only after its previous
+ * transfer has finished.
+ * </p>
+ *
+ * <p>
+ * The host memory of the ring and the synchronisation with the transfers are
+ * provided by a {@link StagingBackend}. The ring is shared by all execution
+ * plans of a device, and the transfers through it are serialised.
+ * </p>
+ */
+public class StagingBufferPool {
+
+    /**
+     * Below this size per thread, the fork/join overhead of a parallel copy
+     * dominates.
+     */
+    private static final long MIN_COPY_BYTES_PER_THREAD = 1L << 21;
+
+    /**
+     * Enqueues the transfer of one chunk between a staging slot and the device.
+     */
+    @FunctionalInterface
+    public interface ChunkTransfer {
+
+        /**
+         * @param slotAddress
+         *     Host address of the staging slot.
+         * @param offset
+         *     Offset of the chunk within the transfer.
+         * @param numBytes
+         *     Size of the chunk.
+         * @param chunkIndex
+         *     Index of the chunk. The first chunk carries the dependencies of
+         *     the whole transfer.
+         * @return Handle of the enqueued transfer, passed to
+         *     {@link StagingBackend#waitForTransfer(long)}.
+         */
+        long enqueue(long slotAddress, long offset, long numBytes, int chunkIndex);
+    }
+
+    private final StagingBackend backend;
+    private final long chunkSize;
+    private final int depth;
+    private final int copyThreads;
+
+    private long ringAddress;
+    private final boolean[] slotInFlight;
+    private final long[] slotTransfers;
+    /** Host address a slot is copied to when its download finishes. */
+    private final long[] slotDownloadAddresses;
+    /** Bytes a slot holds for a download; 0 for an upload. */
+    private final long[] slotDownloadBytes;
+
+    public StagingBufferPool(StagingBackend backend, long chunkSize, int depth, int copyThreads) {
+        if (chunkSize <= 0) {
+            throw new TornadoRuntimeException("[ERROR] The chunk size of the staging buffers must be positive: " + chunkSize);
+        }
+        this.backend = backend;
+        this.chunkSize = chunkSize;
+        // Two slots already overlap the copies with the transfers
+        this.depth = Math.max(2, depth);
+        this.copyThreads = Math.max(1, copyThreads);
+        this.slotInFlight = new boolean[this.depth];
+        this.slotTransfers = new long[this.depth];
+        this.slotDownloadAddresses = new long[this.depth];
+        this.slotDownloadBytes = new long[this.depth];
+    }
+
+    /**
+     * Creates a pool with the chunk size, ring depth and copy threads of the
+     * {@code tornado.staged.*} options.
+     */
+    public static StagingBufferPool fromOptions(StagingBackend backend) {
+        return new StagingBufferPool(backend, TornadoOptions.STAGED_TRANSFER_CHUNK_SIZE, TornadoOptions.STAGED_TRANSFER_RING_DEPTH, TornadoOptions.STAGED_TRANSFER_FILL_THREADS);
+    }
+
+    public long getChunkSize() {
+        return chunkSize;
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    public synchronized boolean isAllocated() {
+        return ringAddress != 0L;
+    }
+
+    /**
+     * Uploads {@code numBytes} from the host through the staging slots. The
+     * method returns when the last chunk has been enqueued; the chunk transfers
+     * may still be running.
+     *
+     * @return Handle of the transfer of the last chunk. It is owned by the ring.
+     */
+    public synchronized long upload(long hostAddress, long numBytes, ChunkTransfer transfer) {
+        ensureRing();
+        long offset = 0;
+        int chunkIndex = 0;
+        long lastTransfer = 0L;
+        while (offset < numBytes) {
+            int slot = chunkIndex % depth;
+            long chunkBytes = Math.min(chunkSize, numBytes - offset);
+            completeSlot(slot);
+            long slotAddress = getSlotAddress(slot);
+            copy(slotAddress, hostAddress + offset, chunkBytes);
+            lastTransfer = transfer.enqueue(slotAddress, offset, chunkBytes, chunkIndex);
+            slotTransfers[slot] = lastTransfer;
+            slotInFlight[slot] = true;
+            offset += chunkBytes;
+            chunkIndex++;
+        }
+        return lastTransfer;
+    }
+
+    /**
+     * Downloads {@code numBytes} to the host through the staging slots. The
+     * method returns when all chunks have been copied to the host.
+     */
+    public synchronized void download(long hostAddress, long numBytes, ChunkTransfer transfer) {
+        ensureRing();
+        long offset = 0;
+        int chunkIndex = 0;
+        while (offset < numBytes) {
+            int slot = chunkIndex % depth;
+            long chunkBytes = Math.min(chunkSize, numBytes - offset);
+            completeSlot(slot);
+            slotTransfers[slot] = transfer.enqueue(getSlotAddress(slot), offset, chunkBytes, chunkIndex);
+            slotInFlight[slot] = true;
+            slotDownloadAddresses[slot] = hostAddress + offset;
+            slotDownloadBytes[slot] = chunkBytes;
+            offset += chunkBytes;
+            chunkIndex++;
+        }
+        drain();
+    }
+
+    /**
+     * Waits for all the transfers that use the staging slots.
+     */
+    public synchronized void drain() {
+        for (int slot = 0; slot < depth; slot++) {
+            completeSlot(slot);
+        }
+    }
+
+    /**
+     * Waits for the transfers that use the staging slots and releases the host
+     * memory of the ring. The ring is allocated again by the next transfer.
+     */
+    public synchronized void release() {
+        if (ringAddress == 0L) {
+            return;
+        }
+        // The transfers still read from, or write to, the ring
+        drain();
+        backend.freeHostMemory(ringAddress);
+        ringAddress = 0L;
+    }
+
+    private void ensureRing() {
+        if (ringAddress == 0L) {
+            ringAddress = backend.allocateHostMemory(chunkSize * depth);
+        }
+    }
+
+    private long getSlotAddress(int slot) {
+        return ringAddress + slot * chunkSize;
+    }
+
+    private void completeSlot(int slot) {
+        if (!slotInFlight[slot]) {
+            return;
+        }
+        backend.waitForTransfer(slotTransfers[slot]);
+        backend.releaseTransfer(slotTransfers[slot]);
+        slotInFlight[slot] = false;
+        if (slotDownloadBytes[slot] > 0) {
+            copy(slotDownloadAddresses[slot], getSlotAddress(slot), slotDownloadBytes[slot]);
+            slotDownloadBytes[slot] = 0;
+        }
+    }
+
+    /**
+     * A single thread copies slower than the transfers it feeds, so large copies
+     * are split across threads to keep the transfers as the bottleneck.
+     */
+    private void copy(long destination, long source, long numBytes) {
+        if (copyThreads <= 1 || numBytes < copyThreads * MIN_COPY_BYTES_PER_THREAD) {
+            backend.copyHostToHost(destination, source, numBytes);
+            return;
+        }
+        long subSize = numBytes / copyThreads;
+        IntStream.range(0, copyThreads).parallel().forEach(t -> {
+            long subOffset = t * subSize;
+            long subBytes = (t == copyThreads - 1) ? numBytes - subOffset : subSize;
+            backend.copyHostToHost(destination + subOffset, source + subOffset, subBytes);
+        });
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.drivers.common.utils;
+
+import org.graalvm.compiler.nodes.ValueNode;
+import org.graalvm.compiler.nodes.calc.AndNode;
+import org.graalvm.compiler.nodes.calc.OrNode;
+import org.graalvm.compiler.nodes.calc.XorNode;
+
+/**
+ * Bitwise operators of the {@code @Reduce} reductions. The reduce snippets of
+ * the backends take the operator as a constant parameter, so a single snippet
+ * per type is specialised for AND, OR and XOR when its template is built.
+ */
+public final class ReduceBitwiseOperation {
+
+    public static final int AND = 0;
+    public static final int OR = 1;
+    public static final int XOR = 2;
+
+    private ReduceBitwiseOperation() {
+    }
+
+    public static boolean isBitwise(ValueNode value) {
+        return value instanceof AndNode || value instanceof OrNode || value instanceof XorNode;
+    }
+
+    public static int of(ValueNode value) {
+        if (value instanceof AndNode) {
+            return AND;
+        } else if (value instanceof OrNode) {
+            return OR;
+        } else if (value instanceof XorNode) {
+            return XOR;
+        }
+        throw new IllegalArgumentException("Not a bitwise reduce operation: " + value);
+    }
+
+    /**
+     * Called from the snippets: the operation is a constant, so only one branch
+     * is kept in the snippet graph.
+     */
+    public static int apply(int x, int y, int operation) {
+        if (operation == AND) {
+            return x & y;
+        } else if (operation == OR) {
+            return x | y;
+        } else {
+            return x ^ y;
+        }
+    }
+
+    public static long apply(long x, long y, int operation) {
+        if (operation == AND) {
+            return x & y;
+        } else if (operation == OR) {
+            return x | y;
+        } else {
+            return x ^ y;
+        }
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.drivers.common.virtual;
+
+import static uk.ac.manchester.tornado.runtime.common.TornadoOptions.VIRTUAL_DEVICE_FILE;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import uk.ac.manchester.tornado.api.exceptions.TornadoInternalError;
+import uk.ac.manchester.tornado.api.exceptions.TornadoRuntimeException;
+
+/**
+ * Parser of the JSON descriptor of a virtual device. The same descriptor is
+ * used by all backends. Example:
+ *
+ * <pre>
+ * {
+ *   "deviceName" : "testDevice",
+ *   "doubleFPSupport" : true,
+ *   "halfFPSupport" : true,
+ *   "maxWorkItemSizes" : [1024, 1024, 64],
+ *   "deviceAddressBits" : 64,
+ *   "deviceType" : "CL_DEVICE_TYPE_GPU",
+ *   "deviceExtensions" : "cl_khr_int64_base_atomics",
+ *   "availableProcessors" : 12,
+ *   "localMemorySize" : 49152,
+ *   "computeCapability" : "8.6"
+ * }
+ * </pre>
+ *
+ * <p>
+ * The entries {@code halfFPSupport}, {@code localMemorySize} and
+ * {@code computeCapability} are optional.
+ * </p>
+ */
+public class VirtualDeviceParser {
+
+    private static final Pattern pattern = Pattern.compile(" |\",|\"|\t|\\r|]|\\[");
+
+    private static final String DEFAULT_COMPUTE_CAPABILITY = "7.0";
+
+    private enum JsonKey {
+        deviceName,
+        doubleFPSupport,
+        halfFPSupport,
+        maxWorkItemSizes,
+        deviceAddressBits,
+        deviceType,
+        deviceExtensions,
+        availableProcessors,
+        localMemorySize,
+        computeCapability;
+    }
+
+    private VirtualDeviceParser() {
+    }
+
+    public static VirtualDeviceProperties getDeviceProperties() {
+        String json = readVirtualDeviceJson().replace("\r", "");
+        Map<JsonKey, String> jsonEntries = new EnumMap<>(JsonKey.class);
+        for (String line : json.split("\n")) {
+            Matcher matcher = pattern.matcher(line);
+            String[] keyValue = matcher.replaceAll("").split(":");
+            String key = keyValue[0];
+            String value = keyValue.length > 1 ? keyValue[1] : null;
+            if (value != null && !value.isEmpty()) {
+                value = value.charAt(value.length() - 1) == ',' ? value.substring(0, value.length() - 1) : value;
+                jsonEntries.put(toJsonKey(key), value);
+            }
+        }
+
+        String deviceName = getRequiredEntry(JsonKey.deviceName, jsonEntries);
+        boolean doubleFPSupport = Boolean.parseBoolean(getRequiredEntry(JsonKey.doubleFPSupport, jsonEntries));
+        boolean halfFPSupport = Boolean.parseBoolean(jsonEntries.getOrDefault(JsonKey.halfFPSupport, "false"));
+        long[] maxWorkItemSizes = parseMaxWorkItemSizes(getRequiredEntry(JsonKey.maxWorkItemSizes, jsonEntries));
+        int deviceAddressBits = Integer.parseInt(getRequiredEntry(JsonKey.deviceAddressBits, jsonEntries));
+        String deviceType = getRequiredEntry(JsonKey.deviceType, jsonEntries);
+        String deviceExtensions = jsonEntries.getOrDefault(JsonKey.deviceExtensions, "");
+        int availableProcessors = Integer.parseInt(getRequiredEntry(JsonKey.availableProcessors, jsonEntries));
+        long localMemorySize = Long.parseLong(jsonEntries.getOrDefault(JsonKey.localMemorySize, Integer.toString(VirtualDeviceProperties.UNKNOWN)));
+        String[] computeCapability = jsonEntries.getOrDefault(JsonKey.computeCapability, DEFAULT_COMPUTE_CAPABILITY).split("\\.");
+        int computeCapabilityMajor = Integer.parseInt(computeCapability[0]);
+        int computeCapabilityMinor = computeCapability.length > 1 ? Integer.parseInt(computeCapability[1]) : 0;
+
+        return new VirtualDeviceProperties(deviceName, doubleFPSupport, halfFPSupport, maxWorkItemSizes, deviceAddressBits, deviceType, deviceExtensions, availableProcessors, localMemorySize,
+                computeCapabilityMajor, computeCapabilityMinor);
+    }
+
+    private static JsonKey toJsonKey(String key) {
+        try {
+            return JsonKey.valueOf(key);
+        } catch (IllegalArgumentException e) {
+            throw new TornadoRuntimeException("Virtual device JSON parser failed ! Unknown json key: " + key);
+        }
+    }
+
+    private static String getRequiredEntry(JsonKey jsonKey, Map<JsonKey, String> jsonEntries) {
+        String value = jsonEntries.get(jsonKey);
+        if (value == null) {
+            throw new TornadoRuntimeException("Virtual device JSON parser failed ! Missing json key: " + jsonKey.name());
+        }
+        return value;
+    }
+
+    private static long[] parseMaxWorkItemSizes(String entry) {
+        long[] values = new long[3];
+        String[] numbers = entry.split(",");
+        values[0] = Long.parseLong(numbers[0]);
+        values[1] = Long.parseLong(numbers[1]);
+        values[2] = Long.parseLong(numbers[2]);
+        return values;
+    }
+
+    private static String readVirtualDeviceJson() {
+        Path path = Paths.get(VIRTUAL_DEVICE_FILE);
+        TornadoInternalError.guarantee(path.toFile().exists(), "Virtual device file does not exist: %s", VIRTUAL_DEVICE_FILE);
+
+        try {
+            byte[] bytes = Files.readAllBytes(path);
+            return new String(bytes);
+        } catch (IOException e) {
+            throw new RuntimeException(String.format("Failed to read from %s", VIRTUAL_DEVICE_FILE), e);
+        }
+    }
+}
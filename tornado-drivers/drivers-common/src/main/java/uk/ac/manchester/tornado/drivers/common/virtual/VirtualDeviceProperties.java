@@ -0,0 +1,144 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.drivers.common.virtual;
+
+import uk.ac.manchester.tornado.api.enums.TornadoDeviceType;
+
+/**
+ * Properties of a virtual device, shared by the virtual devices of all
+ * backends. They are read from the JSON file passed with
+ * {@code -Dtornado.device.desc} (see {@link VirtualDeviceParser}).
+ *
+ * <p>
+ * Each backend only uses the properties that apply to it. For example, the
+ * compute capability is only used by the PTX backend, and the device
+ * extensions by the OpenCL-based backends.
+ * </p>
+ */
+public class VirtualDeviceProperties {
+
+    /**
+     * Value of the properties that are not specified in the descriptor.
+     */
+    public static final int UNKNOWN = -1;
+
+    private static final String DEVICE_TYPE_PREFIX = "DEVICE_TYPE_";
+
+    private final String deviceName;
+    private final boolean doubleFPSupport;
+    private final boolean halfFPSupport;
+    private final long[] maxWorkItemSizes;
+    private final int deviceAddressBits;
+    private final String deviceType;
+    private final String deviceExtensions;
+    private final int availableProcessors;
+    private final long localMemorySize;
+    private final int computeCapabilityMajor;
+    private final int computeCapabilityMinor;
+
+    public VirtualDeviceProperties(String deviceName, boolean doubleFPSupport, boolean halfFPSupport, long[] maxWorkItemSizes, int deviceAddressBits, String deviceType, String deviceExtensions,
+            int availableProcessors, long localMemorySize, int computeCapabilityMajor, int computeCapabilityMinor) {
+        this.deviceName = deviceName;
+        this.doubleFPSupport = doubleFPSupport;
+        this.halfFPSupport = halfFPSupport;
+        this.maxWorkItemSizes = maxWorkItemSizes;
+        this.deviceAddressBits = deviceAddressBits;
+        this.deviceType = deviceType;
+        this.deviceExtensions = deviceExtensions;
+        this.availableProcessors = availableProcessors;
+        this.localMemorySize = localMemorySize;
+        this.computeCapabilityMajor = computeCapabilityMajor;
+        this.computeCapabilityMinor = computeCapabilityMinor;
+    }
+
+    public String getDeviceName() {
+        return deviceName;
+    }
+
+    public boolean getDoubleFPSupport() {
+        return doubleFPSupport;
+    }
+
+    public boolean getHalfFPSupport() {
+        return halfFPSupport;
+    }
+
+    public long[] getMaxWorkItemSizes() {
+        return maxWorkItemSizes;
+    }
+
+    public int getDeviceAddressBits() {
+        return deviceAddressBits;
+    }
+
+    /**
+     * Returns the device type as written in the descriptor (e.g.,
+     * {@code CL_DEVICE_TYPE_GPU}).
+     */
+    public String getDeviceType() {
+        return deviceType;
+    }
+
+    /**
+     * Returns the device type independently of the backend-specific prefix used in
+     * the descriptor. Both {@code CL_DEVICE_TYPE_GPU} and {@code GPU} map to
+     * {@link TornadoDeviceType#GPU}.
+     */
+    public TornadoDeviceType getTornadoDeviceType() {
+        String type = deviceType;
+        int index = type.lastIndexOf(DEVICE_TYPE_PREFIX);
+        if (index >= 0) {
+            type = type.substring(index + DEVICE_TYPE_PREFIX.length());
+        }
+        for (TornadoDeviceType tornadoDeviceType : TornadoDeviceType.values()) {
+            if (tornadoDeviceType.name().equals(type)) {
+                return tornadoDeviceType;
+            }
+        }
+        return TornadoDeviceType.UNKNOWN;
+    }
+
+    public String getDeviceExtensions() {
+        return deviceExtensions;
+    }
+
+    public int getAvailableProcessors() {
+        return availableProcessors;
+    }
+
+    /**
+     * @return size of the local (shared) memory in bytes, or {@link #UNKNOWN}.
+     */
+    public long getLocalMemorySize() {
+        return localMemorySize;
+    }
+
+    public int getComputeCapabilityMajor() {
+        return computeCapabilityMajor;
+    }
+
+    public int getComputeCapabilityMinor() {
+        return computeCapabilityMinor;
+    }
+}
@@ -0,0 +1,232 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.drivers.common.mm;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link StagingBufferPool} with a host-memory stand-in for the
+ * device. The stand-in runs the chunk transfers lazily, in order, when the
+ * pool waits for them, like an in-order device queue.
+ */
+public class TestStagingBufferPool {
+
+    private static final int CHUNK_SIZE = 1024;
+    private static final int DEPTH = 3;
+
+    private Arena arena;
+    private HostStandIn backend;
+
+    /**
+     * Backend whose "device" is a host segment. Each transfer is a pending copy
+     * that runs when the pool waits for it, or for a later transfer.
+     */
+    private static final class HostStandIn extends OffHeapStagingBackend {
+
+        private final List<Runnable> queue = new ArrayList<>();
+        private final Set<Long> released = new HashSet<>();
+        private int completed;
+        private int allocations;
+        private int frees;
+
+        long enqueue(Runnable copy) {
+            queue.add(copy);
+            return queue.size();
+        }
+
+        boolean isCompleted(long transfer) {
+            return transfer <= completed;
+        }
+
+        @Override
+        public long allocateHostMemory(long numBytes) {
+            allocations++;
+            return super.allocateHostMemory(numBytes);
+        }
+
+        @Override
+        public void freeHostMemory(long hostAddress) {
+            frees++;
+            super.freeHostMemory(hostAddress);
+        }
+
+        @Override
+        public void waitForTransfer(long transfer) {
+            while (completed < transfer) {
+                queue.get(completed).run();
+                completed++;
+            }
+        }
+
+        @Override
+        public void releaseTransfer(long transfer) {
+            assertTrue("Transfer released twice: " + transfer, released.add(transfer));
+        }
+    }
+
+    @Before
+    public void setUp() {
+        arena = Arena.ofConfined();
+        backend = new HostStandIn();
+    }
+
+    @After
+    public void tearDown() {
+        arena.close();
+    }
+
+    private MemorySegment newSegment(int numBytes, int seed) {
+        MemorySegment segment = arena.allocate(numBytes, 8);
+        for (int i = 0; i < numBytes; i++) {
+            segment.set(ValueLayout.JAVA_BYTE, i, (byte) (i * 31 + seed));
+        }
+        return segment;
+    }
+
+    private static void copy(long destination, long source, long numBytes) {
+        MemorySegment.copy(MemorySegment.ofAddress(source).reinterpret(numBytes), 0, MemorySegment.ofAddress(destination).reinterpret(numBytes), 0, numBytes);
+    }
+
+    @Test
+    public void testUpload() {
+        // Not a multiple of the chunk size, and more chunks than slots
+        final int size = CHUNK_SIZE * 7 + 100;
+        MemorySegment host = newSegment(size, 1);
+        MemorySegment device = arena.allocate(size, 8);
+        StagingBufferPool pool = new StagingBufferPool(backend, CHUNK_SIZE, DEPTH, 1);
+
+        pool.upload(host.address(), size, (slotAddress, offset, numBytes, chunkIndex) -> {
+            // The copy reads the slot when it runs, so the slot must not be refilled before
+            return backend.enqueue(() -> copy(device.address() + offset, slotAddress, numBytes));
+        });
+        pool.drain();
+
+        assertArrayEquals(host.toArray(ValueLayout.JAVA_BYTE), device.toArray(ValueLayout.JAVA_BYTE));
+        pool.release();
+    }
+
+    @Test
+    public void testUploadReturnsBeforeTheTransfersFinish() {
+        final int size = CHUNK_SIZE * 2;
+        MemorySegment host = newSegment(size, 2);
+        MemorySegment device = arena.allocate(size, 8);
+        StagingBufferPool pool = new StagingBufferPool(backend, CHUNK_SIZE, DEPTH, 1);
+
+        long last = pool.upload(host.address(), size, (slotAddress, offset, numBytes, chunkIndex) -> backend.enqueue(() -> copy(device.address() + offset, slotAddress, numBytes)));
+
+        // Both chunks fit in the ring, so the pool did not wait for them
+        assertFalse(backend.isCompleted(last));
+        pool.release();
+        assertTrue(backend.isCompleted(last));
+    }
+
+    @Test
+    public void testDownload() {
+        final int size = CHUNK_SIZE * 5 + 17;
+        MemorySegment device = newSegment(size, 3);
+        MemorySegment host = arena.allocate(size, 8);
+        StagingBufferPool pool = new StagingBufferPool(backend, CHUNK_SIZE, DEPTH, 1);
+
+        pool.download(host.address(), size, (slotAddress, offset, numBytes, chunkIndex) -> backend.enqueue(() -> copy(slotAddress, device.address() + offset, numBytes)));
+
+        assertArrayEquals(device.toArray(ValueLayout.JAVA_BYTE), host.toArray(ValueLayout.JAVA_BYTE));
+        pool.release();
+    }
+
+    @Test
+    public void testParallelCopies() {
+        // Large enough chunks for the copies to be split across threads
+        final int chunkSize = 8 << 20;
+        final int size = chunkSize * 2 + 4096;
+        MemorySegment host = newSegment(size, 4);
+        MemorySegment device = arena.allocate(size, 8);
+        MemorySegment result = arena.allocate(size, 8);
+        StagingBufferPool pool = new StagingBufferPool(backend, chunkSize, 2, 4);
+
+        pool.upload(host.address(), size, (slotAddress, offset, numBytes, chunkIndex) -> backend.enqueue(() -> copy(device.address() + offset, slotAddress, numBytes)));
+        pool.download(result.address(), size, (slotAddress, offset, numBytes, chunkIndex) -> backend.enqueue(() -> copy(slotAddress, device.address() + offset, numBytes)));
+
+        assertEquals(-1, host.mismatch(result));
+        pool.release();
+    }
+
+    @Test
+    public void testRingIsReused() {
+        final int size = CHUNK_SIZE * 4;
+        MemorySegment host = newSegment(size, 5);
+        MemorySegment device = arena.allocate(size, 8);
+        StagingBufferPool pool = new StagingBufferPool(backend, CHUNK_SIZE, DEPTH, 1);
+        assertFalse(pool.isAllocated());
+
+        for (int i = 0; i < 3; i++) {
+            pool.upload(host.address(), size, (slotAddress, offset, numBytes, chunkIndex) -> backend.enqueue(() -> copy(device.address() + offset, slotAddress, numBytes)));
+        }
+        assertTrue(pool.isAllocated());
+        assertEquals(1, backend.allocations);
+
+        pool.release();
+        assertFalse(pool.isAllocated());
+        assertEquals(1, backend.frees);
+        // Every chunk transfer was released once
+        assertEquals(12, backend.released.size());
+
+        // The next transfer allocates the ring again
+        pool.upload(host.address(), size, (slotAddress, offset, numBytes, chunkIndex) -> backend.enqueue(() -> copy(device.address() + offset, slotAddress, numBytes)));
+        assertEquals(2, backend.allocations);
+        pool.release();
+    }
+
+    @Test
+    public void testFirstChunkIndex() {
+        final int size = CHUNK_SIZE * 3;
+        MemorySegment host = newSegment(size, 6);
+        List<Integer> chunkIndices = new ArrayList<>();
+        StagingBufferPool pool = new StagingBufferPool(backend, CHUNK_SIZE, DEPTH, 1);
+
+        pool.upload(host.address(), size, (slotAddress, offset, numBytes, chunkIndex) -> {
+            chunkIndices.add(chunkIndex);
+            assertEquals((long) chunkIndex * CHUNK_SIZE, offset);
+            return backend.enqueue(() -> {
+            });
+        });
+
+        assertEquals(List.of(0, 1, 2), chunkIndices);
+        pool.release();
+    }
+}
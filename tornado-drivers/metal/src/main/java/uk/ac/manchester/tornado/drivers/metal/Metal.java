@@ -23,6 +23,8 @@
  */
 package uk.ac.manchester.tornado.drivers.metal;
 
+import static uk.ac.manchester.tornado.runtime.common.TornadoOptions.VIRTUAL_DEVICE_ENABLED;
+
 import java.nio.ByteOrder;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -31,8 +33,10 @@ import java.util.List;
 import uk.ac.manchester.tornado.api.TornadoTargetDevice;
 import uk.ac.manchester.tornado.api.common.Access;
 import uk.ac.manchester.tornado.api.exceptions.TornadoRuntimeException;
+import uk.ac.manchester.tornado.drivers.common.virtual.VirtualDeviceParser;
 import uk.ac.manchester.tornado.drivers.metal.graal.MetalInstalledCode;
 import uk.ac.manchester.tornado.drivers.metal.runtime.MetalTornadoDevice;
+import uk.ac.manchester.tornado.drivers.metal.virtual.VirtualMetalPlatform;
 import uk.ac.manchester.tornado.runtime.common.KernelStackFrame;
 import uk.ac.manchester.tornado.runtime.common.XPUDeviceBufferState;
 import uk.ac.manchester.tornado.runtime.tasks.DataObjectState;
@@ -54,46 +58,50 @@ public class Metal {
     public static final int METAL_FALSE = 0;
 
     static {
-        try {
-            // Loading JNI Metal library. Prefer the SDK-installed native lib under $TORNADO_SDK/lib
-            final String tornadoSdk = System.getenv("TORNADO_SDK");
-            if (tornadoSdk != null) {
-                final String sdkLib = tornadoSdk + "/lib/libtornado-objc-metal.dylib";
-                try {
-                    System.load(sdkLib);
-                    nativeAvailable = true;
-                } catch (UnsatisfiedLinkError ex) {
-                    // Fall back to system library lookup
+        if (VIRTUAL_DEVICE_ENABLED) {
+            initializeVirtualPlatform();
+        } else {
+            try {
+                // Loading JNI Metal library. Prefer the SDK-installed native lib under $TORNADO_SDK/lib
+                final String tornadoSdk = System.getenv("TORNADO_SDK");
+                if (tornadoSdk != null) {
+                    final String sdkLib = tornadoSdk + "/lib/libtornado-objc-metal.dylib";
+                    try {
+                        System.load(sdkLib);
+                        nativeAvailable = true;
+                    } catch (UnsatisfiedLinkError ex) {
+                        // Fall back to system library lookup
+                        System.loadLibrary(Metal.METAL_JNI_LIBRARY);
+                        nativeAvailable = true;
+                    }
+                } else {
+                    // Fall back to system library lookup when SDK not set
                     System.loadLibrary(Metal.METAL_JNI_LIBRARY);
                     nativeAvailable = true;
                 }
-            } else {
-                // Fall back to system library lookup when SDK not set
-                System.loadLibrary(Metal.METAL_JNI_LIBRARY);
-                nativeAvailable = true;
-            }
-        } catch (final UnsatisfiedLinkError e) {
-            // Native JNI not available in this environment. Mark as unavailable and continue so the
-            // runtime can decide a fallback (e.g., deopt to sequential execution).
-            nativeAvailable = false;
-        } catch (final Throwable e) {
-            // Any other failure loading native bindings — mark unavailable.
-            nativeAvailable = false;
-        }
-
-        if (nativeAvailable) {
-            try {
-                initialise();
-            } catch (final TornadoRuntimeException e) {
-                // If initialisation failed, mark native as unavailable and continue.
+            } catch (final UnsatisfiedLinkError e) {
+                // Native JNI not available in this environment. Mark as unavailable and continue so the
+                // runtime can decide a fallback (e.g., deopt to sequential execution).
+                nativeAvailable = false;
+            } catch (final Throwable e) {
+                // Any other failure loading native bindings — mark unavailable.
                 nativeAvailable = false;
             }
 
-            // add a shutdown hook to free-up all Metal resources on VM exit
-            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
-                Thread.currentThread().setName("Metal-Cleanup-Thread");
-                Metal.cleanup();
-            }));
+            if (nativeAvailable) {
+                try {
+                    initialise();
+                } catch (final TornadoRuntimeException e) {
+                    // If initialisation failed, mark native as unavailable and continue.
+                    nativeAvailable = false;
+                }
+
+                // add a shutdown hook to free-up all Metal resources on VM exit
+                Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                    Thread.currentThread().setName("Metal-Cleanup-Thread");
+                    Metal.cleanup();
+                }));
+            }
         }
     }
 
@@ -124,6 +132,13 @@ public class Metal {
         return platforms.size();
     }
 
+    private static void initializeVirtualPlatform() {
+        if (!initialised) {
+            platforms.add(new VirtualMetalPlatform(VirtualDeviceParser.getDeviceProperties()));
+            initialised = true;
+        }
+    }
+
     public static void initialise() {
         if (!initialised) {
             try {
@@ -48,6 +48,7 @@ import uk.ac.manchester.tornado.drivers.metal.graal.backend.MetalBackend;
 import uk.ac.manchester.tornado.runtime.TornadoAcceleratorBackend;
 import uk.ac.manchester.tornado.runtime.TornadoVMConfigAccess;
 import uk.ac.manchester.tornado.runtime.common.TornadoLogger;
+import uk.ac.manchester.tornado.runtime.common.TornadoOptions;
 import uk.ac.manchester.tornado.runtime.common.TornadoXPUDevice;
 
 public final class MetalBackendImpl implements TornadoAcceleratorBackend {
@@ -64,15 +65,18 @@ public final class MetalBackendImpl implements TornadoAcceleratorBackend {
     private final TornadoLogger logger;
 
     public MetalBackendImpl(final OptionValues options, final HotSpotJVMCIRuntime vmRuntime, TornadoVMConfigAccess vmConfig) {
-        // Only allow Metal backend initialization on macOS hosts.
-        String osName = System.getProperty("os.name").toLowerCase();
-        if (!osName.contains("mac") && !osName.contains("darwin")) {
-            throw new TornadoBailoutRuntimeException("[WARNING] Metal backend only supported on macOS hosts. Deoptimizing to sequential execution.");
-        }
+        // Virtual devices only compile kernels, so they do not need a macOS host.
+        if (!TornadoOptions.VIRTUAL_DEVICE_ENABLED) {
+            // Only allow Metal backend initialization on macOS hosts.
+            String osName = System.getProperty("os.name").toLowerCase();
+            if (!osName.contains("mac") && !osName.contains("darwin")) {
+                throw new TornadoBailoutRuntimeException("[WARNING] Metal backend only supported on macOS hosts. Deoptimizing to sequential execution.");
+            }
 
-        // Bail out early if native Metal JNI bindings are unavailable in this environment.
-        if (!Metal.isNativeAvailable()) {
-            throw new TornadoBailoutRuntimeException("[WARNING] Native Metal JNI bindings not available. Deoptimizing to sequential execution.");
+            // Bail out early if native Metal JNI bindings are unavailable in this environment.
+            if (!Metal.isNativeAvailable()) {
+                throw new TornadoBailoutRuntimeException("[WARNING] Native Metal JNI bindings not available. Deoptimizing to sequential execution.");
+            }
         }
 
         final int numPlatforms = Metal.getNumPlatforms();
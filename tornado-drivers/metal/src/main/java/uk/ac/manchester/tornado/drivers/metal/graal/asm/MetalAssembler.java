@@ -796,6 +796,10 @@ public final class MetalAssembler extends Assembler {
         public static final MetalUnaryIntrinsic NATIVE_SIN = new MetalUnaryIntrinsic("sin");
         public static final MetalUnaryIntrinsic NATIVE_SQRT = new MetalUnaryIntrinsic("sqrt");
         public static final MetalUnaryIntrinsic NATIVE_TAN = new MetalUnaryIntrinsic("tan");
+        public static final MetalUnaryIntrinsic NATIVE_EXP = new MetalUnaryIntrinsic("fast::exp");
+        public static final MetalUnaryIntrinsic NATIVE_LOG = new MetalUnaryIntrinsic("fast::log");
+        public static final MetalUnaryIntrinsic NATIVE_RSQRT = new MetalUnaryIntrinsic("fast::rsqrt");
+        public static final MetalUnaryIntrinsic NATIVE_TANH = new MetalUnaryIntrinsic("fast::tanh");
         public static final MetalUnaryIntrinsic SIN = new MetalUnaryIntrinsic("sin");
         public static final MetalUnaryIntrinsic COS = new MetalUnaryIntrinsic("cos");
         public static final MetalUnaryIntrinsic TAN = new MetalUnaryIntrinsic("tan");
@@ -1084,7 +1088,10 @@ public final class MetalAssembler extends Assembler {
         public static final MetalBinaryIntrinsic CROSS = new MetalBinaryIntrinsic("cross");
 
         // MSL §6.9.2 SIMD-group functions
+        public static final MetalBinaryIntrinsic SIMD_SHUFFLE = new MetalBinaryIntrinsic("simd_shuffle");
         public static final MetalBinaryIntrinsic SIMD_SHUFFLE_DOWN = new MetalBinaryIntrinsic("simd_shuffle_down");
+        public static final MetalBinaryIntrinsic SIMD_SHUFFLE_UP = new MetalBinaryIntrinsic("simd_shuffle_up");
+        public static final MetalBinaryIntrinsic SIMD_SHUFFLE_XOR = new MetalBinaryIntrinsic("simd_shuffle_xor");
         // @formatter:on
 
         protected MetalBinaryIntrinsic(String opcode) {
@@ -49,6 +49,7 @@ import uk.ac.manchester.tornado.drivers.common.compiler.phases.guards.ExceptionS
 import uk.ac.manchester.tornado.drivers.common.compiler.phases.guards.TornadoValueTypeCleanup;
 import uk.ac.manchester.tornado.drivers.common.compiler.phases.memalloc.TornadoFieldAccessFixup;
 import uk.ac.manchester.tornado.drivers.common.compiler.phases.memalloc.TornadoLocalMemoryAllocation;
+import uk.ac.manchester.tornado.drivers.common.compiler.phases.memalloc.TornadoMixedPrecisionStorage;
 import uk.ac.manchester.tornado.drivers.common.compiler.phases.memalloc.TornadoNewArrayDevirtualizationReplacement;
 import uk.ac.manchester.tornado.drivers.common.compiler.phases.memalloc.TornadoPrivateArrayPiRemoval;
 import uk.ac.manchester.tornado.drivers.metal.graal.phases.TornadoBatchGlobalIndexOffset;
@@ -82,6 +83,7 @@ public class MetalHighTier extends TornadoHighTier {
         appendPhase(new TornadoTaskSpecialisation(canonicalizer));
         appendPhase(new TornadoBatchGlobalIndexOffset());
         appendPhase(new TornadoFieldAccessFixup());
+        appendPhase(new TornadoMixedPrecisionStorage());
         appendPhase(canonicalizer);
         appendPhase(new DeadCodeEliminationPhase(Optional));
 
@@ -97,6 +97,7 @@ import uk.ac.manchester.tornado.api.types.arrays.LongArray;
 import uk.ac.manchester.tornado.api.utils.QuantizationUtils;
 import uk.ac.manchester.tornado.drivers.metal.graal.MetalArchitecture;
 import uk.ac.manchester.tornado.drivers.metal.graal.asm.MetalAssembler;
+import uk.ac.manchester.tornado.drivers.metal.graal.asm.MetalAssembler.MetalBinaryIntrinsic;
 import uk.ac.manchester.tornado.drivers.metal.graal.lir.MetalKind;
 import uk.ac.manchester.tornado.drivers.metal.graal.lir.MetalUnary;
 import uk.ac.manchester.tornado.drivers.metal.graal.nodes.AtomAddNodeTemplate;
@@ -108,6 +109,7 @@ import uk.ac.manchester.tornado.drivers.metal.graal.nodes.LocalArrayNode;
 import uk.ac.manchester.tornado.drivers.metal.graal.nodes.MetalBarrierNode;
 import uk.ac.manchester.tornado.drivers.metal.graal.nodes.MetalConvertHalfToFloat;
 import uk.ac.manchester.tornado.drivers.metal.graal.nodes.MetalSIMDShuffleDownNode;
+import uk.ac.manchester.tornado.drivers.metal.graal.nodes.MetalSIMDShuffleNode;
 import uk.ac.manchester.tornado.drivers.metal.graal.nodes.MetalSIMDUnaryNode;
 import uk.ac.manchester.tornado.drivers.metal.graal.nodes.MetalSimdgroupMatrixZeroNode;
 import uk.ac.manchester.tornado.drivers.metal.graal.nodes.MetalSimdgroupMatrixLoadNode;
@@ -126,6 +128,8 @@ import uk.ac.manchester.tornado.runtime.common.TornadoOptions;
 
 public class MetalGraphBuilderPlugins {
 
+    private static final int SIMD_GROUP_SIZE = 32;
+
     public static void registerInvocationPlugins(final Plugins ps, final InvocationPlugins plugins) {
         if (TornadoOptions.INLINE_DURING_BYTECODE_PARSING) {
             ps.appendInlineInvokePlugin(new InlineDuringParsingPlugin());
@@ -412,9 +416,41 @@ public class MetalGraphBuilderPlugins {
                 return true;
             }
         });
+        registerSubgroupPlugins(r);
         registerSimdgroupMatrixPrimitives(r);
     }
 
+    /**
+     * Portable subgroup API: a subgroup is a SIMD group of 32 threads. Only the
+     * size and the shuffles are intrinsics; the reductions, scans and votes of
+     * {@link uk.ac.manchester.tornado.api.KernelContext} are built on top of them.
+     */
+    private static void registerSubgroupPlugins(Registration r) {
+        r.register(new InvocationPlugin("getSubgroupSize", Receiver.class) {
+            @Override
+            public boolean apply(GraphBuilderContext b, ResolvedJavaMethod targetMethod, Receiver receiver) {
+                b.addPush(JavaKind.Int, ConstantNode.forInt(SIMD_GROUP_SIZE));
+                return true;
+            }
+        });
+        registerSubgroupShufflePlugin(r, "subgroupShuffle", MetalBinaryIntrinsic.SIMD_SHUFFLE);
+        registerSubgroupShufflePlugin(r, "subgroupShuffleDown", MetalBinaryIntrinsic.SIMD_SHUFFLE_DOWN);
+        registerSubgroupShufflePlugin(r, "subgroupShuffleUp", MetalBinaryIntrinsic.SIMD_SHUFFLE_UP);
+        registerSubgroupShufflePlugin(r, "subgroupShuffleXor", MetalBinaryIntrinsic.SIMD_SHUFFLE_XOR);
+    }
+
+    private static void registerSubgroupShufflePlugin(Registration r, String methodName, MetalBinaryIntrinsic intrinsic) {
+        for (JavaKind kind : new JavaKind[] { JavaKind.Int, JavaKind.Float }) {
+            r.register(new InvocationPlugin(methodName, Receiver.class, kind.toJavaClass(), int.class) {
+                @Override
+                public boolean apply(GraphBuilderContext b, ResolvedJavaMethod targetMethod, Receiver receiver, ValueNode value, ValueNode operand) {
+                    b.addPush(kind, new MetalSIMDShuffleNode(kind, value, operand, intrinsic));
+                    return true;
+                }
+            });
+        }
+    }
+
     /**
      * Low-level matrix-unit (simdgroup_float8x8) primitives: zero / load / multiply-accumulate
      * / store. The surrounding GEMM loop is ordinary Java compiled by the normal pipeline; only
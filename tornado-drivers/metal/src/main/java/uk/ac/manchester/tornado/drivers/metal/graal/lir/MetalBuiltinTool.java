@@ -48,9 +48,13 @@ import static uk.ac.manchester.tornado.drivers.metal.graal.asm.MetalAssembler.Me
 import static uk.ac.manchester.tornado.drivers.metal.graal.asm.MetalAssembler.MetalUnaryIntrinsic.FLOAT_TRUNC;
 import static uk.ac.manchester.tornado.drivers.metal.graal.asm.MetalAssembler.MetalUnaryIntrinsic.LOG;
 import static uk.ac.manchester.tornado.drivers.metal.graal.asm.MetalAssembler.MetalUnaryIntrinsic.NATIVE_COS;
+import static uk.ac.manchester.tornado.drivers.metal.graal.asm.MetalAssembler.MetalUnaryIntrinsic.NATIVE_EXP;
+import static uk.ac.manchester.tornado.drivers.metal.graal.asm.MetalAssembler.MetalUnaryIntrinsic.NATIVE_LOG;
+import static uk.ac.manchester.tornado.drivers.metal.graal.asm.MetalAssembler.MetalUnaryIntrinsic.NATIVE_RSQRT;
 import static uk.ac.manchester.tornado.drivers.metal.graal.asm.MetalAssembler.MetalUnaryIntrinsic.NATIVE_SIN;
 import static uk.ac.manchester.tornado.drivers.metal.graal.asm.MetalAssembler.MetalUnaryIntrinsic.NATIVE_SQRT;
 import static uk.ac.manchester.tornado.drivers.metal.graal.asm.MetalAssembler.MetalUnaryIntrinsic.NATIVE_TAN;
+import static uk.ac.manchester.tornado.drivers.metal.graal.asm.MetalAssembler.MetalUnaryIntrinsic.NATIVE_TANH;
 import static uk.ac.manchester.tornado.drivers.metal.graal.asm.MetalAssembler.MetalUnaryIntrinsic.POPCOUNT;
 import static uk.ac.manchester.tornado.drivers.metal.graal.asm.MetalAssembler.MetalUnaryIntrinsic.RADIANS;
 import static uk.ac.manchester.tornado.drivers.metal.graal.asm.MetalAssembler.MetalUnaryIntrinsic.SIGN;
@@ -159,6 +163,26 @@ public class MetalBuiltinTool {
         return new MetalUnary.Intrinsic(EXP, LIRKind.value(input.getPlatformKind()), input);
     }
 
+    public Value genFloatNativeExp(Value input) {
+        Logger.traceBuildLIR(Logger.BACKEND.Metal, "genNativeExp: fast::exp(%s)", input);
+        return new MetalUnary.Intrinsic(NATIVE_EXP, LIRKind.value(input.getPlatformKind()), input);
+    }
+
+    public Value genFloatNativeLog(Value input) {
+        Logger.traceBuildLIR(Logger.BACKEND.Metal, "genNativeLog: fast::log(%s)", input);
+        return new MetalUnary.Intrinsic(NATIVE_LOG, LIRKind.value(input.getPlatformKind()), input);
+    }
+
+    public Value genFloatNativeRSqrt(Value input) {
+        Logger.traceBuildLIR(Logger.BACKEND.Metal, "genNativeRSqrt: fast::rsqrt(%s)", input);
+        return new MetalUnary.Intrinsic(NATIVE_RSQRT, LIRKind.value(input.getPlatformKind()), input);
+    }
+
+    public Value genFloatNativeTanh(Value input) {
+        Logger.traceBuildLIR(Logger.BACKEND.Metal, "genNativeTanh: fast::tanh(%s)", input);
+        return new MetalUnary.Intrinsic(NATIVE_TANH, LIRKind.value(input.getPlatformKind()), input);
+    }
+
     public Value genFloatExp2(Value input) {
         unimplemented();
         return null;
@@ -107,10 +107,12 @@ public class MetalFPUnaryIntrinsicNode extends UnaryNode implements ArithmeticLI
             case ACOS -> Math.acos(value);
             case ACOSH -> computeAcosh(value);
             case FABS -> Math.abs(value);
-            case EXP -> Math.exp(value);
+            case EXP, NATIVE_EXP -> Math.exp(value);
             case SQRT -> Math.sqrt(value);
             case FLOOR -> Math.floor(value);
-            case LOG -> Math.log(value);
+            case LOG, NATIVE_LOG -> Math.log(value);
+            case NATIVE_RSQRT -> 1.0 / Math.sqrt(value);
+            case NATIVE_TANH -> Math.tanh(value);
             default -> throw new TornadoInternalError("unable to compute op %s", op);
         };
     }
@@ -123,10 +125,12 @@ public class MetalFPUnaryIntrinsicNode extends UnaryNode implements ArithmeticLI
             case ACOS -> (float) Math.acos(value);
             case ACOSH -> computeAcosh(value);
             case FABS -> Math.abs(value);
-            case EXP -> (float) Math.exp(value);
+            case EXP, NATIVE_EXP -> (float) Math.exp(value);
             case SQRT -> (float) Math.sqrt(value);
             case FLOOR -> (float) Math.floor(value);
-            case LOG -> (float) Math.log(value);
+            case LOG, NATIVE_LOG -> (float) Math.log(value);
+            case NATIVE_RSQRT -> (float) (1.0 / Math.sqrt(value));
+            case NATIVE_TANH -> (float) Math.tanh(value);
             default -> throw new TornadoInternalError("unable to compute op %s", op);
         };
     }
@@ -176,6 +180,10 @@ public class MetalFPUnaryIntrinsicNode extends UnaryNode implements ArithmeticLI
             case RADIANS -> gen.genFloatRadians(input);
             case COSPI -> gen.genFloatCosPI(input);
             case SINPI -> gen.genFloatSinPI(input);
+            case NATIVE_EXP -> gen.genFloatNativeExp(input);
+            case NATIVE_LOG -> gen.genFloatNativeLog(input);
+            case NATIVE_RSQRT -> gen.genFloatNativeRSqrt(input);
+            case NATIVE_TANH -> gen.genFloatNativeTanh(input);
             default -> throw shouldNotReachHere();
         };
         Variable x = builder.getLIRGeneratorTool().newVariable(result.getValueKind());
@@ -229,7 +237,11 @@ public class MetalFPUnaryIntrinsicNode extends UnaryNode implements ArithmeticLI
         TANH,
         TANPI,
         TGAMMA,
-        TRUNC
+        TRUNC,
+        NATIVE_EXP,
+        NATIVE_LOG,
+        NATIVE_RSQRT,
+        NATIVE_TANH
     }
     // @formatter:on
 
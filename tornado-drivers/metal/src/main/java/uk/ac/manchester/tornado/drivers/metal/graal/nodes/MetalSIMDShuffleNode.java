@@ -0,0 +1,81 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * School of Engineering, The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.drivers.metal.graal.nodes;
+
+import org.graalvm.compiler.core.common.type.StampFactory;
+import org.graalvm.compiler.graph.NodeClass;
+import org.graalvm.compiler.lir.Variable;
+import org.graalvm.compiler.lir.gen.LIRGeneratorTool;
+import org.graalvm.compiler.nodeinfo.NodeInfo;
+import org.graalvm.compiler.nodes.FixedWithNextNode;
+import org.graalvm.compiler.nodes.ValueNode;
+import org.graalvm.compiler.nodes.spi.LIRLowerable;
+import org.graalvm.compiler.nodes.spi.NodeLIRBuilderTool;
+
+import jdk.vm.ci.meta.JavaKind;
+import jdk.vm.ci.meta.Value;
+import uk.ac.manchester.tornado.drivers.metal.graal.asm.MetalAssembler.MetalBinaryIntrinsic;
+import uk.ac.manchester.tornado.drivers.metal.graal.lir.MetalBinary;
+import uk.ac.manchester.tornado.drivers.metal.graal.lir.MetalLIRStmt;
+
+/**
+ * Graal node for the SIMD-group shuffles {@code simd_shuffle},
+ * {@code simd_shuffle_up}, {@code simd_shuffle_down} and
+ * {@code simd_shuffle_xor} (MSL §6.9.2) of {@code int} and {@code float}
+ * values, used by the {@code KernelContext.subgroupShuffle*} methods.
+ *
+ * <p><b>Important:</b> SIMD-group operations are <em>convergent</em> — all threads
+ * must execute them together. This node extends {@link FixedWithNextNode} to prevent
+ * the scheduler from placing it inside a branch taken by only some lanes.
+ */
+@NodeInfo
+public class MetalSIMDShuffleNode extends FixedWithNextNode implements LIRLowerable {
+
+    public static final NodeClass<MetalSIMDShuffleNode> TYPE = NodeClass.create(MetalSIMDShuffleNode.class);
+
+    @Input
+    private ValueNode data;
+
+    @Input
+    private ValueNode operand;
+
+    private final MetalBinaryIntrinsic intrinsic;
+
+    public MetalSIMDShuffleNode(JavaKind kind, ValueNode data, ValueNode operand, MetalBinaryIntrinsic intrinsic) {
+        super(TYPE, StampFactory.forKind(kind));
+        this.data = data;
+        this.operand = operand;
+        this.intrinsic = intrinsic;
+    }
+
+    @Override
+    public void generate(NodeLIRBuilderTool gen) {
+        LIRGeneratorTool tool = gen.getLIRGeneratorTool();
+        Value dataVal = gen.operand(data);
+        Value operandVal = gen.operand(operand);
+        Variable result = tool.newVariable(tool.getLIRKind(stamp));
+        tool.append(new MetalLIRStmt.AssignStmt(result, new MetalBinary.Intrinsic(intrinsic, tool.getLIRKind(stamp), dataVal, operandVal)));
+        gen.setResult(this, result);
+    }
+}
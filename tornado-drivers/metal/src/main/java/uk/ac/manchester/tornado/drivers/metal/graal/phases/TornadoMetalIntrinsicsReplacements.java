@@ -43,6 +43,9 @@ import jdk.vm.ci.meta.JavaKind;
 import jdk.vm.ci.meta.MetaAccessProvider;
 import jdk.vm.ci.meta.PrimitiveConstant;
 import jdk.vm.ci.meta.ResolvedJavaType;
+import uk.ac.manchester.tornado.api.enums.MathFunction;
+import uk.ac.manchester.tornado.api.enums.MathPrecision;
+import uk.ac.manchester.tornado.drivers.common.compiler.phases.utils.MathPolicyReplacements;
 import uk.ac.manchester.tornado.drivers.metal.graal.MetalArchitecture;
 import uk.ac.manchester.tornado.drivers.metal.graal.MetalLoweringProvider;
 import uk.ac.manchester.tornado.drivers.metal.graal.nodes.FixedArrayNode;
@@ -53,6 +56,7 @@ import uk.ac.manchester.tornado.drivers.metal.graal.nodes.LocalArrayNode;
 import uk.ac.manchester.tornado.drivers.metal.graal.nodes.LocalGroupSizeNode;
 import uk.ac.manchester.tornado.drivers.metal.graal.nodes.LocalThreadIDFixedNode;
 import uk.ac.manchester.tornado.drivers.metal.graal.nodes.MetalBarrierNode;
+import uk.ac.manchester.tornado.drivers.metal.graal.nodes.MetalFPUnaryIntrinsicNode;
 import uk.ac.manchester.tornado.drivers.metal.graal.nodes.MetalPrintf;
 import uk.ac.manchester.tornado.runtime.graal.phases.TornadoHighTierContext;
 
@@ -133,6 +137,19 @@ public class TornadoMetalIntrinsicsReplacements extends BasePhase<TornadoHighTie
                     break;
             }
         }
+
+        MathPolicyReplacements.apply(graph, context, TornadoMetalIntrinsicsReplacements::createMathIntrinsic);
+    }
+
+    private static ValueNode createMathIntrinsic(ValueNode input, MathFunction function, MathPrecision precision) {
+        // Metal does not have half-precision variants of the float functions: HALF uses the fast:: functions
+        MetalFPUnaryIntrinsicNode.Operation operation = switch (function) {
+            case EXP -> MetalFPUnaryIntrinsicNode.Operation.NATIVE_EXP;
+            case LOG -> MetalFPUnaryIntrinsicNode.Operation.NATIVE_LOG;
+            case RSQRT -> MetalFPUnaryIntrinsicNode.Operation.NATIVE_RSQRT;
+            case TANH -> MetalFPUnaryIntrinsicNode.Operation.NATIVE_TANH;
+        };
+        return MetalFPUnaryIntrinsicNode.create(input, operation, JavaKind.Float);
     }
 
     private void lowerLocalInvokeNodeNewArray(StructuredGraph graph, int length, JavaKind elementKind, InvokeNode newArray) {
@@ -589,8 +589,9 @@ public class MetalTornadoDevice implements TornadoXPUDevice {
         final XPUBuffer buffer;
         TornadoInternalError.guarantee(deviceObjectState.isAtomicRegionPresent() || !deviceObjectState.hasObjectBuffer() || batchSize != 0, "A device memory leak might be occurring.");
         buffer = createDeviceBuffer(object.getClass(), object, (MetalDeviceContext) getDeviceContext(), batchSize, access);
-        deviceObjectState.setXPUBuffer(buffer);
         buffer.allocate(object, batchSize, access);
+        // The state keeps its previous buffer if the allocation fails, so it can be retried
+        deviceObjectState.setXPUBuffer(buffer);
         return buffer;
     }
 
@@ -0,0 +1,221 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.drivers.metal.virtual;
+
+import static uk.ac.manchester.tornado.drivers.common.virtual.VirtualDeviceProperties.UNKNOWN;
+
+import java.nio.ByteOrder;
+
+import uk.ac.manchester.tornado.drivers.common.virtual.VirtualDeviceProperties;
+import uk.ac.manchester.tornado.drivers.metal.MetalDeviceContextInterface;
+import uk.ac.manchester.tornado.drivers.metal.MetalTargetDevice;
+import uk.ac.manchester.tornado.drivers.metal.enums.MetalDeviceType;
+
+public class VirtualMetalDevice implements MetalTargetDevice {
+
+    private final int index;
+    private final String name;
+    private final MetalDeviceType deviceType;
+    private final long[] maxWorkItemSizes;
+    private final long localMemorySize;
+    private final int maxComputeUnits;
+    private final int deviceAddressBits;
+    private final boolean doubleFPSupport;
+    private final boolean halfFPSupport;
+    private final String deviceExtensions;
+    private MetalDeviceContextInterface deviceContext;
+
+    public VirtualMetalDevice(VirtualDeviceProperties properties) {
+        this.index = 0;
+        this.name = properties.getDeviceName();
+        this.deviceType = toMetalDeviceType(properties);
+        this.maxWorkItemSizes = properties.getMaxWorkItemSizes();
+        this.localMemorySize = properties.getLocalMemorySize();
+        this.maxComputeUnits = properties.getAvailableProcessors();
+        this.deviceAddressBits = properties.getDeviceAddressBits();
+        this.doubleFPSupport = properties.getDoubleFPSupport();
+        this.halfFPSupport = properties.getHalfFPSupport();
+        this.deviceExtensions = properties.getDeviceExtensions();
+    }
+
+    private static MetalDeviceType toMetalDeviceType(VirtualDeviceProperties properties) {
+        return switch (properties.getTornadoDeviceType()) {
+            case CPU -> MetalDeviceType.METAL_DEVICE_TYPE_CPU;
+            case ACCELERATOR, FPGA -> MetalDeviceType.METAL_DEVICE_TYPE_ACCELERATOR;
+            case CUSTOM -> MetalDeviceType.METAL_DEVICE_TYPE_CUSTOM;
+            // Metal devices are GPUs unless stated otherwise
+            default -> MetalDeviceType.METAL_DEVICE_TYPE_GPU;
+        };
+    }
+
+    @Override
+    public long getDevicePointer() {
+        return -1;
+    }
+
+    @Override
+    public String getVersion() {
+        return "Metal 3.0";
+    }
+
+    @Override
+    public int getIndex() {
+        return index;
+    }
+
+    @Override
+    public int getWordSize() {
+        return deviceAddressBits >> 3;
+    }
+
+    @Override
+    public ByteOrder getByteOrder() {
+        return ByteOrder.LITTLE_ENDIAN;
+    }
+
+    @Override
+    public boolean isDeviceDoubleFPSupported() {
+        return doubleFPSupport;
+    }
+
+    @Override
+    public boolean isDeviceFP16Supported() {
+        return halfFPSupport;
+    }
+
+    @Override
+    public String getDeviceExtensions() {
+        return deviceExtensions;
+    }
+
+    @Override
+    public MetalDeviceType getDeviceType() {
+        return deviceType;
+    }
+
+    @Override
+    public String getDeviceVendor() {
+        return "DummyVendor";
+    }
+
+    @Override
+    public String getDriverVersion() {
+        return "DummyDriverVersion";
+    }
+
+    @Override
+    public boolean isDeviceAvailable() {
+        return true;
+    }
+
+    @Override
+    public String getDeviceMetalCVersion() {
+        return "Metal Shading Language";
+    }
+
+    @Override
+    public boolean isLittleEndian() {
+        return true;
+    }
+
+    @Override
+    public MetalDeviceContextInterface getDeviceContext() {
+        return deviceContext;
+    }
+
+    @Override
+    public void setDeviceContext(MetalDeviceContextInterface deviceContext) {
+        this.deviceContext = deviceContext;
+    }
+
+    @Override
+    public int deviceVersion() {
+        return 300;
+    }
+
+    @Override
+    public boolean isSPIRVSupported() {
+        return false;
+    }
+
+    @Override
+    public String getDeviceName() {
+        return name;
+    }
+
+    @Override
+    public long getDeviceGlobalMemorySize() {
+        return UNKNOWN;
+    }
+
+    @Override
+    public long getDeviceLocalMemorySize() {
+        return localMemorySize;
+    }
+
+    @Override
+    public int getDeviceMaxComputeUnits() {
+        return maxComputeUnits;
+    }
+
+    @Override
+    public long[] getDeviceMaxWorkItemSizes() {
+        return maxWorkItemSizes;
+    }
+
+    @Override
+    public long[] getDeviceMaxWorkGroupSize() {
+        return maxWorkItemSizes;
+    }
+
+    @Override
+    public int getMaxThreadsPerBlock() {
+        return (int) maxWorkItemSizes[0];
+    }
+
+    @Override
+    public int getDeviceMaxClockFrequency() {
+        return UNKNOWN;
+    }
+
+    @Override
+    public long getDeviceMaxConstantBufferSize() {
+        return UNKNOWN;
+    }
+
+    @Override
+    public long getDeviceMaxAllocationSize() {
+        return UNKNOWN;
+    }
+
+    @Override
+    public String getDeviceInfo() {
+        return "DummyDeviceInfo";
+    }
+
+    @Override
+    public String toString() {
+        return String.format("id=0x%x, deviceName=%s, type=%s, available=%s", -1, getDeviceName(), getDeviceType().toString(), isDeviceAvailable());
+    }
+}
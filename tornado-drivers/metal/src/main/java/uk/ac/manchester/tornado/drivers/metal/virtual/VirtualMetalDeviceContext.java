@@ -0,0 +1,243 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.drivers.metal.virtual;
+
+import java.util.Set;
+
+import uk.ac.manchester.tornado.api.common.Event;
+import uk.ac.manchester.tornado.api.common.SchedulableTask;
+import uk.ac.manchester.tornado.api.runtime.TornadoRuntimeProvider;
+import uk.ac.manchester.tornado.drivers.common.TornadoBufferProvider;
+import uk.ac.manchester.tornado.drivers.metal.MetalBackendImpl;
+import uk.ac.manchester.tornado.drivers.metal.MetalCodeCache;
+import uk.ac.manchester.tornado.drivers.metal.MetalDeviceContextInterface;
+import uk.ac.manchester.tornado.drivers.metal.MetalProgram;
+import uk.ac.manchester.tornado.drivers.metal.MetalTargetDevice;
+import uk.ac.manchester.tornado.drivers.metal.graal.MetalInstalledCode;
+import uk.ac.manchester.tornado.drivers.metal.graal.compiler.MetalCompilationResult;
+import uk.ac.manchester.tornado.drivers.metal.mm.MetalMemoryManager;
+import uk.ac.manchester.tornado.runtime.EmptyEvent;
+import uk.ac.manchester.tornado.runtime.tasks.meta.TaskDataContext;
+
+public class VirtualMetalDeviceContext implements MetalDeviceContextInterface {
+
+    private final MetalTargetDevice device;
+    private final VirtualMetalContext context;
+    private final MetalCodeCache codeCache;
+    private boolean wasReset;
+
+    protected VirtualMetalDeviceContext(MetalTargetDevice device, VirtualMetalContext context) {
+        this.device = device;
+        this.context = context;
+        this.codeCache = new MetalCodeCache(this);
+        device.setDeviceContext(this);
+    }
+
+    @Override
+    public MetalTargetDevice getDevice() {
+        return device;
+    }
+
+    @Override
+    public String getDeviceName() {
+        return device.getDeviceName();
+    }
+
+    @Override
+    public int getDriverIndex() {
+        return TornadoRuntimeProvider.getTornadoRuntime().getBackendIndex(MetalBackendImpl.class);
+    }
+
+    @Override
+    public Set<Long> getRegisteredPlanIds() {
+        return Set.of();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getName();
+    }
+
+    @Override
+    public VirtualMetalContext getPlatformContext() {
+        return context;
+    }
+
+    @Override
+    public long getDeviceId() {
+        return 0;
+    }
+
+    @Override
+    public MetalProgram createProgramWithSource(byte[] source, long[] lengths) {
+        return null;
+    }
+
+    @Override
+    public MetalProgram createProgramWithBinary(byte[] binary, long[] lengths) {
+        return null;
+    }
+
+    @Override
+    public MetalProgram createProgramWithIL(byte[] binary, long[] lengths) {
+        return null;
+    }
+
+    @Override
+    public MetalMemoryManager getMemoryManager() {
+        return null;
+    }
+
+    @Override
+    public TornadoBufferProvider getBufferProvider() {
+        return null;
+    }
+
+    @Override
+    public void sync(long executionPlanId) {
+    }
+
+    @Override
+    public int enqueueBarrier(long executionPlanId) {
+        return 0;
+    }
+
+    @Override
+    public int enqueueBarrier(long executionPlanId, int[] events) {
+        return 0;
+    }
+
+    @Override
+    public int enqueueMarker(long executionPlanId) {
+        return 0;
+    }
+
+    @Override
+    public int enqueueMarker(long executionPlanId, int[] events) {
+        return 0;
+    }
+
+    @Override
+    public Event resolveEvent(long executionPlanId, int event) {
+        return new EmptyEvent();
+    }
+
+    @Override
+    public void flushEvents(long executionPlanId) {
+    }
+
+    @Override
+    public void reset(long executionPlanId) {
+        wasReset = true;
+    }
+
+    @Override
+    public VirtualMetalTornadoDevice toDevice() {
+        return new VirtualMetalTornadoDevice(context.getPlatformIndex(), device.getIndex());
+    }
+
+    @Override
+    public void dumpEvents() {
+    }
+
+    @Override
+    public void flush(long executionPlanId) {
+    }
+
+    @Override
+    public boolean wasReset() {
+        return wasReset;
+    }
+
+    @Override
+    public void setResetToFalse() {
+        wasReset = false;
+    }
+
+    @Override
+    public boolean isPlatformFPGA() {
+        return false;
+    }
+
+    @Override
+    public boolean isPlatformXilinxFPGA() {
+        return false;
+    }
+
+    @Override
+    public boolean isFP64Supported() {
+        return device.isDeviceDoubleFPSupported();
+    }
+
+    @Override
+    public int getDeviceIndex() {
+        return device.getIndex();
+    }
+
+    @Override
+    public int getDevicePlatform() {
+        return context.getPlatformIndex();
+    }
+
+    @Override
+    public boolean isKernelAvailable(long executionPlanId) {
+        return true;
+    }
+
+    @Override
+    public MetalInstalledCode installCode(long executionPlanId, MetalCompilationResult result) {
+        return null;
+    }
+
+    @Override
+    public MetalInstalledCode installCode(long executionPlanId, TaskDataContext meta, String id, String entryPoint, byte[] code) {
+        return null;
+    }
+
+    @Override
+    public MetalInstalledCode installCode(long executionPlanId, String id, String entryPoint, byte[] code, boolean printKernel) {
+        return null;
+    }
+
+    @Override
+    public boolean isCached(long executionPlanId, String id, String entryPoint) {
+        return false;
+    }
+
+    @Override
+    public MetalInstalledCode getInstalledCode(long executionPlanId, String id, String entryPoint) {
+        return null;
+    }
+
+    @Override
+    public MetalCodeCache getCodeCache(long executionPlanId) {
+        return codeCache;
+    }
+
+    @Override
+    public boolean isCached(long executionPlanId, String methodName, SchedulableTask task) {
+        return false;
+    }
+
+}
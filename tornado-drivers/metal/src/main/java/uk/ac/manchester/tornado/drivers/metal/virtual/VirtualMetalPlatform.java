@@ -0,0 +1,81 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.drivers.metal.virtual;
+
+import uk.ac.manchester.tornado.drivers.common.virtual.VirtualDeviceProperties;
+import uk.ac.manchester.tornado.drivers.metal.MetalContextInterface;
+import uk.ac.manchester.tornado.drivers.metal.MetalTargetDevice;
+import uk.ac.manchester.tornado.drivers.metal.TornadoPlatformInterface;
+
+public class VirtualMetalPlatform implements TornadoPlatformInterface {
+
+    private final int index;
+    private final MetalTargetDevice device;
+    private VirtualMetalContext context;
+
+    public VirtualMetalPlatform(VirtualDeviceProperties properties) {
+        this.index = 0;
+        this.device = new VirtualMetalDevice(properties);
+    }
+
+    @Override
+    public MetalContextInterface createContext() {
+        context = new VirtualMetalContext(this, device);
+        return context;
+    }
+
+    @Override
+    public void cleanup() {
+    }
+
+    @Override
+    public String getName() {
+        return "Metal (virtual)";
+    }
+
+    @Override
+    public String getVendor() {
+        return null;
+    }
+
+    @Override
+    public String getVersion() {
+        return null;
+    }
+
+    @Override
+    public boolean isSPIRVSupported() {
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getName();
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+}
@@ -0,0 +1,193 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.drivers.metal.virtual;
+
+import static uk.ac.manchester.tornado.api.exceptions.TornadoInternalError.unimplemented;
+
+import java.util.List;
+
+import jdk.vm.ci.meta.ResolvedJavaMethod;
+import uk.ac.manchester.tornado.api.common.Access;
+import uk.ac.manchester.tornado.api.common.SchedulableTask;
+import uk.ac.manchester.tornado.api.enums.TornadoVMBackendType;
+import uk.ac.manchester.tornado.api.exceptions.TornadoBailoutRuntimeException;
+import uk.ac.manchester.tornado.api.memory.DeviceBufferState;
+import uk.ac.manchester.tornado.api.memory.XPUBuffer;
+import uk.ac.manchester.tornado.api.profiler.ProfilerType;
+import uk.ac.manchester.tornado.api.profiler.TornadoProfiler;
+import uk.ac.manchester.tornado.drivers.metal.graal.MetalProviders;
+import uk.ac.manchester.tornado.drivers.metal.graal.compiler.MetalCompilationResult;
+import uk.ac.manchester.tornado.drivers.metal.graal.compiler.MetalCompiler;
+import uk.ac.manchester.tornado.drivers.metal.graal.nodes.TornadoAtomicIntegerNode;
+import uk.ac.manchester.tornado.drivers.metal.runtime.MetalTornadoDevice;
+import uk.ac.manchester.tornado.runtime.TornadoCoreRuntime;
+import uk.ac.manchester.tornado.runtime.aot.KernelBundle;
+import uk.ac.manchester.tornado.runtime.common.KernelStackFrame;
+import uk.ac.manchester.tornado.runtime.common.RuntimeUtilities;
+import uk.ac.manchester.tornado.runtime.common.TornadoInstalledCode;
+import uk.ac.manchester.tornado.runtime.common.TornadoLogger;
+import uk.ac.manchester.tornado.runtime.profiler.KernelQualityProfiler;
+import uk.ac.manchester.tornado.runtime.sketcher.Sketch;
+import uk.ac.manchester.tornado.runtime.sketcher.TornadoSketcher;
+import uk.ac.manchester.tornado.runtime.tasks.CompilableTask;
+import uk.ac.manchester.tornado.runtime.tasks.meta.TaskDataContext;
+
+/**
+ * Compile-only Metal device. Tasks are compiled to Metal Shading Language for
+ * the virtual device, and the generated code is dumped
+ * ({@code -Dtornado.print.kernel.dir}) and recorded in the kernel bundle
+ * ({@code -Dtornado.aot.output}). Nothing is executed, so no macOS host is
+ * needed.
+ */
+public class VirtualMetalTornadoDevice extends MetalTornadoDevice {
+
+    public VirtualMetalTornadoDevice(final int platformIndex, final int deviceIndex) {
+        super(platformIndex, deviceIndex);
+    }
+
+    @Override
+    public TornadoInstalledCode installCode(long executionPlanId, SchedulableTask task) {
+        if (!(task instanceof CompilableTask executable)) {
+            // Pre-built Metal kernels are already in their final form
+            return null;
+        }
+        final ResolvedJavaMethod resolvedMethod = TornadoCoreRuntime.getTornadoRuntime().resolveMethod(executable.getMethod());
+        final Sketch sketch = TornadoSketcher.lookup(resolvedMethod, task.meta().getBackendIndex(), task.meta().getDeviceIndex());
+
+        // copy meta data into task
+        final TaskDataContext taskMeta = executable.meta();
+        final Access[] sketchAccess = sketch.getArgumentsAccess();
+        final Access[] taskAccess = taskMeta.getArgumentsAccess();
+        System.arraycopy(sketchAccess, 0, taskAccess, 0, sketchAccess.length);
+
+        try {
+            MetalProviders providers = (MetalProviders) getBackend().getProviders();
+            TornadoProfiler profiler = task.getProfiler();
+            profiler.start(ProfilerType.TASK_COMPILE_GRAAL_TIME, taskMeta.getId());
+            KernelQualityProfiler.beginCompilation();
+            final long compileStart = System.nanoTime();
+            final MetalCompilationResult result = MetalCompiler.compileSketchForDevice(sketch, executable, providers, getBackend(), executable.getProfiler());
+            KernelQualityProfiler.endCompilation(TornadoVMBackendType.METAL, resolvedMethod, getDeviceName(), result.getTargetCode(), System.nanoTime() - compileStart);
+            profiler.stop(ProfilerType.TASK_COMPILE_GRAAL_TIME, taskMeta.getId());
+            profiler.sum(ProfilerType.TOTAL_GRAAL_COMPILE_TIME, profiler.getTaskTimer(ProfilerType.TASK_COMPILE_GRAAL_TIME, taskMeta.getId()));
+
+            if (taskMeta.isPrintKernelEnabled()) {
+                RuntimeUtilities.dumpKernel(result.getTargetCode());
+            }
+
+            final int dimensions = (taskMeta.getDomain() != null) ? taskMeta.getDomain().getDepth() : 0;
+            final boolean atomics = TornadoAtomicIntegerNode.globalAtomics.containsKey(resolvedMethod) || TornadoAtomicIntegerNode.globalAtomicsParameters.containsKey(resolvedMethod);
+            KernelBundle.recordKernel(TornadoVMBackendType.METAL, executable, result.getName(), this, taskAccess, dimensions, atomics, result.getTargetCode());
+            return null;
+        } catch (Exception e) {
+            TornadoLogger tornadoLogger = new TornadoLogger();
+            tornadoLogger.fatal("unable to compile %s for device %s", task.getId(), getDeviceName());
+            tornadoLogger.fatal("exception occurred when compiling %s", executable.getMethod().getName());
+            tornadoLogger.fatal("exception: %s", e.toString());
+            throw new TornadoBailoutRuntimeException("[Error During the Task Compilation] ", e);
+        }
+    }
+
+    @Override
+    public TornadoInstalledCode getCodeFromCache(long executionPlanId, SchedulableTask task) {
+        return null;
+    }
+
+    @Override
+    public KernelStackFrame createKernelStackFrame(long executionPlanId, int numArgs, Access access) {
+        return null;
+    }
+
+    @Override
+    public XPUBuffer createOrReuseAtomicsBuffer(int[] array, Access access) {
+        return null;
+    }
+
+    @Override
+    public long allocate(Object object, long batchSize, DeviceBufferState state, Access access) {
+        unimplemented();
+        return -1;
+    }
+
+    @Override
+    public synchronized long allocateObjects(Object[] objects, long batchSize, DeviceBufferState[] states, Access[] accesses) {
+        unimplemented();
+        return -1;
+    }
+
+    @Override
+    public synchronized long deallocate(DeviceBufferState state) {
+        unimplemented();
+        return -1;
+    }
+
+    @Override
+    public List<Integer> ensurePresent(long executionPlanId, Object object, DeviceBufferState state, int[] events, long batchSize, long offset) {
+        unimplemented();
+        return null;
+    }
+
+    @Override
+    public List<Integer> streamIn(long executionPlanId, Object object, long batchSize, long offset, DeviceBufferState state, int[] events) {
+        unimplemented();
+        return null;
+    }
+
+    @Override
+    public int streamOut(long executionPlanId, Object object, long offset, DeviceBufferState state, int[] events) {
+        unimplemented();
+        return -1;
+    }
+
+    @Override
+    public int streamOutBlocking(long executionPlanId, Object object, long hostOffset, DeviceBufferState state, int[] events) {
+        unimplemented();
+        return -1;
+    }
+
+    @Override
+    public void mapDeviceRegion(long executionPlanId, Object destArray, Object srcArray, DeviceBufferState deviceStateSrc, DeviceBufferState deviceStateDest, long offset) {
+        unimplemented();
+    }
+
+    @Override
+    public boolean isIntraPlanConcurrencySupported() {
+        return false;
+    }
+
+    @Override
+    public boolean supportsExecutionGraphs() {
+        return false;
+    }
+
+    @Override
+    public String getDeviceName() {
+        return String.format("virtualMetal-%d-%d", getPlatformIndex(), getDeviceIndex());
+    }
+
+    @Override
+    public TornadoVMBackendType getTornadoVMBackend() {
+        return TornadoVMBackendType.VIRTUAL;
+    }
+}
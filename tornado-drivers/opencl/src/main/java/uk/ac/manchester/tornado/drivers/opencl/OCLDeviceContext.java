@@ -37,11 +37,15 @@ import java.util.concurrent.ConcurrentHashMap;
 
 import uk.ac.manchester.tornado.api.common.Event;
 import uk.ac.manchester.tornado.api.common.SchedulableTask;
+import uk.ac.manchester.tornado.api.exceptions.TornadoBailoutRuntimeException;
 import uk.ac.manchester.tornado.api.runtime.TornadoRuntimeProvider;
 import uk.ac.manchester.tornado.drivers.common.TornadoBufferProvider;
+import uk.ac.manchester.tornado.drivers.common.mm.OffHeapStagingBackend;
+import uk.ac.manchester.tornado.drivers.common.mm.StagingBufferPool;
 import uk.ac.manchester.tornado.drivers.common.power.PowerMetric;
 import uk.ac.manchester.tornado.drivers.common.utils.EventDescriptor;
 import uk.ac.manchester.tornado.drivers.opencl.enums.OCLDeviceType;
+import uk.ac.manchester.tornado.drivers.opencl.exceptions.OCLException;
 import uk.ac.manchester.tornado.drivers.opencl.graal.OCLInstalledCode;
 import uk.ac.manchester.tornado.drivers.opencl.graal.compiler.OCLCompilationResult;
 import uk.ac.manchester.tornado.drivers.opencl.mm.OCLMemoryManager;
@@ -74,6 +78,18 @@ public class OCLDeviceContext implements OCLDeviceContextInterface {
      */
     private final Map<Long, OCLCodeCache> codeCache;
 
+    /**
+     * Ring of host staging slots for large transfers, allocated lazily by the first staged
+     * transfer. Shared across plans; the pool serialises the transfers.
+     */
+    private final StagingBufferPool stagingPool = StagingBufferPool.fromOptions(new OCLStagingBackend());
+
+    /**
+     * Whether large transfers go through the staging ring. Defaults to the
+     * -Dtornado.staged.transfers property and is overridden by the plan-level withStagedTransfers() API.
+     */
+    private volatile boolean stagedTransfersEnabled = TornadoOptions.ENABLE_STAGED_TRANSFERS;
+
     public OCLDeviceContext(OCLTargetDevice device, OCLContext context) {
         this.device = device;
         this.context = context;
@@ -292,6 +308,84 @@ public class OCLDeviceContext implements OCLDeviceContextInterface {
         return eventPool.registerEvent(eventId, EventDescriptor.DESC_WRITE_SEGMENT, commandQueue);
     }
 
+    /**
+     * Write staged through the ring of host slots. Each chunk is copied (multi-threaded) into a
+     * slot and written with a non-blocking call, so the copy of chunk i+1 overlaps the transfer
+     * of chunk i. Returns the pool id of a marker enqueued after the last chunk.
+     */
+    public int enqueueStagedWriteBuffer(long executionPlanId, long bufferId, long deviceOffset, long bytes, long hostPointer, long hostOffset, int[] waitEvents) {
+        OCLCommandQueue commandQueue = getCommandQueue(executionPlanId);
+        OCLEventPool eventPool = getOCLEventPool(executionPlanId);
+        synchronized (stagingPool) {
+            long[] firstChunkWaits = eventPool.serialiseEvents(waitEvents, commandQueue) ? eventPool.waitEventsBuffer : null;
+            stagingPool.upload(hostPointer + hostOffset, bytes, (slotAddress, offset, chunkBytes, chunkIndex) -> commandQueue.enqueueWrite(bufferId, OpenCLBlocking.FALSE, deviceOffset + offset, chunkBytes,
+                    slotAddress, 0, chunkIndex == 0 ? firstChunkWaits : null));
+            // The chunk events are owned by the ring; the event pool owns the marker
+            return eventPool.registerEvent(commandQueue.enqueueMarker(), EventDescriptor.DESC_WRITE_SEGMENT, commandQueue);
+        }
+    }
+
+    /**
+     * Read staged through the ring of host slots. Each chunk is read into a slot and copied to the
+     * destination once the slot is needed again, so the copy of chunk i overlaps the transfers of
+     * the following chunks. The call returns when the destination holds all the data.
+     */
+    public int enqueueStagedReadBuffer(long executionPlanId, long bufferId, long deviceOffset, long bytes, long hostPointer, long hostOffset, int[] waitEvents) {
+        OCLCommandQueue commandQueue = getCommandQueue(executionPlanId);
+        OCLEventPool eventPool = getOCLEventPool(executionPlanId);
+        synchronized (stagingPool) {
+            long[] firstChunkWaits = eventPool.serialiseEvents(waitEvents, commandQueue) ? eventPool.waitEventsBuffer : null;
+            stagingPool.download(hostPointer + hostOffset, bytes, (slotAddress, offset, chunkBytes, chunkIndex) -> commandQueue.enqueueRead(bufferId, OpenCLBlocking.FALSE, deviceOffset + offset, chunkBytes,
+                    slotAddress, 0, chunkIndex == 0 ? firstChunkWaits : null));
+            return eventPool.registerEvent(commandQueue.enqueueMarker(), EventDescriptor.DESC_READ_SEGMENT, commandQueue);
+        }
+    }
+
+    @Override
+    public void setStagedTransfers(boolean enabled) {
+        stagedTransfersEnabled = enabled;
+    }
+
+    @Override
+    public boolean isStagedTransfersEnabled() {
+        return stagedTransfersEnabled;
+    }
+
+    /**
+     * Frees the staging ring at device teardown. The ring is shared across plans, so it is not
+     * released by the per-plan reset.
+     */
+    @Override
+    public void releaseStagedRing() {
+        stagingPool.release();
+    }
+
+    /**
+     * Staging hooks of the OpenCL backend. OpenCL has no portable call to page-lock host memory,
+     * so the slots are page-aligned off-heap memory. The slot events are owned by the ring and
+     * are not registered in the per-plan event pools, which recycle their events.
+     */
+    private static final class OCLStagingBackend extends OffHeapStagingBackend {
+
+        @Override
+        public void waitForTransfer(long transfer) {
+            try {
+                OCLEvent.clWaitForEvents(new long[] { transfer });
+            } catch (OCLException e) {
+                throw new TornadoBailoutRuntimeException(e.getMessage());
+            }
+        }
+
+        @Override
+        public void releaseTransfer(long transfer) {
+            try {
+                OCLEvent.clReleaseEvent(transfer);
+            } catch (OCLException e) {
+                throw new TornadoBailoutRuntimeException(e.getMessage());
+            }
+        }
+    }
+
     /*
      * ASync reads from device
      *
@@ -29,6 +29,7 @@ import uk.ac.manchester.tornado.drivers.common.TornadoBufferProvider;
 import uk.ac.manchester.tornado.drivers.opencl.graal.OCLInstalledCode;
 import uk.ac.manchester.tornado.drivers.opencl.graal.compiler.OCLCompilationResult;
 import uk.ac.manchester.tornado.drivers.opencl.mm.OCLMemoryManager;
+import uk.ac.manchester.tornado.runtime.common.TornadoOptions;
 import uk.ac.manchester.tornado.runtime.common.TornadoXPUDevice;
 import uk.ac.manchester.tornado.runtime.tasks.meta.TaskDataContext;
 
@@ -86,4 +87,26 @@ public interface OCLDeviceContextInterface extends TornadoDeviceContext {
 
     OCLProgram createProgramWithIL(byte[] binary, long[] lengths);
 
+    /**
+     * Sets whether large transfers are routed through the host staging ring.
+     */
+    default void setStagedTransfers(boolean enabled) {
+        // no-op by default
+    }
+
+    /**
+     * Whether large transfers are routed through the host staging ring.
+     */
+    default boolean isStagedTransfersEnabled() {
+        return TornadoOptions.ENABLE_STAGED_TRANSFERS;
+    }
+
+    /**
+     * Releases the host memory backing the staging ring. Called at device teardown, once every
+     * plan has been reset.
+     */
+    default void releaseStagedRing() {
+        // no-op by default
+    }
+
 }
@@ -55,6 +55,9 @@ public class OCLTargetDescription extends TargetDescription {
     private final boolean supportsInt64Atomics;
 
     private final boolean supportsF16;
+    private final boolean supportsSubgroups;
+    private final boolean supportsSubgroupShuffle;
+    private final boolean supportsSubgroupShuffleRelative;
 
     public OCLTargetDescription(Architecture arch, boolean supportsFP64, String extensions) {
         this(arch, false, STACK_ALIGNMENT, IMPLICIT_NULL_CHECK_LIMIT, INLINE_OBJECTS, supportsFP64, extensions);
@@ -66,6 +69,9 @@ public class OCLTargetDescription extends TargetDescription {
         this.extensions = extensions;
         supportsInt64Atomics = extensions.contains("cl_khr_int64_base_atomics");
         supportsF16 = extensions.contains("cl_khr_fp16");
+        supportsSubgroups = extensions.contains("cl_khr_subgroups");
+        supportsSubgroupShuffle = extensions.contains("cl_khr_subgroup_shuffle");
+        supportsSubgroupShuffleRelative = extensions.contains("cl_khr_subgroup_shuffle_relative");
     }
     //@formatter:on
 
@@ -103,6 +109,18 @@ public class OCLTargetDescription extends TargetDescription {
         return supportsInt64Atomics;
     }
 
+    public boolean supportsSubgroups() {
+        return supportsSubgroups;
+    }
+
+    public boolean supportsSubgroupShuffle() {
+        return supportsSubgroupShuffle;
+    }
+
+    public boolean supportsSubgroupShuffleRelative() {
+        return supportsSubgroupShuffleRelative;
+    }
+
     public String getExtensions() {
         return extensions;
     }
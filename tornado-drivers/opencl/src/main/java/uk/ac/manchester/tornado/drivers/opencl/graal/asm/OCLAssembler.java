@@ -80,6 +80,18 @@ public final class OCLAssembler extends Assembler {
             emitLine("#pragma OPENCL EXTENSION cl_khr_int64_base_atomics : enable  ");
         }
 
+        if (((OCLTargetDescription) target).supportsSubgroups()) {
+            emitLine("#pragma OPENCL EXTENSION cl_khr_subgroups : enable  ");
+        }
+
+        if (((OCLTargetDescription) target).supportsSubgroupShuffle()) {
+            emitLine("#pragma OPENCL EXTENSION cl_khr_subgroup_shuffle : enable  ");
+        }
+
+        if (((OCLTargetDescription) target).supportsSubgroupShuffleRelative()) {
+            emitLine("#pragma OPENCL EXTENSION cl_khr_subgroup_shuffle_relative : enable  ");
+        }
+
         if (EMIT_INTRINSICS) {
             emitAtomicIntrinsics();
         }
@@ -593,6 +605,9 @@ public final class OCLAssembler extends Assembler {
     public static class OCLNullaryIntrinsic extends OCLNullaryOp {
         // @formatter:off
 
+        public static final OCLNullaryIntrinsic SUB_GROUP_SIZE = new OCLNullaryIntrinsic("get_sub_group_size");
+        public static final OCLNullaryIntrinsic SUB_GROUP_LOCAL_ID = new OCLNullaryIntrinsic("get_sub_group_local_id");
+
         // @formatter:on
         protected OCLNullaryIntrinsic(String opcode) {
             super(opcode);
@@ -718,6 +733,12 @@ public final class OCLAssembler extends Assembler {
         public static final OCLUnaryIntrinsic NATIVE_SIN = new OCLUnaryIntrinsic("native_sin");
         public static final OCLUnaryIntrinsic NATIVE_SQRT = new OCLUnaryIntrinsic("native_sqrt");
         public static final OCLUnaryIntrinsic NATIVE_TAN = new OCLUnaryIntrinsic("native_tan");
+        public static final OCLUnaryIntrinsic NATIVE_EXP = new OCLUnaryIntrinsic("native_exp");
+        public static final OCLUnaryIntrinsic NATIVE_LOG = new OCLUnaryIntrinsic("native_log");
+        public static final OCLUnaryIntrinsic NATIVE_RSQRT = new OCLUnaryIntrinsic("native_rsqrt");
+        public static final OCLUnaryIntrinsic HALF_EXP = new OCLUnaryIntrinsic("half_exp");
+        public static final OCLUnaryIntrinsic HALF_LOG = new OCLUnaryIntrinsic("half_log");
+        public static final OCLUnaryIntrinsic HALF_RSQRT = new OCLUnaryIntrinsic("half_rsqrt");
         public static final OCLUnaryIntrinsic SIN = new OCLUnaryIntrinsic("sin");
         public static final OCLUnaryIntrinsic COS = new OCLUnaryIntrinsic("cos");
         public static final OCLUnaryIntrinsic TAN = new OCLUnaryIntrinsic("tan");
@@ -890,6 +911,11 @@ public final class OCLAssembler extends Assembler {
 
         public static final OCLBinaryIntrinsic DOT = new OCLBinaryIntrinsic("dot");
         public static final OCLBinaryIntrinsic CROSS = new OCLBinaryIntrinsic("cross");
+
+        public static final OCLBinaryIntrinsic SUB_GROUP_SHUFFLE = new OCLBinaryIntrinsic("sub_group_shuffle");
+        public static final OCLBinaryIntrinsic SUB_GROUP_SHUFFLE_DOWN = new OCLBinaryIntrinsic("sub_group_shuffle_down");
+        public static final OCLBinaryIntrinsic SUB_GROUP_SHUFFLE_UP = new OCLBinaryIntrinsic("sub_group_shuffle_up");
+        public static final OCLBinaryIntrinsic SUB_GROUP_SHUFFLE_XOR = new OCLBinaryIntrinsic("sub_group_shuffle_xor");
         // @formatter:on
 
         protected OCLBinaryIntrinsic(String opcode) {
@@ -41,8 +41,10 @@ import uk.ac.manchester.tornado.drivers.common.compiler.phases.guards.ExceptionS
 import uk.ac.manchester.tornado.drivers.common.compiler.phases.guards.TornadoValueTypeCleanup;
 import uk.ac.manchester.tornado.drivers.common.compiler.phases.memalloc.TornadoFieldAccessFixup;
 import uk.ac.manchester.tornado.drivers.common.compiler.phases.memalloc.TornadoLocalMemoryAllocation;
+import uk.ac.manchester.tornado.drivers.common.compiler.phases.memalloc.TornadoMixedPrecisionStorage;
 import uk.ac.manchester.tornado.drivers.common.compiler.phases.memalloc.TornadoNewArrayDevirtualizationReplacement;
 import uk.ac.manchester.tornado.drivers.common.compiler.phases.memalloc.TornadoPrivateArrayPiRemoval;
+import uk.ac.manchester.tornado.drivers.opencl.graal.phases.OCLSubgroupSupportPhase;
 import uk.ac.manchester.tornado.drivers.opencl.graal.phases.TornadoBatchGlobalIndexOffset;
 import uk.ac.manchester.tornado.drivers.opencl.graal.phases.TornadoHalfFloatReplacement;
 import uk.ac.manchester.tornado.drivers.opencl.graal.phases.TornadoOpenCLIntrinsicsReplacements;
@@ -78,8 +80,10 @@ public class OCLHighTier extends TornadoHighTier {
             }
         }
         appendPhase(new TornadoTaskSpecialisation(canonicalizer));
+        appendPhase(new OCLSubgroupSupportPhase(deviceContext));
         appendPhase(new TornadoBatchGlobalIndexOffset());
         appendPhase(new TornadoFieldAccessFixup());
+        appendPhase(new TornadoMixedPrecisionStorage());
         appendPhase(canonicalizer);
         appendPhase(new DeadCodeEliminationPhase(Optional));
 
@@ -112,7 +112,7 @@ public class OCLLowTier extends TornadoLowTier {
 
         appendPhase(new SchedulePhase(SchedulePhase.SchedulingStrategy.LATEST_OUT_OF_LOOPS));
 
-        if (TornadoOptions.FEATURE_EXTRACTION) {
+        if (TornadoOptions.isCodeFeatureExtractionEnabled()) {
             appendPhase(new TornadoFeatureExtraction(tornadoDeviceContext));
         }
 
@@ -75,6 +75,7 @@ import uk.ac.manchester.tornado.api.types.arrays.TornadoMemorySegment;
 import uk.ac.manchester.tornado.api.types.matrix.Matrix8x8Float;
 import uk.ac.manchester.tornado.api.utils.QuantizationUtils;
 import uk.ac.manchester.tornado.drivers.opencl.graal.OCLArchitecture;
+import uk.ac.manchester.tornado.drivers.opencl.graal.asm.OCLAssembler.OCLNullaryIntrinsic;
 import uk.ac.manchester.tornado.drivers.opencl.graal.lir.OCLKind;
 import uk.ac.manchester.tornado.drivers.opencl.graal.lir.OCLUnary;
 import uk.ac.manchester.tornado.drivers.opencl.graal.nodes.AtomAddNodeTemplate;
@@ -89,6 +90,8 @@ import uk.ac.manchester.tornado.drivers.opencl.graal.nodes.OCLFPBinaryIntrinsicN
 import uk.ac.manchester.tornado.drivers.opencl.graal.nodes.OCLFPUnaryIntrinsicNode;
 import uk.ac.manchester.tornado.drivers.opencl.graal.nodes.OCLIntBinaryIntrinsicNode;
 import uk.ac.manchester.tornado.drivers.opencl.graal.nodes.OCLIntUnaryIntrinsicNode;
+import uk.ac.manchester.tornado.drivers.opencl.graal.nodes.OCLSubgroupInfoNode;
+import uk.ac.manchester.tornado.drivers.opencl.graal.nodes.OCLSubgroupShuffleNode;
 import uk.ac.manchester.tornado.drivers.opencl.graal.nodes.PrintfNode;
 import uk.ac.manchester.tornado.drivers.opencl.graal.nodes.TornadoAtomicIntegerNode;
 import uk.ac.manchester.tornado.runtime.TornadoCoreRuntime;
@@ -442,6 +445,40 @@ public class OCLGraphBuilderPlugins {
         registerMMAPlugins(r);
         registerSwizzledLocalAccessesPlugins(r);
         registerUnsupportedSimdgroupMatrixPlugins(r);
+        registerSubgroupPlugins(r);
+    }
+
+    private static void registerSubgroupPlugins(Registration r) {
+        r.register(new InvocationPlugin("getSubgroupSize", Receiver.class) {
+            @Override
+            public boolean apply(GraphBuilderContext b, ResolvedJavaMethod targetMethod, Receiver receiver) {
+                b.addPush(JavaKind.Int, new OCLSubgroupInfoNode(OCLNullaryIntrinsic.SUB_GROUP_SIZE));
+                return true;
+            }
+        });
+        r.register(new InvocationPlugin("getSubgroupLocalId", Receiver.class) {
+            @Override
+            public boolean apply(GraphBuilderContext b, ResolvedJavaMethod targetMethod, Receiver receiver) {
+                b.addPush(JavaKind.Int, new OCLSubgroupInfoNode(OCLNullaryIntrinsic.SUB_GROUP_LOCAL_ID));
+                return true;
+            }
+        });
+        registerSubgroupShufflePlugin(r, "subgroupShuffle", OCLSubgroupShuffleNode.Operation.SHUFFLE);
+        registerSubgroupShufflePlugin(r, "subgroupShuffleDown", OCLSubgroupShuffleNode.Operation.SHUFFLE_DOWN);
+        registerSubgroupShufflePlugin(r, "subgroupShuffleUp", OCLSubgroupShuffleNode.Operation.SHUFFLE_UP);
+        registerSubgroupShufflePlugin(r, "subgroupShuffleXor", OCLSubgroupShuffleNode.Operation.SHUFFLE_XOR);
+    }
+
+    private static void registerSubgroupShufflePlugin(Registration r, String methodName, OCLSubgroupShuffleNode.Operation operation) {
+        for (JavaKind kind : new JavaKind[] { JavaKind.Int, JavaKind.Float }) {
+            r.register(new InvocationPlugin(methodName, Receiver.class, kind.toJavaClass(), int.class) {
+                @Override
+                public boolean apply(GraphBuilderContext b, ResolvedJavaMethod targetMethod, Receiver receiver, ValueNode value, ValueNode operand) {
+                    b.addPush(kind, new OCLSubgroupShuffleNode(kind, value, operand, operation));
+                    return true;
+                }
+            });
+        }
     }
 
     /**
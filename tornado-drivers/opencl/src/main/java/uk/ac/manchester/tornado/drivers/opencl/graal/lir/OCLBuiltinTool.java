@@ -46,8 +46,14 @@ import static uk.ac.manchester.tornado.drivers.opencl.graal.asm.OCLAssembler.OCL
 import static uk.ac.manchester.tornado.drivers.opencl.graal.asm.OCLAssembler.OCLUnaryIntrinsic.FLOAT_ABS;
 import static uk.ac.manchester.tornado.drivers.opencl.graal.asm.OCLAssembler.OCLUnaryIntrinsic.FLOAT_FLOOR;
 import static uk.ac.manchester.tornado.drivers.opencl.graal.asm.OCLAssembler.OCLUnaryIntrinsic.FLOAT_TRUNC;
+import static uk.ac.manchester.tornado.drivers.opencl.graal.asm.OCLAssembler.OCLUnaryIntrinsic.HALF_EXP;
+import static uk.ac.manchester.tornado.drivers.opencl.graal.asm.OCLAssembler.OCLUnaryIntrinsic.HALF_LOG;
+import static uk.ac.manchester.tornado.drivers.opencl.graal.asm.OCLAssembler.OCLUnaryIntrinsic.HALF_RSQRT;
 import static uk.ac.manchester.tornado.drivers.opencl.graal.asm.OCLAssembler.OCLUnaryIntrinsic.LOG;
 import static uk.ac.manchester.tornado.drivers.opencl.graal.asm.OCLAssembler.OCLUnaryIntrinsic.NATIVE_COS;
+import static uk.ac.manchester.tornado.drivers.opencl.graal.asm.OCLAssembler.OCLUnaryIntrinsic.NATIVE_EXP;
+import static uk.ac.manchester.tornado.drivers.opencl.graal.asm.OCLAssembler.OCLUnaryIntrinsic.NATIVE_LOG;
+import static uk.ac.manchester.tornado.drivers.opencl.graal.asm.OCLAssembler.OCLUnaryIntrinsic.NATIVE_RSQRT;
 import static uk.ac.manchester.tornado.drivers.opencl.graal.asm.OCLAssembler.OCLUnaryIntrinsic.NATIVE_SIN;
 import static uk.ac.manchester.tornado.drivers.opencl.graal.asm.OCLAssembler.OCLUnaryIntrinsic.NATIVE_SQRT;
 import static uk.ac.manchester.tornado.drivers.opencl.graal.asm.OCLAssembler.OCLUnaryIntrinsic.NATIVE_TAN;
@@ -158,6 +164,16 @@ public class OCLBuiltinTool {
         return new OCLUnary.Intrinsic(EXP, LIRKind.value(input.getPlatformKind()), input);
     }
 
+    public Value genFloatNativeExp(Value input) {
+        Logger.traceBuildLIR(Logger.BACKEND.OpenCL, "genNativeExp: native_exp(%s)", input);
+        return new OCLUnary.Intrinsic(NATIVE_EXP, LIRKind.value(input.getPlatformKind()), input);
+    }
+
+    public Value genFloatHalfExp(Value input) {
+        Logger.traceBuildLIR(Logger.BACKEND.OpenCL, "genHalfExp: half_exp(%s)", input);
+        return new OCLUnary.Intrinsic(HALF_EXP, LIRKind.value(input.getPlatformKind()), input);
+    }
+
     public Value genFloatExp2(Value input) {
         unimplemented();
         return null;
@@ -193,6 +209,16 @@ public class OCLBuiltinTool {
         return new OCLUnary.Intrinsic(LOG, LIRKind.value(input.getPlatformKind()), input);
     }
 
+    public Value genFloatNativeLog(Value input) {
+        Logger.traceBuildLIR(Logger.BACKEND.OpenCL, "genNativeLog: native_log(%s)", input);
+        return new OCLUnary.Intrinsic(NATIVE_LOG, LIRKind.value(input.getPlatformKind()), input);
+    }
+
+    public Value genFloatHalfLog(Value input) {
+        Logger.traceBuildLIR(Logger.BACKEND.OpenCL, "genHalfLog: half_log(%s)", input);
+        return new OCLUnary.Intrinsic(HALF_LOG, LIRKind.value(input.getPlatformKind()), input);
+    }
+
     public Value genFloatRadians(Value input) {
         Logger.traceBuildLIR(Logger.BACKEND.OpenCL, "genFloatRadians: radians(%s)", input);
         return new OCLUnary.Intrinsic(RADIANS, LIRKind.value(input.getPlatformKind()), input);
@@ -248,6 +274,16 @@ public class OCLBuiltinTool {
         return null;
     }
 
+    public Value genFloatNativeRSqrt(Value input) {
+        Logger.traceBuildLIR(Logger.BACKEND.OpenCL, "genNativeRSqrt: native_rsqrt(%s)", input);
+        return new OCLUnary.Intrinsic(NATIVE_RSQRT, LIRKind.value(input.getPlatformKind()), input);
+    }
+
+    public Value genFloatHalfRSqrt(Value input) {
+        Logger.traceBuildLIR(Logger.BACKEND.OpenCL, "genHalfRSqrt: half_rsqrt(%s)", input);
+        return new OCLUnary.Intrinsic(HALF_RSQRT, LIRKind.value(input.getPlatformKind()), input);
+    }
+
     public Value genFloatSign(Value input) {
         Logger.traceBuildLIR(Logger.BACKEND.OpenCL, "genSign: sign(%s)", input);
         return new OCLUnary.Intrinsic(SIGN, LIRKind.value(input.getPlatformKind()), input);
@@ -107,10 +107,11 @@ public class OCLFPUnaryIntrinsicNode extends UnaryNode implements ArithmeticLIRL
             case ACOS -> Math.acos(value);
             case ACOSH -> computeAcosh(value);
             case FABS -> Math.abs(value);
-            case EXP -> Math.exp(value);
+            case EXP, NATIVE_EXP, HALF_EXP -> Math.exp(value);
             case SQRT -> Math.sqrt(value);
             case FLOOR -> Math.floor(value);
-            case LOG -> Math.log(value);
+            case LOG, NATIVE_LOG, HALF_LOG -> Math.log(value);
+            case NATIVE_RSQRT, HALF_RSQRT -> 1.0 / Math.sqrt(value);
             default -> throw new TornadoInternalError("unable to compute op %s", op);
         };
     }
@@ -123,10 +124,11 @@ public class OCLFPUnaryIntrinsicNode extends UnaryNode implements ArithmeticLIRL
             case ACOS -> (float) Math.acos(value);
             case ACOSH -> computeAcosh(value);
             case FABS -> Math.abs(value);
-            case EXP -> (float) Math.exp(value);
+            case EXP, NATIVE_EXP, HALF_EXP -> (float) Math.exp(value);
             case SQRT -> (float) Math.sqrt(value);
             case FLOOR -> (float) Math.floor(value);
-            case LOG -> (float) Math.log(value);
+            case LOG, NATIVE_LOG, HALF_LOG -> (float) Math.log(value);
+            case NATIVE_RSQRT, HALF_RSQRT -> (float) (1.0 / Math.sqrt(value));
             default -> throw new TornadoInternalError("unable to compute op %s", op);
         };
     }
@@ -176,6 +178,12 @@ public class OCLFPUnaryIntrinsicNode extends UnaryNode implements ArithmeticLIRL
             case RADIANS -> gen.genFloatRadians(input);
             case COSPI -> gen.genFloatCosPI(input);
             case SINPI -> gen.genFloatSinPI(input);
+            case NATIVE_EXP -> gen.genFloatNativeExp(input);
+            case NATIVE_LOG -> gen.genFloatNativeLog(input);
+            case NATIVE_RSQRT -> gen.genFloatNativeRSqrt(input);
+            case HALF_EXP -> gen.genFloatHalfExp(input);
+            case HALF_LOG -> gen.genFloatHalfLog(input);
+            case HALF_RSQRT -> gen.genFloatHalfRSqrt(input);
             default -> throw shouldNotReachHere();
         };
         Variable x = builder.getLIRGeneratorTool().newVariable(result.getValueKind());
@@ -229,7 +237,13 @@ public class OCLFPUnaryIntrinsicNode extends UnaryNode implements ArithmeticLIRL
         TANH,
         TANPI,
         TGAMMA,
-        TRUNC
+        TRUNC,
+        NATIVE_EXP,
+        NATIVE_LOG,
+        NATIVE_RSQRT,
+        HALF_EXP,
+        HALF_LOG,
+        HALF_RSQRT
     }
     // @formatter:on
 
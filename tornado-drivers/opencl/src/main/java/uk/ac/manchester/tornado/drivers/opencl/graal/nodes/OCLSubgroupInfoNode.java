@@ -0,0 +1,69 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.drivers.opencl.graal.nodes;
+
+import org.graalvm.compiler.core.common.type.StampFactory;
+import org.graalvm.compiler.graph.NodeClass;
+import org.graalvm.compiler.lir.Variable;
+import org.graalvm.compiler.lir.gen.LIRGeneratorTool;
+import org.graalvm.compiler.nodeinfo.NodeInfo;
+import org.graalvm.compiler.nodes.calc.FloatingNode;
+import org.graalvm.compiler.nodes.spi.LIRLowerable;
+import org.graalvm.compiler.nodes.spi.NodeLIRBuilderTool;
+
+import jdk.vm.ci.meta.JavaKind;
+import uk.ac.manchester.tornado.drivers.opencl.graal.asm.OCLAssembler.OCLNullaryIntrinsic;
+import uk.ac.manchester.tornado.drivers.opencl.graal.lir.OCLLIRStmt;
+import uk.ac.manchester.tornado.drivers.opencl.graal.lir.OCLNullary;
+
+/**
+ * Graal IR node for {@code KernelContext.getSubgroupSize()} and
+ * {@code KernelContext.getSubgroupLocalId()}, lowered to
+ * {@code get_sub_group_size()} and {@code get_sub_group_local_id()} from the
+ * {@code cl_khr_subgroups} extension.
+ */
+@NodeInfo(shortName = "OCLSubgroupInfo")
+public class OCLSubgroupInfoNode extends FloatingNode implements LIRLowerable {
+
+    public static final NodeClass<OCLSubgroupInfoNode> TYPE = NodeClass.create(OCLSubgroupInfoNode.class);
+
+    private final OCLNullaryIntrinsic intrinsic;
+
+    public OCLSubgroupInfoNode(OCLNullaryIntrinsic intrinsic) {
+        super(TYPE, StampFactory.forKind(JavaKind.Int));
+        this.intrinsic = intrinsic;
+    }
+
+    public OCLNullaryIntrinsic getIntrinsic() {
+        return intrinsic;
+    }
+
+    @Override
+    public void generate(NodeLIRBuilderTool gen) {
+        LIRGeneratorTool tool = gen.getLIRGeneratorTool();
+        Variable result = tool.newVariable(tool.getLIRKind(stamp));
+        tool.append(new OCLLIRStmt.AssignStmt(result, new OCLNullary.Intrinsic(intrinsic, tool.getLIRKind(stamp))));
+        gen.setResult(this, result);
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.drivers.opencl.graal.nodes;
+
+import org.graalvm.compiler.core.common.type.StampFactory;
+import org.graalvm.compiler.graph.NodeClass;
+import org.graalvm.compiler.lir.Variable;
+import org.graalvm.compiler.lir.gen.LIRGeneratorTool;
+import org.graalvm.compiler.nodeinfo.NodeInfo;
+import org.graalvm.compiler.nodes.FixedWithNextNode;
+import org.graalvm.compiler.nodes.ValueNode;
+import org.graalvm.compiler.nodes.spi.LIRLowerable;
+import org.graalvm.compiler.nodes.spi.NodeLIRBuilderTool;
+
+import jdk.vm.ci.meta.JavaKind;
+import jdk.vm.ci.meta.Value;
+import uk.ac.manchester.tornado.drivers.opencl.graal.asm.OCLAssembler.OCLBinaryIntrinsic;
+import uk.ac.manchester.tornado.drivers.opencl.graal.lir.OCLBinary;
+import uk.ac.manchester.tornado.drivers.opencl.graal.lir.OCLLIRStmt;
+
+/**
+ * Graal IR node for the {@code KernelContext.subgroupShuffle*} methods for
+ * {@code int} and {@code float} values. It is lowered to the
+ * {@code sub_group_shuffle*} functions of the {@code cl_khr_subgroup_shuffle}
+ * and {@code cl_khr_subgroup_shuffle_relative} extensions.
+ *
+ * <p>
+ * Extends {@link FixedWithNextNode} because subgroup shuffles are convergent:
+ * all lanes must execute them together.
+ * </p>
+ */
+@NodeInfo(shortName = "OCLSubgroupShuffle")
+public class OCLSubgroupShuffleNode extends FixedWithNextNode implements LIRLowerable {
+
+    public static final NodeClass<OCLSubgroupShuffleNode> TYPE = NodeClass.create(OCLSubgroupShuffleNode.class);
+
+    public enum Operation {
+        SHUFFLE(OCLBinaryIntrinsic.SUB_GROUP_SHUFFLE, "cl_khr_subgroup_shuffle"),
+        SHUFFLE_DOWN(OCLBinaryIntrinsic.SUB_GROUP_SHUFFLE_DOWN, "cl_khr_subgroup_shuffle_relative"),
+        SHUFFLE_UP(OCLBinaryIntrinsic.SUB_GROUP_SHUFFLE_UP, "cl_khr_subgroup_shuffle_relative"),
+        SHUFFLE_XOR(OCLBinaryIntrinsic.SUB_GROUP_SHUFFLE_XOR, "cl_khr_subgroup_shuffle");
+
+        private final OCLBinaryIntrinsic intrinsic;
+        private final String extension;
+
+        Operation(OCLBinaryIntrinsic intrinsic, String extension) {
+            this.intrinsic = intrinsic;
+            this.extension = extension;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+    }
+
+    @Input
+    private ValueNode value;
+
+    @Input
+    private ValueNode operand;
+
+    private final Operation operation;
+
+    public OCLSubgroupShuffleNode(JavaKind kind, ValueNode value, ValueNode operand, Operation operation) {
+        super(TYPE, StampFactory.forKind(kind));
+        this.value = value;
+        this.operand = operand;
+        this.operation = operation;
+    }
+
+    public ValueNode getValue() {
+        return value;
+    }
+
+    public Operation getOperation() {
+        return operation;
+    }
+
+    @Override
+    public void generate(NodeLIRBuilderTool gen) {
+        LIRGeneratorTool tool = gen.getLIRGeneratorTool();
+        Value source = gen.operand(value);
+        Value lane = gen.operand(operand);
+        Variable result = tool.newVariable(tool.getLIRKind(stamp));
+        tool.append(new OCLLIRStmt.AssignStmt(result, new OCLBinary.Intrinsic(operation.intrinsic, tool.getLIRKind(stamp), source, lane)));
+        gen.setResult(this, result);
+    }
+}
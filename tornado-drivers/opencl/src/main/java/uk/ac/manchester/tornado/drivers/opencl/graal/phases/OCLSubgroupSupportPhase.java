@@ -0,0 +1,107 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.drivers.opencl.graal.phases;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.graalvm.compiler.nodes.ConstantNode;
+import org.graalvm.compiler.nodes.GraphState;
+import org.graalvm.compiler.nodes.StructuredGraph;
+import org.graalvm.compiler.phases.Phase;
+
+import uk.ac.manchester.tornado.api.TornadoDeviceContext;
+import uk.ac.manchester.tornado.drivers.opencl.OCLDevice;
+import uk.ac.manchester.tornado.drivers.opencl.graal.asm.OCLAssembler.OCLNullaryIntrinsic;
+import uk.ac.manchester.tornado.drivers.opencl.graal.nodes.OCLSubgroupInfoNode;
+import uk.ac.manchester.tornado.drivers.opencl.graal.nodes.OCLSubgroupShuffleNode;
+import uk.ac.manchester.tornado.drivers.opencl.virtual.VirtualOCLDevice;
+import uk.ac.manchester.tornado.runtime.common.TornadoOptions;
+
+/**
+ * This compiler phase examines if the execution device supports the subgroup
+ * extensions used by the kernel ({@code cl_khr_subgroups},
+ * {@code cl_khr_subgroup_shuffle} and {@code cl_khr_subgroup_shuffle_relative}).
+ * If it does not, the subgroup nodes are replaced with subgroups of one lane,
+ * as in the Java code of the {@code KernelContext}: the subgroup size is 1, the
+ * lane is 0 and the shuffles return the value of the thread.
+ */
+public class OCLSubgroupSupportPhase extends Phase {
+
+    private final TornadoDeviceContext deviceContext;
+
+    public OCLSubgroupSupportPhase(TornadoDeviceContext deviceContext) {
+        this.deviceContext = deviceContext;
+    }
+
+    @Override
+    public Optional<NotApplicable> notApplicableTo(GraphState graphState) {
+        return ALWAYS_APPLICABLE;
+    }
+
+    private String getDeviceExtensions() {
+        if (deviceContext.getDevice() instanceof OCLDevice oclDevice) {
+            return oclDevice.getDeviceExtensions();
+        } else if (deviceContext.getDevice() instanceof VirtualOCLDevice virtualOCLDevice) {
+            return virtualOCLDevice.getDeviceExtensions();
+        }
+        return "";
+    }
+
+    private boolean isSubgroupSupported(List<OCLSubgroupShuffleNode> shuffles) {
+        if (!TornadoOptions.isOpenCLSubgroupsEnabled()) {
+            return false;
+        }
+        String extensions = getDeviceExtensions();
+        if (extensions == null || !extensions.contains("cl_khr_subgroups")) {
+            return false;
+        }
+        for (OCLSubgroupShuffleNode shuffle : shuffles) {
+            if (!extensions.contains(shuffle.getOperation().getExtension())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    protected void run(StructuredGraph graph) {
+        List<OCLSubgroupInfoNode> infos = graph.getNodes().filter(OCLSubgroupInfoNode.class).snapshot();
+        List<OCLSubgroupShuffleNode> shuffles = graph.getNodes().filter(OCLSubgroupShuffleNode.class).snapshot();
+        if ((infos.isEmpty() && shuffles.isEmpty()) || isSubgroupSupported(shuffles)) {
+            return;
+        }
+
+        // The kernel either runs all its subgroup operations in hardware or none,
+        // since mixing the hardware subgroup size with one-lane shuffles gives wrong results
+        for (OCLSubgroupInfoNode info : infos) {
+            int value = (info.getIntrinsic() == OCLNullaryIntrinsic.SUB_GROUP_SIZE) ? 1 : 0;
+            info.replaceAtUsagesAndDelete(ConstantNode.forInt(value, graph));
+        }
+        for (OCLSubgroupShuffleNode shuffle : shuffles) {
+            shuffle.replaceAtUsages(shuffle.getValue());
+            graph.removeFixed(shuffle);
+        }
+    }
+}
@@ -45,6 +45,9 @@ import jdk.vm.ci.meta.JavaKind;
 import jdk.vm.ci.meta.MetaAccessProvider;
 import jdk.vm.ci.meta.PrimitiveConstant;
 import jdk.vm.ci.meta.ResolvedJavaType;
+import uk.ac.manchester.tornado.api.enums.MathFunction;
+import uk.ac.manchester.tornado.api.enums.MathPrecision;
+import uk.ac.manchester.tornado.drivers.common.compiler.phases.utils.MathPolicyReplacements;
 import uk.ac.manchester.tornado.drivers.opencl.graal.OCLArchitecture;
 import uk.ac.manchester.tornado.drivers.opencl.graal.OCLLoweringProvider;
 import uk.ac.manchester.tornado.drivers.opencl.graal.nodes.FixedArrayNode;
@@ -55,6 +58,7 @@ import uk.ac.manchester.tornado.drivers.opencl.graal.nodes.LocalArrayNode;
 import uk.ac.manchester.tornado.drivers.opencl.graal.nodes.LocalGroupSizeNode;
 import uk.ac.manchester.tornado.drivers.opencl.graal.nodes.LocalThreadIDFixedNode;
 import uk.ac.manchester.tornado.drivers.opencl.graal.nodes.OCLBarrierNode;
+import uk.ac.manchester.tornado.drivers.opencl.graal.nodes.OCLFPUnaryIntrinsicNode;
 import uk.ac.manchester.tornado.drivers.opencl.graal.nodes.OpenCLPrintf;
 import uk.ac.manchester.tornado.runtime.graal.phases.TornadoHighTierContext;
 
@@ -135,6 +139,20 @@ public class TornadoOpenCLIntrinsicsReplacements extends BasePhase<TornadoHighTi
                     break;
             }
         }
+
+        MathPolicyReplacements.apply(graph, context, TornadoOpenCLIntrinsicsReplacements::createMathIntrinsic);
+    }
+
+    private static ValueNode createMathIntrinsic(ValueNode input, MathFunction function, MathPrecision precision) {
+        boolean half = precision == MathPrecision.HALF;
+        OCLFPUnaryIntrinsicNode.Operation operation = switch (function) {
+            case EXP -> half ? OCLFPUnaryIntrinsicNode.Operation.HALF_EXP : OCLFPUnaryIntrinsicNode.Operation.NATIVE_EXP;
+            case LOG -> half ? OCLFPUnaryIntrinsicNode.Operation.HALF_LOG : OCLFPUnaryIntrinsicNode.Operation.NATIVE_LOG;
+            case RSQRT -> half ? OCLFPUnaryIntrinsicNode.Operation.HALF_RSQRT : OCLFPUnaryIntrinsicNode.Operation.NATIVE_RSQRT;
+            // OpenCL C does not have native_tanh: it is expressed with native_exp
+            case TANH -> null;
+        };
+        return (operation == null) ? null : OCLFPUnaryIntrinsicNode.create(input, operation, JavaKind.Float);
     }
 
     private void lowerLocalInvokeNodeNewArray(StructuredGraph graph, int length, JavaKind elementKind, InvokeNode newArray) {
@@ -24,6 +24,7 @@
 package uk.ac.manchester.tornado.drivers.opencl.graal.snippets;
 
 import org.graalvm.compiler.api.replacements.Snippet;
+import org.graalvm.compiler.api.replacements.Snippet.ConstantParameter;
 import org.graalvm.compiler.nodes.GraphState;
 import org.graalvm.compiler.nodes.ValueNode;
 import org.graalvm.compiler.nodes.spi.LoweringTool;
@@ -37,6 +38,7 @@ import org.graalvm.compiler.replacements.Snippets;
 
 import jdk.vm.ci.meta.JavaKind;
 import uk.ac.manchester.tornado.api.math.TornadoMath;
+import uk.ac.manchester.tornado.drivers.common.utils.ReduceBitwiseOperation;
 import uk.ac.manchester.tornado.drivers.opencl.builtins.OpenCLIntrinsics;
 import uk.ac.manchester.tornado.drivers.opencl.graal.nodes.OCLFPBinaryIntrinsicNode;
 import uk.ac.manchester.tornado.drivers.opencl.graal.nodes.OCLIntBinaryIntrinsicNode;
@@ -319,6 +321,38 @@ public class ReduceCPUSnippets implements Snippets {
         }
     }
 
+    @Snippet
+    public static void partialReduceIntBitwise(int[] inputArray, int[] outputArray, int gidx, int start, int globalID, @ConstantParameter int operation) {
+        OpenCLIntrinsics.localBarrier();
+        if (gidx >= start) {
+            outputArray[globalID + 1] = ReduceBitwiseOperation.apply(outputArray[globalID + 1], inputArray[gidx], operation);
+        }
+    }
+
+    @Snippet
+    public static void partialReduceIntBitwiseCarrierValue(int[] inputArray, int[] outputArray, int gidx, int start, int globalID, int value, @ConstantParameter int operation) {
+        OpenCLIntrinsics.localBarrier();
+        if (gidx >= start) {
+            outputArray[globalID + 1] = ReduceBitwiseOperation.apply(outputArray[globalID + 1], value, operation);
+        }
+    }
+
+    @Snippet
+    public static void partialReduceLongBitwise(long[] inputArray, long[] outputArray, int gidx, int start, int globalID, @ConstantParameter int operation) {
+        OpenCLIntrinsics.localBarrier();
+        if (gidx >= start) {
+            outputArray[globalID + 1] = ReduceBitwiseOperation.apply(outputArray[globalID + 1], inputArray[gidx], operation);
+        }
+    }
+
+    @Snippet
+    public static void partialReduceLongBitwiseCarrierValue(long[] inputArray, long[] outputArray, int gidx, int start, int globalID, long value, @ConstantParameter int operation) {
+        OpenCLIntrinsics.localBarrier();
+        if (gidx >= start) {
+            outputArray[globalID + 1] = ReduceBitwiseOperation.apply(outputArray[globalID + 1], value, operation);
+        }
+    }
+
     protected static class Tuple2<T0, T1> {
         T0 t0;
         T1 t1;
@@ -374,6 +408,12 @@ public class ReduceCPUSnippets implements Snippets {
         // Additional tuple
         private final Tuple2<Class<? extends ReduceCPUSnippets>, String> partialReduceAddIntSnippetCarrierValue = new Tuple2<>(ReduceCPUSnippets.class, "partialReduceIntAddCarrierValue");
         private final Tuple2<Class<? extends ReduceCPUSnippets>, String> partialReduceMulIntSnippet = new Tuple2<>(ReduceCPUSnippets.class, "partialReduceIntMul");
+
+        // And, Or and Xor: the operation is a constant parameter of the snippet
+        private final Tuple2<Class<? extends ReduceCPUSnippets>, String> partialReduceIntBitwiseSnippet = new Tuple2<>(ReduceCPUSnippets.class, "partialReduceIntBitwise");
+        private final Tuple2<Class<? extends ReduceCPUSnippets>, String> partialReduceIntBitwiseSnippetCarrierValue = new Tuple2<>(ReduceCPUSnippets.class, "partialReduceIntBitwiseCarrierValue");
+        private final Tuple2<Class<? extends ReduceCPUSnippets>, String> partialReduceLongBitwiseSnippet = new Tuple2<>(ReduceCPUSnippets.class, "partialReduceLongBitwise");
+        private final Tuple2<Class<? extends ReduceCPUSnippets>, String> partialReduceLongBitwiseSnippetCarrierValue = new Tuple2<>(ReduceCPUSnippets.class, "partialReduceLongBitwiseCarrierValue");
         Providers providers;
 
         public Templates(OptionValues options, Providers providers) {
@@ -417,6 +457,8 @@ public class ReduceCPUSnippets implements Snippets {
                 snippet = (extra == null) ? snippet(partialReduceMulIntSnippet) : snippet(partialReduceMulIntSnippetCarrierValue);
             } else if (value instanceof OCLIntBinaryIntrinsicNode) {
                 snippet = getSnippetFromOCLBinaryNodeInteger((OCLIntBinaryIntrinsicNode) value, extra);
+            } else if (ReduceBitwiseOperation.isBitwise(value)) {
+                snippet = (extra == null) ? snippet(partialReduceIntBitwiseSnippet) : snippet(partialReduceIntBitwiseSnippetCarrierValue);
             } else {
                 throw new RuntimeException("Reduce Operation no supported yet: snippet not installed");
             }
@@ -432,6 +474,8 @@ public class ReduceCPUSnippets implements Snippets {
                 snippet = (extra == null) ? snippet(partialReduceMulLongSnippet) : snippet(partialReduceMulLongSnippetCarrierValue);
             } else if (value instanceof OCLIntBinaryIntrinsicNode) {
                 snippet = getSnippetFromOCLBinaryNodeLong((OCLIntBinaryIntrinsicNode) value, extra);
+            } else if (ReduceBitwiseOperation.isBitwise(value)) {
+                snippet = (extra == null) ? snippet(partialReduceLongBitwiseSnippet) : snippet(partialReduceLongBitwiseSnippetCarrierValue);
             } else {
                 throw new RuntimeException("Reduce Operation no supported yet: snippet not installed");
             }
@@ -527,6 +571,9 @@ public class ReduceCPUSnippets implements Snippets {
             if (extra != null) {
                 args.add("value", extra);
             }
+            if (ReduceBitwiseOperation.isBitwise(value)) {
+                args.addConst("operation", ReduceBitwiseOperation.of(value));
+            }
             template(tool, storeAtomicIndexed, args).instantiate(tool.getMetaAccess(), storeAtomicIndexed, SnippetTemplate.DEFAULT_REPLACER, args);
         }
 
@@ -550,6 +597,9 @@ public class ReduceCPUSnippets implements Snippets {
             if (extra != null) {
                 args.add("value", extra);
             }
+            if (ReduceBitwiseOperation.isBitwise(value)) {
+                args.addConst("operation", ReduceBitwiseOperation.of(value));
+            }
             template(tool, writeAtomic, args).instantiate(tool.getMetaAccess(), writeAtomic, SnippetTemplate.DEFAULT_REPLACER, args);
         }
     }
@@ -72,6 +72,15 @@ public class OCLMemorySegmentWrapper implements XPUBuffer {
         this(INIT_VALUE, deviceContext, batchSize, access, sizeOfType);
     }
 
+    /**
+     * Whether transfers of this buffer should go through the staging ring - enabled, non-batch
+     * (batched chunks are pipelined by the device-buffer ring instead), and large enough that the
+     * per-chunk staging overhead is amortised.
+     */
+    private boolean useStagedTransfer() {
+        return deviceContext.isStagedTransfersEnabled() && batchSize <= 0 && bufferSize >= TornadoOptions.STAGED_TRANSFER_MIN_SIZE;
+    }
+
     @Override
     public long toBuffer() {
         return this.bufferId;
@@ -116,6 +125,9 @@ public class OCLMemorySegmentWrapper implements XPUBuffer {
             // Partial Copy Out due to an under demand copy by the user
             // in this case the host offset is equal to the device offset
             returnEvent = deviceContext.readBuffer(executionPlanId, toBuffer(), hostOffset, partialReadSize, segment.address(), hostOffset, (useDeps) ? events : null);
+        } else if (useStagedTransfer()) {
+            // Large copy out through the staging ring
+            returnEvent = deviceContext.enqueueStagedReadBuffer(executionPlanId, toBuffer(), bufferOffset, numBytes, segment.address(), hostOffset, (useDeps) ? events : null);
         } else if (batchSize <= 0) {
             // Partial Copy Out due to batch processing
             returnEvent = deviceContext.readBuffer(executionPlanId, toBuffer(), bufferOffset, numBytes, segment.address(), hostOffset, (useDeps) ? events : null);
@@ -147,7 +159,9 @@ public class OCLMemorySegmentWrapper implements XPUBuffer {
         segment = getSegmentWithHeader(reference);
 
         final int returnEvent;
-        if (batchSize <= 0) {
+        if (useStagedTransfer()) {
+            returnEvent = deviceContext.enqueueStagedReadBuffer(executionPlanId, toBuffer(), bufferOffset, bufferSize, segment.address(), hostOffset, (useDeps) ? events : null);
+        } else if (batchSize <= 0) {
             returnEvent = deviceContext.enqueueReadBuffer(executionPlanId, toBuffer(), bufferOffset, bufferSize, segment.address(), hostOffset, (useDeps) ? events : null);
         } else {
             throw new TornadoUnsupportedError("[UNSUPPORTED] batch processing for enqueueReadBuffer operation");
@@ -162,7 +176,10 @@ public class OCLMemorySegmentWrapper implements XPUBuffer {
         segment = getSegmentWithHeader(reference);
 
         int internalEvent;
-        if (batchSize <= 0) {
+        if (batchSize <= 0 && useStagedTransfer()) {
+            // Large one-shot upload through the staging ring
+            internalEvent = deviceContext.enqueueStagedWriteBuffer(executionPlanId, toBuffer(), bufferOffset, bufferSize, segment.address(), hostOffset, (useDeps) ? events : null);
+        } else if (batchSize <= 0) {
             internalEvent = deviceContext.enqueueWriteBuffer(executionPlanId, toBuffer(), bufferOffset, bufferSize, segment.address(), hostOffset, (useDeps) ? events : null);
         } else {
             // Honour the sub-region size like read() does: a reused (locked) buffer can be larger than
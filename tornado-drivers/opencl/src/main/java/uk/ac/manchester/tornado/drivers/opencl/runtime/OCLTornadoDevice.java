@@ -90,6 +90,8 @@ import uk.ac.manchester.tornado.drivers.opencl.mm.OCLMultiDimArrayWrapper;
 import uk.ac.manchester.tornado.drivers.opencl.mm.OCLShortArrayWrapper;
 import uk.ac.manchester.tornado.drivers.opencl.mm.OCLVectorWrapper;
 import uk.ac.manchester.tornado.runtime.TornadoCoreRuntime;
+import uk.ac.manchester.tornado.runtime.aot.KernelBundle;
+import uk.ac.manchester.tornado.runtime.aot.KernelBundleEntry;
 import uk.ac.manchester.tornado.runtime.common.KernelStackFrame;
 import uk.ac.manchester.tornado.runtime.common.RuntimeUtilities;
 import uk.ac.manchester.tornado.runtime.common.TornadoInstalledCode;
@@ -191,6 +193,8 @@ public class OCLTornadoDevice implements TornadoXPUDevice {
         Set<Long> ids = new HashSet<>(device.getDeviceContext().getRegisteredPlanIds());
         ids.forEach(id -> device.getDeviceContext().reset(id));
         ids.clear();
+        // Every plan is now reset, so the device-wide staging ring has no user left
+        device.getDeviceContext().releaseStagedRing();
         disableProfilerOptions();
     }
 
@@ -263,6 +267,13 @@ public class OCLTornadoDevice implements TornadoXPUDevice {
         final Access[] taskAccess = taskMeta.getArgumentsAccess();
         System.arraycopy(sketchAccess, 0, taskAccess, 0, sketchAccess.length);
 
+        // Kernels compiled ahead-of-time skip the Graal compilation. Batched tasks are specialised at runtime.
+        final int dimensions = (taskMeta.getDomain() != null) ? taskMeta.getDomain().getDepth() : 0;
+        final KernelBundleEntry aotKernel = KernelBundle.lookupKernel(TornadoVMBackendType.OPENCL, executable, this, taskAccess, dimensions);
+        if (aotKernel != null && executable.getBatchThreads() == 0 && !OCLBackend.isDeviceAnFPGAAccelerator(deviceContext)) {
+            return installKernelFromBundle(executionPlanId, executable, resolvedMethod, aotKernel);
+        }
+
         try {
             OCLProviders providers = (OCLProviders) getBackend().getProviders();
             TornadoProfiler profiler = task.getProfiler();
@@ -312,6 +323,22 @@ public class OCLTornadoDevice implements TornadoXPUDevice {
         }
     }
 
+    private TornadoInstalledCode installKernelFromBundle(long executionPlanId, CompilableTask task, ResolvedJavaMethod resolvedMethod, KernelBundleEntry kernel) {
+        final TaskDataContext taskMeta = task.meta();
+        taskMeta.setCompiledGraph(resolvedMethod);
+        final byte[] code = KernelBundle.getRuntimeBundle().readCode(kernel);
+        if (taskMeta.isPrintKernelEnabled()) {
+            RuntimeUtilities.dumpKernel(code);
+        }
+
+        TornadoProfiler profiler = task.getProfiler();
+        profiler.start(ProfilerType.TASK_COMPILE_DRIVER_TIME, taskMeta.getId());
+        OCLInstalledCode installedCode = getDeviceContext().installCode(executionPlanId, taskMeta, task.getId(), kernel.entryPoint(), code);
+        profiler.stop(ProfilerType.TASK_COMPILE_DRIVER_TIME, taskMeta.getId());
+        profiler.sum(ProfilerType.TOTAL_DRIVER_COMPILE_TIME, profiler.getTaskTimer(ProfilerType.TASK_COMPILE_DRIVER_TIME, taskMeta.getId()));
+        return installedCode;
+    }
+
     private TornadoInstalledCode compilePreBuiltTask(long executionPlanId, SchedulableTask task) {
         final OCLDeviceContextInterface deviceContext = getDeviceContext();
         final PrebuiltTask executable = (PrebuiltTask) task;
@@ -621,8 +648,9 @@ public class OCLTornadoDevice implements TornadoXPUDevice {
         final XPUBuffer buffer;
         TornadoInternalError.guarantee(deviceObjectState.isAtomicRegionPresent() || !deviceObjectState.hasObjectBuffer() || batchSize != 0, "A device memory leak might be occurring.");
         buffer = createDeviceBuffer(object.getClass(), object, (OCLDeviceContext) getDeviceContext(), batchSize, access);
-        deviceObjectState.setXPUBuffer(buffer);
         buffer.allocate(object, batchSize, access);
+        // The state keeps its previous buffer if the allocation fails, so it can be retried
+        deviceObjectState.setXPUBuffer(buffer);
         return buffer;
     }
 
@@ -834,6 +862,11 @@ public class OCLTornadoDevice implements TornadoXPUDevice {
         atomicsBuffer = bufferAtomics;
     }
 
+    @Override
+    public void setStagedTransfers(boolean enabled) {
+        getDeviceContext().setStagedTransfers(enabled);
+    }
+
     @Override
     public TornadoVMBackendType getTornadoVMBackend() {
         return TornadoVMBackendType.OPENCL;
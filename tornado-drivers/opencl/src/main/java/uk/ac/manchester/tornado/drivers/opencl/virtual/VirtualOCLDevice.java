@@ -63,7 +63,7 @@ public class VirtualOCLDevice implements OCLTargetDevice {
         this.maxComputeUnits = INIT_VALUE;
         this.maxAllocationSize = INIT_VALUE;
         this.globalMemorySize = INIT_VALUE;
-        this.localMemorySize = INIT_VALUE;
+        this.localMemorySize = info.getLocalMemorySize();
         this.maxWorkItemDimensions = INIT_VALUE;
         this.maxWorkGroupSize = null;
         this.maxConstantBufferSize = INIT_VALUE;
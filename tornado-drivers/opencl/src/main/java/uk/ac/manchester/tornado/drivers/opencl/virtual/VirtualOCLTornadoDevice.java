@@ -56,7 +56,9 @@ import uk.ac.manchester.tornado.drivers.opencl.graal.OCLProviders;
 import uk.ac.manchester.tornado.drivers.opencl.graal.backend.OCLBackend;
 import uk.ac.manchester.tornado.drivers.opencl.graal.compiler.OCLCompilationResult;
 import uk.ac.manchester.tornado.drivers.opencl.graal.compiler.OCLCompiler;
+import uk.ac.manchester.tornado.drivers.opencl.graal.nodes.TornadoAtomicIntegerNode;
 import uk.ac.manchester.tornado.runtime.TornadoCoreRuntime;
+import uk.ac.manchester.tornado.runtime.aot.KernelBundle;
 import uk.ac.manchester.tornado.runtime.common.KernelStackFrame;
 import uk.ac.manchester.tornado.runtime.common.RuntimeUtilities;
 import uk.ac.manchester.tornado.runtime.common.TornadoInstalledCode;
@@ -65,6 +67,7 @@ import uk.ac.manchester.tornado.runtime.common.TornadoOptions;
 import uk.ac.manchester.tornado.runtime.common.TornadoSchedulingStrategy;
 import uk.ac.manchester.tornado.runtime.common.TornadoXPUDevice;
 import uk.ac.manchester.tornado.runtime.common.XPUDeviceBufferState;
+import uk.ac.manchester.tornado.runtime.profiler.KernelQualityProfiler;
 import uk.ac.manchester.tornado.runtime.sketcher.Sketch;
 import uk.ac.manchester.tornado.runtime.sketcher.TornadoSketcher;
 import uk.ac.manchester.tornado.runtime.tasks.CompilableTask;
@@ -200,7 +203,10 @@ public class VirtualOCLTornadoDevice implements TornadoXPUDevice {
             OCLProviders providers = (OCLProviders) getBackend().getProviders();
             TornadoProfiler profiler = task.getProfiler();
             profiler.start(ProfilerType.TASK_COMPILE_GRAAL_TIME, taskMeta.getId());
+            KernelQualityProfiler.beginCompilation();
+            final long compileStart = System.nanoTime();
             final OCLCompilationResult result = OCLCompiler.compileSketchForDevice(sketch, executable, providers, getBackend(), executable.getProfiler());
+            KernelQualityProfiler.endCompilation(TornadoVMBackendType.OPENCL, resolvedMethod, getDeviceName(), result.getTargetCode(), System.nanoTime() - compileStart);
             profiler.stop(ProfilerType.TASK_COMPILE_GRAAL_TIME, taskMeta.getId());
             profiler.sum(ProfilerType.TOTAL_GRAAL_COMPILE_TIME, profiler.getTaskTimer(ProfilerType.TASK_COMPILE_GRAAL_TIME, taskMeta.getId()));
 
@@ -208,6 +214,7 @@ public class VirtualOCLTornadoDevice implements TornadoXPUDevice {
                 RuntimeUtilities.dumpKernel(result.getTargetCode());
             }
 
+            recordKernelInBundle(executable, resolvedMethod, result);
             return null;
         } catch (Exception e) {
             TornadoLogger tornadoLogger = new TornadoLogger();
@@ -218,6 +225,13 @@ public class VirtualOCLTornadoDevice implements TornadoXPUDevice {
         }
     }
 
+    private void recordKernelInBundle(CompilableTask task, ResolvedJavaMethod resolvedMethod, OCLCompilationResult result) {
+        final TaskDataContext taskMeta = task.meta();
+        final int dimensions = (taskMeta.getDomain() != null) ? taskMeta.getDomain().getDepth() : 0;
+        final boolean atomics = TornadoAtomicIntegerNode.globalAtomics.containsKey(resolvedMethod) || TornadoAtomicIntegerNode.globalAtomicsParameters.containsKey(resolvedMethod);
+        KernelBundle.recordKernel(TornadoVMBackendType.OPENCL, task, result.getName(), this, taskMeta.getArgumentsAccess(), dimensions, atomics, result.getTargetCode());
+    }
+
     private TornadoInstalledCode compilePreBuiltTask(SchedulableTask task) {
         final PrebuiltTask executable = (PrebuiltTask) task;
         final Path path = Paths.get(executable.getFilename());
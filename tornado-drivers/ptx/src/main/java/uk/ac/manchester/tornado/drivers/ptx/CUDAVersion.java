@@ -66,4 +66,12 @@ public class CUDAVersion {
                 extractMinorVersion(cudaVersion), extractMajorVersion(cudaVersions[0].sdkVersion), extractMinorVersion(cudaVersions[0].sdkVersion)));
         return null;
     }
+
+    /**
+     * Returns the PTX version of the newest CUDA toolkit supported. It is used
+     * by virtual devices, for which there is no driver to query.
+     */
+    public static PTXVersion getLatestPTXVersion() {
+        return cudaVersions[cudaVersions.length - 1].maxPTXVersion;
+    }
 }
@@ -23,13 +23,17 @@
  */
 package uk.ac.manchester.tornado.drivers.ptx;
 
+import static uk.ac.manchester.tornado.runtime.common.TornadoOptions.VIRTUAL_DEVICE_ENABLED;
+
 import java.util.ArrayList;
 import java.util.HashMap;
 
 import uk.ac.manchester.tornado.api.common.Access;
 import uk.ac.manchester.tornado.api.exceptions.TornadoRuntimeException;
+import uk.ac.manchester.tornado.drivers.common.virtual.VirtualDeviceParser;
 import uk.ac.manchester.tornado.drivers.ptx.graal.PTXInstalledCode;
 import uk.ac.manchester.tornado.drivers.ptx.runtime.PTXTornadoDevice;
+import uk.ac.manchester.tornado.drivers.ptx.virtual.VirtualPTXPlatform;
 import uk.ac.manchester.tornado.runtime.common.KernelStackFrame;
 import uk.ac.manchester.tornado.runtime.common.Tornado;
 import uk.ac.manchester.tornado.runtime.common.XPUDeviceBufferState;
@@ -45,10 +49,19 @@ public class PTX {
     public static long SHUTDOW_THREAD_ID_HOOK;
 
     static {
+        if (VIRTUAL_DEVICE_ENABLED) {
+            // Compile-only device described by -Dtornado.device.desc. No CUDA driver is needed.
+            platform = new VirtualPTXPlatform(VirtualDeviceParser.getDeviceProperties());
+        } else {
+            platform = initializePlatform();
+        }
+    }
+
+    private static PTXPlatform initializePlatform() {
         System.loadLibrary(PTX_JNI_LIBRARY);
 
         initialise();
-        platform = new PTXPlatform();
+        PTXPlatform ptxPlatform = new PTXPlatform();
 
         // add a shutdown hook to free-up all CUDA resources on VM exit
         Runtime.getRuntime().addShutdownHook(new Thread() {
@@ -59,6 +72,7 @@ public class PTX {
                 PTX.cleanup();
             }
         });
+        return ptxPlatform;
     }
 
     private static native long cuInit();
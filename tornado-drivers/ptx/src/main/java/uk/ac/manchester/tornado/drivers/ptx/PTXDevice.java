@@ -27,6 +27,7 @@ import java.nio.ByteOrder;
 
 import uk.ac.manchester.tornado.api.TornadoTargetDevice;
 import uk.ac.manchester.tornado.api.enums.TornadoDeviceType;
+import uk.ac.manchester.tornado.drivers.common.virtual.VirtualDeviceProperties;
 import uk.ac.manchester.tornado.drivers.ptx.enums.PTXDeviceAttribute;
 
 public class PTXDevice implements TornadoTargetDevice {
@@ -75,6 +76,32 @@ public class PTXDevice implements TornadoTargetDevice {
         maxAllocationSize = cuMemGetInfo();
     }
 
+    /**
+     * Creates a device from the properties of a virtual device. No CUDA call is
+     * performed and no {@link PTXContext} is created; subclasses must override
+     * {@link #getPTXContext()}.
+     */
+    protected PTXDevice(int deviceIndex, VirtualDeviceProperties properties) {
+        this.deviceIndex = deviceIndex;
+        cuDevice = VirtualDeviceProperties.UNKNOWN;
+        name = properties.getDeviceName();
+        constantBufferSize = VirtualDeviceProperties.UNKNOWN;
+        totalDeviceMemory = VirtualDeviceProperties.UNKNOWN;
+        localMemorySize = properties.getLocalMemorySize();
+        numComputeUnits = properties.getAvailableProcessors();
+        maxFrequency = VirtualDeviceProperties.UNKNOWN;
+        maxWorkItemSizes = properties.getMaxWorkItemSizes();
+        maxGridSizes = new long[] { VirtualDeviceProperties.UNKNOWN, VirtualDeviceProperties.UNKNOWN, VirtualDeviceProperties.UNKNOWN };
+        maxThreadsPerBlock = (int) maxWorkItemSizes[0];
+        asyncEngineCount = 0;
+        concurrentKernels = false;
+        ptxVersion = CUDAVersion.getLatestPTXVersion();
+        computeCapability = new CUDAComputeCapability(properties.getComputeCapabilityMajor(), properties.getComputeCapabilityMinor());
+        targetArchitecture = ptxVersion.getArchitecture(computeCapability);
+        context = null;
+        maxAllocationSize = VirtualDeviceProperties.UNKNOWN;
+    }
+
     private static native long cuDeviceGet(int deviceId);
 
     private static native String cuDeviceGetName(long cuDevice);
@@ -51,6 +51,7 @@ import uk.ac.manchester.tornado.drivers.ptx.graal.PTXCodeUtil;
 import uk.ac.manchester.tornado.drivers.ptx.graal.compiler.PTXCompilationResult;
 import uk.ac.manchester.tornado.drivers.ptx.mm.PTXKernelStackFrame;
 import uk.ac.manchester.tornado.drivers.ptx.mm.PTXMemoryManager;
+import uk.ac.manchester.tornado.drivers.ptx.power.PTXEmptyPowerMetricHandler;
 import uk.ac.manchester.tornado.drivers.ptx.power.PTXNvidiaPowerMetricHandler;
 import uk.ac.manchester.tornado.drivers.ptx.runtime.PTXBufferProvider;
 import uk.ac.manchester.tornado.drivers.ptx.runtime.PTXTornadoDevice;
@@ -93,7 +94,11 @@ public class PTXDeviceContext implements TornadoDeviceContext {
         this.device = device;
         streamPool = new PTXStreamPool();
         this.scheduler = new PTXScheduler(device);
-        this.powerMetricHandler = new PTXNvidiaPowerMetricHandler(this);
+        if (TornadoOptions.VIRTUAL_DEVICE_ENABLED) {
+            this.powerMetricHandler = new PTXEmptyPowerMetricHandler();
+        } else {
+            this.powerMetricHandler = new PTXNvidiaPowerMetricHandler(this);
+        }
         codeCache = new ConcurrentHashMap<>();
         memoryManager = new PTXMemoryManager(this);
         bufferProvider = new PTXBufferProvider(this);
@@ -41,6 +41,13 @@ public class PTXPlatform {
         }
     }
 
+    /**
+     * Creates a platform with the given devices. It is used by virtual devices.
+     */
+    protected PTXPlatform(PTXDevice[] devices) {
+        this.devices = devices;
+    }
+
     public static native int cuDeviceGetCount();
 
     public void cleanup() {
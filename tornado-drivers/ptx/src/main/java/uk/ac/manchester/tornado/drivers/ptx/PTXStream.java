@@ -30,6 +30,8 @@ import java.util.Arrays;
 
 import uk.ac.manchester.tornado.api.common.Event;
 import uk.ac.manchester.tornado.api.exceptions.TornadoOutOfMemoryException;
+import uk.ac.manchester.tornado.drivers.common.mm.StagingBackend;
+import uk.ac.manchester.tornado.drivers.common.mm.StagingBufferPool;
 import uk.ac.manchester.tornado.drivers.common.utils.EventDescriptor;
 import uk.ac.manchester.tornado.drivers.ptx.nstream.NativePTXStream;
 import uk.ac.manchester.tornado.runtime.EmptyEvent;
@@ -64,14 +66,10 @@ public class PTXStream {
     private long stagingBufferSize = 0L;
 
     /**
-     * Ring of pinned staging slots for large one-shot H2D transfers (a single pinned
-     * block of {@code depth * chunk} bytes, sliced into slots). 0 = unallocated (lazy).
+     * Ring of pinned staging slots for large one-shot H2D transfers, allocated lazily by the
+     * first staged transfer. The slots are guarded by local event ids of this stream.
      */
-    private long stagedRingPtr = 0L;
-    private long stagedChunkSize;
-    private int stagedRingDepth;
-    /** Per-slot local event id of the slot's last enqueued DMA; -1 = slot never used. */
-    private int[] stagedSlotEventIds;
+    private final StagingBufferPool stagingPool = StagingBufferPool.fromOptions(new PTXStagingBackend());
 
     public PTXStream() {
         this(PTXStreamType.DEFAULT);
@@ -228,11 +226,9 @@ public class PTXStream {
     }
 
     public void reset() {
+        // Local event ids become invalid after a pool reset; drain the staging slots first.
+        stagingPool.drain();
         ptxEventPool.reset();
-        // Local event ids become invalid after a pool reset; treat all staging slots as never used.
-        if (stagedSlotEventIds != null) {
-            Arrays.fill(stagedSlotEventIds, -1);
-        }
     }
 
     public void sync() {
@@ -244,10 +240,7 @@ public class PTXStream {
             cuMemFreeHost(stagingBufferPtr);
             stagingBufferPtr = 0L;
         }
-        if (stagedRingPtr != 0L) {
-            cuMemFreeHost(stagedRingPtr);
-            stagedRingPtr = 0L;
-        }
+        stagingPool.release();
         cuDestroyStream(streamPool);
         isDestroy = true;
     }
@@ -457,73 +450,44 @@ public class PTXStream {
             return enqueueAsyncWrite(executionPlanId, address, length, hostPointer, hostOffset, waitEvents);
         }
         waitForEvents(waitEvents);
-        ensureStagedRing();
-        long offset = 0;
-        int chunkIndex = 0;
-        int lastEvent = -1;
-        long waitNs = 0;
-        long fillNs = 0;
-        long enqueueNs = 0;
-        boolean debug = TornadoOptions.FULL_DEBUG;
-        while (offset < length) {
-            int slot = chunkIndex % stagedRingDepth;
-            long chunkBytes = Math.min(stagedChunkSize, length - offset);
-            long t0 = debug ? System.nanoTime() : 0;
-            if (stagedSlotEventIds[slot] != -1) {
-                // Wait (host-side) until the slot's previous upload has drained before refilling it.
-                waitForEvents(new int[] { stagedSlotEventIds[slot] });
-            }
-            long t1 = debug ? System.nanoTime() : 0;
-            long slotPtr = stagedRingPtr + (long) slot * stagedChunkSize;
-            fillSlot(slotPtr, hostPointer + hostOffset + offset, chunkBytes);
-            long t2 = debug ? System.nanoTime() : 0;
-            lastEvent = registerEvent(writeArrayHtoDAsync(address + offset, chunkBytes, slotPtr, 0, streamPool), EventDescriptor.DESC_WRITE_BYTE);
-            stagedSlotEventIds[slot] = lastEvent;
-            offset += chunkBytes;
-            chunkIndex++;
-            if (debug) {
-                long t3 = System.nanoTime();
-                waitNs += t1 - t0;
-                fillNs += t2 - t1;
-                enqueueNs += t3 - t2;
-            }
-        }
-        if (debug) {
-            System.out.printf("[staged write] %d bytes in %d chunks | slot-wait %.2f ms, fill %.2f ms (%.2f GB/s), enqueue %.2f ms%n", length, chunkIndex, waitNs / 1e6, fillNs / 1e6, length / (fillNs / 1e9) / 1e9, enqueueNs / 1e6);
+        long start = TornadoOptions.FULL_DEBUG ? System.nanoTime() : 0;
+        int lastEvent = (int) stagingPool.upload(hostPointer + hostOffset, length, (slotAddress, offset, chunkBytes, chunkIndex) -> registerEvent(writeArrayHtoDAsync(address + offset, chunkBytes,
+                slotAddress, 0, streamPool), EventDescriptor.DESC_WRITE_BYTE));
+        if (TornadoOptions.FULL_DEBUG) {
+            long elapsed = System.nanoTime() - start;
+            System.out.printf("[staged write] %d bytes in %d-byte chunks | staging and enqueue %.2f ms%n", length, stagingPool.getChunkSize(), elapsed / 1e6);
         }
         return lastEvent;
     }
 
     /**
-     * Fills a pinned staging slot from the source. A single thread's memcpy (~4-5 GB/s) is slower
-     * than the PCIe DMA it feeds, which would make the staged path fill-bound; splitting the copy
-     * across threads lifts the fill above the DMA rate so the transfer stays DMA-bound.
+     * Staging hooks of the PTX backend: the slots are page-locked with cuMemAllocHost, and each
+     * slot is guarded by the local event id of its last DMA on this stream.
      */
-    private void fillSlot(long dstPtr, long srcPtr, long bytes) {
-        int threads = TornadoOptions.STAGED_TRANSFER_FILL_THREADS;
-        long minPerThread = 1 << 21; // below ~2MB per thread the fork/join overhead dominates
-        if (threads <= 1 || bytes < threads * minPerThread) {
-            memcpyHostToHost(dstPtr, srcPtr, bytes);
-            return;
-        }
-        long subSize = bytes / threads;
-        java.util.stream.IntStream.range(0, threads).parallel().forEach(t -> {
-            long subOffset = t * subSize;
-            long subBytes = (t == threads - 1) ? bytes - subOffset : subSize;
-            memcpyHostToHost(dstPtr + subOffset, srcPtr + subOffset, subBytes);
-        });
-    }
-
-    private void ensureStagedRing() {
-        if (stagedRingPtr == 0L) {
-            stagedChunkSize = TornadoOptions.STAGED_TRANSFER_CHUNK_SIZE;
-            stagedRingDepth = Math.max(2, TornadoOptions.STAGED_TRANSFER_RING_DEPTH);
-            stagedRingPtr = cuMemAllocHost(stagedChunkSize * stagedRingDepth);
-            if (stagedRingPtr == 0L) {
-                throw new TornadoOutOfMemoryException("[PTX] cuMemAllocHost failed: could not allocate " + (stagedChunkSize * stagedRingDepth) + " bytes of pinned host memory for the staging ring");
+    private final class PTXStagingBackend implements StagingBackend {
+
+        @Override
+        public long allocateHostMemory(long numBytes) {
+            long hostPointer = cuMemAllocHost(numBytes);
+            if (hostPointer == 0L) {
+                throw new TornadoOutOfMemoryException("[PTX] cuMemAllocHost failed: could not allocate " + numBytes + " bytes of pinned host memory for the staging ring");
             }
-            stagedSlotEventIds = new int[stagedRingDepth];
-            Arrays.fill(stagedSlotEventIds, -1);
+            return hostPointer;
+        }
+
+        @Override
+        public void freeHostMemory(long hostAddress) {
+            cuMemFreeHost(hostAddress);
+        }
+
+        @Override
+        public void waitForTransfer(long transfer) {
+            waitForEvents(new int[] { (int) transfer });
+        }
+
+        @Override
+        public void copyHostToHost(long destination, long source, long numBytes) {
+            memcpyHostToHost(destination, source, numBytes);
         }
     }
 
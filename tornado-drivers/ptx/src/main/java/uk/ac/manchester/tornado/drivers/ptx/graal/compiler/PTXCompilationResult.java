@@ -38,6 +38,7 @@ public class PTXCompilationResult extends CompilationResult {
 
     private Set<ResolvedJavaMethod> nonInlinedMethods;
     private TaskDataContext taskMetaData;
+    private boolean atomics;
 
     public PTXCompilationResult(String functionName, TaskDataContext meta) {
         super(functionName);
@@ -62,6 +63,18 @@ public class PTXCompilationResult extends CompilationResult {
         setTargetCode(newCode, newCode.length);
     }
 
+    public void setAtomics(boolean value) {
+        atomics = value;
+    }
+
+    /**
+     * @return true if the kernel, or any of the methods it calls, uses atomic
+     *     operations.
+     */
+    public boolean usesAtomics() {
+        return atomics;
+    }
+
     public TaskDataContext metaData() {
         return taskMetaData;
     }
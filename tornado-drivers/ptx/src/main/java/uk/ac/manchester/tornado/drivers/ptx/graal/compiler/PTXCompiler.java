@@ -73,6 +73,7 @@ import uk.ac.manchester.tornado.drivers.ptx.graal.PTXCodeUtil;
 import uk.ac.manchester.tornado.drivers.ptx.graal.PTXProviders;
 import uk.ac.manchester.tornado.drivers.ptx.graal.PTXSuitesProvider;
 import uk.ac.manchester.tornado.drivers.ptx.graal.backend.PTXBackend;
+import uk.ac.manchester.tornado.drivers.ptx.graal.nodes.AtomAddNodeTemplate;
 import uk.ac.manchester.tornado.drivers.ptx.graal.nodes.PrintfNode;
 import uk.ac.manchester.tornado.runtime.TornadoCoreRuntime;
 import uk.ac.manchester.tornado.runtime.common.BatchCompilationConfig;
@@ -118,6 +119,7 @@ public class PTXCompiler {
             LIRGenerationResult lirGen = emitLIR(r);
             try (DebugContext.Scope s2 = TornadoCoreRuntime.getDebugContext().scope("PTXCodeGen", lirGen, lirGen.getLIR())) {
                 r.compilationResult.setHasUnsafeAccess(r.graph.hasUnsafeAccess());
+                r.compilationResult.setAtomics(r.graph.getNodes().filter(AtomAddNodeTemplate.class).isNotEmpty());
                 emitCode(r, lirGen, isParallel);
             } catch (Throwable e) {
                 throw TornadoCoreRuntime.getDebugContext().handle(e);
@@ -255,7 +257,7 @@ public class PTXCompiler {
         final long batchThreads = (taskMeta.getNumThreads() > 0) ? taskMeta.getNumThreads() : task.getBatchThreads();
         final int batchNumber = task.getBatchNumber();
         final long batchSize = task.getBatchSize();
-        BatchCompilationConfig batchCompilationConfig = new BatchCompilationConfig(batchThreads, batchNumber, batchSize);
+        BatchCompilationConfig batchCompilationConfig = new BatchCompilationConfig(batchThreads, batchNumber, batchSize, taskMeta.getPartitionOffset());
 
         OptimisticOptimizations optimisticOpts = OptimisticOptimizations.ALL;
         ProfilingInfo profilingInfo = resolvedMethod.getProfilingInfo();
@@ -346,6 +348,9 @@ public class PTXCompiler {
             }
 
             kernelCompResult.addCompiledMethodCode(compResult.getTargetCode());
+            if (compResult.usesAtomics()) {
+                kernelCompResult.setAtomics(true);
+            }
         }
 
         kernelCompResult.addPTXHeader(backend);
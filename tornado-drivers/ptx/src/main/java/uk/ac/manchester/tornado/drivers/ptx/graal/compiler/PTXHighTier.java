@@ -49,6 +49,7 @@ import uk.ac.manchester.tornado.drivers.common.compiler.phases.analysis.TornadoS
 import uk.ac.manchester.tornado.drivers.common.compiler.phases.guards.ExceptionSuppression;
 import uk.ac.manchester.tornado.drivers.common.compiler.phases.guards.TornadoValueTypeCleanup;
 import uk.ac.manchester.tornado.drivers.common.compiler.phases.memalloc.TornadoLocalMemoryAllocation;
+import uk.ac.manchester.tornado.drivers.common.compiler.phases.memalloc.TornadoMixedPrecisionStorage;
 import uk.ac.manchester.tornado.drivers.common.compiler.phases.memalloc.TornadoNewArrayDevirtualizationReplacement;
 import uk.ac.manchester.tornado.drivers.common.compiler.phases.memalloc.TornadoPrivateArrayPiRemoval;
 import uk.ac.manchester.tornado.drivers.ptx.graal.phases.TornadoBatchGlobalIndexOffset;
@@ -82,6 +83,7 @@ public class PTXHighTier extends TornadoHighTier {
 
         appendPhase(new TornadoTaskSpecialisation(canonicalizer));
         appendPhase(new TornadoBatchGlobalIndexOffset());
+        appendPhase(new TornadoMixedPrecisionStorage());
         appendPhase(canonicalizer);
         appendPhase(new DeadCodeEliminationPhase(Optional));
 
@@ -75,6 +75,7 @@ import uk.ac.manchester.tornado.api.types.matrix.Matrix8x8Float;
 import uk.ac.manchester.tornado.api.utils.QuantizationUtils;
 import uk.ac.manchester.tornado.drivers.ptx.graal.PTXArchitecture;
 import uk.ac.manchester.tornado.drivers.ptx.graal.lir.PTXKind;
+import uk.ac.manchester.tornado.drivers.ptx.graal.lir.PTXLIRStmt;
 import uk.ac.manchester.tornado.drivers.ptx.graal.nodes.AtomAddNodeTemplate;
 import uk.ac.manchester.tornado.drivers.ptx.graal.nodes.DP4APackedNode;
 import uk.ac.manchester.tornado.drivers.ptx.graal.nodes.Dp4aNode;
@@ -88,6 +89,7 @@ import uk.ac.manchester.tornado.drivers.ptx.graal.nodes.MMALoadBSwizzledNode;
 import uk.ac.manchester.tornado.drivers.ptx.graal.nodes.MMAStoreBSwizzledNode;
 import uk.ac.manchester.tornado.drivers.ptx.graal.nodes.MMAStoreNode;
 import uk.ac.manchester.tornado.drivers.ptx.graal.nodes.PTXSimdSumNode;
+import uk.ac.manchester.tornado.drivers.ptx.graal.nodes.PTXSubgroupShuffleNode;
 import uk.ac.manchester.tornado.drivers.ptx.graal.nodes.PTXShuffleDownNode;
 import uk.ac.manchester.tornado.drivers.ptx.graal.nodes.PTXSimdBroadcastFirstNode;
 import uk.ac.manchester.tornado.drivers.ptx.graal.nodes.LocalArrayNode;
@@ -130,6 +132,8 @@ import static uk.ac.manchester.tornado.drivers.ptx.graal.nodes.PTXIntUnaryIntrin
 
 public class PTXGraphBuilderPlugins {
 
+    private static final int WARP_SIZE = 32;
+
     public static void registerInvocationPlugins(final Plugins ps, final InvocationPlugins plugins, HotSpotMetaAccessProvider metaAccessProvider) {
         if (TornadoOptions.INLINE_DURING_BYTECODE_PARSING) {
             ps.appendInlineInvokePlugin(new InlineDuringParsingPlugin());
@@ -459,6 +463,7 @@ public class PTXGraphBuilderPlugins {
         localArraysPlugins(r);
         registerAtomicAddOperation(r);
         registerSIMDPlugins(r);
+        registerSubgroupPlugins(r);
         registerMMAPlugins(r);
         registerSwizzledLocalAccessesPlugins(r);
         registerUnsupportedSimdgroupMatrixPlugins(r);
@@ -594,6 +599,32 @@ public class PTXGraphBuilderPlugins {
         });
     }
 
+    private static void registerSubgroupPlugins(Registration r) {
+        r.register(new InvocationPlugin("getSubgroupSize", InvocationPlugin.Receiver.class) {
+            @Override
+            public boolean apply(GraphBuilderContext b, ResolvedJavaMethod targetMethod, Receiver receiver) {
+                b.addPush(JavaKind.Int, ConstantNode.forInt(WARP_SIZE));
+                return true;
+            }
+        });
+        registerSubgroupShufflePlugin(r, "subgroupShuffle", PTXLIRStmt.ShuffleSyncStmt.Mode.IDX);
+        registerSubgroupShufflePlugin(r, "subgroupShuffleDown", PTXLIRStmt.ShuffleSyncStmt.Mode.DOWN);
+        registerSubgroupShufflePlugin(r, "subgroupShuffleUp", PTXLIRStmt.ShuffleSyncStmt.Mode.UP);
+        registerSubgroupShufflePlugin(r, "subgroupShuffleXor", PTXLIRStmt.ShuffleSyncStmt.Mode.BFLY);
+    }
+
+    private static void registerSubgroupShufflePlugin(Registration r, String methodName, PTXLIRStmt.ShuffleSyncStmt.Mode mode) {
+        for (JavaKind kind : new JavaKind[] { JavaKind.Int, JavaKind.Float }) {
+            r.register(new InvocationPlugin(methodName, InvocationPlugin.Receiver.class, kind.toJavaClass(), int.class) {
+                @Override
+                public boolean apply(GraphBuilderContext b, ResolvedJavaMethod targetMethod, Receiver receiver, ValueNode value, ValueNode operand) {
+                    b.addPush(kind, new PTXSubgroupShuffleNode(kind, value, operand, mode));
+                    return true;
+                }
+            });
+        }
+    }
+
     private static void registerMMAPlugins(Registration r) {
         // --- mmaFragment(float v) -> float[] ---
         r.register(new InvocationPlugin("mmaFragment",
@@ -1769,10 +1769,13 @@ public class PTXLIRStmt {
      * <ul>
      *   <li>{@code DOWN} — each lane receives the value from the lane {@code operand} positions ahead</li>
      *   <li>{@code IDX}  — each lane receives the value from lane {@code operand}</li>
+     *   <li>{@code UP}   — each lane receives the value from the lane {@code operand} positions behind</li>
+     *   <li>{@code BFLY} — each lane receives the value from the lane {@code laneId ^ operand}</li>
      * </ul>
      *
-     * <p>The clamp value is fixed at 31 (maximum lane ID) and the member mask at
-     * {@code 0xFFFFFFFF} (full 32-lane warp participation).
+     * <p>The clamp value is 31 (maximum lane ID), or 0 (minimum lane ID) for
+     * {@code UP}, and the member mask is {@code 0xFFFFFFFF} (full 32-lane warp
+     * participation).
      */
     @Opcode("SHFL_SYNC")
     public static class ShuffleSyncStmt extends AbstractInstruction {
@@ -1811,7 +1814,7 @@ public class PTXLIRStmt {
 
         @Override
         public void emitCode(PTXCompilationResultBuilder crb, PTXAssembler asm) {
-            // shfl.sync.<mode>.b32 dest, src, operand, 31, 0xFFFFFFFF;
+            // shfl.sync.<mode>.b32 dest, src, operand, clamp, 0xFFFFFFFF;
             asm.emitSymbol(TAB);
             asm.emit("shfl.sync." + mode.getPtxName() + ".b32");
             asm.emitSymbol(SPACE);
@@ -1821,7 +1824,7 @@ public class PTXLIRStmt {
             asm.emitSymbol(COMMA + SPACE);
             asm.emitValue(operand);
             asm.emitSymbol(COMMA + SPACE);
-            asm.emit("31");
+            asm.emit(mode == Mode.UP ? "0" : "31");
             asm.emitSymbol(COMMA + SPACE);
             asm.emit("0xFFFFFFFF");
             asm.delimiter();
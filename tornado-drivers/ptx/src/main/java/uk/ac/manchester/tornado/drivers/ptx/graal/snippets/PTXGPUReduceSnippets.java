@@ -22,6 +22,7 @@
 package uk.ac.manchester.tornado.drivers.ptx.graal.snippets;
 
 import org.graalvm.compiler.api.replacements.Snippet;
+import org.graalvm.compiler.api.replacements.Snippet.ConstantParameter;
 import org.graalvm.compiler.nodes.GraphState;
 import org.graalvm.compiler.nodes.ValueNode;
 import org.graalvm.compiler.nodes.java.NewArrayNode;
@@ -36,6 +37,7 @@ import org.graalvm.compiler.replacements.Snippets;
 
 import jdk.vm.ci.meta.JavaKind;
 import uk.ac.manchester.tornado.api.math.TornadoMath;
+import uk.ac.manchester.tornado.drivers.common.utils.ReduceBitwiseOperation;
 import uk.ac.manchester.tornado.drivers.ptx.builtins.PTXIntrinsics;
 import uk.ac.manchester.tornado.drivers.ptx.graal.nodes.PTXFPBinaryIntrinsicNode;
 import uk.ac.manchester.tornado.drivers.ptx.graal.nodes.PTXIntBinaryIntrinsicNode;
@@ -797,6 +799,99 @@ public class PTXGPUReduceSnippets implements Snippets {
         }
     }
 
+    @Snippet
+    public static void partialReduceIntBitwise(int[] inputArray, int[] outputArray, int gidx, @ConstantParameter int operation) {
+        int[] localArray = (int[]) NewArrayNode.newUninitializedArray(int.class, LOCAL_WORK_GROUP_SIZE);
+
+        int localIdx = PTXIntrinsics.get_local_id(0);
+        int localGroupSize = PTXIntrinsics.get_local_size(0);
+        int groupID = PTXIntrinsics.get_group_id(0);
+
+        localArray[localIdx] = inputArray[gidx];
+
+        for (int stride = (localGroupSize / 2); stride > 0; stride /= 2) {
+            PTXIntrinsics.localBarrier();
+            if (localIdx < stride) {
+                localArray[localIdx] = ReduceBitwiseOperation.apply(localArray[localIdx], localArray[localIdx + stride], operation);
+            }
+        }
+
+        PTXIntrinsics.globalBarrier();
+        if (localIdx == 0) {
+            outputArray[groupID + 1] = localArray[0];
+        }
+    }
+
+    @Snippet
+    public static void partialReduceIntBitwiseCarrierValue(int[] inputArray, int[] outputArray, int gidx, int value, @ConstantParameter int operation) {
+
+        int[] localArray = (int[]) NewArrayNode.newUninitializedArray(int.class, LOCAL_WORK_GROUP_SIZE);
+
+        int localIdx = PTXIntrinsics.get_local_id(0);
+        int localGroupSize = PTXIntrinsics.get_local_size(0);
+        int groupID = PTXIntrinsics.get_group_id(0);
+
+        localArray[localIdx] = value;
+
+        for (int stride = (localGroupSize / 2); stride > 0; stride /= 2) {
+            PTXIntrinsics.localBarrier();
+            if (localIdx < stride) {
+                localArray[localIdx] = ReduceBitwiseOperation.apply(localArray[localIdx], localArray[localIdx + stride], operation);
+            }
+        }
+        PTXIntrinsics.globalBarrier();
+        if (localIdx == 0) {
+            outputArray[groupID + 1] = localArray[0];
+        }
+    }
+
+    @Snippet
+    public static void partialReduceLongBitwise(long[] inputArray, long[] outputArray, int gidx, @ConstantParameter int operation) {
+        long[] localArray = (long[]) NewArrayNode.newUninitializedArray(long.class, LOCAL_WORK_GROUP_SIZE);
+
+        int localIdx = PTXIntrinsics.get_local_id(0);
+        int localGroupSize = PTXIntrinsics.get_local_size(0);
+        int groupID = PTXIntrinsics.get_group_id(0);
+
+        localArray[localIdx] = inputArray[gidx];
+
+        for (int stride = (localGroupSize / 2); stride > 0; stride /= 2) {
+            PTXIntrinsics.localBarrier();
+            if (localIdx < stride) {
+                localArray[localIdx] = ReduceBitwiseOperation.apply(localArray[localIdx], localArray[localIdx + stride], operation);
+            }
+        }
+
+        PTXIntrinsics.globalBarrier();
+        if (localIdx == 0) {
+            outputArray[groupID + 1] = localArray[0];
+        }
+    }
+
+    @Snippet
+    public static void partialReduceLongBitwiseCarrierValue(long[] inputArray, long[] outputArray, int gidx, long value, @ConstantParameter int operation) {
+
+        int localIdx = PTXIntrinsics.get_local_id(0);
+        int localGroupSize = PTXIntrinsics.get_local_size(0);
+        int groupID = PTXIntrinsics.get_group_id(0);
+
+        int myID = localIdx + (localGroupSize * groupID);
+
+        inputArray[myID] = value;
+
+        for (int stride = (localGroupSize / 2); stride > 0; stride /= 2) {
+            PTXIntrinsics.localBarrier();
+            if (localIdx < stride) {
+                inputArray[myID] = ReduceBitwiseOperation.apply(inputArray[myID], inputArray[myID + stride], operation);
+
+            }
+        }
+        PTXIntrinsics.globalBarrier();
+        if (localIdx == 0) {
+            outputArray[groupID + 1] = inputArray[myID];
+        }
+    }
+
     protected static class Tuple2<T0, T1> {
         T0 t0;
         T1 t1;
@@ -857,6 +952,12 @@ public class PTXGPUReduceSnippets implements Snippets {
         private final Tuple2<Class<? extends PTXGPUReduceSnippets>, String> partialReduceMinDoubleSnippet = new Tuple2<>(PTXGPUReduceSnippets.class, "partialReduceDoubleMin");
         private final Tuple2<Class<? extends PTXGPUReduceSnippets>, String> partialReduceMinDoubleSnippetCarrierValue = new Tuple2<>(PTXGPUReduceSnippets.class, "partialReduceDoubleMinCarrierValue");
 
+        // And, Or and Xor: the operation is a constant parameter of the snippet
+        private final Tuple2<Class<? extends PTXGPUReduceSnippets>, String> partialReduceIntBitwiseSnippet = new Tuple2<>(PTXGPUReduceSnippets.class, "partialReduceIntBitwise");
+        private final Tuple2<Class<? extends PTXGPUReduceSnippets>, String> partialReduceIntBitwiseSnippetCarrierValue = new Tuple2<>(PTXGPUReduceSnippets.class, "partialReduceIntBitwiseCarrierValue");
+        private final Tuple2<Class<? extends PTXGPUReduceSnippets>, String> partialReduceLongBitwiseSnippet = new Tuple2<>(PTXGPUReduceSnippets.class, "partialReduceLongBitwise");
+        private final Tuple2<Class<? extends PTXGPUReduceSnippets>, String> partialReduceLongBitwiseSnippetCarrierValue = new Tuple2<>(PTXGPUReduceSnippets.class, "partialReduceLongBitwiseCarrierValue");
+
         Providers providers;
 
         public Templates(OptionValues options, Providers providers) {
@@ -903,6 +1004,8 @@ public class PTXGPUReduceSnippets implements Snippets {
             } else if (value instanceof PTXIntBinaryIntrinsicNode) {
                 PTXIntBinaryIntrinsicNode op = (PTXIntBinaryIntrinsicNode) value;
                 snippet = getSnippetFromOCLBinaryNodeInteger(op, extra);
+            } else if (ReduceBitwiseOperation.isBitwise(value)) {
+                snippet = (extra == null) ? snippet(partialReduceIntBitwiseSnippet) : snippet(partialReduceIntBitwiseSnippetCarrierValue);
             } else {
                 throw new RuntimeException("Reduce Operation no supported yet: snippet not installed");
             }
@@ -919,6 +1022,8 @@ public class PTXGPUReduceSnippets implements Snippets {
             } else if (value instanceof PTXIntBinaryIntrinsicNode) {
                 PTXIntBinaryIntrinsicNode op = (PTXIntBinaryIntrinsicNode) value;
                 snippet = getSnippetFromOCLBinaryNodeLong(op, extra);
+            } else if (ReduceBitwiseOperation.isBitwise(value)) {
+                snippet = (extra == null) ? snippet(partialReduceLongBitwiseSnippet) : snippet(partialReduceLongBitwiseSnippetCarrierValue);
             } else {
                 throw new RuntimeException("Reduce Operation no supported yet: snippet not installed");
             }
@@ -1012,6 +1117,9 @@ public class PTXGPUReduceSnippets implements Snippets {
             if (extra != null) {
                 args.add("value", extra);
             }
+            if (ReduceBitwiseOperation.isBitwise(value)) {
+                args.addConst("operation", ReduceBitwiseOperation.of(value));
+            }
 
             template(tool, storeAtomicIndexed, args).instantiate(tool.getMetaAccess(), storeAtomicIndexed, SnippetTemplate.DEFAULT_REPLACER, args);
         }
@@ -1036,6 +1144,9 @@ public class PTXGPUReduceSnippets implements Snippets {
             if (extra != null) {
                 args.add("value", extra);
             }
+            if (ReduceBitwiseOperation.isBitwise(value)) {
+                args.addConst("operation", ReduceBitwiseOperation.of(value));
+            }
 
             template(tool, writeAtomicNode, args).instantiate(tool.getMetaAccess(), writeAtomicNode, SnippetTemplate.DEFAULT_REPLACER, args);
         }
@@ -352,8 +352,9 @@ public class PTXTornadoDevice implements TornadoXPUDevice {
         if (!state.hasObjectBuffer() || !state.isLockedBuffer()) {
             TornadoInternalError.guarantee(state.isAtomicRegionPresent() || !state.hasObjectBuffer() || batchSize != 0, "A device memory leak might be occurring.");
             buffer = createDeviceBuffer(object.getClass(), object, batchSize, access);
-            state.setXPUBuffer(buffer);
             buffer.allocate(object, batchSize, access);
+            // The state keeps its previous buffer if the allocation fails, so it can be retried
+            state.setXPUBuffer(buffer);
         } else {
             buffer = state.getXPUBuffer();
             if (batchSize != 0) {
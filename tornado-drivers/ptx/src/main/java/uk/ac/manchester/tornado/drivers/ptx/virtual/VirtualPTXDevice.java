@@ -0,0 +1,66 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.drivers.ptx.virtual;
+
+import uk.ac.manchester.tornado.drivers.common.virtual.VirtualDeviceProperties;
+import uk.ac.manchester.tornado.drivers.ptx.PTXContext;
+import uk.ac.manchester.tornado.drivers.ptx.PTXDevice;
+
+/**
+ * PTX device described by a JSON file instead of being queried from the CUDA
+ * driver. The compute capability of the descriptor selects the target
+ * architecture of the generated PTX code.
+ */
+public class VirtualPTXDevice extends PTXDevice {
+
+    private final boolean doubleFPSupport;
+    private final boolean halfFPSupport;
+    private final String deviceExtensions;
+    private final VirtualPTXContext context;
+
+    public VirtualPTXDevice(int deviceIndex, VirtualDeviceProperties properties) {
+        super(deviceIndex, properties);
+        this.doubleFPSupport = properties.getDoubleFPSupport();
+        this.halfFPSupport = properties.getHalfFPSupport();
+        this.deviceExtensions = properties.getDeviceExtensions();
+        this.context = new VirtualPTXContext(this);
+    }
+
+    public boolean isDeviceDoubleFPSupported() {
+        return doubleFPSupport;
+    }
+
+    public boolean isDeviceHalfFPSupported() {
+        return halfFPSupport;
+    }
+
+    public String getDeviceExtensions() {
+        return deviceExtensions;
+    }
+
+    @Override
+    public PTXContext getPTXContext() {
+        return context;
+    }
+}
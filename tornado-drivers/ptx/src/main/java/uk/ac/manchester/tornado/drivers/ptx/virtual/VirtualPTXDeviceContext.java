@@ -0,0 +1,98 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.drivers.ptx.virtual;
+
+import uk.ac.manchester.tornado.drivers.ptx.PTXDeviceContext;
+import uk.ac.manchester.tornado.drivers.ptx.graal.compiler.PTXCompilationResult;
+import uk.ac.manchester.tornado.drivers.ptx.runtime.PTXTornadoDevice;
+import uk.ac.manchester.tornado.runtime.common.TornadoInstalledCode;
+import uk.ac.manchester.tornado.runtime.tasks.meta.TaskDataContext;
+
+/**
+ * Device context of a {@link VirtualPTXDevice}. There are no CUDA streams
+ * attached to it: the synchronisation operations are no-ops, and code is never
+ * installed.
+ */
+public class VirtualPTXDeviceContext extends PTXDeviceContext {
+
+    private final VirtualPTXDevice device;
+
+    public VirtualPTXDeviceContext(VirtualPTXDevice device) {
+        super(device);
+        this.device = device;
+    }
+
+    @Override
+    public boolean isFP64Supported() {
+        return device.isDeviceDoubleFPSupported();
+    }
+
+    @Override
+    public PTXTornadoDevice toDevice() {
+        return new VirtualPTXTornadoDevice(device.getDeviceIndex());
+    }
+
+    @Override
+    public TornadoInstalledCode installCode(TaskDataContext taskMeta, long executionPlanId, PTXCompilationResult result, String resolvedMethodName) {
+        return null;
+    }
+
+    @Override
+    public TornadoInstalledCode installCode(TaskDataContext taskMeta, long executionPlanId, String name, byte[] code, String resolvedMethodName, boolean printKernel) {
+        return null;
+    }
+
+    @Override
+    public void sync(long executionPlanId) {
+    }
+
+    @Override
+    public void syncIfNeeded(long executionPlanId) {
+    }
+
+    @Override
+    public void flush(long executionPlanId) {
+    }
+
+    @Override
+    public void flushEvents(long executionPlanId) {
+    }
+
+    @Override
+    public void flushEventsIfNeeded(long executionPlanId) {
+    }
+
+    @Override
+    public void destroyStream(long executionPlanId) {
+    }
+
+    @Override
+    public void dumpEvents(long executionPlanId) {
+    }
+
+    @Override
+    public long getPowerUsage() {
+        return 0;
+    }
+}
@@ -30,6 +30,7 @@ import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import uk.ac.manchester.tornado.api.exceptions.TornadoRuntimeException;
+import uk.ac.manchester.tornado.drivers.spirv.virtual.VirtualSPIRVDriver;
 import uk.ac.manchester.tornado.runtime.common.TornadoOptions;
 
 /**
@@ -75,8 +76,14 @@ public class SPIRVRuntimeImpl {
 
     private synchronized void init() {
         if (platforms == null) {
-            String[] listOfRuntimes = TornadoOptions.SPIRV_INSTALLED_RUNTIMES.split(",");
-            List<SPIRVDispatcher> dispatchers = Arrays.stream(listOfRuntimes).map(this::instantiateDispatcher).toList();
+            List<SPIRVDispatcher> dispatchers;
+            if (TornadoOptions.VIRTUAL_DEVICE_ENABLED) {
+                // Compile-only device described by -Dtornado.device.desc. No runtime library is loaded.
+                dispatchers = List.of(new VirtualSPIRVDriver());
+            } else {
+                String[] listOfRuntimes = TornadoOptions.SPIRV_INSTALLED_RUNTIMES.split(",");
+                dispatchers = Arrays.stream(listOfRuntimes).map(this::instantiateDispatcher).toList();
+            }
 
             platforms = new ArrayList<>();
             for (SPIRVDispatcher dispatcher : dispatchers) {
@@ -107,7 +107,7 @@ public class SPIRVLowTier extends TornadoLowTier {
 
         appendPhase(new SchedulePhase(SchedulePhase.SchedulingStrategy.LATEST_OUT_OF_LOOPS));
 
-        if (TornadoOptions.FEATURE_EXTRACTION) {
+        if (TornadoOptions.isCodeFeatureExtractionEnabled()) {
             appendPhase(new TornadoFeatureExtraction(deviceContext));
         }
 
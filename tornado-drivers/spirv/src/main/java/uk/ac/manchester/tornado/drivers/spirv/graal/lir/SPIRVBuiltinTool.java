@@ -129,6 +129,36 @@ public class SPIRVBuiltinTool {
         return new SPIRVUnary.Intrinsic(SPIRVUnary.Intrinsic.OpenCLExtendedIntrinsic.EXP, LIRKind.value(input.getPlatformKind()), input);
     }
 
+    public Value genFloatNativeExp(Value input) {
+        Logger.traceBuildLIR(Logger.BACKEND.SPIRV, "gen: native_exp(%s)", input);
+        return new SPIRVUnary.Intrinsic(SPIRVUnary.Intrinsic.OpenCLExtendedIntrinsic.NATIVE_EXP, LIRKind.value(input.getPlatformKind()), input);
+    }
+
+    public Value genFloatHalfExp(Value input) {
+        Logger.traceBuildLIR(Logger.BACKEND.SPIRV, "gen: half_exp(%s)", input);
+        return new SPIRVUnary.Intrinsic(SPIRVUnary.Intrinsic.OpenCLExtendedIntrinsic.HALF_EXP, LIRKind.value(input.getPlatformKind()), input);
+    }
+
+    public Value genFloatNativeLog(Value input) {
+        Logger.traceBuildLIR(Logger.BACKEND.SPIRV, "gen: native_log(%s)", input);
+        return new SPIRVUnary.Intrinsic(SPIRVUnary.Intrinsic.OpenCLExtendedIntrinsic.NATIVE_LOG, LIRKind.value(input.getPlatformKind()), input);
+    }
+
+    public Value genFloatHalfLog(Value input) {
+        Logger.traceBuildLIR(Logger.BACKEND.SPIRV, "gen: half_log(%s)", input);
+        return new SPIRVUnary.Intrinsic(SPIRVUnary.Intrinsic.OpenCLExtendedIntrinsic.HALF_LOG, LIRKind.value(input.getPlatformKind()), input);
+    }
+
+    public Value genFloatNativeRSqrt(Value input) {
+        Logger.traceBuildLIR(Logger.BACKEND.SPIRV, "gen: native_rsqrt(%s)", input);
+        return new SPIRVUnary.Intrinsic(SPIRVUnary.Intrinsic.OpenCLExtendedIntrinsic.NATIVE_RSQRT, LIRKind.value(input.getPlatformKind()), input);
+    }
+
+    public Value genFloatHalfRSqrt(Value input) {
+        Logger.traceBuildLIR(Logger.BACKEND.SPIRV, "gen: half_rsqrt(%s)", input);
+        return new SPIRVUnary.Intrinsic(SPIRVUnary.Intrinsic.OpenCLExtendedIntrinsic.HALF_RSQRT, LIRKind.value(input.getPlatformKind()), input);
+    }
+
     public Value generateSign(Value input) {
         Logger.traceBuildLIR(Logger.BACKEND.SPIRV, "gen: sign(%s)", input);
         return new SPIRVUnary.Intrinsic(SPIRVUnary.Intrinsic.OpenCLExtendedIntrinsic.SIGN, LIRKind.value(input.getPlatformKind()), input);
@@ -1040,7 +1040,13 @@ public class SPIRVUnary {
             SQRT("sqrt", 61),
             TAN("tan", 62),
             TANH("tanh", 63),
+            HALF_EXP("half_exp", 69),  // Optimization
+            HALF_LOG("half_log", 72),  // Optimization
+            HALF_RSQRT("half_rsqrt", 77),  // Optimization
             NATIVE_COS("native_cos", 81),  // Optimization
+            NATIVE_EXP("native_exp", 83),  // Optimization
+            NATIVE_LOG("native_log", 86),  // Optimization
+            NATIVE_RSQRT("native_rsqrt", 91),  // Optimization
             NATIVE_SIN("native_sin", 92),  // Optimization
             NATIVE_SQRT("native_sqrt", 93),  // Optimization
             NATIVE_TAN("native_tan", 94),  // Optimization
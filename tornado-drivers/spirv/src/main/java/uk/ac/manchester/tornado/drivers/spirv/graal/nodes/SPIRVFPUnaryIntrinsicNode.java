@@ -106,10 +106,11 @@ public class SPIRVFPUnaryIntrinsicNode extends UnaryNode implements ArithmeticLI
             case ASIN -> Math.asin(value);
             case ASINH -> computeAsinh(value);
             case FABS -> Math.abs(value);
-            case EXP -> Math.exp(value);
+            case EXP, NATIVE_EXP, HALF_EXP -> Math.exp(value);
             case SQRT -> Math.sqrt(value);
             case FLOOR -> Math.floor(value);
-            case LOG -> Math.log(value);
+            case LOG, NATIVE_LOG, HALF_LOG -> Math.log(value);
+            case NATIVE_RSQRT, HALF_RSQRT -> 1.0 / Math.sqrt(value);
             case COS -> Math.cos(value);
             case SIN -> Math.sin(value);
             case TAN -> Math.tan(value);
@@ -124,10 +125,11 @@ public class SPIRVFPUnaryIntrinsicNode extends UnaryNode implements ArithmeticLI
             case ASIN -> (float) Math.asin(value);
             case ASINH -> computeAsinh(value);
             case FABS -> Math.abs(value);
-            case EXP -> (float) Math.exp(value);
+            case EXP, NATIVE_EXP, HALF_EXP -> (float) Math.exp(value);
             case SQRT -> (float) Math.sqrt(value);
             case FLOOR -> (float) Math.floor(value);
-            case LOG -> (float) Math.log(value);
+            case LOG, NATIVE_LOG, HALF_LOG -> (float) Math.log(value);
+            case NATIVE_RSQRT, HALF_RSQRT -> (float) (1.0 / Math.sqrt(value));
             case COS -> (float) Math.cos(value);
             case SIN -> (float) Math.sin(value);
             case TAN -> (float) Math.tan(value);
@@ -181,6 +183,12 @@ public class SPIRVFPUnaryIntrinsicNode extends UnaryNode implements ArithmeticLI
             case RADIANS -> gen.genFloatRadians(input);
             case COSPI -> gen.genFloatCospi(input);
             case SINPI -> gen.genFloatSinpi(input);
+            case NATIVE_EXP -> gen.genFloatNativeExp(input);
+            case NATIVE_LOG -> gen.genFloatNativeLog(input);
+            case NATIVE_RSQRT -> gen.genFloatNativeRSqrt(input);
+            case HALF_EXP -> gen.genFloatHalfExp(input);
+            case HALF_LOG -> gen.genFloatHalfLog(input);
+            case HALF_RSQRT -> gen.genFloatHalfRSqrt(input);
             default -> throw new RuntimeException("Operation not supported");
         };
         Variable assignResult = builder.getLIRGeneratorTool().newVariable(result.getValueKind());
@@ -234,7 +242,13 @@ public class SPIRVFPUnaryIntrinsicNode extends UnaryNode implements ArithmeticLI
         TANH,
         TANPI,
         TGAMMA,
-        TRUNC
+        TRUNC,
+        NATIVE_EXP,
+        NATIVE_LOG,
+        NATIVE_RSQRT,
+        HALF_EXP,
+        HALF_LOG,
+        HALF_RSQRT
     }
     //@formatter:on
 
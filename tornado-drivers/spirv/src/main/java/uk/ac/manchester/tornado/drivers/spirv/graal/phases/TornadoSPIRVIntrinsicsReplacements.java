@@ -43,7 +43,10 @@ import jdk.vm.ci.meta.JavaKind;
 import jdk.vm.ci.meta.MetaAccessProvider;
 import jdk.vm.ci.meta.PrimitiveConstant;
 import jdk.vm.ci.meta.ResolvedJavaType;
+import uk.ac.manchester.tornado.api.enums.MathFunction;
+import uk.ac.manchester.tornado.api.enums.MathPrecision;
 import uk.ac.manchester.tornado.api.exceptions.TornadoRuntimeException;
+import uk.ac.manchester.tornado.drivers.common.compiler.phases.utils.MathPolicyReplacements;
 import uk.ac.manchester.tornado.drivers.spirv.graal.SPIRVArchitecture;
 import uk.ac.manchester.tornado.drivers.spirv.graal.SPIRVLoweringProvider;
 import uk.ac.manchester.tornado.drivers.spirv.graal.nodes.FixedArrayNode;
@@ -54,6 +57,7 @@ import uk.ac.manchester.tornado.drivers.spirv.graal.nodes.LocalArrayNode;
 import uk.ac.manchester.tornado.drivers.spirv.graal.nodes.LocalGroupSizeNode;
 import uk.ac.manchester.tornado.drivers.spirv.graal.nodes.LocalThreadIdFixedNode;
 import uk.ac.manchester.tornado.drivers.spirv.graal.nodes.SPIRVBarrierNode;
+import uk.ac.manchester.tornado.drivers.spirv.graal.nodes.SPIRVFPUnaryIntrinsicNode;
 import uk.ac.manchester.tornado.runtime.graal.phases.TornadoHighTierContext;
 
 public class TornadoSPIRVIntrinsicsReplacements extends BasePhase<TornadoHighTierContext> {
@@ -131,6 +135,20 @@ public class TornadoSPIRVIntrinsicsReplacements extends BasePhase<TornadoHighTie
                 }
             }
         }
+
+        MathPolicyReplacements.apply(graph, context, TornadoSPIRVIntrinsicsReplacements::createMathIntrinsic);
+    }
+
+    private static ValueNode createMathIntrinsic(ValueNode input, MathFunction function, MathPrecision precision) {
+        boolean half = precision == MathPrecision.HALF;
+        SPIRVFPUnaryIntrinsicNode.SPIRVUnaryOperation operation = switch (function) {
+            case EXP -> half ? SPIRVFPUnaryIntrinsicNode.SPIRVUnaryOperation.HALF_EXP : SPIRVFPUnaryIntrinsicNode.SPIRVUnaryOperation.NATIVE_EXP;
+            case LOG -> half ? SPIRVFPUnaryIntrinsicNode.SPIRVUnaryOperation.HALF_LOG : SPIRVFPUnaryIntrinsicNode.SPIRVUnaryOperation.NATIVE_LOG;
+            case RSQRT -> half ? SPIRVFPUnaryIntrinsicNode.SPIRVUnaryOperation.HALF_RSQRT : SPIRVFPUnaryIntrinsicNode.SPIRVUnaryOperation.NATIVE_RSQRT;
+            // The OpenCL extended instruction set does not have native_tanh: it is expressed with native_exp
+            case TANH -> null;
+        };
+        return (operation == null) ? null : SPIRVFPUnaryIntrinsicNode.create(input, operation, JavaKind.Float);
     }
 
     private void lowerLocalInvokeNodeNewArray(StructuredGraph graph, int length, JavaKind elementKind, InvokeNode invokeWithNewArray) {
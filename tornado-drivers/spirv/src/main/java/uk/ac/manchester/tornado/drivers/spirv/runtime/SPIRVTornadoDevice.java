@@ -362,8 +362,9 @@ public class SPIRVTornadoDevice implements TornadoXPUDevice {
         final XPUBuffer buffer;
         TornadoInternalError.guarantee(state.isAtomicRegionPresent() || !state.hasObjectBuffer() || batchSize != 0, "A device memory leak might be occurring.");
         buffer = createDeviceBuffer(object.getClass(), object, getDeviceContext(), batchSize, access);
-        state.setXPUBuffer(buffer);
         buffer.allocate(object, batchSize, access);
+        // The state keeps its previous buffer if the allocation fails, so it can be retried
+        state.setXPUBuffer(buffer);
         return buffer;
     }
 
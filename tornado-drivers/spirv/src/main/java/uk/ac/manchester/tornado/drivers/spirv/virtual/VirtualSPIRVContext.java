@@ -0,0 +1,208 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.drivers.spirv.virtual;
+
+import static uk.ac.manchester.tornado.api.exceptions.TornadoInternalError.unimplemented;
+
+import java.util.List;
+
+import uk.ac.manchester.tornado.api.common.Access;
+import uk.ac.manchester.tornado.drivers.common.CommandQueue;
+import uk.ac.manchester.tornado.drivers.opencl.OCLContextInterface;
+import uk.ac.manchester.tornado.drivers.opencl.OCLEventPool;
+import uk.ac.manchester.tornado.drivers.spirv.ProfilerTransfer;
+import uk.ac.manchester.tornado.drivers.spirv.SPIRVContext;
+import uk.ac.manchester.tornado.drivers.spirv.SPIRVDevice;
+import uk.ac.manchester.tornado.drivers.spirv.SPIRVDeviceContext;
+import uk.ac.manchester.tornado.drivers.spirv.SPIRVPlatform;
+
+/**
+ * Context of the virtual SPIR-V platform. It has no command queues and no
+ * memory: data operations are not supported.
+ */
+public class VirtualSPIRVContext extends SPIRVContext {
+
+    private final List<SPIRVDeviceContext> deviceContexts;
+
+    public VirtualSPIRVContext(SPIRVPlatform platform, List<SPIRVDevice> devices) {
+        super(platform, devices);
+        deviceContexts = devices.stream().map(device -> {
+            SPIRVDeviceContext deviceContext = new VirtualSPIRVDeviceContext(device, this);
+            device.setDeviceContext(deviceContext);
+            return deviceContext;
+        }).toList();
+    }
+
+    @Override
+    public SPIRVDeviceContext getDeviceContext(int deviceIndex) {
+        return deviceContexts.get(deviceIndex);
+    }
+
+    @Override
+    public CommandQueue getCommandQueueForDevice(long executionPlanId, int deviceIndex) {
+        return null;
+    }
+
+    @Override
+    public OCLContextInterface getOpenCLLayer() {
+        return null;
+    }
+
+    @Override
+    public OCLEventPool getOCLEventPool(long executionPlanId) {
+        return null;
+    }
+
+    @Override
+    public long allocateMemory(int deviceIndex, long numBytes, Access access) {
+        unimplemented();
+        return -1;
+    }
+
+    @Override
+    public void freeMemory(long buffer, int deviceIndex) {
+    }
+
+    @Override
+    public int readBuffer(long executionPlanId, int deviceIndex, long bufferId, long offset, long bytes, byte[] value, long hostOffset, int[] waitEvents, ProfilerTransfer profilerTransfer) {
+        unimplemented();
+        return -1;
+    }
+
+    @Override
+    public int readBuffer(long executionPlanId, int deviceIndex, long bufferId, long offset, long bytes, char[] value, long hostOffset, int[] waitEvents, ProfilerTransfer profilerTransfer) {
+        unimplemented();
+        return -1;
+    }
+
+    @Override
+    public int readBuffer(long executionPlanId, int deviceIndex, long bufferId, long offset, long bytes, short[] value, long hostOffset, int[] waitEvents, ProfilerTransfer profilerTransfer) {
+        unimplemented();
+        return -1;
+    }
+
+    @Override
+    public int readBuffer(long executionPlanId, int deviceIndex, long bufferId, long offset, long bytes, int[] value, long hostOffset, int[] waitEvents, ProfilerTransfer profilerTransfer) {
+        unimplemented();
+        return -1;
+    }
+
+    @Override
+    public int readBuffer(long executionPlanId, int deviceIndex, long bufferId, long offset, long bytes, float[] value, long hostOffset, int[] waitEvents, ProfilerTransfer profilerTransfer) {
+        unimplemented();
+        return -1;
+    }
+
+    @Override
+    public int readBuffer(long executionPlanId, int deviceIndex, long bufferId, long offset, long bytes, double[] value, long hostOffset, int[] waitEvents, ProfilerTransfer profilerTransfer) {
+        unimplemented();
+        return -1;
+    }
+
+    @Override
+    public int readBuffer(long executionPlanId, int deviceIndex, long bufferId, long offset, long bytes, long[] value, long hostOffset, int[] waitEvents, ProfilerTransfer profilerTransfer) {
+        unimplemented();
+        return -1;
+    }
+
+    @Override
+    public int enqueueWriteBuffer(long executionPlanId, int deviceIndex, long bufferId, long offset, long bytes, byte[] value, long hostOffset, int[] waitEvents,
+            ProfilerTransfer profilerTransfer) {
+        unimplemented();
+        return -1;
+    }
+
+    @Override
+    public int enqueueWriteBuffer(long executionPlanId, int deviceIndex, long bufferId, long offset, long bytes, char[] value, long hostOffset, int[] waitEvents,
+            ProfilerTransfer profilerTransfer) {
+        unimplemented();
+        return -1;
+    }
+
+    @Override
+    public int enqueueWriteBuffer(long executionPlanId, int deviceIndex, long bufferId, long offset, long bytes, short[] value, long hostOffset, int[] waitEvents,
+            ProfilerTransfer profilerTransfer) {
+        unimplemented();
+        return -1;
+    }
+
+    @Override
+    public int enqueueWriteBuffer(long executionPlanId, int deviceIndex, long bufferId, long offset, long bytes, int[] value, long hostOffset, int[] waitEvents,
+            ProfilerTransfer profilerTransfer) {
+        unimplemented();
+        return -1;
+    }
+
+    @Override
+    public int enqueueWriteBuffer(long executionPlanId, int deviceIndex, long bufferId, long offset, long bytes, float[] value, long hostOffset, int[] waitEvents,
+            ProfilerTransfer profilerTransfer) {
+        unimplemented();
+        return -1;
+    }
+
+    @Override
+    public int enqueueWriteBuffer(long executionPlanId, int deviceIndex, long bufferId, long offset, long bytes, double[] value, long hostOffset, int[] waitEvents,
+            ProfilerTransfer profilerTransfer) {
+        unimplemented();
+        return -1;
+    }
+
+    @Override
+    public int enqueueWriteBuffer(long executionPlanId, int deviceIndex, long bufferId, long offset, long bytes, long[] value, long hostOffset, int[] waitEvents,
+            ProfilerTransfer profilerTransfer) {
+        unimplemented();
+        return -1;
+    }
+
+    @Override
+    public int enqueueWriteBuffer(long executionPlanId, int deviceIndex, long bufferId, long offset, long bytes, long value, long hostOffset, int[] waitEvents,
+            ProfilerTransfer profilerTransfer) {
+        unimplemented();
+        return -1;
+    }
+
+    @Override
+    public void enqueueBarrier(long executionPlanId, int deviceIndex) {
+    }
+
+    @Override
+    public void flush(long executionPlanId, int deviceIndex) {
+    }
+
+    @Override
+    public void readBuffer(long executionPlanId, int deviceIndex, long bufferId, long offset, long bytes, long offHeapSegmentAddress, long hostOffset, int[] waitEvents,
+            ProfilerTransfer profilerTransfer) {
+        unimplemented();
+    }
+
+    @Override
+    public void reset(long executionPlanId, int deviceIndex) {
+    }
+
+    @Override
+    public long mapOnDeviceMemoryRegion(long executionPlanId, int deviceIndex, long destBuffer, long srcBuffer, long offset, int sizeOfType, long sizeSource, long sizeDest) {
+        unimplemented();
+        return -1;
+    }
+}
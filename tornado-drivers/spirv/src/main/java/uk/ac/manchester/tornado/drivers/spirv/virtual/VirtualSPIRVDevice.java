@@ -0,0 +1,179 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.drivers.spirv.virtual;
+
+import java.nio.ByteOrder;
+
+import uk.ac.manchester.tornado.api.enums.TornadoDeviceType;
+import uk.ac.manchester.tornado.drivers.common.virtual.VirtualDeviceProperties;
+import uk.ac.manchester.tornado.drivers.spirv.SPIRVDevice;
+import uk.ac.manchester.tornado.drivers.spirv.SPIRVRuntimeType;
+
+/**
+ * SPIR-V device described by a JSON file. The FP64 and FP16 support of the
+ * descriptor enable the corresponding SPIR-V capabilities in the generated
+ * modules.
+ */
+public class VirtualSPIRVDevice extends SPIRVDevice {
+
+    private static final String FP16_EXTENSION = "cl_khr_fp16";
+
+    private final String name;
+    private final boolean doubleFPSupport;
+    private final String deviceExtensions;
+    private final long[] maxWorkItemSizes;
+    private final long localMemorySize;
+    private final int availableProcessors;
+    private final TornadoDeviceType deviceType;
+
+    public VirtualSPIRVDevice(int platformIndex, int deviceIndex, VirtualDeviceProperties properties) {
+        super(platformIndex, deviceIndex);
+        this.name = properties.getDeviceName();
+        this.doubleFPSupport = properties.getDoubleFPSupport();
+        this.maxWorkItemSizes = properties.getMaxWorkItemSizes();
+        this.localMemorySize = properties.getLocalMemorySize();
+        this.availableProcessors = properties.getAvailableProcessors();
+        this.deviceType = properties.getTornadoDeviceType();
+        String extensions = properties.getDeviceExtensions();
+        if (properties.getHalfFPSupport() && !extensions.contains(FP16_EXTENSION)) {
+            extensions = extensions.isEmpty() ? FP16_EXTENSION : extensions + "," + FP16_EXTENSION;
+        }
+        this.deviceExtensions = extensions;
+    }
+
+    @Override
+    public boolean isDeviceDoubleFPSupported() {
+        return doubleFPSupport;
+    }
+
+    @Override
+    public String getDeviceExtensions() {
+        return deviceExtensions;
+    }
+
+    @Override
+    public ByteOrder getByteOrder() {
+        return ByteOrder.LITTLE_ENDIAN;
+    }
+
+    @Override
+    public String getName() {
+        return "SPIRV Virtual - " + name;
+    }
+
+    @Override
+    public Object getDeviceRuntime() {
+        return null;
+    }
+
+    @Override
+    public String getDeviceName() {
+        return name;
+    }
+
+    @Override
+    public long getDeviceGlobalMemorySize() {
+        return VirtualDeviceProperties.UNKNOWN;
+    }
+
+    @Override
+    public long getDeviceLocalMemorySize() {
+        return localMemorySize;
+    }
+
+    @Override
+    public int getDeviceMaxComputeUnits() {
+        return availableProcessors;
+    }
+
+    @Override
+    public long[] getDeviceMaxWorkItemSizes() {
+        return maxWorkItemSizes;
+    }
+
+    @Override
+    public long[] getDeviceMaxWorkGroupSize() {
+        return maxWorkItemSizes;
+    }
+
+    @Override
+    public int getMaxThreadsPerBlock() {
+        return (int) maxWorkItemSizes[0];
+    }
+
+    @Override
+    public int getDeviceMaxClockFrequency() {
+        return VirtualDeviceProperties.UNKNOWN;
+    }
+
+    @Override
+    public long getDeviceMaxConstantBufferSize() {
+        return VirtualDeviceProperties.UNKNOWN;
+    }
+
+    @Override
+    public long getDeviceMaxAllocationSize() {
+        return VirtualDeviceProperties.UNKNOWN;
+    }
+
+    @Override
+    public String getDeviceInfo() {
+        return name;
+    }
+
+    @Override
+    public long[] getDeviceMaxWorkgroupDimensions() {
+        return maxWorkItemSizes;
+    }
+
+    @Override
+    public String getDeviceOpenCLCVersion() {
+        return "N/A";
+    }
+
+    @Override
+    public long getMaxAllocMemory() {
+        return VirtualDeviceProperties.UNKNOWN;
+    }
+
+    @Override
+    public TornadoDeviceType getTornadoDeviceType() {
+        return deviceType;
+    }
+
+    @Override
+    public String getPlatformName() {
+        return "SPIRV Virtual Platform";
+    }
+
+    @Override
+    public boolean isSPIRVSupported() {
+        return true;
+    }
+
+    @Override
+    public SPIRVRuntimeType getSPIRVRuntime() {
+        return SPIRVRuntimeType.OPENCL;
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.drivers.spirv.virtual;
+
+import java.util.List;
+
+import uk.ac.manchester.tornado.drivers.common.virtual.VirtualDeviceProperties;
+import uk.ac.manchester.tornado.drivers.spirv.SPIRVContext;
+import uk.ac.manchester.tornado.drivers.spirv.SPIRVDevice;
+import uk.ac.manchester.tornado.drivers.spirv.SPIRVPlatform;
+import uk.ac.manchester.tornado.drivers.spirv.SPIRVRuntimeType;
+
+public class VirtualSPIRVPlatform implements SPIRVPlatform {
+
+    private final SPIRVDevice device;
+    private VirtualSPIRVContext context;
+
+    public VirtualSPIRVPlatform(VirtualDeviceProperties properties) {
+        this.device = new VirtualSPIRVDevice(0, 0, properties);
+    }
+
+    @Override
+    public int getNumDevices() {
+        return 1;
+    }
+
+    @Override
+    public SPIRVDevice getDevice(int deviceIndex) {
+        return device;
+    }
+
+    @Override
+    public SPIRVContext createContext() {
+        if (context == null) {
+            context = new VirtualSPIRVContext(this, List.of(device));
+        }
+        return context;
+    }
+
+    @Override
+    public SPIRVDevice[] getDevices() {
+        return new SPIRVDevice[] { device };
+    }
+
+    @Override
+    public SPIRVRuntimeType getRuntime() {
+        return SPIRVRuntimeType.OPENCL;
+    }
+}
@@ -0,0 +1,215 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.drivers.spirv.virtual;
+
+import static uk.ac.manchester.tornado.api.exceptions.TornadoInternalError.unimplemented;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import jdk.vm.ci.meta.ResolvedJavaMethod;
+import uk.ac.manchester.beehivespirvtoolkit.lib.SPIRVTool;
+import uk.ac.manchester.beehivespirvtoolkit.lib.disassembler.Disassembler;
+import uk.ac.manchester.beehivespirvtoolkit.lib.disassembler.SPIRVDisassemblerOptions;
+import uk.ac.manchester.beehivespirvtoolkit.lib.disassembler.SPVFileReader;
+import uk.ac.manchester.tornado.api.common.Access;
+import uk.ac.manchester.tornado.api.common.SchedulableTask;
+import uk.ac.manchester.tornado.api.enums.TornadoVMBackendType;
+import uk.ac.manchester.tornado.api.exceptions.TornadoBailoutRuntimeException;
+import uk.ac.manchester.tornado.api.memory.DeviceBufferState;
+import uk.ac.manchester.tornado.api.profiler.ProfilerType;
+import uk.ac.manchester.tornado.api.profiler.TornadoProfiler;
+import uk.ac.manchester.tornado.drivers.spirv.SPIRVDevice;
+import uk.ac.manchester.tornado.drivers.spirv.graal.SPIRVProviders;
+import uk.ac.manchester.tornado.drivers.spirv.graal.compiler.SPIRVCompilationResult;
+import uk.ac.manchester.tornado.drivers.spirv.graal.compiler.SPIRVCompiler;
+import uk.ac.manchester.tornado.drivers.spirv.runtime.SPIRVTornadoDevice;
+import uk.ac.manchester.tornado.runtime.TornadoCoreRuntime;
+import uk.ac.manchester.tornado.runtime.aot.KernelBundle;
+import uk.ac.manchester.tornado.runtime.common.KernelStackFrame;
+import uk.ac.manchester.tornado.runtime.common.RuntimeUtilities;
+import uk.ac.manchester.tornado.runtime.common.TornadoInstalledCode;
+import uk.ac.manchester.tornado.runtime.common.TornadoLogger;
+import uk.ac.manchester.tornado.runtime.profiler.KernelQualityProfiler;
+import uk.ac.manchester.tornado.runtime.sketcher.Sketch;
+import uk.ac.manchester.tornado.runtime.sketcher.TornadoSketcher;
+import uk.ac.manchester.tornado.runtime.tasks.CompilableTask;
+import uk.ac.manchester.tornado.runtime.tasks.meta.TaskDataContext;
+
+/**
+ * Compile-only SPIR-V device. Tasks are compiled to SPIR-V binaries, which are
+ * dumped ({@code -Dtornado.print.kernel.dir}) and recorded in the kernel bundle
+ * ({@code -Dtornado.aot.output}). Nothing is executed.
+ */
+public class VirtualSPIRVTornadoDevice extends SPIRVTornadoDevice {
+
+    public VirtualSPIRVTornadoDevice(SPIRVDevice device) {
+        super(device);
+    }
+
+    @Override
+    public TornadoInstalledCode installCode(long executionPlanId, SchedulableTask task) {
+        if (!(task instanceof CompilableTask executable)) {
+            // Pre-built SPIR-V binaries are already in their final form
+            return null;
+        }
+        final ResolvedJavaMethod resolvedMethod = TornadoCoreRuntime.getTornadoRuntime().resolveMethod(executable.getMethod());
+        final Sketch sketch = TornadoSketcher.lookup(resolvedMethod, task.meta().getBackendIndex(), task.meta().getDeviceIndex());
+
+        // copy meta data into task
+        final TaskDataContext taskMeta = executable.meta();
+        final Access[] sketchAccess = sketch.getArgumentsAccess();
+        final Access[] taskAccess = taskMeta.getArgumentsAccess();
+        System.arraycopy(sketchAccess, 0, taskAccess, 0, sketchAccess.length);
+
+        try {
+            SPIRVProviders providers = (SPIRVProviders) getBackend().getProviders();
+            TornadoProfiler profiler = task.getProfiler();
+            profiler.start(ProfilerType.TASK_COMPILE_GRAAL_TIME, taskMeta.getId());
+            KernelQualityProfiler.beginCompilation();
+            final long compileStart = System.nanoTime();
+            final SPIRVCompilationResult result = SPIRVCompiler.compileSketchForDevice(sketch, executable, providers, getBackend(), executable.getProfiler());
+            KernelQualityProfiler.endCompilation(TornadoVMBackendType.SPIRV, resolvedMethod, getDeviceName(), result.getSPIRVBinary(), System.nanoTime() - compileStart);
+            profiler.stop(ProfilerType.TASK_COMPILE_GRAAL_TIME, taskMeta.getId());
+            profiler.sum(ProfilerType.TOTAL_GRAAL_COMPILE_TIME, profiler.getTaskTimer(ProfilerType.TASK_COMPILE_GRAAL_TIME, taskMeta.getId()));
+
+            if (taskMeta.isPrintKernelEnabled()) {
+                RuntimeUtilities.dumpKernel(disassemble(result.getSPIRVBinary()));
+            }
+
+            final int dimensions = (taskMeta.getDomain() != null) ? taskMeta.getDomain().getDepth() : 0;
+            // The SPIR-V backend does not generate atomic operations
+            KernelBundle.recordKernel(TornadoVMBackendType.SPIRV, executable, result.getName(), this, taskAccess, dimensions, false, result.getSPIRVBinary());
+            return null;
+        } catch (Exception e) {
+            TornadoLogger tornadoLogger = new TornadoLogger();
+            tornadoLogger.fatal("unable to compile %s for device %s", task.getId(), getDeviceName());
+            tornadoLogger.fatal("exception occurred when compiling %s", executable.getMethod().getName());
+            tornadoLogger.fatal("exception: %s", e.toString());
+            throw new TornadoBailoutRuntimeException("[Error During the Task Compilation] ", e);
+        }
+    }
+
+    /**
+     * Returns the SPIR-V assembly of a binary module, so that the kernels dumped by
+     * the virtual device can be inspected.
+     */
+    private static byte[] disassemble(byte[] binary) throws IOException {
+        Path binaryFile = Files.createTempFile("tornado-virtual-", ".spv");
+        try {
+            Files.write(binaryFile, binary);
+            ByteArrayOutputStream assembly = new ByteArrayOutputStream();
+            try (PrintStream printStream = new PrintStream(assembly)) {
+                SPIRVDisassemblerOptions disassemblerOptions = new SPIRVDisassemblerOptions(true, true, false, true, false);
+                SPIRVTool spirvTool = new Disassembler(new SPVFileReader(binaryFile.toString()), printStream, disassemblerOptions);
+                spirvTool.run();
+            } catch (Exception e) {
+                throw new IOException(e);
+            }
+            return assembly.toByteArray();
+        } finally {
+            Files.deleteIfExists(binaryFile);
+        }
+    }
+
+    @Override
+    public TornadoInstalledCode getCodeFromCache(long executionPlanId, SchedulableTask task) {
+        return null;
+    }
+
+    @Override
+    public KernelStackFrame createKernelStackFrame(long executionPlanId, int numArgs, Access access) {
+        return null;
+    }
+
+    @Override
+    public long allocate(Object object, long batchSize, DeviceBufferState state, Access access) {
+        unimplemented();
+        return -1;
+    }
+
+    @Override
+    public synchronized long allocateObjects(Object[] objects, long batchSize, DeviceBufferState[] states, Access[] accesses) {
+        unimplemented();
+        return -1;
+    }
+
+    @Override
+    public synchronized long deallocate(DeviceBufferState state) {
+        unimplemented();
+        return -1;
+    }
+
+    @Override
+    public List<Integer> ensurePresent(long executionPlanId, Object object, DeviceBufferState state, int[] events, long batchSize, long offset) {
+        unimplemented();
+        return null;
+    }
+
+    @Override
+    public List<Integer> streamIn(long executionPlanId, Object object, long batchSize, long offset, DeviceBufferState state, int[] events) {
+        unimplemented();
+        return null;
+    }
+
+    @Override
+    public int streamOut(long executionPlanId, Object object, long offset, DeviceBufferState state, int[] events) {
+        unimplemented();
+        return -1;
+    }
+
+    @Override
+    public int streamOutBlocking(long executionPlanId, Object object, long hostOffset, DeviceBufferState state, int[] events) {
+        unimplemented();
+        return -1;
+    }
+
+    @Override
+    public void mapDeviceRegion(long executionPlanId, Object destArray, Object srcArray, DeviceBufferState deviceStateSrc, DeviceBufferState deviceStateDest, long offset) {
+        unimplemented();
+    }
+
+    @Override
+    public int enqueueBarrier(long executionPlanId) {
+        return 0;
+    }
+
+    @Override
+    public void flush(long executionPlanId) {
+    }
+
+    @Override
+    public String getDeviceName() {
+        return String.format("virtualSPIRV-%d", getPhysicalDevice().getDeviceIndex());
+    }
+
+    @Override
+    public TornadoVMBackendType getTornadoVMBackend() {
+        return TornadoVMBackendType.VIRTUAL;
+    }
+}
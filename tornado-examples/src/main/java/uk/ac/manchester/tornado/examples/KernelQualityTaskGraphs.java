@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.examples;
+
+import java.util.List;
+
+import uk.ac.manchester.tornado.api.ImmutableTaskGraph;
+import uk.ac.manchester.tornado.api.TaskGraph;
+import uk.ac.manchester.tornado.api.TaskGraphProvider;
+import uk.ac.manchester.tornado.api.enums.DataTransferMode;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.api.types.arrays.IntArray;
+import uk.ac.manchester.tornado.api.types.collections.VectorFloat;
+import uk.ac.manchester.tornado.api.types.matrix.Matrix2DFloat;
+import uk.ac.manchester.tornado.examples.arrays.ArrayAddInt;
+import uk.ac.manchester.tornado.examples.compute.BlackScholes;
+import uk.ac.manchester.tornado.examples.compute.MatrixMultiplication2D;
+import uk.ac.manchester.tornado.examples.compute.MatrixVector;
+import uk.ac.manchester.tornado.examples.compute.MonteCarlo;
+import uk.ac.manchester.tornado.examples.compute.NBody;
+import uk.ac.manchester.tornado.examples.reductions.ReductionAddFloats;
+
+/**
+ * Task-graphs with the kernels of the examples, used to build the
+ * kernel-quality report and kernel bundles without running each example.
+ *
+ * <p>
+ * How to run?
+ * </p>
+ * <code>
+ * tornado --jvm="-Dtornado.virtual.device=True -Dtornado.device.desc=etc/virtual-device-template.json -Dtornado.kernel.quality.report=quality.csv --add-modules tornado.examples"
+ * -m tornado.benchmarks/uk.ac.manchester.tornado.benchmarks.KernelQualityRunner --params "--providers uk.ac.manchester.tornado.examples.KernelQualityTaskGraphs"
+ * </code>
+ */
+public class KernelQualityTaskGraphs implements TaskGraphProvider {
+
+    private static final int SIZE = 256;
+    private static final int MATRIX_SIZE = 64;
+
+    @Override
+    public List<ImmutableTaskGraph> getTaskGraphs() {
+        IntArray a = new IntArray(SIZE);
+        IntArray b = new IntArray(SIZE);
+        IntArray c = new IntArray(SIZE);
+        FloatArray input = new FloatArray(SIZE);
+        FloatArray callPrice = new FloatArray(SIZE);
+        FloatArray putPrice = new FloatArray(SIZE);
+        FloatArray reduction = new FloatArray(1);
+        FloatArray monteCarlo = new FloatArray(SIZE);
+        FloatArray position = new FloatArray(SIZE * 4);
+        FloatArray velocity = new FloatArray(SIZE * 4);
+        Matrix2DFloat matrixA = new Matrix2DFloat(MATRIX_SIZE, MATRIX_SIZE);
+        Matrix2DFloat matrixB = new Matrix2DFloat(MATRIX_SIZE, MATRIX_SIZE);
+        Matrix2DFloat matrixC = new Matrix2DFloat(MATRIX_SIZE, MATRIX_SIZE);
+        VectorFloat vector = new VectorFloat(MATRIX_SIZE);
+        VectorFloat output = new VectorFloat(MATRIX_SIZE);
+
+        TaskGraph arrays = new TaskGraph("arrays") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, a, b) //
+                .task("vectorAdd", VectorAddInt::vectorAdd, a, b, c) //
+                .task("arrayAdd", ArrayAddInt::add, a, b, c) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, c);
+
+        TaskGraph compute = new TaskGraph("compute") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, input, position, velocity) //
+                .task("blackScholes", BlackScholes::blackScholesKernel, input, callPrice, putPrice) //
+                .task("monteCarlo", MonteCarlo::computeMontecarlo, monteCarlo, SIZE) //
+                .task("nBody", NBody::nBody, SIZE, position, velocity, 0.005f, 500.0f) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, callPrice, putPrice, monteCarlo, position, velocity);
+
+        TaskGraph matrices = new TaskGraph("matrices") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, matrixA, matrixB, vector) //
+                .task("mxm", MatrixMultiplication2D::matrixMultiplication, matrixA, matrixB, matrixC, MATRIX_SIZE) //
+                .task("mxv", MatrixVector::computeMatrixVector, matrixA, vector, output) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, matrixC, output);
+
+        TaskGraph reductions = new TaskGraph("reductions") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, input) //
+                .task("reduce", ReductionAddFloats::reductionAddFloats, input, reduction) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, reduction);
+
+        return List.of(arrays.snapshot(), compute.snapshot(), matrices.snapshot(), reductions.snapshot());
+    }
+}
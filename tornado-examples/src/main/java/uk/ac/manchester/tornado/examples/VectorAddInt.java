@@ -35,7 +35,7 @@ import uk.ac.manchester.tornado.api.types.arrays.IntArray;
  */
 public class VectorAddInt {
 
-    private static void vectorAdd(IntArray a, IntArray b, IntArray c) {
+    public static void vectorAdd(IntArray a, IntArray b, IntArray c) {
         for (@Parallel int i = 0; i < c.getSize(); i++) {
             c.set(i, a.get(i) + b.get(i));
         }
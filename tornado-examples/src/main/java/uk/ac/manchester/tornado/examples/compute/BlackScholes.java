@@ -43,7 +43,7 @@ public class BlackScholes {
     // CHECKSTYLE:OFF
     private static final int WARM_UP_ITERATIONS = 1000;
 
-    private static void blackScholesKernel(FloatArray input, FloatArray callResult, FloatArray putResult) {
+    public static void blackScholesKernel(FloatArray input, FloatArray callResult, FloatArray putResult) {
         for (@Parallel int idx = 0; idx < callResult.getSize(); idx++) {
             float rand = input.get(idx);
             final float S_LOWER_LIMIT = 10.0f;
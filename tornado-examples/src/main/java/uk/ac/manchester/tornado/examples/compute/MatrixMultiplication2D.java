@@ -45,7 +45,7 @@ public class MatrixMultiplication2D {
     // CHECKSTYLE:OFF
     private static final int WARMING_UP_ITERATIONS = 100;
 
-    private static void matrixMultiplication(Matrix2DFloat A, Matrix2DFloat B, Matrix2DFloat C, final int size) {
+    public static void matrixMultiplication(Matrix2DFloat A, Matrix2DFloat B, Matrix2DFloat C, final int size) {
         for (@Parallel int i = 0; i < size; i++) {
             for (@Parallel int j = 0; j < size; j++) {
                 float sum = 0.0f;
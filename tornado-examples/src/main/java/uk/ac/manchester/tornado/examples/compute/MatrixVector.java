@@ -60,7 +60,7 @@ public class MatrixVector {
     public static final int WARM_UP_ITERATIONS = 100;
     public static final int MAX_ITERATIONS = 100;
 
-    private static void computeMatrixVector(Matrix2DFloat matrix, VectorFloat vector, VectorFloat output) {
+    public static void computeMatrixVector(Matrix2DFloat matrix, VectorFloat vector, VectorFloat output) {
         for (@Parallel int i = 0; i < matrix.getNumRows(); i++) {
             float sum = 0.0f;
             for (int j = 0; j < matrix.getNumColumns(); j++) {
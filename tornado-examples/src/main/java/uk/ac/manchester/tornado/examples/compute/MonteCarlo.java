@@ -38,7 +38,7 @@ import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
  */
 public class MonteCarlo {
 
-    private static void computeMontecarlo(FloatArray output, final int iterations) {
+    public static void computeMontecarlo(FloatArray output, final int iterations) {
         for (@Parallel int j = 0; j < iterations; j++) {
             long seed = j;
             // generate a pseudo random number (you do need it twice)
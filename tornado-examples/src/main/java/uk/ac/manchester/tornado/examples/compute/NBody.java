@@ -39,7 +39,7 @@ public class NBody {
     // CHECKSTYLE:OFF
     private static boolean VALIDATION = true;
 
-    private static void nBody(int numBodies, FloatArray refPos, FloatArray refVel, float delT, float espSqr) {
+    public static void nBody(int numBodies, FloatArray refPos, FloatArray refVel, float delT, float espSqr) {
         for (@Parallel int i = 0; i < numBodies; i++) {
             int body = 4 * i;
 
@@ -37,6 +37,7 @@ import java.util.Random;
 import uk.ac.manchester.tornado.api.types.arrays.DoubleArray;
 import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
 import uk.ac.manchester.tornado.api.types.arrays.IntArray;
+import uk.ac.manchester.tornado.api.types.sparse.CSRMatrixFloat;
 
 public class SparseMatrixUtils {
 
@@ -163,6 +164,7 @@ public class SparseMatrixUtils {
             nElements = index;
             mat.n = nElements;
             mat.size = nRows;
+            mat.numColumns = nCols;
             mat.vals = new DoubleArray(nElements);
             mat.cols = new IntArray(nElements);
             mat.rows = new IntArray(nRows + 1);
@@ -179,6 +181,10 @@ public class SparseMatrixUtils {
                 mat.vals.set(i, c.val);
                 mat.cols.set(i, c.y);
             }
+            // Trailing empty rows end at the last element
+            while (r < nRows) {
+                mat.rows.set(++r, nElements);
+            }
             coords.clear();
         } catch (final FileNotFoundException e) {
             System.out.printf("Unable to open matrix %s\n", path);
@@ -333,6 +339,7 @@ public class SparseMatrixUtils {
 
         mat.n = nElements;
         mat.size = nRows;
+        mat.numColumns = nCols;
         mat.vals = new FloatArray(nElements);
         mat.cols = new IntArray(nElements);
         mat.rows = new IntArray(nRows + 1);
@@ -352,15 +359,30 @@ public class SparseMatrixUtils {
             mat.vals.set(i, c.val);
             mat.cols.set(i, c.y);
         }
+        // Trailing empty rows end at the last element
+        while (r < nRows) {
+            mat.rows.set(++r, nElements);
+        }
 
         coords.clear();
         return mat;
     }
 
+    /**
+     * Converts a matrix loaded with {@link #loadMatrixF} to a
+     * {@link CSRMatrixFloat}, which can be used with
+     * {@link uk.ac.manchester.tornado.api.primitives.SparsePrimitives} and
+     * converted to the other sparse formats. The arrays are shared.
+     */
+    public static CSRMatrixFloat toCSRMatrixFloat(CSRMatrix<FloatArray> matrix) {
+        return new CSRMatrixFloat(matrix.size, matrix.numColumns, matrix.rows, matrix.cols, matrix.vals);
+    }
+
     public static class CSRMatrix<T> {
 
         public int n;
         public int size;
+        public int numColumns;
         public T vals;
         public IntArray rows;
         public IntArray cols;
@@ -15,9 +15,11 @@ open module tornado.runtime {
 
     exports uk.ac.manchester.tornado.runtime;
     exports uk.ac.manchester.tornado.runtime.analyzer;
+    exports uk.ac.manchester.tornado.runtime.aot;
     exports uk.ac.manchester.tornado.runtime.common;
     exports uk.ac.manchester.tornado.runtime.common.enums;
     exports uk.ac.manchester.tornado.runtime.common.exceptions;
+    exports uk.ac.manchester.tornado.runtime.costmodel;
     exports uk.ac.manchester.tornado.runtime.directives;
     exports uk.ac.manchester.tornado.runtime.domain;
     exports uk.ac.manchester.tornado.runtime.graal;
@@ -0,0 +1,425 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.runtime.aot;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.StringJoiner;
+
+import uk.ac.manchester.tornado.api.common.Access;
+import uk.ac.manchester.tornado.api.common.TornadoDevice;
+import uk.ac.manchester.tornado.api.enums.TornadoVMBackendType;
+import uk.ac.manchester.tornado.api.exceptions.TornadoRuntimeException;
+import uk.ac.manchester.tornado.api.types.HalfFloat;
+import uk.ac.manchester.tornado.runtime.common.RuntimeUtilities;
+import uk.ac.manchester.tornado.runtime.common.TornadoLogger;
+import uk.ac.manchester.tornado.runtime.common.TornadoOptions;
+import uk.ac.manchester.tornado.runtime.tasks.CompilableTask;
+
+/**
+ * A bundle of kernels compiled ahead-of-time. A bundle is a directory with a
+ * manifest ({@value #MANIFEST_FILE}) and one file with the generated code
+ * (OpenCL C, PTX, CUDA C, SPIR-V or Metal) per kernel.
+ *
+ * <p>
+ * Bundles are produced by running the task-graphs on a virtual device with
+ * {@link TornadoOptions#AOT_OUTPUT_DIRECTORY} set (see
+ * {@link TornadoKernelCompiler}), and they are consumed at runtime with
+ * {@link TornadoOptions#AOT_BUNDLE_DIRECTORY}. The backends install the code
+ * from the bundle instead of invoking the Graal compiler, as long as the
+ * device and the specialisation of the task match the ones recorded in the
+ * bundle. Otherwise, the task is compiled at runtime.
+ * </p>
+ *
+ * <p>
+ * Kernels are specialised with the arguments of the task: scalar arguments and
+ * array sizes become constants of the generated code. Therefore, a kernel is
+ * only installed for a task with the same scalar values and array sizes as the
+ * ones used to compile the bundle.
+ * </p>
+ */
+public final class KernelBundle {
+
+    public static final int FORMAT_VERSION = 3;
+    public static final String MANIFEST_FILE = "bundle.properties";
+
+    private static final String VERSION_KEY = "bundle.version";
+    private static final String NUM_KERNELS_KEY = "bundle.kernels";
+    private static final String KERNEL_PREFIX = "kernel.";
+    private static final int MAX_SPECIALISATION_DEPTH = 4;
+
+    private static KernelBundle runtimeBundle;
+    private static KernelBundle outputBundle;
+
+    private final Path directory;
+    private final Map<String, KernelBundleEntry> entries;
+    private final TornadoLogger logger;
+
+    KernelBundle(Path directory) {
+        this.directory = directory;
+        this.entries = new LinkedHashMap<>();
+        this.logger = new TornadoLogger(KernelBundle.class);
+    }
+
+    /**
+     * Returns the bundle loaded from {@link TornadoOptions#AOT_BUNDLE_DIRECTORY}.
+     *
+     * @return {@link KernelBundle}, or null if no bundle has been specified.
+     */
+    public static synchronized KernelBundle getRuntimeBundle() {
+        if (runtimeBundle == null && !TornadoOptions.AOT_BUNDLE_DIRECTORY.isEmpty()) {
+            runtimeBundle = load(Paths.get(TornadoOptions.AOT_BUNDLE_DIRECTORY));
+        }
+        return runtimeBundle;
+    }
+
+    /**
+     * Returns the bundle in which kernels compiled by virtual devices are
+     * recorded. The bundle is stored in {@link TornadoOptions#AOT_OUTPUT_DIRECTORY}
+     * on exit.
+     *
+     * @return {@link KernelBundle}, or null if no output directory has been
+     *     specified.
+     */
+    public static synchronized KernelBundle getOutputBundle() {
+        if (outputBundle == null && !TornadoOptions.AOT_OUTPUT_DIRECTORY.isEmpty()) {
+            KernelBundle bundle = new KernelBundle(Paths.get(TornadoOptions.AOT_OUTPUT_DIRECTORY));
+            Runtime.getRuntime().addShutdownHook(new Thread(bundle::store));
+            outputBundle = bundle;
+        }
+        return outputBundle;
+    }
+
+    /**
+     * The key of a method includes its descriptor, so overloaded methods get
+     * different kernels.
+     */
+    public static String getMethodKey(Method method) {
+        MethodType type = MethodType.methodType(method.getReturnType(), method.getParameterTypes());
+        return method.getDeclaringClass().getName() + "." + method.getName() + type.toMethodDescriptorString();
+    }
+
+    /**
+     * Describes the argument values that the task specialisation embeds in a
+     * kernel as constants: the value of scalar arguments, the length of arrays
+     * and the primitive fields of objects, following their final fields (e.g.,
+     * the number of elements of TornadoVM arrays and the size of matrices).
+     *
+     * @param arguments
+     *     Arguments of the task.
+     * @return {@link String} with the description.
+     */
+    public static String getSpecialisation(Object[] arguments) {
+        StringJoiner joiner = new StringJoiner(";");
+        for (Object argument : arguments) {
+            StringBuilder builder = new StringBuilder();
+            describeValue(builder, argument, 0);
+            joiner.add(builder);
+        }
+        return joiner.toString();
+    }
+
+    private static void describeValue(StringBuilder builder, Object value, int depth) {
+        if (value == null) {
+            builder.append("null");
+        } else if (RuntimeUtilities.isBoxedPrimitiveClass(value.getClass())) {
+            builder.append(value);
+        } else if (value instanceof HalfFloat halfFloat) {
+            builder.append(halfFloat.getFloat32());
+        } else if (value.getClass().isArray()) {
+            builder.append('[').append(Array.getLength(value)).append(']');
+        } else {
+            builder.append('{');
+            if (depth < MAX_SPECIALISATION_DEPTH) {
+                describeFields(builder, value, depth);
+            }
+            builder.append('}');
+        }
+    }
+
+    /**
+     * Primitive fields are replaced by constants. Non-final reference fields are
+     * not supported by the specialisation, so they are not followed.
+     */
+    private static void describeFields(StringBuilder builder, Object object, int depth) {
+        for (Class<?> type = object.getClass(); type != null && type != Object.class; type = type.getSuperclass()) {
+            for (Field field : type.getDeclaredFields()) {
+                int modifiers = field.getModifiers();
+                if (Modifier.isStatic(modifiers) || !(field.getType().isPrimitive() || Modifier.isFinal(modifiers)) || !field.trySetAccessible()) {
+                    continue;
+                }
+                builder.append(field.getName()).append('=');
+                try {
+                    describeValue(builder, field.get(object), depth + 1);
+                } catch (IllegalAccessException e) {
+                    throw new TornadoRuntimeException(e);
+                }
+                builder.append(',');
+            }
+        }
+    }
+
+    /**
+     * Looks up the kernel compiled ahead-of-time for a task in the runtime
+     * bundle.
+     *
+     * @param backend
+     *     Backend of the device.
+     * @param task
+     *     {@link CompilableTask} with the Java method and the arguments.
+     * @param device
+     *     Device the kernel is going to be installed on.
+     * @param accesses
+     *     Access of each argument of the task.
+     * @param dimensions
+     *     Number of dimensions of the parallel domain of the task.
+     * @return {@link KernelBundleEntry}, or null if there is no bundle, no kernel
+     *     for the method and backend, or the kernel must be compiled at runtime.
+     */
+    public static KernelBundleEntry lookupKernel(TornadoVMBackendType backend, CompilableTask task, TornadoDevice device, Access[] accesses, int dimensions) {
+        KernelBundle bundle = getRuntimeBundle();
+        if (bundle == null) {
+            return null;
+        }
+        KernelBundleEntry entry = bundle.getEntry(backend, getMethodKey(task.getMethod()));
+        if (entry == null) {
+            return null;
+        }
+        String mismatch = checkCompatibility(entry, device.getDeviceName(), device.getDeviceContext().isFP64Supported(), device.getDeviceLocalMemorySize(), accesses, dimensions,
+                getSpecialisation(task.getArguments()));
+        if (mismatch != null) {
+            bundle.logger.debug("[AOT] Kernel %s compiled at runtime: %s", entry.methodKey(), mismatch);
+            return null;
+        }
+        return entry;
+    }
+
+    /**
+     * Checks if a kernel of the bundle can be installed for a task on a device.
+     *
+     * @return null if the kernel can be installed, or the reason why the task
+     *     has to be compiled at runtime.
+     */
+    static String checkCompatibility(KernelBundleEntry entry, String deviceName, boolean fp64, long localMemorySize, Access[] accesses, int dimensions, String specialisation) {
+        if (entry.atomics()) {
+            return "the kernel uses atomics";
+        }
+        if (!entry.deviceName().equals(deviceName)) {
+            return "compiled for the device " + entry.deviceName() + ", not for " + deviceName;
+        }
+        if (entry.fp64() && !fp64) {
+            return "the device does not support double-precision floating point";
+        }
+        if (entry.localMemorySize() > localMemorySize) {
+            return "compiled for " + entry.localMemorySize() + " bytes of local memory, but the device has " + localMemorySize;
+        }
+        if (!Arrays.equals(entry.accesses(), accesses)) {
+            return "compiled for the argument accesses " + Arrays.toString(entry.accesses()) + ", not for " + Arrays.toString(accesses);
+        }
+        if (entry.dimensions() != dimensions) {
+            return "compiled for " + entry.dimensions() + " dimensions, not for " + dimensions;
+        }
+        if (!entry.specialisation().equals(specialisation)) {
+            return "compiled for the arguments " + entry.specialisation() + ", not for " + specialisation;
+        }
+        return null;
+    }
+
+    /**
+     * Records a kernel in the output bundle, if
+     * {@link TornadoOptions#AOT_OUTPUT_DIRECTORY} is set. Batched tasks are
+     * specialised with the size of a batch, so they are not recorded.
+     */
+    public static void recordKernel(TornadoVMBackendType backend, CompilableTask task, String entryPoint, TornadoDevice device, Access[] accesses, int dimensions, boolean atomics, byte[] code) {
+        KernelBundle bundle = getOutputBundle();
+        if (bundle != null && task.getBatchThreads() == 0) {
+            bundle.addKernel(backend, getMethodKey(task.getMethod()), entryPoint, device.getDeviceName(), device.getDeviceContext().isFP64Supported(), device.getDeviceLocalMemorySize(), accesses,
+                    dimensions, getSpecialisation(task.getArguments()), atomics, code);
+        }
+    }
+
+    private static String getKey(TornadoVMBackendType backend, String methodKey) {
+        return backend.name() + ":" + methodKey;
+    }
+
+    /**
+     * The descriptor of the method cannot be part of a file name, so it is
+     * replaced by its hash.
+     */
+    private static String getFileName(TornadoVMBackendType backend, String methodKey) {
+        int descriptorIndex = methodKey.indexOf('(');
+        String name = (descriptorIndex < 0) ? methodKey : methodKey.substring(0, descriptorIndex) + "-" + Integer.toHexString(methodKey.substring(descriptorIndex).hashCode());
+        return backend.name().toLowerCase() + "/" + name + getFileExtension(backend);
+    }
+
+    private static String getFileExtension(TornadoVMBackendType backend) {
+        return switch (backend) {
+            case OPENCL -> ".cl";
+            case PTX -> ".ptx";
+            case CUDA -> ".cu";
+            case SPIRV -> ".spv";
+            case METAL -> ".metal";
+            default -> throw new TornadoRuntimeException("[ERROR] Backend not supported for ahead-of-time compilation: " + backend);
+        };
+    }
+
+    public synchronized KernelBundleEntry getEntry(TornadoVMBackendType backend, String methodKey) {
+        return entries.get(getKey(backend, methodKey));
+    }
+
+    public synchronized List<KernelBundleEntry> getEntries() {
+        return new ArrayList<>(entries.values());
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Reads the generated code of a kernel.
+     *
+     * @return byte[] with the code.
+     */
+    public byte[] readCode(KernelBundleEntry entry) {
+        try {
+            return Files.readAllBytes(directory.resolve(entry.file()));
+        } catch (IOException e) {
+            throw new TornadoRuntimeException("[ERROR] Kernel " + entry.methodKey() + " not found in the bundle " + directory + ": " + e.getMessage());
+        }
+    }
+
+    public synchronized void addKernel(TornadoVMBackendType backend, String methodKey, String entryPoint, String deviceName, boolean fp64, long localMemorySize, Access[] accesses, int dimensions,
+            String specialisation, boolean atomics, byte[] code) {
+        String file = getFileName(backend, methodKey);
+        try {
+            Path path = directory.resolve(file);
+            Files.createDirectories(path.getParent());
+            Files.write(path, code);
+        } catch (IOException e) {
+            throw new TornadoRuntimeException("[ERROR] Unable to write the kernel " + methodKey + " into " + directory + ": " + e.getMessage());
+        }
+        entries.put(getKey(backend, methodKey), new KernelBundleEntry(backend, methodKey, entryPoint, file, deviceName, fp64, localMemorySize, accesses.clone(), dimensions, specialisation, atomics));
+        logger.debug("[AOT] Kernel %s recorded for %s", methodKey, backend);
+    }
+
+    /**
+     * Writes the manifest of the bundle.
+     */
+    public synchronized void store() {
+        if (entries.isEmpty()) {
+            return;
+        }
+        Properties manifest = new Properties();
+        manifest.setProperty(VERSION_KEY, Integer.toString(FORMAT_VERSION));
+        manifest.setProperty(NUM_KERNELS_KEY, Integer.toString(entries.size()));
+        int index = 0;
+        for (KernelBundleEntry entry : entries.values()) {
+            String prefix = KERNEL_PREFIX + index + ".";
+            StringJoiner accesses = new StringJoiner(",");
+            for (Access access : entry.accesses()) {
+                accesses.add(access.name());
+            }
+            manifest.setProperty(prefix + "backend", entry.backend().name());
+            manifest.setProperty(prefix + "method", entry.methodKey());
+            manifest.setProperty(prefix + "entryPoint", entry.entryPoint());
+            manifest.setProperty(prefix + "file", entry.file());
+            manifest.setProperty(prefix + "device", entry.deviceName());
+            manifest.setProperty(prefix + "fp64", Boolean.toString(entry.fp64()));
+            manifest.setProperty(prefix + "localMemorySize", Long.toString(entry.localMemorySize()));
+            manifest.setProperty(prefix + "accesses", accesses.toString());
+            manifest.setProperty(prefix + "dimensions", Integer.toString(entry.dimensions()));
+            manifest.setProperty(prefix + "specialisation", entry.specialisation());
+            manifest.setProperty(prefix + "atomics", Boolean.toString(entry.atomics()));
+            index++;
+        }
+        try {
+            Files.createDirectories(directory);
+            try (Writer writer = Files.newBufferedWriter(directory.resolve(MANIFEST_FILE))) {
+                manifest.store(writer, "TornadoVM kernel bundle");
+            }
+        } catch (IOException e) {
+            throw new TornadoRuntimeException("[ERROR] Unable to write the kernel bundle manifest into " + directory + ": " + e.getMessage());
+        }
+    }
+
+    static KernelBundle load(Path directory) {
+        Path manifestPath = directory.resolve(MANIFEST_FILE);
+        if (!Files.exists(manifestPath)) {
+            throw new TornadoRuntimeException("[ERROR] Kernel bundle manifest not found: " + manifestPath);
+        }
+        Properties manifest = new Properties();
+        try (Reader reader = Files.newBufferedReader(manifestPath)) {
+            manifest.load(reader);
+        } catch (IOException e) {
+            throw new TornadoRuntimeException("[ERROR] Unable to read the kernel bundle manifest: " + manifestPath + ": " + e.getMessage());
+        }
+
+        int version = Integer.parseInt(manifest.getProperty(VERSION_KEY, "0"));
+        if (version != FORMAT_VERSION) {
+            throw new TornadoRuntimeException("[ERROR] Kernel bundle " + directory + " has version " + version + ", but version " + FORMAT_VERSION + " is expected. Recompile the bundle.");
+        }
+
+        KernelBundle bundle = new KernelBundle(directory);
+        int numKernels = Integer.parseInt(manifest.getProperty(NUM_KERNELS_KEY, "0"));
+        for (int index = 0; index < numKernels; index++) {
+            String prefix = KERNEL_PREFIX + index + ".";
+            TornadoVMBackendType backend = TornadoVMBackendType.valueOf(manifest.getProperty(prefix + "backend"));
+            String accessList = manifest.getProperty(prefix + "accesses", "");
+            String[] accessNames = accessList.isEmpty() ? new String[0] : accessList.split(",");
+            Access[] accesses = new Access[accessNames.length];
+            for (int i = 0; i < accessNames.length; i++) {
+                accesses[i] = Access.valueOf(accessNames[i]);
+            }
+            KernelBundleEntry entry = new KernelBundleEntry(backend, //
+                    manifest.getProperty(prefix + "method"), //
+                    manifest.getProperty(prefix + "entryPoint"), //
+                    manifest.getProperty(prefix + "file"), //
+                    manifest.getProperty(prefix + "device", ""), //
+                    Boolean.parseBoolean(manifest.getProperty(prefix + "fp64", "false")), //
+                    Long.parseLong(manifest.getProperty(prefix + "localMemorySize", "0")), //
+                    accesses, //
+                    Integer.parseInt(manifest.getProperty(prefix + "dimensions", "0")), //
+                    manifest.getProperty(prefix + "specialisation", ""), //
+                    Boolean.parseBoolean(manifest.getProperty(prefix + "atomics", "false")));
+            bundle.entries.put(getKey(backend, entry.methodKey()), entry);
+        }
+        bundle.logger.info("[AOT] Loaded %d kernels from %s", numKernels, directory);
+        return bundle;
+    }
+}
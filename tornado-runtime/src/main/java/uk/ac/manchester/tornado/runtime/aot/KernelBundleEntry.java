@@ -0,0 +1,61 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.runtime.aot;
+
+import uk.ac.manchester.tornado.api.common.Access;
+import uk.ac.manchester.tornado.api.enums.TornadoVMBackendType;
+
+/**
+ * Metadata of a kernel compiled ahead-of-time and stored in a
+ * {@link KernelBundle}.
+ *
+ * @param backend
+ *     Backend the kernel has been generated for.
+ * @param methodKey
+ *     Fully qualified name and descriptor of the Java method the kernel has
+ *     been compiled from.
+ * @param entryPoint
+ *     Name of the kernel function within the generated code.
+ * @param file
+ *     Path of the generated code, relative to the bundle directory.
+ * @param deviceName
+ *     Name of the (virtual) device used as target during compilation.
+ * @param fp64
+ *     If the target device supports double-precision floating point.
+ * @param localMemorySize
+ *     Local memory size, in bytes, of the target device.
+ * @param accesses
+ *     Access of each argument of the kernel.
+ * @param dimensions
+ *     Number of dimensions of the parallel domain (0 for sequential kernels).
+ * @param specialisation
+ *     Description of the argument values embedded in the kernel as constants
+ *     (see {@link KernelBundle#getSpecialisation(Object[])}).
+ * @param atomics
+ *     If the kernel uses atomics. Such kernels need the atomic regions computed
+ *     by the compiler, and they are always compiled at runtime.
+ */
+public record KernelBundleEntry(TornadoVMBackendType backend, String methodKey, String entryPoint, String file, String deviceName, boolean fp64, long localMemorySize, Access[] accesses, int dimensions,
+        String specialisation, boolean atomics) {
+}
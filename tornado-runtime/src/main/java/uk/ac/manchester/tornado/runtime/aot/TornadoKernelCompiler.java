@@ -0,0 +1,98 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.runtime.aot;
+
+import java.util.List;
+
+import uk.ac.manchester.tornado.api.ImmutableTaskGraph;
+import uk.ac.manchester.tornado.api.TaskGraphProvider;
+import uk.ac.manchester.tornado.api.TornadoExecutionPlan;
+import uk.ac.manchester.tornado.api.exceptions.TornadoExecutionPlanException;
+import uk.ac.manchester.tornado.runtime.common.TornadoOptions;
+
+/**
+ * Offline (ahead-of-time) kernel compiler. It loads the task-graphs of an
+ * application through a {@link TaskGraphProvider}, compiles all tasks for the
+ * virtual device described in the JSON file passed with
+ * {@code -Dtornado.device.desc}, and writes a {@link KernelBundle} that can be
+ * loaded at runtime with {@code -Dtornado.aot.bundle=<directory>}.
+ *
+ * <p>
+ * Since the target is a virtual device, the compiler does not need any
+ * accelerator installed.
+ * </p>
+ *
+ * <p>
+ * How to run?
+ * </p>
+ * <code>
+ * tornado --jvm="-Dtornado.virtual.device=True -Dtornado.device.desc=etc/virtual-device-template.json -Dtornado.aot.output=kernels" --classpath app.jar
+ * -m tornado.runtime/uk.ac.manchester.tornado.runtime.aot.TornadoKernelCompiler --params "com.example.MyTaskGraphs"
+ * </code>
+ */
+public final class TornadoKernelCompiler {
+
+    private TornadoKernelCompiler() {
+    }
+
+    private static void usage() {
+        System.err.println("Usage: TornadoKernelCompiler <TaskGraphProvider class> [<TaskGraphProvider class> ...]");
+        System.err.println("Required options: -Dtornado.virtual.device=True -Dtornado.device.desc=<device.json> -Dtornado.aot.output=<directory>");
+    }
+
+    private static TaskGraphProvider createProvider(String className) throws ReflectiveOperationException {
+        Class<?> klass = Class.forName(className, true, Thread.currentThread().getContextClassLoader());
+        if (!TaskGraphProvider.class.isAssignableFrom(klass)) {
+            throw new IllegalArgumentException(className + " does not implement " + TaskGraphProvider.class.getName());
+        }
+        return (TaskGraphProvider) klass.getDeclaredConstructor().newInstance();
+    }
+
+    public static void main(String[] args) throws ReflectiveOperationException, TornadoExecutionPlanException {
+        if (args.length == 0) {
+            usage();
+            System.exit(1);
+        }
+        if (!TornadoOptions.VIRTUAL_DEVICE_ENABLED || TornadoOptions.AOT_OUTPUT_DIRECTORY.isEmpty()) {
+            usage();
+            System.exit(1);
+        }
+
+        int numTaskGraphs = 0;
+        for (String className : args) {
+            List<ImmutableTaskGraph> taskGraphs = createProvider(className).getTaskGraphs();
+            for (ImmutableTaskGraph taskGraph : taskGraphs) {
+                // Executing on a virtual device only compiles the tasks
+                try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(taskGraph)) {
+                    executionPlan.execute();
+                }
+                numTaskGraphs++;
+            }
+        }
+
+        KernelBundle bundle = KernelBundle.getOutputBundle();
+        bundle.store();
+        System.out.printf("[AOT] %d kernels from %d task-graphs written to %s%n", bundle.getEntries().size(), numTaskGraphs, bundle.getDirectory().toAbsolutePath());
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.runtime.common;
+
+import java.lang.reflect.Array;
+import java.util.List;
+
+import uk.ac.manchester.tornado.api.exceptions.TornadoMemoryException;
+import uk.ac.manchester.tornado.api.types.arrays.TornadoNativeArray;
+import uk.ac.manchester.tornado.runtime.common.enums.DataTypeSize;
+import uk.ac.manchester.tornado.runtime.graph.TornadoExecutionContext;
+
+/**
+ * Batch configuration selected by the runtime for execution plans with
+ * {@code withAutoBatch}.
+ *
+ * <p>
+ * The footprint of the task-graph is computed with the same accounting used by
+ * {@code withMemoryLimit}, and it is compared against the memory limit of the
+ * execution plan or, if there is no limit, against a fraction
+ * ({@link TornadoOptions#AUTO_BATCH_MEMORY_FRACTION}) of the global memory of
+ * the device. If the task-graph fits, it runs without batches. Otherwise, the
+ * objects that are not split (broadcast and reduce objects) stay on the device,
+ * and the remaining memory gives the number of iterations per chunk. The chunks
+ * are transferred and executed one after the other over the same device
+ * buffers, so the whole remaining memory is used by one chunk. The chunks are
+ * balanced, so the last chunk is not much smaller than the others.
+ * </p>
+ */
+public final class AutoBatchConfiguration {
+
+    private final long footprint;
+    private final long memoryBudget;
+    private final long batchSize;
+    private final int numberOfChunks;
+
+    private AutoBatchConfiguration(long footprint, long memoryBudget, long batchSize, int numberOfChunks) {
+        this.footprint = footprint;
+        this.memoryBudget = memoryBudget;
+        this.batchSize = batchSize;
+        this.numberOfChunks = numberOfChunks;
+    }
+
+    private static long getLargestObjectInBytes(List<Object> objects) {
+        long largest = 0;
+        for (Object object : objects) {
+            if (object.getClass().isArray()) {
+                DataTypeSize dataTypeSize = DataTypeSize.findDataTypeSize(object.getClass().getComponentType());
+                if (dataTypeSize != null) {
+                    largest = Math.max(largest, Array.getLength(object) * (long) dataTypeSize.getSize());
+                }
+            } else if (object instanceof TornadoNativeArray tornadoNativeArray) {
+                largest = Math.max(largest, tornadoNativeArray.getNumBytesOfSegment());
+            }
+        }
+        return largest;
+    }
+
+    /**
+     * Selects the batch configuration of an execution context for a device.
+     *
+     * @param context
+     *     {@link TornadoExecutionContext} with the objects of the task-graph.
+     * @param device
+     *     {@link TornadoXPUDevice} in which the task-graph runs.
+     * @return {@link AutoBatchConfiguration}
+     * @throws TornadoMemoryException
+     *     if the objects that are not split do not leave room for one iteration.
+     */
+    public static AutoBatchConfiguration select(TornadoExecutionContext context, TornadoXPUDevice device) {
+        final long footprint = context.getTotalFootprintInBytes();
+        final long memoryBudget = context.isMemoryLimited() //
+                ? context.getExecutionPlanMemoryLimit() //
+                : (long) (device.getMaxGlobalMemory() * (double) TornadoOptions.AUTO_BATCH_MEMORY_FRACTION);
+
+        if (footprint <= memoryBudget && getLargestObjectInBytes(context.getObjects()) <= device.getMaxAllocMemory()) {
+            return new AutoBatchConfiguration(footprint, memoryBudget, TornadoExecutionContext.INIT_VALUE, 1);
+        }
+
+        // Batch size that places the whole iteration space in a single chunk. It is only used to
+        // obtain the modes and the bytes per iteration of each object.
+        BatchConfiguration wholeConfiguration = BatchConfiguration.computeChunkSizes(context, Long.MAX_VALUE);
+        final long totalIterations = wholeConfiguration.getTotalIterations();
+        final long bytesPerIteration = wholeConfiguration.getBytesPerIteration();
+        final long maxBytesPerIteration = wholeConfiguration.getMaxBytesPerIteration();
+
+        int numSplitObjects = 0;
+        for (int i = 0; i < context.getObjects().size(); i++) {
+            if (wholeConfiguration.isSplit(i)) {
+                numSplitObjects++;
+            }
+        }
+
+        // Broadcast and reduce objects and constants stay on the device during all chunks
+        final long residentBytes = footprint - wholeConfiguration.getObjectIterations() * bytesPerIteration;
+        final long availableBytes = memoryBudget - residentBytes - numSplitObjects * TornadoOptions.PANAMA_OBJECT_HEADER_SIZE;
+
+        long chunkThreads = Math.min(availableBytes / bytesPerIteration, device.getMaxAllocMemory() / maxBytesPerIteration);
+        if (chunkThreads <= 0) {
+            throw new TornadoMemoryException("[ERROR] The task-graph " + context.getId() + " does not fit in " + memoryBudget + " bytes: the objects that are not split use " + residentBytes
+                    + " bytes, and one iteration needs " + bytesPerIteration + " bytes");
+        }
+
+        long chunks = (totalIterations + chunkThreads - 1) / chunkThreads;
+        if (chunks > Integer.MAX_VALUE) {
+            throw new TornadoMemoryException("[ERROR] The task-graph " + context.getId() + " needs too many chunks (" + chunks + ") to fit in " + memoryBudget + " bytes");
+        }
+        chunkThreads = (totalIterations + chunks - 1) / chunks;
+        chunks = (totalIterations + chunkThreads - 1) / chunkThreads;
+        return new AutoBatchConfiguration(footprint, memoryBudget, chunkThreads * maxBytesPerIteration, (int) chunks);
+    }
+
+    public boolean isBatched() {
+        return batchSize != TornadoExecutionContext.INIT_VALUE;
+    }
+
+    /**
+     * Returns the footprint of the task-graph in bytes, without batches.
+     */
+    public long getFootprint() {
+        return footprint;
+    }
+
+    /**
+     * Returns the number of bytes that the task-graph can use on the device.
+     */
+    public long getMemoryBudget() {
+        return memoryBudget;
+    }
+
+    /**
+     * Returns the batch size in bytes, or {@link TornadoExecutionContext#INIT_VALUE}
+     * if the task-graph runs without batches.
+     */
+    public long getBatchSize() {
+        return batchSize;
+    }
+
+    public int getNumberOfChunks() {
+        return numberOfChunks;
+    }
+
+    @Override
+    public String toString() {
+        if (!isBatched()) {
+            return "AutoBatch[footprint=" + footprint + ", budget=" + memoryBudget + ", no batches]";
+        }
+        return "AutoBatch[footprint=" + footprint + ", budget=" + memoryBudget + ", batchSize=" + batchSize + ", chunks=" + numberOfChunks + "]";
+    }
+}
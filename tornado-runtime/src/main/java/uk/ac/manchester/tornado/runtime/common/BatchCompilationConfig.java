@@ -32,11 +32,17 @@ public class BatchCompilationConfig {
     private long batchThreads;
     private int batchNumber;
     private long batchSize;
+    private long partitionOffset;
 
     public BatchCompilationConfig(long batchThreads, int batchNumber, long batchSize) {
+        this(batchThreads, batchNumber, batchSize, 0);
+    }
+
+    public BatchCompilationConfig(long batchThreads, int batchNumber, long batchSize, long partitionOffset) {
         this.batchThreads = batchThreads;
         this.batchNumber = batchNumber;
         this.batchSize = batchSize;
+        this.partitionOffset = partitionOffset;
     }
 
     public long getBatchThreads() {
@@ -50,4 +56,20 @@ public class BatchCompilationConfig {
     public long getBatchSize() {
         return batchSize;
     }
+
+    /**
+     * Returns the first iteration of the partition of the iteration space that the
+     * task runs with co-execution, or 0 if the task runs the whole iteration space.
+     */
+    public long getPartitionOffset() {
+        return partitionOffset;
+    }
+
+    /**
+     * Returns the offset to add to the loop index of the kernel to obtain the
+     * index of the iteration in the whole iteration space.
+     */
+    public long getIndexOffset() {
+        return partitionOffset + batchNumber * batchSize;
+    }
 }
@@ -24,9 +24,11 @@
 package uk.ac.manchester.tornado.runtime.common;
 
 import java.lang.reflect.Array;
-import java.util.HashSet;
-import java.util.LinkedHashSet;
+import java.util.List;
 
+import uk.ac.manchester.tornado.api.BatchDescriptor;
+import uk.ac.manchester.tornado.api.common.Access;
+import uk.ac.manchester.tornado.api.enums.BatchMode;
 import uk.ac.manchester.tornado.api.exceptions.TornadoRuntimeException;
 import uk.ac.manchester.tornado.api.types.arrays.ByteArray;
 import uk.ac.manchester.tornado.api.types.arrays.CharArray;
@@ -43,6 +45,21 @@ import uk.ac.manchester.tornado.runtime.graph.TornadoExecutionContext;
  * It presents the configuration for processing data in batches. This class
  * provides methods to compute chunk sizes based on the batch size and input
  * objects.
+ *
+ * <p>
+ * Each object of the task-graph is processed following its
+ * {@link BatchDescriptor}. Objects without a descriptor are split with a ratio
+ * of one element per iteration. All split objects must cover the same number of
+ * iterations, and the number of iterations per chunk is the largest one for
+ * which no chunk of a split object exceeds the batch size. Broadcast and reduce
+ * objects are allocated and transferred as a whole.
+ * </p>
+ *
+ * <p>
+ * When the execution context is restricted to a partition of the iteration
+ * space (co-execution), the chunks only cover the iterations of the partition,
+ * and their offsets start at the first iteration of the partition.
+ * </p>
  */
 /**
  * How to test?
@@ -56,92 +73,255 @@ import uk.ac.manchester.tornado.runtime.graph.TornadoExecutionContext;
 public class BatchConfiguration {
 
     private final int totalChunks;
-    private final int remainingChunkSize;
-    private final short numBytesType;
+    private final long chunkThreads;
+    private final long remainingThreads;
+    private final long firstIteration;
+    private final long objectIterations;
+    private final BatchMode[] modes;
+    private final long[] bytesPerIteration;
 
     /**
      * Constructs a BatchConfiguration object with the specified parameters.
      *
      * @param totalChunks
-     *     The total number of chunks.
-     * @param remainingChunkSize
-     *     The size of the remaining chunk.
-     * @param numBytesType
-     *     The number of bytes for the data type.
+     *     The total number of full chunks.
+     * @param chunkThreads
+     *     The number of iterations of a full chunk.
+     * @param remainingThreads
+     *     The number of iterations of the remaining chunk.
+     * @param firstIteration
+     *     The index of the first iteration processed by the first chunk.
+     * @param objectIterations
+     *     The number of iterations covered by the whole split objects.
+     * @param modes
+     *     The batch mode of each object, indexed by the object index in the
+     *     execution context.
+     * @param bytesPerIteration
+     *     The number of bytes of each split object processed per iteration.
      */
-    public BatchConfiguration(int totalChunks, int remainingChunkSize, short numBytesType) {
+    public BatchConfiguration(int totalChunks, long chunkThreads, long remainingThreads, long firstIteration, long objectIterations, BatchMode[] modes, long[] bytesPerIteration) {
         this.totalChunks = totalChunks;
-        this.remainingChunkSize = remainingChunkSize;
-        this.numBytesType = numBytesType;
+        this.chunkThreads = chunkThreads;
+        this.remainingThreads = remainingThreads;
+        this.firstIteration = firstIteration;
+        this.objectIterations = objectIterations;
+        this.modes = modes;
+        this.bytesPerIteration = bytesPerIteration;
+    }
+
+    private static byte getElementSize(Object o) {
+        if (o.getClass().isArray()) {
+            Class<?> componentType = o.getClass().getComponentType();
+            DataTypeSize dataTypeSize = DataTypeSize.findDataTypeSize(componentType);
+            if (dataTypeSize == null) {
+                throw new TornadoRuntimeException("[UNSUPPORTED] Data type not supported for processing in batches");
+            }
+            return dataTypeSize.getSize();
+        } else if (o instanceof TornadoNativeArray tornadoNativeArray) {
+            return switch (tornadoNativeArray) {
+                case IntArray _ -> DataTypeSize.INT.getSize();
+                case FloatArray _ -> DataTypeSize.FLOAT.getSize();
+                case DoubleArray _ -> DataTypeSize.DOUBLE.getSize();
+                case LongArray _ -> DataTypeSize.LONG.getSize();
+                case ShortArray _ -> DataTypeSize.SHORT.getSize();
+                case ByteArray _ -> DataTypeSize.BYTE.getSize();
+                case CharArray _ -> DataTypeSize.CHAR.getSize();
+                default -> throw new TornadoRuntimeException("Unsupported array type: " + o.getClass());
+            };
+        } else {
+            throw new TornadoRuntimeException("Unsupported type: " + o.getClass());
+        }
+    }
+
+    private static long getNumElements(Object o) {
+        if (o.getClass().isArray()) {
+            return Array.getLength(o);
+        }
+        return ((TornadoNativeArray) o).getSize();
     }
 
     public static BatchConfiguration computeChunkSizes(TornadoExecutionContext context, long batchSize) {
-        // Get the size of the batch
-        long totalSize = 0;
-
-        HashSet<Long> inputSizes = new HashSet<>();
-        LinkedHashSet<Byte> elementSizes = new LinkedHashSet<>();
-
-        for (Object o : context.getObjects()) {
-            if (o.getClass().isArray()) {
-                Class<?> componentType = o.getClass().getComponentType();
-                DataTypeSize dataTypeSize = DataTypeSize.findDataTypeSize(componentType);
-                if (dataTypeSize == null) {
-                    throw new TornadoRuntimeException("[UNSUPPORTED] Data type not supported for processing in batches");
+        List<Object> objects = context.getObjects();
+        BatchMode[] modes = new BatchMode[objects.size()];
+        long[] bytesPerIteration = new long[objects.size()];
+
+        long totalIterations = -1;
+        long maxBytesPerIteration = 0;
+        for (int i = 0; i < objects.size(); i++) {
+            Object o = objects.get(i);
+            BatchDescriptor descriptor = context.getBatchDescriptor(o);
+            modes[i] = (descriptor == null) ? BatchMode.SPLIT : descriptor.getMode();
+            Access access = context.getObjectsAccesses().get(o);
+            if (modes[i] == BatchMode.BROADCAST) {
+                if (access != Access.READ_ONLY) {
+                    throw new TornadoRuntimeException("[UNSUPPORTED] Broadcast objects must be read-only. Use BatchDescriptor.reduce for objects written by the tasks");
+                }
+                continue;
+            } else if (modes[i] == BatchMode.REDUCE) {
+                if (access == Access.READ_ONLY) {
+                    throw new TornadoRuntimeException("[UNSUPPORTED] Reduce objects must be written by the tasks. Use BatchDescriptor.broadcast for read-only objects");
                 }
-                long size = Array.getLength(o);
-                totalSize = size * dataTypeSize.getSize();
-
-                elementSizes.add(dataTypeSize.getSize());
-                inputSizes.add(totalSize);
-            } else if (o instanceof TornadoNativeArray tornadoNativeArray) {
-                totalSize = tornadoNativeArray.getNumBytesOfSegment();
-                inputSizes.add(totalSize);
-                byte elementSize = switch (tornadoNativeArray) {
-                    case IntArray _ -> DataTypeSize.INT.getSize();
-                    case FloatArray _ -> DataTypeSize.FLOAT.getSize();
-                    case DoubleArray _ -> DataTypeSize.DOUBLE.getSize();
-                    case LongArray _ -> DataTypeSize.LONG.getSize();
-                    case ShortArray _ -> DataTypeSize.SHORT.getSize();
-                    case ByteArray _ -> DataTypeSize.BYTE.getSize();
-                    case CharArray _ -> DataTypeSize.CHAR.getSize();
-                    default -> throw new TornadoRuntimeException("Unsupported array type: " + o.getClass());
-                };
-                elementSizes.add(elementSize);
-            } else {
-                throw new TornadoRuntimeException("Unsupported type: " + o.getClass());
+                continue;
+            }
+
+            long ratio = (descriptor == null) ? 1 : descriptor.getRatio();
+            long numElements = getNumElements(o);
+            byte elementSize = getElementSize(o);
+            if (numElements % ratio != 0) {
+                throw new TornadoRuntimeException("[UNSUPPORTED] The number of elements of a split object (" + numElements + ") is not a multiple of its ratio (" + ratio + ")");
             }
+            long iterations = numElements / ratio;
+            if (totalIterations == -1) {
+                totalIterations = iterations;
+            } else if (totalIterations != iterations) {
+                throw new TornadoRuntimeException("[UNSUPPORTED] Input objects with different sizes not currently supported. Use a BatchDescriptor per object to set its ratio, or to broadcast or reduce it");
+            }
+            bytesPerIteration[i] = Math.multiplyExact(ratio, elementSize);
+            maxBytesPerIteration = Math.max(maxBytesPerIteration, bytesPerIteration[i]);
         }
 
-        if (inputSizes.size() > 1) {
-            throw new TornadoRuntimeException("[UNSUPPORTED] Input objects with different sizes not currently supported");
+        if (totalIterations == -1) {
+            throw new TornadoRuntimeException("[UNSUPPORTED] Batch processing requires at least one split object");
         }
 
-        if (elementSizes.size() > 1) {
-            throw new TornadoRuntimeException("[UNSUPPORTED] Input objects with different element sizes not currently supported");
+        final long objectIterations = totalIterations;
+        long firstIteration = 0;
+        if (context.isPartitioned()) {
+            firstIteration = context.getPartitionFirstIteration();
+            totalIterations = context.getPartitionIterations();
+            if (firstIteration + totalIterations > objectIterations) {
+                throw new TornadoRuntimeException("[ERROR] The partition [" + firstIteration + ", " + (firstIteration + totalIterations) + ") exceeds the " + objectIterations + " iterations of the split objects");
+            }
         }
 
-        int totalChunks = (int) (totalSize / batchSize);
-        int remainingChunkSize = (int) (totalSize % batchSize);
+        long chunkThreads = batchSize / maxBytesPerIteration;
+        if (chunkThreads == 0) {
+            throw new TornadoRuntimeException("[ERROR] The batch size (" + batchSize + " bytes) is smaller than one iteration (" + maxBytesPerIteration + " bytes)");
+        }
+        if (context.isPartitioned()) {
+            // A partition is always transferred as a region of the objects, even if it fits in a single chunk
+            chunkThreads = Math.min(chunkThreads, totalIterations);
+        }
+
+        long numChunks = totalIterations / chunkThreads;
+        if (numChunks > Integer.MAX_VALUE) {
+            throw new TornadoRuntimeException("[ERROR] Too many chunks (" + numChunks + ") for the batch size " + batchSize);
+        }
+        int totalChunks = (int) numChunks;
+        long remainingThreads = totalIterations % chunkThreads;
 
         if (TornadoOptions.DEBUG) {
             System.out.println("Batch Size: " + batchSize);
             System.out.println("Total chunks: " + totalChunks);
-            System.out.println("remainingChunkSize: " + remainingChunkSize);
+            System.out.println("Iterations per chunk: " + chunkThreads);
+            System.out.println("remainingIterations: " + remainingThreads);
+            System.out.println("First iteration: " + firstIteration);
         }
-        return new BatchConfiguration(totalChunks, remainingChunkSize, elementSizes.getFirst());
+        return new BatchConfiguration(totalChunks, chunkThreads, remainingThreads, firstIteration, objectIterations, modes, bytesPerIteration);
     }
 
     public int getTotalChunks() {
         return totalChunks;
     }
 
-    public int getRemainingChunkSize() {
-        return remainingChunkSize;
+    /**
+     * Returns the number of full chunks in which an object is transferred.
+     * Broadcast and reduce objects are transferred as a whole, so they have no
+     * chunks.
+     */
+    public int getTotalChunks(int objectIndex) {
+        return isSplit(objectIndex) ? totalChunks : 0;
     }
 
-    public short getNumBytesType() {
-        return numBytesType;
+    /**
+     * Returns the number of chunks to schedule, including the remaining chunk.
+     */
+    public int getNumberOfChunks() {
+        return (remainingThreads != 0) ? totalChunks + 1 : totalChunks;
+    }
+
+    /**
+     * Returns the number of iterations processed by all chunks.
+     */
+    public long getTotalIterations() {
+        return totalChunks * chunkThreads + remainingThreads;
+    }
+
+    /**
+     * Returns the number of iterations covered by the whole split objects. It
+     * differs from {@link #getTotalIterations()} when the execution context is
+     * restricted to a partition of the iteration space.
+     */
+    public long getObjectIterations() {
+        return objectIterations;
+    }
+
+    /**
+     * Returns the number of bytes of all split objects processed per iteration.
+     */
+    public long getBytesPerIteration() {
+        long bytes = 0;
+        for (long objectBytes : bytesPerIteration) {
+            bytes += objectBytes;
+        }
+        return bytes;
+    }
+
+    /**
+     * Returns the number of bytes of the largest split object processed per
+     * iteration.
+     */
+    public long getMaxBytesPerIteration() {
+        long bytes = 0;
+        for (long objectBytes : bytesPerIteration) {
+            bytes = Math.max(bytes, objectBytes);
+        }
+        return bytes;
+    }
+
+    public boolean isSplit(int objectIndex) {
+        return modes[objectIndex] == BatchMode.SPLIT;
+    }
+
+    public BatchMode getMode(int objectIndex) {
+        return modes[objectIndex];
+    }
+
+    /**
+     * Returns the number of iterations processed by a chunk.
+     */
+    public long getNumberOfThreads(int chunk) {
+        return (chunk < totalChunks) ? chunkThreads : remainingThreads;
+    }
+
+    /**
+     * Returns the index of the first iteration processed by a chunk.
+     */
+    public long getThreadOffset(int chunk) {
+        return firstIteration + chunk * chunkThreads;
+    }
+
+    /**
+     * Returns the number of bytes of an object transferred for a chunk, or 0 if
+     * the whole object is transferred.
+     */
+    public long getChunkSize(int objectIndex, int chunk) {
+        if (!isSplit(objectIndex) || totalChunks == 0) {
+            // When the data fits in a single chunk, the object is transferred as a whole
+            return 0;
+        }
+        return getNumberOfThreads(chunk) * bytesPerIteration[objectIndex];
+    }
+
+    /**
+     * Returns the offset, in bytes, of the region of an object transferred for a
+     * chunk.
+     */
+    public long getChunkOffset(int objectIndex, int chunk) {
+        if (!isSplit(objectIndex)) {
+            return 0;
+        }
+        return getThreadOffset(chunk) * bytesPerIteration[objectIndex];
     }
 
 }
@@ -0,0 +1,49 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.runtime.common;
+
+/**
+ * State of the copy of an object held in a device buffer, with respect to the
+ * copies of the same object held by other task-graphs on other devices. It is
+ * used to decide whether an object persisted on one device must be copied
+ * again before a task-graph on another device consumes it.
+ */
+public enum CoherenceState {
+
+    /**
+     * The buffer does not hold a valid copy of the object.
+     */
+    INVALID,
+
+    /**
+     * The buffer holds the same data as the copies on the other devices.
+     */
+    SHARED,
+
+    /**
+     * The buffer was updated on its device (written by a kernel or copied from
+     * the host) after the last copy to other devices.
+     */
+    MODIFIED
+}
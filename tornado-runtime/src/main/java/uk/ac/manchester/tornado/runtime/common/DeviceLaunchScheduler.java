@@ -0,0 +1,173 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.runtime.common;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+import uk.ac.manchester.tornado.api.TornadoDeviceContext;
+import uk.ac.manchester.tornado.api.exceptions.TornadoRuntimeException;
+
+/**
+ * Admission scheduler for the kernel launches of all execution plans that
+ * share one device.
+ *
+ * <p>
+ * At most {@link TornadoOptions#DEVICE_SCHEDULER_MAX_IN_FLIGHT} launches run on
+ * the device at the same time. The other launches wait in a queue, and each
+ * slot that becomes free is given to the launch of the plan with the highest
+ * priority. Plans with the same priority share the device in proportion to
+ * their weights (start-time fair queueing): each admitted launch advances the
+ * virtual time of its plan by {@code 1 / weight}, and the launch with the
+ * lowest virtual time goes first. Therefore, a latency-sensitive plan overtakes
+ * the queued launches of bulk plans at kernel granularity, without interrupting
+ * running kernels.
+ * </p>
+ *
+ * <p>
+ * The scheduler is disabled by default ({@code
+ * -Dtornado.device.scheduler.max.inflight=0}), so the launches of each plan go
+ * straight to the device.
+ * </p>
+ */
+public final class DeviceLaunchScheduler {
+
+    private static final Map<TornadoDeviceContext, DeviceLaunchScheduler> SCHEDULERS = new ConcurrentHashMap<>();
+
+    /**
+     * Number of virtual times kept before the plans that are not ahead of the
+     * virtual clock are removed.
+     */
+    private static final int MAX_TRACKED_PLANS = 1024;
+
+    private final int maxInFlight;
+    private final PriorityQueue<Waiter> waiters;
+    private final Map<Long, Double> planVirtualTimes;
+    private double virtualClock;
+    private long arrivals;
+    private int inFlight;
+
+    DeviceLaunchScheduler(int maxInFlight) {
+        this.maxInFlight = maxInFlight;
+        this.waiters = new PriorityQueue<>();
+        this.planVirtualTimes = new HashMap<>();
+    }
+
+    public static boolean isEnabled() {
+        return TornadoOptions.DEVICE_SCHEDULER_MAX_IN_FLIGHT > 0;
+    }
+
+    public static DeviceLaunchScheduler getInstance(TornadoXPUDevice device) {
+        return SCHEDULERS.computeIfAbsent(device.getDeviceContext(), deviceContext -> new DeviceLaunchScheduler(TornadoOptions.DEVICE_SCHEDULER_MAX_IN_FLIGHT));
+    }
+
+    /**
+     * Blocks until the launch of an execution plan is admitted on the device.
+     * Each admission must be followed by a call to {@link #release()} when the
+     * launch completes.
+     *
+     * @param executionPlanId
+     *     Execution plan that launches the kernel.
+     * @param priority
+     *     Priority of the plan. Higher priorities are admitted first.
+     * @param weight
+     *     Share of the device of the plan with respect to the plans with the
+     *     same priority.
+     * @return {@link Admission} with the time spent in the queue.
+     */
+    public synchronized Admission acquire(long executionPlanId, int priority, int weight) {
+        final long start = System.nanoTime();
+        double startTag = Math.max(virtualClock, planVirtualTimes.getOrDefault(executionPlanId, 0.0));
+        double finishTag = startTag + 1.0 / Math.max(1, weight);
+        planVirtualTimes.put(executionPlanId, finishTag);
+
+        Waiter waiter = new Waiter(priority, startTag, arrivals++);
+        waiters.add(waiter);
+        final int queueDepth = waiters.size();
+        try {
+            while (inFlight >= maxInFlight || waiters.peek() != waiter) {
+                wait();
+            }
+        } catch (InterruptedException e) {
+            waiters.remove(waiter);
+            notifyAll();
+            Thread.currentThread().interrupt();
+            throw new TornadoRuntimeException(e);
+        }
+        waiters.poll();
+        inFlight++;
+        virtualClock = Math.max(virtualClock, startTag);
+        if (planVirtualTimes.size() > MAX_TRACKED_PLANS) {
+            planVirtualTimes.values().removeIf(virtualTime -> virtualTime <= virtualClock);
+        }
+        // The next waiter may be admitted if there are free slots
+        notifyAll();
+        return new Admission(System.nanoTime() - start, queueDepth);
+    }
+
+    public synchronized void release() {
+        inFlight--;
+        notifyAll();
+    }
+
+    /**
+     * @return the number of launches waiting to be admitted.
+     */
+    public synchronized int getQueueDepth() {
+        return waiters.size();
+    }
+
+    /**
+     * @return the number of admitted launches that did not complete yet.
+     */
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    /**
+     * Result of an admission.
+     *
+     * @param waitTime
+     *     Time (in ns) spent in the queue.
+     * @param queueDepth
+     *     Number of launches waiting when the launch arrived, including itself.
+     */
+    public record Admission(long waitTime, int queueDepth) {
+    }
+
+    private record Waiter(int priority, double virtualTime, long arrival) implements Comparable<Waiter> {
+        @Override
+        public int compareTo(Waiter other) {
+            if (priority != other.priority) {
+                return Integer.compare(other.priority, priority);
+            }
+            if (virtualTime != other.virtualTime) {
+                return Double.compare(virtualTime, other.virtualTime);
+            }
+            return Long.compare(arrival, other.arrival);
+        }
+    }
+}
@@ -0,0 +1,249 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.runtime.common;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import uk.ac.manchester.tornado.api.TornadoDeviceContext;
+import uk.ac.manchester.tornado.api.common.Access;
+import uk.ac.manchester.tornado.api.exceptions.TornadoOutOfMemoryException;
+import uk.ac.manchester.tornado.api.memory.XPUBuffer;
+
+/**
+ * Tracks the device buffers that are kept across executions (persisted objects
+ * and reused buffers) for one device, ordered by their last use.
+ *
+ * <p>
+ * When an allocation runs out of device memory, the least recently used buffers
+ * of execution plans that are not running are evicted: if the device holds the
+ * only up-to-date copy of an object, the buffer is first written back to its
+ * host object. The evicted objects are allocated and copied in again when their
+ * task-graph executes next. Buffers shared by several task-graphs (objects
+ * consumed from another task-graph on the same device) are evicted and restored
+ * together.
+ * </p>
+ *
+ * <p>
+ * Eviction can be disabled with {@code -Dtornado.device.memory.eviction=False}.
+ * </p>
+ */
+public final class DeviceResidencyManager {
+
+    private static final Map<TornadoDeviceContext, DeviceResidencyManager> MANAGERS = new ConcurrentHashMap<>();
+
+    /**
+     * Number of task-graphs currently executing per execution plan. Buffers of
+     * these execution plans are never evicted.
+     */
+    private static final Map<Long, Integer> EXECUTING_PLANS = new ConcurrentHashMap<>();
+
+    private final TornadoXPUDevice device;
+
+    /**
+     * Resident buffers in least-recently-used order.
+     */
+    private final LinkedHashMap<XPUDeviceBufferState, ResidentObject> residentObjects;
+
+    /**
+     * Evicted objects, pending to be restored.
+     */
+    private final Map<XPUDeviceBufferState, EvictedObject> evictedObjects;
+
+    private DeviceResidencyManager(TornadoXPUDevice device) {
+        this.device = device;
+        this.residentObjects = new LinkedHashMap<>(16, 0.75f, true);
+        this.evictedObjects = new IdentityHashMap<>();
+    }
+
+    public static DeviceResidencyManager getInstance(TornadoXPUDevice device) {
+        return MANAGERS.computeIfAbsent(device.getDeviceContext(), deviceContext -> new DeviceResidencyManager(device));
+    }
+
+    public static void beginExecution(long executionPlanId) {
+        EXECUTING_PLANS.merge(executionPlanId, 1, Integer::sum);
+    }
+
+    public static void endExecution(long executionPlanId) {
+        EXECUTING_PLANS.computeIfPresent(executionPlanId, (id, count) -> count > 1 ? count - 1 : null);
+    }
+
+    /**
+     * Registers the use of a buffer kept on the device after an execution.
+     *
+     * @param executionPlanId
+     *     Execution plan that owns the buffer.
+     * @param object
+     *     Host object.
+     * @param state
+     *     Device state of the object.
+     * @param access
+     *     Access of the buffer, used to allocate it again if it is evicted.
+     * @param dirty
+     *     True if the device holds a version of the object that was not copied
+     *     to the host.
+     */
+    public synchronized void touch(long executionPlanId, Object object, XPUDeviceBufferState state, Access access, boolean dirty) {
+        if (!state.hasObjectBuffer() || state.isAtomicRegionPresent()) {
+            return;
+        }
+        residentObjects.put(state, new ResidentObject(executionPlanId, object, access, dirty));
+    }
+
+    /**
+     * Removes a buffer that is released by its execution plan.
+     */
+    public synchronized void remove(XPUDeviceBufferState state) {
+        residentObjects.remove(state);
+        evictedObjects.remove(state);
+    }
+
+    public synchronized boolean isEvicted(XPUDeviceBufferState state) {
+        return evictedObjects.containsKey(state);
+    }
+
+    /**
+     * Evicts the least recently used buffer that does not belong to a running
+     * execution plan, together with all states sharing it.
+     *
+     * @return {@link Eviction} with the bytes released and written back, or null
+     *     if there is no buffer to evict.
+     */
+    public synchronized Eviction evictLeastRecentlyUsed() {
+        XPUDeviceBufferState victim = null;
+        for (Map.Entry<XPUDeviceBufferState, ResidentObject> entry : residentObjects.entrySet()) {
+            if (!EXECUTING_PLANS.containsKey(entry.getValue().executionPlanId) && entry.getKey().hasObjectBuffer()) {
+                victim = entry.getKey();
+                break;
+            }
+        }
+        if (victim == null) {
+            return null;
+        }
+
+        XPUBuffer buffer = victim.getXPUBuffer();
+        List<XPUDeviceBufferState> sharedStates = new ArrayList<>();
+        boolean dirty = false;
+        for (Iterator<Map.Entry<XPUDeviceBufferState, ResidentObject>> iterator = residentObjects.entrySet().iterator(); iterator.hasNext();) {
+            Map.Entry<XPUDeviceBufferState, ResidentObject> entry = iterator.next();
+            if (entry.getKey().getXPUBuffer() == buffer) {
+                sharedStates.add(entry.getKey());
+                dirty |= entry.getValue().dirty;
+            }
+        }
+
+        ResidentObject owner = residentObjects.get(victim);
+        long bytesWrittenBack = 0;
+        if (dirty) {
+            device.streamOutBlocking(owner.executionPlanId, owner.object, 0, victim, null);
+            bytesWrittenBack = buffer.size();
+        }
+
+        long bytesReleased = buffer.size();
+        EvictedObject evictedObject = new EvictedObject(owner.object, owner.access, sharedStates);
+        for (XPUDeviceBufferState state : sharedStates) {
+            residentObjects.remove(state);
+            evictedObjects.put(state, evictedObject);
+        }
+
+        // The buffer is freed once, and the states that shared it lose their reference
+        victim.setLockBuffer(false);
+        device.deallocate(victim);
+        victim.setLockBuffer(true);
+        for (XPUDeviceBufferState state : sharedStates) {
+            state.setXPUBuffer(null);
+            state.setContents(false);
+        }
+        return new Eviction(bytesReleased, bytesWrittenBack);
+    }
+
+    /**
+     * Allocates and copies in an evicted object before its task-graph executes.
+     * The states that shared the buffer before the eviction share the new
+     * buffer.
+     *
+     * @param executionPlanId
+     *     Execution plan that restores the object.
+     * @param state
+     *     Device state of the object.
+     * @param evictionListener
+     *     Receives the evictions performed to allocate the object.
+     * @return number of bytes copied to the device, or 0 if the object was not
+     *     evicted.
+     */
+    public synchronized long restore(long executionPlanId, XPUDeviceBufferState state, Consumer<Eviction> evictionListener) {
+        EvictedObject evictedObject = evictedObjects.get(state);
+        if (evictedObject == null) {
+            return 0;
+        }
+        allocateWithEviction(evictedObject.object, state, evictedObject.access, evictionListener);
+        device.streamIn(executionPlanId, evictedObject.object, 0, 0, state, null);
+        device.sync(executionPlanId);
+        XPUBuffer buffer = state.getXPUBuffer();
+        for (XPUDeviceBufferState sharedState : evictedObject.sharedStates) {
+            sharedState.setXPUBuffer(buffer);
+            sharedState.setContents(true);
+            evictedObjects.remove(sharedState);
+        }
+        return buffer.size();
+    }
+
+    private void allocateWithEviction(Object object, XPUDeviceBufferState state, Access access, Consumer<Eviction> evictionListener) {
+        while (true) {
+            try {
+                device.allocate(object, 0, state, access);
+                return;
+            } catch (TornadoOutOfMemoryException e) {
+                Eviction eviction = evictLeastRecentlyUsed();
+                if (eviction == null) {
+                    throw e;
+                }
+                evictionListener.accept(eviction);
+            }
+        }
+    }
+
+    private record ResidentObject(long executionPlanId, Object object, Access access, boolean dirty) {
+    }
+
+    private record EvictedObject(Object object, Access access, List<XPUDeviceBufferState> sharedStates) {
+    }
+
+    /**
+     * Result of an eviction.
+     *
+     * @param bytesReleased
+     *     Size of the buffer released on the device.
+     * @param bytesWrittenBack
+     *     Bytes copied to the host object before the buffer was released.
+     */
+    public record Eviction(long bytesReleased, long bytesWrittenBack) {
+    }
+}
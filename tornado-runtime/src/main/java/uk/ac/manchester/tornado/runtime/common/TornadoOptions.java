@@ -146,6 +146,13 @@ public class TornadoOptions {
      */
     public static final boolean ENABLE_STAGED_TRANSFERS = getBooleanValue("tornado.staged.transfers", FALSE);
 
+    /**
+     * Records the commands of the first execution of each execution plan and replays
+     * them in the following executions, instead of interpreting the bytecodes again.
+     * It can be enabled per plan with {@code withRecordedReplay()}. Default off.
+     */
+    public static final boolean ENABLE_RECORDED_REPLAY = getBooleanValue("tornado.recorded.replay", FALSE);
+
     /**
      * Chunk size in bytes for {@link #ENABLE_STAGED_TRANSFERS} (size of each pinned staging slot).
      */
@@ -171,6 +178,27 @@ public class TornadoOptions {
     public static final int STAGED_TRANSFER_FILL_THREADS = Integer.parseInt(getProperty("tornado.staged.fill.threads", Integer.toString(Math.min(8, Math.max(1, Runtime.getRuntime()
             .availableProcessors() / 2)))));
 
+    /**
+     * Fraction of the global memory of the device used by execution plans with
+     * {@code withAutoBatch} that do not set a memory limit.
+     */
+    public static final float AUTO_BATCH_MEMORY_FRACTION = getFloatValue("tornado.batch.auto.memory.fraction", "0.9");
+
+    /**
+     * Minimum change, as a fraction of the iteration space, in the partition of a device for
+     * which an adaptive co-execution plan is repartitioned. Each repartition recompiles the
+     * kernels of all devices.
+     */
+    public static final float COEXECUTION_REPARTITION_THRESHOLD = getFloatValue("tornado.coexecution.repartition.threshold", "0.05");
+
+    /**
+     * Maximum number of kernel launches, across all execution plans, running on a device at the
+     * same time. The other launches wait in a queue ordered by the priority and weight of their
+     * execution plans (see {@code TornadoExecutionPlan#withPriority}). With 0, the scheduler is
+     * disabled and each plan launches its kernels as soon as they are ready.
+     */
+    public static final int DEVICE_SCHEDULER_MAX_IN_FLIGHT = getIntValue("tornado.device.scheduler.max.inflight", "0");
+
     /**
      * Option to dump TornadoVM Internal Bytecodes into a file.
      */
@@ -181,6 +209,13 @@ public class TornadoOptions {
      * reductions.
      */
     public static final boolean EXPERIMENTAL_REDUCE = getBooleanValue("tornado.experimental.reduce", TRUE);
+    /**
+     * Option to combine the partial results of a reduction in a second task on the
+     * same device and write the final value directly into the reduce variable. When
+     * disabled, the whole array of partial results is copied back and the final
+     * value is taken on the host.
+     */
+    public static final boolean REDUCE_DEVICE_COMBINE = getBooleanValue("tornado.reduce.device.combine", TRUE);
     /**
      * Temporal option for disabling null checks for Apache-Flink.
      */
@@ -189,6 +224,28 @@ public class TornadoOptions {
      * Option to enable profiler-feature extractions.
      */
     public static final boolean FEATURE_EXTRACTION = getBooleanValue("tornado.feature.extraction", FALSE);
+    /**
+     * Option to enable the learned device-selection model. When enabled, the code features
+     * extracted during compilation and the measured execution times are used to select the
+     * device (or the Java path) for task-graphs that have no device explicitly assigned.
+     */
+    public static final boolean DEVICE_SELECTION_MODEL = getBooleanValue("tornado.costmodel.enable", FALSE);
+    /**
+     * File in which the device-selection model is loaded from and stored to, so it can be reused
+     * across runs. If empty, the model is only kept in memory.
+     */
+    public static final String DEVICE_SELECTION_MODEL_FILE = getProperty("tornado.costmodel.file", "");
+    /**
+     * Minimum number of samples per device that the device-selection model needs before its
+     * predictions for that device are trusted.
+     */
+    public static final int DEVICE_SELECTION_MODEL_MIN_SAMPLES = getIntValue("tornado.costmodel.min.samples", "3");
+    /**
+     * Number of executions of a task-graph after which the device-selection model selects the
+     * device again. When the sequential Java path was selected, the next execution runs on the
+     * device so the model gets new samples for it. A value of 0 keeps the first selection.
+     */
+    public static final int DEVICE_SELECTION_MODEL_PROBE_INTERVAL = getIntValue("tornado.costmodel.probe.interval", "32");
     /**
      * Enable/Disable FMA Optimizations. True by default.
      */
@@ -239,6 +296,22 @@ public class TornadoOptions {
      * virtual-device.json.
      */
     public static final String VIRTUAL_DEVICE_FILE = Tornado.getProperty("tornado.device.desc", "etc/virtual-device-template.json");
+    /**
+     * Directory in which the kernels compiled by virtual devices are recorded as a kernel bundle for
+     * ahead-of-time compilation.
+     */
+    public static final String AOT_OUTPUT_DIRECTORY = getProperty("tornado.aot.output", "");
+    /**
+     * Directory of a kernel bundle compiled ahead-of-time. When set, kernels found in the bundle are
+     * installed directly instead of being compiled with Graal at runtime.
+     */
+    public static final String AOT_BUNDLE_DIRECTORY = getProperty("tornado.aot.bundle", "");
+    /**
+     * CSV file in which the kernel-quality report is written. For each kernel compiled by a
+     * virtual device, the report contains the compile time per tier, the size of the generated
+     * code and the code features (instruction mix, global loads and stores).
+     */
+    public static final String KERNEL_QUALITY_REPORT = getProperty("tornado.kernel.quality.report", "");
     /**
      * Option to redirect profiler output.
      */
@@ -433,6 +506,15 @@ public class TornadoOptions {
         return getBooleanValue("tornado.reuse.device.buffers", TRUE);
     }
 
+    /**
+     * Option to evict the least recently used device buffers of execution plans
+     * that are not running when an allocation runs out of device memory. True
+     * by default.
+     */
+    public static boolean isDeviceMemoryEvictionEnabled() {
+        return getBooleanValue("tornado.device.memory.eviction", TRUE);
+    }
+
     /**
      * Option to deallocate after the execution plan finishes. It frees all
      * resources consumed by the execution plan, which can involved multiple
@@ -442,6 +524,16 @@ public class TornadoOptions {
         return getBooleanValue("tornado.deallocate.buffers", TRUE);
     }
 
+    /**
+     * Option to use the subgroup extensions of OpenCL devices for the subgroup
+     * collectives of the {@code KernelContext}. If it is disabled, or the device
+     * does not support the extensions, the kernels use subgroups of one lane.
+     * True by default.
+     */
+    public static boolean isOpenCLSubgroupsEnabled() {
+        return getBooleanValue("tornado.opencl.subgroups", TRUE);
+    }
+
     /**
      * Option to enable profiler. It can be disabled at any point during runtime.
      *
@@ -451,6 +543,16 @@ public class TornadoOptions {
         return TORNADO_PROFILER || getBooleanValue(PROFILER, FALSE);
     }
 
+    /**
+     * Code features are extracted from the low-tier graph for the feature dumps, the
+     * device-selection model and the kernel-quality report.
+     *
+     * @return boolean.
+     */
+    public static boolean isCodeFeatureExtractionEnabled() {
+        return FEATURE_EXTRACTION || DEVICE_SELECTION_MODEL || !KERNEL_QUALITY_REPORT.isEmpty();
+    }
+
     public static boolean isUpsReaderEnabled() {
         return UPS_IP_ADDRESS != null;
     }
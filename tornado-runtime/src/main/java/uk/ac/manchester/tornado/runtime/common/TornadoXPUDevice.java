@@ -235,6 +235,47 @@ public interface TornadoXPUDevice extends TornadoDevice {
         // no-op by default
     }
 
+    @Override
+    default int getLaunchQueueDepth() {
+        return DeviceLaunchScheduler.isEnabled() ? DeviceLaunchScheduler.getInstance(this).getQueueDepth() : 0;
+    }
+
+    @Override
+    default int getLaunchesInFlight() {
+        return DeviceLaunchScheduler.isEnabled() ? DeviceLaunchScheduler.getInstance(this).getInFlight() : 0;
+    }
+
+    /**
+     * Returns true if this device can copy a buffer directly from the memory of
+     * the source device, without staging the data through the host.
+     *
+     * @param srcDevice
+     *     Device that holds the data.
+     * @return boolean
+     */
+    default boolean isPeerCopySupported(TornadoXPUDevice srcDevice) {
+        return false;
+    }
+
+    /**
+     * Copies the buffer of an object from the memory of the source device into
+     * the buffer of this device. The copy is ordered after the pending
+     * operations of both devices for the execution plan.
+     *
+     * @param executionPlanId
+     *     Execution plan identifier.
+     * @param srcDevice
+     *     Device that holds the data.
+     * @param srcState
+     *     Buffer state of the object on the source device.
+     * @param destState
+     *     Buffer state of the object on this device. The buffer must be allocated.
+     * @return event identifier of the copy.
+     */
+    default int copyFromPeer(long executionPlanId, TornadoXPUDevice srcDevice, XPUDeviceBufferState srcState, XPUDeviceBufferState destState) {
+        throw new TornadoRuntimeException("Peer copies are not supported on " + getDeviceName());
+    }
+
     /**
      * Returns whether this device supports execution graph capture and replay.
      * When false, the graph compiler will not emit graph bytecodes for this device,
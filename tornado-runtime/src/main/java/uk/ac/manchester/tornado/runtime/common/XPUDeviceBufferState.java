@@ -37,6 +37,7 @@ public class XPUDeviceBufferState implements DeviceBufferState {
     private boolean lockBuffer;
     private long partialSize;
     private boolean reuseBuffer = false;
+    private CoherenceState coherenceState = CoherenceState.INVALID;
 
     @Override
     public void setXPUBuffer(XPUBuffer value) {
@@ -119,6 +120,14 @@ public class XPUDeviceBufferState implements DeviceBufferState {
         reuseBuffer = true;
     }
 
+    public CoherenceState getCoherenceState() {
+        return coherenceState;
+    }
+
+    public void setCoherenceState(CoherenceState coherenceState) {
+        this.coherenceState = coherenceState;
+    }
+
     public XPUDeviceBufferState createSnapshot() {
         XPUDeviceBufferState xpuDeviceBufferState = new XPUDeviceBufferState();
         xpuDeviceBufferState.setLockBuffer(this.isLockedBuffer());
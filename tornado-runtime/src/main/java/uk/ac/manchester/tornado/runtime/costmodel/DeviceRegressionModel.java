@@ -0,0 +1,159 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.runtime.costmodel;
+
+import java.util.StringJoiner;
+
+/**
+ * Online ridge regression that predicts the logarithm of the execution time of
+ * a task-graph on a single device. The model only keeps the normal-equation
+ * accumulators (X^T X and X^T y), so every new sample is folded in with
+ * O(n^2) work and the model can be stored as a single line of text.
+ */
+class DeviceRegressionModel {
+
+    private static final double RIDGE = 1e-3;
+
+    private final int dimension;
+    private final double[] xtx;
+    private final double[] xty;
+    private long numSamples;
+
+    DeviceRegressionModel(int dimension) {
+        this.dimension = dimension;
+        this.xtx = new double[dimension * dimension];
+        this.xty = new double[dimension];
+    }
+
+    long getNumSamples() {
+        return numSamples;
+    }
+
+    void update(double[] x, double y) {
+        for (int i = 0; i < dimension; i++) {
+            for (int j = 0; j < dimension; j++) {
+                xtx[i * dimension + j] += x[i] * x[j];
+            }
+            xty[i] += x[i] * y;
+        }
+        numSamples++;
+    }
+
+    double predict(double[] x) {
+        double[] weights = solve();
+        double y = 0;
+        for (int i = 0; i < dimension; i++) {
+            y += weights[i] * x[i];
+        }
+        return y;
+    }
+
+    /**
+     * Solves (X^T X + lambda I) w = X^T y with Gaussian elimination and partial
+     * pivoting. The ridge term keeps the system well-conditioned while only a
+     * few samples have been recorded.
+     */
+    private double[] solve() {
+        final int n = dimension;
+        double[] a = new double[n * n];
+        double[] b = xty.clone();
+        System.arraycopy(xtx, 0, a, 0, n * n);
+        for (int i = 0; i < n; i++) {
+            a[i * n + i] += RIDGE;
+        }
+
+        for (int col = 0; col < n; col++) {
+            int pivot = col;
+            for (int row = col + 1; row < n; row++) {
+                if (Math.abs(a[row * n + col]) > Math.abs(a[pivot * n + col])) {
+                    pivot = row;
+                }
+            }
+            if (pivot != col) {
+                for (int k = 0; k < n; k++) {
+                    double tmp = a[col * n + k];
+                    a[col * n + k] = a[pivot * n + k];
+                    a[pivot * n + k] = tmp;
+                }
+                double tmp = b[col];
+                b[col] = b[pivot];
+                b[pivot] = tmp;
+            }
+            double diagonal = a[col * n + col];
+            if (diagonal == 0) {
+                continue;
+            }
+            for (int row = col + 1; row < n; row++) {
+                double factor = a[row * n + col] / diagonal;
+                if (factor == 0) {
+                    continue;
+                }
+                for (int k = col; k < n; k++) {
+                    a[row * n + k] -= factor * a[col * n + k];
+                }
+                b[row] -= factor * b[col];
+            }
+        }
+
+        double[] weights = new double[n];
+        for (int row = n - 1; row >= 0; row--) {
+            double sum = b[row];
+            for (int k = row + 1; k < n; k++) {
+                sum -= a[row * n + k] * weights[k];
+            }
+            double diagonal = a[row * n + row];
+            weights[row] = (diagonal == 0) ? 0 : sum / diagonal;
+        }
+        return weights;
+    }
+
+    String serialize() {
+        StringJoiner matrix = new StringJoiner(",");
+        for (double value : xtx) {
+            matrix.add(Double.toString(value));
+        }
+        StringJoiner vector = new StringJoiner(",");
+        for (double value : xty) {
+            vector.add(Double.toString(value));
+        }
+        return numSamples + "\t" + matrix + "\t" + vector;
+    }
+
+    static DeviceRegressionModel deserialize(int dimension, String samples, String matrix, String vector) {
+        String[] matrixValues = matrix.split(",");
+        String[] vectorValues = vector.split(",");
+        if (matrixValues.length != dimension * dimension || vectorValues.length != dimension) {
+            return null;
+        }
+        DeviceRegressionModel model = new DeviceRegressionModel(dimension);
+        model.numSamples = Long.parseLong(samples);
+        for (int i = 0; i < matrixValues.length; i++) {
+            model.xtx[i] = Double.parseDouble(matrixValues[i]);
+        }
+        for (int i = 0; i < vectorValues.length; i++) {
+            model.xty[i] = Double.parseDouble(vectorValues[i]);
+        }
+        return model;
+    }
+}
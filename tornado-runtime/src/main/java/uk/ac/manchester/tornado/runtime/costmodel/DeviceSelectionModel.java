@@ -0,0 +1,375 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.runtime.costmodel;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+
+import uk.ac.manchester.tornado.api.TornadoBackend;
+import uk.ac.manchester.tornado.api.common.TornadoDevice;
+import uk.ac.manchester.tornado.runtime.TornadoCoreRuntime;
+import uk.ac.manchester.tornado.runtime.common.TornadoLogger;
+import uk.ac.manchester.tornado.runtime.common.TornadoOptions;
+import uk.ac.manchester.tornado.runtime.profiler.ProfilerCodeFeatures;
+
+/**
+ * Learned device-selection model. It combines the code features extracted by
+ * the compiler (see {@link ProfilerCodeFeatures}), the input size of a
+ * task-graph, and the execution times measured at runtime to predict which
+ * device (or the sequential Java path) runs a task-graph fastest.
+ *
+ * <p>
+ * Two sources of information are used for every prediction:
+ * <ul>
+ * <li>An exact history of previous executions of the same task-graph, on the
+ * same device, for inputs of a similar size (same power-of-two bucket).</li>
+ * <li>A per-device {@link DeviceRegressionModel} over the code features and the
+ * input size, which generalises to task-graphs that have not been executed on
+ * that device before.</li>
+ * </ul>
+ * </p>
+ *
+ * <p>
+ * The model is updated online with every execution and, if
+ * {@link TornadoOptions#DEVICE_SELECTION_MODEL_FILE} is set, loaded at start-up
+ * and stored on exit.
+ * </p>
+ */
+public final class DeviceSelectionModel {
+
+    public static final String JAVA_DEVICE_KEY = "JAVA";
+
+    private static final int NUM_FEATURES = ProfilerCodeFeatures.values().length;
+    private static final int DIMENSION = NUM_FEATURES + 2;
+    private static final String FILE_HEADER = "# TornadoVM device-selection model v1";
+    private static final String FEATURE_ENTRY = "F";
+    private static final String MODEL_ENTRY = "M";
+    private static final String HISTORY_ENTRY = "H";
+
+    private static DeviceSelectionModel instance;
+
+    private final Map<String, int[]> codeFeatures;
+    private final Map<String, DeviceRegressionModel> deviceModels;
+    private final Map<String, double[]> history;
+    private final TornadoLogger logger;
+    private boolean updated;
+
+    /**
+     * Creates an empty model.
+     *
+     * @param modelFile
+     *     File the model is loaded from and stored to on exit. If empty, the model
+     *     is only kept in memory.
+     */
+    DeviceSelectionModel(String modelFile) {
+        codeFeatures = new HashMap<>();
+        deviceModels = new LinkedHashMap<>();
+        history = new HashMap<>();
+        logger = new TornadoLogger(DeviceSelectionModel.class);
+        if (!modelFile.isEmpty()) {
+            load(new File(modelFile));
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> store(new File(modelFile))));
+        }
+    }
+
+    public static synchronized DeviceSelectionModel getInstance() {
+        if (instance == null) {
+            instance = new DeviceSelectionModel(TornadoOptions.DEVICE_SELECTION_MODEL_FILE);
+        }
+        return instance;
+    }
+
+    public static String getMethodKey(String declaringClassName, String methodName) {
+        return declaringClassName + "." + methodName;
+    }
+
+    public static String getDeviceKey(TornadoDevice device) {
+        return device.getTornadoVMBackend() + ":" + device.getDeviceName();
+    }
+
+    /**
+     * Stores the code features of a compiled method. Features are device
+     * independent, so the latest compilation of a method replaces any previous
+     * entry.
+     *
+     * @param methodKey
+     *     Key of the method, as returned by {@link #getMethodKey}.
+     * @param features
+     *     Map with the features extracted by the compiler.
+     */
+    public synchronized void registerCodeFeatures(String methodKey, Map<ProfilerCodeFeatures, Integer> features) {
+        int[] values = new int[NUM_FEATURES];
+        for (Map.Entry<ProfilerCodeFeatures, Integer> entry : features.entrySet()) {
+            values[entry.getKey().ordinal()] = entry.getValue();
+        }
+        codeFeatures.put(methodKey, values);
+        updated = true;
+    }
+
+    /**
+     * Records the execution time of a task-graph on a device.
+     *
+     * @param methods
+     *     Keys of the methods of all tasks within the task-graph.
+     * @param inputBytes
+     *     Total size of the input and output data of the task-graph.
+     * @param deviceKey
+     *     Key of the device, or {@link #JAVA_DEVICE_KEY} for the sequential Java
+     *     path.
+     * @param elapsedNanos
+     *     Measured execution time in nanoseconds.
+     */
+    public synchronized void recordExecution(List<String> methods, long inputBytes, String deviceKey, long elapsedNanos) {
+        if (elapsedNanos <= 0) {
+            return;
+        }
+        double y = Math.log(elapsedNanos);
+        String historyKey = getHistoryKey(getSignature(methods), deviceKey, inputBytes);
+        double[] entry = history.computeIfAbsent(historyKey, k -> new double[2]);
+        entry[0]++;
+        entry[1] += (y - entry[1]) / entry[0];
+
+        double[] x = buildFeatureVector(methods, inputBytes);
+        if (x != null) {
+            deviceModels.computeIfAbsent(deviceKey, k -> new DeviceRegressionModel(DIMENSION)).update(x, y);
+        }
+        updated = true;
+    }
+
+    /**
+     * Predicts the execution time of a task-graph on a device.
+     *
+     * @return the predicted time in nanoseconds, or a negative value if there is
+     *     not enough information for a prediction.
+     */
+    public synchronized double predict(List<String> methods, long inputBytes, String deviceKey) {
+        double[] entry = history.get(getHistoryKey(getSignature(methods), deviceKey, inputBytes));
+        if (entry != null) {
+            return Math.exp(entry[1]);
+        }
+        DeviceRegressionModel model = deviceModels.get(deviceKey);
+        if (model == null || model.getNumSamples() < TornadoOptions.DEVICE_SELECTION_MODEL_MIN_SAMPLES) {
+            return -1;
+        }
+        double[] x = buildFeatureVector(methods, inputBytes);
+        if (x == null) {
+            return -1;
+        }
+        return Math.exp(model.predict(x));
+    }
+
+    /**
+     * Selects the fastest device for a task-graph among all devices of all
+     * backends installed.
+     *
+     * @param methods
+     *     Keys of the methods of all tasks within the task-graph.
+     * @param inputBytes
+     *     Total size of the input and output data of the task-graph.
+     * @param includeJava
+     *     If the sequential Java path can be selected.
+     * @return the key of the selected device, or null if fewer than two
+     *     candidates have a prediction and the default device should be kept.
+     */
+    public synchronized String selectDevice(List<String> methods, long inputBytes, boolean includeJava) {
+        List<String> candidates = new ArrayList<>();
+        TornadoCoreRuntime runtime = TornadoCoreRuntime.getTornadoRuntime();
+        for (int backendIndex = 0; backendIndex < runtime.getNumBackends(); backendIndex++) {
+            TornadoBackend backend = runtime.getBackend(backendIndex);
+            for (int deviceIndex = 0; deviceIndex < backend.getNumDevices(); deviceIndex++) {
+                candidates.add(getDeviceKey(backend.getDevice(deviceIndex)));
+            }
+        }
+        if (includeJava) {
+            candidates.add(JAVA_DEVICE_KEY);
+        }
+        return selectDevice(methods, inputBytes, candidates);
+    }
+
+    /**
+     * Selects the fastest device for a task-graph among a list of candidates.
+     *
+     * @param methods
+     *     Keys of the methods of all tasks within the task-graph.
+     * @param inputBytes
+     *     Total size of the input and output data of the task-graph.
+     * @param candidates
+     *     Keys of the devices that can be selected, including
+     *     {@link #JAVA_DEVICE_KEY} if the sequential Java path can be selected.
+     * @return the key of the selected device, or null if fewer than two
+     *     candidates have a prediction.
+     */
+    synchronized String selectDevice(List<String> methods, long inputBytes, List<String> candidates) {
+        String bestKey = null;
+        double bestTime = Double.MAX_VALUE;
+        int numPredictions = 0;
+        for (String deviceKey : candidates) {
+            double time = predict(methods, inputBytes, deviceKey);
+            if (time >= 0) {
+                numPredictions++;
+                if (time < bestTime) {
+                    bestTime = time;
+                    bestKey = deviceKey;
+                }
+            }
+        }
+
+        if (bestKey != null) {
+            logger.debug("[DEVICE-SELECTION] %s -> %s (predicted %.0f ns)", getSignature(methods), bestKey, bestTime);
+        }
+        return (numPredictions > 1) ? bestKey : null;
+    }
+
+    /**
+     * Finds the device object that corresponds to a key returned by
+     * {@link #selectDevice}.
+     *
+     * @return {@link TornadoDevice}, or null if the device is not available.
+     */
+    public TornadoDevice findDevice(String deviceKey) {
+        TornadoCoreRuntime runtime = TornadoCoreRuntime.getTornadoRuntime();
+        for (int backendIndex = 0; backendIndex < runtime.getNumBackends(); backendIndex++) {
+            TornadoBackend backend = runtime.getBackend(backendIndex);
+            for (int deviceIndex = 0; deviceIndex < backend.getNumDevices(); deviceIndex++) {
+                TornadoDevice device = backend.getDevice(deviceIndex);
+                if (getDeviceKey(device).equals(deviceKey)) {
+                    return device;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static String getSignature(List<String> methods) {
+        return String.join("+", methods);
+    }
+
+    private static int getSizeBucket(long inputBytes) {
+        return 64 - Long.numberOfLeadingZeros(Math.max(inputBytes, 1));
+    }
+
+    private static String getHistoryKey(String signature, String deviceKey, long inputBytes) {
+        return signature + "\t" + deviceKey + "\t" + getSizeBucket(inputBytes);
+    }
+
+    /**
+     * The feature vector of a task-graph is the sum of the code features of its
+     * tasks, in logarithmic scale, together with the input size and a bias term.
+     */
+    private double[] buildFeatureVector(List<String> methods, long inputBytes) {
+        double[] x = new double[DIMENSION];
+        long[] sum = new long[NUM_FEATURES];
+        for (String method : methods) {
+            int[] features = codeFeatures.get(method);
+            if (features == null) {
+                return null;
+            }
+            for (int i = 0; i < NUM_FEATURES; i++) {
+                sum[i] += features[i];
+            }
+        }
+        x[0] = 1.0;
+        x[1] = Math.log1p(inputBytes);
+        for (int i = 0; i < NUM_FEATURES; i++) {
+            x[i + 2] = Math.log1p(sum[i]);
+        }
+        return x;
+    }
+
+    private synchronized void load(File file) {
+        if (!file.exists()) {
+            return;
+        }
+        try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] fields = line.split("\t");
+                switch (fields[0]) {
+                    case FEATURE_ENTRY -> {
+                        String[] values = fields[2].split(",");
+                        if (values.length == NUM_FEATURES) {
+                            int[] features = new int[NUM_FEATURES];
+                            for (int i = 0; i < NUM_FEATURES; i++) {
+                                features[i] = Integer.parseInt(values[i]);
+                            }
+                            codeFeatures.put(fields[1], features);
+                        }
+                    }
+                    case MODEL_ENTRY -> {
+                        DeviceRegressionModel model = DeviceRegressionModel.deserialize(DIMENSION, fields[2], fields[3], fields[4]);
+                        if (model != null) {
+                            deviceModels.put(fields[1], model);
+                        }
+                    }
+                    case HISTORY_ENTRY -> history.put(fields[1] + "\t" + fields[2] + "\t" + fields[3], new double[] { Double.parseDouble(fields[4]), Double.parseDouble(fields[5]) });
+                    default -> logger.warn("[DEVICE-SELECTION] Ignoring unknown entry in %s: %s", file, fields[0]);
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            logger.warn("[DEVICE-SELECTION] Could not load the device-selection model from %s: %s", file, e.getMessage());
+        }
+    }
+
+    private synchronized void store(File file) {
+        if (!updated) {
+            return;
+        }
+        try (BufferedWriter writer = new BufferedWriter(new FileWriter(file))) {
+            writer.write(FILE_HEADER);
+            writer.newLine();
+            for (Map.Entry<String, int[]> entry : codeFeatures.entrySet()) {
+                StringJoiner values = new StringJoiner(",");
+                for (int value : entry.getValue()) {
+                    values.add(Integer.toString(value));
+                }
+                writer.write(FEATURE_ENTRY + "\t" + entry.getKey() + "\t" + values);
+                writer.newLine();
+            }
+            for (Map.Entry<String, DeviceRegressionModel> entry : deviceModels.entrySet()) {
+                writer.write(MODEL_ENTRY + "\t" + entry.getKey() + "\t" + entry.getValue().serialize());
+                writer.newLine();
+            }
+            for (Map.Entry<String, double[]> entry : history.entrySet()) {
+                writer.write(HISTORY_ENTRY + "\t" + entry.getKey() + "\t" + entry.getValue()[0] + "\t" + entry.getValue()[1]);
+                writer.newLine();
+            }
+            updated = false;
+        } catch (IOException e) {
+            logger.warn("[DEVICE-SELECTION] Could not store the device-selection model in %s: %s", file, e.getMessage());
+        }
+    }
+}
@@ -21,8 +21,17 @@
  */
 package uk.ac.manchester.tornado.runtime.graal.compiler;
 
+import org.graalvm.compiler.nodes.StructuredGraph;
 import org.graalvm.compiler.phases.PhaseSuite;
 import uk.ac.manchester.tornado.runtime.graal.phases.TornadoLowTierContext;
+import uk.ac.manchester.tornado.runtime.profiler.KernelQualityProfiler;
 
 public abstract class TornadoLowTier extends PhaseSuite<TornadoLowTierContext> {
+
+    @Override
+    protected void run(StructuredGraph graph, TornadoLowTierContext context) {
+        long start = System.nanoTime();
+        super.run(graph, context);
+        KernelQualityProfiler.recordTierTime(KernelQualityProfiler.CompilationTier.LOW_TIER, System.nanoTime() - start);
+    }
 }
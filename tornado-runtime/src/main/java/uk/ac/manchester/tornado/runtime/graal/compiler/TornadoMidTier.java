@@ -20,10 +20,18 @@
  */
 package uk.ac.manchester.tornado.runtime.graal.compiler;
 
+import org.graalvm.compiler.nodes.StructuredGraph;
 import org.graalvm.compiler.phases.PhaseSuite;
 
 import uk.ac.manchester.tornado.runtime.graal.phases.TornadoMidTierContext;
+import uk.ac.manchester.tornado.runtime.profiler.KernelQualityProfiler;
 
 public abstract class TornadoMidTier extends PhaseSuite<TornadoMidTierContext> {
 
+    @Override
+    protected void run(StructuredGraph graph, TornadoMidTierContext context) {
+        long start = System.nanoTime();
+        super.run(graph, context);
+        KernelQualityProfiler.recordTierTime(KernelQualityProfiler.CompilationTier.MID_TIER, System.nanoTime() - start);
+    }
 }
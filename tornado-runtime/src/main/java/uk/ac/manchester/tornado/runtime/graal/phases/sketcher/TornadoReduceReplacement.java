@@ -42,11 +42,14 @@ import org.graalvm.compiler.nodes.StartNode;
 import org.graalvm.compiler.nodes.StructuredGraph;
 import org.graalvm.compiler.nodes.ValueNode;
 import org.graalvm.compiler.nodes.calc.AddNode;
+import org.graalvm.compiler.nodes.calc.AndNode;
 import org.graalvm.compiler.nodes.calc.BinaryArithmeticNode;
 import org.graalvm.compiler.nodes.calc.BinaryNode;
 import org.graalvm.compiler.nodes.calc.CompareNode;
 import org.graalvm.compiler.nodes.calc.MulNode;
+import org.graalvm.compiler.nodes.calc.OrNode;
 import org.graalvm.compiler.nodes.calc.SubNode;
+import org.graalvm.compiler.nodes.calc.XorNode;
 import org.graalvm.compiler.nodes.extended.JavaReadNode;
 import org.graalvm.compiler.nodes.extended.JavaWriteNode;
 import org.graalvm.compiler.nodes.java.LoadFieldNode;
@@ -238,6 +241,11 @@ public class TornadoReduceReplacement extends BasePhase<TornadoSketchTierContext
             accumulator = subNode.getX();
             value = atomicSub;
             subNode.safeDelete();
+        } else if (storeValue instanceof AndNode || storeValue instanceof OrNode || storeValue instanceof XorNode) {
+            // Bitwise reductions keep the node, and the snippets are selected from its
+            // type. As for the intrinsics, the value to combine is taken from Y.
+            accumulator = ((BinaryNode) storeValue).getY();
+            value = storeValue;
         } else if (storeValue instanceof BinaryNode) {
 
             // We need to compare with the name because it is loaded from inner core
@@ -31,13 +31,16 @@ import java.util.Collections;
 import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
+import java.util.function.LongSupplier;
 
+import uk.ac.manchester.tornado.api.BatchDescriptor;
 import uk.ac.manchester.tornado.api.KernelContext;
 import uk.ac.manchester.tornado.api.TornadoDeviceContext;
 import uk.ac.manchester.tornado.api.common.Access;
@@ -53,6 +56,7 @@ import uk.ac.manchester.tornado.api.types.images.TornadoImagesInterface;
 import uk.ac.manchester.tornado.api.types.matrix.TornadoMatrixInterface;
 import uk.ac.manchester.tornado.api.types.vectors.TornadoVectorsInterface;
 import uk.ac.manchester.tornado.api.types.volumes.TornadoVolumesInterface;
+import uk.ac.manchester.tornado.runtime.common.BatchConfiguration;
 import uk.ac.manchester.tornado.runtime.common.KernelStackFrame;
 import uk.ac.manchester.tornado.runtime.common.RuntimeUtilities;
 import uk.ac.manchester.tornado.runtime.common.TornadoLogger;
@@ -85,7 +89,10 @@ public class TornadoExecutionContext {
     private TornadoXPUDevice[] taskToDeviceMapTable;
     private int nextTask;
     private long batchSize;
+    private Map<Object, BatchDescriptor> batchDescriptors;
     private long executionPlanMemoryLimit;
+    private long partitionFirstIteration;
+    private long partitionIterations;
     private Set<TornadoXPUDevice> lastDevices;
     private boolean redeployOnDevice;
     private boolean defaultScheduler;
@@ -98,6 +105,20 @@ public class TornadoExecutionContext {
     private boolean isExecutionGraphEnabled;
     private boolean isIntraPlanConcurrencyEnabled;
     private boolean isStagedTransfersEnabled;
+    private boolean isRecordedReplayEnabled;
+
+    /**
+     * Objects copied to the device with a number of bytes that changes between
+     * executions (e.g., compressed payloads). Only the bytes returned by the
+     * supplier are copied.
+     */
+    private Map<Object, LongSupplier> partialTransferSizes;
+
+    /**
+     * Priority and weight of the kernel launches in the device scheduler.
+     */
+    private int schedulingPriority;
+    private int schedulingWeight;
 
     public TornadoExecutionContext(String id) {
         name = id;
@@ -116,7 +137,12 @@ public class TornadoExecutionContext {
         Arrays.fill(taskToDeviceMapTable, null);
         nextTask = 0;
         batchSize = INIT_VALUE;
+        batchDescriptors = new HashMap<>();
+        partialTransferSizes = new IdentityHashMap<>();
+        schedulingWeight = 1;
         executionPlanMemoryLimit = INIT_VALUE;
+        partitionFirstIteration = INIT_VALUE;
+        partitionIterations = INIT_VALUE;
         lastDevices = new HashSet<>();
         currentDeviceMemoryUsage = 0;
         this.profiler = null;
@@ -126,6 +152,7 @@ public class TornadoExecutionContext {
         // Defaults to the -Dtornado.staged.transfers property, so the plan-level API overrides it
         // rather than replacing it.
         this.isStagedTransfersEnabled = TornadoOptions.ENABLE_STAGED_TRANSFERS;
+        this.isRecordedReplayEnabled = TornadoOptions.ENABLE_RECORDED_REPLAY;
     }
 
     public KernelStackFrame[] getKernelStackFrame() {
@@ -178,6 +205,46 @@ public class TornadoExecutionContext {
         this.batchSize = size;
     }
 
+    /**
+     * Returns the batch descriptor of an object.
+     *
+     * @return {@link BatchDescriptor}, or null if the object has no descriptor.
+     */
+    public BatchDescriptor getBatchDescriptor(Object object) {
+        return batchDescriptors.get(object);
+    }
+
+    public Map<Object, BatchDescriptor> getBatchDescriptors() {
+        return batchDescriptors;
+    }
+
+    public void setBatchDescriptors(Map<Object, BatchDescriptor> descriptors) {
+        batchDescriptors = new HashMap<>(descriptors);
+    }
+
+    /**
+     * Restricts the execution to the iterations
+     * {@code [firstIteration, firstIteration + numIterations)} of the split
+     * objects. It is used by co-execution to run a partition of the iteration
+     * space on each device.
+     */
+    public void setPartition(long firstIteration, long numIterations) {
+        this.partitionFirstIteration = firstIteration;
+        this.partitionIterations = numIterations;
+    }
+
+    public boolean isPartitioned() {
+        return partitionIterations != INIT_VALUE;
+    }
+
+    public long getPartitionFirstIteration() {
+        return partitionFirstIteration;
+    }
+
+    public long getPartitionIterations() {
+        return partitionIterations;
+    }
+
     public long getExecutionPlanMemoryLimit() {
         return executionPlanMemoryLimit;
     }
@@ -191,6 +258,33 @@ public class TornadoExecutionContext {
     }
 
     public boolean doesExceedExecutionPlanLimit() {
+        return getDeviceFootprintInBytes() > getExecutionPlanMemoryLimit();
+    }
+
+    /**
+     * Computes the number of bytes that the objects and constants of this
+     * execution context occupy on the device. When the data is processed in
+     * batches, only one chunk of each split object is allocated on the device.
+     *
+     * @return long with the size in bytes.
+     */
+    public long getDeviceFootprintInBytes() {
+        long totalSize = getTotalFootprintInBytes();
+        if (batchSize == INIT_VALUE) {
+            return totalSize;
+        }
+        BatchConfiguration batchConfiguration = BatchConfiguration.computeChunkSizes(this, batchSize);
+        long bytesPerIteration = batchConfiguration.getBytesPerIteration();
+        return totalSize - batchConfiguration.getObjectIterations() * bytesPerIteration + batchConfiguration.getNumberOfThreads(0) * bytesPerIteration;
+    }
+
+    /**
+     * Computes the total number of bytes of all objects and constants used by the
+     * tasks within this execution context.
+     *
+     * @return long with the total size in bytes.
+     */
+    public long getTotalFootprintInBytes() {
         long totalSize = 0;
 
         for (Object parameter : getObjects()) {
@@ -231,7 +325,7 @@ public class TornadoExecutionContext {
                 totalSize += dataTypeSize.getSize();
             }
         }
-        return totalSize > getExecutionPlanMemoryLimit();
+        return totalSize;
     }
 
     public int replaceVariable(Object oldObj, Object newObj) {
@@ -262,6 +356,10 @@ public class TornadoExecutionContext {
             Access access = objectsAccesses.get(oldObj);
             objectsAccesses.remove(oldObj);
             objectsAccesses.put(newObj, access);
+            BatchDescriptor batchDescriptor = batchDescriptors.remove(oldObj);
+            if (batchDescriptor != null) {
+                batchDescriptors.put(newObj, batchDescriptor);
+            }
             objectMap.put(newObj.hashCode(), index);
             objectState.add(index, newLocalObjectState);
         }
@@ -692,10 +790,17 @@ public class TornadoExecutionContext {
         newExecutionContext.profiler = this.profiler;
         newExecutionContext.nextTask = this.nextTask;
         newExecutionContext.executionPlanMemoryLimit = this.executionPlanMemoryLimit;
+        newExecutionContext.batchDescriptors = new HashMap<>(batchDescriptors);
+        newExecutionContext.partialTransferSizes = new IdentityHashMap<>(partialTransferSizes);
+        newExecutionContext.schedulingPriority = this.schedulingPriority;
+        newExecutionContext.schedulingWeight = this.schedulingWeight;
+        newExecutionContext.partitionFirstIteration = this.partitionFirstIteration;
+        newExecutionContext.partitionIterations = this.partitionIterations;
 
         newExecutionContext.isExecutionGraphEnabled = this.isExecutionGraphEnabled;
         newExecutionContext.isIntraPlanConcurrencyEnabled = this.isIntraPlanConcurrencyEnabled;
         newExecutionContext.isStagedTransfersEnabled = this.isStagedTransfersEnabled;
+        newExecutionContext.isRecordedReplayEnabled = this.isRecordedReplayEnabled;
 
         return newExecutionContext;
     }
@@ -749,4 +854,38 @@ public class TornadoExecutionContext {
         return this.isStagedTransfersEnabled;
     }
 
+    public void setRecordedReplayEnabled(boolean enabled) {
+        this.isRecordedReplayEnabled = enabled;
+    }
+
+    public boolean isRecordedReplayEnabled() {
+        return this.isRecordedReplayEnabled;
+    }
+
+    public void setPartialTransferSize(Object object, LongSupplier numBytes) {
+        partialTransferSizes.put(object, numBytes);
+    }
+
+    /**
+     * @return the number of bytes to copy to the device for the object in the
+     *     current execution, or -1 if the whole object is copied.
+     */
+    public long getPartialTransferSize(Object object) {
+        LongSupplier numBytes = partialTransferSizes.get(object);
+        return (numBytes == null) ? -1 : numBytes.getAsLong();
+    }
+
+    public void setSchedulingPolicy(int priority, int weight) {
+        this.schedulingPriority = priority;
+        this.schedulingWeight = weight;
+    }
+
+    public int getSchedulingPriority() {
+        return schedulingPriority;
+    }
+
+    public int getSchedulingWeight() {
+        return schedulingWeight;
+    }
+
 }
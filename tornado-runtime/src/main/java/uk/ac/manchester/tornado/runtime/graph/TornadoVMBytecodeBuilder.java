@@ -27,8 +27,12 @@ import static uk.ac.manchester.tornado.runtime.common.Tornado.getProperty;
 
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
+import uk.ac.manchester.tornado.runtime.common.BatchConfiguration;
 import uk.ac.manchester.tornado.runtime.common.RuntimeUtilities;
 import uk.ac.manchester.tornado.runtime.common.TornadoLogger;
 import uk.ac.manchester.tornado.runtime.graph.nodes.AbstractNode;
@@ -111,6 +115,58 @@ public class TornadoVMBytecodeBuilder {
         }
     }
 
+    /**
+     * Emits the bytecodes of a node for one chunk of a batched task-graph. Split
+     * objects are allocated and transferred per chunk, with their own offsets and
+     * sizes. Broadcast and reduce objects are allocated and copied in with the
+     * first chunk, and copied out and deallocated with the last chunk.
+     *
+     * @return true if any bytecode was emitted for the node.
+     */
+    boolean emitBatchedAsyncNode(AbstractNode node, int dependencyBC, BatchConfiguration batchConfiguration, int chunk) {
+        final boolean firstChunk = chunk == 0;
+        final boolean lastChunk = chunk == batchConfiguration.getNumberOfChunks() - 1;
+        if (node instanceof AllocateMultipleBuffersNode allocateMultipleBuffersNode) {
+            // The ALLOC bytecode takes a single batch size, so objects are grouped by chunk size
+            Map<Long, List<AbstractNode>> valuesPerSize = new LinkedHashMap<>();
+            for (AbstractNode value : allocateMultipleBuffersNode.getValues()) {
+                if (firstChunk || batchConfiguration.isSplit(value.getIndex())) {
+                    long size = batchConfiguration.getChunkSize(value.getIndex(), chunk);
+                    valuesPerSize.computeIfAbsent(size, k -> new ArrayList<>()).add(value);
+                }
+            }
+            valuesPerSize.forEach((size, values) -> bitcodeASM.allocate(values, size));
+            return !valuesPerSize.isEmpty();
+        } else if (node instanceof CopyInNode copyInNode) {
+            final int index = copyInNode.getValue().getIndex();
+            if (!firstChunk && !batchConfiguration.isSplit(index)) {
+                return false;
+            }
+            bitcodeASM.transferToDeviceOnce(index, dependencyBC, batchConfiguration.getChunkOffset(index, chunk), batchConfiguration.getChunkSize(index, chunk));
+        } else if (node instanceof StreamInNode streamInNode) {
+            final int index = streamInNode.getValue().getIndex();
+            if (!firstChunk && !batchConfiguration.isSplit(index)) {
+                return false;
+            }
+            bitcodeASM.transferToDeviceAlways(index, dependencyBC, batchConfiguration.getChunkOffset(index, chunk), batchConfiguration.getChunkSize(index, chunk));
+        } else if (node instanceof CopyOutNode copyOutNode) {
+            final int index = copyOutNode.getValue().getValue().getIndex();
+            if (!lastChunk && !batchConfiguration.isSplit(index)) {
+                return false;
+            }
+            bitcodeASM.transferToHost(index, dependencyBC, batchConfiguration.getChunkOffset(index, chunk), batchConfiguration.getChunkSize(index, chunk));
+        } else if (node instanceof DeallocateNode deallocateNode) {
+            final int index = deallocateNode.getValue().getIndex();
+            if (!lastChunk && !batchConfiguration.isSplit(index)) {
+                return false;
+            }
+            bitcodeASM.deallocate(index);
+        } else {
+            emitAsyncNode(node, dependencyBC, batchConfiguration.getThreadOffset(chunk), 0, batchConfiguration.getNumberOfThreads(chunk));
+        }
+        return true;
+    }
+
     private void emitArgList(TaskNode taskNode) {
         final int numArgs = taskNode.getNumArgs();
         for (int i = 0; i < numArgs; i++) {
@@ -253,19 +253,71 @@ public class TornadoVMGraphCompiler {
 
         BatchConfiguration batchConfiguration = BatchConfiguration.computeChunkSizes(executionContext, batchSize);
 
-        long offset = 0;
-        long numberOfThreads = batchSize / batchConfiguration.getNumBytesType();
-        for (int i = 0; i < batchConfiguration.getTotalChunks(); i++) {
-            offset = (batchSize * i);
-            scheduleAndEmitTornadoVMBytecodes(tornadoVMBytecodeBuilder, graph, intermediateTornadoGraph, offset, batchSize, numberOfThreads, 1, executionContext);
+        // The last chunk processes the remaining iterations, if any
+        for (int chunk = 0; chunk < batchConfiguration.getNumberOfChunks(); chunk++) {
+            scheduleAndEmitBatchBytecodes(tornadoVMBytecodeBuilder, graph, intermediateTornadoGraph, batchConfiguration, chunk, executionContext);
         }
-        // Last chunk
-        if (batchConfiguration.getRemainingChunkSize() != 0) {
-            offset += (batchSize);
-            numberOfThreads = batchConfiguration.getRemainingChunkSize() / batchConfiguration.getNumBytesType();
-            long realBatchSize = batchConfiguration.getTotalChunks() == 0 ? 0 : batchConfiguration.getRemainingChunkSize();
-            long realOffsetSize = batchConfiguration.getTotalChunks() == 0 ? 0 : offset;
-            scheduleAndEmitTornadoVMBytecodes(tornadoVMBytecodeBuilder, graph, intermediateTornadoGraph, realOffsetSize, realBatchSize, numberOfThreads, 1, executionContext);
+    }
+
+    private static void scheduleAndEmitBatchBytecodes(TornadoVMBytecodeBuilder tornadoVMBytecodeBuilder, TornadoGraph graph, IntermediateTornadoGraph intermediateTornadoGraph,
+            BatchConfiguration batchConfiguration, int chunk, TornadoExecutionContext executionContext) {
+        final int[] nodeIds = intermediateTornadoGraph.getNodeIds();
+        final BitSet[] dependencies = intermediateTornadoGraph.getDependencies();
+
+        final BitSet scheduled = new BitSet(dependencies.length);
+        scheduled.clear();
+        final BitSet nodes = new BitSet(graph.getValid().length());
+        final int[] depLists = new int[dependencies.length];
+        Arrays.fill(depLists, -1);
+        int index = 0;
+        for (int i = 0; i < dependencies.length; i++) {
+            if (!dependencies[i].isEmpty()) {
+                final AbstractNode current = graph.getNode(nodeIds[i]);
+                if (current instanceof DependentReadNode) {
+                    continue;
+                }
+                depLists[i] = index;
+                index++;
+            }
+        }
+
+        while (scheduled.cardinality() < dependencies.length) {
+            for (int i = 0; i < dependencies.length; i++) {
+                if (!scheduled.get(i)) {
+                    final BitSet outstandingDeps = new BitSet(nodes.length());
+                    outstandingDeps.or(dependencies[i]);
+                    outstandingDeps.andNot(nodes);
+
+                    if (outstandingDeps.isEmpty()) {
+                        final ContextOpNode asyncNode = (ContextOpNode) graph.getNode(nodeIds[i]);
+
+                        if (shouldEmitAsyncNodeForTheCurrentContext(1, asyncNode, tornadoVMBytecodeBuilder.isSingleContext(), executionContext)) {
+                            boolean emitted;
+                            try {
+                                emitted = tornadoVMBytecodeBuilder.emitBatchedAsyncNode(asyncNode, (dependencies[i].isEmpty()) ? -1 : depLists[i], batchConfiguration, chunk);
+                            } catch (BufferOverflowException e) {
+                                throw new TornadoRuntimeException(
+                                        "[ERROR] Buffer Overflow exception. To increase the buffer size, use -Dtornado.tvm.maxbytecodesize=" + TornadoVMBytecodeBuilder.MAX_TORNADO_VM_BYTECODE_SIZE);
+                            }
+
+                            // Broadcast and reduce objects are only transferred with the first
+                            // and the last chunks, so the other chunks emit no dependency edges for them
+                            if (emitted) {
+                                for (int j = 0; j < dependencies.length; j++) {
+                                    if (j == i) {
+                                        continue;
+                                    }
+                                    if (dependencies[j].get(nodeIds[i]) && depLists[j] != -1) {
+                                        tornadoVMBytecodeBuilder.emitAddDependency(depLists[j]);
+                                    }
+                                }
+                            }
+                        }
+                        scheduled.set(i);
+                        nodes.set(nodeIds[i]);
+                    }
+                }
+            }
         }
     }
 
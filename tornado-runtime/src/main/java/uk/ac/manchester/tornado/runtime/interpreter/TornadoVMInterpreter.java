@@ -27,6 +27,7 @@ import static uk.ac.manchester.tornado.api.enums.TornadoExecutionStatus.COMPLETE
 import static uk.ac.manchester.tornado.runtime.common.TornadoOptions.VIRTUAL_DEVICE_ENABLED;
 import static uk.ac.manchester.tornado.runtime.common.TornadoOptions.VM_USE_DEPS;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.BitSet;
 import java.util.HashMap;
@@ -49,6 +50,7 @@ import uk.ac.manchester.tornado.api.exceptions.TornadoDeviceFP64NotSupported;
 import uk.ac.manchester.tornado.api.exceptions.TornadoFailureException;
 import uk.ac.manchester.tornado.api.exceptions.TornadoInternalError;
 import uk.ac.manchester.tornado.api.exceptions.TornadoMemoryException;
+import uk.ac.manchester.tornado.api.exceptions.TornadoOutOfMemoryException;
 import uk.ac.manchester.tornado.api.exceptions.TornadoRuntimeException;
 import uk.ac.manchester.tornado.api.memory.XPUBuffer;
 import uk.ac.manchester.tornado.api.profiler.ProfilerType;
@@ -57,6 +59,8 @@ import uk.ac.manchester.tornado.api.runtime.TaskContextInterface;
 import uk.ac.manchester.tornado.api.types.arrays.TornadoNativeArray;
 import uk.ac.manchester.tornado.runtime.EmptyEvent;
 import uk.ac.manchester.tornado.runtime.common.BatchConfiguration;
+import uk.ac.manchester.tornado.runtime.common.DeviceLaunchScheduler;
+import uk.ac.manchester.tornado.runtime.common.DeviceResidencyManager;
 import uk.ac.manchester.tornado.runtime.common.KernelStackFrame;
 import uk.ac.manchester.tornado.runtime.common.RuntimeUtilities;
 import uk.ac.manchester.tornado.runtime.common.TornadoInstalledCode;
@@ -119,6 +123,10 @@ public class TornadoVMInterpreter {
     private boolean insideCaptureRegion = false;
     private boolean executionGraphEnabled = true;
 
+    private List<RecordedCommand> recordedCommands;
+    private List<RecordedCommand> recordingCommands;
+    private boolean recordedWithDependencies;
+
     private TornadoLogger logger = new TornadoLogger(this.getClass());
 
     /**
@@ -186,14 +194,14 @@ public class TornadoVMInterpreter {
         long batchSize = context.getBatchSize();
         if (batchSize != -1) {
             BatchConfiguration batchConfiguration = BatchConfiguration.computeChunkSizes(context, batchSize);
-            int totalChunks = batchConfiguration.getTotalChunks();
-            for (Object object : objects) {
+            for (int i = 0; i < objects.size(); i++) {
                 // Deliberately counts only the EVEN chunks: the DEALLOC after the last even chunk must
                 // fire so the remainder chunk (if any) gets a fresh buffer sized to the remainder -
                 // transfers use the buffer's allocated size, so reusing the even-chunk buffer would
-                // overrun the host segment.
-                totalEvenBatchesPerObject.put(object, totalChunks);
-                currentBatchNumberPerObject.put(object, 0);
+                // overrun the host segment. Broadcast and reduce objects have no chunks, so their
+                // single DEALLOC (emitted with the last chunk) always fires.
+                totalEvenBatchesPerObject.put(objects.get(i), batchConfiguration.getTotalChunks(i));
+                currentBatchNumberPerObject.put(objects.get(i), 0);
             }
         }
     }
@@ -227,6 +235,10 @@ public class TornadoVMInterpreter {
     }
 
     public void setGridScheduler(GridScheduler gridScheduler) {
+        if (this.gridScheduler != gridScheduler) {
+            // The tasks of the recorded commands are configured for the previous grid
+            recordedCommands = null;
+        }
         this.gridScheduler = gridScheduler;
     }
 
@@ -343,7 +355,13 @@ public class TornadoVMInterpreter {
                     " Running in thread: ")).append(Thread.currentThread().getName()).append("\n");
         }
 
-        while (bytecodeResult.hasRemaining()) {
+        final boolean replay = !isWarmup && canReplay();
+        if (replay) {
+            replayRecordedCommands();
+        }
+        recordingCommands = (!replay && shouldRecord(isWarmup)) ? new ArrayList<>() : null;
+
+        while (!replay && bytecodeResult.hasRemaining()) {
             final byte op = bytecodeResult.get();
             if (op == TornadoVMBytecodes.ALLOC.value()) {
                 final long sizeBatch = bytecodeResult.getLong();
@@ -355,6 +373,7 @@ public class TornadoVMInterpreter {
                 if (isWarmup || !executionGraphHandles.isEmpty()) {
                     continue;
                 }
+                record(last -> executeAlloc(null, args, sizeBatch));
                 lastEvent = executeAlloc(logBuilder, args, sizeBatch);
             } else if (op == TornadoVMBytecodes.DEALLOC.value()) {
                 final int objectIndex = bytecodeResult.getInt();
@@ -370,6 +389,7 @@ public class TornadoVMInterpreter {
                     }
                     continue;
                 }
+                record(last -> executeDeAlloc(null, objectIndex));
                 lastEvent = executeDeAlloc(logBuilder, objectIndex);
             } else if (op == TornadoVMBytecodes.TRANSFER_HOST_TO_DEVICE_ONCE.value()) {
                 final int objectIndex = bytecodeResult.getInt();
@@ -380,6 +400,7 @@ public class TornadoVMInterpreter {
                 if (isWarmup) {
                     continue;
                 }
+                record(last -> transferHostToDeviceOnce(null, objectIndex, offset, eventId, sizeBatch, waitList));
                 lastEvent = transferHostToDeviceOnce(logBuilder, objectIndex, offset, eventId, sizeBatch, waitList);
             } else if (op == TornadoVMBytecodes.TRANSFER_HOST_TO_DEVICE_ALWAYS.value()) {
                 final int objectIndex = bytecodeResult.getInt();
@@ -390,6 +411,7 @@ public class TornadoVMInterpreter {
                 if (isWarmup) {
                     continue;
                 }
+                record(last -> transferHostToDeviceAlways(null, objectIndex, offset, eventId, sizeBatch, waitList));
                 lastEvent = transferHostToDeviceAlways(logBuilder, objectIndex, offset, eventId, sizeBatch, waitList);
             } else if (op == TornadoVMBytecodes.TRANSFER_DEVICE_TO_HOST_ALWAYS.value()) {
                 final int objectIndex = bytecodeResult.getInt();
@@ -400,6 +422,7 @@ public class TornadoVMInterpreter {
                 if (isWarmup) {
                     continue;
                 }
+                record(last -> transferDeviceToHost(null, objectIndex, offset, eventId, sizeBatch, waitList));
                 lastEvent = transferDeviceToHost(logBuilder, objectIndex, offset, eventId, sizeBatch, waitList);
             } else if (op == TornadoVMBytecodes.TRANSFER_DEVICE_TO_HOST_ALWAYS_BLOCKING.value()) {
                 final int objectIndex = bytecodeResult.getInt();
@@ -410,6 +433,10 @@ public class TornadoVMInterpreter {
                 if (isWarmup) {
                     continue;
                 }
+                record(last -> {
+                    transferDeviceToHostBlocking(null, objectIndex, offset, eventId, sizeBatch, waitList);
+                    return last;
+                });
                 transferDeviceToHostBlocking(logBuilder, objectIndex, offset, eventId, sizeBatch, waitList);
             } else if (op == TornadoVMBytecodes.LAUNCH.value()) {
                 final int callWrapperIndex = bytecodeResult.getInt();
@@ -423,12 +450,18 @@ public class TornadoVMInterpreter {
                     popArgumentsFromCall(numArgs);
                     continue;
                 }
-                lastEvent = executeLaunch(logBuilder, numArgs, eventId, taskIndex, batchThreads, offset, executionFrame);
+                final LaunchArguments arguments = readLaunchArguments(numArgs);
+                record(last -> replayLaunch(callWrapperIndex, numArgs, eventId, taskIndex, batchThreads, offset, executionFrame, arguments));
+                lastEvent = admitAndLaunch(logBuilder, numArgs, eventId, taskIndex, batchThreads, offset, executionFrame, arguments);
             } else if (op == TornadoVMBytecodes.ADD_DEPENDENCY.value()) {
                 final int eventList = bytecodeResult.getInt();
                 if (isWarmup) {
                     continue;
                 }
+                record(last -> {
+                    executeDependency(null, last, eventList);
+                    return last;
+                });
                 executeDependency(logBuilder, lastEvent, eventList);
             } else if (op == TornadoVMBytecodes.ON_DEVICE.value()) {
                 final int objectIndex = bytecodeResult.getInt();
@@ -436,6 +469,7 @@ public class TornadoVMInterpreter {
                 if (isWarmup) {
                     continue;
                 }
+                record(last -> executeOnDevice(null, objectIndex, eventId));
                 lastEvent = executeOnDevice(logBuilder, objectIndex, eventId);
             } else if (op == TornadoVMBytecodes.PERSIST.value()) {
                 final int objectIndex = bytecodeResult.getInt();
@@ -443,6 +477,7 @@ public class TornadoVMInterpreter {
                 if (isWarmup) {
                     continue;
                 }
+                record(last -> executePersist(null, objectIndex, eventId));
                 lastEvent = executePersist(logBuilder, objectIndex, eventId);
             } else if (op == TornadoVMBytecodes.BARRIER.value()) {
                 final int eventId = bytecodeResult.getInt();
@@ -450,20 +485,31 @@ public class TornadoVMInterpreter {
                 if (isWarmup) {
                     continue;
                 }
+                record(last -> executeBarrier(null, eventId, waitList));
                 lastEvent = executeBarrier(logBuilder, eventId, waitList);
             } else if (op == TornadoVMBytecodes.CUDA_GRAPH_LAUNCH.value()) {
                 final int graphId = bytecodeResult.getInt();
                 if (isWarmup) {
                     continue;
                 }
+                // CUDA graphs already replay the plan: they are not recorded
+                recordingCommands = null;
                 if (executionGraphHandles.containsKey(graphId)) {
-                    lastEvent = executeGraphLaunch(logBuilder, graphId);
+                    final boolean admitted = admitLaunch();
+                    int launchEvent = -1;
+                    try {
+                        launchEvent = executeGraphLaunch(logBuilder, graphId);
+                    } finally {
+                        releaseLaunch(admitted, launchEvent);
+                    }
+                    lastEvent = launchEvent;
                 }
             } else if (op == TornadoVMBytecodes.CUDA_GRAPH_BEGIN_CAPTURE.value()) {
                 final int graphId = bytecodeResult.getInt();
                 if (isWarmup) {
                     continue;
                 }
+                recordingCommands = null;
                 if (executionGraphHandles.containsKey(graphId)) {
                     // Graph already captured: skip entire capture region
                     skipToAfterEndCapture(graphId);
@@ -504,6 +550,12 @@ public class TornadoVMInterpreter {
             }
         }
 
+        if (recordingCommands != null) {
+            recordedCommands = recordingCommands;
+            recordedWithDependencies = useDependencies;
+            recordingCommands = null;
+        }
+
         Event barrier = EMPTY_EVENT;
         if (!isWarmup) {
             if (useDependencies) {
@@ -677,6 +729,66 @@ public class TornadoVMInterpreter {
         return event;
     }
 
+    /**
+     * Commands are recorded in the first execution of a plan with the recorded
+     * replay enabled, once the warm-up (if any) has compiled the tasks. Plans that
+     * capture CUDA graphs or process batches are always interpreted.
+     */
+    private boolean shouldRecord(boolean isWarmup) {
+        return !isWarmup //
+                && graphExecutionContext.isRecordedReplayEnabled() //
+                && recordedCommands == null //
+                && graphExecutionContext.getBatchSize() == -1 //
+                && !graphExecutionContext.isExecutionGraphEnabled() //
+                && !TornadoOptions.LOG_BYTECODES();
+    }
+
+    private boolean canReplay() {
+        if (recordedCommands == null) {
+            return false;
+        }
+        if (!graphExecutionContext.isRecordedReplayEnabled() //
+                || recordedWithDependencies != useDependencies //
+                || graphExecutionContext.getBatchSize() != -1 //
+                || graphExecutionContext.redeployOnDevice() //
+                || interpreterDevice.getDeviceContext().wasReset() //
+                || TornadoOptions.LOG_BYTECODES()) {
+            // The recording does not match the current configuration of the plan
+            recordedCommands = null;
+            return false;
+        }
+        return true;
+    }
+
+    private void record(RecordedCommand command) {
+        if (recordingCommands != null) {
+            recordingCommands.add(command);
+        }
+    }
+
+    private void replayRecordedCommands() {
+        int lastEvent = -1;
+        for (RecordedCommand command : recordedCommands) {
+            lastEvent = command.replay(lastEvent);
+        }
+    }
+
+    /**
+     * Replays a kernel launch with the stack frame resolved when it was recorded.
+     * If the code of the task or its stack frame were invalidated since then (e.g.,
+     * after the code cache was cleared), the task is compiled again.
+     */
+    private int replayLaunch(final int callWrapperIndex, final int numArgs, final int eventId, final int taskIndex, final long batchThreads, final long offset, XPUExecutionFrame executionFrame,
+            LaunchArguments arguments) {
+        final SchedulableTask task = taskExecutionContexts.get(taskIndex);
+        if (!(task instanceof LibraryTask) && (!executionFrame.stackFrame.isValid() || shouldCompile(installedCodes[globalToLocalTaskIndex(taskIndex)]))) {
+            executionFrame.stackFrame = compileTaskFromBytecodeToBinary(callWrapperIndex, numArgs, eventId, taskIndex, batchThreads).stackFrame;
+        } else {
+            registerTaskInProfiler(task);
+        }
+        return admitAndLaunch(null, numArgs, eventId, taskIndex, batchThreads, offset, executionFrame, arguments);
+    }
+
     private void initWaitEventList() {
         for (int[] waitList : events) {
             Arrays.fill(waitList, -1);
@@ -748,9 +860,9 @@ public class TornadoVMInterpreter {
         }
 
         // total size of objects pre-allocated and current allocation
-        long allocationSize = interpreterDevice.allocateObjects(objects, sizeBatch, objectStates, accesses);
+        long allocationSize = allocateObjectsWithEviction(objects, sizeBatch, objectStates, accesses);
         long allocationsTotalSize = allocationSize + preAllocatedSizes;
-        increaseBatchNumber(sizeBatch);
+        increaseBatchNumber(objects, sizeBatch);
 
         // Re-establish the buffer-reuse lock on (re)allocation. Locking otherwise happens only
         // once, when the task graph is built - so a SECOND execution plan created from the same
@@ -789,9 +901,63 @@ public class TornadoVMInterpreter {
         return -1;
     }
 
-    private void increaseBatchNumber(long sizeBatch) {
+    /**
+     * Allocates the objects on the device. If the device runs out of memory, the
+     * least recently used buffers of other execution plans are evicted one at a
+     * time, and the objects that were not allocated are retried.
+     */
+    private long allocateObjectsWithEviction(Object[] objects, long sizeBatch, XPUDeviceBufferState[] objectStates, Access[] accesses) {
+        try {
+            return interpreterDevice.allocateObjects(objects, sizeBatch, objectStates, accesses);
+        } catch (TornadoOutOfMemoryException e) {
+            if (!TornadoOptions.isDeviceMemoryEvictionEnabled()) {
+                throw e;
+            }
+            DeviceResidencyManager residencyManager = DeviceResidencyManager.getInstance(interpreterDevice);
+            TornadoOutOfMemoryException lastException = e;
+            while (true) {
+                DeviceResidencyManager.Eviction eviction = residencyManager.evictLeastRecentlyUsed();
+                if (eviction == null) {
+                    throw lastException;
+                }
+                if (TornadoOptions.isProfilerEnabled()) {
+                    timeProfiler.addValueToMetric(ProfilerType.DEVICE_EVICTIONS, TimeProfiler.NO_TASK_NAME, 1);
+                    timeProfiler.addValueToMetric(ProfilerType.PAGED_OUT_SIZE_BYTES, TimeProfiler.NO_TASK_NAME, eviction.bytesWrittenBack());
+                }
+
+                List<Integer> pending = new ArrayList<>();
+                for (int i = 0; i < objectStates.length; i++) {
+                    if (!objectStates[i].hasObjectBuffer()) {
+                        pending.add(i);
+                    }
+                }
+                Object[] pendingObjects = new Object[pending.size()];
+                XPUDeviceBufferState[] pendingStates = new XPUDeviceBufferState[pending.size()];
+                Access[] pendingAccesses = new Access[pending.size()];
+                for (int i = 0; i < pending.size(); i++) {
+                    pendingObjects[i] = objects[pending.get(i)];
+                    pendingStates[i] = objectStates[pending.get(i)];
+                    pendingAccesses[i] = accesses[pending.get(i)];
+                }
+                try {
+                    interpreterDevice.allocateObjects(pendingObjects, sizeBatch, pendingStates, pendingAccesses);
+                    long allocationSize = 0;
+                    for (XPUDeviceBufferState objectState : objectStates) {
+                        allocationSize += objectState.getXPUBuffer().size();
+                    }
+                    return allocationSize;
+                } catch (TornadoOutOfMemoryException retryException) {
+                    lastException = retryException;
+                }
+            }
+        }
+    }
+
+    private void increaseBatchNumber(Object[] allocatedObjects, long sizeBatch) {
+        // Objects are grouped by chunk size in different ALLOC bytecodes, so only the
+        // objects allocated by this bytecode move to the next chunk
         if (sizeBatch != 0) {
-            for (Object object : objects) {
+            for (Object object : allocatedObjects) {
                 int previousBatch = currentBatchNumberPerObject.get(object);
                 currentBatchNumberPerObject.replace(object, previousBatch, ++previousBatch);
             }
@@ -892,7 +1058,17 @@ public class TornadoVMInterpreter {
         }
 
         final XPUDeviceBufferState objectState = resolveObjectState(objectIndex);
-        List<Integer> allEvents = interpreterDevice.streamIn(graphExecutionContext.getExecutionPlanId(), object, sizeBatch, offset, objectState, eventWaitList);
+
+        // Objects with a variable size (e.g., compressed payloads) only copy the bytes in use
+        long transferSize = sizeBatch;
+        long copiedBytes = objectState.getXPUBuffer().size();
+        final long partialTransferSize = (sizeBatch <= 0) ? graphExecutionContext.getPartialTransferSize(object) : -1;
+        if (partialTransferSize > 0) {
+            objectState.getXPUBuffer().setSizeSubRegion(partialTransferSize);
+            transferSize = partialTransferSize;
+            copiedBytes = TornadoNativeArray.ARRAY_HEADER + partialTransferSize;
+        }
+        List<Integer> allEvents = interpreterDevice.streamIn(graphExecutionContext.getExecutionPlanId(), object, transferSize, offset, objectState, eventWaitList);
 
         resetEventIndexes(eventId);
 
@@ -902,7 +1078,9 @@ public class TornadoVMInterpreter {
             DebugInterpreter.logTransferToDeviceAlways(object, interpreterDevice, sizeObject, sizeBatch, offset, eventId, logBuilder);
         }
 
-        if (TornadoOptions.isProfilerEnabled() && !insideCaptureRegion && allEvents != null) {
+        if (TornadoOptions.isProfilerEnabled() && !insideCaptureRegion && allEvents != null && !allEvents.isEmpty()) {
+            // Partial transfers use one event for the header and one for the data: the size is counted once
+            timeProfiler.addValueToMetric(ProfilerType.TOTAL_COPY_IN_SIZE_BYTES, TimeProfiler.NO_TASK_NAME, copiedBytes);
             for (Integer e : allEvents) {
                 Event event = interpreterDevice.resolveEvent(graphExecutionContext.getExecutionPlanId(), e);
                 event.waitForEvents(graphExecutionContext.getExecutionPlanId());
@@ -910,8 +1088,6 @@ public class TornadoVMInterpreter {
                 copyInTimer += event.getElapsedTime();
                 timeProfiler.setTimer(ProfilerType.COPY_IN_TIME, copyInTimer);
 
-                timeProfiler.addValueToMetric(ProfilerType.TOTAL_COPY_IN_SIZE_BYTES, TimeProfiler.NO_TASK_NAME, objectState.getXPUBuffer().size());
-
                 long dispatchValue = timeProfiler.getTimer(ProfilerType.TOTAL_DISPATCH_DATA_TRANSFERS_TIME);
                 dispatchValue += event.getDriverDispatchTime();
                 timeProfiler.setTimer(ProfilerType.TOTAL_DISPATCH_DATA_TRANSFERS_TIME, dispatchValue);
@@ -1015,8 +1191,9 @@ public class TornadoVMInterpreter {
         }
     }
 
-    private void updateMeta(TaskContextInterface meta) {
+    private void updateMeta(String taskId, TaskContextInterface meta) {
         meta.setPrintKernelFlag(graphExecutionContext.meta().isPrintKernelEnabled());
+        meta.setMathPolicy(graphExecutionContext.meta().getMathPolicy(taskId));
         meta.setCompilerFlags(TornadoVMBackendType.OPENCL, graphExecutionContext.meta().getCompilerFlags(TornadoVMBackendType.OPENCL));
         meta.setCompilerFlags(TornadoVMBackendType.PTX, graphExecutionContext.meta().getCompilerFlags(TornadoVMBackendType.PTX));
         meta.setCompilerFlags(TornadoVMBackendType.SPIRV, graphExecutionContext.meta().getCompilerFlags(TornadoVMBackendType.SPIRV));
@@ -1046,11 +1223,7 @@ public class TornadoVMInterpreter {
             // Let the provider create per-shape native plans (which may allocate
             // device memory) before any CUDA graph capture starts
             provider.prepare(descriptor, preparedContext);
-            if (timeProfiler instanceof TimeProfiler) {
-                timeProfiler.registerBackend(task.getId(), task.getDevice().getTornadoVMBackend().name());
-                timeProfiler.registerDeviceID(task.getId(), task.meta().getBackendIndex() + ":" + task.meta().getDeviceIndex());
-                timeProfiler.registerDeviceName(task.getId(), task.getDevice().getPhysicalDevice().getDeviceName());
-            }
+            registerTaskInProfiler(task);
             return new XPUExecutionFrame(null, waitList);
         }
 
@@ -1058,7 +1231,7 @@ public class TornadoVMInterpreter {
 
         int currentBatch = task.getBatchNumber();
         TaskContextInterface meta = task.meta();
-        updateMeta(meta);
+        updateMeta(task.getId(), meta);
 
         boolean indexInWrite = interpreterDevice.loopIndexInWrite(task);
         // Check if a different batch size was used for the same kernel or
@@ -1078,12 +1251,7 @@ public class TornadoVMInterpreter {
             task.setGridScheduler(gridScheduler);
         }
 
-        if (timeProfiler instanceof TimeProfiler) {
-            // Register the backends only when the profiler is enabled
-            timeProfiler.registerBackend(task.getId(), task.getDevice().getTornadoVMBackend().name());
-            timeProfiler.registerDeviceID(task.getId(), task.meta().getBackendIndex() + ":" + task.meta().getDeviceIndex());
-            timeProfiler.registerDeviceName(task.getId(), task.getDevice().getPhysicalDevice().getDeviceName());
-        }
+        registerTaskInProfiler(task);
 
         if (shouldCompile(installedCodes[globalToLocalTaskIndex(taskIndex)])) {
             task.setDevice(interpreterDevice);
@@ -1115,6 +1283,25 @@ public class TornadoVMInterpreter {
         return new XPUExecutionFrame(kernelStackFrame, waitList);
     }
 
+    private void registerTaskInProfiler(SchedulableTask task) {
+        if (timeProfiler instanceof TimeProfiler) {
+            // Register the backends only when the profiler is enabled
+            timeProfiler.registerBackend(task.getId(), task.getDevice().getTornadoVMBackend().name());
+            timeProfiler.registerDeviceID(task.getId(), task.meta().getBackendIndex() + ":" + task.meta().getDeviceIndex());
+            timeProfiler.registerDeviceName(task.getId(), task.getDevice().getPhysicalDevice().getDeviceName());
+        }
+    }
+
+    private LaunchArguments readLaunchArguments(int numArgs) {
+        final byte[] types = new byte[numArgs];
+        final int[] indexes = new int[numArgs];
+        for (int i = 0; i < numArgs; i++) {
+            types[i] = bytecodeResult.get();
+            indexes[i] = bytecodeResult.getInt();
+        }
+        return new LaunchArguments(types, indexes);
+    }
+
     private void popArgumentsFromCall(int numArgs) {
         for (int i = 0; i < numArgs; i++) {
             bytecodeResult.get();
@@ -1122,12 +1309,63 @@ public class TornadoVMInterpreter {
         }
     }
 
-    private int executeLaunch(StringBuilder logBuilder, final int numArgs, final int eventId, final int taskIndex, final long batchThreads, final long offset, XPUExecutionFrame executionFrame) {
+    /**
+     * Waits until the device scheduler admits the next kernel launch of the
+     * execution plan, if the scheduler is enabled.
+     *
+     * @return true if the launch holds a slot of the scheduler, which is released
+     *     by {@link #releaseLaunch(boolean, int)}.
+     */
+    private boolean admitLaunch() {
+        if (!DeviceLaunchScheduler.isEnabled() || insideCaptureRegion) {
+            return false;
+        }
+        DeviceLaunchScheduler.Admission admission = DeviceLaunchScheduler.getInstance(interpreterDevice).acquire(graphExecutionContext.getExecutionPlanId(),
+                graphExecutionContext.getSchedulingPriority(), graphExecutionContext.getSchedulingWeight());
+        if (TornadoOptions.isProfilerEnabled()) {
+            timeProfiler.setTimer(ProfilerType.SCHEDULER_WAIT_TIME, timeProfiler.getTimer(ProfilerType.SCHEDULER_WAIT_TIME) + admission.waitTime());
+            timeProfiler.setTimer(ProfilerType.SCHEDULER_QUEUE_DEPTH, Math.max(timeProfiler.getTimer(ProfilerType.SCHEDULER_QUEUE_DEPTH), admission.queueDepth()));
+        }
+        return true;
+    }
+
+    /**
+     * Releases the slot of an admitted launch once the kernel completes, so the
+     * number of kernels running on the device never exceeds the limit of the
+     * scheduler.
+     */
+    private void releaseLaunch(boolean admitted, int launchEvent) {
+        if (!admitted) {
+            return;
+        }
+        try {
+            if (launchEvent != -1) {
+                interpreterDevice.resolveEvent(graphExecutionContext.getExecutionPlanId(), launchEvent).waitForEvents(graphExecutionContext.getExecutionPlanId());
+            }
+        } finally {
+            DeviceLaunchScheduler.getInstance(interpreterDevice).release();
+        }
+    }
+
+    private int admitAndLaunch(StringBuilder logBuilder, final int numArgs, final int eventId, final int taskIndex, final long batchThreads, final long offset, XPUExecutionFrame executionFrame,
+            LaunchArguments arguments) {
+        final boolean admitted = admitLaunch();
+        int launchEvent = -1;
+        try {
+            launchEvent = executeLaunch(logBuilder, numArgs, eventId, taskIndex, batchThreads, offset, executionFrame, arguments);
+        } finally {
+            releaseLaunch(admitted, launchEvent);
+        }
+        return launchEvent;
+    }
+
+    private int executeLaunch(StringBuilder logBuilder, final int numArgs, final int eventId, final int taskIndex, final long batchThreads, final long offset, XPUExecutionFrame executionFrame,
+            LaunchArguments arguments) {
 
         final SchedulableTask task = taskExecutionContexts.get(taskIndex);
 
         if (task instanceof LibraryTask libraryTask) {
-            return executeLibraryLaunch(logBuilder, libraryTask, numArgs, eventId, batchThreads, executionFrame.waitList);
+            return executeLibraryLaunch(logBuilder, libraryTask, numArgs, eventId, batchThreads, executionFrame.waitList, arguments);
         }
 
         KernelStackFrame stackFrame = executionFrame.stackFrame;
@@ -1164,8 +1402,8 @@ public class TornadoVMInterpreter {
         XPUBuffer bufferAtomics = null;
 
         for (int i = 0; i < numArgs; i++) {
-            final byte argType = bytecodeResult.get();
-            final int argIndex = bytecodeResult.getInt();
+            final byte argType = arguments.types()[i];
+            final int argIndex = arguments.indexes()[i];
 
             if (argType == TornadoVMBytecodes.PUSH_CONSTANT_ARGUMENT.value()) {
                 // Add a constant argument
@@ -1242,7 +1480,7 @@ public class TornadoVMInterpreter {
         }
     }
 
-    private int executeLibraryLaunch(StringBuilder logBuilder, LibraryTask task, final int numArgs, final int eventId, final long batchThreads, int[] waitList) {
+    private int executeLibraryLaunch(StringBuilder logBuilder, LibraryTask task, final int numArgs, final int eventId, final long batchThreads, int[] waitList, LaunchArguments arguments) {
 
         if (batchThreads != 0) {
             throw new TornadoRuntimeException("[ERROR] Batch processing is not supported for library tasks (task: " + task.getId() + ")");
@@ -1253,8 +1491,8 @@ public class TornadoVMInterpreter {
         final boolean[] isReference = new boolean[numArgs];
 
         for (int i = 0; i < numArgs; i++) {
-            final byte argType = bytecodeResult.get();
-            final int argIndex = bytecodeResult.getInt();
+            final byte argType = arguments.types()[i];
+            final int argIndex = arguments.indexes()[i];
             if (argType == TornadoVMBytecodes.PUSH_CONSTANT_ARGUMENT.value()) {
                 callArgs[i] = constants.get(argIndex);
             } else if (argType == TornadoVMBytecodes.PUSH_REFERENCE_ARGUMENT.value()) {
@@ -1465,6 +1703,24 @@ public class TornadoVMInterpreter {
     public record ObjectAllocationInfo(int persistentObjectCount, int objectsToAlloc) {
     }
 
+    /**
+     * A command recorded from the bytecodes of an execution, with its operands
+     * already decoded.
+     */
+    @FunctionalInterface
+    private interface RecordedCommand {
+        /**
+         * @param lastEvent
+         *     Event of the previous command.
+         * @return the event of this command, or {@code lastEvent} if the command does
+         *     not produce an event.
+         */
+        int replay(int lastEvent);
+    }
+
+    private record LaunchArguments(byte[] types, int[] indexes) {
+    }
+
     private static class XPUExecutionFrame {
         private KernelStackFrame stackFrame;
         private int[] waitList;
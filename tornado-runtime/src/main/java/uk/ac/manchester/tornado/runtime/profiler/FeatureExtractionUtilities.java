@@ -38,6 +38,7 @@ import uk.ac.manchester.tornado.api.TornadoDeviceContext;
 import uk.ac.manchester.tornado.runtime.common.Tornado;
 import uk.ac.manchester.tornado.runtime.common.TornadoOptions;
 import uk.ac.manchester.tornado.runtime.common.TornadoVMClient;
+import uk.ac.manchester.tornado.runtime.costmodel.DeviceSelectionModel;
 import uk.ac.manchester.tornado.runtime.utils.JsonHandler;
 
 public final class FeatureExtractionUtilities {
@@ -82,6 +83,21 @@ public final class FeatureExtractionUtilities {
         }
     }
 
+    public static void registerFeaturesForDeviceSelection(LinkedHashMap<ProfilerCodeFeatures, Integer> entry, StructuredGraph graph) {
+        String name = graph.name.split("-")[1];
+        if (!name.equals(LOOKUP_BUFFER_ADDRESS_NAME)) {
+            String methodKey = DeviceSelectionModel.getMethodKey(graph.method().getDeclaringClass().toClassName(), graph.method().getName());
+            DeviceSelectionModel.getInstance().registerCodeFeatures(methodKey, entry);
+        }
+    }
+
+    public static void registerFeaturesForKernelQuality(LinkedHashMap<ProfilerCodeFeatures, Integer> entry, StructuredGraph graph) {
+        String name = graph.name.split("-")[1];
+        if (!name.equals(LOOKUP_BUFFER_ADDRESS_NAME)) {
+            KernelQualityProfiler.registerCodeFeatures(graph.method(), entry);
+        }
+    }
+
     private static String getBaseClass(String fullDeclaredClass) {
         String[] baseClass = fullDeclaredClass.split("\\.");
         String baseCl = baseClass[baseClass.length - 1];
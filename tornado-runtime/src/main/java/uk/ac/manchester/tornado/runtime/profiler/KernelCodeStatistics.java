@@ -0,0 +1,159 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.runtime.profiler;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import uk.ac.manchester.tornado.api.enums.TornadoVMBackendType;
+
+/**
+ * Static metrics of the code generated for a kernel. The metrics are computed
+ * from the generated code (OpenCL C, PTX, CUDA C, SPIR-V or Metal), so they are
+ * available for virtual devices.
+ *
+ * @param codeBytes
+ *     Size of the generated code in bytes.
+ * @param instructions
+ *     Number of statements (C-like backends), instructions (PTX) or SPIR-V
+ *     instructions in the module.
+ * @param registers
+ *     Number of virtual registers declared. Only PTX exposes them; -1 for the
+ *     rest of the backends.
+ * @param localMemoryBytes
+ *     Bytes of local (shared/threadgroup) memory statically allocated by the
+ *     kernel. -1 if it cannot be obtained from the generated code (SPIR-V).
+ */
+public record KernelCodeStatistics(int codeBytes, int instructions, int registers, long localMemoryBytes) {
+
+    public static final int NOT_AVAILABLE = -1;
+
+    private static final int SPIRV_HEADER_WORDS = 5;
+    private static final int SPIRV_MAGIC_NUMBER = 0x07230203;
+
+    private static final Pattern PTX_REGISTERS = Pattern.compile("^\\s*\\.reg\\s+(?:\\.v\\d+\\s+)?\\.\\w+\\s+%?\\w+(?:<(\\d+)>)?\\s*;", Pattern.MULTILINE);
+    private static final Pattern PTX_SHARED_ARRAY = Pattern.compile("\\.shared\\s+(?:\\.align\\s+\\d+\\s+)?\\.([a-z]+)(\\d+)\\s+\\w+\\[(\\d+)\\]");
+    private static final Pattern OPENCL_LOCAL_ARRAY = Pattern.compile("__local\\s+([a-z]+)(\\d*)\\s+\\w+\\[(\\d+)\\]");
+    private static final Pattern CUDA_LOCAL_ARRAY = Pattern.compile("__shared__\\s+([a-z]+)(\\d*)\\s+\\w+\\[(\\d+)\\]");
+    private static final Pattern METAL_LOCAL_ARRAY = Pattern.compile("threadgroup\\s+([a-z]+)(\\d*)\\s+\\w+\\[(\\d+)\\]");
+
+    public static KernelCodeStatistics compute(TornadoVMBackendType backend, byte[] code) {
+        if (backend == TornadoVMBackendType.SPIRV) {
+            return new KernelCodeStatistics(code.length, countSPIRVInstructions(code), NOT_AVAILABLE, NOT_AVAILABLE);
+        }
+        String source = new String(code, StandardCharsets.UTF_8);
+        return switch (backend) {
+            case PTX -> new KernelCodeStatistics(code.length, countPTXInstructions(source), countPTXRegisters(source), computePTXSharedMemory(source));
+            case CUDA -> new KernelCodeStatistics(code.length, countStatements(source), NOT_AVAILABLE, computeLocalMemory(CUDA_LOCAL_ARRAY, source));
+            case METAL -> new KernelCodeStatistics(code.length, countStatements(source), NOT_AVAILABLE, computeLocalMemory(METAL_LOCAL_ARRAY, source));
+            default -> new KernelCodeStatistics(code.length, countStatements(source), NOT_AVAILABLE, computeLocalMemory(OPENCL_LOCAL_ARRAY, source));
+        };
+    }
+
+    private static int countStatements(String source) {
+        int statements = 0;
+        for (String line : source.split("\n")) {
+            if (line.trim().endsWith(";")) {
+                statements++;
+            }
+        }
+        return statements;
+    }
+
+    private static int countPTXInstructions(String source) {
+        int instructions = 0;
+        for (String line : source.split("\n")) {
+            String trimmed = line.trim();
+            // Directives (.reg, .param, .shared, ...) are not instructions
+            if (trimmed.endsWith(";") && !trimmed.startsWith(".")) {
+                instructions++;
+            }
+        }
+        return instructions;
+    }
+
+    private static int countPTXRegisters(String source) {
+        int registers = 0;
+        Matcher matcher = PTX_REGISTERS.matcher(source);
+        while (matcher.find()) {
+            registers += (matcher.group(1) != null) ? Integer.parseInt(matcher.group(1)) : 1;
+        }
+        return registers;
+    }
+
+    private static long computePTXSharedMemory(String source) {
+        long bytes = 0;
+        Matcher matcher = PTX_SHARED_ARRAY.matcher(source);
+        while (matcher.find()) {
+            // PTX types encode their size in bits: .b8, .f32, .s64, ...
+            bytes += (Long.parseLong(matcher.group(2)) / 8) * Long.parseLong(matcher.group(3));
+        }
+        return bytes;
+    }
+
+    private static long computeLocalMemory(Pattern pattern, String source) {
+        long bytes = 0;
+        Matcher matcher = pattern.matcher(source);
+        while (matcher.find()) {
+            int lanes = matcher.group(2).isEmpty() ? 1 : Integer.parseInt(matcher.group(2));
+            bytes += (long) getTypeSize(matcher.group(1)) * lanes * Long.parseLong(matcher.group(3));
+        }
+        return bytes;
+    }
+
+    private static int getTypeSize(String type) {
+        return switch (type) {
+            case "char", "uchar", "bool", "byte" -> 1;
+            case "short", "ushort", "half", "bfloat" -> 2;
+            case "long", "ulong", "double" -> 8;
+            default -> 4;
+        };
+    }
+
+    private static int countSPIRVInstructions(byte[] code) {
+        if (code.length < SPIRV_HEADER_WORDS * Integer.BYTES) {
+            return 0;
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(code).order(ByteOrder.LITTLE_ENDIAN);
+        if (buffer.getInt(0) != SPIRV_MAGIC_NUMBER) {
+            buffer.order(ByteOrder.BIG_ENDIAN);
+        }
+        int numWords = code.length / Integer.BYTES;
+        int instructions = 0;
+        int index = SPIRV_HEADER_WORDS;
+        while (index < numWords) {
+            // The high 16 bits of the first word of each instruction is its word count
+            int wordCount = buffer.getInt(index * Integer.BYTES) >>> 16;
+            if (wordCount == 0) {
+                break;
+            }
+            index += wordCount;
+            instructions++;
+        }
+        return instructions;
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.runtime.profiler;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jdk.vm.ci.meta.ResolvedJavaMethod;
+import uk.ac.manchester.tornado.api.enums.TornadoVMBackendType;
+import uk.ac.manchester.tornado.api.exceptions.TornadoRuntimeException;
+import uk.ac.manchester.tornado.runtime.common.TornadoOptions;
+
+/**
+ * Collects the kernel-quality report enabled with
+ * {@code -Dtornado.kernel.quality.report=<file.csv>}. For each kernel compiled
+ * by a virtual device, a row with the compile time per tier, the static metrics
+ * of the generated code ({@link KernelCodeStatistics}) and the code features of
+ * the low-tier graph ({@link ProfilerCodeFeatures}) is appended to the CSV
+ * file.
+ *
+ * <p>
+ * Two reports (e.g. from two commits) can be compared with
+ * {@link KernelQualityReport}.
+ * </p>
+ */
+public final class KernelQualityProfiler {
+
+    public enum CompilationTier {
+        SKETCH, HIGH_TIER, MID_TIER, LOW_TIER, CODE_GENERATION
+    }
+
+    public static final String[] HEADER_COLUMNS = { "backend", "kernel", "device", "sketchNs", "highTierNs", "midTierNs", "lowTierNs", "codeGenNs", "totalNs", "codeBytes", "instructions",
+            "registers", "localMemoryBytes" };
+
+    private static final Map<ResolvedJavaMethod, Long> sketchTimes = new ConcurrentHashMap<>();
+    private static final Map<ResolvedJavaMethod, Map<ProfilerCodeFeatures, Integer>> codeFeatures = new ConcurrentHashMap<>();
+    private static final ThreadLocal<Map<CompilationTier, Long>> currentCompilation = new ThreadLocal<>();
+
+    private static boolean headerWritten;
+
+    private KernelQualityProfiler() {
+    }
+
+    public static boolean isEnabled() {
+        return !TornadoOptions.KERNEL_QUALITY_REPORT.isEmpty();
+    }
+
+    /**
+     * Starts collecting the tier times of the compilation performed by the
+     * calling thread.
+     */
+    public static void beginCompilation() {
+        if (isEnabled()) {
+            currentCompilation.set(new EnumMap<>(CompilationTier.class));
+        }
+    }
+
+    public static void recordTierTime(CompilationTier tier, long nanoseconds) {
+        Map<CompilationTier, Long> tierTimes = currentCompilation.get();
+        if (tierTimes != null) {
+            tierTimes.merge(tier, nanoseconds, Long::sum);
+        }
+    }
+
+    public static void recordSketchTime(ResolvedJavaMethod method, long nanoseconds) {
+        if (isEnabled()) {
+            sketchTimes.put(method, nanoseconds);
+        }
+    }
+
+    public static void registerCodeFeatures(ResolvedJavaMethod method, Map<ProfilerCodeFeatures, Integer> features) {
+        if (isEnabled()) {
+            codeFeatures.put(method, new LinkedHashMap<>(features));
+        }
+    }
+
+    /**
+     * Finishes the compilation started with {@link #beginCompilation()} and
+     * appends the row of the kernel to the report. The code-generation time is
+     * the part of the total compilation time not spent in the Graal tiers.
+     */
+    public static void endCompilation(TornadoVMBackendType backend, ResolvedJavaMethod method, String deviceName, byte[] code, long totalNanoseconds) {
+        Map<CompilationTier, Long> tierTimes = currentCompilation.get();
+        currentCompilation.remove();
+        if (tierTimes == null) {
+            return;
+        }
+        tierTimes.put(CompilationTier.SKETCH, sketchTimes.getOrDefault(method, 0L));
+        long graalTiers = tierTimes.getOrDefault(CompilationTier.HIGH_TIER, 0L) + tierTimes.getOrDefault(CompilationTier.MID_TIER, 0L) + tierTimes.getOrDefault(CompilationTier.LOW_TIER, 0L);
+        tierTimes.put(CompilationTier.CODE_GENERATION, Math.max(0, totalNanoseconds - graalTiers));
+
+        KernelCodeStatistics statistics = KernelCodeStatistics.compute(backend, code);
+        Map<ProfilerCodeFeatures, Integer> features = codeFeatures.getOrDefault(method, Map.of());
+
+        StringJoiner row = new StringJoiner(",");
+        row.add(backend.name());
+        row.add(method.format("%H.%n"));
+        row.add(deviceName.replace(',', ' '));
+        for (CompilationTier tier : CompilationTier.values()) {
+            row.add(Long.toString(tierTimes.getOrDefault(tier, 0L)));
+        }
+        row.add(Long.toString(totalNanoseconds));
+        row.add(Integer.toString(statistics.codeBytes()));
+        row.add(Integer.toString(statistics.instructions()));
+        row.add(Integer.toString(statistics.registers()));
+        row.add(Long.toString(statistics.localMemoryBytes()));
+        for (ProfilerCodeFeatures feature : ProfilerCodeFeatures.values()) {
+            row.add(Integer.toString(features.getOrDefault(feature, 0)));
+        }
+        writeRow(row.toString());
+    }
+
+    public static String getHeader() {
+        StringJoiner header = new StringJoiner(",");
+        for (String column : HEADER_COLUMNS) {
+            header.add(column);
+        }
+        for (ProfilerCodeFeatures feature : ProfilerCodeFeatures.values()) {
+            header.add(feature.name());
+        }
+        return header.toString();
+    }
+
+    private static synchronized void writeRow(String row) {
+        Path path = Paths.get(TornadoOptions.KERNEL_QUALITY_REPORT);
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            // The report is re-created by the first kernel of each run
+            StandardOpenOption mode = headerWritten ? StandardOpenOption.APPEND : StandardOpenOption.TRUNCATE_EXISTING;
+            try (Writer writer = Files.newBufferedWriter(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, mode)) {
+                if (!headerWritten) {
+                    writer.write(getHeader());
+                    writer.write(System.lineSeparator());
+                    headerWritten = true;
+                }
+                writer.write(row);
+                writer.write(System.lineSeparator());
+            }
+        } catch (IOException e) {
+            throw new TornadoRuntimeException("[ERROR] Unable to write the kernel-quality report " + path + ": " + e.getMessage());
+        }
+    }
+}
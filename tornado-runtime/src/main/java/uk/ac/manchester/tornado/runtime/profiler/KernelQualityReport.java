@@ -0,0 +1,177 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.runtime.profiler;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Compares two kernel-quality reports written with
+ * {@code -Dtornado.kernel.quality.report} and lists the kernels whose generated
+ * code got worse.
+ *
+ * <p>
+ * The static metrics (code size, instructions, registers, local memory and code
+ * features) are deterministic, so any increase is reported as a regression.
+ * Compile times are noisy, so they are only reported when they grow above a
+ * threshold (25% by default). The tool exits with status 1 if any regression
+ * is found, so it can be used in CI.
+ * </p>
+ *
+ * <p>
+ * How to run?
+ * </p>
+ * <code>
+ * java -cp tornado-runtime.jar uk.ac.manchester.tornado.runtime.profiler.KernelQualityReport baseline.csv current.csv [--time-threshold 0.25] [--ignore-time]
+ * </code>
+ */
+public final class KernelQualityReport {
+
+    private static final double DEFAULT_TIME_THRESHOLD = 0.25;
+    private static final Set<String> KEY_COLUMNS = Set.of("backend", "kernel", "device");
+
+    private final Map<String, Map<String, Long>> kernels;
+
+    private KernelQualityReport(Map<String, Map<String, Long>> kernels) {
+        this.kernels = kernels;
+    }
+
+    /**
+     * Loads a report. Kernels are identified by backend and kernel name.
+     *
+     * @return {@link KernelQualityReport}
+     */
+    public static KernelQualityReport load(Path path) throws IOException {
+        List<String> lines = Files.readAllLines(path);
+        if (lines.isEmpty()) {
+            return new KernelQualityReport(Map.of());
+        }
+        List<String> columns = List.of(lines.get(0).split(","));
+        Map<String, Map<String, Long>> kernels = new LinkedHashMap<>();
+        for (String line : lines.subList(1, lines.size())) {
+            if (line.isBlank()) {
+                continue;
+            }
+            String[] values = line.split(",");
+            Map<String, Long> metrics = new LinkedHashMap<>();
+            for (int i = 0; i < values.length && i < columns.size(); i++) {
+                if (!KEY_COLUMNS.contains(columns.get(i))) {
+                    metrics.put(columns.get(i), Long.parseLong(values[i].trim()));
+                }
+            }
+            kernels.put(values[0] + ":" + values[1], metrics);
+        }
+        return new KernelQualityReport(kernels);
+    }
+
+    public Map<String, Map<String, Long>> getKernels() {
+        return kernels;
+    }
+
+    private static boolean isTimeColumn(String column) {
+        return column.endsWith("Ns");
+    }
+
+    /**
+     * Compares a report against a baseline.
+     *
+     * @param timeThreshold
+     *     Relative increase of a compile time to be reported, or a negative value
+     *     to ignore compile times.
+     * @return List of regressions, one line per metric.
+     */
+    public List<String> compare(KernelQualityReport baseline, double timeThreshold) {
+        List<String> regressions = new ArrayList<>();
+        for (Map.Entry<String, Map<String, Long>> entry : kernels.entrySet()) {
+            Map<String, Long> before = baseline.kernels.get(entry.getKey());
+            if (before == null) {
+                continue;
+            }
+            for (Map.Entry<String, Long> metric : entry.getValue().entrySet()) {
+                String column = metric.getKey();
+                Long oldValue = before.get(column);
+                long newValue = metric.getValue();
+                if (oldValue == null || newValue <= oldValue || oldValue < 0 || newValue < 0) {
+                    continue;
+                }
+                if (isTimeColumn(column)) {
+                    if (timeThreshold < 0 || oldValue == 0 || (double) (newValue - oldValue) / oldValue <= timeThreshold) {
+                        continue;
+                    }
+                }
+                regressions.add(String.format("%s: %s %d -> %d (%+.1f%%)", entry.getKey(), column, oldValue, newValue, oldValue == 0 ? 100.0 : 100.0 * (newValue - oldValue) / oldValue));
+            }
+        }
+        return regressions;
+    }
+
+    private static void usage() {
+        System.err.println("Usage: KernelQualityReport <baseline.csv> <current.csv> [--time-threshold <ratio>] [--ignore-time]");
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            usage();
+            System.exit(1);
+        }
+        double timeThreshold = DEFAULT_TIME_THRESHOLD;
+        for (int i = 2; i < args.length; i++) {
+            if (args[i].equals("--ignore-time")) {
+                timeThreshold = -1;
+            } else if (args[i].equals("--time-threshold") && i + 1 < args.length) {
+                timeThreshold = Double.parseDouble(args[++i]);
+            } else {
+                usage();
+                System.exit(1);
+            }
+        }
+
+        KernelQualityReport baseline = load(Paths.get(args[0]));
+        KernelQualityReport current = load(Paths.get(args[1]));
+
+        for (String kernel : current.kernels.keySet()) {
+            if (!baseline.kernels.containsKey(kernel)) {
+                System.out.println("[NEW]        " + kernel);
+            }
+        }
+        for (String kernel : baseline.kernels.keySet()) {
+            if (!current.kernels.containsKey(kernel)) {
+                System.out.println("[REMOVED]    " + kernel);
+            }
+        }
+        List<String> regressions = current.compare(baseline, timeThreshold);
+        regressions.forEach(regression -> System.out.println("[REGRESSION] " + regression));
+        System.out.printf("%d kernels compared, %d regressions%n", current.kernels.size(), regressions.size());
+        if (!regressions.isEmpty()) {
+            System.exit(1);
+        }
+    }
+}
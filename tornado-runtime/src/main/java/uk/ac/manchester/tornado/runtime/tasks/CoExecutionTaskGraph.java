@@ -0,0 +1,332 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.runtime.tasks;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import uk.ac.manchester.tornado.api.CoExecutionPartitioner;
+import uk.ac.manchester.tornado.api.GridScheduler;
+import uk.ac.manchester.tornado.api.common.PrebuiltTaskPackage;
+import uk.ac.manchester.tornado.api.common.TaskPackage;
+import uk.ac.manchester.tornado.api.common.TornadoDevice;
+import uk.ac.manchester.tornado.api.enums.BatchMode;
+import uk.ac.manchester.tornado.api.enums.DataTransferMode;
+import uk.ac.manchester.tornado.api.enums.ProfilerMode;
+import uk.ac.manchester.tornado.api.exceptions.TornadoBailoutRuntimeException;
+import uk.ac.manchester.tornado.api.exceptions.TornadoRuntimeException;
+import uk.ac.manchester.tornado.api.profiler.ProfilerType;
+import uk.ac.manchester.tornado.api.profiler.TornadoProfiler;
+import uk.ac.manchester.tornado.api.runtime.ExecutorFrame;
+import uk.ac.manchester.tornado.runtime.common.BatchConfiguration;
+import uk.ac.manchester.tornado.runtime.common.TornadoLogger;
+import uk.ac.manchester.tornado.runtime.common.TornadoOptions;
+import uk.ac.manchester.tornado.runtime.graph.TornadoExecutionContext;
+
+/**
+ * Runs a task-graph on several devices at the same time. The iteration space of
+ * the split objects (see {@link BatchConfiguration}) is divided into one
+ * contiguous partition per device, and each partition runs in a task-graph
+ * generated from the tasks of the original one. The generated task-graphs
+ * process their partition as a region of the objects, so each device only
+ * receives the slice of the split objects for its partition, and only that
+ * slice is copied back to the host. The loop indexes written by the kernels are
+ * offset with the first iteration of the partition.
+ *
+ * <p>
+ * With an adaptive {@link CoExecutionPartitioner}, the time of each device is
+ * measured in every execution and the ratios are recomputed from the
+ * throughput of each device. Since the kernels are specialised for the first
+ * iteration of their partition, the task-graphs are only generated again when
+ * a partition changes by more than
+ * {@link TornadoOptions#COEXECUTION_REPARTITION_THRESHOLD} of the iteration
+ * space.
+ * </p>
+ */
+class CoExecutionTaskGraph {
+
+    private static final String COEXECUTION_SUFFIX = "_coexec";
+    private static final AtomicInteger counterName = new AtomicInteger(0);
+
+    private final TornadoTaskGraph originalTaskGraph;
+    private final List<TaskPackage> taskPackages;
+    private final List<StreamingObject> inputModeObjects;
+    private final List<StreamingObject> outputModeObjects;
+    private final TornadoDevice[] devices;
+    private final CoExecutionPartitioner partitioner;
+    private final boolean concurrentDevices;
+    private final TornadoLogger logger;
+
+    private double[] ratios;
+    private long totalIterations;
+    private long[] firstIterations;
+    private long[] numIterations;
+    private long[] elapsedTimes;
+    private TornadoTaskGraph[] deviceTaskGraphs;
+    private boolean compiled;
+
+    CoExecutionTaskGraph(TornadoTaskGraph originalTaskGraph, List<TaskPackage> taskPackages, List<StreamingObject> inputModeObjects, List<StreamingObject> outputModeObjects,
+            TornadoDevice[] devices, CoExecutionPartitioner partitioner) {
+        if (devices.length == 0) {
+            throw new TornadoRuntimeException("[ERROR] Co-execution requires at least one device");
+        }
+        for (TaskPackage taskPackage : taskPackages) {
+            if (taskPackage instanceof PrebuiltTaskPackage) {
+                throw new TornadoRuntimeException("[UNSUPPORTED] Co-execution is not supported for pre-built tasks: " + taskPackage.getId());
+            }
+        }
+        for (StreamingObject outputObject : outputModeObjects) {
+            if (outputObject.getMode() == DataTransferMode.UNDER_DEMAND) {
+                throw new TornadoRuntimeException("[UNSUPPORTED] Co-execution does not support outputs transferred under demand");
+            }
+        }
+        this.originalTaskGraph = originalTaskGraph;
+        this.taskPackages = taskPackages;
+        this.inputModeObjects = inputModeObjects;
+        this.outputModeObjects = outputModeObjects;
+        this.devices = devices.clone();
+        this.partitioner = partitioner;
+        this.ratios = partitioner.getRatios(devices.length);
+        // Task-graphs that share a device also share its command queue, so they run one after the other
+        this.concurrentDevices = new HashSet<>(Arrays.asList(devices)).size() == devices.length;
+        this.logger = new TornadoLogger(CoExecutionTaskGraph.class);
+        this.totalIterations = -1;
+    }
+
+    private static BatchConfiguration computeWholeConfiguration(TornadoExecutionContext context) {
+        BatchConfiguration configuration = BatchConfiguration.computeChunkSizes(context, Long.MAX_VALUE);
+        for (int i = 0; i < context.getObjects().size(); i++) {
+            if (configuration.getMode(i) == BatchMode.REDUCE) {
+                throw new TornadoRuntimeException("[UNSUPPORTED] Co-execution does not support reduce objects, since the partial results of each device would need to be merged");
+            }
+        }
+        return configuration;
+    }
+
+    /**
+     * Splits the iteration space following the ratios. The last device receives
+     * the iterations left by rounding.
+     */
+    private long[][] computePartitions(double[] partitionRatios) {
+        long[] first = new long[devices.length];
+        long[] count = new long[devices.length];
+        double accumulatedRatio = 0;
+        long start = 0;
+        for (int i = 0; i < devices.length; i++) {
+            accumulatedRatio += partitionRatios[i];
+            long end = (i == devices.length - 1) ? totalIterations : Math.min(totalIterations, Math.round(totalIterations * accumulatedRatio));
+            end = Math.max(start, end);
+            first[i] = start;
+            count[i] = end - start;
+            start = end;
+        }
+        return new long[][] { first, count };
+    }
+
+    private TornadoTaskGraph createDeviceTaskGraph(int deviceIndex, TornadoExecutionContext originalContext) {
+        String name = TornadoTaskGraph.GENERATED_TASK_GRAPH_PREFIX + originalTaskGraph.getTaskGraphName() + COEXECUTION_SUFFIX + counterName.getAndIncrement();
+        TornadoTaskGraph taskGraph = new TornadoTaskGraph(name);
+        for (StreamingObject inputObject : inputModeObjects) {
+            taskGraph.transferToDevice(inputObject.getMode(), inputObject.getObject());
+        }
+        for (TaskPackage taskPackage : taskPackages) {
+            taskGraph.addTask(taskPackage);
+        }
+        for (StreamingObject outputObject : outputModeObjects) {
+            taskGraph.transferToHost(outputObject.getMode(), outputObject.getObject());
+        }
+        if (originalTaskGraph.meta().isPrintKernelEnabled()) {
+            taskGraph.withPrintKernel();
+        }
+        if (originalTaskGraph.meta().isThreadInfoEnabled()) {
+            taskGraph.withThreadInfo();
+        }
+        taskGraph.setDevice(devices[deviceIndex]);
+        taskGraph.withPartition(firstIterations[deviceIndex], numIterations[deviceIndex], originalContext.getBatchSize(), originalContext.getBatchDescriptors());
+        return taskGraph;
+    }
+
+    private void partition(double[] partitionRatios, TornadoExecutionContext originalContext) {
+        freeDeviceMemory();
+        long[][] partitions = computePartitions(partitionRatios);
+        ratios = partitionRatios;
+        firstIterations = partitions[0];
+        numIterations = partitions[1];
+        elapsedTimes = new long[devices.length];
+        deviceTaskGraphs = new TornadoTaskGraph[devices.length];
+        for (int i = 0; i < devices.length; i++) {
+            // Devices without iterations do not run
+            if (numIterations[i] > 0) {
+                deviceTaskGraphs[i] = createDeviceTaskGraph(i, originalContext);
+            }
+        }
+        compiled = false;
+        logger.debug("[CO-EXECUTION] %s: first iterations %s, iterations %s", originalTaskGraph.getTaskGraphName(), Arrays.toString(firstIterations), Arrays.toString(numIterations));
+    }
+
+    private void executeDeviceTaskGraph(int deviceIndex, ExecutorFrame executorFrame) {
+        long start = System.nanoTime();
+        deviceTaskGraphs[deviceIndex].execute(executorFrame);
+        elapsedTimes[deviceIndex] = System.nanoTime() - start;
+    }
+
+    private void executeConcurrently(ExecutorFrame executorFrame) {
+        ExecutorService executor = Executors.newFixedThreadPool(devices.length);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < devices.length; i++) {
+            if (deviceTaskGraphs[i] != null) {
+                final int deviceIndex = i;
+                futures.add(executor.submit(() -> executeDeviceTaskGraph(deviceIndex, executorFrame)));
+            }
+        }
+        try {
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (ExecutionException | InterruptedException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof TornadoBailoutRuntimeException) {
+                throw new TornadoBailoutRuntimeException(e.getMessage());
+            } else if (cause instanceof TornadoRuntimeException) {
+                throw new TornadoRuntimeException(e);
+            } else {
+                throw new RuntimeException(e);
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Recomputes the ratios from the throughput (iterations per nanosecond)
+     * measured on each device. Devices without iterations keep their ratio.
+     */
+    private double[] computeAdaptiveRatios() {
+        double activeRatio = 0;
+        double totalThroughput = 0;
+        double[] throughput = new double[devices.length];
+        for (int i = 0; i < devices.length; i++) {
+            if (deviceTaskGraphs[i] != null) {
+                throughput[i] = numIterations[i] / (double) Math.max(1, elapsedTimes[i]);
+                totalThroughput += throughput[i];
+                activeRatio += ratios[i];
+            }
+        }
+        double[] newRatios = ratios.clone();
+        for (int i = 0; i < devices.length; i++) {
+            if (deviceTaskGraphs[i] != null) {
+                newRatios[i] = activeRatio * throughput[i] / totalThroughput;
+            }
+        }
+        return newRatios;
+    }
+
+    private boolean exceedsRepartitionThreshold(long[] newNumIterations) {
+        long threshold = (long) (totalIterations * (double) TornadoOptions.COEXECUTION_REPARTITION_THRESHOLD);
+        for (int i = 0; i < devices.length; i++) {
+            if (Math.abs(newNumIterations[i] - numIterations[i]) > threshold) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void rebalance(TornadoExecutionContext originalContext) {
+        if (!compiled) {
+            // The first execution after a partition includes the compilation of the kernels
+            compiled = true;
+            return;
+        }
+        double[] newRatios = computeAdaptiveRatios();
+        if (exceedsRepartitionThreshold(computePartitions(newRatios)[1])) {
+            logger.debug("[CO-EXECUTION] %s: ratios %s -> %s", originalTaskGraph.getTaskGraphName(), Arrays.toString(ratios), Arrays.toString(newRatios));
+            partition(newRatios, originalContext);
+        }
+    }
+
+    void execute(long executionPlanId, ProfilerMode profilerMode, GridScheduler gridScheduler) {
+        if (gridScheduler != null) {
+            throw new TornadoRuntimeException("[UNSUPPORTED] Co-execution is not supported for task-graphs launched with a GridScheduler");
+        }
+        TornadoExecutionContext originalContext = originalTaskGraph.getExecutionContext();
+        long iterations = computeWholeConfiguration(originalContext).getTotalIterations();
+        if (iterations != totalIterations) {
+            totalIterations = iterations;
+            partition(ratios, originalContext);
+        }
+
+        ExecutorFrame executorFrame = new ExecutorFrame(executionPlanId);
+        if (profilerMode != null) {
+            executorFrame.setProfilerMode(profilerMode);
+        }
+
+        if (concurrentDevices) {
+            executeConcurrently(executorFrame);
+        } else {
+            for (int i = 0; i < devices.length; i++) {
+                if (deviceTaskGraphs[i] != null) {
+                    executeDeviceTaskGraph(i, executorFrame);
+                }
+            }
+        }
+
+        if (partitioner.isAdaptive()) {
+            rebalance(originalContext);
+        }
+    }
+
+    /**
+     * Adds the times of the task-graphs of all devices to the profiler of the
+     * original task-graph.
+     */
+    void updateProfiler(TornadoProfiler timeProfiler) {
+        for (TornadoTaskGraph taskGraph : deviceTaskGraphs) {
+            if (taskGraph != null) {
+                timeProfiler.sum(ProfilerType.TOTAL_KERNEL_TIME, taskGraph.getDeviceKernelTime());
+                timeProfiler.sum(ProfilerType.COPY_IN_TIME, taskGraph.getDeviceWriteTime());
+                timeProfiler.sum(ProfilerType.COPY_OUT_TIME, taskGraph.getDeviceReadTime());
+                timeProfiler.sum(ProfilerType.TOTAL_GRAAL_COMPILE_TIME, taskGraph.getTornadoCompilerTime());
+                timeProfiler.sum(ProfilerType.TOTAL_DRIVER_COMPILE_TIME, taskGraph.getDriverInstallTime());
+            }
+        }
+    }
+
+    void freeDeviceMemory() {
+        if (deviceTaskGraphs == null) {
+            return;
+        }
+        for (TornadoTaskGraph taskGraph : deviceTaskGraphs) {
+            if (taskGraph != null) {
+                taskGraph.freeDeviceMemory();
+            }
+        }
+    }
+}
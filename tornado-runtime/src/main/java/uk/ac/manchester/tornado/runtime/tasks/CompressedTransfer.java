@@ -0,0 +1,411 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.runtime.tasks;
+
+import static uk.ac.manchester.tornado.runtime.tasks.TransferCodecKernels.BIT_PACKING_BLOCK;
+import static uk.ac.manchester.tornado.runtime.tasks.TransferCodecKernels.PAYLOAD_ENCODED;
+import static uk.ac.manchester.tornado.runtime.tasks.TransferCodecKernels.PAYLOAD_RAW;
+import static uk.ac.manchester.tornado.runtime.tasks.TransferCodecKernels.RUN_LENGTH_BLOCK;
+import static uk.ac.manchester.tornado.runtime.tasks.TransferCodecKernels.ZERO_SUPPRESSION_GROUP;
+
+import java.lang.foreign.MemorySegment;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.IntStream;
+
+import uk.ac.manchester.tornado.api.common.TaskPackage;
+import uk.ac.manchester.tornado.api.enums.TransferCodec;
+import uk.ac.manchester.tornado.api.exceptions.TornadoRuntimeException;
+import uk.ac.manchester.tornado.api.types.arrays.ByteArray;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.api.types.arrays.IntArray;
+import uk.ac.manchester.tornado.api.types.arrays.TornadoNativeArray;
+
+/**
+ * An array compressed on the host before it is copied to the device. The
+ * runtime copies the payloads instead of the array, only up to the bytes in use
+ * after encoding, and a task running {@link TransferCodecKernels} decodes the
+ * payloads into the array on the device.
+ *
+ * <p>
+ * The encoders process independent blocks of the array, so large arrays are
+ * encoded in parallel: a first pass computes the encoded size of each block
+ * and a second pass writes each block at its offset. The first word of the
+ * payload tells the decoder whether the array is encoded. When the encoded
+ * array would be larger than the array itself, the payload holds a copy of the
+ * array instead. Otherwise, the payloads store after that word:
+ * </p>
+ * <ul>
+ * <li>{@link TransferCodec#RUN_LENGTH}: the offset of the runs of each block of
+ * 256 elements, followed by the runs. Runs of an {@link IntArray} are pairs of
+ * value and length, and runs of a {@link ByteArray} are packed as
+ * {@code (length << 8) | value}.</li>
+ * <li>{@link TransferCodec#BIT_PACKING}: the minimum, the number of bits and
+ * the offset of the packed words of each block of 128 elements, followed by the
+ * packed differences to the minimum.</li>
+ * <li>{@link TransferCodec#ZERO_SUPPRESSION}: an index with the bitmask of the
+ * non-zero values of each group of 32 elements and the number of non-zero
+ * values before the group, and the non-zero values.</li>
+ * </ul>
+ */
+public final class CompressedTransfer {
+
+    /**
+     * Arrays with fewer elements are encoded by the calling thread.
+     */
+    private static final int PARALLEL_ENCODING_THRESHOLD = 1 << 16;
+
+    /**
+     * Number of ints before the encoded data in the payload.
+     */
+    private static final int PAYLOAD_HEADER = 1;
+
+    private final TransferCodec codec;
+    private final TornadoNativeArray hostArray;
+    private final IntArray payload;
+    private final FloatArray values;
+    private final int numBlocks;
+    private final int[] blockOffsets;
+    private long payloadBytes;
+    private long valuesBytes;
+
+    public CompressedTransfer(TransferCodec codec, Object array) {
+        checkArrayType(codec, array);
+        this.codec = codec;
+        this.hostArray = (TornadoNativeArray) array;
+        int size = hostArray.getSize();
+        switch (codec) {
+            case RUN_LENGTH -> {
+                numBlocks = divideAndRoundUp(size, RUN_LENGTH_BLOCK);
+                int intsPerRun = (hostArray instanceof IntArray) ? 2 : 1;
+                payload = new IntArray(checkPayloadSize(PAYLOAD_HEADER + numBlocks + 1 + (long) size * intsPerRun));
+                values = null;
+            }
+            case BIT_PACKING -> {
+                numBlocks = divideAndRoundUp(size, BIT_PACKING_BLOCK);
+                int maxBits = (hostArray instanceof IntArray) ? Integer.SIZE : Byte.SIZE;
+                // Words of the packed values (without computing size * maxBits, which overflows an int for
+                // large arrays), plus two words of padding, so the decoder can always read the word after the
+                // current one
+                long packedWords = (long) divideAndRoundUp(size, Integer.SIZE) * maxBits;
+                payload = new IntArray(checkPayloadSize(PAYLOAD_HEADER + 3L * numBlocks + packedWords + numBlocks + 2));
+                values = null;
+            }
+            case ZERO_SUPPRESSION -> {
+                numBlocks = divideAndRoundUp(size, ZERO_SUPPRESSION_GROUP);
+                payload = new IntArray(checkPayloadSize(PAYLOAD_HEADER + 2L * numBlocks));
+                values = new FloatArray(Math.max(1, size));
+            }
+            default -> throw new TornadoRuntimeException("[ERROR] Transfer codec not supported: " + codec);
+        }
+        blockOffsets = new int[numBlocks + 1];
+    }
+
+    private static void checkArrayType(TransferCodec codec, Object array) {
+        boolean supported = switch (codec) {
+            case RUN_LENGTH, BIT_PACKING -> array instanceof IntArray || array instanceof ByteArray;
+            case ZERO_SUPPRESSION -> array instanceof FloatArray;
+        };
+        if (!supported) {
+            throw new TornadoRuntimeException("[ERROR] Transfer codec " + codec + " is not supported for objects of type " + (array == null ? "null" : array.getClass().getName()));
+        }
+    }
+
+    private static int divideAndRoundUp(int value, int divisor) {
+        return (int) ((value + (long) divisor - 1) / divisor);
+    }
+
+    /**
+     * Payloads are indexed with ints, by the encoders and by the decode kernels,
+     * so arrays whose payload would hold more than {@link Integer#MAX_VALUE}
+     * ints are rejected.
+     */
+    private int checkPayloadSize(long numInts) {
+        if (numInts > Integer.MAX_VALUE) {
+            throw new TornadoRuntimeException("[ERROR] Array of " + hostArray.getSize() + " elements is too large for the transfer codec " + codec);
+        }
+        return (int) numInts;
+    }
+
+    /**
+     * @return the number of ints of the payload that holds a copy of the array.
+     */
+    private int getRawPayloadSize() {
+        int size = hostArray.getSize();
+        return PAYLOAD_HEADER + ((hostArray instanceof IntArray) ? size : divideAndRoundUp(size, Integer.BYTES));
+    }
+
+    /**
+     * Copies the host array into the payload after the header word. Byte arrays
+     * are packed four bytes per int.
+     */
+    private void copyRaw() {
+        payload.set(0, PAYLOAD_RAW);
+        MemorySegment.copy(hostArray.getSegment(), 0, payload.getSegment(), (long) PAYLOAD_HEADER * Integer.BYTES, hostArray.getNumBytesOfSegment());
+        payloadBytes = (long) getRawPayloadSize() * Integer.BYTES;
+    }
+
+    public TransferCodec getCodec() {
+        return codec;
+    }
+
+    public Object getHostArray() {
+        return hostArray;
+    }
+
+    /**
+     * @return the objects copied to the device instead of the host array.
+     */
+    public Object[] getPayloads() {
+        return (values == null) ? new Object[] { payload } : new Object[] { payload, values };
+    }
+
+    /**
+     * @return the number of bytes of the payload to copy to the device after the
+     *     latest encoding.
+     */
+    public long getTransferSize(Object payloadObject) {
+        return (payloadObject == values) ? valuesBytes : payloadBytes;
+    }
+
+    public long getRawBytes() {
+        return hostArray.getNumBytesOfSegment();
+    }
+
+    public long getEncodedBytes() {
+        return payloadBytes + valuesBytes;
+    }
+
+    /**
+     * Creates the task that decodes the payloads into the host array on the
+     * device.
+     */
+    public TaskPackage createDecodeTask(String id) {
+        return switch (codec) {
+            case RUN_LENGTH -> (hostArray instanceof IntArray intArray) //
+                    ? TaskPackage.createPackage(id, TransferCodecKernels::decodeRunLength, payload, intArray) //
+                    : TaskPackage.createPackage(id, TransferCodecKernels::decodeRunLength, payload, (ByteArray) hostArray);
+            case BIT_PACKING -> (hostArray instanceof IntArray intArray) //
+                    ? TaskPackage.createPackage(id, TransferCodecKernels::decodeBitPacking, payload, intArray) //
+                    : TaskPackage.createPackage(id, TransferCodecKernels::decodeBitPacking, payload, (ByteArray) hostArray);
+            case ZERO_SUPPRESSION -> TaskPackage.createPackage(id, TransferCodecKernels::decodeZeroSuppression, payload, values, (FloatArray) hostArray);
+        };
+    }
+
+    /**
+     * Encodes the current values of the host array into the payloads.
+     */
+    public void encode() {
+        switch (codec) {
+            case RUN_LENGTH -> encodeRunLength();
+            case BIT_PACKING -> encodeBitPacking();
+            case ZERO_SUPPRESSION -> encodeZeroSuppression();
+        }
+    }
+
+    private IntStream blocks() {
+        IntStream blocks = IntStream.range(0, numBlocks);
+        return (hostArray.getSize() >= PARALLEL_ENCODING_THRESHOLD) ? blocks.parallel() : blocks;
+    }
+
+    private IntUnaryOperator reader() {
+        if (hostArray instanceof IntArray intArray) {
+            return intArray::get;
+        }
+        ByteArray byteArray = (ByteArray) hostArray;
+        return byteArray::get;
+    }
+
+    /**
+     * @return the end of the block, computed without overflowing an int for
+     *     arrays close to {@link Integer#MAX_VALUE} elements.
+     */
+    private static int blockEnd(int block, int blockSize, int size) {
+        return (int) Math.min(size, (block + 1L) * blockSize);
+    }
+
+    /**
+     * Stores in {@code blockOffsets} the prefix sum of the encoded sizes in
+     * {@code blockOffsets[1..numBlocks]}, starting at {@code start}.
+     */
+    private void prefixSum(int start) {
+        blockOffsets[0] = start;
+        for (int block = 0; block < numBlocks; block++) {
+            blockOffsets[block + 1] += blockOffsets[block];
+        }
+    }
+
+    private void encodeRunLength() {
+        final IntUnaryOperator reader = reader();
+        final int size = hostArray.getSize();
+        final int intsPerRun = (hostArray instanceof IntArray) ? 2 : 1;
+
+        blocks().forEach(block -> {
+            int end = blockEnd(block, RUN_LENGTH_BLOCK, size);
+            int runs = 1;
+            for (int i = block * RUN_LENGTH_BLOCK + 1; i < end; i++) {
+                if (reader.applyAsInt(i) != reader.applyAsInt(i - 1)) {
+                    runs++;
+                }
+            }
+            blockOffsets[block + 1] = runs * intsPerRun;
+        });
+        prefixSum(PAYLOAD_HEADER + numBlocks + 1);
+        if (blockOffsets[numBlocks] > getRawPayloadSize()) {
+            copyRaw();
+            return;
+        }
+
+        payload.set(0, PAYLOAD_ENCODED);
+        blocks().forEach(block -> {
+            payload.set(PAYLOAD_HEADER + block, blockOffsets[block]);
+            int position = blockOffsets[block];
+            int start = block * RUN_LENGTH_BLOCK;
+            int end = blockEnd(block, RUN_LENGTH_BLOCK, size);
+            int i = start;
+            while (i < end) {
+                int value = reader.applyAsInt(i);
+                int length = 1;
+                while (i + length < end && reader.applyAsInt(i + length) == value) {
+                    length++;
+                }
+                if (intsPerRun == 2) {
+                    payload.set(position++, value);
+                    payload.set(position++, length);
+                } else {
+                    payload.set(position++, (length << 8) | (value & 0xFF));
+                }
+                i += length;
+            }
+        });
+        payload.set(PAYLOAD_HEADER + numBlocks, blockOffsets[numBlocks]);
+        payloadBytes = (long) blockOffsets[numBlocks] * Integer.BYTES;
+    }
+
+    private void encodeBitPacking() {
+        final IntUnaryOperator reader = reader();
+        final int size = hostArray.getSize();
+        final int[] bases = new int[numBlocks];
+        final int[] widths = new int[numBlocks];
+
+        blocks().forEach(block -> {
+            int start = block * BIT_PACKING_BLOCK;
+            int end = blockEnd(block, BIT_PACKING_BLOCK, size);
+            int min = reader.applyAsInt(start);
+            int max = min;
+            for (int i = start + 1; i < end; i++) {
+                int value = reader.applyAsInt(i);
+                min = Math.min(min, value);
+                max = Math.max(max, value);
+            }
+            // The difference is treated as unsigned, so it never overflows
+            int width = Integer.SIZE - Integer.numberOfLeadingZeros(max - min);
+            bases[block] = min;
+            widths[block] = width;
+            blockOffsets[block + 1] = divideAndRoundUp((end - start) * width, Integer.SIZE);
+        });
+        prefixSum(PAYLOAD_HEADER + 3 * numBlocks);
+        // Two words of padding follow the packed values
+        if (blockOffsets[numBlocks] + 2 > getRawPayloadSize()) {
+            copyRaw();
+            return;
+        }
+
+        payload.set(0, PAYLOAD_ENCODED);
+        blocks().forEach(block -> {
+            payload.set(PAYLOAD_HEADER + 3 * block, bases[block]);
+            payload.set(PAYLOAD_HEADER + 3 * block + 1, widths[block]);
+            payload.set(PAYLOAD_HEADER + 3 * block + 2, blockOffsets[block]);
+            int start = block * BIT_PACKING_BLOCK;
+            int end = blockEnd(block, BIT_PACKING_BLOCK, size);
+            int width = widths[block];
+            int word = blockOffsets[block];
+            long bits = 0;
+            int numBits = 0;
+            for (int i = start; i < end; i++) {
+                long delta = (reader.applyAsInt(i) - bases[block]) & 0xFFFFFFFFL;
+                bits |= delta << numBits;
+                numBits += width;
+                if (numBits >= Integer.SIZE) {
+                    payload.set(word++, (int) bits);
+                    bits >>>= Integer.SIZE;
+                    numBits -= Integer.SIZE;
+                }
+            }
+            if (numBits > 0) {
+                payload.set(word, (int) bits);
+            }
+        });
+        int end = blockOffsets[numBlocks];
+        payload.set(end, 0);
+        payload.set(end + 1, 0);
+        payloadBytes = (long) (end + 2) * Integer.BYTES;
+    }
+
+    private void encodeZeroSuppression() {
+        final FloatArray floatArray = (FloatArray) hostArray;
+        final int size = floatArray.getSize();
+
+        final int[] masks = new int[numBlocks];
+
+        blocks().forEach(block -> {
+            int start = block * ZERO_SUPPRESSION_GROUP;
+            int end = blockEnd(block, ZERO_SUPPRESSION_GROUP, size);
+            int mask = 0;
+            for (int i = start; i < end; i++) {
+                // Only +0.0f is suppressed, so the encoding is lossless
+                if (Float.floatToRawIntBits(floatArray.get(i)) != 0) {
+                    mask |= 1 << (i - start);
+                }
+            }
+            masks[block] = mask;
+            blockOffsets[block + 1] = Integer.bitCount(mask);
+        });
+        prefixSum(0);
+        if ((long) blockOffsets[numBlocks] * Float.BYTES + payload.getNumBytesOfSegment() > hostArray.getNumBytesOfSegment() + Integer.BYTES) {
+            // The payload only holds the header word, and the values hold the array
+            payload.set(0, PAYLOAD_RAW);
+            MemorySegment.copy(floatArray.getSegment(), 0, values.getSegment(), 0, floatArray.getNumBytesOfSegment());
+            payloadBytes = Integer.BYTES;
+            valuesBytes = Math.max(Float.BYTES, floatArray.getNumBytesOfSegment());
+            return;
+        }
+
+        payload.set(0, PAYLOAD_ENCODED);
+        blocks().forEach(block -> {
+            payload.set(PAYLOAD_HEADER + 2 * block, masks[block]);
+            payload.set(PAYLOAD_HEADER + 2 * block + 1, blockOffsets[block]);
+            int start = block * ZERO_SUPPRESSION_GROUP;
+            int position = blockOffsets[block];
+            int mask = masks[block];
+            while (mask != 0) {
+                int lane = Integer.numberOfTrailingZeros(mask);
+                values.set(position++, floatArray.get(start + lane));
+                mask &= mask - 1;
+            }
+        });
+        payloadBytes = payload.getNumBytesOfSegment();
+        // At least one value is copied: a transfer of zero bytes would copy the whole array
+        valuesBytes = (long) Math.max(1, blockOffsets[numBlocks]) * Float.BYTES;
+    }
+}
@@ -28,6 +28,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import uk.ac.manchester.tornado.api.common.TornadoDevice;
 import uk.ac.manchester.tornado.api.exceptions.TornadoRuntimeException;
 import uk.ac.manchester.tornado.api.memory.ObjectState;
+import uk.ac.manchester.tornado.runtime.common.CoherenceState;
 import uk.ac.manchester.tornado.runtime.common.TornadoXPUDevice;
 import uk.ac.manchester.tornado.runtime.common.XPUDeviceBufferState;
 
@@ -50,6 +51,22 @@ public class DataObjectState implements ObjectState {
         return deviceStates.get(device);
     }
 
+    /**
+     * Marks the buffer of the given device as the latest copy of the object. The
+     * copies held on the other devices become invalid.
+     *
+     * @param device
+     *     Device that updated the object.
+     */
+    public void setModifiedOn(TornadoXPUDevice device) {
+        getDeviceBufferState(device).setCoherenceState(CoherenceState.MODIFIED);
+        deviceStates.forEach((otherDevice, state) -> {
+            if (!otherDevice.equals(device)) {
+                state.setCoherenceState(CoherenceState.INVALID);
+            }
+        });
+    }
+
     @Override
     public DataObjectState clone() {
         DataObjectState dataObjectState = new DataObjectState();
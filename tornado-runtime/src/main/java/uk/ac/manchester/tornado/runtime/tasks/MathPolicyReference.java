@@ -0,0 +1,179 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.runtime.tasks;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import uk.ac.manchester.tornado.api.common.TaskPackage;
+import uk.ac.manchester.tornado.api.types.arrays.ByteArray;
+import uk.ac.manchester.tornado.api.types.arrays.CharArray;
+import uk.ac.manchester.tornado.api.types.arrays.DoubleArray;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.api.types.arrays.HalfFloatArray;
+import uk.ac.manchester.tornado.api.types.arrays.IntArray;
+import uk.ac.manchester.tornado.api.types.arrays.LongArray;
+import uk.ac.manchester.tornado.api.types.arrays.ShortArray;
+import uk.ac.manchester.tornado.api.types.arrays.TornadoNativeArray;
+import uk.ac.manchester.tornado.api.types.utils.FloatOps;
+import uk.ac.manchester.tornado.api.types.utils.FloatingPointError;
+
+/**
+ * JVM reference of a task-graph for the error report of the math policies. The
+ * arrays passed to the tasks are copied before the execution on the device, the
+ * tasks run on the JVM with the copies, and the float arrays computed by the
+ * device are compared with the arrays computed by the JVM.
+ */
+final class MathPolicyReference {
+
+    private final Map<Object, TornadoNativeArray> copies;
+    private final List<Object[]> parameters;
+
+    private MathPolicyReference(Map<Object, TornadoNativeArray> copies, List<Object[]> parameters) {
+        this.copies = copies;
+        this.parameters = parameters;
+    }
+
+    /**
+     * Copies the arguments of the tasks.
+     *
+     * @return the reference, or null if the tasks cannot run on the JVM with
+     *     copies of their arguments (e.g., pre-built tasks, or objects other than
+     *     native arrays and scalars).
+     */
+    static MathPolicyReference capture(List<TaskPackage> taskPackages) {
+        Map<Object, TornadoNativeArray> copies = new IdentityHashMap<>();
+        List<Object[]> parameters = new ArrayList<>();
+        for (TaskPackage taskPackage : taskPackages) {
+            if (taskPackage.isPrebuiltTask()) {
+                return null;
+            }
+            // The first parameter is the code of the task
+            Object[] taskParameters = taskPackage.getTaskParameters().clone();
+            for (int i = 1; i < taskParameters.length; i++) {
+                Object argument = taskParameters[i];
+                if (argument instanceof TornadoNativeArray array) {
+                    TornadoNativeArray copy = copies.get(array);
+                    if (copy == null) {
+                        copy = copyOf(array);
+                        if (copy == null) {
+                            return null;
+                        }
+                        copies.put(array, copy);
+                    }
+                    taskParameters[i] = copy;
+                } else if (!isScalar(argument)) {
+                    return null;
+                }
+            }
+            parameters.add(taskParameters);
+        }
+        return new MathPolicyReference(copies, parameters);
+    }
+
+    private static boolean isScalar(Object argument) {
+        return argument instanceof Number || argument instanceof Boolean || argument instanceof Character;
+    }
+
+    private static TornadoNativeArray copyOf(TornadoNativeArray array) {
+        if (array instanceof FloatArray floatArray) {
+            return FloatArray.fromSegment(floatArray.getSegment());
+        } else if (array instanceof IntArray intArray) {
+            return IntArray.fromSegment(intArray.getSegment());
+        } else if (array instanceof DoubleArray doubleArray) {
+            return DoubleArray.fromSegment(doubleArray.getSegment());
+        } else if (array instanceof LongArray longArray) {
+            return LongArray.fromSegment(longArray.getSegment());
+        } else if (array instanceof ShortArray shortArray) {
+            return ShortArray.fromSegment(shortArray.getSegment());
+        } else if (array instanceof ByteArray byteArray) {
+            return ByteArray.fromSegment(byteArray.getSegment());
+        } else if (array instanceof CharArray charArray) {
+            return CharArray.fromSegment(charArray.getSegment());
+        } else if (array instanceof HalfFloatArray halfFloatArray) {
+            return HalfFloatArray.fromSegment(halfFloatArray.getSegment());
+        }
+        return null;
+    }
+
+    /**
+     * @return the parameters of a task in which the arrays are replaced with
+     *     their copies.
+     */
+    Object[] getTaskParameters(int taskIndex) {
+        return parameters.get(taskIndex);
+    }
+
+    /**
+     * Compares the float arrays of the task-graph with the results of the JVM.
+     * Elements for which only one of the two values is NaN or infinite are
+     * counted as errors and excluded from the ULP statistics.
+     *
+     * @return the error of each float array, indexed by the array of the user.
+     */
+    Map<Object, FloatingPointError> computeErrors() {
+        Map<Object, FloatingPointError> errors = new IdentityHashMap<>();
+        for (Map.Entry<Object, TornadoNativeArray> entry : copies.entrySet()) {
+            if (entry.getKey() instanceof FloatArray deviceArray) {
+                errors.put(deviceArray, computeError(deviceArray, (FloatArray) entry.getValue()));
+            }
+        }
+        return errors;
+    }
+
+    private static FloatingPointError computeError(FloatArray deviceArray, FloatArray referenceArray) {
+        int numErrors = 0;
+        int numValues = 0;
+        float minUlp = Float.MAX_VALUE;
+        float maxUlp = 0.0f;
+        double sumUlp = 0.0;
+        double sumSquaredUlp = 0.0;
+        for (int i = 0; i < deviceArray.getSize(); i++) {
+            float value = deviceArray.get(i);
+            float expected = referenceArray.get(i);
+            boolean finiteValue = Float.isFinite(value);
+            boolean finiteExpected = Float.isFinite(expected);
+            if (!finiteValue || !finiteExpected) {
+                if (finiteValue != finiteExpected || Float.compare(value, expected) != 0) {
+                    numErrors++;
+                }
+                continue;
+            }
+            float ulp = FloatOps.findMaxULP(value, expected);
+            minUlp = Math.min(minUlp, ulp);
+            maxUlp = Math.max(maxUlp, ulp);
+            sumUlp += ulp;
+            sumSquaredUlp += (double) ulp * ulp;
+            numValues++;
+        }
+        if (numValues == 0) {
+            return new FloatingPointError(0.0f, 0.0f, 0.0f, 0.0f, numErrors);
+        }
+        double average = sumUlp / numValues;
+        double variance = Math.max(0.0, sumSquaredUlp / numValues - average * average);
+        return new FloatingPointError((float) average, minUlp, maxUlp, (float) Math.sqrt(variance), numErrors);
+    }
+}
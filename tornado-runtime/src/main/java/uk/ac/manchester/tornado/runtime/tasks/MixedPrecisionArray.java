@@ -0,0 +1,191 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.runtime.tasks;
+
+import static java.lang.foreign.ValueLayout.JAVA_SHORT;
+
+import java.lang.foreign.MemorySegment;
+
+import uk.ac.manchester.tornado.api.enums.MixedPrecisionFormat;
+import uk.ac.manchester.tornado.api.types.arrays.BFloat16Array;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.api.types.arrays.HalfFloatArray;
+import uk.ac.manchester.tornado.api.types.arrays.TornadoNativeArray;
+import uk.ac.manchester.tornado.api.types.utils.FloatOps;
+import uk.ac.manchester.tornado.api.types.utils.FloatingPointError;
+
+/**
+ * A {@link FloatArray} stored on the device in a 16-bit format. The runtime
+ * passes the 16-bit array to the kernels instead of the float array, and the
+ * compiler rewrites the accesses of the kernels (see
+ * {@code TornadoMixedPrecisionStorage}). The host values are narrowed before
+ * each execution and widened back after the results are copied to the host.
+ *
+ * <p>
+ * The conversions follow the same rules as the code generated for the kernels:
+ * round to nearest even, overflow to infinity and, for FP16, subnormals flushed
+ * to zero.
+ * </p>
+ */
+public final class MixedPrecisionArray {
+
+    private final MixedPrecisionFormat format;
+    private final FloatArray hostArray;
+    private final TornadoNativeArray deviceArray;
+    private FloatingPointError error;
+
+    public MixedPrecisionArray(MixedPrecisionFormat format, FloatArray hostArray) {
+        this.format = format;
+        this.hostArray = hostArray;
+        this.deviceArray = switch (format) {
+            case FP16 -> new HalfFloatArray(hostArray.getSize());
+            case BF16 -> new BFloat16Array(hostArray.getSize());
+        };
+    }
+
+    public static short encode(MixedPrecisionFormat format, float value) {
+        int bits = Float.floatToRawIntBits(value);
+        int magnitude = bits & 0x7FFFFFFF;
+        int result;
+        if (format == MixedPrecisionFormat.BF16) {
+            if (magnitude > 0x7F800000) {
+                result = 0x7FC0;
+            } else {
+                result = (magnitude + 0x7FFF + ((magnitude >> 16) & 1)) >> 16;
+            }
+        } else {
+            if (magnitude > 0x7F800000) {
+                result = 0x7E00;
+            } else if (magnitude >= 0x477FF000) {
+                result = 0x7C00;
+            } else if (magnitude < 0x38800000) {
+                result = 0;
+            } else {
+                int rebased = magnitude - 0x38000000;
+                result = (rebased + 0x0FFF + ((rebased >> 13) & 1)) >> 13;
+            }
+        }
+        return (short) (bits < 0 ? result | 0x8000 : result);
+    }
+
+    public static float decode(MixedPrecisionFormat format, short value) {
+        int bits = value & 0xFFFF;
+        int magnitude = bits & 0x7FFF;
+        int floatBits;
+        if (format == MixedPrecisionFormat.BF16) {
+            floatBits = magnitude << 16;
+        } else {
+            int exponent = magnitude >> 10;
+            floatBits = (exponent == 0) ? 0 : (magnitude << 13) + (exponent == 0x1F ? 0x70000000 : 0x38000000);
+        }
+        float result = Float.intBitsToFloat(floatBits);
+        return bits < 0x8000 ? result : -result;
+    }
+
+    public MixedPrecisionFormat getFormat() {
+        return format;
+    }
+
+    public FloatArray getHostArray() {
+        return hostArray;
+    }
+
+    public TornadoNativeArray getDeviceArray() {
+        return deviceArray;
+    }
+
+    /**
+     * Error introduced the last time the host array was narrowed.
+     *
+     * @return {@link FloatingPointError}, or null if the array has not been
+     *     narrowed yet.
+     */
+    public FloatingPointError getError() {
+        return error;
+    }
+
+    /**
+     * Converts the host array into the 16-bit array and computes the error of
+     * the conversion. Elements that overflow or are flushed to zero are counted
+     * as errors and excluded from the ULP statistics.
+     */
+    public void narrow() {
+        MemorySegment segment = deviceArray.getSegment();
+        int size = hostArray.getSize();
+        int errors = 0;
+        int numValues = 0;
+        float minUlp = Float.MAX_VALUE;
+        float maxUlp = 0.0f;
+        double sumUlp = 0.0;
+        double sumSquaredUlp = 0.0;
+        for (int i = 0; i < size; i++) {
+            float value = hostArray.get(i);
+            short bits = encode(format, value);
+            segment.setAtIndex(JAVA_SHORT, i, bits);
+            if (Float.isNaN(value) || Float.isInfinite(value)) {
+                continue;
+            }
+            float converted = decode(format, bits);
+            if (Float.isInfinite(converted) || (converted == 0.0f && value != 0.0f)) {
+                errors++;
+                continue;
+            }
+            float ulp = FloatOps.findMaxULP(converted, value);
+            minUlp = Math.min(minUlp, ulp);
+            maxUlp = Math.max(maxUlp, ulp);
+            sumUlp += ulp;
+            sumSquaredUlp += (double) ulp * ulp;
+            numValues++;
+        }
+        if (numValues == 0) {
+            error = new FloatingPointError(0.0f, 0.0f, 0.0f, 0.0f, errors);
+        } else {
+            double average = sumUlp / numValues;
+            double variance = Math.max(0.0, sumSquaredUlp / numValues - average * average);
+            error = new FloatingPointError((float) average, minUlp, maxUlp, (float) Math.sqrt(variance), errors);
+        }
+    }
+
+    /**
+     * Converts the 16-bit array back into the host array.
+     */
+    public void widen() {
+        widen(0, hostArray.getSize());
+    }
+
+    /**
+     * Converts a range of the 16-bit array back into the host array.
+     *
+     * @param fromIndex
+     *     First element to convert.
+     * @param toIndex
+     *     Element after the last one to convert.
+     */
+    public void widen(int fromIndex, int toIndex) {
+        MemorySegment segment = deviceArray.getSegment();
+        for (int i = fromIndex; i < toIndex; i++) {
+            hostArray.set(i, decode(format, segment.getAtIndex(JAVA_SHORT, i)));
+        }
+    }
+}
@@ -290,6 +290,501 @@ class ReduceFactory {
         array.set(0, acc);
     }
 
+    private static void rAnd(int[] array, final int size) {
+        int acc = array[0];
+        for (int i = 1; i < size; i++) {
+            acc &= array[i];
+        }
+        array[0] = acc;
+    }
+
+    private static void rAnd(long[] array, final int size) {
+        long acc = array[0];
+        for (int i = 1; i < size; i++) {
+            acc &= array[i];
+        }
+        array[0] = acc;
+    }
+
+    private static void rAnd(IntArray array, final int size) {
+        int acc = array.get(0);
+        for (int i = 1; i < size; i++) {
+            acc &= array.get(i);
+        }
+        array.set(0, acc);
+    }
+
+    private static void rAnd(LongArray array, final int size) {
+        long acc = array.get(0);
+        for (int i = 1; i < size; i++) {
+            acc &= array.get(i);
+        }
+        array.set(0, acc);
+    }
+
+    private static void rOr(int[] array, final int size) {
+        int acc = array[0];
+        for (int i = 1; i < size; i++) {
+            acc |= array[i];
+        }
+        array[0] = acc;
+    }
+
+    private static void rOr(long[] array, final int size) {
+        long acc = array[0];
+        for (int i = 1; i < size; i++) {
+            acc |= array[i];
+        }
+        array[0] = acc;
+    }
+
+    private static void rOr(IntArray array, final int size) {
+        int acc = array.get(0);
+        for (int i = 1; i < size; i++) {
+            acc |= array.get(i);
+        }
+        array.set(0, acc);
+    }
+
+    private static void rOr(LongArray array, final int size) {
+        long acc = array.get(0);
+        for (int i = 1; i < size; i++) {
+            acc |= array.get(i);
+        }
+        array.set(0, acc);
+    }
+
+    private static void rXor(int[] array, final int size) {
+        int acc = array[0];
+        for (int i = 1; i < size; i++) {
+            acc ^= array[i];
+        }
+        array[0] = acc;
+    }
+
+    private static void rXor(long[] array, final int size) {
+        long acc = array[0];
+        for (int i = 1; i < size; i++) {
+            acc ^= array[i];
+        }
+        array[0] = acc;
+    }
+
+    private static void rXor(IntArray array, final int size) {
+        int acc = array.get(0);
+        for (int i = 1; i < size; i++) {
+            acc ^= array.get(i);
+        }
+        array.set(0, acc);
+    }
+
+    private static void rXor(LongArray array, final int size) {
+        long acc = array.get(0);
+        for (int i = 1; i < size; i++) {
+            acc ^= array.get(i);
+        }
+        array.set(0, acc);
+    }
+
+    // Variants for reductions combined on the device: the final value is also
+    // written into the reduce variable, so the partial results are not copied back
+    // to the host.
+    private static void rAdd(int[] array, final int size, int[] result) {
+        int acc = array[0];
+        for (int i = 1; i < size; i++) {
+            acc += array[i];
+        }
+        array[0] = acc;
+        result[0] = acc;
+    }
+
+    private static void rAdd(long[] array, final int size, long[] result) {
+        long acc = array[0];
+        for (int i = 1; i < size; i++) {
+            acc += array[i];
+        }
+        array[0] = acc;
+        result[0] = acc;
+    }
+
+    private static void rAdd(float[] array, final int size, float[] result) {
+        float acc = array[0];
+        for (int i = 1; i < size; i++) {
+            acc += array[i];
+        }
+        array[0] = acc;
+        result[0] = acc;
+    }
+
+    private static void rAdd(double[] array, final int size, double[] result) {
+        double acc = array[0];
+        for (int i = 1; i < size; i++) {
+            acc += array[i];
+        }
+        array[0] = acc;
+        result[0] = acc;
+    }
+
+    private static void rAdd(IntArray array, final int size, IntArray result) {
+        int acc = array.get(0);
+        for (int i = 1; i < size; i++) {
+            acc += array.get(i);
+        }
+        array.set(0, acc);
+        result.set(0, acc);
+    }
+
+    private static void rAdd(FloatArray array, final int size, FloatArray result) {
+        float acc = array.get(0);
+        for (int i = 1; i < size; i++) {
+            acc += array.get(i);
+        }
+        array.set(0, acc);
+        result.set(0, acc);
+    }
+
+    private static void rAdd(DoubleArray array, final int size, DoubleArray result) {
+        double acc = array.get(0);
+        for (int i = 1; i < size; i++) {
+            acc += array.get(i);
+        }
+        array.set(0, acc);
+        result.set(0, acc);
+    }
+
+    private static void rAdd(LongArray array, final int size, LongArray result) {
+        long acc = array.get(0);
+        for (int i = 1; i < size; i++) {
+            acc += array.get(i);
+        }
+        array.set(0, acc);
+        result.set(0, acc);
+    }
+
+    private static void rMul(int[] array, final int size, int[] result) {
+        int acc = array[0];
+        for (int i = 1; i < size; i++) {
+            acc *= array[i];
+        }
+        array[0] = acc;
+        result[0] = acc;
+    }
+
+    private static void rMul(long[] array, final int size, long[] result) {
+        long acc = array[0];
+        for (int i = 1; i < size; i++) {
+            acc *= array[i];
+        }
+        array[0] = acc;
+        result[0] = acc;
+    }
+
+    private static void rMul(float[] array, final int size, float[] result) {
+        float acc = array[0];
+        for (int i = 1; i < size; i++) {
+            acc *= array[i];
+        }
+        array[0] = acc;
+        result[0] = acc;
+    }
+
+    private static void rMul(double[] array, final int size, double[] result) {
+        double acc = array[0];
+        for (int i = 1; i < size; i++) {
+            acc *= array[i];
+        }
+        array[0] = acc;
+        result[0] = acc;
+    }
+
+    private static void rMul(IntArray array, final int size, IntArray result) {
+        int acc = array.get(0);
+        for (int i = 1; i < size; i++) {
+            acc *= array.get(i);
+        }
+        array.set(0, acc);
+        result.set(0, acc);
+    }
+
+    private static void rMul(FloatArray array, final int size, FloatArray result) {
+        float acc = array.get(0);
+        for (int i = 1; i < size; i++) {
+            acc *= array.get(i);
+        }
+        array.set(0, acc);
+        result.set(0, acc);
+    }
+
+    private static void rMul(DoubleArray array, final int size, DoubleArray result) {
+        double acc = array.get(0);
+        for (int i = 1; i < size; i++) {
+            acc *= array.get(i);
+        }
+        array.set(0, acc);
+        result.set(0, acc);
+    }
+
+    private static void rMul(LongArray array, final int size, LongArray result) {
+        long acc = array.get(0);
+        for (int i = 1; i < size; i++) {
+            acc *= array.get(i);
+        }
+        array.set(0, acc);
+        result.set(0, acc);
+    }
+
+    private static void rMax(int[] array, final int size, int[] result) {
+        int acc = array[0];
+        for (int i = 1; i < size; i++) {
+            acc = Math.max(acc, array[i]);
+        }
+        array[0] = acc;
+        result[0] = acc;
+    }
+
+    private static void rMax(long[] array, final int size, long[] result) {
+        long acc = array[0];
+        for (int i = 1; i < size; i++) {
+            acc = Math.max(acc, array[i]);
+        }
+        array[0] = acc;
+        result[0] = acc;
+    }
+
+    private static void rMax(float[] array, final int size, float[] result) {
+        float acc = array[0];
+        for (int i = 1; i < size; i++) {
+            acc = Math.max(acc, array[i]);
+        }
+        array[0] = acc;
+        result[0] = acc;
+    }
+
+    private static void rMax(double[] array, final int size, double[] result) {
+        double acc = array[0];
+        for (int i = 1; i < size; i++) {
+            acc = Math.max(acc, array[i]);
+        }
+        array[0] = acc;
+        result[0] = acc;
+    }
+
+    private static void rMax(IntArray array, final int size, IntArray result) {
+        int acc = array.get(0);
+        for (int i = 1; i < size; i++) {
+            acc = Math.max(acc, array.get(i));
+        }
+        array.set(0, acc);
+        result.set(0, acc);
+    }
+
+    private static void rMax(FloatArray array, final int size, FloatArray result) {
+        float acc = array.get(0);
+        for (int i = 1; i < size; i++) {
+            acc = Math.max(acc, array.get(i));
+        }
+        array.set(0, acc);
+        result.set(0, acc);
+    }
+
+    private static void rMax(DoubleArray array, final int size, DoubleArray result) {
+        double acc = array.get(0);
+        for (int i = 1; i < size; i++) {
+            acc = Math.max(acc, array.get(i));
+        }
+        array.set(0, acc);
+        result.set(0, acc);
+    }
+
+    private static void rMax(LongArray array, final int size, LongArray result) {
+        long acc = array.get(0);
+        for (int i = 1; i < size; i++) {
+            acc = Math.max(acc, array.get(i));
+        }
+        array.set(0, acc);
+        result.set(0, acc);
+    }
+
+    private static void rMin(int[] array, final int size, int[] result) {
+        int acc = array[0];
+        for (int i = 1; i < size; i++) {
+            acc = Math.min(acc, array[i]);
+        }
+        array[0] = acc;
+        result[0] = acc;
+    }
+
+    private static void rMin(long[] array, final int size, long[] result) {
+        long acc = array[0];
+        for (int i = 1; i < size; i++) {
+            acc = Math.min(acc, array[i]);
+        }
+        array[0] = acc;
+        result[0] = acc;
+    }
+
+    private static void rMin(float[] array, final int size, float[] result) {
+        float acc = array[0];
+        for (int i = 1; i < size; i++) {
+            acc = Math.min(acc, array[i]);
+        }
+        array[0] = acc;
+        result[0] = acc;
+    }
+
+    private static void rMin(double[] array, final int size, double[] result) {
+        double acc = array[0];
+        for (int i = 1; i < size; i++) {
+            acc = Math.min(acc, array[i]);
+        }
+        array[0] = acc;
+        result[0] = acc;
+    }
+
+    private static void rMin(IntArray array, final int size, IntArray result) {
+        int acc = array.get(0);
+        for (int i = 1; i < size; i++) {
+            acc = Math.min(acc, array.get(i));
+        }
+        array.set(0, acc);
+        result.set(0, acc);
+    }
+
+    private static void rMin(FloatArray array, final int size, FloatArray result) {
+        float acc = array.get(0);
+        for (int i = 1; i < size; i++) {
+            acc = Math.min(acc, array.get(i));
+        }
+        array.set(0, acc);
+        result.set(0, acc);
+    }
+
+    private static void rMin(DoubleArray array, final int size, DoubleArray result) {
+        double acc = array.get(0);
+        for (int i = 1; i < size; i++) {
+            acc = Math.min(acc, array.get(i));
+        }
+        array.set(0, acc);
+        result.set(0, acc);
+    }
+
+    private static void rMin(LongArray array, final int size, LongArray result) {
+        long acc = array.get(0);
+        for (int i = 1; i < size; i++) {
+            acc = Math.min(acc, array.get(i));
+        }
+        array.set(0, acc);
+        result.set(0, acc);
+    }
+
+    private static void rAnd(int[] array, final int size, int[] result) {
+        int acc = array[0];
+        for (int i = 1; i < size; i++) {
+            acc &= array[i];
+        }
+        array[0] = acc;
+        result[0] = acc;
+    }
+
+    private static void rAnd(long[] array, final int size, long[] result) {
+        long acc = array[0];
+        for (int i = 1; i < size; i++) {
+            acc &= array[i];
+        }
+        array[0] = acc;
+        result[0] = acc;
+    }
+
+    private static void rAnd(IntArray array, final int size, IntArray result) {
+        int acc = array.get(0);
+        for (int i = 1; i < size; i++) {
+            acc &= array.get(i);
+        }
+        array.set(0, acc);
+        result.set(0, acc);
+    }
+
+    private static void rAnd(LongArray array, final int size, LongArray result) {
+        long acc = array.get(0);
+        for (int i = 1; i < size; i++) {
+            acc &= array.get(i);
+        }
+        array.set(0, acc);
+        result.set(0, acc);
+    }
+
+    private static void rOr(int[] array, final int size, int[] result) {
+        int acc = array[0];
+        for (int i = 1; i < size; i++) {
+            acc |= array[i];
+        }
+        array[0] = acc;
+        result[0] = acc;
+    }
+
+    private static void rOr(long[] array, final int size, long[] result) {
+        long acc = array[0];
+        for (int i = 1; i < size; i++) {
+            acc |= array[i];
+        }
+        array[0] = acc;
+        result[0] = acc;
+    }
+
+    private static void rOr(IntArray array, final int size, IntArray result) {
+        int acc = array.get(0);
+        for (int i = 1; i < size; i++) {
+            acc |= array.get(i);
+        }
+        array.set(0, acc);
+        result.set(0, acc);
+    }
+
+    private static void rOr(LongArray array, final int size, LongArray result) {
+        long acc = array.get(0);
+        for (int i = 1; i < size; i++) {
+            acc |= array.get(i);
+        }
+        array.set(0, acc);
+        result.set(0, acc);
+    }
+
+    private static void rXor(int[] array, final int size, int[] result) {
+        int acc = array[0];
+        for (int i = 1; i < size; i++) {
+            acc ^= array[i];
+        }
+        array[0] = acc;
+        result[0] = acc;
+    }
+
+    private static void rXor(long[] array, final int size, long[] result) {
+        long acc = array[0];
+        for (int i = 1; i < size; i++) {
+            acc ^= array[i];
+        }
+        array[0] = acc;
+        result[0] = acc;
+    }
+
+    private static void rXor(IntArray array, final int size, IntArray result) {
+        int acc = array.get(0);
+        for (int i = 1; i < size; i++) {
+            acc ^= array.get(i);
+        }
+        array.set(0, acc);
+        result.set(0, acc);
+    }
+
+    private static void rXor(LongArray array, final int size, LongArray result) {
+        long acc = array.get(0);
+        for (int i = 1; i < size; i++) {
+            acc ^= array.get(i);
+        }
+        array.set(0, acc);
+        result.set(0, acc);
+    }
+
     static void handleAdd(Object newArray, TaskGraph task, int sizeReduceArray, String taskName) {
         switch (newArray.getClass().getTypeName()) {
             case "int[]":
@@ -413,4 +908,242 @@ class ReduceFactory {
                 throw new TornadoRuntimeException(ERROR_MESSAGE + newArray.getClass().getTypeName());
         }
     }
+
+    static void handleAnd(Object newArray, TaskGraph task, int sizeReduceArray, String taskName) {
+        switch (newArray.getClass().getTypeName()) {
+            case "int[]":
+                task.task(taskName, ReduceFactory::rAnd, (int[]) newArray, sizeReduceArray);
+                break;
+            case "long[]":
+                task.task(taskName, ReduceFactory::rAnd, (long[]) newArray, sizeReduceArray);
+                break;
+            case "uk.ac.manchester.tornado.api.types.arrays.IntArray":
+                task.task(taskName, ReduceFactory::rAnd, (IntArray) newArray, sizeReduceArray);
+                break;
+            case "uk.ac.manchester.tornado.api.types.arrays.LongArray":
+                task.task(taskName, ReduceFactory::rAnd, (LongArray) newArray, sizeReduceArray);
+                break;
+            default:
+                throw new TornadoRuntimeException(ERROR_MESSAGE + newArray.getClass().getTypeName());
+        }
+    }
+
+    static void handleOr(Object newArray, TaskGraph task, int sizeReduceArray, String taskName) {
+        switch (newArray.getClass().getTypeName()) {
+            case "int[]":
+                task.task(taskName, ReduceFactory::rOr, (int[]) newArray, sizeReduceArray);
+                break;
+            case "long[]":
+                task.task(taskName, ReduceFactory::rOr, (long[]) newArray, sizeReduceArray);
+                break;
+            case "uk.ac.manchester.tornado.api.types.arrays.IntArray":
+                task.task(taskName, ReduceFactory::rOr, (IntArray) newArray, sizeReduceArray);
+                break;
+            case "uk.ac.manchester.tornado.api.types.arrays.LongArray":
+                task.task(taskName, ReduceFactory::rOr, (LongArray) newArray, sizeReduceArray);
+                break;
+            default:
+                throw new TornadoRuntimeException(ERROR_MESSAGE + newArray.getClass().getTypeName());
+        }
+    }
+
+    static void handleXor(Object newArray, TaskGraph task, int sizeReduceArray, String taskName) {
+        switch (newArray.getClass().getTypeName()) {
+            case "int[]":
+                task.task(taskName, ReduceFactory::rXor, (int[]) newArray, sizeReduceArray);
+                break;
+            case "long[]":
+                task.task(taskName, ReduceFactory::rXor, (long[]) newArray, sizeReduceArray);
+                break;
+            case "uk.ac.manchester.tornado.api.types.arrays.IntArray":
+                task.task(taskName, ReduceFactory::rXor, (IntArray) newArray, sizeReduceArray);
+                break;
+            case "uk.ac.manchester.tornado.api.types.arrays.LongArray":
+                task.task(taskName, ReduceFactory::rXor, (LongArray) newArray, sizeReduceArray);
+                break;
+            default:
+                throw new TornadoRuntimeException(ERROR_MESSAGE + newArray.getClass().getTypeName());
+        }
+    }
+
+    static void handleAdd(Object newArray, Object result, TaskGraph task, int sizeReduceArray, String taskName) {
+        switch (newArray.getClass().getTypeName()) {
+            case "int[]":
+                task.task(taskName, ReduceFactory::rAdd, (int[]) newArray, sizeReduceArray, (int[]) result);
+                break;
+            case "long[]":
+                task.task(taskName, ReduceFactory::rAdd, (long[]) newArray, sizeReduceArray, (long[]) result);
+                break;
+            case "float[]":
+                task.task(taskName, ReduceFactory::rAdd, (float[]) newArray, sizeReduceArray, (float[]) result);
+                break;
+            case "double[]":
+                task.task(taskName, ReduceFactory::rAdd, (double[]) newArray, sizeReduceArray, (double[]) result);
+                break;
+            case "uk.ac.manchester.tornado.api.types.arrays.IntArray":
+                task.task(taskName, ReduceFactory::rAdd, (IntArray) newArray, sizeReduceArray, (IntArray) result);
+                break;
+            case "uk.ac.manchester.tornado.api.types.arrays.FloatArray":
+                task.task(taskName, ReduceFactory::rAdd, (FloatArray) newArray, sizeReduceArray, (FloatArray) result);
+                break;
+            case "uk.ac.manchester.tornado.api.types.arrays.DoubleArray":
+                task.task(taskName, ReduceFactory::rAdd, (DoubleArray) newArray, sizeReduceArray, (DoubleArray) result);
+                break;
+            case "uk.ac.manchester.tornado.api.types.arrays.LongArray":
+                task.task(taskName, ReduceFactory::rAdd, (LongArray) newArray, sizeReduceArray, (LongArray) result);
+                break;
+            default:
+                throw new TornadoRuntimeException(ERROR_MESSAGE + newArray.getClass().getTypeName());
+        }
+    }
+
+    static void handleMul(Object newArray, Object result, TaskGraph task, int sizeReduceArray, String taskName) {
+        switch (newArray.getClass().getTypeName()) {
+            case "int[]":
+                task.task(taskName, ReduceFactory::rMul, (int[]) newArray, sizeReduceArray, (int[]) result);
+                break;
+            case "long[]":
+                task.task(taskName, ReduceFactory::rMul, (long[]) newArray, sizeReduceArray, (long[]) result);
+                break;
+            case "float[]":
+                task.task(taskName, ReduceFactory::rMul, (float[]) newArray, sizeReduceArray, (float[]) result);
+                break;
+            case "double[]":
+                task.task(taskName, ReduceFactory::rMul, (double[]) newArray, sizeReduceArray, (double[]) result);
+                break;
+            case "uk.ac.manchester.tornado.api.types.arrays.IntArray":
+                task.task(taskName, ReduceFactory::rMul, (IntArray) newArray, sizeReduceArray, (IntArray) result);
+                break;
+            case "uk.ac.manchester.tornado.api.types.arrays.FloatArray":
+                task.task(taskName, ReduceFactory::rMul, (FloatArray) newArray, sizeReduceArray, (FloatArray) result);
+                break;
+            case "uk.ac.manchester.tornado.api.types.arrays.DoubleArray":
+                task.task(taskName, ReduceFactory::rMul, (DoubleArray) newArray, sizeReduceArray, (DoubleArray) result);
+                break;
+            case "uk.ac.manchester.tornado.api.types.arrays.LongArray":
+                task.task(taskName, ReduceFactory::rMul, (LongArray) newArray, sizeReduceArray, (LongArray) result);
+                break;
+            default:
+                throw new TornadoRuntimeException(ERROR_MESSAGE + newArray.getClass().getTypeName());
+        }
+    }
+
+    static void handleMax(Object newArray, Object result, TaskGraph task, int sizeReduceArray, String taskName) {
+        switch (newArray.getClass().getTypeName()) {
+            case "int[]":
+                task.task(taskName, ReduceFactory::rMax, (int[]) newArray, sizeReduceArray, (int[]) result);
+                break;
+            case "long[]":
+                task.task(taskName, ReduceFactory::rMax, (long[]) newArray, sizeReduceArray, (long[]) result);
+                break;
+            case "float[]":
+                task.task(taskName, ReduceFactory::rMax, (float[]) newArray, sizeReduceArray, (float[]) result);
+                break;
+            case "double[]":
+                task.task(taskName, ReduceFactory::rMax, (double[]) newArray, sizeReduceArray, (double[]) result);
+                break;
+            case "uk.ac.manchester.tornado.api.types.arrays.IntArray":
+                task.task(taskName, ReduceFactory::rMax, (IntArray) newArray, sizeReduceArray, (IntArray) result);
+                break;
+            case "uk.ac.manchester.tornado.api.types.arrays.FloatArray":
+                task.task(taskName, ReduceFactory::rMax, (FloatArray) newArray, sizeReduceArray, (FloatArray) result);
+                break;
+            case "uk.ac.manchester.tornado.api.types.arrays.DoubleArray":
+                task.task(taskName, ReduceFactory::rMax, (DoubleArray) newArray, sizeReduceArray, (DoubleArray) result);
+                break;
+            case "uk.ac.manchester.tornado.api.types.arrays.LongArray":
+                task.task(taskName, ReduceFactory::rMax, (LongArray) newArray, sizeReduceArray, (LongArray) result);
+                break;
+            default:
+                throw new TornadoRuntimeException(ERROR_MESSAGE + newArray.getClass().getTypeName());
+        }
+    }
+
+    static void handleMin(Object newArray, Object result, TaskGraph task, int sizeReduceArray, String taskName) {
+        switch (newArray.getClass().getTypeName()) {
+            case "int[]":
+                task.task(taskName, ReduceFactory::rMin, (int[]) newArray, sizeReduceArray, (int[]) result);
+                break;
+            case "long[]":
+                task.task(taskName, ReduceFactory::rMin, (long[]) newArray, sizeReduceArray, (long[]) result);
+                break;
+            case "float[]":
+                task.task(taskName, ReduceFactory::rMin, (float[]) newArray, sizeReduceArray, (float[]) result);
+                break;
+            case "double[]":
+                task.task(taskName, ReduceFactory::rMin, (double[]) newArray, sizeReduceArray, (double[]) result);
+                break;
+            case "uk.ac.manchester.tornado.api.types.arrays.IntArray":
+                task.task(taskName, ReduceFactory::rMin, (IntArray) newArray, sizeReduceArray, (IntArray) result);
+                break;
+            case "uk.ac.manchester.tornado.api.types.arrays.FloatArray":
+                task.task(taskName, ReduceFactory::rMin, (FloatArray) newArray, sizeReduceArray, (FloatArray) result);
+                break;
+            case "uk.ac.manchester.tornado.api.types.arrays.DoubleArray":
+                task.task(taskName, ReduceFactory::rMin, (DoubleArray) newArray, sizeReduceArray, (DoubleArray) result);
+                break;
+            case "uk.ac.manchester.tornado.api.types.arrays.LongArray":
+                task.task(taskName, ReduceFactory::rMin, (LongArray) newArray, sizeReduceArray, (LongArray) result);
+                break;
+            default:
+                throw new TornadoRuntimeException(ERROR_MESSAGE + newArray.getClass().getTypeName());
+        }
+    }
+
+    static void handleAnd(Object newArray, Object result, TaskGraph task, int sizeReduceArray, String taskName) {
+        switch (newArray.getClass().getTypeName()) {
+            case "int[]":
+                task.task(taskName, ReduceFactory::rAnd, (int[]) newArray, sizeReduceArray, (int[]) result);
+                break;
+            case "long[]":
+                task.task(taskName, ReduceFactory::rAnd, (long[]) newArray, sizeReduceArray, (long[]) result);
+                break;
+            case "uk.ac.manchester.tornado.api.types.arrays.IntArray":
+                task.task(taskName, ReduceFactory::rAnd, (IntArray) newArray, sizeReduceArray, (IntArray) result);
+                break;
+            case "uk.ac.manchester.tornado.api.types.arrays.LongArray":
+                task.task(taskName, ReduceFactory::rAnd, (LongArray) newArray, sizeReduceArray, (LongArray) result);
+                break;
+            default:
+                throw new TornadoRuntimeException(ERROR_MESSAGE + newArray.getClass().getTypeName());
+        }
+    }
+
+    static void handleOr(Object newArray, Object result, TaskGraph task, int sizeReduceArray, String taskName) {
+        switch (newArray.getClass().getTypeName()) {
+            case "int[]":
+                task.task(taskName, ReduceFactory::rOr, (int[]) newArray, sizeReduceArray, (int[]) result);
+                break;
+            case "long[]":
+                task.task(taskName, ReduceFactory::rOr, (long[]) newArray, sizeReduceArray, (long[]) result);
+                break;
+            case "uk.ac.manchester.tornado.api.types.arrays.IntArray":
+                task.task(taskName, ReduceFactory::rOr, (IntArray) newArray, sizeReduceArray, (IntArray) result);
+                break;
+            case "uk.ac.manchester.tornado.api.types.arrays.LongArray":
+                task.task(taskName, ReduceFactory::rOr, (LongArray) newArray, sizeReduceArray, (LongArray) result);
+                break;
+            default:
+                throw new TornadoRuntimeException(ERROR_MESSAGE + newArray.getClass().getTypeName());
+        }
+    }
+
+    static void handleXor(Object newArray, Object result, TaskGraph task, int sizeReduceArray, String taskName) {
+        switch (newArray.getClass().getTypeName()) {
+            case "int[]":
+                task.task(taskName, ReduceFactory::rXor, (int[]) newArray, sizeReduceArray, (int[]) result);
+                break;
+            case "long[]":
+                task.task(taskName, ReduceFactory::rXor, (long[]) newArray, sizeReduceArray, (long[]) result);
+                break;
+            case "uk.ac.manchester.tornado.api.types.arrays.IntArray":
+                task.task(taskName, ReduceFactory::rXor, (IntArray) newArray, sizeReduceArray, (IntArray) result);
+                break;
+            case "uk.ac.manchester.tornado.api.types.arrays.LongArray":
+                task.task(taskName, ReduceFactory::rXor, (LongArray) newArray, sizeReduceArray, (LongArray) result);
+                break;
+            default:
+                throw new TornadoRuntimeException(ERROR_MESSAGE + newArray.getClass().getTypeName());
+        }
+    }
 }
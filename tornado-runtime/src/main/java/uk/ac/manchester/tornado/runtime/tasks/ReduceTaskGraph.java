@@ -89,6 +89,7 @@ class ReduceTaskGraph {
     private List<Object> streamInObjects;
     private Map<Object, Object> originalReduceVariables;
     private Map<Object, Object> hostHybridVariables;
+    private Map<Object, Object> deviceCombinedVariables = new HashMap<>();
     private List<Thread> threadSequentialExecution;
     private List<HybridThreadMeta> hybridThreadMetas;
     private Map<Object, Object> neutralElementsNew = new HashMap<>();
@@ -567,6 +568,29 @@ class ReduceTaskGraph {
                 for (int i = 0; i < streamUpdateList.size(); i++) {
                     Object newArray = streamUpdateList.get(i);
                     int sizeReduceArray = sizesReductionArray.get(i);
+                    Object originalReduceArray = findOriginalReduceVariable(newArray);
+                    if (isEligibleForDeviceCombine(originalReduceArray, newArray, operations)) {
+                        final String newTaskSequentialName = SEQUENTIAL_TASK_REDUCE_NAME + counterSeqName.get();
+                        String fullName = rewrittenTaskGraph.getTaskGraphName() + "." + newTaskSequentialName;
+                        TornadoRuntimeProvider.setProperty(fullName + ".device", backendToRun + ":" + deviceToRun);
+                        inspectBinariesFPGA(taskScheduleReduceName, graphName, taskPackage.getId(), true);
+
+                        // The final value is written on the device into the reduce variable, so
+                        // only that variable is copied back to the host
+                        switch (operations.get(0)) {
+                            case SUM -> ReduceFactory.handleAdd(newArray, originalReduceArray, rewrittenTaskGraph, sizeReduceArray, newTaskSequentialName);
+                            case MUL -> ReduceFactory.handleMul(newArray, originalReduceArray, rewrittenTaskGraph, sizeReduceArray, newTaskSequentialName);
+                            case MAX -> ReduceFactory.handleMax(newArray, originalReduceArray, rewrittenTaskGraph, sizeReduceArray, newTaskSequentialName);
+                            case MIN -> ReduceFactory.handleMin(newArray, originalReduceArray, rewrittenTaskGraph, sizeReduceArray, newTaskSequentialName);
+                            case AND -> ReduceFactory.handleAnd(newArray, originalReduceArray, rewrittenTaskGraph, sizeReduceArray, newTaskSequentialName);
+                            case OR -> ReduceFactory.handleOr(newArray, originalReduceArray, rewrittenTaskGraph, sizeReduceArray, newTaskSequentialName);
+                            case XOR -> ReduceFactory.handleXor(newArray, originalReduceArray, rewrittenTaskGraph, sizeReduceArray, newTaskSequentialName);
+                            default -> throw new TornadoRuntimeException("[ERROR] Reduce operation not supported yet.");
+                        }
+                        deviceCombinedVariables.put(originalReduceArray, newArray);
+                        counterSeqName.incrementAndGet();
+                        continue;
+                    }
                     for (REDUCE_OPERATION operation : operations) {
                         final String newTaskSequentialName = SEQUENTIAL_TASK_REDUCE_NAME + counterSeqName.get();
                         String fullName = rewrittenTaskGraph.getTaskGraphName() + "." + newTaskSequentialName;
@@ -578,6 +602,9 @@ class ReduceTaskGraph {
                             case MUL -> ReduceFactory.handleMul(newArray, rewrittenTaskGraph, sizeReduceArray, newTaskSequentialName);
                             case MAX -> ReduceFactory.handleMax(newArray, rewrittenTaskGraph, sizeReduceArray, newTaskSequentialName);
                             case MIN -> ReduceFactory.handleMin(newArray, rewrittenTaskGraph, sizeReduceArray, newTaskSequentialName);
+                            case AND -> ReduceFactory.handleAnd(newArray, rewrittenTaskGraph, sizeReduceArray, newTaskSequentialName);
+                            case OR -> ReduceFactory.handleOr(newArray, rewrittenTaskGraph, sizeReduceArray, newTaskSequentialName);
+                            case XOR -> ReduceFactory.handleXor(newArray, rewrittenTaskGraph, sizeReduceArray, newTaskSequentialName);
                             default -> throw new TornadoRuntimeException("[ERROR] Reduce operation not supported yet.");
                         }
 
@@ -593,6 +620,15 @@ class ReduceTaskGraph {
             }
         }
 
+        // Reductions combined on the device copy out the reduce variables instead of
+        // the partial results
+        for (int i = 0; i < streamOutObjects.size(); i++) {
+            Object originalReduceArray = findOriginalReduceVariable(streamOutObjects.get(i));
+            if (deviceCombinedVariables.containsKey(originalReduceArray)) {
+                streamOutObjects.set(i, originalReduceArray);
+            }
+        }
+
         // Copy-OUT Rewritten Rule for Reductions sets the outputs to EVERY_EXECUTION
         // mode.
         TornadoTaskGraph.performStreamOutThreads(DataTransferMode.EVERY_EXECUTION, rewrittenTaskGraph, streamOutObjects);
@@ -604,6 +640,50 @@ class ReduceTaskGraph {
         return rewrittenTaskGraph;
     }
 
+    private Object findOriginalReduceVariable(Object newArray) {
+        for (Entry<Object, Object> pair : originalReduceVariables.entrySet()) {
+            if (pair.getValue() == newArray) {
+                return pair.getKey();
+            }
+        }
+        return null;
+    }
+
+    private int getReduceVariableLength(Object reduceVariable) {
+        return switch (reduceVariable) {
+            case int[] ints -> ints.length;
+            case float[] floats -> floats.length;
+            case double[] doubles -> doubles.length;
+            case long[] longs -> longs.length;
+            case IntArray intArray -> intArray.getSize();
+            case FloatArray floatArray -> floatArray.getSize();
+            case DoubleArray doubleArray -> doubleArray.getSize();
+            case LongArray longArray -> longArray.getSize();
+            case null, default -> throw new TornadoRuntimeException(EXCEPTION_MESSAGE_ERROR + reduceVariable.getClass());
+        };
+    }
+
+    /**
+     * Returns true if the partial results of the reduction can be combined by a
+     * second task on the same device, which writes the final value directly into
+     * the reduce variable. Reductions that are
+     * split between the host and the device, that apply several operations to the
+     * same partial results, whose reduce variable holds more than one element, or
+     * whose reduce variable is not copied back to the host keep the previous path.
+     */
+    private boolean isEligibleForDeviceCombine(Object originalReduceArray, Object newArray, List<REDUCE_OPERATION> operations) {
+        if (!TornadoOptions.REDUCE_DEVICE_COMBINE || originalReduceArray == null || originalReduceArray == newArray || operations.size() != 1) {
+            return false;
+        }
+        if (!streamOutObjects.contains(newArray)) {
+            return false;
+        }
+        if (hostHybridVariables != null && hostHybridVariables.containsKey(newArray)) {
+            return false;
+        }
+        return getReduceVariableLength(originalReduceArray) == 1;
+    }
+
     private boolean checkAllArgumentsPerTask() {
         for (TaskPackage task : taskPackages) {
             Object[] taskParameters = task.getTaskParameters();
@@ -694,6 +774,9 @@ class ReduceTaskGraph {
             case MUL -> a * b;
             case MAX -> Math.max(a, b);
             case MIN -> Math.min(a, b);
+            case AND -> a & b;
+            case OR -> a | b;
+            case XOR -> a ^ b;
             default -> throw new TornadoRuntimeException(OPERATION_NOT_SUPPORTED_MESSAGE);
         };
     }
@@ -724,6 +807,9 @@ class ReduceTaskGraph {
             case MUL -> a * b;
             case MAX -> Math.max(a, b);
             case MIN -> Math.min(a, b);
+            case AND -> a & b;
+            case OR -> a | b;
+            case XOR -> a ^ b;
             default -> throw new TornadoRuntimeException(OPERATION_NOT_SUPPORTED_MESSAGE);
         };
     }
@@ -795,12 +881,20 @@ class ReduceTaskGraph {
      * If the hybrid mode is enabled, it performs the final 1D reduction between the
      * two elements left (one from the accelerator and the other from the CPU)
      * </p>
+     * <p>
+     * Reductions combined on the device are skipped, since their final value was
+     * copied back directly into the reduce variable.
+     * </p>
      */
     private void updateOutputArrays() {
         joinHostThreads();
         for (Entry<Object, Object> pair : originalReduceVariables.entrySet()) {
             Object originalReduceVariable = pair.getKey();
             Object newArray = pair.getValue();
+            if (deviceCombinedVariables.containsKey(originalReduceVariable)) {
+                // The device already wrote the final value into the reduce variable
+                continue;
+            }
             if (hostHybridVariables != null && hostHybridVariables.containsKey(newArray)) {
                 mergeHybridMode(originalReduceVariable, newArray);
             } else {
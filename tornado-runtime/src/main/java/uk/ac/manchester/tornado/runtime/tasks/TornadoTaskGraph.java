@@ -40,6 +40,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -53,6 +54,8 @@ import org.graalvm.compiler.graph.Graph;
 import org.graalvm.compiler.phases.util.Providers;
 
 import jdk.vm.ci.meta.ResolvedJavaMethod;
+import uk.ac.manchester.tornado.api.BatchDescriptor;
+import uk.ac.manchester.tornado.api.CoExecutionPartitioner;
 import uk.ac.manchester.tornado.api.GridScheduler;
 import uk.ac.manchester.tornado.api.KernelContext;
 import uk.ac.manchester.tornado.api.TaskGraph;
@@ -88,11 +91,14 @@ import uk.ac.manchester.tornado.api.common.TornadoFunctions.Task7;
 import uk.ac.manchester.tornado.api.common.TornadoFunctions.Task8;
 import uk.ac.manchester.tornado.api.common.TornadoFunctions.Task9;
 import uk.ac.manchester.tornado.api.enums.DataTransferMode;
+import uk.ac.manchester.tornado.api.enums.MixedPrecisionFormat;
 import uk.ac.manchester.tornado.api.enums.ProfilerMode;
 import uk.ac.manchester.tornado.api.enums.TornadoVMBackendType;
+import uk.ac.manchester.tornado.api.enums.TransferCodec;
 import uk.ac.manchester.tornado.api.exceptions.TornadoBailoutRuntimeException;
 import uk.ac.manchester.tornado.api.exceptions.TornadoRuntimeException;
 import uk.ac.manchester.tornado.api.exceptions.TornadoTaskRuntimeException;
+import uk.ac.manchester.tornado.api.math.MathPolicy;
 import uk.ac.manchester.tornado.api.profiler.ProfilerType;
 import uk.ac.manchester.tornado.api.profiler.TornadoProfiler;
 import uk.ac.manchester.tornado.api.runtime.ExecutorFrame;
@@ -104,12 +110,17 @@ import uk.ac.manchester.tornado.api.types.arrays.HalfFloatArray;
 import uk.ac.manchester.tornado.api.types.arrays.IntArray;
 import uk.ac.manchester.tornado.api.types.arrays.LongArray;
 import uk.ac.manchester.tornado.api.types.arrays.ShortArray;
+import uk.ac.manchester.tornado.api.types.arrays.TornadoNativeArray;
+import uk.ac.manchester.tornado.api.types.utils.FloatingPointError;
 import uk.ac.manchester.tornado.runtime.TornadoCoreRuntime;
 import uk.ac.manchester.tornado.runtime.TornadoVM;
 import uk.ac.manchester.tornado.runtime.analyzer.MetaReduceCodeAnalysis;
 import uk.ac.manchester.tornado.runtime.analyzer.ReduceCodeAnalysis;
 import uk.ac.manchester.tornado.runtime.analyzer.TaskUtils;
+import uk.ac.manchester.tornado.runtime.common.AutoBatchConfiguration;
 import uk.ac.manchester.tornado.runtime.common.BatchConfiguration;
+import uk.ac.manchester.tornado.runtime.common.CoherenceState;
+import uk.ac.manchester.tornado.runtime.common.DeviceResidencyManager;
 import uk.ac.manchester.tornado.runtime.library.LibraryRegistry;
 import uk.ac.manchester.tornado.runtime.common.RuntimeUtilities;
 import uk.ac.manchester.tornado.runtime.common.TornadoLogger;
@@ -117,6 +128,7 @@ import uk.ac.manchester.tornado.runtime.common.TornadoOptions;
 import uk.ac.manchester.tornado.runtime.common.TornadoVMClient;
 import uk.ac.manchester.tornado.runtime.common.TornadoXPUDevice;
 import uk.ac.manchester.tornado.runtime.common.XPUDeviceBufferState;
+import uk.ac.manchester.tornado.runtime.costmodel.DeviceSelectionModel;
 import uk.ac.manchester.tornado.runtime.graal.compiler.TornadoSuitesProvider;
 import uk.ac.manchester.tornado.runtime.graph.TornadoExecutionContext;
 import uk.ac.manchester.tornado.runtime.graph.TornadoGraph;
@@ -127,6 +139,7 @@ import uk.ac.manchester.tornado.runtime.profiler.TimeProfiler;
 import uk.ac.manchester.tornado.runtime.sketcher.Sketch;
 import uk.ac.manchester.tornado.runtime.sketcher.SketchRequest;
 import uk.ac.manchester.tornado.runtime.sketcher.TornadoSketcher;
+import uk.ac.manchester.tornado.runtime.tasks.meta.AbstractRTContext;
 import uk.ac.manchester.tornado.runtime.tasks.meta.ScheduleContext;
 import uk.ac.manchester.tornado.runtime.tasks.meta.TaskDataContext;
 
@@ -136,6 +149,7 @@ import uk.ac.manchester.tornado.runtime.tasks.meta.TaskDataContext;
 public class TornadoTaskGraph implements TornadoTaskGraphInterface {
 
     public static final String GENERATED_TASK_GRAPH_PREFIX = "__GENERATED_TASK_GRAPH__";
+    private static final String COMPRESSED_TRANSFER_TASK_PREFIX = "decodeCompressedTransfer";
 
     private static final String RESET = "\u001B[0m";
     private static final String RED = "\u001B[31m";
@@ -152,6 +166,10 @@ public class TornadoTaskGraph implements TornadoTaskGraphInterface {
     private TornadoVMBytecodeBuilder bytecodeBuilder;
     private long batchSizeBytes = -1;
     private long memoryLimitSizeBytes = -1;
+    private boolean autoBatch;
+    private AutoBatchConfiguration autoBatchConfiguration;
+    private boolean batchConfigurationChanged;
+    private CoExecutionTaskGraph coExecutionTaskGraph;
     /**
      * One TornadoVM instance per TornadoExecutionPlan.
      */
@@ -185,8 +203,32 @@ public class TornadoTaskGraph implements TornadoTaskGraphInterface {
     private boolean isConcurrentDevicesEnabled;
     private long executionPlanId;
     private boolean bailout;
+    private boolean deviceSelectionDone;
+    private boolean deviceSelectedByUser;
+    private boolean runJavaPathSelected;
+    private boolean deviceProbeRunning;
+    private int executionsSinceDeviceSelection;
     private Access[] accesses;
 
+    /**
+     * Arrays stored on the device in a 16-bit format, indexed by the host
+     * {@link FloatArray}.
+     */
+    private Map<Object, MixedPrecisionArray> mixedPrecisionArrays;
+    private boolean mixedPrecisionOutputsPending;
+
+    /**
+     * Arrays compressed on the host before they are copied to the device, in
+     * declaration order.
+     */
+    private List<CompressedTransfer> compressedTransfers;
+
+    /**
+     * Error of the float arrays with respect to the JVM, computed after each
+     * execution when a math policy enables the error report.
+     */
+    private Map<Object, FloatingPointError> mathPolicyErrors;
+
     /**
      * Task Schedule implementation that uses GPU/FPGA and multicore backends. This constructor must be public. It is invoked using the reflection API.
      *
@@ -209,6 +251,9 @@ public class TornadoTaskGraph implements TornadoTaskGraphInterface {
         inputModesObjects = new ArrayList<>();
         outputModeObjects = new ArrayList<>();
         taskToPersistentObjectMap = new HashMap<>();
+        mixedPrecisionArrays = new IdentityHashMap<>();
+        compressedTransfers = new ArrayList<>();
+        mathPolicyErrors = new IdentityHashMap<>();
     }
 
     static void performStreamInObject(TaskGraph task, Object inputObject, final int dataTransferMode) {
@@ -323,6 +368,7 @@ public class TornadoTaskGraph implements TornadoTaskGraphInterface {
         newTaskGraph.executionContext = this.executionContext.clone();
 
         newTaskGraph.taskPackages = Collections.unmodifiableList(this.taskPackages);
+        newTaskGraph.compressedTransfers = Collections.unmodifiableList(this.compressedTransfers);
         newTaskGraph.argumentsLookUp = Collections.unmodifiableSet(this.argumentsLookUp);
 
         newTaskGraph.reduceTaskGraph = this.reduceTaskGraph;
@@ -352,7 +398,14 @@ public class TornadoTaskGraph implements TornadoTaskGraphInterface {
 
     @Override
     public Collection<?> getOutputs() {
-        return streamOutObjects;
+        if (mixedPrecisionArrays.isEmpty()) {
+            return streamOutObjects;
+        }
+        List<Object> outputs = new ArrayList<>();
+        for (Object object : streamOutObjects) {
+            outputs.add(getHostObject(object));
+        }
+        return outputs;
     }
 
     @Override
@@ -393,6 +446,195 @@ public class TornadoTaskGraph implements TornadoTaskGraphInterface {
         executionContext.setStagedTransfersEnabled(false);
     }
 
+    @Override
+    public void withRecordedReplay() {
+        executionContext.setRecordedReplayEnabled(true);
+    }
+
+    @Override
+    public void withoutRecordedReplay() {
+        executionContext.setRecordedReplayEnabled(false);
+    }
+
+    @Override
+    public void withMixedPrecision(MixedPrecisionFormat format, Object... arrays) {
+        if (vm != null) {
+            throw new TornadoRuntimeException("[ERROR] Mixed precision must be enabled before the first execution of the task-graph " + taskGraphName);
+        }
+        for (Object array : arrays) {
+            if (!(array instanceof FloatArray floatArray)) {
+                throw new TornadoRuntimeException("[ERROR] Mixed precision is only supported for FloatArray objects. Found: " + (array == null ? "null" : array.getClass().getName()));
+            }
+            // In execution plans with multiple task-graphs, each graph only stores its own arrays
+            if (!argumentsLookUp.contains(floatArray) || mixedPrecisionArrays.containsKey(floatArray)) {
+                continue;
+            }
+            for (SchedulableTask task : executionContext.getTasks()) {
+                if (!(task instanceof CompilableTask) && Arrays.asList(task.getArguments()).contains(floatArray)) {
+                    throw new TornadoRuntimeException("[ERROR] Mixed precision is not supported for arrays passed to pre-built or library tasks. Task: " + task.getId());
+                }
+            }
+            MixedPrecisionArray mixedPrecisionArray = new MixedPrecisionArray(format, floatArray);
+            replaceMixedPrecisionObject(floatArray, mixedPrecisionArray.getDeviceArray());
+            mixedPrecisionArrays.put(floatArray, mixedPrecisionArray);
+        }
+    }
+
+    @Override
+    public FloatingPointError getMixedPrecisionError(Object array) {
+        MixedPrecisionArray mixedPrecisionArray = mixedPrecisionArrays.get(array);
+        return (mixedPrecisionArray == null) ? null : mixedPrecisionArray.getError();
+    }
+
+    @Override
+    public void withMathPolicy(MathPolicy policy) {
+        if (vm != null) {
+            throw new TornadoRuntimeException("[ERROR] The math policy must be set before the first execution of the task-graph " + taskGraphName);
+        }
+        executionContext.meta().setMathPolicy(policy);
+    }
+
+    @Override
+    public boolean withMathPolicy(String taskName, MathPolicy policy) {
+        if (!taskName.startsWith(taskGraphName + ".")) {
+            return false;
+        }
+        SchedulableTask task = executionContext.getTask(taskName);
+        if (task == null) {
+            return false;
+        }
+        if (vm != null) {
+            throw new TornadoRuntimeException("[ERROR] The math policy must be set before the first execution of the task-graph " + taskGraphName);
+        }
+        executionContext.meta().setMathPolicy(task.getId(), policy);
+        return true;
+    }
+
+    @Override
+    public FloatingPointError getMathPolicyError(Object array) {
+        return mathPolicyErrors.get(array);
+    }
+
+    /**
+     * Copies the arguments of the tasks before the execution on the device, if a
+     * math policy enables the error report.
+     */
+    private MathPolicyReference captureMathPolicyReference() {
+        mathPolicyErrors.clear();
+        if (!executionContext.meta().isMathErrorReportEnabled() || !mixedPrecisionArrays.isEmpty()) {
+            return null;
+        }
+        return MathPolicyReference.capture(taskPackages);
+    }
+
+    /**
+     * Runs the tasks on the JVM with the copies of the arguments and compares
+     * the results with the results of the device.
+     */
+    private void computeMathPolicyErrors(MathPolicyReference reference) {
+        if (reference == null) {
+            return;
+        }
+        for (int i = 0; i < taskPackages.size(); i++) {
+            runSequentialCode(taskPackages.get(i).getTaskType(), reference.getTaskParameters(i));
+        }
+        mathPolicyErrors.putAll(reference.computeErrors());
+    }
+
+    /**
+     * Replaces a host array with the array that is stored on the device in all
+     * the structures of the task-graph: the execution context (keeping the index
+     * used by the bytecodes), the arguments of the tasks and the lists of
+     * objects to transfer.
+     */
+    private void replaceMixedPrecisionObject(Object hostObject, Object deviceObject) {
+        if (executionContext.getObjects().contains(hostObject)) {
+            executionContext.replaceVariable(hostObject, deviceObject);
+        }
+        for (SchedulableTask task : executionContext.getTasks()) {
+            Object[] arguments = task.getArguments();
+            for (int i = 0; i < arguments.length; i++) {
+                if (arguments[i] == hostObject) {
+                    arguments[i] = deviceObject;
+                }
+            }
+        }
+
+        List<Object> newStreamInObjects = new ArrayList<>();
+        streamInObjects.forEach(object -> newStreamInObjects.add(object == hostObject ? deviceObject : object));
+        streamInObjects = newStreamInObjects;
+
+        List<Object> newStreamOutObjects = new ArrayList<>();
+        streamOutObjects.forEach(object -> newStreamOutObjects.add(object == hostObject ? deviceObject : object));
+        streamOutObjects = newStreamOutObjects;
+
+        List<StreamingObject> newInputModesObjects = new ArrayList<>();
+        inputModesObjects.forEach(streamingObject -> newInputModesObjects.add(streamingObject.object == hostObject ? new StreamingObject(streamingObject.mode, deviceObject) : streamingObject));
+        inputModesObjects = newInputModesObjects;
+
+        List<StreamingObject> newOutputModeObjects = new ArrayList<>();
+        outputModeObjects.forEach(streamingObject -> newOutputModeObjects.add(streamingObject.object == hostObject ? new StreamingObject(streamingObject.mode, deviceObject) : streamingObject));
+        outputModeObjects = newOutputModeObjects;
+
+        Set<Object> newArgumentsLookUp = new HashSet<>(argumentsLookUp);
+        newArgumentsLookUp.remove(hostObject);
+        newArgumentsLookUp.add(deviceObject);
+        argumentsLookUp = newArgumentsLookUp;
+    }
+
+    private Object getHostObject(Object object) {
+        for (MixedPrecisionArray mixedPrecisionArray : mixedPrecisionArrays.values()) {
+            if (mixedPrecisionArray.getDeviceArray() == object) {
+                return mixedPrecisionArray.getHostArray();
+            }
+        }
+        return object;
+    }
+
+    private Object getDeviceObject(Object object) {
+        MixedPrecisionArray mixedPrecisionArray = mixedPrecisionArrays.get(object);
+        return (mixedPrecisionArray == null) ? object : mixedPrecisionArray.getDeviceArray();
+    }
+
+    private int getTransferMode(List<StreamingObject> streamingObjects, Object object) {
+        for (StreamingObject streamingObject : streamingObjects) {
+            if (streamingObject.object == object) {
+                return streamingObject.mode;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Narrows the host arrays stored in mixed precision before they are copied to
+     * the device.
+     */
+    private void narrowMixedPrecisionInputs() {
+        for (MixedPrecisionArray mixedPrecisionArray : mixedPrecisionArrays.values()) {
+            int mode = getTransferMode(inputModesObjects, mixedPrecisionArray.getDeviceArray());
+            if (mode == DataTransferMode.EVERY_EXECUTION || (mode != -1 && vm == null)) {
+                mixedPrecisionArray.narrow();
+            }
+        }
+    }
+
+    /**
+     * Widens the arrays stored in mixed precision once they have been copied back
+     * to the host. Arrays copied under demand are widened when they are
+     * requested.
+     */
+    private void widenMixedPrecisionOutputs() {
+        if (!mixedPrecisionOutputsPending) {
+            return;
+        }
+        mixedPrecisionOutputsPending = false;
+        for (MixedPrecisionArray mixedPrecisionArray : mixedPrecisionArrays.values()) {
+            if (getTransferMode(outputModeObjects, mixedPrecisionArray.getDeviceArray()) == DataTransferMode.EVERY_EXECUTION) {
+                mixedPrecisionArray.widen();
+            }
+        }
+    }
+
     @Override
     public void withThreadInfo() {
         meta().enableThreadInfo();
@@ -505,6 +747,11 @@ public class TornadoTaskGraph implements TornadoTaskGraphInterface {
         return checkGridSchedulerNames();
     }
 
+    @Override
+    public boolean isObjectUsed(Object object) {
+        return argumentsLookUp.contains(getDeviceObject(object));
+    }
+
     @Override
     public void setLastExecutedTaskGraph(TornadoTaskGraphInterface lastExecutedTaskGraph) {
         this.lastExecutedTaskGraph = lastExecutedTaskGraph;
@@ -539,7 +786,7 @@ public class TornadoTaskGraph implements TornadoTaskGraphInterface {
     @Override
     public void setDevice(TornadoDevice device) {
 
-        TornadoDevice oldDevice = meta().getXPUDevice();
+        TornadoXPUDevice oldDevice = meta().getXPUDevice();
 
         // prevent to set again the same device as it invalidates its state
         if (oldDevice.equals(device)) {
@@ -622,28 +869,147 @@ public class TornadoTaskGraph implements TornadoTaskGraphInterface {
             // The device is the same for both task-graphs
             TornadoXPUDevice device = graphSrc.meta().getXPUDevice();
             XPUDeviceBufferState deviceStateSrc = dataObjectStateSrc.getDeviceBufferState(device);
+            restoreEvictedObject(device, deviceStateSrc);
 
             Access objectAccessDest = Access.READ_WRITE;
             LocalObjectState localStateDest = executionContext.getLocalStateObject(objectToSync, objectAccessDest);
             if (localStateDest == null) {
                 continue;
             }
-            if (!graphSrc.meta().getXPUDevice().equals(executionContext.meta().getXPUDevice())) {
-                throw new TornadoRuntimeException("[ERROR] Object " + objectsToSync + " is not on the same device pesisted and consumed: " + graphSrc.meta()
-                        .getXPUDevice() + " " + " vs " + executionContext.meta().getXPUDevice());
+            DataObjectState dataObjectStateDest = localStateDest.getDataObjectState();
+            TornadoXPUDevice deviceDest = executionContext.meta().getXPUDevice();
+            if (device.equals(deviceDest)) {
+                XPUDeviceBufferState deviceStateDest = dataObjectStateDest.getDeviceBufferState(device);
+                deviceStateDest.setXPUBuffer(deviceStateSrc.getXPUBuffer());
+            } else {
+                // The object was persisted by a task-graph on another device
+                XPUDeviceBufferState deviceStateDest = dataObjectStateDest.getDeviceBufferState(deviceDest);
+                copyPersistedObjectFromDevice(objectToSync, device, deviceStateSrc, deviceDest, deviceStateDest);
             }
+        }
+    }
 
-            DataObjectState dataObjectStateDest = localStateDest.getDataObjectState();
-            XPUDeviceBufferState deviceStateDest = dataObjectStateDest.getDeviceBufferState(device);
+    /**
+     * Copies an object persisted on the device of another task-graph into the
+     * device of this task-graph. The copy is skipped if the source task-graph did
+     * not update the object since the last copy. Devices that support peer copies
+     * transfer the buffer directly. Otherwise, the object is read into its host
+     * copy and written to this device, without requiring a transferToHost from
+     * the source task-graph.
+     */
+    private void copyPersistedObjectFromDevice(Object object, TornadoXPUDevice srcDevice, XPUDeviceBufferState srcState, TornadoXPUDevice destDevice, XPUDeviceBufferState destState) {
+        if (!srcState.hasObjectBuffer()) {
+            throw new TornadoRuntimeException("[ERROR] Object " + object + " is not allocated on " + srcDevice + " and cannot be consumed on " + destDevice);
+        }
+        if (!destState.hasObjectBuffer()) {
+            destDevice.allocate(object, 0, destState, Access.READ_WRITE);
+            destState.setCoherenceState(CoherenceState.INVALID);
+        }
+        // Keep the copy across executions: it is released with the device memory of the task-graph
+        destState.setLockBuffer(true);
 
-            deviceStateDest.setXPUBuffer(deviceStateSrc.getXPUBuffer());
+        // Copy only if the source device updated the object since the last copy
+        if (srcState.getCoherenceState() != CoherenceState.MODIFIED && destState.getCoherenceState() != CoherenceState.INVALID) {
+            return;
+        }
+
+        long bytes = srcState.getXPUBuffer().size();
+        if (destDevice.isPeerCopySupported(srcDevice)) {
+            destDevice.copyFromPeer(executionPlanId, srcDevice, srcState, destState);
+        } else {
+            srcDevice.streamOutBlocking(executionPlanId, object, 0, srcState, null);
+            destDevice.streamIn(executionPlanId, object, 0, 0, destState, null);
+        }
+        destDevice.sync(executionPlanId);
+        destState.setContents(true);
+
+        srcState.setCoherenceState(CoherenceState.SHARED);
+        destState.setCoherenceState(CoherenceState.SHARED);
+        if (TornadoOptions.isProfilerEnabled()) {
+            timeProfiler.addValueToMetric(ProfilerType.TOTAL_COPY_DEVICE_SIZE_BYTES, TimeProfiler.NO_TASK_NAME, bytes);
+        }
+    }
+
+    /**
+     * Records that the device of this task-graph holds the latest version of the
+     * objects written by its tasks or copied in during the last execution, so
+     * task-graphs on other devices that consume them copy them again.
+     */
+    private void updateCoherenceStates() {
+        TornadoXPUDevice device = meta().getXPUDevice();
+        Set<Object> copiedIn = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (StreamingObject streamingObject : inputModesObjects) {
+            if (streamingObject.getMode() == DataTransferMode.EVERY_EXECUTION) {
+                copiedIn.add(streamingObject.getObject());
+            }
+        }
+        HashMap<Object, Access> objectAccesses = executionContext.getObjectsAccesses();
+        for (LocalObjectState localState : executionContext.getObjectStates()) {
+            Object object = localState.getObject();
+            Access access = objectAccesses.get(object);
+            boolean written = access == Access.WRITE_ONLY || access == Access.READ_WRITE;
+            DataObjectState dataObjectState = localState.getDataObjectState();
+            // Objects copied only in the first execution are updated when the device did not hold them yet
+            boolean loaded = dataObjectState.getDeviceBufferState(device).getCoherenceState() == CoherenceState.INVALID;
+            if (written || loaded || copiedIn.contains(object)) {
+                dataObjectState.setModifiedOn(device);
+            }
+        }
+    }
+
+    /**
+     * Allocates and copies in the objects of this task-graph that were evicted
+     * from the device by other execution plans.
+     */
+    private void restoreEvictedObjects() {
+        TornadoXPUDevice device = meta().getXPUDevice();
+        for (LocalObjectState localState : executionContext.getObjectStates()) {
+            restoreEvictedObject(device, localState.getDataObjectState().getDeviceBufferState(device));
+        }
+    }
+
+    private void restoreEvictedObject(TornadoXPUDevice device, XPUDeviceBufferState deviceState) {
+        long bytesPagedIn = DeviceResidencyManager.getInstance(device).restore(executionPlanId, deviceState, this::registerEviction);
+        if (bytesPagedIn > 0 && TornadoOptions.isProfilerEnabled()) {
+            timeProfiler.addValueToMetric(ProfilerType.PAGED_IN_SIZE_BYTES, TimeProfiler.NO_TASK_NAME, bytesPagedIn);
+        }
+    }
+
+    private void registerEviction(DeviceResidencyManager.Eviction eviction) {
+        if (TornadoOptions.isProfilerEnabled()) {
+            timeProfiler.addValueToMetric(ProfilerType.DEVICE_EVICTIONS, TimeProfiler.NO_TASK_NAME, 1);
+            timeProfiler.addValueToMetric(ProfilerType.PAGED_OUT_SIZE_BYTES, TimeProfiler.NO_TASK_NAME, eviction.bytesWrittenBack());
+        }
+    }
+
+    /**
+     * Registers the last use of the buffers kept on the device after the
+     * execution. Objects written by the tasks that are not copied to the host in
+     * every execution are written back if their buffers are evicted.
+     */
+    private void updateResidency() {
+        TornadoXPUDevice device = meta().getXPUDevice();
+        DeviceResidencyManager residencyManager = DeviceResidencyManager.getInstance(device);
+        Set<Object> copiedOut = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (StreamingObject streamingObject : outputModeObjects) {
+            if (streamingObject.getMode() == DataTransferMode.EVERY_EXECUTION) {
+                copiedOut.add(streamingObject.getObject());
+            }
+        }
+        HashMap<Object, Access> objectAccesses = executionContext.getObjectsAccesses();
+        for (LocalObjectState localState : executionContext.getObjectStates()) {
+            Object object = localState.getObject();
+            Access access = objectAccesses.getOrDefault(object, Access.READ_WRITE);
+            boolean written = access == Access.WRITE_ONLY || access == Access.READ_WRITE;
+            XPUDeviceBufferState deviceState = localState.getDataObjectState().getDeviceBufferState(device);
+            residencyManager.touch(executionPlanId, object, deviceState, access == Access.NONE ? Access.READ_WRITE : access, written && !copiedOut.contains(object));
         }
     }
 
     @Override
     public void setDevice(String taskName, TornadoDevice device) {
 
-        TornadoDevice oldDevice = meta().getXPUDevice();
+        TornadoXPUDevice oldDevice = meta().getXPUDevice();
 
         // Make sure that a sketch is available for the device.
         for (int i = 0; i < executionContext.getTaskCount(); i++) {
@@ -857,6 +1223,11 @@ public class TornadoTaskGraph implements TornadoTaskGraphInterface {
 
     private boolean compileComputeGraphToTornadoVMBytecode() {
         CompileInfo compileInfo = extractCompileInfo();
+        if (batchConfigurationChanged && !compileInfo.compile) {
+            // The chunks are part of the TornadoVM bytecodes
+            compileInfo = COMPILE_ONLY;
+        }
+        batchConfigurationChanged = false;
         if (compileInfo.compile) {
             timeProfiler.start(ProfilerType.TOTAL_BYTE_CODE_GENERATION);
             executionContext.scheduleTaskToDevices();
@@ -958,15 +1329,29 @@ public class TornadoTaskGraph implements TornadoTaskGraphInterface {
         TornadoXPUDevice deviceForTask = executionContext.getDeviceForTask(0);
         if (compile && deviceForTask.getDeviceContext().isPlatformFPGA()) {
             preCompileForFPGAs();
+        } else if (compile && deviceProbeRunning) {
+            // The probe is often the first execution on the device. The kernels are compiled
+            // before the timed execution, so the sample of the probe excludes the JIT compilation
+            vm.withPreCompilation();
         }
 
         try {
+            long start = System.nanoTime();
             event = vm.execute(isConcurrentDevicesEnabled, timeProfiler);
+            mixedPrecisionOutputsPending = !mixedPrecisionArrays.isEmpty();
+            long end = System.nanoTime();
             timeProfiler.stop(ProfilerType.TOTAL_TASK_GRAPH_TIME);
             updateProfiler();
+            if (TornadoOptions.DEVICE_SELECTION_MODEL && (!compile || deviceProbeRunning)) {
+                // Only steady-state executions and probes are recorded, the first execution
+                // otherwise also includes the JIT compilation
+                recordExecutionForDeviceSelection(DeviceSelectionModel.getDeviceKey(deviceForTask), end - start);
+            }
         } catch (TornadoBailoutRuntimeException e) {
             if (TornadoOptions.RECOVER_BAILOUT) {
+                long start = System.nanoTime();
                 deoptimiseToSequentialJava(e);
+                recordExecutionForDeviceSelection(DeviceSelectionModel.JAVA_DEVICE_KEY, System.nanoTime() - start);
             } else {
                 if (DEBUG) {
                     e.printStackTrace();
@@ -1018,6 +1403,7 @@ public class TornadoTaskGraph implements TornadoTaskGraphInterface {
                 }
             }
         }
+        widenMixedPrecisionOutputs();
     }
 
     @Override
@@ -1062,6 +1448,43 @@ public class TornadoTaskGraph implements TornadoTaskGraphInterface {
         }
     }
 
+    @Override
+    public void transferToDeviceCompressed(TransferCodec codec, Object... objects) {
+        for (Object array : objects) {
+            if (array == null) {
+                throw new TornadoRuntimeException("[ERROR] null object passed into transferToDeviceCompressed() in task-graph " + executionContext.getId());
+            }
+            if (argumentsLookUp.contains(array)) {
+                throw new TornadoRuntimeException("[ERROR] Compressed arrays must be declared before any other use in the task-graph " + executionContext.getId());
+            }
+            CompressedTransfer compressedTransfer = new CompressedTransfer(codec, array);
+            Object[] payloads = compressedTransfer.getPayloads();
+            transferToDevice(DataTransferMode.EVERY_EXECUTION, payloads);
+            for (Object payload : payloads) {
+                executionContext.setPartialTransferSize(payload, () -> compressedTransfer.getTransferSize(payload));
+            }
+            // The decode task runs before the tasks declared after this point
+            addTask(compressedTransfer.createDecodeTask(COMPRESSED_TRANSFER_TASK_PREFIX + compressedTransfers.size()));
+            compressedTransfers.add(compressedTransfer);
+        }
+    }
+
+    private void encodeCompressedTransfers() {
+        for (CompressedTransfer compressedTransfer : compressedTransfers) {
+            compressedTransfer.encode();
+        }
+    }
+
+    private void registerCompressedTransfersInProfiler() {
+        if (!isProfilerEnabled() || compressedTransfers.isEmpty()) {
+            return;
+        }
+        for (CompressedTransfer compressedTransfer : compressedTransfers) {
+            timeProfiler.addValueToMetric(ProfilerType.COMPRESSED_RAW_SIZE_BYTES, TimeProfiler.NO_TASK_NAME, compressedTransfer.getRawBytes());
+            timeProfiler.addValueToMetric(ProfilerType.COMPRESSED_ENCODED_SIZE_BYTES, TimeProfiler.NO_TASK_NAME, compressedTransfer.getEncodedBytes());
+        }
+    }
+
     @Override
     public void consumeFromDevice(String sourceTaskGraphName, Object... objects) {
         for (Object parameter : objects) {
@@ -1244,6 +1667,9 @@ public class TornadoTaskGraph implements TornadoTaskGraphInterface {
 
     @Override
     public void freeDeviceMemory() {
+        if (coExecutionTaskGraph != null) {
+            coExecutionTaskGraph.freeDeviceMemory();
+        }
         free();
     }
 
@@ -1284,10 +1710,11 @@ public class TornadoTaskGraph implements TornadoTaskGraphInterface {
         releaseObjectFromDeviceMemory(localState, meta().getXPUDevice());
     }
 
-    private void releaseObjectFromDeviceMemory(final LocalObjectState localState, final TornadoDevice device) {
+    private void releaseObjectFromDeviceMemory(final LocalObjectState localState, final TornadoXPUDevice device) {
         final DataObjectState dataObjectState = localState.getDataObjectState();
         final XPUDeviceBufferState deviceBufferState = dataObjectState.getDeviceBufferState(device);
         deviceBufferState.setLockBuffer(false);
+        DeviceResidencyManager.getInstance(device).remove(deviceBufferState);
         if (deviceBufferState.hasObjectBuffer()) {
             device.deallocate(deviceBufferState);
         }
@@ -1347,15 +1774,16 @@ public class TornadoTaskGraph implements TornadoTaskGraphInterface {
         Event eventParameter = null;
         if (batchSizeBytes != TornadoExecutionContext.INIT_VALUE) {
             BatchConfiguration batchConfiguration = BatchConfiguration.computeChunkSizes(executionContext, batchSizeBytes);
-            long hostOffset = 0;
-            for (int i = 0; i < batchConfiguration.getTotalChunks(); i++) {
-                hostOffset = (batchSizeBytes * i);
-                eventParameter = syncObjectInnerLazy(object, hostOffset, batchSizeBytes);
-            }
-            // Last chunk
-            if (batchConfiguration.getRemainingChunkSize() != 0) {
-                hostOffset += batchSizeBytes;
-                eventParameter = syncObjectInnerLazy(object, hostOffset, batchConfiguration.getRemainingChunkSize());
+            int objectIndex = executionContext.getObjects().indexOf(object);
+            if (batchConfiguration.isSplit(objectIndex)) {
+                // The last chunk holds the remaining elements, if any
+                for (int chunk = 0; chunk < batchConfiguration.getNumberOfChunks(); chunk++) {
+                    long hostOffset = batchConfiguration.getChunkOffset(objectIndex, chunk);
+                    eventParameter = syncObjectInnerLazy(object, hostOffset, batchConfiguration.getChunkSize(objectIndex, chunk));
+                }
+            } else {
+                // Broadcast and reduce objects stay on the device as a whole
+                eventParameter = syncObjectInner(object);
             }
         } else {
             eventParameter = syncObjectInner(object);
@@ -1384,11 +1812,19 @@ public class TornadoTaskGraph implements TornadoTaskGraphInterface {
     }
 
     @Override
-    public void syncRuntimeTransferToHost(Object... objects) {
+    public void syncRuntimeTransferToHost(Object... hostObjects) {
         if (vm == null) {
             return;
         }
 
+        Object[] objects = hostObjects;
+        if (!mixedPrecisionArrays.isEmpty()) {
+            objects = new Object[hostObjects.length];
+            for (int i = 0; i < hostObjects.length; i++) {
+                objects[i] = getDeviceObject(hostObjects[i]);
+            }
+        }
+
         List<Event> events = new ArrayList<>();
         for (Object object : objects) {
             if (DEBUG) {
@@ -1405,6 +1841,13 @@ public class TornadoTaskGraph implements TornadoTaskGraphInterface {
             }
         }
 
+        for (Object hostObject : hostObjects) {
+            MixedPrecisionArray mixedPrecisionArray = mixedPrecisionArrays.get(hostObject);
+            if (mixedPrecisionArray != null) {
+                mixedPrecisionArray.widen();
+            }
+        }
+
         if (TornadoOptions.isProfilerEnabled()) {
 
             /*
@@ -1431,12 +1874,23 @@ public class TornadoTaskGraph implements TornadoTaskGraphInterface {
     }
 
     @Override
-    public void syncRuntimeTransferToHost(Object object, long offset, long partialCopySize) {
+    public void syncRuntimeTransferToHost(Object hostObject, long hostOffset, long hostPartialCopySize) {
 
         if (vm == null) {
             return;
         }
 
+        Object object = hostObject;
+        long offset = hostOffset;
+        long partialCopySize = hostPartialCopySize;
+        MixedPrecisionArray mixedPrecisionArray = mixedPrecisionArrays.get(hostObject);
+        if (mixedPrecisionArray != null) {
+            // Offsets are in bytes of the float array, after the header
+            object = mixedPrecisionArray.getDeviceArray();
+            offset = TornadoNativeArray.ARRAY_HEADER + (hostOffset - TornadoNativeArray.ARRAY_HEADER) / 2;
+            partialCopySize = hostPartialCopySize / 2;
+        }
+
         Event event = null;
         if (DEBUG) {
             if (copyUnderDemand(object)) {
@@ -1451,6 +1905,11 @@ public class TornadoTaskGraph implements TornadoTaskGraphInterface {
             event = syncParameter(object, offset, partialCopySize);
         }
 
+        if (mixedPrecisionArray != null) {
+            int fromIndex = (int) ((hostOffset - TornadoNativeArray.ARRAY_HEADER) / Float.BYTES);
+            mixedPrecisionArray.widen(fromIndex, fromIndex + (int) (hostPartialCopySize / Float.BYTES));
+        }
+
         if (TornadoOptions.isProfilerEnabled()) {
             timeProfiler.clean();
             if (event != null) {
@@ -1606,6 +2065,9 @@ public class TornadoTaskGraph implements TornadoTaskGraphInterface {
         // and other resources (e.g., Level Zero Command Lists).
         executionContext.setExecutionPlanId(executionPlanId);
 
+        if (TornadoOptions.isDeviceMemoryEvictionEnabled()) {
+            restoreEvictedObjects();
+        }
         updatePersistedObjectState();
 
         TornadoTaskGraphInterface reduceTaskGraph = null;
@@ -1625,15 +2087,153 @@ public class TornadoTaskGraph implements TornadoTaskGraphInterface {
         lockInPendingFieldsObjects();
         analysisTaskGraph = null;
 
+        if (coExecutionTaskGraph != null) {
+            coExecutionTaskGraph.execute(executionPlanId, profilerMode, gridScheduler);
+            coExecutionTaskGraph.updateProfiler(timeProfiler);
+            timeProfiler.stop(ProfilerType.TOTAL_TASK_GRAPH_TIME);
+            cleanUp();
+            return this;
+        }
+
+        if (TornadoOptions.DEVICE_SELECTION_MODEL) {
+            selectDeviceFromModel();
+            deviceProbeRunning = runJavaPathSelected && isDeviceProbeDue();
+            if (deviceProbeRunning) {
+                // Run once on the device, so a wrong prediction does not keep the task-graph on the Java path
+                runJavaPathSelected = false;
+            }
+            if (runJavaPathSelected) {
+                long start = System.nanoTime();
+                runAllTasksJavaSequential();
+                recordExecutionForDeviceSelection(DeviceSelectionModel.JAVA_DEVICE_KEY, System.nanoTime() - start);
+                timeProfiler.stop(ProfilerType.TOTAL_TASK_GRAPH_TIME);
+                return this;
+            }
+        }
+
+        if (autoBatch) {
+            selectAutoBatchConfiguration();
+        }
+        registerBatchConfigurationInProfiler();
+        registerCompressedTransfersInProfiler();
+
+        MathPolicyReference mathPolicyReference = captureMathPolicyReference();
         try {
             scheduleInner();
+            updateCoherenceStates();
+            if (TornadoOptions.isDeviceMemoryEvictionEnabled()) {
+                updateResidency();
+            }
             cleanUp();
+            computeMathPolicyErrors(mathPolicyReference);
         } catch (TornadoRuntimeException e) {
             bailout();
         }
         return this;
     }
 
+    /**
+     * Returns the keys of the methods of all tasks within the task-graph, or null if
+     * any of the tasks is not compiled by TornadoVM (e.g., pre-built tasks).
+     */
+    private List<String> getTaskMethodKeysForDeviceSelection() {
+        List<String> methods = new ArrayList<>();
+        for (SchedulableTask task : executionContext.getTasks()) {
+            if (!(task instanceof CompilableTask compilableTask)) {
+                return null;
+            }
+            Method method = compilableTask.getMethod();
+            methods.add(DeviceSelectionModel.getMethodKey(method.getDeclaringClass().getName(), method.getName()));
+        }
+        return methods;
+    }
+
+    private boolean isDeviceSelectedByUser() {
+        if (meta().isDeviceManuallySet() || meta().isDeviceDefined()) {
+            return true;
+        }
+        for (SchedulableTask task : executionContext.getTasks()) {
+            if (task.meta() instanceof AbstractRTContext taskContext && (taskContext.isDeviceManuallySet() || taskContext.isDeviceDefined())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Uses the {@link DeviceSelectionModel} to select the device for this task-graph
+     * before its first execution, and again every
+     * {@link TornadoOptions#DEVICE_SELECTION_MODEL_PROBE_INTERVAL} executions. The
+     * selection is only applied when the user did not assign any device, either
+     * through the API or through the command line.
+     */
+    private void selectDeviceFromModel() {
+        if (deviceSelectionDone) {
+            executionsSinceDeviceSelection++;
+            if (TornadoOptions.DEVICE_SELECTION_MODEL_PROBE_INTERVAL <= 0 || executionsSinceDeviceSelection < TornadoOptions.DEVICE_SELECTION_MODEL_PROBE_INTERVAL) {
+                return;
+            }
+        } else {
+            // The model also calls setDevice, so the user selection is only checked before the first selection
+            deviceSelectedByUser = isDeviceSelectedByUser();
+        }
+        deviceSelectionDone = true;
+        executionsSinceDeviceSelection = 0;
+        runJavaPathSelected = false;
+        List<String> methods = getTaskMethodKeysForDeviceSelection();
+        if (methods == null || deviceSelectedByUser) {
+            return;
+        }
+
+        // Tasks that use the Kernel API rely on a grid-scheduler and cannot run with the sequential Java path
+        boolean includeJava = gridScheduler == null;
+        long inputBytes = getFootprintForDeviceSelection();
+        if (inputBytes < 0) {
+            return;
+        }
+        String deviceKey = DeviceSelectionModel.getInstance().selectDevice(methods, inputBytes, includeJava);
+        if (deviceKey == null) {
+            return;
+        }
+        if (deviceKey.equals(DeviceSelectionModel.JAVA_DEVICE_KEY)) {
+            runJavaPathSelected = true;
+            return;
+        }
+        TornadoDevice device = DeviceSelectionModel.getInstance().findDevice(deviceKey);
+        if (device != null) {
+            setDevice(device);
+        }
+    }
+
+    /**
+     * While the Java path is selected, the last execution before the next selection
+     * runs on the device. The Java path is only selected again if the new samples of
+     * the device still predict a longer execution time.
+     */
+    private boolean isDeviceProbeDue() {
+        return executionsSinceDeviceSelection > 0 && executionsSinceDeviceSelection == TornadoOptions.DEVICE_SELECTION_MODEL_PROBE_INTERVAL - 1;
+    }
+
+    private void recordExecutionForDeviceSelection(String deviceKey, long elapsedNanos) {
+        if (!TornadoOptions.DEVICE_SELECTION_MODEL || executionContext.getValidContextSize() > 1) {
+            return;
+        }
+        List<String> methods = getTaskMethodKeysForDeviceSelection();
+        long inputBytes = getFootprintForDeviceSelection();
+        if (methods != null && inputBytes >= 0) {
+            DeviceSelectionModel.getInstance().recordExecution(methods, inputBytes, deviceKey, elapsedNanos);
+        }
+    }
+
+    private long getFootprintForDeviceSelection() {
+        try {
+            return executionContext.getTotalFootprintInBytes();
+        } catch (TornadoRuntimeException e) {
+            // Objects whose size cannot be computed are not supported by the device-selection model
+            return -1;
+        }
+    }
+
     private void checkProfilerOn(ExecutorFrame executorFrame) {
         if (executorFrame.getProfilerMode() != null) {
             enableProfiler(executorFrame.getProfilerMode());
@@ -1646,7 +2246,16 @@ public class TornadoTaskGraph implements TornadoTaskGraphInterface {
     public TornadoTaskGraphInterface execute(ExecutorFrame executorFrame) {
         executionPlanId = executorFrame.getExecutionPlanId();
         checkProfilerOn(executorFrame);
-        return execute();
+        executionContext.setSchedulingPolicy(executorFrame.getPriority(), executorFrame.getSchedulingWeight());
+        narrowMixedPrecisionInputs();
+        encodeCompressedTransfers();
+        // Buffers of running execution plans are never evicted
+        DeviceResidencyManager.beginExecution(executionPlanId);
+        try {
+            return execute();
+        } finally {
+            DeviceResidencyManager.endExecution(executionPlanId);
+        }
 
     }
 
@@ -1664,130 +2273,106 @@ public class TornadoTaskGraph implements TornadoTaskGraphInterface {
         return gridTaskNames.stream().anyMatch(this::isTaskNamePresent);
     }
 
-    @SuppressWarnings("unchecked")
     private void runSequentialCodeInThread(TaskPackage taskPackage) {
-        int type = taskPackage.getTaskType();
+        runSequentialCode(taskPackage.getTaskType(), taskPackage.getTaskParameters());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void runSequentialCode(int type, Object[] parameters) {
         switch (type) {
             case 0 -> {
-                @SuppressWarnings("rawtypes") Task task = (Task) taskPackage.getTaskParameters()[0];
+                @SuppressWarnings("rawtypes") Task task = (Task) parameters[0];
                 task.apply();
             }
             case 1 -> {
-                @SuppressWarnings("rawtypes") Task1 task1 = (Task1) taskPackage.getTaskParameters()[0];
-                task1.apply(taskPackage.getTaskParameters()[1]);
+                @SuppressWarnings("rawtypes") Task1 task1 = (Task1) parameters[0];
+                task1.apply(parameters[1]);
             }
             case 2 -> {
-                @SuppressWarnings("rawtypes") Task2 task2 = (Task2) taskPackage.getTaskParameters()[0];
-                task2.apply(taskPackage.getTaskParameters()[1], taskPackage.getTaskParameters()[2]);
+                @SuppressWarnings("rawtypes") Task2 task2 = (Task2) parameters[0];
+                task2.apply(parameters[1], parameters[2]);
             }
             case 3 -> {
-                @SuppressWarnings("rawtypes") Task3 task3 = (Task3) taskPackage.getTaskParameters()[0];
-                task3.apply(taskPackage.getTaskParameters()[1], taskPackage.getTaskParameters()[2], taskPackage.getTaskParameters()[3]);
+                @SuppressWarnings("rawtypes") Task3 task3 = (Task3) parameters[0];
+                task3.apply(parameters[1], parameters[2], parameters[3]);
             }
             case 4 -> {
-                @SuppressWarnings("rawtypes") Task4 task4 = (Task4) taskPackage.getTaskParameters()[0];
-                task4.apply(taskPackage.getTaskParameters()[1], taskPackage.getTaskParameters()[2], taskPackage.getTaskParameters()[3], taskPackage.getTaskParameters()[4]);
+                @SuppressWarnings("rawtypes") Task4 task4 = (Task4) parameters[0];
+                task4.apply(parameters[1], parameters[2], parameters[3], parameters[4]);
             }
             case 5 -> {
-                @SuppressWarnings("rawtypes") Task5 task5 = (Task5) taskPackage.getTaskParameters()[0];
-                task5.apply(taskPackage.getTaskParameters()[1], taskPackage.getTaskParameters()[2], taskPackage.getTaskParameters()[3], taskPackage.getTaskParameters()[4], taskPackage
-                        .getTaskParameters()[5]);
+                @SuppressWarnings("rawtypes") Task5 task5 = (Task5) parameters[0];
+                task5.apply(parameters[1], parameters[2], parameters[3], parameters[4], parameters[5]);
             }
             case 6 -> {
-                @SuppressWarnings("rawtypes") Task6 task6 = (Task6) taskPackage.getTaskParameters()[0];
-                task6.apply(taskPackage.getTaskParameters()[1], taskPackage.getTaskParameters()[2], taskPackage.getTaskParameters()[3], taskPackage.getTaskParameters()[4], taskPackage
-                        .getTaskParameters()[5], taskPackage.getTaskParameters()[6]);
+                @SuppressWarnings("rawtypes") Task6 task6 = (Task6) parameters[0];
+                task6.apply(parameters[1], parameters[2], parameters[3], parameters[4], parameters[5], parameters[6]);
             }
             case 7 -> {
-                @SuppressWarnings("rawtypes") Task7 task7 = (Task7) taskPackage.getTaskParameters()[0];
-                task7.apply(taskPackage.getTaskParameters()[1], taskPackage.getTaskParameters()[2], taskPackage.getTaskParameters()[3], taskPackage.getTaskParameters()[4], taskPackage
-                        .getTaskParameters()[5], taskPackage.getTaskParameters()[6], taskPackage.getTaskParameters()[7]);
+                @SuppressWarnings("rawtypes") Task7 task7 = (Task7) parameters[0];
+                task7.apply(parameters[1], parameters[2], parameters[3], parameters[4], parameters[5], parameters[6], parameters[7]);
             }
             case 8 -> {
-                @SuppressWarnings("rawtypes") Task8 task8 = (Task8) taskPackage.getTaskParameters()[0];
-                task8.apply(taskPackage.getTaskParameters()[1], taskPackage.getTaskParameters()[2], taskPackage.getTaskParameters()[3], taskPackage.getTaskParameters()[4], taskPackage
-                        .getTaskParameters()[5], taskPackage.getTaskParameters()[6], taskPackage.getTaskParameters()[7], taskPackage.getTaskParameters()[8]);
+                @SuppressWarnings("rawtypes") Task8 task8 = (Task8) parameters[0];
+                task8.apply(parameters[1], parameters[2], parameters[3], parameters[4], parameters[5], parameters[6], parameters[7], parameters[8]);
             }
             case 9 -> {
-                @SuppressWarnings("rawtypes") Task9 task9 = (Task9) taskPackage.getTaskParameters()[0];
-                task9.apply(taskPackage.getTaskParameters()[1], taskPackage.getTaskParameters()[2], taskPackage.getTaskParameters()[3], taskPackage.getTaskParameters()[4], taskPackage
-                        .getTaskParameters()[5], taskPackage.getTaskParameters()[6], taskPackage.getTaskParameters()[7], taskPackage.getTaskParameters()[8], taskPackage.getTaskParameters()[9]);
+                @SuppressWarnings("rawtypes") Task9 task9 = (Task9) parameters[0];
+                task9.apply(parameters[1], parameters[2], parameters[3], parameters[4], parameters[5], parameters[6], parameters[7], parameters[8], parameters[9]);
             }
             case 10 -> {
-                @SuppressWarnings("rawtypes") Task10 task10 = (Task10) taskPackage.getTaskParameters()[0];
-                task10.apply(taskPackage.getTaskParameters()[1], taskPackage.getTaskParameters()[2], taskPackage.getTaskParameters()[3], taskPackage.getTaskParameters()[4], taskPackage
-                        .getTaskParameters()[5], taskPackage.getTaskParameters()[6], taskPackage.getTaskParameters()[7], taskPackage.getTaskParameters()[8], taskPackage.getTaskParameters()[9],
-                        taskPackage.getTaskParameters()[10]);
+                @SuppressWarnings("rawtypes") Task10 task10 = (Task10) parameters[0];
+                task10.apply(parameters[1], parameters[2], parameters[3], parameters[4], parameters[5], parameters[6], parameters[7], parameters[8], parameters[9], parameters[10]);
             }
             case 11 -> {
-                @SuppressWarnings("rawtypes") Task11 task11 = (Task11) taskPackage.getTaskParameters()[0];
-                task11.apply(taskPackage.getTaskParameters()[1], taskPackage.getTaskParameters()[2], taskPackage.getTaskParameters()[3], taskPackage.getTaskParameters()[4], taskPackage
-                        .getTaskParameters()[5], taskPackage.getTaskParameters()[6], taskPackage.getTaskParameters()[7], taskPackage.getTaskParameters()[8], taskPackage.getTaskParameters()[9],
-                        taskPackage.getTaskParameters()[10], taskPackage.getTaskParameters()[11]);
+                @SuppressWarnings("rawtypes") Task11 task11 = (Task11) parameters[0];
+                task11.apply(parameters[1], parameters[2], parameters[3], parameters[4], parameters[5], parameters[6], parameters[7], parameters[8], parameters[9], parameters[10],
+                        parameters[11]);
             }
             case 12 -> {
-                @SuppressWarnings("rawtypes") Task12 task12 = (Task12) taskPackage.getTaskParameters()[0];
-                task12.apply(taskPackage.getTaskParameters()[1], taskPackage.getTaskParameters()[2], taskPackage.getTaskParameters()[3], taskPackage.getTaskParameters()[4], taskPackage
-                        .getTaskParameters()[5], taskPackage.getTaskParameters()[6], taskPackage.getTaskParameters()[7], taskPackage.getTaskParameters()[8], taskPackage.getTaskParameters()[9],
-                        taskPackage.getTaskParameters()[10], taskPackage.getTaskParameters()[11], taskPackage.getTaskParameters()[12]);
+                @SuppressWarnings("rawtypes") Task12 task12 = (Task12) parameters[0];
+                task12.apply(parameters[1], parameters[2], parameters[3], parameters[4], parameters[5], parameters[6], parameters[7], parameters[8], parameters[9], parameters[10],
+                        parameters[11], parameters[12]);
             }
             case 13 -> {
-                @SuppressWarnings("rawtypes") Task13 task13 = (Task13) taskPackage.getTaskParameters()[0];
-                task13.apply(taskPackage.getTaskParameters()[1], taskPackage.getTaskParameters()[2], taskPackage.getTaskParameters()[3], taskPackage.getTaskParameters()[4], taskPackage
-                        .getTaskParameters()[5], taskPackage.getTaskParameters()[6], taskPackage.getTaskParameters()[7], taskPackage.getTaskParameters()[8], taskPackage.getTaskParameters()[9],
-                        taskPackage.getTaskParameters()[10], taskPackage.getTaskParameters()[11], taskPackage.getTaskParameters()[12], taskPackage.getTaskParameters()[13]);
+                @SuppressWarnings("rawtypes") Task13 task13 = (Task13) parameters[0];
+                task13.apply(parameters[1], parameters[2], parameters[3], parameters[4], parameters[5], parameters[6], parameters[7], parameters[8], parameters[9], parameters[10],
+                        parameters[11], parameters[12], parameters[13]);
             }
             case 14 -> {
-                @SuppressWarnings("rawtypes") Task14 task14 = (Task14) taskPackage.getTaskParameters()[0];
-                task14.apply(taskPackage.getTaskParameters()[1], taskPackage.getTaskParameters()[2], taskPackage.getTaskParameters()[3], taskPackage.getTaskParameters()[4], taskPackage
-                        .getTaskParameters()[5], taskPackage.getTaskParameters()[6], taskPackage.getTaskParameters()[7], taskPackage.getTaskParameters()[8], taskPackage.getTaskParameters()[9],
-                        taskPackage.getTaskParameters()[10], taskPackage.getTaskParameters()[11], taskPackage.getTaskParameters()[12], taskPackage.getTaskParameters()[13], taskPackage
-                                .getTaskParameters()[14]);
+                @SuppressWarnings("rawtypes") Task14 task14 = (Task14) parameters[0];
+                task14.apply(parameters[1], parameters[2], parameters[3], parameters[4], parameters[5], parameters[6], parameters[7], parameters[8], parameters[9], parameters[10],
+                        parameters[11], parameters[12], parameters[13], parameters[14]);
             }
             case 15 -> {
-                @SuppressWarnings("rawtypes") Task15 task15 = (Task15) taskPackage.getTaskParameters()[0];
-                task15.apply(taskPackage.getTaskParameters()[1], taskPackage.getTaskParameters()[2], taskPackage.getTaskParameters()[3], taskPackage.getTaskParameters()[4], taskPackage
-                        .getTaskParameters()[5], taskPackage.getTaskParameters()[6], taskPackage.getTaskParameters()[7], taskPackage.getTaskParameters()[8], taskPackage.getTaskParameters()[9],
-                        taskPackage.getTaskParameters()[10], taskPackage.getTaskParameters()[11], taskPackage.getTaskParameters()[12], taskPackage.getTaskParameters()[13], taskPackage
-                                .getTaskParameters()[14], taskPackage.getTaskParameters()[15]);
+                @SuppressWarnings("rawtypes") Task15 task15 = (Task15) parameters[0];
+                task15.apply(parameters[1], parameters[2], parameters[3], parameters[4], parameters[5], parameters[6], parameters[7], parameters[8], parameters[9], parameters[10],
+                        parameters[11], parameters[12], parameters[13], parameters[14], parameters[15]);
             }
             case 16 -> {
-                @SuppressWarnings("rawtypes") Task16 task16 = (Task16) taskPackage.getTaskParameters()[0];
-                task16.apply(taskPackage.getTaskParameters()[1], taskPackage.getTaskParameters()[2], taskPackage.getTaskParameters()[3], taskPackage.getTaskParameters()[4], taskPackage
-                        .getTaskParameters()[5], taskPackage.getTaskParameters()[6], taskPackage.getTaskParameters()[7], taskPackage.getTaskParameters()[8], taskPackage.getTaskParameters()[9],
-                        taskPackage.getTaskParameters()[10], taskPackage.getTaskParameters()[11], taskPackage.getTaskParameters()[12], taskPackage.getTaskParameters()[13], taskPackage
-                                .getTaskParameters()[14], taskPackage.getTaskParameters()[15], taskPackage.getTaskParameters()[16]);
+                @SuppressWarnings("rawtypes") Task16 task16 = (Task16) parameters[0];
+                task16.apply(parameters[1], parameters[2], parameters[3], parameters[4], parameters[5], parameters[6], parameters[7], parameters[8], parameters[9], parameters[10],
+                        parameters[11], parameters[12], parameters[13], parameters[14], parameters[15], parameters[16]);
             }
             case 17 -> {
-                @SuppressWarnings("rawtypes") Task17 task17 = (Task17) taskPackage.getTaskParameters()[0];
-                task17.apply(taskPackage.getTaskParameters()[1], taskPackage.getTaskParameters()[2], taskPackage.getTaskParameters()[3], taskPackage.getTaskParameters()[4], taskPackage
-                        .getTaskParameters()[5], taskPackage.getTaskParameters()[6], taskPackage.getTaskParameters()[7], taskPackage.getTaskParameters()[8], taskPackage.getTaskParameters()[9],
-                        taskPackage.getTaskParameters()[10], taskPackage.getTaskParameters()[11], taskPackage.getTaskParameters()[12], taskPackage.getTaskParameters()[13], taskPackage
-                                .getTaskParameters()[14], taskPackage.getTaskParameters()[15], taskPackage.getTaskParameters()[16], taskPackage.getTaskParameters()[17]);
+                @SuppressWarnings("rawtypes") Task17 task17 = (Task17) parameters[0];
+                task17.apply(parameters[1], parameters[2], parameters[3], parameters[4], parameters[5], parameters[6], parameters[7], parameters[8], parameters[9], parameters[10],
+                        parameters[11], parameters[12], parameters[13], parameters[14], parameters[15], parameters[16], parameters[17]);
             }
             case 18 -> {
-                @SuppressWarnings("rawtypes") Task18 task18 = (Task18) taskPackage.getTaskParameters()[0];
-                task18.apply(taskPackage.getTaskParameters()[1], taskPackage.getTaskParameters()[2], taskPackage.getTaskParameters()[3], taskPackage.getTaskParameters()[4], taskPackage
-                        .getTaskParameters()[5], taskPackage.getTaskParameters()[6], taskPackage.getTaskParameters()[7], taskPackage.getTaskParameters()[8], taskPackage.getTaskParameters()[9],
-                        taskPackage.getTaskParameters()[10], taskPackage.getTaskParameters()[11], taskPackage.getTaskParameters()[12], taskPackage.getTaskParameters()[13], taskPackage
-                                .getTaskParameters()[14], taskPackage.getTaskParameters()[15], taskPackage.getTaskParameters()[16], taskPackage.getTaskParameters()[17], taskPackage
-                                        .getTaskParameters()[18]);
+                @SuppressWarnings("rawtypes") Task18 task18 = (Task18) parameters[0];
+                task18.apply(parameters[1], parameters[2], parameters[3], parameters[4], parameters[5], parameters[6], parameters[7], parameters[8], parameters[9], parameters[10],
+                        parameters[11], parameters[12], parameters[13], parameters[14], parameters[15], parameters[16], parameters[17], parameters[18]);
             }
             case 19 -> {
-                @SuppressWarnings("rawtypes") Task19 task19 = (Task19) taskPackage.getTaskParameters()[0];
-                task19.apply(taskPackage.getTaskParameters()[1], taskPackage.getTaskParameters()[2], taskPackage.getTaskParameters()[3], taskPackage.getTaskParameters()[4], taskPackage
-                        .getTaskParameters()[5], taskPackage.getTaskParameters()[6], taskPackage.getTaskParameters()[7], taskPackage.getTaskParameters()[8], taskPackage.getTaskParameters()[9],
-                        taskPackage.getTaskParameters()[10], taskPackage.getTaskParameters()[11], taskPackage.getTaskParameters()[12], taskPackage.getTaskParameters()[13], taskPackage
-                                .getTaskParameters()[14], taskPackage.getTaskParameters()[15], taskPackage.getTaskParameters()[16], taskPackage.getTaskParameters()[17], taskPackage
-                                        .getTaskParameters()[18], taskPackage.getTaskParameters()[19]);
+                @SuppressWarnings("rawtypes") Task19 task19 = (Task19) parameters[0];
+                task19.apply(parameters[1], parameters[2], parameters[3], parameters[4], parameters[5], parameters[6], parameters[7], parameters[8], parameters[9], parameters[10],
+                        parameters[11], parameters[12], parameters[13], parameters[14], parameters[15], parameters[16], parameters[17], parameters[18], parameters[19]);
             }
             case 20 -> {
-                @SuppressWarnings("rawtypes") Task20 task20 = (Task20) taskPackage.getTaskParameters()[0];
-                task20.apply(taskPackage.getTaskParameters()[1], taskPackage.getTaskParameters()[2], taskPackage.getTaskParameters()[3], taskPackage.getTaskParameters()[4], taskPackage
-                        .getTaskParameters()[5], taskPackage.getTaskParameters()[6], taskPackage.getTaskParameters()[7], taskPackage.getTaskParameters()[8], taskPackage.getTaskParameters()[9],
-                        taskPackage.getTaskParameters()[10], taskPackage.getTaskParameters()[11], taskPackage.getTaskParameters()[12], taskPackage.getTaskParameters()[13], taskPackage
-                                .getTaskParameters()[14], taskPackage.getTaskParameters()[15], taskPackage.getTaskParameters()[16], taskPackage.getTaskParameters()[17], taskPackage
-                                        .getTaskParameters()[18], taskPackage.getTaskParameters()[19], taskPackage.getTaskParameters()[20]);
+                @SuppressWarnings("rawtypes") Task20 task20 = (Task20) parameters[0];
+                task20.apply(parameters[1], parameters[2], parameters[3], parameters[4], parameters[5], parameters[6], parameters[7], parameters[8], parameters[9], parameters[10],
+                        parameters[11], parameters[12], parameters[13], parameters[14], parameters[15], parameters[16], parameters[17], parameters[18], parameters[19], parameters[20]);
             }
             default -> throw new TornadoRuntimeException("Sequential Runner not supported yet. Number of parameters: " + type);
         }
@@ -1882,10 +2467,116 @@ public class TornadoTaskGraph implements TornadoTaskGraphInterface {
         addInner(new LibraryTask(meta(), id, libraryTaskDescriptor));
     }
 
+    private Map<Object, BatchDescriptor> getBatchDescriptors(BatchDescriptor... descriptors) {
+        Map<Object, BatchDescriptor> batchDescriptors = new HashMap<>();
+        for (BatchDescriptor descriptor : descriptors) {
+            Object object = getDeviceObject(descriptor.getObject());
+            if (!argumentsLookUp.contains(object)) {
+                // In execution plans with multiple task-graphs, each graph only stores its own arrays.
+                // The execution plan rejects the descriptors that no task-graph uses
+                continue;
+            }
+            batchDescriptors.put(object, descriptor);
+        }
+        return batchDescriptors;
+    }
+
     @Override
-    public void withBatch(String batchSize) {
+    public void withBatch(String batchSize, BatchDescriptor... descriptors) {
+        Map<Object, BatchDescriptor> batchDescriptors = getBatchDescriptors(descriptors);
+        this.autoBatch = false;
         this.batchSizeBytes = parseSizeToBytes(batchSize);
         executionContext.setBatchSize(this.batchSizeBytes);
+        executionContext.setBatchDescriptors(batchDescriptors);
+    }
+
+    @Override
+    public void withAutoBatch(BatchDescriptor... descriptors) {
+        executionContext.setBatchDescriptors(getBatchDescriptors(descriptors));
+        this.autoBatch = true;
+        this.autoBatchConfiguration = null;
+    }
+
+    /**
+     * Selects the batch size for the current footprint, memory limit and device.
+     * If it differs from the batch size of the last compilation, the device
+     * buffers of the previous chunks are released and the task-graph is compiled
+     * again.
+     */
+    private void selectAutoBatchConfiguration() {
+        AutoBatchConfiguration configuration = AutoBatchConfiguration.select(executionContext, meta().getXPUDevice());
+        if (configuration.getBatchSize() != batchSizeBytes) {
+            if (vm != null) {
+                freeIOObjects();
+            }
+            batchSizeBytes = configuration.getBatchSize();
+            executionContext.setBatchSize(batchSizeBytes);
+            batchConfigurationChanged = true;
+        }
+        new TornadoLogger().debug("[AUTO-BATCH] %s: %s", getTaskGraphName(), configuration);
+        autoBatchConfiguration = configuration;
+    }
+
+    private void registerBatchConfigurationInProfiler() {
+        if (!isProfilerEnabled() || batchSizeBytes == TornadoExecutionContext.INIT_VALUE) {
+            return;
+        }
+        timeProfiler.addValueToMetric(ProfilerType.BATCH_SIZE_BYTES, TimeProfiler.NO_TASK_NAME, batchSizeBytes);
+        timeProfiler.addValueToMetric(ProfilerType.BATCH_CHUNKS, TimeProfiler.NO_TASK_NAME, getNumberOfBatchChunks());
+    }
+
+    @Override
+    public long getBatchSize() {
+        return (batchSizeBytes == TornadoExecutionContext.INIT_VALUE) ? 0 : batchSizeBytes;
+    }
+
+    @Override
+    public int getNumberOfBatchChunks() {
+        if (batchSizeBytes == TornadoExecutionContext.INIT_VALUE) {
+            return 0;
+        }
+        if (autoBatchConfiguration != null) {
+            return autoBatchConfiguration.getNumberOfChunks();
+        }
+        return BatchConfiguration.computeChunkSizes(executionContext, batchSizeBytes).getNumberOfChunks();
+    }
+
+    @Override
+    public void withCoExecution(TornadoDevice[] devices, CoExecutionPartitioner partitioner, BatchDescriptor... descriptors) {
+        if (descriptors.length > 0) {
+            executionContext.setBatchDescriptors(getBatchDescriptors(descriptors));
+        }
+        withoutCoExecution();
+        coExecutionTaskGraph = new CoExecutionTaskGraph(this, taskPackages, inputModesObjects, outputModeObjects, devices, partitioner);
+    }
+
+    @Override
+    public void withoutCoExecution() {
+        if (coExecutionTaskGraph != null) {
+            coExecutionTaskGraph.freeDeviceMemory();
+            coExecutionTaskGraph = null;
+        }
+    }
+
+    /**
+     * Restricts a task-graph generated for co-execution to a partition of the
+     * iteration space. The partition is processed as a batch of the split
+     * objects, so only its region of the objects is allocated and transferred.
+     * If no batch size is set, the partition is processed in a single chunk.
+     */
+    void withPartition(long firstIteration, long numIterations, long batchSize, Map<Object, BatchDescriptor> descriptors) {
+        executionContext.setPartition(firstIteration, numIterations);
+        executionContext.setBatchDescriptors(descriptors);
+        executionContext.setBatchSize((batchSize == TornadoExecutionContext.INIT_VALUE) ? Long.MAX_VALUE : batchSize);
+        for (SchedulableTask task : executionContext.getTasks()) {
+            if (task.meta() instanceof TaskDataContext taskMeta) {
+                taskMeta.setPartitionOffset(firstIteration);
+            }
+        }
+    }
+
+    TornadoExecutionContext getExecutionContext() {
+        return executionContext;
     }
 
     @Override
@@ -1999,6 +2690,14 @@ public class TornadoTaskGraph implements TornadoTaskGraphInterface {
             case TOTAL_TASK_GRAPH_TIME -> timeProfiler.getTimer(ProfilerType.TOTAL_TASK_GRAPH_TIME);
             case TOTAL_COPY_IN_SIZE_BYTES -> timeProfiler.getSize(ProfilerType.TOTAL_COPY_IN_SIZE_BYTES);
             case TOTAL_COPY_OUT_SIZE_BYTES -> timeProfiler.getSize(ProfilerType.TOTAL_COPY_OUT_SIZE_BYTES);
+            case TOTAL_COPY_DEVICE_SIZE_BYTES -> timeProfiler.getSize(ProfilerType.TOTAL_COPY_DEVICE_SIZE_BYTES);
+            case DEVICE_EVICTIONS -> timeProfiler.getSize(ProfilerType.DEVICE_EVICTIONS);
+            case COMPRESSED_RAW_SIZE_BYTES -> timeProfiler.getSize(ProfilerType.COMPRESSED_RAW_SIZE_BYTES);
+            case COMPRESSED_ENCODED_SIZE_BYTES -> timeProfiler.getSize(ProfilerType.COMPRESSED_ENCODED_SIZE_BYTES);
+            case SCHEDULER_WAIT_TIME -> timeProfiler.getTimer(ProfilerType.SCHEDULER_WAIT_TIME);
+            case SCHEDULER_QUEUE_DEPTH -> timeProfiler.getTimer(ProfilerType.SCHEDULER_QUEUE_DEPTH);
+            case PAGED_OUT_SIZE_BYTES -> timeProfiler.getSize(ProfilerType.PAGED_OUT_SIZE_BYTES);
+            case PAGED_IN_SIZE_BYTES -> timeProfiler.getSize(ProfilerType.PAGED_IN_SIZE_BYTES);
             case ALLOCATION_BYTES -> timeProfiler.getSize(ProfilerType.ALLOCATION_BYTES);
             default -> 0L;
         };
@@ -2027,6 +2726,46 @@ public class TornadoTaskGraph implements TornadoTaskGraphInterface {
         return getProfilerValue(TOTAL_COPY_OUT_SIZE_BYTES);
     }
 
+    @Override
+    public long getTotalBytesCopyDevice() {
+        return getProfilerValue(ProfilerType.TOTAL_COPY_DEVICE_SIZE_BYTES);
+    }
+
+    @Override
+    public long getDeviceEvictions() {
+        return getProfilerValue(ProfilerType.DEVICE_EVICTIONS);
+    }
+
+    @Override
+    public long getTotalBytesCompressedRaw() {
+        return getProfilerValue(ProfilerType.COMPRESSED_RAW_SIZE_BYTES);
+    }
+
+    @Override
+    public long getTotalBytesCompressedEncoded() {
+        return getProfilerValue(ProfilerType.COMPRESSED_ENCODED_SIZE_BYTES);
+    }
+
+    @Override
+    public long getSchedulerWaitTime() {
+        return getProfilerValue(ProfilerType.SCHEDULER_WAIT_TIME);
+    }
+
+    @Override
+    public long getSchedulerQueueDepth() {
+        return getProfilerValue(ProfilerType.SCHEDULER_QUEUE_DEPTH);
+    }
+
+    @Override
+    public long getTotalBytesPagedOut() {
+        return getProfilerValue(ProfilerType.PAGED_OUT_SIZE_BYTES);
+    }
+
+    @Override
+    public long getTotalBytesPagedIn() {
+        return getProfilerValue(ProfilerType.PAGED_IN_SIZE_BYTES);
+    }
+
     boolean isProfilerEnabled() {
         return (getProfilerMode() != null || TornadoOptions.isProfilerEnabled());
     }
@@ -0,0 +1,158 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.runtime.tasks;
+
+import uk.ac.manchester.tornado.api.annotations.Parallel;
+import uk.ac.manchester.tornado.api.types.arrays.ByteArray;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.api.types.arrays.IntArray;
+
+/**
+ * Kernels that decode on the device the arrays compressed by
+ * {@link CompressedTransfer}. They are added as regular tasks to the
+ * task-graph, so they are compiled by TornadoVM for any backend. The layout of
+ * the payloads is described in {@link CompressedTransfer}.
+ */
+final class TransferCodecKernels {
+
+    static final int RUN_LENGTH_BLOCK = 256;
+    static final int BIT_PACKING_BLOCK = 128;
+    static final int ZERO_SUPPRESSION_GROUP = 32;
+
+    /**
+     * Values of the first word of every payload: the payload holds the encoded
+     * array, or a copy of the array when the encoding would be larger.
+     */
+    static final int PAYLOAD_ENCODED = 0;
+    static final int PAYLOAD_RAW = 1;
+
+    private TransferCodecKernels() {
+    }
+
+    static void decodeRunLength(IntArray payload, IntArray output) {
+        int numBlocks = (output.getSize() + RUN_LENGTH_BLOCK - 1) / RUN_LENGTH_BLOCK;
+        for (@Parallel int block = 0; block < numBlocks; block++) {
+            int index = block * RUN_LENGTH_BLOCK;
+            if (payload.get(0) == PAYLOAD_RAW) {
+                int last = Math.min(output.getSize(), index + RUN_LENGTH_BLOCK);
+                for (int i = index; i < last; i++) {
+                    output.set(i, payload.get(1 + i));
+                }
+            } else {
+                int end = payload.get(block + 2);
+                for (int run = payload.get(block + 1); run < end; run += 2) {
+                    int value = payload.get(run);
+                    int length = payload.get(run + 1);
+                    for (int j = 0; j < length; j++) {
+                        output.set(index + j, value);
+                    }
+                    index += length;
+                }
+            }
+        }
+    }
+
+    static void decodeRunLength(IntArray payload, ByteArray output) {
+        int numBlocks = (output.getSize() + RUN_LENGTH_BLOCK - 1) / RUN_LENGTH_BLOCK;
+        for (@Parallel int block = 0; block < numBlocks; block++) {
+            int index = block * RUN_LENGTH_BLOCK;
+            if (payload.get(0) == PAYLOAD_RAW) {
+                int last = Math.min(output.getSize(), index + RUN_LENGTH_BLOCK);
+                for (int i = index; i < last; i++) {
+                    output.set(i, (byte) (payload.get(1 + (i >> 2)) >>> ((i & 3) << 3)));
+                }
+            } else {
+                int end = payload.get(block + 2);
+                for (int run = payload.get(block + 1); run < end; run++) {
+                    // Each run is packed as (length << 8) | value
+                    int packedRun = payload.get(run);
+                    byte value = (byte) (packedRun & 0xFF);
+                    int length = packedRun >>> 8;
+                    for (int j = 0; j < length; j++) {
+                        output.set(index + j, value);
+                    }
+                    index += length;
+                }
+            }
+        }
+    }
+
+    static void decodeBitPacking(IntArray payload, IntArray output) {
+        for (@Parallel int i = 0; i < output.getSize(); i++) {
+            if (payload.get(0) == PAYLOAD_RAW) {
+                output.set(i, payload.get(1 + i));
+            } else {
+                int block = i / BIT_PACKING_BLOCK;
+                int base = payload.get(3 * block + 1);
+                int width = payload.get(3 * block + 2);
+                int bitPosition = (i - block * BIT_PACKING_BLOCK) * width;
+                int word = payload.get(3 * block + 3) + (bitPosition >> 5);
+                long bits = (payload.get(word) & 0xFFFFFFFFL) | ((long) payload.get(word + 1) << 32);
+                long mask = (1L << width) - 1;
+                output.set(i, base + (int) ((bits >>> (bitPosition & 31)) & mask));
+            }
+        }
+    }
+
+    static void decodeBitPacking(IntArray payload, ByteArray output) {
+        for (@Parallel int i = 0; i < output.getSize(); i++) {
+            if (payload.get(0) == PAYLOAD_RAW) {
+                output.set(i, (byte) (payload.get(1 + (i >> 2)) >>> ((i & 3) << 3)));
+            } else {
+                int block = i / BIT_PACKING_BLOCK;
+                int base = payload.get(3 * block + 1);
+                int width = payload.get(3 * block + 2);
+                int bitPosition = (i - block * BIT_PACKING_BLOCK) * width;
+                int word = payload.get(3 * block + 3) + (bitPosition >> 5);
+                long bits = (payload.get(word) & 0xFFFFFFFFL) | ((long) payload.get(word + 1) << 32);
+                long mask = (1L << width) - 1;
+                output.set(i, (byte) (base + (int) ((bits >>> (bitPosition & 31)) & mask)));
+            }
+        }
+    }
+
+    static void decodeZeroSuppression(IntArray index, FloatArray values, FloatArray output) {
+        for (@Parallel int i = 0; i < output.getSize(); i++) {
+            float value = 0.0f;
+            if (index.get(0) == PAYLOAD_RAW) {
+                value = values.get(i);
+            } else {
+                int group = i / ZERO_SUPPRESSION_GROUP;
+                int lane = i - group * ZERO_SUPPRESSION_GROUP;
+                int mask = index.get(2 * group + 1);
+                if (((mask >>> lane) & 1) != 0) {
+                    // Position of the value: number of non-zero values before the lane within the group
+                    int lowerBits = mask & ((1 << lane) - 1);
+                    int count = 0;
+                    while (lowerBits != 0) {
+                        lowerBits &= lowerBits - 1;
+                        count++;
+                    }
+                    value = values.get(index.get(2 * group + 2) + count);
+                }
+            }
+            output.set(i, value);
+        }
+    }
+}
@@ -36,6 +36,7 @@ import uk.ac.manchester.tornado.api.common.TornadoDevice;
 import uk.ac.manchester.tornado.api.common.TornadoEvents;
 import uk.ac.manchester.tornado.api.enums.TornadoVMBackendType;
 import uk.ac.manchester.tornado.api.exceptions.TornadoRuntimeException;
+import uk.ac.manchester.tornado.api.math.MathPolicy;
 import uk.ac.manchester.tornado.api.profiler.TornadoProfiler;
 import uk.ac.manchester.tornado.api.runtime.TaskContextInterface;
 import uk.ac.manchester.tornado.runtime.TornadoAcceleratorBackend;
@@ -56,6 +57,7 @@ import uk.ac.manchester.tornado.runtime.tasks.meta.MetaDataUtils.BackendSelectio
 public abstract class AbstractRTContext implements TaskContextInterface {
 
     private static final long[] SEQUENTIAL_GLOBAL_WORK_GROUP = { 1, 1, 1 };
+    private static final String OPENCL_FAST_RELAXED_MATH = "-cl-fast-relaxed-math";
 
     private final String id;
     private final boolean isDeviceDefined;
@@ -91,6 +93,7 @@ public abstract class AbstractRTContext implements TaskContextInterface {
     private ResolvedJavaMethod graph;
     private boolean useGridScheduler;
     private final ConcurrentHashMap<TornadoVMBackendType, String> compilerOptionsPerBackend;
+    private MathPolicy mathPolicy;
 
     private boolean openclUseDriverScheduling;
     private boolean metalUseDriverScheduling;
@@ -178,7 +181,7 @@ public abstract class AbstractRTContext implements TaskContextInterface {
         throw new TornadoRuntimeException("[ERROR] Device not found: " + device.getPhysicalDevice().getDeviceName());
     }
 
-    boolean isDeviceManuallySet() {
+    public boolean isDeviceManuallySet() {
         return deviceManuallySet;
     }
 
@@ -220,7 +223,12 @@ public abstract class AbstractRTContext implements TaskContextInterface {
     }
 
     public String getCompilerFlags(TornadoVMBackendType backendType) {
-        return compilerOptionsPerBackend.get(backendType);
+        String compilerFlags = compilerOptionsPerBackend.get(backendType);
+        // With a math policy, the precision of each math function is selected by the compiler
+        if (mathPolicy != null && backendType == TornadoVMBackendType.OPENCL && compilerFlags != null) {
+            compilerFlags = compilerFlags.replace(OPENCL_FAST_RELAXED_MATH, "").replaceAll(" +", " ").trim();
+        }
+        return compilerFlags;
     }
 
     @Override
@@ -228,6 +236,19 @@ public abstract class AbstractRTContext implements TaskContextInterface {
         compilerOptionsPerBackend.put(backendType, compilerFlags);
     }
 
+    /**
+     * @return the {@link MathPolicy} used to compile the task, or null if the
+     *     execution plan does not select one.
+     */
+    public MathPolicy getMathPolicy() {
+        return mathPolicy;
+    }
+
+    @Override
+    public void setMathPolicy(MathPolicy policy) {
+        this.mathPolicy = policy;
+    }
+
     public int getOpenCLGpuBlockX() {
         return openclGpuBlockX;
     }
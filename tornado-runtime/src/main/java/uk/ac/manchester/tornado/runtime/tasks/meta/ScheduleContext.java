@@ -23,16 +23,45 @@
  */
 package uk.ac.manchester.tornado.runtime.tasks.meta;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import uk.ac.manchester.tornado.api.math.MathPolicy;
+
 public class ScheduleContext extends AbstractRTContext implements Cloneable {
 
+    private Map<String, MathPolicy> taskMathPolicies;
+
     public ScheduleContext(String id) {
         super(id, null);
+        taskMathPolicies = new ConcurrentHashMap<>();
+    }
+
+    public void setMathPolicy(String taskId, MathPolicy policy) {
+        taskMathPolicies.put(taskId, policy);
+    }
+
+    /**
+     * Returns the policy selected for a task, or the policy of the task-graph
+     * if the task does not have one.
+     */
+    public MathPolicy getMathPolicy(String taskId) {
+        return taskMathPolicies.getOrDefault(taskId, getMathPolicy());
+    }
+
+    public boolean isMathErrorReportEnabled() {
+        if (getMathPolicy() != null && getMathPolicy().isErrorReportEnabled()) {
+            return true;
+        }
+        return taskMathPolicies.values().stream().anyMatch(MathPolicy::isErrorReportEnabled);
     }
 
     @Override
     public ScheduleContext clone() {
         try {
-            return (ScheduleContext) super.clone();
+            ScheduleContext context = (ScheduleContext) super.clone();
+            context.taskMathPolicies = new ConcurrentHashMap<>(taskMathPolicies);
+            return context;
         } catch (CloneNotSupportedException e) {
             throw new AssertionError();
         }
@@ -58,6 +58,7 @@ public class TaskDataContext extends AbstractRTContext {
     private long[] localWork;
     private boolean localWorkDefined;
     private boolean globalWorkDefined;
+    private long partitionOffset;
 
     public TaskDataContext(ScheduleContext scheduleMetaData, String taskID, int numParameters) {
         super(scheduleMetaData.getId() + "." + taskID, scheduleMetaData);
@@ -215,6 +216,18 @@ public class TaskDataContext extends AbstractRTContext {
         globalWorkDefined = true;
     }
 
+    /**
+     * Returns the first iteration of the partition of the iteration space that
+     * this task runs with co-execution.
+     */
+    public long getPartitionOffset() {
+        return partitionOffset;
+    }
+
+    public void setPartitionOffset(long partitionOffset) {
+        this.partitionOffset = partitionOffset;
+    }
+
     public int getLocalSize() {
         return localSize;
     }
@@ -0,0 +1,181 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.runtime.aot;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import uk.ac.manchester.tornado.api.common.Access;
+import uk.ac.manchester.tornado.api.enums.TornadoVMBackendType;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+
+/**
+ * Tests for the {@link KernelBundle}: kernels are recorded, stored, loaded back
+ * and checked against the device and the specialisation of a task.
+ */
+public class TestKernelBundle {
+
+    private static final String DEVICE = "NVIDIA GeForce RTX 3070";
+    private static final long LOCAL_MEMORY = 48 * 1024;
+    private static final Access[] ACCESSES = { Access.READ_ONLY, Access.WRITE_ONLY };
+    private static final String SPECIALISATION = KernelBundle.getSpecialisation(new Object[] { new float[1024], new float[1024] });
+
+    private Path directory;
+
+    private static void scale(float[] input, float[] output) {
+        for (int i = 0; i < input.length; i++) {
+            output[i] = 2 * input[i];
+        }
+    }
+
+    private static void scale(int[] input, int[] output) {
+        for (int i = 0; i < input.length; i++) {
+            output[i] = 2 * input[i];
+        }
+    }
+
+    private static Method getScale(Class<?> type) throws NoSuchMethodException {
+        return TestKernelBundle.class.getDeclaredMethod("scale", type, type);
+    }
+
+    private static byte[] code(String source) {
+        return source.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private KernelBundle createBundle() throws NoSuchMethodException {
+        KernelBundle bundle = new KernelBundle(directory);
+        bundle.addKernel(TornadoVMBackendType.OPENCL, KernelBundle.getMethodKey(getScale(float[].class)), "scaleFloat", DEVICE, false, LOCAL_MEMORY, ACCESSES, 1, SPECIALISATION, false, code("float"));
+        bundle.addKernel(TornadoVMBackendType.OPENCL, KernelBundle.getMethodKey(getScale(int[].class)), "scaleInt", DEVICE, true, LOCAL_MEMORY, ACCESSES, 1, SPECIALISATION, false, code("int"));
+        bundle.addKernel(TornadoVMBackendType.PTX, KernelBundle.getMethodKey(getScale(float[].class)), "scaleFloat", DEVICE, false, LOCAL_MEMORY, ACCESSES, 2, SPECIALISATION, true, code("ptx"));
+        return bundle;
+    }
+
+    @Before
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("tornado-bundle");
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Test
+    public void testOverloadedMethodsHaveDifferentKeys() throws NoSuchMethodException {
+        String floatKey = KernelBundle.getMethodKey(getScale(float[].class));
+        String intKey = KernelBundle.getMethodKey(getScale(int[].class));
+        assertNotEquals(floatKey, intKey);
+        assertEquals(TestKernelBundle.class.getName() + ".scale([F[F)V", floatKey);
+    }
+
+    @Test
+    public void testRoundTrip() throws NoSuchMethodException {
+        createBundle().store();
+        assertTrue(Files.exists(directory.resolve(KernelBundle.MANIFEST_FILE)));
+
+        KernelBundle bundle = KernelBundle.load(directory);
+        assertEquals(3, bundle.getEntries().size());
+
+        KernelBundleEntry floatKernel = bundle.getEntry(TornadoVMBackendType.OPENCL, KernelBundle.getMethodKey(getScale(float[].class)));
+        KernelBundleEntry intKernel = bundle.getEntry(TornadoVMBackendType.OPENCL, KernelBundle.getMethodKey(getScale(int[].class)));
+        assertNotNull(floatKernel);
+        assertNotNull(intKernel);
+        assertNotEquals(floatKernel.file(), intKernel.file());
+        assertEquals("scaleFloat", floatKernel.entryPoint());
+        assertEquals("scaleInt", intKernel.entryPoint());
+        assertArrayEquals(code("float"), bundle.readCode(floatKernel));
+        assertArrayEquals(code("int"), bundle.readCode(intKernel));
+
+        assertEquals(DEVICE, floatKernel.deviceName());
+        assertEquals(LOCAL_MEMORY, floatKernel.localMemorySize());
+        assertTrue(intKernel.fp64());
+        assertArrayEquals(ACCESSES, floatKernel.accesses());
+        assertEquals(1, floatKernel.dimensions());
+        assertEquals(SPECIALISATION, floatKernel.specialisation());
+
+        KernelBundleEntry ptxKernel = bundle.getEntry(TornadoVMBackendType.PTX, KernelBundle.getMethodKey(getScale(float[].class)));
+        assertNotNull(ptxKernel);
+        assertEquals(2, ptxKernel.dimensions());
+        assertTrue(ptxKernel.atomics());
+        assertArrayEquals(code("ptx"), bundle.readCode(ptxKernel));
+        assertNull(bundle.getEntry(TornadoVMBackendType.CUDA, KernelBundle.getMethodKey(getScale(float[].class))));
+    }
+
+    @Test
+    public void testCompatibleKernel() throws NoSuchMethodException {
+        KernelBundle bundle = createBundle();
+        KernelBundleEntry entry = bundle.getEntry(TornadoVMBackendType.OPENCL, KernelBundle.getMethodKey(getScale(float[].class)));
+        assertNull(KernelBundle.checkCompatibility(entry, DEVICE, false, LOCAL_MEMORY, ACCESSES, 1, SPECIALISATION));
+        assertNull(KernelBundle.checkCompatibility(entry, DEVICE, true, 2 * LOCAL_MEMORY, ACCESSES, 1, SPECIALISATION));
+    }
+
+    @Test
+    public void testIncompatibleKernel() throws NoSuchMethodException {
+        KernelBundle bundle = createBundle();
+        KernelBundleEntry floatKernel = bundle.getEntry(TornadoVMBackendType.OPENCL, KernelBundle.getMethodKey(getScale(float[].class)));
+        KernelBundleEntry intKernel = bundle.getEntry(TornadoVMBackendType.OPENCL, KernelBundle.getMethodKey(getScale(int[].class)));
+        KernelBundleEntry ptxKernel = bundle.getEntry(TornadoVMBackendType.PTX, KernelBundle.getMethodKey(getScale(float[].class)));
+
+        assertNotNull(KernelBundle.checkCompatibility(floatKernel, "Intel(R) UHD Graphics 770", false, LOCAL_MEMORY, ACCESSES, 1, SPECIALISATION));
+        assertNotNull(KernelBundle.checkCompatibility(intKernel, DEVICE, false, LOCAL_MEMORY, ACCESSES, 1, SPECIALISATION));
+        assertNotNull(KernelBundle.checkCompatibility(floatKernel, DEVICE, false, LOCAL_MEMORY / 2, ACCESSES, 1, SPECIALISATION));
+        assertNotNull(KernelBundle.checkCompatibility(floatKernel, DEVICE, false, LOCAL_MEMORY, new Access[] { Access.READ_ONLY, Access.READ_WRITE }, 1, SPECIALISATION));
+        assertNotNull(KernelBundle.checkCompatibility(floatKernel, DEVICE, false, LOCAL_MEMORY, ACCESSES, 2, SPECIALISATION));
+        assertNotNull(KernelBundle.checkCompatibility(ptxKernel, DEVICE, false, LOCAL_MEMORY, ACCESSES, 2, SPECIALISATION));
+    }
+
+    @Test
+    public void testSpecialisation() {
+        String floatArrays = KernelBundle.getSpecialisation(new Object[] { new FloatArray(256), new FloatArray(256), 0.5f });
+        assertEquals(floatArrays, KernelBundle.getSpecialisation(new Object[] { new FloatArray(256), new FloatArray(256), 0.5f }));
+        assertNotEquals(floatArrays, KernelBundle.getSpecialisation(new Object[] { new FloatArray(256), new FloatArray(512), 0.5f }));
+        assertNotEquals(floatArrays, KernelBundle.getSpecialisation(new Object[] { new FloatArray(256), new FloatArray(256), 2.0f }));
+        assertNotEquals(SPECIALISATION, KernelBundle.getSpecialisation(new Object[] { new float[1024], new float[2048] }));
+    }
+
+    @Test
+    public void testKernelSpecialisedForOtherSizes() throws NoSuchMethodException {
+        KernelBundleEntry floatKernel = createBundle().getEntry(TornadoVMBackendType.OPENCL, KernelBundle.getMethodKey(getScale(float[].class)));
+        String largerArrays = KernelBundle.getSpecialisation(new Object[] { new float[4096], new float[4096] });
+        assertNotNull(KernelBundle.checkCompatibility(floatKernel, DEVICE, false, LOCAL_MEMORY, ACCESSES, 1, largerArrays));
+    }
+}
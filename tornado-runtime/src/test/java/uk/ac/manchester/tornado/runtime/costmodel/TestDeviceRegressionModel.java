@@ -0,0 +1,93 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.runtime.costmodel;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Test;
+
+/**
+ * Tests for the {@link DeviceRegressionModel} with samples generated from known
+ * linear functions.
+ */
+public class TestDeviceRegressionModel {
+
+    private static final double DELTA = 1e-3;
+
+    private static double[] sample(double x1, double x2) {
+        return new double[] { 1.0, x1, x2 };
+    }
+
+    private static DeviceRegressionModel trainLinear() {
+        DeviceRegressionModel model = new DeviceRegressionModel(3);
+        for (int i = 0; i < 8; i++) {
+            for (int j = 0; j < 8; j++) {
+                model.update(sample(i, j), 2.0 + 0.5 * i - 0.25 * j);
+            }
+        }
+        return model;
+    }
+
+    @Test
+    public void testFitsLinearSamples() {
+        DeviceRegressionModel model = trainLinear();
+        assertEquals(64, model.getNumSamples());
+        assertEquals(2.0, model.predict(sample(0, 0)), DELTA);
+        assertEquals(4.75, model.predict(sample(7, 3)), DELTA);
+    }
+
+    @Test
+    public void testExtrapolatesOutsideTheSamples() {
+        DeviceRegressionModel model = trainLinear();
+        assertEquals(2.0 + 0.5 * 20 - 0.25 * 10, model.predict(sample(20, 10)), 1e-2);
+    }
+
+    @Test
+    public void testSingularSystem() {
+        // The second and third features are always equal, the ridge term keeps the system solvable
+        DeviceRegressionModel model = new DeviceRegressionModel(3);
+        for (int i = 0; i < 10; i++) {
+            model.update(sample(i, i), 1.0 + i);
+        }
+        assertEquals(6.0, model.predict(sample(5, 5)), 1e-2);
+    }
+
+    @Test
+    public void testSerialization() {
+        DeviceRegressionModel model = trainLinear();
+        String[] fields = model.serialize().split("\t");
+        DeviceRegressionModel restored = DeviceRegressionModel.deserialize(3, fields[0], fields[1], fields[2]);
+        assertNotNull(restored);
+        assertEquals(model.getNumSamples(), restored.getNumSamples());
+        assertEquals(model.predict(sample(3, 5)), restored.predict(sample(3, 5)), 0.0);
+    }
+
+    @Test
+    public void testDeserializationWrongDimension() {
+        String[] fields = trainLinear().serialize().split("\t");
+        assertNull(DeviceRegressionModel.deserialize(4, fields[0], fields[1], fields[2]));
+    }
+}
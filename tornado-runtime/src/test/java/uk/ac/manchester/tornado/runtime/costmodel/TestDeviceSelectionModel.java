@@ -0,0 +1,147 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.runtime.costmodel;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import uk.ac.manchester.tornado.runtime.profiler.ProfilerCodeFeatures;
+
+/**
+ * Tests for the {@link DeviceSelectionModel} with recorded samples of two
+ * devices and the sequential Java path. The model is not persisted.
+ */
+public class TestDeviceSelectionModel {
+
+    private static final String GPU = "OpenCL:gpu";
+    private static final String CPU = "OpenCL:cpu";
+    private static final List<String> SAXPY = List.of("Kernels.saxpy");
+    private static final List<String> STENCIL = List.of("Kernels.stencil");
+    private static final List<String> CANDIDATES = List.of(GPU, CPU, DeviceSelectionModel.JAVA_DEVICE_KEY);
+
+    private DeviceSelectionModel model;
+
+    private static Map<ProfilerCodeFeatures, Integer> features(int loads, int stores, int operations) {
+        Map<ProfilerCodeFeatures, Integer> features = new EnumMap<>(ProfilerCodeFeatures.class);
+        for (ProfilerCodeFeatures feature : ProfilerCodeFeatures.values()) {
+            features.put(feature, 0);
+        }
+        features.put(ProfilerCodeFeatures.GLOBAL_LOADS, loads);
+        features.put(ProfilerCodeFeatures.GLOBAL_STORES, stores);
+        features.put(ProfilerCodeFeatures.FLOAT_OPS, operations);
+        return features;
+    }
+
+    /**
+     * Records the execution times of a task-graph for input sizes from 1KB to
+     * 64MB: the GPU has a fixed launch cost of 50us and processes 4 bytes per
+     * nanosecond, the Java path processes 0.5 bytes per nanosecond.
+     */
+    private void recordSamples(List<String> methods) {
+        for (int log = 10; log <= 26; log += 2) {
+            long bytes = 1L << log;
+            for (int repetition = 0; repetition < 3; repetition++) {
+                model.recordExecution(methods, bytes, GPU, 50_000 + bytes / 4);
+                model.recordExecution(methods, bytes, DeviceSelectionModel.JAVA_DEVICE_KEY, 2 * bytes);
+            }
+        }
+    }
+
+    @Before
+    public void setUp() {
+        model = new DeviceSelectionModel("");
+        model.registerCodeFeatures(SAXPY.get(0), features(2, 1, 2));
+        model.registerCodeFeatures(STENCIL.get(0), features(5, 1, 9));
+    }
+
+    @Test
+    public void testNoPredictionWithoutSamples() {
+        assertTrue(model.predict(SAXPY, 1 << 20, GPU) < 0);
+        assertNull(model.selectDevice(SAXPY, 1 << 20, CANDIDATES));
+    }
+
+    @Test
+    public void testNoSelectionWithOneCandidate() {
+        recordSamples(SAXPY);
+        assertNull(model.selectDevice(SAXPY, 1 << 20, List.of(GPU, CPU)));
+    }
+
+    @Test
+    public void testSelectionFromHistory() {
+        recordSamples(SAXPY);
+        // Small inputs are dominated by the launch cost of the GPU
+        assertEquals(DeviceSelectionModel.JAVA_DEVICE_KEY, model.selectDevice(SAXPY, 1 << 10, CANDIDATES));
+        assertEquals(GPU, model.selectDevice(SAXPY, 1 << 24, CANDIDATES));
+    }
+
+    @Test
+    public void testSelectionWithoutJavaPath() {
+        recordSamples(SAXPY);
+        model.recordExecution(SAXPY, 1 << 10, CPU, 1_000_000);
+        assertEquals(GPU, model.selectDevice(SAXPY, 1 << 10, List.of(GPU, CPU)));
+    }
+
+    @Test
+    public void testPredictionFromHistory() {
+        recordSamples(SAXPY);
+        assertEquals(50_000 + (1 << 20) / 4, model.predict(SAXPY, 1 << 20, GPU), 1.0);
+        assertEquals(2 << 20, model.predict(SAXPY, 1 << 20, DeviceSelectionModel.JAVA_DEVICE_KEY), 1.0);
+    }
+
+    @Test
+    public void testSelectionFromRegression() {
+        recordSamples(SAXPY);
+        // The stencil has never been executed, so the prediction comes from the per-device regression
+        assertEquals(GPU, model.selectDevice(STENCIL, 1 << 26, CANDIDATES));
+        assertEquals(DeviceSelectionModel.JAVA_DEVICE_KEY, model.selectDevice(STENCIL, 1 << 10, CANDIDATES));
+    }
+
+    @Test
+    public void testSelectionFollowsNewSamples() {
+        // A first execution on the GPU that includes a slow transfer sends the task-graph to the Java path
+        model.recordExecution(SAXPY, 1 << 20, GPU, 1_000_000_000L);
+        model.recordExecution(SAXPY, 1 << 20, DeviceSelectionModel.JAVA_DEVICE_KEY, 2_000_000L);
+        assertEquals(DeviceSelectionModel.JAVA_DEVICE_KEY, model.selectDevice(SAXPY, 1 << 20, CANDIDATES));
+
+        // Probing the GPU again records faster executions, and the GPU is selected
+        for (int i = 0; i < 5; i++) {
+            model.recordExecution(SAXPY, 1 << 20, GPU, 300_000L);
+        }
+        assertEquals(GPU, model.selectDevice(SAXPY, 1 << 20, CANDIDATES));
+    }
+
+    @Test
+    public void testUnknownMethodHasNoRegressionPrediction() {
+        recordSamples(SAXPY);
+        assertTrue(model.predict(List.of("Kernels.unknown"), 1 << 20, GPU) < 0);
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.unittests.api;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import uk.ac.manchester.tornado.api.TaskGraph;
+import uk.ac.manchester.tornado.api.TornadoBackend;
+import uk.ac.manchester.tornado.api.TornadoExecutionPlan;
+import uk.ac.manchester.tornado.api.TornadoExecutionResult;
+import uk.ac.manchester.tornado.api.common.TornadoDevice;
+import uk.ac.manchester.tornado.api.enums.DataTransferMode;
+import uk.ac.manchester.tornado.api.enums.ProfilerMode;
+import uk.ac.manchester.tornado.api.exceptions.TornadoExecutionPlanException;
+import uk.ac.manchester.tornado.api.types.arrays.IntArray;
+import uk.ac.manchester.tornado.unittests.TestHello;
+import uk.ac.manchester.tornado.unittests.common.TornadoTestBase;
+import uk.ac.manchester.tornado.unittests.common.TornadoVMMultiDeviceNotSupported;
+
+/**
+ * Tests for objects persisted by a task-graph on one device and consumed by a
+ * task-graph on another device. The runtime copies the objects between the
+ * devices without a transfer to the host in the producer task-graph.
+ *
+ * <p>
+ * How to run?
+ * </p>
+ * <code>
+ * tornado-test -V uk.ac.manchester.tornado.unittests.api.TestCrossDeviceSharedBuffers
+ * </code>
+ */
+public class TestCrossDeviceSharedBuffers extends TornadoTestBase {
+
+    private static final int NUM_ELEMENTS = 1024;
+
+    private static TornadoDevice[] getTwoDevices() {
+        TornadoBackend backend = getTornadoRuntime().getBackend(0);
+        if (backend.getNumDevices() < 2) {
+            throw new TornadoVMMultiDeviceNotSupported("This test needs at least 2 devices enabled on backend 0");
+        }
+        return new TornadoDevice[] { backend.getDevice(0), backend.getDevice(1) };
+    }
+
+    @Test
+    public void testConsumeOnAnotherDevice() throws TornadoExecutionPlanException {
+        TornadoDevice[] devices = getTwoDevices();
+        IntArray a = new IntArray(NUM_ELEMENTS);
+        IntArray b = new IntArray(NUM_ELEMENTS);
+        IntArray c = new IntArray(NUM_ELEMENTS);
+        a.init(10);
+        b.init(20);
+
+        TaskGraph tg1 = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, a, b) //
+                .task("t0", TestHello::add, a, b, c) //
+                .persistOnDevice(c);
+
+        TaskGraph tg2 = new TaskGraph("s1") //
+                .consumeFromDevice(tg1.getTaskGraphName(), c) //
+                .task("t1", TestHello::add, c, c, c) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, c);
+
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(tg1.snapshot(), tg2.snapshot())) {
+            executionPlan.withProfiler(ProfilerMode.SILENT);
+            executionPlan.withGraph(0).withDevice(devices[0]).execute();
+            TornadoExecutionResult executionResult = executionPlan.withGraph(1).withDevice(devices[1]).execute();
+
+            // c is copied from the first device, and it is not copied to the host by s0
+            long bytesCopied = executionResult.getProfilerResult().getTotalBytesCopyDevice();
+            assertTrue(bytesCopied >= (long) NUM_ELEMENTS * Integer.BYTES);
+        }
+
+        for (int i = 0; i < NUM_ELEMENTS; i++) {
+            assertEquals(60, c.get(i));
+        }
+    }
+
+    @Test
+    public void testCopyOnlyWhenUpdated() throws TornadoExecutionPlanException {
+        TornadoDevice[] devices = getTwoDevices();
+        IntArray a = new IntArray(NUM_ELEMENTS);
+        IntArray b = new IntArray(NUM_ELEMENTS);
+        IntArray c = new IntArray(NUM_ELEMENTS);
+        a.init(1);
+        b.init(2);
+
+        TaskGraph tg1 = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, a, b) //
+                .task("t0", TestHello::add, a, b, c) //
+                .persistOnDevice(c);
+
+        TaskGraph tg2 = new TaskGraph("s1") //
+                .consumeFromDevice(tg1.getTaskGraphName(), c) //
+                .task("t1", TestHello::add, c, c, c) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, c);
+
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(tg1.snapshot(), tg2.snapshot())) {
+            executionPlan.withProfiler(ProfilerMode.SILENT);
+            executionPlan.withGraph(0).withDevice(devices[0]).execute();
+            executionPlan.withGraph(1).withDevice(devices[1]).execute();
+
+            // s0 did not run again: s1 keeps working on its own copy of c
+            TornadoExecutionResult executionResult = executionPlan.withGraph(1).execute();
+            assertEquals(0, executionResult.getProfilerResult().getTotalBytesCopyDevice());
+            for (int i = 0; i < NUM_ELEMENTS; i++) {
+                assertEquals(12, c.get(i));
+            }
+
+            // s0 updates c, so the next execution of s1 copies it again
+            executionPlan.withGraph(0).execute();
+            executionResult = executionPlan.withGraph(1).execute();
+            assertTrue(executionResult.getProfilerResult().getTotalBytesCopyDevice() > 0);
+            for (int i = 0; i < NUM_ELEMENTS; i++) {
+                assertEquals(6, c.get(i));
+            }
+        }
+    }
+}
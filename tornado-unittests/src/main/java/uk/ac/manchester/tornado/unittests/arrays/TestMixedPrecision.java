@@ -0,0 +1,243 @@
+/*
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.unittests.arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import uk.ac.manchester.tornado.api.ImmutableTaskGraph;
+import uk.ac.manchester.tornado.api.TaskGraph;
+import uk.ac.manchester.tornado.api.TornadoExecutionPlan;
+import uk.ac.manchester.tornado.api.TornadoExecutionResult;
+import uk.ac.manchester.tornado.api.annotations.Parallel;
+import uk.ac.manchester.tornado.api.enums.DataTransferMode;
+import uk.ac.manchester.tornado.api.enums.MixedPrecisionFormat;
+import uk.ac.manchester.tornado.api.exceptions.TornadoExecutionPlanException;
+import uk.ac.manchester.tornado.api.exceptions.TornadoRuntimeException;
+import uk.ac.manchester.tornado.api.types.BFloat16;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.api.types.arrays.IntArray;
+import uk.ac.manchester.tornado.api.types.utils.FloatingPointError;
+import uk.ac.manchester.tornado.unittests.common.TornadoTestBase;
+
+/**
+ * Tests for the mixed-precision storage of execution plans: float kernels
+ * running on arrays stored on the device in FP16 or BF16.
+ *
+ * <p>
+ * How to run?
+ * </p>
+ * <code>
+ * tornado-test -V uk.ac.manchester.tornado.unittests.arrays.TestMixedPrecision
+ * </code>
+ */
+public class TestMixedPrecision extends TornadoTestBase {
+
+    private static final int SIZE = 1024;
+
+    public static void vectorAdd(FloatArray a, FloatArray b, FloatArray c) {
+        for (@Parallel int i = 0; i < c.getSize(); i++) {
+            c.set(i, a.get(i) + b.get(i));
+        }
+    }
+
+    public static void scale(FloatArray a, float factor) {
+        for (@Parallel int i = 0; i < a.getSize(); i++) {
+            a.set(i, a.get(i) * factor);
+        }
+    }
+
+    public static void scaleInto(FloatArray a, FloatArray b) {
+        for (@Parallel int i = 0; i < b.getSize(); i++) {
+            b.set(i, a.get(i) * 2.0f);
+        }
+    }
+
+    private static float roundToHalf(float value) {
+        return Float.float16ToFloat(Float.floatToFloat16(value));
+    }
+
+    private static float roundToBFloat16(float value) {
+        return BFloat16.bf16ToFloat(BFloat16.bf16FromFloat(value));
+    }
+
+    private static FloatArray createRandomArray(Random random) {
+        FloatArray array = new FloatArray(SIZE);
+        for (int i = 0; i < SIZE; i++) {
+            array.set(i, 1.0f + random.nextFloat() * 100.0f);
+        }
+        return array;
+    }
+
+    @Test
+    public void testVectorAddFP16() throws TornadoExecutionPlanException {
+        Random random = new Random(7);
+        FloatArray a = createRandomArray(random);
+        FloatArray b = createRandomArray(random);
+        FloatArray c = new FloatArray(SIZE);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, a, b) //
+                .task("t0", TestMixedPrecision::vectorAdd, a, b, c) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, c);
+
+        ImmutableTaskGraph immutableTaskGraph = taskGraph.snapshot();
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(immutableTaskGraph)) {
+            executionPlan.withMixedPrecision(MixedPrecisionFormat.FP16, a, b, c).execute();
+        }
+
+        for (int i = 0; i < SIZE; i++) {
+            float expected = roundToHalf(roundToHalf(a.get(i)) + roundToHalf(b.get(i)));
+            assertEquals(expected, c.get(i), 0.0f);
+        }
+    }
+
+    @Test
+    public void testVectorAddBF16() throws TornadoExecutionPlanException {
+        Random random = new Random(11);
+        FloatArray a = createRandomArray(random);
+        FloatArray b = createRandomArray(random);
+        FloatArray c = new FloatArray(SIZE);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, a, b) //
+                .task("t0", TestMixedPrecision::vectorAdd, a, b, c) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, c);
+
+        ImmutableTaskGraph immutableTaskGraph = taskGraph.snapshot();
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(immutableTaskGraph)) {
+            executionPlan.withMixedPrecision(MixedPrecisionFormat.BF16, a, b, c).execute();
+        }
+
+        for (int i = 0; i < SIZE; i++) {
+            float expected = roundToBFloat16(roundToBFloat16(a.get(i)) + roundToBFloat16(b.get(i)));
+            // Half of the relative step of the 7-bit mantissa
+            assertEquals(expected, c.get(i), Math.abs(expected) / 256.0f);
+        }
+    }
+
+    @Test
+    public void testReadWriteArray() throws TornadoExecutionPlanException {
+        FloatArray a = new FloatArray(SIZE);
+        for (int i = 0; i < SIZE; i++) {
+            a.set(i, i);
+        }
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, a) //
+                .task("t0", TestMixedPrecision::scale, a, 0.5f) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, a);
+
+        ImmutableTaskGraph immutableTaskGraph = taskGraph.snapshot();
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(immutableTaskGraph)) {
+            TornadoExecutionResult executionResult = executionPlan.withMixedPrecision(MixedPrecisionFormat.FP16, a).execute();
+
+            // Integers up to 2048 are represented exactly in FP16
+            FloatingPointError error = executionResult.getMixedPrecisionError(a);
+            assertNotNull(error);
+            assertEquals(0.0f, error.getMaxUlp(), 0.0f);
+            assertEquals(0.0f, error.getErrors(), 0.0f);
+        }
+
+        for (int i = 0; i < SIZE; i++) {
+            assertEquals(i * 0.5f, a.get(i), 0.0f);
+        }
+    }
+
+    @Test
+    public void testElementAddressing() throws TornadoExecutionPlanException {
+        // An odd size, so the last 16-bit element does not share a word with another element
+        final int size = SIZE - 1;
+        FloatArray a = new FloatArray(size);
+        FloatArray b = new FloatArray(size);
+        for (int i = 0; i < size; i++) {
+            a.set(i, i);
+        }
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, a) //
+                .task("t0", TestMixedPrecision::scaleInto, a, b) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, b);
+
+        ImmutableTaskGraph immutableTaskGraph = taskGraph.snapshot();
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(immutableTaskGraph)) {
+            // Only the input is stored in FP16: each element must be read from its own slot
+            executionPlan.withMixedPrecision(MixedPrecisionFormat.FP16, a).execute();
+        }
+
+        for (int i = 0; i < size; i++) {
+            assertEquals(2.0f * i, b.get(i), 0.0f);
+        }
+    }
+
+    @Test
+    public void testMixedPrecisionError() throws TornadoExecutionPlanException {
+        Random random = new Random(13);
+        FloatArray a = createRandomArray(random);
+        FloatArray b = createRandomArray(random);
+        FloatArray c = new FloatArray(SIZE);
+        a.set(0, 1.0e6f); // overflows in FP16
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, a, b) //
+                .task("t0", TestMixedPrecision::vectorAdd, a, b, c) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, c);
+
+        ImmutableTaskGraph immutableTaskGraph = taskGraph.snapshot();
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(immutableTaskGraph)) {
+            TornadoExecutionResult executionResult = executionPlan.withMixedPrecision(MixedPrecisionFormat.FP16, a, c).execute();
+
+            FloatingPointError error = executionResult.getMixedPrecisionError(a);
+            assertNotNull(error);
+            assertEquals(1.0f, error.getErrors(), 0.0f);
+            assertTrue(error.getMaxUlp() > 0.0f);
+            assertTrue(error.getAverageUlp() <= error.getMaxUlp());
+
+            // b is stored in float
+            assertNull(executionResult.getMixedPrecisionError(b));
+        }
+
+        assertTrue(Float.isInfinite(c.get(0)));
+        for (int i = 1; i < SIZE; i++) {
+            float expected = roundToHalf(roundToHalf(a.get(i)) + b.get(i));
+            assertEquals(expected, c.get(i), 0.0f);
+        }
+    }
+
+    @Test(expected = TornadoRuntimeException.class)
+    public void testUnsupportedArrayType() throws TornadoExecutionPlanException {
+        IntArray a = new IntArray(SIZE);
+        FloatArray b = new FloatArray(SIZE);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, b) //
+                .task("t0", TestMixedPrecision::scale, b, 2.0f) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, b);
+
+        ImmutableTaskGraph immutableTaskGraph = taskGraph.snapshot();
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(immutableTaskGraph)) {
+            executionPlan.withMixedPrecision(MixedPrecisionFormat.FP16, a);
+        }
+    }
+}
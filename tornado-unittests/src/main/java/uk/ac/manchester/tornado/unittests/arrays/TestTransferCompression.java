@@ -0,0 +1,222 @@
+/*
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.unittests.arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import uk.ac.manchester.tornado.api.TaskGraph;
+import uk.ac.manchester.tornado.api.TornadoExecutionPlan;
+import uk.ac.manchester.tornado.api.TornadoExecutionResult;
+import uk.ac.manchester.tornado.api.TornadoProfilerResult;
+import uk.ac.manchester.tornado.api.annotations.Parallel;
+import uk.ac.manchester.tornado.api.enums.DataTransferMode;
+import uk.ac.manchester.tornado.api.enums.ProfilerMode;
+import uk.ac.manchester.tornado.api.enums.TransferCodec;
+import uk.ac.manchester.tornado.api.exceptions.TornadoExecutionPlanException;
+import uk.ac.manchester.tornado.api.exceptions.TornadoRuntimeException;
+import uk.ac.manchester.tornado.api.types.arrays.ByteArray;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.api.types.arrays.IntArray;
+import uk.ac.manchester.tornado.unittests.common.TornadoTestBase;
+
+/**
+ * Tests for arrays compressed on the host and decoded on the device with
+ * {@link TaskGraph#transferToDeviceCompressed(TransferCodec, Object...)}.
+ *
+ * <p>
+ * How to run?
+ * </p>
+ * <code>
+ * tornado-test -V uk.ac.manchester.tornado.unittests.arrays.TestTransferCompression
+ * </code>
+ */
+public class TestTransferCompression extends TornadoTestBase {
+
+    private static final int NUM_ELEMENTS = 100_000;
+
+    public static void addOne(IntArray input, IntArray output) {
+        for (@Parallel int i = 0; i < input.getSize(); i++) {
+            output.set(i, input.get(i) + 1);
+        }
+    }
+
+    public static void maskedCopy(ByteArray mask, IntArray input, IntArray output) {
+        for (@Parallel int i = 0; i < input.getSize(); i++) {
+            output.set(i, mask.get(i) != 0 ? input.get(i) : -1);
+        }
+    }
+
+    public static void scale(FloatArray input, FloatArray output) {
+        for (@Parallel int i = 0; i < input.getSize(); i++) {
+            output.set(i, input.get(i) * 2.0f);
+        }
+    }
+
+    private static void runAddOne(TransferCodec codec, IntArray input) throws TornadoExecutionPlanException {
+        IntArray output = new IntArray(input.getSize());
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDeviceCompressed(codec, input) //
+                .task("t0", TestTransferCompression::addOne, input, output) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, output);
+
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(taskGraph.snapshot())) {
+            executionPlan.execute();
+            for (int i = 0; i < input.getSize(); i++) {
+                assertEquals(input.get(i) + 1, output.get(i));
+            }
+
+            // The array is encoded again in every execution
+            input.set(0, input.get(0) + 10);
+            executionPlan.execute();
+            for (int i = 0; i < input.getSize(); i++) {
+                assertEquals(input.get(i) + 1, output.get(i));
+            }
+        }
+    }
+
+    @Test
+    public void testRunLengthIntArray() throws TornadoExecutionPlanException {
+        IntArray input = new IntArray(NUM_ELEMENTS);
+        for (int i = 0; i < NUM_ELEMENTS; i++) {
+            input.set(i, i / 100);
+        }
+        runAddOne(TransferCodec.RUN_LENGTH, input);
+    }
+
+    @Test
+    public void testRunLengthWithoutRuns() throws TornadoExecutionPlanException {
+        IntArray input = new IntArray(NUM_ELEMENTS);
+        for (int i = 0; i < NUM_ELEMENTS; i++) {
+            input.set(i, i);
+        }
+        runAddOne(TransferCodec.RUN_LENGTH, input);
+    }
+
+    @Test
+    public void testBitPackingIntArray() throws TornadoExecutionPlanException {
+        IntArray input = new IntArray(NUM_ELEMENTS);
+        for (int i = 0; i < NUM_ELEMENTS; i++) {
+            input.set(i, 1_000_000 + (i * 7) % 13);
+        }
+        runAddOne(TransferCodec.BIT_PACKING, input);
+    }
+
+    @Test
+    public void testBitPackingNegativeValues() throws TornadoExecutionPlanException {
+        IntArray input = new IntArray(NUM_ELEMENTS);
+        for (int i = 0; i < NUM_ELEMENTS; i++) {
+            input.set(i, (i % 2 == 0) ? Integer.MIN_VALUE + i : Integer.MAX_VALUE - i);
+        }
+        runAddOne(TransferCodec.BIT_PACKING, input);
+    }
+
+    @Test
+    public void testCompressedByteMask() throws TornadoExecutionPlanException {
+        for (TransferCodec codec : new TransferCodec[] { TransferCodec.RUN_LENGTH, TransferCodec.BIT_PACKING }) {
+            ByteArray mask = new ByteArray(NUM_ELEMENTS);
+            IntArray input = new IntArray(NUM_ELEMENTS);
+            IntArray output = new IntArray(NUM_ELEMENTS);
+            for (int i = 0; i < NUM_ELEMENTS; i++) {
+                mask.set(i, (byte) ((i / 1000) % 2));
+                input.set(i, i);
+            }
+
+            TaskGraph taskGraph = new TaskGraph("s0") //
+                    .transferToDeviceCompressed(codec, mask) //
+                    .transferToDevice(DataTransferMode.EVERY_EXECUTION, input) //
+                    .task("t0", TestTransferCompression::maskedCopy, mask, input, output) //
+                    .transferToHost(DataTransferMode.EVERY_EXECUTION, output);
+
+            try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(taskGraph.snapshot())) {
+                executionPlan.execute();
+            }
+
+            for (int i = 0; i < NUM_ELEMENTS; i++) {
+                assertEquals(mask.get(i) != 0 ? i : -1, output.get(i));
+            }
+        }
+    }
+
+    @Test
+    public void testZeroSuppression() throws TornadoExecutionPlanException {
+        FloatArray input = new FloatArray(NUM_ELEMENTS);
+        FloatArray output = new FloatArray(NUM_ELEMENTS);
+        for (int i = 0; i < NUM_ELEMENTS; i++) {
+            input.set(i, (i % 10 == 0) ? i * 0.5f : 0.0f);
+        }
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDeviceCompressed(TransferCodec.ZERO_SUPPRESSION, input) //
+                .task("t0", TestTransferCompression::scale, input, output) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, output);
+
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(taskGraph.snapshot())) {
+            TornadoExecutionResult executionResult = executionPlan.withProfiler(ProfilerMode.SILENT).execute();
+            TornadoProfilerResult profilerResult = executionResult.getProfilerResult();
+
+            assertEquals((long) NUM_ELEMENTS * Float.BYTES, profilerResult.getTotalBytesCompressedRaw());
+            // One value out of ten is copied, plus the index
+            assertTrue(profilerResult.getTotalBytesCompressedEncoded() < (long) NUM_ELEMENTS * Float.BYTES / 5);
+            assertTrue(profilerResult.getTotalBytesCopyIn() < (long) NUM_ELEMENTS * Float.BYTES / 2);
+            assertTrue(profilerResult.getEffectiveCopyInBandwidth() >= 0);
+        }
+
+        for (int i = 0; i < NUM_ELEMENTS; i++) {
+            assertEquals(input.get(i) * 2.0f, output.get(i), 0.001f);
+        }
+    }
+
+    @Test
+    public void testIncompressibleArray() throws TornadoExecutionPlanException {
+        IntArray input = new IntArray(NUM_ELEMENTS);
+        IntArray output = new IntArray(NUM_ELEMENTS);
+        Random random = new Random(7);
+        for (int i = 0; i < NUM_ELEMENTS; i++) {
+            input.set(i, random.nextInt());
+        }
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDeviceCompressed(TransferCodec.RUN_LENGTH, input) //
+                .task("t0", TestTransferCompression::addOne, input, output) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, output);
+
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(taskGraph.snapshot())) {
+            TornadoExecutionResult executionResult = executionPlan.withProfiler(ProfilerMode.SILENT).execute();
+            TornadoProfilerResult profilerResult = executionResult.getProfilerResult();
+
+            // Random values have no runs, so the array is copied as it is, after the header word
+            assertEquals((long) NUM_ELEMENTS * Integer.BYTES + Integer.BYTES, profilerResult.getTotalBytesCompressedEncoded());
+        }
+
+        for (int i = 0; i < NUM_ELEMENTS; i++) {
+            assertEquals(input.get(i) + 1, output.get(i));
+        }
+    }
+
+    @Test(expected = TornadoRuntimeException.class)
+    public void testUnsupportedType() {
+        FloatArray input = new FloatArray(NUM_ELEMENTS);
+        new TaskGraph("s0").transferToDeviceCompressed(TransferCodec.RUN_LENGTH, input);
+    }
+}
@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.unittests.batches;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import uk.ac.manchester.tornado.api.BatchDescriptor;
+import uk.ac.manchester.tornado.api.ImmutableTaskGraph;
+import uk.ac.manchester.tornado.api.TaskGraph;
+import uk.ac.manchester.tornado.api.TornadoExecutionPlan;
+import uk.ac.manchester.tornado.api.TornadoExecutionResult;
+import uk.ac.manchester.tornado.api.annotations.Parallel;
+import uk.ac.manchester.tornado.api.enums.DataTransferMode;
+import uk.ac.manchester.tornado.api.exceptions.TornadoExecutionPlanException;
+import uk.ac.manchester.tornado.api.exceptions.TornadoMemoryException;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.api.types.arrays.IntArray;
+import uk.ac.manchester.tornado.unittests.common.TornadoTestBase;
+
+/**
+ * Tests for batch processing with a batch size selected by the runtime.
+ *
+ * <p>
+ * How to run?
+ * </p>
+ * <code>
+ * tornado-test -V uk.ac.manchester.tornado.unittests.batches.TestAutoBatch
+ * </code>
+ */
+public class TestAutoBatch extends TornadoTestBase {
+
+    @Override
+    public void before() {
+        super.before();
+        System.setProperty("tornado.reuse.device.buffers", "False");
+    }
+
+    public static void add(IntArray a, IntArray b, IntArray c) {
+        for (@Parallel int i = 0; i < c.getSize(); i++) {
+            c.set(i, a.get(i) + b.get(i));
+        }
+    }
+
+    public static void matrixVector(FloatArray matrix, FloatArray vector, FloatArray result, int numColumns) {
+        for (@Parallel int i = 0; i < result.getSize(); i++) {
+            float sum = 0.0f;
+            for (int j = 0; j < numColumns; j++) {
+                sum += matrix.get(i * numColumns + j) * vector.get(j);
+            }
+            result.set(i, sum);
+        }
+    }
+
+    @Test
+    public void testAutoBatchUnderMemoryLimit() throws TornadoExecutionPlanException {
+        // 64MB per array: the task-graph needs 192MB
+        final int size = 16 * 1024 * 1024;
+        IntArray a = new IntArray(size);
+        IntArray b = new IntArray(size);
+        IntArray c = new IntArray(size);
+        for (int i = 0; i < size; i++) {
+            a.set(i, i);
+            b.set(i, i % 100);
+        }
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, a, b) //
+                .task("t0", TestAutoBatch::add, a, b, c) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, c);
+
+        ImmutableTaskGraph immutableTaskGraph = taskGraph.snapshot();
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(immutableTaskGraph)) {
+            TornadoExecutionResult executionResult = executionPlan.withMemoryLimit("64MB") //
+                    .withAutoBatch() //
+                    .execute();
+
+            // One chunk of the three arrays must fit in the limit
+            long batchSize = executionResult.getProfilerResult().getBatchSize();
+            assertTrue(batchSize > 0);
+            assertTrue(batchSize * 3 <= 64 * 1024 * 1024);
+            assertTrue(executionResult.getProfilerResult().getNumberOfBatchChunks() > 1);
+        }
+
+        for (int i = 0; i < size; i++) {
+            assertEquals(a.get(i) + b.get(i), c.get(i));
+        }
+    }
+
+    @Test
+    public void testAutoBatchFitsInMemory() throws TornadoExecutionPlanException {
+        final int size = 4096;
+        IntArray a = new IntArray(size);
+        IntArray b = new IntArray(size);
+        IntArray c = new IntArray(size);
+        a.init(1);
+        b.init(2);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, a, b) //
+                .task("t0", TestAutoBatch::add, a, b, c) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, c);
+
+        ImmutableTaskGraph immutableTaskGraph = taskGraph.snapshot();
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(immutableTaskGraph)) {
+            TornadoExecutionResult executionResult = executionPlan.withAutoBatch().execute();
+
+            // The task-graph runs without batches
+            assertEquals(0, executionResult.getProfilerResult().getBatchSize());
+            assertEquals(0, executionResult.getProfilerResult().getNumberOfBatchChunks());
+        }
+
+        for (int i = 0; i < size; i++) {
+            assertEquals(3, c.get(i));
+        }
+    }
+
+    @Test
+    public void testAutoBatchWithBroadcast() throws TornadoExecutionPlanException {
+        // 16MB matrix and 2KB vector
+        final int numRows = 8192;
+        final int numColumns = 512;
+        FloatArray matrix = new FloatArray(numRows * numColumns);
+        FloatArray vector = new FloatArray(numColumns);
+        FloatArray result = new FloatArray(numRows);
+        for (int i = 0; i < numRows; i++) {
+            for (int j = 0; j < numColumns; j++) {
+                matrix.set(i * numColumns + j, (i + j) % 7);
+            }
+        }
+        for (int j = 0; j < numColumns; j++) {
+            vector.set(j, j % 3);
+        }
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, matrix, vector) //
+                .task("t0", TestAutoBatch::matrixVector, matrix, vector, result, numColumns) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, result);
+
+        ImmutableTaskGraph immutableTaskGraph = taskGraph.snapshot();
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(immutableTaskGraph)) {
+            TornadoExecutionResult executionResult = executionPlan.withMemoryLimit("8MB") //
+                    .withAutoBatch(BatchDescriptor.split(matrix, numColumns), BatchDescriptor.broadcast(vector)) //
+                    .execute();
+            assertTrue(executionResult.getProfilerResult().getNumberOfBatchChunks() > 1);
+        }
+
+        for (int i = 0; i < numRows; i++) {
+            float expected = 0.0f;
+            for (int j = 0; j < numColumns; j++) {
+                expected += matrix.get(i * numColumns + j) * vector.get(j);
+            }
+            assertEquals(expected, result.get(i), 0.01f);
+        }
+    }
+
+    @Test(expected = TornadoMemoryException.class)
+    public void testAutoBatchBroadcastOverMemoryLimit() throws TornadoExecutionPlanException {
+        // The broadcast vector alone (16MB) does not fit in the limit
+        final int numRows = 4;
+        final int numColumns = 4 * 1024 * 1024;
+        FloatArray matrix = new FloatArray(numRows * numColumns);
+        FloatArray vector = new FloatArray(numColumns);
+        FloatArray result = new FloatArray(numRows);
+        matrix.init(1.0f);
+        vector.init(2.0f);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, matrix, vector) //
+                .task("t0", TestAutoBatch::matrixVector, matrix, vector, result, numColumns) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, result);
+
+        ImmutableTaskGraph immutableTaskGraph = taskGraph.snapshot();
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(immutableTaskGraph)) {
+            executionPlan.withMemoryLimit("8MB") //
+                    .withAutoBatch(BatchDescriptor.split(matrix, numColumns), BatchDescriptor.broadcast(vector)) //
+                    .execute();
+        }
+    }
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.unittests.batches;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import uk.ac.manchester.tornado.api.BatchDescriptor;
+import uk.ac.manchester.tornado.api.ImmutableTaskGraph;
+import uk.ac.manchester.tornado.api.TaskGraph;
+import uk.ac.manchester.tornado.api.TornadoExecutionPlan;
+import uk.ac.manchester.tornado.api.annotations.Parallel;
+import uk.ac.manchester.tornado.api.enums.DataTransferMode;
+import uk.ac.manchester.tornado.api.exceptions.TornadoBailoutRuntimeException;
+import uk.ac.manchester.tornado.api.exceptions.TornadoExecutionPlanException;
+import uk.ac.manchester.tornado.api.exceptions.TornadoRuntimeException;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.api.types.arrays.IntArray;
+import uk.ac.manchester.tornado.api.types.arrays.LongArray;
+import uk.ac.manchester.tornado.unittests.common.TornadoTestBase;
+
+/**
+ * Tests for batch processing with a {@link BatchDescriptor} per argument.
+ *
+ * <p>
+ * How to run?
+ * </p>
+ * <code>
+ * tornado-test -V uk.ac.manchester.tornado.unittests.batches.TestBatchDescriptors
+ * </code>
+ */
+public class TestBatchDescriptors extends TornadoTestBase {
+
+    @Override
+    public void before() {
+        super.before();
+        System.setProperty("tornado.reuse.device.buffers", "False");
+    }
+
+    public static void matrixVector(FloatArray matrix, FloatArray vector, FloatArray result, int numColumns) {
+        for (@Parallel int i = 0; i < result.getSize(); i++) {
+            float sum = 0.0f;
+            for (int j = 0; j < numColumns; j++) {
+                sum += matrix.get(i * numColumns + j) * vector.get(j);
+            }
+            result.set(i, sum);
+        }
+    }
+
+    public static void accumulate(IntArray input, IntArray accumulator) {
+        for (@Parallel int i = 0; i < accumulator.getSize(); i++) {
+            accumulator.set(i, accumulator.get(i) + input.get(i));
+        }
+    }
+
+    public static void widen(IntArray input, LongArray output) {
+        for (@Parallel int i = 0; i < input.getSize(); i++) {
+            output.set(i, input.get(i) * 3L);
+        }
+    }
+
+    @Test
+    public void testMatrixVectorSplitAndBroadcast() throws TornadoExecutionPlanException {
+        final int numRows = 4096;
+        final int numColumns = 256;
+        FloatArray matrix = new FloatArray(numRows * numColumns);
+        FloatArray vector = new FloatArray(numColumns);
+        FloatArray result = new FloatArray(numRows);
+        for (int i = 0; i < numRows; i++) {
+            for (int j = 0; j < numColumns; j++) {
+                matrix.set(i * numColumns + j, (i + j) % 5);
+            }
+        }
+        for (int j = 0; j < numColumns; j++) {
+            vector.set(j, j % 3);
+        }
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.FIRST_EXECUTION, matrix, vector) //
+                .task("t0", TestBatchDescriptors::matrixVector, matrix, vector, result, numColumns) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, result);
+
+        ImmutableTaskGraph immutableTaskGraph = taskGraph.snapshot();
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(immutableTaskGraph)) {
+            // 976 rows per chunk: 4 full chunks and a remaining chunk of 192 rows
+            executionPlan.withBatch("1MB", //
+                    BatchDescriptor.split(matrix, numColumns), //
+                    BatchDescriptor.broadcast(vector), //
+                    BatchDescriptor.split(result)) //
+                    .execute();
+        }
+
+        for (int i = 0; i < numRows; i++) {
+            float expected = 0.0f;
+            for (int j = 0; j < numColumns; j++) {
+                expected += matrix.get(i * numColumns + j) * vector.get(j);
+            }
+            assertEquals(expected, result.get(i), 0.01f);
+        }
+    }
+
+    @Test
+    public void testReduceAcrossChunks() throws TornadoExecutionPlanException {
+        final int numChunks = 4;
+        final int chunkSize = 250_000;
+        IntArray input = new IntArray(numChunks * chunkSize);
+        IntArray accumulator = new IntArray(chunkSize);
+        for (int i = 0; i < input.getSize(); i++) {
+            input.set(i, i);
+        }
+        accumulator.init(0);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.FIRST_EXECUTION, input, accumulator) //
+                .task("t0", TestBatchDescriptors::accumulate, input, accumulator) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, accumulator);
+
+        ImmutableTaskGraph immutableTaskGraph = taskGraph.snapshot();
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(immutableTaskGraph)) {
+            // Chunks of 250000 integers: each chunk adds its elements to the accumulator
+            executionPlan.withBatch("1MB", BatchDescriptor.reduce(accumulator)).execute();
+        }
+
+        for (int j = 0; j < chunkSize; j++) {
+            int expected = 0;
+            for (int chunk = 0; chunk < numChunks; chunk++) {
+                expected += chunk * chunkSize + j;
+            }
+            assertEquals(expected, accumulator.get(j));
+        }
+    }
+
+    @Test
+    public void testDifferentElementTypes() throws TornadoExecutionPlanException {
+        // Same number of elements with different element sizes: each array gets its own chunk size
+        IntArray input = new IntArray(1_000_000);
+        LongArray output = new LongArray(1_000_000);
+        for (int i = 0; i < input.getSize(); i++) {
+            input.set(i, i);
+        }
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.FIRST_EXECUTION, input) //
+                .task("t0", TestBatchDescriptors::widen, input, output) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, output);
+
+        ImmutableTaskGraph immutableTaskGraph = taskGraph.snapshot();
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(immutableTaskGraph)) {
+            executionPlan.withBatch("1MB").execute();
+        }
+
+        for (int i = 0; i < output.getSize(); i++) {
+            assertEquals(input.get(i) * 3L, output.get(i));
+        }
+    }
+
+    @Test
+    public void testBroadcastWrittenObject() throws TornadoExecutionPlanException {
+        IntArray input = new IntArray(1_000_000);
+        IntArray accumulator = new IntArray(1_000);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.FIRST_EXECUTION, input, accumulator) //
+                .task("t0", TestBatchDescriptors::accumulate, input, accumulator) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, accumulator);
+
+        ImmutableTaskGraph immutableTaskGraph = taskGraph.snapshot();
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(immutableTaskGraph)) {
+            Assert.assertThrows(TornadoBailoutRuntimeException.class, () -> executionPlan.withBatch("1MB", BatchDescriptor.broadcast(accumulator)).execute());
+        }
+    }
+
+    @Test
+    public void testDescriptorForUnknownObject() throws TornadoExecutionPlanException {
+        IntArray input = new IntArray(1_000_000);
+        LongArray output = new LongArray(1_000_000);
+        IntArray other = new IntArray(1_000);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.FIRST_EXECUTION, input) //
+                .task("t0", TestBatchDescriptors::widen, input, output) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, output);
+
+        ImmutableTaskGraph immutableTaskGraph = taskGraph.snapshot();
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(immutableTaskGraph)) {
+            Assert.assertThrows(TornadoRuntimeException.class, () -> executionPlan.withBatch("1MB", BatchDescriptor.split(other)));
+        }
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.unittests.batches;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+import uk.ac.manchester.tornado.api.BatchDescriptor;
+import uk.ac.manchester.tornado.api.CoExecutionPartitioner;
+import uk.ac.manchester.tornado.api.ImmutableTaskGraph;
+import uk.ac.manchester.tornado.api.TaskGraph;
+import uk.ac.manchester.tornado.api.TornadoExecutionPlan;
+import uk.ac.manchester.tornado.api.annotations.Parallel;
+import uk.ac.manchester.tornado.api.common.TornadoDevice;
+import uk.ac.manchester.tornado.api.enums.DataTransferMode;
+import uk.ac.manchester.tornado.api.exceptions.TornadoExecutionPlanException;
+import uk.ac.manchester.tornado.api.exceptions.TornadoRuntimeException;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.api.types.arrays.IntArray;
+import uk.ac.manchester.tornado.unittests.common.TornadoTestBase;
+
+/**
+ * Tests for the co-execution of a task-graph across several devices. The
+ * tests use the default device twice, so they also run on systems with a
+ * single accelerator.
+ *
+ * <p>
+ * How to run?
+ * </p>
+ * <code>
+ * tornado-test -V uk.ac.manchester.tornado.unittests.batches.TestCoExecution
+ * </code>
+ */
+public class TestCoExecution extends TornadoTestBase {
+
+    public static void addIndex(IntArray a, IntArray b) {
+        for (@Parallel int i = 0; i < b.getSize(); i++) {
+            b.set(i, a.get(i) + i);
+        }
+    }
+
+    public static void matrixVector(FloatArray matrix, FloatArray vector, FloatArray result, int numColumns) {
+        for (@Parallel int i = 0; i < result.getSize(); i++) {
+            float sum = 0.0f;
+            for (int j = 0; j < numColumns; j++) {
+                sum += matrix.get(i * numColumns + j) * vector.get(j);
+            }
+            result.set(i, sum);
+        }
+    }
+
+    public static void accumulate(IntArray input, IntArray accumulator) {
+        for (@Parallel int i = 0; i < input.getSize(); i++) {
+            accumulator.set(0, accumulator.get(0) + input.get(i));
+        }
+    }
+
+    private static TornadoDevice[] twoDevices() {
+        TornadoDevice device = getTornadoRuntime().getDefaultDevice();
+        return new TornadoDevice[] { device, device };
+    }
+
+    private static void runAddIndex(CoExecutionPartitioner partitioner, int numExecutions) throws TornadoExecutionPlanException {
+        final int size = 100_000;
+        IntArray a = new IntArray(size);
+        IntArray b = new IntArray(size);
+        for (int i = 0; i < size; i++) {
+            a.set(i, i % 10);
+        }
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, a) //
+                .task("t0", TestCoExecution::addIndex, a, b) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, b);
+
+        ImmutableTaskGraph immutableTaskGraph = taskGraph.snapshot();
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(immutableTaskGraph)) {
+            executionPlan.withCoExecution(twoDevices(), partitioner);
+            for (int execution = 0; execution < numExecutions; execution++) {
+                b.init(0);
+                executionPlan.execute();
+                for (int i = 0; i < size; i++) {
+                    assertEquals(a.get(i) + i, b.get(i));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testCoExecutionEven() throws TornadoExecutionPlanException {
+        runAddIndex(CoExecutionPartitioner.even(), 1);
+    }
+
+    @Test
+    public void testCoExecutionRatios() throws TornadoExecutionPlanException {
+        runAddIndex(CoExecutionPartitioner.ratios(0.25, 0.75), 1);
+    }
+
+    @Test
+    public void testCoExecutionAdaptive() throws TornadoExecutionPlanException {
+        // The partitions may change between executions
+        runAddIndex(CoExecutionPartitioner.adaptive(), 5);
+    }
+
+    @Test
+    public void testCoExecutionWithBroadcast() throws TornadoExecutionPlanException {
+        final int numRows = 1024;
+        final int numColumns = 256;
+        FloatArray matrix = new FloatArray(numRows * numColumns);
+        FloatArray vector = new FloatArray(numColumns);
+        FloatArray result = new FloatArray(numRows);
+        for (int i = 0; i < numRows; i++) {
+            for (int j = 0; j < numColumns; j++) {
+                matrix.set(i * numColumns + j, (i + j) % 7);
+            }
+        }
+        for (int j = 0; j < numColumns; j++) {
+            vector.set(j, j % 3);
+        }
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, matrix, vector) //
+                .task("t0", TestCoExecution::matrixVector, matrix, vector, result, numColumns) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, result);
+
+        ImmutableTaskGraph immutableTaskGraph = taskGraph.snapshot();
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(immutableTaskGraph)) {
+            executionPlan.withCoExecution(twoDevices(), CoExecutionPartitioner.ratios(3, 1), //
+                    BatchDescriptor.split(matrix, numColumns), BatchDescriptor.broadcast(vector)) //
+                    .execute();
+        }
+
+        for (int i = 0; i < numRows; i++) {
+            float expected = 0.0f;
+            for (int j = 0; j < numColumns; j++) {
+                expected += matrix.get(i * numColumns + j) * vector.get(j);
+            }
+            assertEquals(expected, result.get(i), 0.01f);
+        }
+    }
+
+    @Test
+    public void testWithoutCoExecution() throws TornadoExecutionPlanException {
+        final int size = 4096;
+        IntArray a = new IntArray(size);
+        IntArray b = new IntArray(size);
+        a.init(1);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, a) //
+                .task("t0", TestCoExecution::addIndex, a, b) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, b);
+
+        ImmutableTaskGraph immutableTaskGraph = taskGraph.snapshot();
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(immutableTaskGraph)) {
+            executionPlan.withCoExecution(twoDevices(), CoExecutionPartitioner.even()).execute();
+            b.init(0);
+            executionPlan.withoutCoExecution().execute();
+        }
+
+        for (int i = 0; i < size; i++) {
+            assertEquals(1 + i, b.get(i));
+        }
+    }
+
+    @Test(expected = TornadoRuntimeException.class)
+    public void testCoExecutionRatiosMismatch() throws TornadoExecutionPlanException {
+        runAddIndex(CoExecutionPartitioner.ratios(0.2, 0.3, 0.5), 1);
+    }
+
+    @Test(expected = TornadoRuntimeException.class)
+    public void testCoExecutionReduceUnsupported() throws TornadoExecutionPlanException {
+        final int size = 1024;
+        IntArray input = new IntArray(size);
+        IntArray accumulator = new IntArray(1);
+        input.init(1);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, input, accumulator) //
+                .task("t0", TestCoExecution::accumulate, input, accumulator) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, accumulator);
+
+        ImmutableTaskGraph immutableTaskGraph = taskGraph.snapshot();
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(immutableTaskGraph)) {
+            executionPlan.withCoExecution(twoDevices(), CoExecutionPartitioner.even(), BatchDescriptor.reduce(accumulator)).execute();
+        }
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.unittests.executor;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+import uk.ac.manchester.tornado.api.GridScheduler;
+import uk.ac.manchester.tornado.api.TaskGraph;
+import uk.ac.manchester.tornado.api.TornadoExecutionPlan;
+import uk.ac.manchester.tornado.api.TornadoExecutionResult;
+import uk.ac.manchester.tornado.api.WorkerGrid;
+import uk.ac.manchester.tornado.api.WorkerGrid1D;
+import uk.ac.manchester.tornado.api.annotations.Parallel;
+import uk.ac.manchester.tornado.api.enums.DataTransferMode;
+import uk.ac.manchester.tornado.api.exceptions.TornadoExecutionPlanException;
+import uk.ac.manchester.tornado.api.types.arrays.IntArray;
+import uk.ac.manchester.tornado.unittests.TestHello;
+import uk.ac.manchester.tornado.unittests.common.TornadoTestBase;
+
+/**
+ * Tests for execution plans that record the commands of the first execution
+ * and replay them in the following executions.
+ *
+ * <p>
+ * How to run?
+ * </p>
+ * <code>
+ * tornado-test -V uk.ac.manchester.tornado.unittests.executor.TestRecordedReplay
+ * </code>
+ */
+public class TestRecordedReplay extends TornadoTestBase {
+
+    private static final int NUM_ELEMENTS = 4096;
+    private static final int NUM_EXECUTIONS = 10;
+
+    public static void multiplyByIndex(IntArray input, IntArray output) {
+        for (@Parallel int i = 0; i < output.getSize(); i++) {
+            output.set(i, input.get(i) * i);
+        }
+    }
+
+    @Test
+    public void testReplay() throws TornadoExecutionPlanException {
+        IntArray a = new IntArray(NUM_ELEMENTS);
+        IntArray b = new IntArray(NUM_ELEMENTS);
+        IntArray c = new IntArray(NUM_ELEMENTS);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, a, b) //
+                .task("t0", TestHello::add, a, b, c) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, c);
+
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(taskGraph.snapshot())) {
+            executionPlan.withRecordedReplay();
+            for (int execution = 0; execution < NUM_EXECUTIONS; execution++) {
+                // New inputs in each execution: the replay copies them in again
+                a.init(execution);
+                b.init(2 * execution);
+                executionPlan.execute();
+                for (int i = 0; i < NUM_ELEMENTS; i++) {
+                    assertEquals(3 * execution, c.get(i));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testReplayWithDependencies() throws TornadoExecutionPlanException {
+        IntArray a = new IntArray(NUM_ELEMENTS);
+        IntArray b = new IntArray(NUM_ELEMENTS);
+        IntArray c = new IntArray(NUM_ELEMENTS);
+        IntArray d = new IntArray(NUM_ELEMENTS);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, a) //
+                .transferToDevice(DataTransferMode.FIRST_EXECUTION, b) //
+                .task("t0", TestHello::add, a, b, c) //
+                .task("t1", TestRecordedReplay::multiplyByIndex, c, d) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, d);
+
+        b.init(1);
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(taskGraph.snapshot())) {
+            executionPlan.withRecordedReplay().withPreCompilation();
+            for (int execution = 0; execution < NUM_EXECUTIONS; execution++) {
+                a.init(execution);
+                executionPlan.execute();
+                for (int i = 0; i < NUM_ELEMENTS; i++) {
+                    assertEquals((execution + 1) * i, d.get(i));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testReplayUnderDemand() throws TornadoExecutionPlanException {
+        IntArray a = new IntArray(NUM_ELEMENTS);
+        IntArray b = new IntArray(NUM_ELEMENTS);
+        IntArray c = new IntArray(NUM_ELEMENTS);
+        b.init(10);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, a, b) //
+                .task("t0", TestHello::add, a, b, c) //
+                .transferToHost(DataTransferMode.UNDER_DEMAND, c);
+
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(taskGraph.snapshot())) {
+            executionPlan.withRecordedReplay();
+            for (int execution = 0; execution < NUM_EXECUTIONS; execution++) {
+                a.init(execution);
+                TornadoExecutionResult executionResult = executionPlan.execute();
+                executionResult.transferToHost(c);
+                for (int i = 0; i < NUM_ELEMENTS; i++) {
+                    assertEquals(10 + execution, c.get(i));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testReplayWithGridScheduler() throws TornadoExecutionPlanException {
+        IntArray a = new IntArray(NUM_ELEMENTS);
+        IntArray b = new IntArray(NUM_ELEMENTS);
+        a.init(1);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, a) //
+                .task("t0", TestRecordedReplay::multiplyByIndex, a, b) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, b);
+
+        WorkerGrid workerGrid = new WorkerGrid1D(NUM_ELEMENTS);
+        GridScheduler gridScheduler = new GridScheduler("s0.t0", workerGrid);
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(taskGraph.snapshot())) {
+            executionPlan.withRecordedReplay().withGridScheduler(gridScheduler);
+            for (int execution = 0; execution < NUM_EXECUTIONS; execution++) {
+                // The grid is read again in each replayed launch
+                workerGrid.setGlobalWork(execution % 2 == 0 ? NUM_ELEMENTS : NUM_ELEMENTS / 2, 1, 1);
+                b.init(0);
+                executionPlan.execute();
+                for (int i = 0; i < NUM_ELEMENTS; i++) {
+                    assertEquals(i, b.get(i));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testWithoutRecordedReplay() throws TornadoExecutionPlanException {
+        IntArray a = new IntArray(NUM_ELEMENTS);
+        IntArray b = new IntArray(NUM_ELEMENTS);
+        IntArray c = new IntArray(NUM_ELEMENTS);
+        b.init(1);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, a, b) //
+                .task("t0", TestHello::add, a, b, c) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, c);
+
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(taskGraph.snapshot())) {
+            for (int execution = 0; execution < NUM_EXECUTIONS; execution++) {
+                // Alternate between replayed and interpreted executions
+                if (execution % 2 == 0) {
+                    executionPlan.withRecordedReplay();
+                } else {
+                    executionPlan.withoutRecordedReplay();
+                }
+                a.init(execution);
+                executionPlan.execute();
+                for (int i = 0; i < NUM_ELEMENTS; i++) {
+                    assertEquals(execution + 1, c.get(i));
+                }
+            }
+        }
+    }
+}
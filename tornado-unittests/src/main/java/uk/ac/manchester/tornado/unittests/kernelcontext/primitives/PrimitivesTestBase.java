@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.unittests.kernelcontext.primitives;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+
+import uk.ac.manchester.tornado.api.GridScheduler;
+import uk.ac.manchester.tornado.api.ImmutableTaskGraph;
+import uk.ac.manchester.tornado.api.TaskGraph;
+import uk.ac.manchester.tornado.api.TornadoExecutionPlan;
+import uk.ac.manchester.tornado.api.exceptions.TornadoExecutionPlanException;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.api.types.arrays.IntArray;
+import uk.ac.manchester.tornado.unittests.common.TornadoTestBase;
+
+/**
+ * Common helpers of the tests for the primitives of
+ * {@code uk.ac.manchester.tornado.api.primitives}: running a task-graph with
+ * its grid scheduler, building random inputs, and comparing the results with
+ * the reference implementations.
+ */
+public abstract class PrimitivesTestBase extends TornadoTestBase {
+
+    protected static void execute(TaskGraph taskGraph, GridScheduler gridScheduler) throws TornadoExecutionPlanException {
+        ImmutableTaskGraph immutableTaskGraph = taskGraph.snapshot();
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(immutableTaskGraph)) {
+            executionPlan.withGridScheduler(gridScheduler) //
+                    .execute();
+        }
+    }
+
+    /**
+     * Random values in {@code [-scale, scale)}.
+     */
+    protected static FloatArray randomArray(int size, float scale, long seed) {
+        Random random = new Random(seed);
+        FloatArray array = new FloatArray(size);
+        for (int i = 0; i < size; i++) {
+            array.set(i, (random.nextFloat() * 2 - 1) * scale);
+        }
+        return array;
+    }
+
+    /**
+     * Random values in {@code [0, bound)}.
+     */
+    protected static IntArray randomIntArray(int size, int bound, long seed) {
+        Random random = new Random(seed);
+        IntArray array = new IntArray(size);
+        for (int i = 0; i < size; i++) {
+            array.set(i, random.nextInt(bound));
+        }
+        return array;
+    }
+
+    /**
+     * Compares the arrays with a relative tolerance, or with {@code delta} for
+     * values smaller than one.
+     */
+    protected static void assertArrayEquals(FloatArray expected, FloatArray actual, float delta) {
+        for (int i = 0; i < expected.getSize(); i++) {
+            assertEquals("index " + i, expected.get(i), actual.get(i), Math.max(delta, Math.abs(expected.get(i)) * delta));
+        }
+    }
+
+    /**
+     * Compares the first {@code size} elements of the arrays.
+     */
+    protected static void assertArrayEquals(IntArray expected, IntArray actual, int size) {
+        for (int i = 0; i < size; i++) {
+            assertEquals("index " + i, expected.get(i), actual.get(i));
+        }
+    }
+
+    protected static void assertArrayEquals(IntArray expected, IntArray actual) {
+        assertArrayEquals(expected, actual, expected.getSize());
+    }
+}
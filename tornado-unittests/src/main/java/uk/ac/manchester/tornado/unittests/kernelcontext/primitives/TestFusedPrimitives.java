@@ -0,0 +1,219 @@
+/*
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.unittests.kernelcontext.primitives;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+import uk.ac.manchester.tornado.api.GridScheduler;
+import uk.ac.manchester.tornado.api.TaskGraph;
+import uk.ac.manchester.tornado.api.enums.DataTransferMode;
+import uk.ac.manchester.tornado.api.exceptions.TornadoExecutionPlanException;
+import uk.ac.manchester.tornado.api.primitives.FusedKernels;
+import uk.ac.manchester.tornado.api.primitives.FusedPrimitives;
+import uk.ac.manchester.tornado.api.primitives.PrimitivesReference;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+
+/**
+ * Tests for the fused activation and normalisation operations of
+ * {@link FusedPrimitives}. The results are compared with
+ * {@link PrimitivesReference}.
+ *
+ * <p>
+ * How to run?
+ * </p>
+ * <code>
+ * tornado-test -V uk.ac.manchester.tornado.unittests.kernelcontext.primitives.TestFusedPrimitives
+ * </code>
+ */
+public class TestFusedPrimitives extends PrimitivesTestBase {
+
+    private static final int ROWS = 64;
+    private static final float DELTA = 1e-4f;
+    private static final float EPSILON = 1e-5f;
+
+    private static void runSoftmax(int cols) throws TornadoExecutionPlanException {
+        // Large logits, so a naive softmax would overflow
+        FloatArray input = randomArray(ROWS * cols, 100.0f, 1);
+        FloatArray output = new FloatArray(ROWS * cols);
+        FloatArray expected = new FloatArray(ROWS * cols);
+
+        GridScheduler gridScheduler = new GridScheduler();
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, input);
+        FusedPrimitives.softmax(taskGraph, gridScheduler, "softmax", input, output, cols);
+        taskGraph.transferToHost(DataTransferMode.EVERY_EXECUTION, output);
+        execute(taskGraph, gridScheduler);
+
+        PrimitivesReference.softmax(input, expected, cols);
+        assertArrayEquals(expected, output, DELTA);
+    }
+
+    private static void runLayerNorm(int cols) throws TornadoExecutionPlanException {
+        // Inputs with a large mean, which a single-pass sum of squares would not handle
+        FloatArray input = randomArray(ROWS * cols, 1.0f, 2);
+        for (int i = 0; i < input.getSize(); i++) {
+            input.set(i, input.get(i) + 1000.0f);
+        }
+        FloatArray gamma = randomArray(cols, 2.0f, 3);
+        FloatArray beta = randomArray(cols, 1.0f, 4);
+        FloatArray output = new FloatArray(ROWS * cols);
+        FloatArray expected = new FloatArray(ROWS * cols);
+
+        GridScheduler gridScheduler = new GridScheduler();
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, input, gamma, beta);
+        FusedPrimitives.layerNorm(taskGraph, gridScheduler, "layerNorm", input, gamma, beta, output, cols, EPSILON);
+        taskGraph.transferToHost(DataTransferMode.EVERY_EXECUTION, output);
+        execute(taskGraph, gridScheduler);
+
+        PrimitivesReference.layerNorm(input, gamma, beta, expected, cols, EPSILON);
+        assertArrayEquals(expected, output, 1e-2f);
+    }
+
+    private static void runRmsNorm(int cols) throws TornadoExecutionPlanException {
+        FloatArray input = randomArray(ROWS * cols, 10.0f, 5);
+        FloatArray weight = randomArray(cols, 2.0f, 6);
+        FloatArray output = new FloatArray(ROWS * cols);
+        FloatArray expected = new FloatArray(ROWS * cols);
+
+        GridScheduler gridScheduler = new GridScheduler();
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, input, weight);
+        FusedPrimitives.rmsNorm(taskGraph, gridScheduler, "rmsNorm", input, weight, output, cols, EPSILON);
+        taskGraph.transferToHost(DataTransferMode.EVERY_EXECUTION, output);
+        execute(taskGraph, gridScheduler);
+
+        PrimitivesReference.rmsNorm(input, weight, expected, cols, EPSILON);
+        assertArrayEquals(expected, output, 1e-3f);
+    }
+
+    @Test
+    public void testSoftmax() throws TornadoExecutionPlanException {
+        runSoftmax(1024);
+    }
+
+    @Test
+    public void testSoftmaxSmallRows() throws TornadoExecutionPlanException {
+        // Fewer columns than threads in the work-group
+        runSoftmax(100);
+    }
+
+    @Test
+    public void testSoftmaxLargeRows() throws TornadoExecutionPlanException {
+        // Rows that do not fit in local memory
+        runSoftmax(FusedKernels.ROW_CACHE_SIZE * 2 + 3);
+    }
+
+    @Test
+    public void testSoftmaxInPlace() throws TornadoExecutionPlanException {
+        final int cols = 512;
+        FloatArray data = randomArray(ROWS * cols, 10.0f, 7);
+        FloatArray expected = new FloatArray(ROWS * cols);
+        PrimitivesReference.softmax(data, expected, cols);
+
+        GridScheduler gridScheduler = new GridScheduler();
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, data);
+        FusedPrimitives.softmax(taskGraph, gridScheduler, "softmax", data, data, cols);
+        taskGraph.transferToHost(DataTransferMode.EVERY_EXECUTION, data);
+        execute(taskGraph, gridScheduler);
+
+        assertArrayEquals(expected, data, DELTA);
+    }
+
+    @Test
+    public void testSoftmaxMaskedRows() throws TornadoExecutionPlanException {
+        final int cols = 1024;
+        FloatArray input = randomArray(ROWS * cols, 10.0f, 10);
+        // Causal-style mask: the first half of each row is -inf, so every thread starts with a masked element
+        for (int r = 0; r < ROWS; r++) {
+            for (int i = 0; i < cols / 2; i++) {
+                input.set(r * cols + i, Float.NEGATIVE_INFINITY);
+            }
+        }
+        FloatArray output = new FloatArray(ROWS * cols);
+        FloatArray expected = new FloatArray(ROWS * cols);
+
+        GridScheduler gridScheduler = new GridScheduler();
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, input);
+        FusedPrimitives.softmax(taskGraph, gridScheduler, "softmax", input, output, cols);
+        taskGraph.transferToHost(DataTransferMode.EVERY_EXECUTION, output);
+        execute(taskGraph, gridScheduler);
+
+        PrimitivesReference.softmax(input, expected, cols);
+        assertArrayEquals(expected, output, DELTA);
+        for (int r = 0; r < ROWS; r++) {
+            assertEquals(0.0f, output.get(r * cols), 0.0f);
+        }
+    }
+
+    @Test
+    public void testLayerNorm() throws TornadoExecutionPlanException {
+        runLayerNorm(768);
+    }
+
+    @Test
+    public void testLayerNormLargeRows() throws TornadoExecutionPlanException {
+        runLayerNorm(FusedKernels.ROW_CACHE_SIZE + 100);
+    }
+
+    @Test
+    public void testRmsNorm() throws TornadoExecutionPlanException {
+        runRmsNorm(4096);
+    }
+
+    @Test
+    public void testRmsNormSmallRows() throws TornadoExecutionPlanException {
+        runRmsNorm(33);
+    }
+
+    @Test
+    public void testActivations() throws TornadoExecutionPlanException {
+        final int size = 100_000;
+        FloatArray input = randomArray(size, 8.0f, 8);
+        FloatArray up = randomArray(size, 1.0f, 9);
+        FloatArray gelu = new FloatArray(size);
+        FloatArray silu = new FloatArray(size);
+        FloatArray swiGlu = new FloatArray(size);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, input, up);
+        FusedPrimitives.gelu(taskGraph, "gelu", input, gelu);
+        FusedPrimitives.silu(taskGraph, "silu", input, silu);
+        FusedPrimitives.swiGlu(taskGraph, "swiGlu", input, up, swiGlu);
+        taskGraph.transferToHost(DataTransferMode.EVERY_EXECUTION, gelu, silu, swiGlu);
+        execute(taskGraph, new GridScheduler());
+
+        FloatArray expected = new FloatArray(size);
+        PrimitivesReference.gelu(input, expected);
+        assertArrayEquals(expected, gelu, DELTA);
+        PrimitivesReference.silu(input, expected);
+        assertArrayEquals(expected, silu, DELTA);
+        PrimitivesReference.swiGlu(input, up, expected);
+        assertArrayEquals(expected, swiGlu, DELTA);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidColumns() {
+        FloatArray input = new FloatArray(1000);
+        FusedPrimitives.softmax(new TaskGraph("s0"), new GridScheduler(), "softmax", input, input, 300);
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.unittests.kernelcontext.primitives;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import uk.ac.manchester.tornado.api.GridScheduler;
+import uk.ac.manchester.tornado.api.TaskGraph;
+import uk.ac.manchester.tornado.api.enums.DataTransferMode;
+import uk.ac.manchester.tornado.api.exceptions.TornadoExecutionPlanException;
+import uk.ac.manchester.tornado.api.primitives.ParallelPrimitives;
+import uk.ac.manchester.tornado.api.primitives.PrimitivesReference;
+import uk.ac.manchester.tornado.api.types.HalfFloat;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.api.types.arrays.HalfFloatArray;
+import uk.ac.manchester.tornado.api.types.arrays.IntArray;
+
+/**
+ * Tests for the privatised histogram and scatter-add primitives of
+ * {@link ParallelPrimitives}. The results are compared with
+ * {@link PrimitivesReference}.
+ *
+ * <p>
+ * How to run?
+ * </p>
+ * <code>
+ * tornado-test -V uk.ac.manchester.tornado.unittests.kernelcontext.primitives.TestHistogramPrimitives
+ * </code>
+ */
+public class TestHistogramPrimitives extends PrimitivesTestBase {
+
+    private static final int SIZE = 100_000;
+
+    private static IntArray randomKeys(int size, int numBins, long seed) {
+        Random random = new Random(seed);
+        IntArray keys = new IntArray(size);
+        for (int i = 0; i < size; i++) {
+            // Skewed keys, so a few bins are hot
+            keys.set(i, random.nextBoolean() ? random.nextInt(4) : random.nextInt(numBins));
+        }
+        return keys;
+    }
+
+    private static void runHistogram(int numBins, int maxLocalBins) throws TornadoExecutionPlanException {
+        IntArray keys = randomKeys(SIZE, numBins, 1);
+        IntArray bins = new IntArray(numBins);
+        IntArray expected = new IntArray(numBins);
+
+        GridScheduler gridScheduler = new GridScheduler();
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, keys, bins);
+        ParallelPrimitives.histogram(taskGraph, gridScheduler, "histogram", keys, bins, maxLocalBins);
+        taskGraph.transferToHost(DataTransferMode.EVERY_EXECUTION, bins);
+        execute(taskGraph, gridScheduler);
+
+        PrimitivesReference.histogram(keys, expected);
+        assertArrayEquals(expected, bins);
+    }
+
+    @Test
+    public void testHistogram() throws TornadoExecutionPlanException {
+        runHistogram(256, ParallelPrimitives.getMaxLocalBins(getTornadoRuntime().getDefaultDevice()));
+    }
+
+    @Test
+    public void testHistogramMultiplePasses() throws TornadoExecutionPlanException {
+        // 1000 bins in passes of 256 local bins
+        runHistogram(1000, 256);
+    }
+
+    @Test
+    public void testScatterAddInt() throws TornadoExecutionPlanException {
+        final int numBins = 512;
+        IntArray keys = randomKeys(SIZE, numBins, 2);
+        IntArray values = new IntArray(SIZE);
+        for (int i = 0; i < SIZE; i++) {
+            values.set(i, i % 7);
+        }
+        IntArray bins = new IntArray(numBins);
+        IntArray expected = new IntArray(numBins);
+
+        GridScheduler gridScheduler = new GridScheduler();
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, keys, values, bins);
+        ParallelPrimitives.scatterAdd(taskGraph, gridScheduler, "scatter", keys, values, bins);
+        taskGraph.transferToHost(DataTransferMode.EVERY_EXECUTION, bins);
+        execute(taskGraph, gridScheduler);
+
+        PrimitivesReference.scatterAdd(keys, values, expected);
+        assertArrayEquals(expected, bins);
+    }
+
+    @Test
+    public void testScatterAddFloat() throws TornadoExecutionPlanException {
+        final int numBins = 300;
+        IntArray keys = randomKeys(SIZE, numBins, 3);
+        FloatArray values = new FloatArray(SIZE);
+        Random random = new Random(4);
+        for (int i = 0; i < SIZE; i++) {
+            values.set(i, random.nextFloat());
+        }
+        FloatArray bins = new FloatArray(numBins);
+        FloatArray expected = new FloatArray(numBins);
+
+        GridScheduler gridScheduler = new GridScheduler();
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, keys, values, bins);
+        ParallelPrimitives.scatterAdd(taskGraph, gridScheduler, "scatter", keys, values, bins, 128);
+        taskGraph.transferToHost(DataTransferMode.EVERY_EXECUTION, bins);
+        execute(taskGraph, gridScheduler);
+
+        PrimitivesReference.scatterAdd(keys, values, expected);
+        assertArrayEquals(expected, bins, 1e-4f);
+    }
+
+    @Test
+    public void testScatterAddFloatDeviceBins() throws TornadoExecutionPlanException {
+        // Hot bins, so the blocks have long runs of equal keys
+        final int numBins = 5000;
+        IntArray keys = randomKeys(SIZE, numBins, 6);
+        FloatArray values = randomArray(SIZE, 1.0f, 7);
+        FloatArray bins = new FloatArray(numBins);
+        FloatArray expected = new FloatArray(numBins);
+
+        GridScheduler gridScheduler = new GridScheduler();
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, keys, values, bins);
+        ParallelPrimitives.scatterAdd(taskGraph, gridScheduler, "scatter", keys, values, bins);
+        taskGraph.transferToHost(DataTransferMode.EVERY_EXECUTION, bins);
+        execute(taskGraph, gridScheduler);
+
+        PrimitivesReference.scatterAdd(keys, values, expected);
+        assertArrayEquals(expected, bins, 1e-3f);
+    }
+
+    @Test
+    public void testScatterAddHalf() throws TornadoExecutionPlanException {
+        final int numBins = 64;
+        final int size = 4096;
+        IntArray keys = randomKeys(size, numBins, 5);
+        HalfFloatArray values = new HalfFloatArray(size);
+        for (int i = 0; i < size; i++) {
+            values.set(i, new HalfFloat(0.25f));
+        }
+        HalfFloatArray bins = new HalfFloatArray(numBins);
+        bins.init(new HalfFloat(0.0f));
+        HalfFloatArray expected = new HalfFloatArray(numBins);
+        expected.init(new HalfFloat(0.0f));
+
+        GridScheduler gridScheduler = new GridScheduler();
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, keys, values, bins);
+        ParallelPrimitives.scatterAdd(taskGraph, gridScheduler, "scatter", keys, values, bins);
+        taskGraph.transferToHost(DataTransferMode.EVERY_EXECUTION, bins);
+        execute(taskGraph, gridScheduler);
+
+        PrimitivesReference.scatterAdd(keys, values, expected);
+        for (int i = 0; i < numBins; i++) {
+            assertEquals(expected.get(i).getFloat32(), bins.get(i).getFloat32(), 0.01f);
+        }
+    }
+}
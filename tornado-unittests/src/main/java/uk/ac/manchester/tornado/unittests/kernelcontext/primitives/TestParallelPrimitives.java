@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.unittests.kernelcontext.primitives;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import uk.ac.manchester.tornado.api.GridScheduler;
+import uk.ac.manchester.tornado.api.TaskGraph;
+import uk.ac.manchester.tornado.api.enums.DataTransferMode;
+import uk.ac.manchester.tornado.api.exceptions.TornadoExecutionPlanException;
+import uk.ac.manchester.tornado.api.primitives.ParallelPrimitives;
+import uk.ac.manchester.tornado.api.primitives.PrimitivesReference;
+import uk.ac.manchester.tornado.api.types.arrays.IntArray;
+
+/**
+ * Tests for the scan, compaction and sort primitives of
+ * {@link ParallelPrimitives}. The results are compared with
+ * {@link PrimitivesReference}. The sizes are not multiples of the block size,
+ * so the last work-group is partially filled.
+ *
+ * <p>
+ * How to run?
+ * </p>
+ * <code>
+ * tornado-test -V uk.ac.manchester.tornado.unittests.kernelcontext.primitives.TestParallelPrimitives
+ * </code>
+ */
+public class TestParallelPrimitives extends PrimitivesTestBase {
+
+    private static final int SIZE = 10_000;
+
+    @Test
+    public void testInclusiveScan() throws TornadoExecutionPlanException {
+        IntArray input = randomIntArray(SIZE, 100, 1);
+        IntArray output = new IntArray(SIZE);
+        IntArray expected = new IntArray(SIZE);
+
+        GridScheduler gridScheduler = new GridScheduler();
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, input);
+        ParallelPrimitives.inclusiveScan(taskGraph, gridScheduler, "scan", input, output);
+        taskGraph.transferToHost(DataTransferMode.EVERY_EXECUTION, output);
+        execute(taskGraph, gridScheduler);
+
+        PrimitivesReference.inclusiveScan(input, expected);
+        assertArrayEquals(expected, output, SIZE);
+    }
+
+    @Test
+    public void testExclusiveScan() throws TornadoExecutionPlanException {
+        IntArray input = randomIntArray(SIZE, 100, 2);
+        IntArray output = new IntArray(SIZE);
+        IntArray expected = new IntArray(SIZE);
+
+        GridScheduler gridScheduler = new GridScheduler();
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, input);
+        ParallelPrimitives.exclusiveScan(taskGraph, gridScheduler, "scan", input, output);
+        taskGraph.transferToHost(DataTransferMode.EVERY_EXECUTION, output);
+        execute(taskGraph, gridScheduler);
+
+        PrimitivesReference.exclusiveScan(input, expected);
+        assertArrayEquals(expected, output, SIZE);
+    }
+
+    @Test
+    public void testSegmentedInclusiveScan() throws TornadoExecutionPlanException {
+        IntArray input = randomIntArray(SIZE, 100, 3);
+        IntArray output = new IntArray(SIZE);
+        IntArray expected = new IntArray(SIZE);
+        // Segments of different lengths, some of them longer than a block
+        IntArray flags = new IntArray(SIZE);
+        Random random = new Random(4);
+        for (int i = 0; i < SIZE; i++) {
+            flags.set(i, random.nextInt(300) == 0 ? 1 : 0);
+        }
+
+        GridScheduler gridScheduler = new GridScheduler();
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, input, flags);
+        ParallelPrimitives.segmentedInclusiveScan(taskGraph, gridScheduler, "scan", input, flags, output);
+        taskGraph.transferToHost(DataTransferMode.EVERY_EXECUTION, output);
+        execute(taskGraph, gridScheduler);
+
+        PrimitivesReference.segmentedInclusiveScan(input, flags, expected);
+        assertArrayEquals(expected, output, SIZE);
+    }
+
+    @Test
+    public void testCompact() throws TornadoExecutionPlanException {
+        IntArray input = randomIntArray(SIZE, 1000, 5);
+        IntArray flags = new IntArray(SIZE);
+        for (int i = 0; i < SIZE; i++) {
+            flags.set(i, input.get(i) % 3 == 0 ? 1 : 0);
+        }
+        IntArray output = new IntArray(SIZE);
+        IntArray count = new IntArray(1);
+        IntArray expected = new IntArray(SIZE);
+
+        GridScheduler gridScheduler = new GridScheduler();
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, input, flags);
+        ParallelPrimitives.compact(taskGraph, gridScheduler, "compact", input, flags, output, count);
+        taskGraph.transferToHost(DataTransferMode.EVERY_EXECUTION, output, count);
+        execute(taskGraph, gridScheduler);
+
+        int expectedCount = PrimitivesReference.compact(input, flags, expected);
+        assertEquals(expectedCount, count.get(0));
+        assertArrayEquals(expected, output, expectedCount);
+    }
+
+    @Test
+    public void testRadixSort() throws TornadoExecutionPlanException {
+        Random random = new Random(6);
+        IntArray keys = new IntArray(SIZE);
+        for (int i = 0; i < SIZE; i++) {
+            keys.set(i, random.nextInt());
+        }
+        IntArray expected = IntArray.fromArray(keys.toHeapArray());
+
+        GridScheduler gridScheduler = new GridScheduler();
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, keys);
+        ParallelPrimitives.radixSort(taskGraph, gridScheduler, "sort", keys);
+        taskGraph.transferToHost(DataTransferMode.EVERY_EXECUTION, keys);
+        execute(taskGraph, gridScheduler);
+
+        PrimitivesReference.sort(expected);
+        assertArrayEquals(expected, keys, SIZE);
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.unittests.kernelcontext.primitives;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import uk.ac.manchester.tornado.api.GridScheduler;
+import uk.ac.manchester.tornado.api.TaskGraph;
+import uk.ac.manchester.tornado.api.enums.DataTransferMode;
+import uk.ac.manchester.tornado.api.exceptions.TornadoExecutionPlanException;
+import uk.ac.manchester.tornado.api.primitives.PrimitivesReference;
+import uk.ac.manchester.tornado.api.primitives.QuantizedLayout;
+import uk.ac.manchester.tornado.api.primitives.QuantizedPrimitives;
+import uk.ac.manchester.tornado.api.types.arrays.ByteArray;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+
+/**
+ * Tests for the quantised multiplications of {@link QuantizedPrimitives}. The
+ * results are compared with the parallel versions of
+ * {@link PrimitivesReference}, which use the same dequantised weights.
+ *
+ * <p>
+ * How to run?
+ * </p>
+ * <code>
+ * tornado-test -V uk.ac.manchester.tornado.unittests.kernelcontext.primitives.TestQuantizedPrimitives
+ * </code>
+ */
+public class TestQuantizedPrimitives extends PrimitivesTestBase {
+
+    private static final float DELTA = 1e-3f;
+
+    private static void runGemv(QuantizedLayout layout, int rows, int cols) throws TornadoExecutionPlanException {
+        ByteArray weights = layout.quantize(randomArray(rows * cols, 1.0f, 1), rows, cols);
+        FloatArray input = randomArray(cols, 1.0f, 2);
+        FloatArray output = new FloatArray(rows);
+        FloatArray expected = new FloatArray(rows);
+
+        GridScheduler gridScheduler = new GridScheduler();
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, weights, input);
+        QuantizedPrimitives.gemv(taskGraph, gridScheduler, "gemv", layout, weights, input, output, rows, cols);
+        taskGraph.transferToHost(DataTransferMode.EVERY_EXECUTION, output);
+        execute(taskGraph, gridScheduler);
+
+        PrimitivesReference.gemv(layout, weights, input, expected, rows, cols);
+        assertArrayEquals(expected, output, DELTA);
+    }
+
+    private static void runGemm(QuantizedLayout layout, int rows, int cols, int n) throws TornadoExecutionPlanException {
+        ByteArray weights = layout.quantize(randomArray(rows * cols, 1.0f, 3), rows, cols);
+        FloatArray input = randomArray(n * cols, 1.0f, 4);
+        FloatArray output = new FloatArray(n * rows);
+        FloatArray expected = new FloatArray(n * rows);
+
+        GridScheduler gridScheduler = new GridScheduler();
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, weights, input);
+        QuantizedPrimitives.gemm(taskGraph, gridScheduler, "gemm", layout, weights, input, output, rows, cols, n);
+        taskGraph.transferToHost(DataTransferMode.EVERY_EXECUTION, output);
+        execute(taskGraph, gridScheduler);
+
+        PrimitivesReference.gemm(layout, weights, input, expected, rows, cols, n);
+        assertArrayEquals(expected, output, DELTA);
+    }
+
+    private static void runQuantize(QuantizedLayout layout, float delta) {
+        // Runs on the JVM: checks the encoding used by the kernels
+        final int rows = 8;
+        final int cols = 256;
+        FloatArray matrix = randomArray(rows * cols, 1.0f, 5);
+        ByteArray weights = layout.quantize(matrix, rows, cols);
+        assertEquals(layout.getNumBytes(rows, cols), weights.getSize());
+
+        float[] row = new float[cols];
+        for (int r = 0; r < rows; r++) {
+            layout.dequantizeRow(weights, rows, cols, r, row);
+            for (int k = 0; k < cols; k++) {
+                assertEquals(matrix.get(r * cols + k), row[k], delta);
+            }
+        }
+    }
+
+    @Test
+    public void testQuantizeQ8() {
+        runQuantize(QuantizedLayout.q8_0(), 1.0f / 100);
+    }
+
+    @Test
+    public void testQuantizeQ4() {
+        runQuantize(QuantizedLayout.q4_0(), 1.0f / 6);
+    }
+
+    @Test
+    public void testGemvQ8() throws TornadoExecutionPlanException {
+        runGemv(QuantizedLayout.q8_0(), 512, 4096);
+    }
+
+    @Test
+    public void testGemvQ4() throws TornadoExecutionPlanException {
+        runGemv(QuantizedLayout.q4_0(), 512, 4096);
+    }
+
+    @Test
+    public void testGemvPlanarScales() throws TornadoExecutionPlanException {
+        runGemv(QuantizedLayout.of(QuantizedLayout.Format.Q4_0, 64, QuantizedLayout.ScalePlacement.PLANAR), 300, 1024);
+    }
+
+    @Test
+    public void testGemvShortRows() throws TornadoExecutionPlanException {
+        // Fewer groups of weights per row than threads per work-group
+        runGemv(QuantizedLayout.q8_0(), 100, 96);
+    }
+
+    @Test
+    public void testGemmQ8() throws TornadoExecutionPlanException {
+        runGemm(QuantizedLayout.q8_0(), 256, 1024, 32);
+    }
+
+    @Test
+    public void testGemmQ4() throws TornadoExecutionPlanException {
+        runGemm(QuantizedLayout.q4_0(), 256, 1024, 32);
+    }
+
+    @Test
+    public void testGemmPartialTiles() throws TornadoExecutionPlanException {
+        // Neither the rows, the columns nor the batch are multiples of the tiles
+        runGemm(QuantizedLayout.of(QuantizedLayout.Format.Q8_0, 48, QuantizedLayout.ScalePlacement.PLANAR), 100, 480, 7);
+    }
+
+    @Test
+    public void testDequantize() throws TornadoExecutionPlanException {
+        final int rows = 64;
+        final int cols = 512;
+        QuantizedLayout layout = QuantizedLayout.q4_0();
+        ByteArray weights = layout.quantize(randomArray(rows * cols, 1.0f, 6), rows, cols);
+        FloatArray output = new FloatArray(rows * cols);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, weights);
+        QuantizedPrimitives.dequantize(taskGraph, "dequantize", layout, weights, output, rows, cols);
+        taskGraph.transferToHost(DataTransferMode.EVERY_EXECUTION, output);
+        execute(taskGraph, new GridScheduler());
+
+        float[] row = new float[cols];
+        for (int r = 0; r < rows; r++) {
+            layout.dequantizeRow(weights, rows, cols, r, row);
+            for (int k = 0; k < cols; k++) {
+                assertEquals(row[k], output.get(r * cols + k), 0.0f);
+            }
+        }
+    }
+
+    @Test
+    public void testLayoutSizes() {
+        assertEquals(34, QuantizedLayout.q8_0().getBytesPerBlock());
+        assertEquals(18, QuantizedLayout.q4_0().getBytesPerBlock());
+        assertTrue(QuantizedLayout.q4_0().getNumBytes(4, 64) < QuantizedLayout.q8_0().getNumBytes(4, 64));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidColumns() {
+        QuantizedLayout layout = QuantizedLayout.q8_0();
+        ByteArray weights = new ByteArray(layout.getBytesPerBlock() * 4);
+        QuantizedPrimitives.gemv(new TaskGraph("s0"), new GridScheduler(), "gemv", layout, weights, new FloatArray(40), new FloatArray(4), 4, 40);
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.unittests.kernelcontext.primitives;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+import uk.ac.manchester.tornado.api.GridScheduler;
+import uk.ac.manchester.tornado.api.TaskGraph;
+import uk.ac.manchester.tornado.api.enums.DataTransferMode;
+import uk.ac.manchester.tornado.api.exceptions.TornadoExecutionPlanException;
+import uk.ac.manchester.tornado.api.primitives.PrimitivesReference;
+import uk.ac.manchester.tornado.api.primitives.ReducePrimitives;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.api.types.arrays.IntArray;
+
+/**
+ * Tests for the argmax, argmin and mean/variance reductions of
+ * {@link ReducePrimitives}. The results are compared with
+ * {@link PrimitivesReference}. The large size needs more work-groups than the
+ * first task launches, so the work-groups also reduce in a grid-stride loop.
+ *
+ * <p>
+ * How to run?
+ * </p>
+ * <code>
+ * tornado-test -V uk.ac.manchester.tornado.unittests.kernelcontext.primitives.TestReducePrimitives
+ * </code>
+ */
+public class TestReducePrimitives extends PrimitivesTestBase {
+
+    private static final int SMALL_SIZE = 1000;
+    private static final int LARGE_SIZE = 100_000;
+
+    /**
+     * Integer values, so the largest and the smallest values appear several
+     * times and the lowest index must be selected.
+     */
+    private static FloatArray randomArrayWithTies(int size, long seed) {
+        IntArray values = randomIntArray(size, 50, seed);
+        FloatArray array = new FloatArray(size);
+        for (int i = 0; i < size; i++) {
+            array.set(i, values.get(i) - 25);
+        }
+        return array;
+    }
+
+    private static void runArgMax(FloatArray input) throws TornadoExecutionPlanException {
+        FloatArray maxValue = new FloatArray(1);
+        IntArray maxIndex = new IntArray(1);
+        FloatArray expectedValue = new FloatArray(1);
+        IntArray expectedIndex = new IntArray(1);
+
+        GridScheduler gridScheduler = new GridScheduler();
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, input);
+        ReducePrimitives.argMax(taskGraph, gridScheduler, "argmax", input, maxValue, maxIndex);
+        taskGraph.transferToHost(DataTransferMode.EVERY_EXECUTION, maxValue, maxIndex);
+        execute(taskGraph, gridScheduler);
+
+        PrimitivesReference.argMax(input, expectedValue, expectedIndex);
+        assertEquals(expectedValue.get(0), maxValue.get(0), 0.0f);
+        assertEquals(expectedIndex.get(0), maxIndex.get(0));
+    }
+
+    private static void runArgMin(FloatArray input) throws TornadoExecutionPlanException {
+        FloatArray minValue = new FloatArray(1);
+        IntArray minIndex = new IntArray(1);
+        FloatArray expectedValue = new FloatArray(1);
+        IntArray expectedIndex = new IntArray(1);
+
+        GridScheduler gridScheduler = new GridScheduler();
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, input);
+        ReducePrimitives.argMin(taskGraph, gridScheduler, "argmin", input, minValue, minIndex);
+        taskGraph.transferToHost(DataTransferMode.EVERY_EXECUTION, minValue, minIndex);
+        execute(taskGraph, gridScheduler);
+
+        PrimitivesReference.argMin(input, expectedValue, expectedIndex);
+        assertEquals(expectedValue.get(0), minValue.get(0), 0.0f);
+        assertEquals(expectedIndex.get(0), minIndex.get(0));
+    }
+
+    private static void runMeanVariance(int size) throws TornadoExecutionPlanException {
+        // Inputs with a large mean, which a single-pass sum of squares would not handle
+        FloatArray input = randomArray(size, 1.0f, 5);
+        for (int i = 0; i < size; i++) {
+            input.set(i, input.get(i) + 1000.0f);
+        }
+        FloatArray mean = new FloatArray(1);
+        FloatArray variance = new FloatArray(1);
+        FloatArray expectedMean = new FloatArray(1);
+        FloatArray expectedVariance = new FloatArray(1);
+
+        GridScheduler gridScheduler = new GridScheduler();
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, input);
+        ReducePrimitives.meanVariance(taskGraph, gridScheduler, "moments", input, mean, variance);
+        taskGraph.transferToHost(DataTransferMode.EVERY_EXECUTION, mean, variance);
+        execute(taskGraph, gridScheduler);
+
+        PrimitivesReference.meanVariance(input, expectedMean, expectedVariance);
+        assertArrayEquals(expectedMean, mean, 1e-4f);
+        assertArrayEquals(expectedVariance, variance, 1e-3f);
+    }
+
+    @Test
+    public void testArgMax() throws TornadoExecutionPlanException {
+        runArgMax(randomArray(SMALL_SIZE, 100.0f, 1));
+    }
+
+    @Test
+    public void testArgMaxLarge() throws TornadoExecutionPlanException {
+        runArgMax(randomArray(LARGE_SIZE, 100.0f, 2));
+    }
+
+    @Test
+    public void testArgMaxTies() throws TornadoExecutionPlanException {
+        runArgMax(randomArrayWithTies(LARGE_SIZE, 3));
+    }
+
+    @Test
+    public void testArgMin() throws TornadoExecutionPlanException {
+        runArgMin(randomArray(SMALL_SIZE, 100.0f, 4));
+    }
+
+    @Test
+    public void testArgMinTies() throws TornadoExecutionPlanException {
+        runArgMin(randomArrayWithTies(LARGE_SIZE, 6));
+    }
+
+    @Test
+    public void testMeanVariance() throws TornadoExecutionPlanException {
+        runMeanVariance(SMALL_SIZE);
+    }
+
+    @Test
+    public void testMeanVarianceLarge() throws TornadoExecutionPlanException {
+        runMeanVariance(LARGE_SIZE);
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.unittests.kernelcontext.primitives;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import uk.ac.manchester.tornado.api.GridScheduler;
+import uk.ac.manchester.tornado.api.TaskGraph;
+import uk.ac.manchester.tornado.api.enums.DataTransferMode;
+import uk.ac.manchester.tornado.api.exceptions.TornadoExecutionPlanException;
+import uk.ac.manchester.tornado.api.primitives.ParallelPrimitives;
+import uk.ac.manchester.tornado.api.primitives.PrimitivesReference;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.api.types.arrays.IntArray;
+
+/**
+ * Tests for the key/value sort and top-k primitives of
+ * {@link ParallelPrimitives}. The results are compared with
+ * {@link PrimitivesReference}. The scores contain repeated values to check that
+ * ties are ordered by index.
+ *
+ * <p>
+ * How to run?
+ * </p>
+ * <code>
+ * tornado-test -V uk.ac.manchester.tornado.unittests.kernelcontext.primitives.TestSortPrimitives
+ * </code>
+ */
+public class TestSortPrimitives extends PrimitivesTestBase {
+
+    private static final int SIZE = 10_000;
+
+    private static FloatArray randomScores(int size, long seed) {
+        Random random = new Random(seed);
+        FloatArray scores = new FloatArray(size);
+        for (int i = 0; i < size; i++) {
+            scores.set(i, (random.nextInt(2000) - 1000) / 8.0f);
+        }
+        return scores;
+    }
+
+    private void runTopK(int k) throws TornadoExecutionPlanException {
+        FloatArray scores = randomScores(SIZE, k);
+        FloatArray topScores = new FloatArray(k);
+        IntArray topIndices = new IntArray(k);
+
+        GridScheduler gridScheduler = new GridScheduler();
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, scores);
+        ParallelPrimitives.topK(taskGraph, gridScheduler, "topk", scores, k, topScores, topIndices);
+        taskGraph.transferToHost(DataTransferMode.EVERY_EXECUTION, topScores, topIndices);
+        execute(taskGraph, gridScheduler);
+
+        FloatArray expectedScores = new FloatArray(k);
+        IntArray expectedIndices = new IntArray(k);
+        PrimitivesReference.topK(scores, k, expectedScores, expectedIndices);
+        assertArrayEquals(expectedScores, topScores, 0.0f);
+        assertArrayEquals(expectedIndices, topIndices);
+    }
+
+    @Test
+    public void testSortPairs() throws TornadoExecutionPlanException {
+        Random random = new Random(1);
+        IntArray keys = new IntArray(SIZE);
+        IntArray values = new IntArray(SIZE);
+        for (int i = 0; i < SIZE; i++) {
+            keys.set(i, random.nextInt(1000) - 500);
+            values.set(i, i);
+        }
+        IntArray expectedKeys = IntArray.fromArray(keys.toHeapArray());
+        IntArray expectedValues = IntArray.fromArray(values.toHeapArray());
+
+        GridScheduler gridScheduler = new GridScheduler();
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, keys, values);
+        ParallelPrimitives.sortPairs(taskGraph, gridScheduler, "sort", keys, values);
+        taskGraph.transferToHost(DataTransferMode.EVERY_EXECUTION, keys, values);
+        execute(taskGraph, gridScheduler);
+
+        PrimitivesReference.sortPairs(expectedKeys, expectedValues);
+        assertArrayEquals(expectedKeys, keys);
+        assertArrayEquals(expectedValues, values);
+    }
+
+    @Test
+    public void testRadixSortFloat() throws TornadoExecutionPlanException {
+        Random random = new Random(2);
+        FloatArray keys = new FloatArray(SIZE);
+        for (int i = 0; i < SIZE; i++) {
+            keys.set(i, (float) random.nextGaussian() * 1000.0f);
+        }
+        keys.set(0, -0.0f);
+        keys.set(1, 0.0f);
+        keys.set(2, Float.NEGATIVE_INFINITY);
+        keys.set(3, Float.POSITIVE_INFINITY);
+        FloatArray expected = FloatArray.fromArray(keys.toHeapArray());
+
+        GridScheduler gridScheduler = new GridScheduler();
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, keys);
+        ParallelPrimitives.radixSort(taskGraph, gridScheduler, "sort", keys);
+        taskGraph.transferToHost(DataTransferMode.EVERY_EXECUTION, keys);
+        execute(taskGraph, gridScheduler);
+
+        PrimitivesReference.sort(expected);
+        assertArrayEquals(expected, keys, 0.0f);
+    }
+
+    @Test
+    public void testSortPairsFloat() throws TornadoExecutionPlanException {
+        FloatArray keys = randomScores(SIZE, 3);
+        IntArray values = new IntArray(SIZE);
+        for (int i = 0; i < SIZE; i++) {
+            values.set(i, i);
+        }
+        FloatArray expectedKeys = FloatArray.fromArray(keys.toHeapArray());
+        IntArray expectedValues = IntArray.fromArray(values.toHeapArray());
+
+        GridScheduler gridScheduler = new GridScheduler();
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, keys, values);
+        ParallelPrimitives.sortPairs(taskGraph, gridScheduler, "sort", keys, values);
+        taskGraph.transferToHost(DataTransferMode.EVERY_EXECUTION, keys, values);
+        execute(taskGraph, gridScheduler);
+
+        PrimitivesReference.sortPairs(expectedKeys, expectedValues);
+        assertArrayEquals(expectedKeys, keys, 0.0f);
+        assertArrayEquals(expectedValues, values);
+    }
+
+    @Test
+    public void testTopK() throws TornadoExecutionPlanException {
+        // Selected per block before the device-wide sort
+        runTopK(10);
+    }
+
+    @Test
+    public void testTopKLarge() throws TornadoExecutionPlanException {
+        // Larger than a block: all the scores are sorted
+        runTopK(1000);
+    }
+
+    @Test
+    public void testSegmentedTopK() throws TornadoExecutionPlanException {
+        final int k = 8;
+        FloatArray scores = randomScores(SIZE, 4);
+        // Segments of different lengths, including empty and short segments
+        Random random = new Random(5);
+        int[] offsets = new int[SIZE + 1];
+        int numSegments = 0;
+        for (int start = 0; start < SIZE; numSegments++) {
+            offsets[numSegments] = start;
+            start = Math.min(SIZE, start + random.nextInt(600));
+        }
+        offsets[numSegments] = SIZE;
+        IntArray segmentOffsets = new IntArray(numSegments + 1);
+        for (int s = 0; s <= numSegments; s++) {
+            segmentOffsets.set(s, offsets[s]);
+        }
+        FloatArray topScores = new FloatArray(numSegments * k);
+        IntArray topIndices = new IntArray(numSegments * k);
+
+        GridScheduler gridScheduler = new GridScheduler();
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, scores, segmentOffsets);
+        ParallelPrimitives.segmentedTopK(taskGraph, gridScheduler, "topk", scores, segmentOffsets, k, topScores, topIndices);
+        taskGraph.transferToHost(DataTransferMode.EVERY_EXECUTION, topScores, topIndices);
+        execute(taskGraph, gridScheduler);
+
+        FloatArray expectedScores = new FloatArray(numSegments * k);
+        IntArray expectedIndices = new IntArray(numSegments * k);
+        PrimitivesReference.segmentedTopK(scores, segmentOffsets, k, expectedScores, expectedIndices);
+        assertArrayEquals(expectedScores, topScores, 0.0f);
+        assertArrayEquals(expectedIndices, topIndices);
+    }
+}
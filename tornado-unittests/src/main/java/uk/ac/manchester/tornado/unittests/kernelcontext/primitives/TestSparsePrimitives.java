@@ -0,0 +1,244 @@
+/*
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.unittests.kernelcontext.primitives;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+import java.util.function.IntUnaryOperator;
+
+import org.junit.Test;
+
+import uk.ac.manchester.tornado.api.GridScheduler;
+import uk.ac.manchester.tornado.api.TaskGraph;
+import uk.ac.manchester.tornado.api.enums.DataTransferMode;
+import uk.ac.manchester.tornado.api.exceptions.TornadoExecutionPlanException;
+import uk.ac.manchester.tornado.api.primitives.PrimitivesReference;
+import uk.ac.manchester.tornado.api.primitives.SparsePrimitives;
+import uk.ac.manchester.tornado.api.primitives.SparseStrategy;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.api.types.arrays.IntArray;
+import uk.ac.manchester.tornado.api.types.sparse.COOMatrixFloat;
+import uk.ac.manchester.tornado.api.types.sparse.CSRMatrixFloat;
+import uk.ac.manchester.tornado.api.types.sparse.ELLMatrixFloat;
+import uk.ac.manchester.tornado.api.types.sparse.SELLMatrixFloat;
+
+/**
+ * Tests for the sparse formats and the SpMV and SpMM operations of
+ * {@link SparsePrimitives}. The results are compared with
+ * {@link PrimitivesReference}.
+ *
+ * <p>
+ * How to run?
+ * </p>
+ * <code>
+ * tornado-test -V uk.ac.manchester.tornado.unittests.kernelcontext.primitives.TestSparsePrimitives
+ * </code>
+ */
+public class TestSparsePrimitives extends PrimitivesTestBase {
+
+    private static final int ROWS = 2000;
+    private static final int COLS = 1500;
+    private static final float DELTA = 1e-3f;
+
+    /**
+     * Builds a random matrix through the COO format, with duplicated
+     * coordinates.
+     */
+    private static CSRMatrixFloat randomMatrix(IntUnaryOperator rowLength, long seed) {
+        Random random = new Random(seed);
+        int size = 0;
+        for (int r = 0; r < ROWS; r++) {
+            size += rowLength.applyAsInt(r);
+        }
+        IntArray rowIndices = new IntArray(size);
+        IntArray colIndices = new IntArray(size);
+        FloatArray values = new FloatArray(size);
+        int position = 0;
+        for (int r = 0; r < ROWS; r++) {
+            for (int i = 0; i < rowLength.applyAsInt(r); i++) {
+                rowIndices.set(position, r);
+                colIndices.set(position, random.nextInt(COLS));
+                values.set(position, random.nextFloat() * 2 - 1);
+                position++;
+            }
+        }
+        return new COOMatrixFloat(ROWS, COLS, rowIndices, colIndices, values).toCSR();
+    }
+
+    /**
+     * Matrix with a power-law distribution of the row lengths: a few very long
+     * rows, many short rows and some empty rows.
+     */
+    private static CSRMatrixFloat irregularMatrix() {
+        return randomMatrix(r -> (r % 7 == 0) ? 0 : Math.min(COLS, 20000 / (r + 1) + 1), 1);
+    }
+
+    private static void assertMatrixEquals(CSRMatrixFloat expected, CSRMatrixFloat actual) {
+        assertEquals(expected.getRows(), actual.getRows());
+        assertEquals(expected.getCols(), actual.getCols());
+        assertEquals(expected.getNumNonZeros(), actual.getNumNonZeros());
+        for (int r = 0; r <= expected.getRows(); r++) {
+            assertEquals(expected.getRowOffsets().get(r), actual.getRowOffsets().get(r));
+        }
+        for (int i = 0; i < expected.getNumNonZeros(); i++) {
+            assertEquals(expected.getColIndices().get(i), actual.getColIndices().get(i));
+            assertEquals(expected.getValues().get(i), actual.getValues().get(i), 0.0f);
+        }
+    }
+
+    private static void runSpmv(CSRMatrixFloat matrix, SparseStrategy strategy) throws TornadoExecutionPlanException {
+        FloatArray x = randomArray(COLS, 1.0f, 2);
+        FloatArray y = new FloatArray(ROWS);
+        FloatArray expected = new FloatArray(ROWS);
+
+        GridScheduler gridScheduler = new GridScheduler();
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.FIRST_EXECUTION, matrix.getArrays()) //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, x);
+        SparsePrimitives.spmv(taskGraph, gridScheduler, "spmv", matrix, x, y, strategy);
+        taskGraph.transferToHost(DataTransferMode.EVERY_EXECUTION, y);
+        execute(taskGraph, gridScheduler);
+
+        PrimitivesReference.spmv(matrix, x, expected);
+        assertArrayEquals(expected, y, DELTA);
+    }
+
+    private static void runSpmm(CSRMatrixFloat matrix, SparseStrategy strategy, int k) throws TornadoExecutionPlanException {
+        FloatArray x = randomArray(COLS * k, 1.0f, 3);
+        FloatArray y = new FloatArray(ROWS * k);
+        FloatArray expected = new FloatArray(ROWS * k);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.FIRST_EXECUTION, matrix.getArrays()) //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, x);
+        SparsePrimitives.spmm(taskGraph, "spmm", matrix, x, y, k, strategy);
+        taskGraph.transferToHost(DataTransferMode.EVERY_EXECUTION, y);
+        execute(taskGraph, new GridScheduler());
+
+        PrimitivesReference.spmm(matrix, x, expected, k);
+        assertArrayEquals(expected, y, DELTA);
+    }
+
+    @Test
+    public void testConversions() {
+        // Runs on the JVM
+        CSRMatrixFloat matrix = irregularMatrix();
+        assertMatrixEquals(matrix, matrix.toCOO().toCSR());
+        assertMatrixEquals(matrix, matrix.toELL().toCSR());
+        assertMatrixEquals(matrix, matrix.toSELL(32, 256).toCSR());
+        assertMatrixEquals(matrix, matrix.toSELL(8, 1).toCSR());
+    }
+
+    @Test
+    public void testDuplicatesAreAdded() {
+        IntArray rowIndices = IntArray.fromElements(1, 0, 1, 1);
+        IntArray colIndices = IntArray.fromElements(2, 1, 0, 2);
+        FloatArray values = FloatArray.fromElements(1.0f, 2.0f, 3.0f, 4.0f);
+        CSRMatrixFloat matrix = new COOMatrixFloat(3, 3, rowIndices, colIndices, values).toCSR();
+
+        assertEquals(3, matrix.getNumNonZeros());
+        assertEquals(0, matrix.getRowOffsets().get(0));
+        assertEquals(1, matrix.getRowOffsets().get(1));
+        assertEquals(3, matrix.getRowOffsets().get(2));
+        assertEquals(3, matrix.getRowOffsets().get(3));
+        assertEquals(0, matrix.getColIndices().get(1));
+        assertEquals(5.0f, matrix.getValues().get(2), 0.0f);
+    }
+
+    @Test
+    public void testStrategySelection() {
+        assertEquals(SparseStrategy.SCALAR, SparseStrategy.select(randomMatrix(r -> 4, 4).getRowStatistics()));
+        assertEquals(SparseStrategy.VECTOR, SparseStrategy.select(randomMatrix(r -> 64, 5).getRowStatistics()));
+        assertEquals(SparseStrategy.MERGE_PATH, SparseStrategy.select(irregularMatrix().getRowStatistics()));
+    }
+
+    @Test
+    public void testSpmvScalar() throws TornadoExecutionPlanException {
+        runSpmv(irregularMatrix(), SparseStrategy.SCALAR);
+    }
+
+    @Test
+    public void testSpmvVector() throws TornadoExecutionPlanException {
+        runSpmv(irregularMatrix(), SparseStrategy.VECTOR);
+    }
+
+    @Test
+    public void testSpmvMergePath() throws TornadoExecutionPlanException {
+        runSpmv(irregularMatrix(), SparseStrategy.MERGE_PATH);
+    }
+
+    @Test
+    public void testSpmvAuto() throws TornadoExecutionPlanException {
+        runSpmv(randomMatrix(r -> 3 + r % 5, 6), SparseStrategy.AUTO);
+    }
+
+    @Test
+    public void testSpmvELL() throws TornadoExecutionPlanException {
+        CSRMatrixFloat matrix = randomMatrix(r -> 1 + r % 9, 7);
+        ELLMatrixFloat ell = matrix.toELL();
+        FloatArray x = randomArray(COLS, 1.0f, 2);
+        FloatArray y = new FloatArray(ROWS);
+        FloatArray expected = new FloatArray(ROWS);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.FIRST_EXECUTION, ell.getArrays()) //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, x);
+        SparsePrimitives.spmv(taskGraph, "spmv", ell, x, y);
+        taskGraph.transferToHost(DataTransferMode.EVERY_EXECUTION, y);
+        execute(taskGraph, new GridScheduler());
+
+        PrimitivesReference.spmv(matrix, x, expected);
+        assertArrayEquals(expected, y, DELTA);
+    }
+
+    @Test
+    public void testSpmvSELL() throws TornadoExecutionPlanException {
+        CSRMatrixFloat matrix = irregularMatrix();
+        SELLMatrixFloat sell = matrix.toSELL(32, 512);
+        FloatArray x = randomArray(COLS, 1.0f, 2);
+        FloatArray y = new FloatArray(ROWS);
+        FloatArray expected = new FloatArray(ROWS);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.FIRST_EXECUTION, sell.getArrays()) //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, x);
+        SparsePrimitives.spmv(taskGraph, "spmv", sell, x, y);
+        taskGraph.transferToHost(DataTransferMode.EVERY_EXECUTION, y);
+        execute(taskGraph, new GridScheduler());
+
+        PrimitivesReference.spmv(matrix, x, expected);
+        assertArrayEquals(expected, y, DELTA);
+    }
+
+    @Test
+    public void testSpmmScalar() throws TornadoExecutionPlanException {
+        runSpmm(randomMatrix(r -> 1 + r % 13, 8), SparseStrategy.SCALAR, 16);
+    }
+
+    @Test
+    public void testSpmmMergePath() throws TornadoExecutionPlanException {
+        runSpmm(irregularMatrix(), SparseStrategy.MERGE_PATH, 8);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSpmmVectorUnsupported() {
+        CSRMatrixFloat matrix = randomMatrix(r -> 2, 9);
+        SparsePrimitives.spmm(new TaskGraph("s0"), "spmm", matrix, new FloatArray(COLS * 4), new FloatArray(ROWS * 4), 4, SparseStrategy.VECTOR);
+    }
+}
@@ -0,0 +1,335 @@
+/*
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.unittests.kernelcontext.reductions;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+import uk.ac.manchester.tornado.api.GridScheduler;
+import uk.ac.manchester.tornado.api.KernelContext;
+import uk.ac.manchester.tornado.api.TaskGraph;
+import uk.ac.manchester.tornado.api.TornadoExecutionPlan;
+import uk.ac.manchester.tornado.api.WorkerGrid1D;
+import uk.ac.manchester.tornado.api.enums.DataTransferMode;
+import uk.ac.manchester.tornado.api.enums.TornadoVMBackendType;
+import uk.ac.manchester.tornado.api.exceptions.TornadoExecutionPlanException;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.api.types.arrays.IntArray;
+import uk.ac.manchester.tornado.api.types.arrays.LongArray;
+import uk.ac.manchester.tornado.unittests.common.TornadoTestBase;
+
+/**
+ * Tests for the portable subgroup collectives of {@link KernelContext}. The
+ * kernels are written against {@link KernelContext#getSubgroupSize()}, so the
+ * expected values do not depend on the subgroup size of the device. Backends
+ * without subgroup instructions run the kernels with subgroups of one lane.
+ * The OpenCL backend also uses them when the device does not support the
+ * subgroup extensions, or {@code tornado.opencl.subgroups} is disabled.
+ *
+ * <p>
+ * How to run?
+ * </p>
+ * <code>
+ * tornado-test -V uk.ac.manchester.tornado.unittests.kernelcontext.reductions.TestSubgroupCollectives
+ * </code>
+ */
+public class TestSubgroupCollectives extends TornadoTestBase {
+
+    private static final int BLOCK_SIZE = 256;
+    private static final int SIZE = BLOCK_SIZE * 16;
+    private static final String SUBGROUPS_PROPERTY = "tornado.opencl.subgroups";
+
+    public static void blockSumInt(KernelContext context, IntArray input, IntArray partials) {
+        int[] subgroupSums = context.allocateIntLocalArray(BLOCK_SIZE);
+        int subgroupSize = context.getSubgroupSize();
+        int sum = context.subgroupReduceAdd(input.get(context.globalIdx));
+        if (context.getSubgroupLocalId() == 0) {
+            subgroupSums[context.localIdx / subgroupSize] = sum;
+        }
+        context.localBarrier();
+        if (context.localIdx == 0) {
+            int total = 0;
+            for (int i = 0; i < context.localGroupSizeX / subgroupSize; i++) {
+                total += subgroupSums[i];
+            }
+            partials.set(context.groupIdx, total);
+        }
+    }
+
+    public static void blockMinLong(KernelContext context, LongArray input, LongArray partials) {
+        long[] subgroupMins = context.allocateLongLocalArray(BLOCK_SIZE);
+        int subgroupSize = context.getSubgroupSize();
+        long min = context.subgroupReduceMin(input.get(context.globalIdx));
+        if (context.getSubgroupLocalId() == 0) {
+            subgroupMins[context.localIdx / subgroupSize] = min;
+        }
+        context.localBarrier();
+        if (context.localIdx == 0) {
+            long result = subgroupMins[0];
+            for (int i = 1; i < context.localGroupSizeX / subgroupSize; i++) {
+                result = Math.min(result, subgroupMins[i]);
+            }
+            partials.set(context.groupIdx, result);
+        }
+    }
+
+    public static void blockMaxFloat(KernelContext context, FloatArray input, FloatArray partials) {
+        float[] subgroupMaxs = context.allocateFloatLocalArray(BLOCK_SIZE);
+        int subgroupSize = context.getSubgroupSize();
+        float max = context.subgroupReduceMax(input.get(context.globalIdx));
+        if (context.getSubgroupLocalId() == 0) {
+            subgroupMaxs[context.localIdx / subgroupSize] = max;
+        }
+        context.localBarrier();
+        if (context.localIdx == 0) {
+            float result = subgroupMaxs[0];
+            for (int i = 1; i < context.localGroupSizeX / subgroupSize; i++) {
+                result = Math.max(result, subgroupMaxs[i]);
+            }
+            partials.set(context.groupIdx, result);
+        }
+    }
+
+    public static void blockScanInt(KernelContext context, IntArray input, IntArray inclusive, IntArray exclusive) {
+        int[] subgroupTotals = context.allocateIntLocalArray(BLOCK_SIZE);
+        int subgroupSize = context.getSubgroupSize();
+        int lane = context.getSubgroupLocalId();
+        int subgroup = context.localIdx / subgroupSize;
+        int value = input.get(context.globalIdx);
+        int inclusiveScan = context.subgroupInclusiveScanAdd(value);
+        int exclusiveScan = context.subgroupExclusiveScanAdd(value);
+        if (lane == subgroupSize - 1) {
+            subgroupTotals[subgroup] = inclusiveScan;
+        }
+        context.localBarrier();
+        int offset = 0;
+        for (int i = 0; i < subgroup; i++) {
+            offset += subgroupTotals[i];
+        }
+        inclusive.set(context.globalIdx, inclusiveScan + offset);
+        exclusive.set(context.globalIdx, exclusiveScan + offset);
+    }
+
+    public static void shuffleAndVote(KernelContext context, IntArray input, IntArray sizes, IntArray lanes, IntArray first, IntArray any, IntArray all) {
+        int value = input.get(context.globalIdx);
+        sizes.set(context.globalIdx, context.getSubgroupSize());
+        lanes.set(context.globalIdx, context.getSubgroupLocalId());
+        first.set(context.globalIdx, context.subgroupShuffle(value, 0));
+        any.set(context.globalIdx, context.subgroupAny(context.localIdx == 0) ? 1 : 0);
+        all.set(context.globalIdx, context.subgroupAll(value > 0) ? 1 : 0);
+    }
+
+    private static GridScheduler createGridScheduler(String taskName) {
+        WorkerGrid1D worker = new WorkerGrid1D(SIZE);
+        worker.setLocalWork(BLOCK_SIZE, 1, 1);
+        return new GridScheduler(taskName, worker);
+    }
+
+    private static void restoreSubgroupsProperty(String subgroupsProperty) {
+        if (subgroupsProperty == null) {
+            System.clearProperty(SUBGROUPS_PROPERTY);
+        } else {
+            System.setProperty(SUBGROUPS_PROPERTY, subgroupsProperty);
+        }
+    }
+
+    private void checkReduceAddInt() throws TornadoExecutionPlanException {
+        IntArray input = new IntArray(SIZE);
+        IntArray partials = new IntArray(SIZE / BLOCK_SIZE);
+        for (int i = 0; i < SIZE; i++) {
+            input.set(i, i % 37);
+        }
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, input) //
+                .task("t0", TestSubgroupCollectives::blockSumInt, new KernelContext(), input, partials) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, partials);
+
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(taskGraph.snapshot())) {
+            executionPlan.withGridScheduler(createGridScheduler("s0.t0")).execute();
+        }
+
+        for (int group = 0; group < partials.getSize(); group++) {
+            int expected = 0;
+            for (int i = 0; i < BLOCK_SIZE; i++) {
+                expected += input.get(group * BLOCK_SIZE + i);
+            }
+            assertEquals(expected, partials.get(group));
+        }
+    }
+
+    @Test
+    public void testSubgroupReduceAddInt() throws TornadoExecutionPlanException {
+        checkReduceAddInt();
+    }
+
+    @Test
+    public void testSubgroupReduceMinLong() throws TornadoExecutionPlanException {
+        LongArray input = new LongArray(SIZE);
+        LongArray partials = new LongArray(SIZE / BLOCK_SIZE);
+        for (int i = 0; i < SIZE; i++) {
+            input.set(i, (1L << 40) + (i * 7919L) % 1000);
+        }
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, input) //
+                .task("t0", TestSubgroupCollectives::blockMinLong, new KernelContext(), input, partials) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, partials);
+
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(taskGraph.snapshot())) {
+            executionPlan.withGridScheduler(createGridScheduler("s0.t0")).execute();
+        }
+
+        for (int group = 0; group < partials.getSize(); group++) {
+            long expected = Long.MAX_VALUE;
+            for (int i = 0; i < BLOCK_SIZE; i++) {
+                expected = Math.min(expected, input.get(group * BLOCK_SIZE + i));
+            }
+            assertEquals(expected, partials.get(group));
+        }
+    }
+
+    @Test
+    public void testSubgroupReduceMaxFloat() throws TornadoExecutionPlanException {
+        FloatArray input = new FloatArray(SIZE);
+        FloatArray partials = new FloatArray(SIZE / BLOCK_SIZE);
+        for (int i = 0; i < SIZE; i++) {
+            input.set(i, (float) Math.sin(i) * 100.0f);
+        }
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, input) //
+                .task("t0", TestSubgroupCollectives::blockMaxFloat, new KernelContext(), input, partials) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, partials);
+
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(taskGraph.snapshot())) {
+            executionPlan.withGridScheduler(createGridScheduler("s0.t0")).execute();
+        }
+
+        for (int group = 0; group < partials.getSize(); group++) {
+            float expected = -Float.MAX_VALUE;
+            for (int i = 0; i < BLOCK_SIZE; i++) {
+                expected = Math.max(expected, input.get(group * BLOCK_SIZE + i));
+            }
+            assertEquals(expected, partials.get(group), 0.0f);
+        }
+    }
+
+    @Test
+    public void testSubgroupScanAddInt() throws TornadoExecutionPlanException {
+        IntArray input = new IntArray(SIZE);
+        IntArray inclusive = new IntArray(SIZE);
+        IntArray exclusive = new IntArray(SIZE);
+        for (int i = 0; i < SIZE; i++) {
+            input.set(i, (i * 13) % 11);
+        }
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, input) //
+                .task("t0", TestSubgroupCollectives::blockScanInt, new KernelContext(), input, inclusive, exclusive) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, inclusive, exclusive);
+
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(taskGraph.snapshot())) {
+            executionPlan.withGridScheduler(createGridScheduler("s0.t0")).execute();
+        }
+
+        for (int group = 0; group < SIZE / BLOCK_SIZE; group++) {
+            int sum = 0;
+            for (int i = group * BLOCK_SIZE; i < (group + 1) * BLOCK_SIZE; i++) {
+                assertEquals(sum, exclusive.get(i));
+                sum += input.get(i);
+                assertEquals(sum, inclusive.get(i));
+            }
+        }
+    }
+
+    private int checkShuffleAndVotes() throws TornadoExecutionPlanException {
+        IntArray input = new IntArray(SIZE);
+        IntArray sizes = new IntArray(SIZE);
+        IntArray lanes = new IntArray(SIZE);
+        IntArray first = new IntArray(SIZE);
+        IntArray any = new IntArray(SIZE);
+        IntArray all = new IntArray(SIZE);
+        for (int i = 0; i < SIZE; i++) {
+            input.set(i, i + 1);
+        }
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, input) //
+                .task("t0", TestSubgroupCollectives::shuffleAndVote, new KernelContext(), input, sizes, lanes, first, any, all) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, sizes, lanes, first, any, all);
+
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(taskGraph.snapshot())) {
+            executionPlan.withGridScheduler(createGridScheduler("s0.t0")).execute();
+        }
+
+        int subgroupSize = sizes.get(0);
+        for (int i = 0; i < SIZE; i++) {
+            int localId = i % BLOCK_SIZE;
+            int subgroupStart = i - (localId % subgroupSize);
+            assertEquals(subgroupSize, sizes.get(i));
+            assertEquals(localId % subgroupSize, lanes.get(i));
+            assertEquals(input.get(subgroupStart), first.get(i));
+            assertEquals(localId < subgroupSize ? 1 : 0, any.get(i));
+            assertEquals(1, all.get(i));
+        }
+        return subgroupSize;
+    }
+
+    @Test
+    public void testSubgroupShuffleAndVotes() throws TornadoExecutionPlanException {
+        checkShuffleAndVotes();
+    }
+
+    /**
+     * Runs the reduction with the subgroup extensions of OpenCL disabled, as on
+     * devices without them, so the kernel is compiled with subgroups of one lane.
+     */
+    @Test
+    public void testSubgroupReduceAddIntOneLane() throws TornadoExecutionPlanException {
+        assertOpenCLBackend();
+        String subgroupsProperty = System.getProperty(SUBGROUPS_PROPERTY);
+        System.setProperty(SUBGROUPS_PROPERTY, "False");
+        try {
+            checkReduceAddInt();
+        } finally {
+            restoreSubgroupsProperty(subgroupsProperty);
+        }
+    }
+
+    @Test
+    public void testSubgroupShuffleAndVotesOneLane() throws TornadoExecutionPlanException {
+        assertOpenCLBackend();
+        String subgroupsProperty = System.getProperty(SUBGROUPS_PROPERTY);
+        System.setProperty(SUBGROUPS_PROPERTY, "False");
+        try {
+            assertEquals(1, checkShuffleAndVotes());
+        } finally {
+            restoreSubgroupsProperty(subgroupsProperty);
+        }
+    }
+
+    // The subgroup extensions can only be disabled for the OpenCL backend
+    private void assertOpenCLBackend() {
+        assertNotBackend(TornadoVMBackendType.PTX);
+        assertNotBackend(TornadoVMBackendType.CUDA);
+        assertNotBackend(TornadoVMBackendType.SPIRV);
+        assertNotBackend(TornadoVMBackendType.METAL);
+    }
+}
@@ -0,0 +1,236 @@
+/*
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.unittests.math;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import uk.ac.manchester.tornado.api.TaskGraph;
+import uk.ac.manchester.tornado.api.TornadoExecutionPlan;
+import uk.ac.manchester.tornado.api.TornadoExecutionResult;
+import uk.ac.manchester.tornado.api.annotations.Parallel;
+import uk.ac.manchester.tornado.api.common.TornadoFunctions.Task2;
+import uk.ac.manchester.tornado.api.enums.DataTransferMode;
+import uk.ac.manchester.tornado.api.enums.MathFunction;
+import uk.ac.manchester.tornado.api.enums.MathPrecision;
+import uk.ac.manchester.tornado.api.exceptions.TornadoExecutionPlanException;
+import uk.ac.manchester.tornado.api.exceptions.TornadoRuntimeException;
+import uk.ac.manchester.tornado.api.math.MathPolicy;
+import uk.ac.manchester.tornado.api.math.TornadoMath;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.api.types.utils.FloatingPointError;
+import uk.ac.manchester.tornado.unittests.common.TornadoTestBase;
+
+/**
+ * Tests for the math precision policies of an execution plan. The results
+ * obtained with the fast variants are compared against the JVM with a relative
+ * tolerance.
+ *
+ * <p>
+ * How to run?
+ * </p>
+ * <code>
+ * tornado-test -V uk.ac.manchester.tornado.unittests.math.TestMathPolicy
+ * </code>
+ */
+public class TestMathPolicy extends TornadoTestBase {
+
+    private static final int NUM_ELEMENTS = 8192;
+
+    // Relative error allowed for the native and half variants
+    private static final float FAST_TOLERANCE = 1e-2f;
+    private static final float EXACT_TOLERANCE = 1e-5f;
+
+    public static void exp(FloatArray input, FloatArray output) {
+        for (@Parallel int i = 0; i < input.getSize(); i++) {
+            output.set(i, TornadoMath.exp(input.get(i)));
+        }
+    }
+
+    public static void log(FloatArray input, FloatArray output) {
+        for (@Parallel int i = 0; i < input.getSize(); i++) {
+            output.set(i, TornadoMath.log(input.get(i)));
+        }
+    }
+
+    public static void tanh(FloatArray input, FloatArray output) {
+        for (@Parallel int i = 0; i < input.getSize(); i++) {
+            output.set(i, TornadoMath.tanh(input.get(i)));
+        }
+    }
+
+    public static void rsqrt(FloatArray input, FloatArray output) {
+        for (@Parallel int i = 0; i < input.getSize(); i++) {
+            output.set(i, 1.0f / TornadoMath.sqrt(input.get(i)));
+        }
+    }
+
+    public static void sigmoid(FloatArray input, FloatArray output) {
+        for (@Parallel int i = 0; i < input.getSize(); i++) {
+            output.set(i, TornadoMath.sigmoid(input.get(i)));
+        }
+    }
+
+    public static void gelu(FloatArray input, FloatArray output) {
+        for (@Parallel int i = 0; i < input.getSize(); i++) {
+            output.set(i, TornadoMath.gelu(input.get(i)));
+        }
+    }
+
+    private interface ReferenceFunction {
+        float apply(float value);
+    }
+
+    private static FloatArray createInput(float min, float max) {
+        Random random = new Random(7);
+        FloatArray input = new FloatArray(NUM_ELEMENTS);
+        for (int i = 0; i < NUM_ELEMENTS; i++) {
+            input.set(i, min + random.nextFloat() * (max - min));
+        }
+        return input;
+    }
+
+    private static void assertRelative(float expected, float actual, float tolerance) {
+        assertEquals(expected, actual, Math.max(Math.abs(expected) * tolerance, tolerance));
+    }
+
+    private static void runWithPolicy(Task2<FloatArray, FloatArray> task, ReferenceFunction reference, float min, float max, MathPolicy policy, float tolerance) throws TornadoExecutionPlanException {
+        FloatArray input = createInput(min, max);
+        FloatArray output = new FloatArray(NUM_ELEMENTS);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, input) //
+                .task("t0", task, input, output) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, output);
+
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(taskGraph.snapshot())) {
+            executionPlan.withMathPolicy(policy).execute();
+        }
+
+        for (int i = 0; i < NUM_ELEMENTS; i++) {
+            assertRelative(reference.apply(input.get(i)), output.get(i), tolerance);
+        }
+    }
+
+    @Test
+    public void testExactPolicy() throws TornadoExecutionPlanException {
+        runWithPolicy(TestMathPolicy::exp, v -> (float) Math.exp(v), -10, 10, MathPolicy.exact(), EXACT_TOLERANCE);
+    }
+
+    @Test
+    public void testNativeExp() throws TornadoExecutionPlanException {
+        runWithPolicy(TestMathPolicy::exp, v -> (float) Math.exp(v), -10, 10, MathPolicy.fast(), FAST_TOLERANCE);
+    }
+
+    @Test
+    public void testNativeLog() throws TornadoExecutionPlanException {
+        runWithPolicy(TestMathPolicy::log, v -> (float) Math.log(v), 0.01f, 1000, MathPolicy.fast(), FAST_TOLERANCE);
+    }
+
+    @Test
+    public void testNativeTanh() throws TornadoExecutionPlanException {
+        runWithPolicy(TestMathPolicy::tanh, v -> (float) Math.tanh(v), -5, 5, MathPolicy.fast(), FAST_TOLERANCE);
+    }
+
+    @Test
+    public void testNativeRSqrt() throws TornadoExecutionPlanException {
+        runWithPolicy(TestMathPolicy::rsqrt, v -> (float) (1.0 / Math.sqrt(v)), 0.01f, 1000, MathPolicy.fast(), FAST_TOLERANCE);
+    }
+
+    @Test
+    public void testHalfExp() throws TornadoExecutionPlanException {
+        runWithPolicy(TestMathPolicy::exp, v -> (float) Math.exp(v), -5, 5, MathPolicy.of(MathPrecision.HALF), FAST_TOLERANCE);
+    }
+
+    @Test
+    public void testNativeSigmoid() throws TornadoExecutionPlanException {
+        runWithPolicy(TestMathPolicy::sigmoid, v -> (float) (1.0 / (1.0 + Math.exp(-v))), -10, 10, MathPolicy.fast(), FAST_TOLERANCE);
+    }
+
+    @Test
+    public void testNativeGelu() throws TornadoExecutionPlanException {
+        runWithPolicy(TestMathPolicy::gelu, TornadoMath::gelu, -5, 5, MathPolicy.fast(), FAST_TOLERANCE);
+    }
+
+    @Test
+    public void testPolicyPerTask() throws TornadoExecutionPlanException {
+        FloatArray input = createInput(-10, 10);
+        FloatArray fastOutput = new FloatArray(NUM_ELEMENTS);
+        FloatArray exactOutput = new FloatArray(NUM_ELEMENTS);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, input) //
+                .task("fast", TestMathPolicy::exp, input, fastOutput) //
+                .task("exact", TestMathPolicy::exp, input, exactOutput) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, fastOutput, exactOutput);
+
+        MathPolicy policy = MathPolicy.exact().with(MathFunction.EXP, MathPrecision.NATIVE);
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(taskGraph.snapshot())) {
+            executionPlan.withMathPolicy("s0.fast", policy).execute();
+        }
+
+        for (int i = 0; i < NUM_ELEMENTS; i++) {
+            float expected = (float) Math.exp(input.get(i));
+            assertRelative(expected, fastOutput.get(i), FAST_TOLERANCE);
+            assertRelative(expected, exactOutput.get(i), EXACT_TOLERANCE);
+        }
+    }
+
+    @Test
+    public void testErrorReport() throws TornadoExecutionPlanException {
+        FloatArray input = createInput(-5, 5);
+        FloatArray output = new FloatArray(NUM_ELEMENTS);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, input) //
+                .task("t0", TestMathPolicy::exp, input, output) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, output);
+
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(taskGraph.snapshot())) {
+            TornadoExecutionResult executionResult = executionPlan.withMathPolicy(MathPolicy.fast().withErrorReport()).execute();
+            FloatingPointError error = executionResult.getMathPolicyError(output);
+            assertNotNull(error);
+            assertEquals(0, error.getErrors(), 0.0f);
+            assertTrue(error.getMaxUlp() < (1 << 16));
+
+            // Arrays that are not parameters of the task-graph do not have a report
+            assertNull(executionResult.getMathPolicyError(new FloatArray(NUM_ELEMENTS)));
+        }
+    }
+
+    @Test(expected = TornadoRuntimeException.class)
+    public void testUnknownTask() throws TornadoExecutionPlanException {
+        FloatArray input = createInput(-5, 5);
+        FloatArray output = new FloatArray(NUM_ELEMENTS);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, input) //
+                .task("t0", TestMathPolicy::exp, input, output) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, output);
+
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(taskGraph.snapshot())) {
+            executionPlan.withMathPolicy("s0.t1", MathPolicy.fast()).execute();
+        }
+    }
+}
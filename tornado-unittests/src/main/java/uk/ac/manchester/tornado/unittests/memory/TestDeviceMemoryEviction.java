@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.unittests.memory;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import uk.ac.manchester.tornado.api.TaskGraph;
+import uk.ac.manchester.tornado.api.TornadoExecutionPlan;
+import uk.ac.manchester.tornado.api.TornadoExecutionResult;
+import uk.ac.manchester.tornado.api.annotations.Parallel;
+import uk.ac.manchester.tornado.api.enums.DataTransferMode;
+import uk.ac.manchester.tornado.api.enums.ProfilerMode;
+import uk.ac.manchester.tornado.api.exceptions.TornadoExecutionPlanException;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.unittests.common.TornadoTestBase;
+
+/**
+ * Tests for the eviction of device buffers kept by an execution plan when
+ * another execution plan runs out of device memory. The device memory is
+ * limited to 28MB, so the buffers of both execution plans (8MB each) do not fit
+ * at the same time.
+ *
+ * <p>
+ * How to run?
+ * </p>
+ * <code>
+ * tornado-test --jvm="-Dtornado.device.memory=28MB" -V uk.ac.manchester.tornado.unittests.memory.TestDeviceMemoryEviction
+ * </code>
+ */
+public class TestDeviceMemoryEviction extends TornadoTestBase {
+
+    private static final int NUM_ELEMENTS = 2 * 1024 * 1024;
+
+    public static void scale(FloatArray input, FloatArray output) {
+        for (@Parallel int i = 0; i < input.getSize(); i++) {
+            output.set(i, input.get(i) * 2.0f);
+        }
+    }
+
+    public static void add(FloatArray a, FloatArray b, FloatArray c) {
+        for (@Parallel int i = 0; i < c.getSize(); i++) {
+            c.set(i, a.get(i) + b.get(i));
+        }
+    }
+
+    @Test
+    public void testEvictAndRestore() throws TornadoExecutionPlanException {
+        FloatArray x = new FloatArray(NUM_ELEMENTS);
+        FloatArray y = new FloatArray(NUM_ELEMENTS);
+        x.init(3.0f);
+
+        // y is kept on the device: it is only copied to the host under demand
+        TaskGraph taskGraphA = new TaskGraph("a") //
+                .transferToDevice(DataTransferMode.FIRST_EXECUTION, x) //
+                .task("scale", TestDeviceMemoryEviction::scale, x, y) //
+                .transferToHost(DataTransferMode.UNDER_DEMAND, y);
+
+        FloatArray a = new FloatArray(NUM_ELEMENTS);
+        FloatArray b = new FloatArray(NUM_ELEMENTS);
+        FloatArray c = new FloatArray(NUM_ELEMENTS);
+        a.init(1.0f);
+        b.init(2.0f);
+
+        TaskGraph taskGraphB = new TaskGraph("b") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, a, b) //
+                .task("add", TestDeviceMemoryEviction::add, a, b, c) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, c);
+
+        try (TornadoExecutionPlan planA = new TornadoExecutionPlan(taskGraphA.snapshot()); //
+                TornadoExecutionPlan planB = new TornadoExecutionPlan(taskGraphB.snapshot())) {
+            planA.withProfiler(ProfilerMode.SILENT).execute();
+
+            // The buffers of x and y are evicted to allocate a, b and c
+            TornadoExecutionResult resultB = planB.withProfiler(ProfilerMode.SILENT).execute();
+            assertEquals(2, resultB.getProfilerResult().getDeviceEvictions());
+            // Only y was modified on the device, so it is the only buffer written back
+            assertEquals((long) NUM_ELEMENTS * Float.BYTES, resultB.getProfilerResult().getTotalBytesPagedOut(), 64);
+            for (int i = 0; i < NUM_ELEMENTS; i++) {
+                assertEquals(3.0f, c.get(i), 0.001f);
+                assertEquals(6.0f, y.get(i), 0.001f);
+            }
+
+            // x is not copied again by planA (FIRST_EXECUTION): it is restored from its host copy
+            y.init(0.0f);
+            TornadoExecutionResult resultA = planA.execute();
+            assertTrue(resultA.getProfilerResult().getTotalBytesPagedIn() >= (long) NUM_ELEMENTS * Float.BYTES);
+            resultA.transferToHost(y);
+            for (int i = 0; i < NUM_ELEMENTS; i++) {
+                assertEquals(6.0f, y.get(i), 0.001f);
+            }
+        }
+    }
+
+    @Test
+    public void testNoEvictionWithinPlan() throws TornadoExecutionPlanException {
+        FloatArray a = new FloatArray(NUM_ELEMENTS);
+        FloatArray b = new FloatArray(NUM_ELEMENTS);
+        FloatArray c = new FloatArray(NUM_ELEMENTS);
+        a.init(1.0f);
+        b.init(2.0f);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, a, b) //
+                .task("add", TestDeviceMemoryEviction::add, a, b, c) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, c);
+
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(taskGraph.snapshot())) {
+            for (int i = 0; i < 3; i++) {
+                TornadoExecutionResult result = executionPlan.withProfiler(ProfilerMode.SILENT).execute();
+                assertEquals(0, result.getProfilerResult().getDeviceEvictions());
+            }
+        }
+        for (int i = 0; i < NUM_ELEMENTS; i++) {
+            assertEquals(3.0f, c.get(i), 0.001f);
+        }
+    }
+}
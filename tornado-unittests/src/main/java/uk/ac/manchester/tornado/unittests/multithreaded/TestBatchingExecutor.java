@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.unittests.multithreaded;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import uk.ac.manchester.tornado.api.BatchingExecutor;
+import uk.ac.manchester.tornado.api.GridScheduler;
+import uk.ac.manchester.tornado.api.TaskGraph;
+import uk.ac.manchester.tornado.api.TornadoExecutionPlan;
+import uk.ac.manchester.tornado.api.WorkerGrid;
+import uk.ac.manchester.tornado.api.WorkerGrid1D;
+import uk.ac.manchester.tornado.api.annotations.Parallel;
+import uk.ac.manchester.tornado.api.enums.DataTransferMode;
+import uk.ac.manchester.tornado.api.exceptions.TornadoRuntimeException;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.api.types.arrays.IntArray;
+import uk.ac.manchester.tornado.unittests.common.TornadoTestBase;
+
+/**
+ * Tests for the {@link BatchingExecutor}, which packs concurrent requests into
+ * a single execution of a plan.
+ *
+ * <p>
+ * How to run?
+ * </p>
+ * <code>
+ * tornado-test -V uk.ac.manchester.tornado.unittests.multithreaded.TestBatchingExecutor
+ * </code>
+ */
+public class TestBatchingExecutor extends TornadoTestBase {
+
+    private static final int MAX_BATCH_SIZE = 16;
+    private static final int REQUEST_SIZE = 256;
+    private static final int NUM_REQUESTS = 128;
+    private static final int NUM_THREADS = 8;
+
+    public static void scale(FloatArray input, FloatArray output) {
+        for (@Parallel int i = 0; i < output.getSize(); i++) {
+            output.set(i, input.get(i) * 2.0f + 1.0f);
+        }
+    }
+
+    private static TaskGraph createTaskGraph(FloatArray batchedInput, FloatArray batchedOutput) {
+        return new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, batchedInput) //
+                .task("t0", TestBatchingExecutor::scale, batchedInput, batchedOutput) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, batchedOutput);
+    }
+
+    private static void submitConcurrently(BatchingExecutor executor) throws Exception {
+        ExecutorService threads = Executors.newFixedThreadPool(NUM_THREADS);
+        List<Future<FloatArray[]>> requests = new ArrayList<>();
+        for (int request = 0; request < NUM_REQUESTS; request++) {
+            final int id = request;
+            requests.add(threads.submit(() -> {
+                FloatArray input = new FloatArray(REQUEST_SIZE);
+                FloatArray output = new FloatArray(REQUEST_SIZE);
+                input.init(id);
+                executor.submit(new Object[] { input }, new Object[] { output }).get(30, TimeUnit.SECONDS);
+                return new FloatArray[] { input, output };
+            }));
+        }
+        for (Future<FloatArray[]> request : requests) {
+            FloatArray[] arrays = request.get();
+            for (int i = 0; i < REQUEST_SIZE; i++) {
+                assertEquals(arrays[0].get(i) * 2.0f + 1.0f, arrays[1].get(i), 0.001f);
+            }
+        }
+        threads.shutdown();
+    }
+
+    @Test
+    public void testConcurrentRequests() throws Exception {
+        FloatArray batchedInput = new FloatArray(MAX_BATCH_SIZE * REQUEST_SIZE);
+        FloatArray batchedOutput = new FloatArray(MAX_BATCH_SIZE * REQUEST_SIZE);
+
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(createTaskGraph(batchedInput, batchedOutput).snapshot()); //
+                BatchingExecutor executor = new BatchingExecutor(executionPlan, MAX_BATCH_SIZE) //
+                        .withInputs(batchedInput) //
+                        .withOutputs(batchedOutput) //
+                        .withMaxDelay(2, TimeUnit.MILLISECONDS)) {
+            submitConcurrently(executor);
+            assertEquals(NUM_REQUESTS, executor.getNumRequests());
+            assertTrue(executor.getNumBatches() <= NUM_REQUESTS);
+            assertTrue(executor.getAverageBatchSize() >= 1.0);
+        }
+    }
+
+    @Test
+    public void testConcurrentRequestsWithWorkerGrid() throws Exception {
+        FloatArray batchedInput = new FloatArray(MAX_BATCH_SIZE * REQUEST_SIZE);
+        FloatArray batchedOutput = new FloatArray(MAX_BATCH_SIZE * REQUEST_SIZE);
+        WorkerGrid workerGrid = new WorkerGrid1D(MAX_BATCH_SIZE * REQUEST_SIZE);
+        GridScheduler gridScheduler = new GridScheduler("s0.t0", workerGrid);
+
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(createTaskGraph(batchedInput, batchedOutput).snapshot()); //
+                BatchingExecutor executor = new BatchingExecutor(executionPlan.withGridScheduler(gridScheduler), MAX_BATCH_SIZE) //
+                        .withInputs(batchedInput) //
+                        .withOutputs(batchedOutput) //
+                        .withWorkerGrid(workerGrid, REQUEST_SIZE)) {
+            submitConcurrently(executor);
+            assertEquals(NUM_REQUESTS, executor.getNumRequests());
+        }
+    }
+
+    @Test
+    public void testOneRequestPerBatch() throws Exception {
+        FloatArray batchedInput = new FloatArray(REQUEST_SIZE);
+        FloatArray batchedOutput = new FloatArray(REQUEST_SIZE);
+
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(createTaskGraph(batchedInput, batchedOutput).snapshot()); //
+                BatchingExecutor executor = new BatchingExecutor(executionPlan, 1) //
+                        .withInputs(batchedInput) //
+                        .withOutputs(batchedOutput)) {
+            List<CompletableFuture<Void>> futures = new ArrayList<>();
+            for (int request = 0; request < 4; request++) {
+                FloatArray input = new FloatArray(REQUEST_SIZE);
+                input.init(request);
+                futures.add(executor.submit(new Object[] { input }, new Object[] { new FloatArray(REQUEST_SIZE) }));
+            }
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(30, TimeUnit.SECONDS);
+            assertEquals(4, executor.getNumBatches());
+            assertEquals(1.0, executor.getAverageBatchSize(), 0.0);
+        }
+    }
+
+    @Test(expected = TornadoRuntimeException.class)
+    public void testRequestSizeMismatch() throws Exception {
+        FloatArray batchedInput = new FloatArray(MAX_BATCH_SIZE * REQUEST_SIZE);
+        FloatArray batchedOutput = new FloatArray(MAX_BATCH_SIZE * REQUEST_SIZE);
+
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(createTaskGraph(batchedInput, batchedOutput).snapshot()); //
+                BatchingExecutor executor = new BatchingExecutor(executionPlan, MAX_BATCH_SIZE) //
+                        .withInputs(batchedInput) //
+                        .withOutputs(batchedOutput)) {
+            executor.submit(new Object[] { new FloatArray(REQUEST_SIZE + 1) }, new Object[] { new FloatArray(REQUEST_SIZE) });
+        }
+    }
+
+    @Test(expected = TornadoRuntimeException.class)
+    public void testRequestTypeMismatch() throws Exception {
+        FloatArray batchedInput = new FloatArray(MAX_BATCH_SIZE * REQUEST_SIZE);
+        FloatArray batchedOutput = new FloatArray(MAX_BATCH_SIZE * REQUEST_SIZE);
+
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(createTaskGraph(batchedInput, batchedOutput).snapshot()); //
+                BatchingExecutor executor = new BatchingExecutor(executionPlan, MAX_BATCH_SIZE) //
+                        .withInputs(batchedInput) //
+                        .withOutputs(batchedOutput)) {
+            executor.submit(new Object[] { new IntArray(REQUEST_SIZE) }, new Object[] { new FloatArray(REQUEST_SIZE) });
+        }
+    }
+}
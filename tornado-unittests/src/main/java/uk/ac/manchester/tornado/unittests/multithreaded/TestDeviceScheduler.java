@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.unittests.multithreaded;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Test;
+
+import uk.ac.manchester.tornado.api.TaskGraph;
+import uk.ac.manchester.tornado.api.TornadoExecutionPlan;
+import uk.ac.manchester.tornado.api.TornadoExecutionResult;
+import uk.ac.manchester.tornado.api.annotations.Parallel;
+import uk.ac.manchester.tornado.api.common.TornadoDevice;
+import uk.ac.manchester.tornado.api.enums.DataTransferMode;
+import uk.ac.manchester.tornado.api.enums.ProfilerMode;
+import uk.ac.manchester.tornado.api.exceptions.TornadoExecutionPlanException;
+import uk.ac.manchester.tornado.api.exceptions.TornadoRuntimeException;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.unittests.common.TornadoTestBase;
+
+/**
+ * Tests for execution plans that share a device through the device scheduler,
+ * with different priorities and weights. The scheduler admits one kernel at a
+ * time.
+ *
+ * <p>
+ * How to run?
+ * </p>
+ * <code>
+ * tornado-test --jvm="-Dtornado.device.scheduler.max.inflight=1" -V uk.ac.manchester.tornado.unittests.multithreaded.TestDeviceScheduler
+ * </code>
+ */
+public class TestDeviceScheduler extends TornadoTestBase {
+
+    private static final int NUM_ELEMENTS = 1024 * 1024;
+    private static final int NUM_EXECUTIONS = 20;
+
+    public static void saxpy(float alpha, FloatArray x, FloatArray y) {
+        for (@Parallel int i = 0; i < y.getSize(); i++) {
+            y.set(i, alpha * x.get(i) + y.get(i));
+        }
+    }
+
+    private static long runPlan(int id, int priority, int weight) throws TornadoExecutionPlanException {
+        FloatArray x = new FloatArray(NUM_ELEMENTS);
+        FloatArray y = new FloatArray(NUM_ELEMENTS);
+        x.init(1.0f);
+
+        TaskGraph taskGraph = new TaskGraph("s" + id) //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, x, y) //
+                .task("t0", TestDeviceScheduler::saxpy, 2.0f, x, y) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, y);
+
+        long maxQueueDepth = 0;
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(taskGraph.snapshot())) {
+            executionPlan.withPriority(priority, weight).withProfiler(ProfilerMode.SILENT);
+            for (int execution = 0; execution < NUM_EXECUTIONS; execution++) {
+                y.init(1.0f);
+                TornadoExecutionResult executionResult = executionPlan.execute();
+                assertTrue(executionResult.getProfilerResult().getSchedulerWaitTime() >= 0);
+                maxQueueDepth = Math.max(maxQueueDepth, executionResult.getProfilerResult().getSchedulerQueueDepth());
+                for (int i = 0; i < NUM_ELEMENTS; i++) {
+                    assertEquals(3.0f, y.get(i), 0.001f);
+                }
+            }
+        }
+        return maxQueueDepth;
+    }
+
+    @Test
+    public void testPlansWithPriorities() throws InterruptedException, ExecutionException {
+        final int numBulkPlans = 4;
+        ExecutorService threads = Executors.newFixedThreadPool(numBulkPlans + 1);
+        List<Future<Long>> queueDepths = new ArrayList<>();
+        try {
+            for (int i = 0; i < numBulkPlans; i++) {
+                final int id = i;
+                queueDepths.add(threads.submit(() -> runPlan(id, 0, 1 + id % 2)));
+            }
+            queueDepths.add(threads.submit(() -> runPlan(numBulkPlans, 10, 1)));
+            for (Future<Long> queueDepth : queueDepths) {
+                // Every launch is counted in the queue when the scheduler is enabled
+                assertTrue(queueDepth.get() >= 1);
+            }
+        } finally {
+            threads.shutdown();
+        }
+
+        TornadoDevice device = getTornadoRuntime().getDefaultDevice();
+        assertEquals(0, device.getLaunchQueueDepth());
+        assertEquals(0, device.getLaunchesInFlight());
+    }
+
+    @Test(expected = TornadoRuntimeException.class)
+    public void testInvalidWeight() throws TornadoExecutionPlanException {
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .task("t0", TestDeviceScheduler::saxpy, 2.0f, new FloatArray(16), new FloatArray(16));
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(taskGraph.snapshot())) {
+            executionPlan.withPriority(1, 0);
+        }
+    }
+}
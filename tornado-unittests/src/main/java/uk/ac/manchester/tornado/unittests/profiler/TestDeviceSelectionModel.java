@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.unittests.profiler;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+import uk.ac.manchester.tornado.api.ImmutableTaskGraph;
+import uk.ac.manchester.tornado.api.TaskGraph;
+import uk.ac.manchester.tornado.api.TornadoExecutionPlan;
+import uk.ac.manchester.tornado.api.annotations.Parallel;
+import uk.ac.manchester.tornado.api.enums.DataTransferMode;
+import uk.ac.manchester.tornado.api.exceptions.TornadoExecutionPlanException;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.unittests.common.TornadoTestBase;
+
+/**
+ * Tests that task-graphs produce correct results when the device is selected by
+ * the learned device-selection model.
+ *
+ * <p>
+ * How to run?
+ * </p>
+ * <code>
+ * tornado-test -V --jvm="-Dtornado.costmodel.enable=True -Dtornado.costmodel.min.samples=1" uk.ac.manchester.tornado.unittests.profiler.TestDeviceSelectionModel
+ * </code>
+ */
+public class TestDeviceSelectionModel extends TornadoTestBase {
+
+    private static final int ITERATIONS = 5;
+
+    private static void saxpy(float alpha, FloatArray x, FloatArray y, FloatArray z) {
+        for (@Parallel int i = 0; i < x.getSize(); i++) {
+            z.set(i, alpha * x.get(i) + y.get(i));
+        }
+    }
+
+    private static void multiply(FloatArray x, FloatArray y, FloatArray z) {
+        for (@Parallel int i = 0; i < x.getSize(); i++) {
+            z.set(i, x.get(i) * y.get(i));
+        }
+    }
+
+    private static void runSaxpy(int size) throws TornadoExecutionPlanException {
+        FloatArray x = new FloatArray(size);
+        FloatArray y = new FloatArray(size);
+        FloatArray z = new FloatArray(size);
+        x.init(2.0f);
+        y.init(1.0f);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, x, y) //
+                .task("t0", TestDeviceSelectionModel::saxpy, 3.0f, x, y, z) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, z);
+
+        ImmutableTaskGraph immutableTaskGraph = taskGraph.snapshot();
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(immutableTaskGraph)) {
+            for (int iteration = 0; iteration < ITERATIONS; iteration++) {
+                z.init(0.0f);
+                executionPlan.execute();
+                for (int i = 0; i < size; i++) {
+                    assertEquals(7.0f, z.get(i), 0.001f);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testDeviceSelectionSameTaskGraph() throws TornadoExecutionPlanException {
+        // The first plan trains the model, the second plan uses it to select the device
+        runSaxpy(4096);
+        runSaxpy(4096);
+    }
+
+    @Test
+    public void testDeviceSelectionDifferentSizes() throws TornadoExecutionPlanException {
+        runSaxpy(1024);
+        runSaxpy(1 << 20);
+        runSaxpy(1024);
+    }
+
+    @Test
+    public void testDeviceSelectionMultipleTasks() throws TornadoExecutionPlanException {
+        final int size = 8192;
+        FloatArray x = new FloatArray(size);
+        FloatArray y = new FloatArray(size);
+        FloatArray z = new FloatArray(size);
+        FloatArray w = new FloatArray(size);
+        x.init(2.0f);
+        y.init(1.0f);
+
+        for (int plan = 0; plan < 2; plan++) {
+            TaskGraph taskGraph = new TaskGraph("s1") //
+                    .transferToDevice(DataTransferMode.EVERY_EXECUTION, x, y) //
+                    .task("t0", TestDeviceSelectionModel::saxpy, 3.0f, x, y, z) //
+                    .task("t1", TestDeviceSelectionModel::multiply, z, x, w) //
+                    .transferToHost(DataTransferMode.EVERY_EXECUTION, w);
+
+            ImmutableTaskGraph immutableTaskGraph = taskGraph.snapshot();
+            try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(immutableTaskGraph)) {
+                for (int iteration = 0; iteration < ITERATIONS; iteration++) {
+                    w.init(0.0f);
+                    executionPlan.execute();
+                    for (int i = 0; i < size; i++) {
+                        assertEquals(14.0f, w.get(i), 0.001f);
+                    }
+                }
+            }
+        }
+    }
+}
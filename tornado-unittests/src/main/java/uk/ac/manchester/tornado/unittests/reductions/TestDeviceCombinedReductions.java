@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.unittests.reductions;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+import uk.ac.manchester.tornado.api.ImmutableTaskGraph;
+import uk.ac.manchester.tornado.api.TaskGraph;
+import uk.ac.manchester.tornado.api.TornadoExecutionPlan;
+import uk.ac.manchester.tornado.api.annotations.Parallel;
+import uk.ac.manchester.tornado.api.annotations.Reduce;
+import uk.ac.manchester.tornado.api.enums.DataTransferMode;
+import uk.ac.manchester.tornado.api.exceptions.TornadoExecutionPlanException;
+import uk.ac.manchester.tornado.api.math.TornadoMath;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.api.types.arrays.IntArray;
+import uk.ac.manchester.tornado.unittests.common.TornadoTestBase;
+
+/**
+ * Tests for reductions whose partial results are combined by a second task on
+ * the same device, which writes the final value directly into the reduce
+ * variable. The same tests run with
+ * {@code -Dtornado.reduce.device.combine=False} to check the host-side fallback.
+ *
+ * <p>
+ * How to run?
+ * </p>
+ * <code>
+ * tornado-test -V uk.ac.manchester.tornado.unittests.reductions.TestDeviceCombinedReductions
+ * </code>
+ */
+public class TestDeviceCombinedReductions extends TornadoTestBase {
+
+    private static final int SIZE = 8192;
+
+    private static void sum(IntArray input, @Reduce IntArray result) {
+        result.set(0, 0);
+        for (@Parallel int i = 0; i < input.getSize(); i++) {
+            result.set(0, result.get(0) + input.get(i));
+        }
+    }
+
+    private static void max(FloatArray input, @Reduce FloatArray result) {
+        for (@Parallel int i = 0; i < input.getSize(); i++) {
+            result.set(0, TornadoMath.max(result.get(0), input.get(i)));
+        }
+    }
+
+    private static void scale(IntArray result, IntArray output) {
+        for (@Parallel int i = 0; i < output.getSize(); i++) {
+            output.set(i, result.get(0) * i);
+        }
+    }
+
+    @Test
+    public void testDeviceCombinedSum() throws TornadoExecutionPlanException {
+        IntArray input = new IntArray(SIZE);
+        IntArray result = new IntArray(1);
+        for (int i = 0; i < SIZE; i++) {
+            input.set(i, i % 7);
+        }
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, input) //
+                .task("t0", TestDeviceCombinedReductions::sum, input, result) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, result);
+
+        ImmutableTaskGraph immutableTaskGraph = taskGraph.snapshot();
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(immutableTaskGraph)) {
+            // The reduce variable is reset in every execution
+            for (int execution = 0; execution < 3; execution++) {
+                executionPlan.execute();
+
+                int expected = 0;
+                for (int i = 0; i < SIZE; i++) {
+                    expected += input.get(i);
+                }
+                assertEquals(expected, result.get(0));
+                input.set(execution, input.get(execution) + 1);
+            }
+        }
+    }
+
+    @Test
+    public void testDeviceCombinedMax() throws TornadoExecutionPlanException {
+        FloatArray input = new FloatArray(SIZE);
+        FloatArray result = new FloatArray(1);
+        for (int i = 0; i < SIZE; i++) {
+            input.set(i, (i * 31) % 1000);
+        }
+        result.set(0, Float.MIN_VALUE);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, input) //
+                .task("t0", TestDeviceCombinedReductions::max, input, result) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, result);
+
+        ImmutableTaskGraph immutableTaskGraph = taskGraph.snapshot();
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(immutableTaskGraph)) {
+            executionPlan.execute();
+        }
+
+        float expected = Float.MIN_VALUE;
+        for (int i = 0; i < SIZE; i++) {
+            expected = Math.max(expected, input.get(i));
+        }
+        assertEquals(expected, result.get(0), 0.01f);
+    }
+
+    @Test
+    public void testDeviceCombinedConsumedByNextTask() throws TornadoExecutionPlanException {
+        IntArray input = new IntArray(SIZE);
+        IntArray result = new IntArray(1);
+        IntArray output = new IntArray(SIZE);
+        input.init(1);
+
+        // The second task reads the final value of the reduction on the device
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, input) //
+                .task("t0", TestDeviceCombinedReductions::sum, input, result) //
+                .task("t1", TestDeviceCombinedReductions::scale, result, output) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, result, output);
+
+        ImmutableTaskGraph immutableTaskGraph = taskGraph.snapshot();
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(immutableTaskGraph)) {
+            executionPlan.execute();
+        }
+
+        assertEquals(SIZE, result.get(0));
+        for (int i = 0; i < SIZE; i++) {
+            assertEquals(SIZE * i, output.get(i));
+        }
+    }
+
+    @Test
+    public void testNonPowerOfTwoSize() throws TornadoExecutionPlanException {
+        // The input is split between the host and the device, so the final value
+        // is still merged on the host
+        final int size = SIZE + 100;
+        IntArray input = new IntArray(size);
+        IntArray result = new IntArray(1);
+        input.init(2);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, input) //
+                .task("t0", TestDeviceCombinedReductions::sum, input, result) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, result);
+
+        ImmutableTaskGraph immutableTaskGraph = taskGraph.snapshot();
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(immutableTaskGraph)) {
+            executionPlan.execute();
+        }
+
+        assertEquals(2 * size, result.get(0));
+    }
+}
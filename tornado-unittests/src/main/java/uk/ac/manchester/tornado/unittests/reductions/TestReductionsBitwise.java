@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.unittests.reductions;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+import uk.ac.manchester.tornado.api.ImmutableTaskGraph;
+import uk.ac.manchester.tornado.api.TaskGraph;
+import uk.ac.manchester.tornado.api.TornadoExecutionPlan;
+import uk.ac.manchester.tornado.api.annotations.Parallel;
+import uk.ac.manchester.tornado.api.annotations.Reduce;
+import uk.ac.manchester.tornado.api.enums.DataTransferMode;
+import uk.ac.manchester.tornado.api.exceptions.TornadoExecutionPlanException;
+import uk.ac.manchester.tornado.api.types.arrays.IntArray;
+import uk.ac.manchester.tornado.api.types.arrays.LongArray;
+import uk.ac.manchester.tornado.unittests.common.TornadoTestBase;
+
+/**
+ * Tests for reductions with the bitwise operators AND, OR and XOR.
+ *
+ * <p>
+ * How to run?
+ * </p>
+ * <code>
+ * tornado-test -V uk.ac.manchester.tornado.unittests.reductions.TestReductionsBitwise
+ * </code>
+ */
+public class TestReductionsBitwise extends TornadoTestBase {
+
+    private static final int SIZE = 4096;
+
+    private static void reductionAnd(IntArray input, @Reduce IntArray result) {
+        for (@Parallel int i = 0; i < input.getSize(); i++) {
+            result.set(0, result.get(0) & input.get(i));
+        }
+    }
+
+    private static void reductionOr(IntArray input, @Reduce IntArray result) {
+        for (@Parallel int i = 0; i < input.getSize(); i++) {
+            result.set(0, result.get(0) | input.get(i));
+        }
+    }
+
+    private static void reductionXor(LongArray input, @Reduce LongArray result) {
+        for (@Parallel int i = 0; i < input.getSize(); i++) {
+            result.set(0, result.get(0) ^ input.get(i));
+        }
+    }
+
+    private static int allFlags(int a, int b) {
+        return a & b;
+    }
+
+    private static void reductionWithCombineMethod(IntArray input, @Reduce IntArray result) {
+        for (@Parallel int i = 0; i < input.getSize(); i++) {
+            result.set(0, allFlags(result.get(0), input.get(i)));
+        }
+    }
+
+    private static void execute(TaskGraph taskGraph) throws TornadoExecutionPlanException {
+        ImmutableTaskGraph immutableTaskGraph = taskGraph.snapshot();
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(immutableTaskGraph)) {
+            executionPlan.execute();
+        }
+    }
+
+    @Test
+    public void testReduceAnd() throws TornadoExecutionPlanException {
+        IntArray input = new IntArray(SIZE);
+        IntArray result = new IntArray(1);
+        for (int i = 0; i < SIZE; i++) {
+            input.set(i, 0xFF0F | (1 << (i % 8)));
+        }
+        // Identity of AND: all bits set
+        result.set(0, -1);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, input) //
+                .task("t0", TestReductionsBitwise::reductionAnd, input, result) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, result);
+        execute(taskGraph);
+
+        int expected = -1;
+        for (int i = 0; i < SIZE; i++) {
+            expected &= input.get(i);
+        }
+        assertEquals(expected, result.get(0));
+    }
+
+    @Test
+    public void testReduceOr() throws TornadoExecutionPlanException {
+        IntArray input = new IntArray(SIZE);
+        IntArray result = new IntArray(1);
+        for (int i = 0; i < SIZE; i++) {
+            input.set(i, 1 << (i % 31));
+        }
+        result.set(0, 0);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, input) //
+                .task("t0", TestReductionsBitwise::reductionOr, input, result) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, result);
+        execute(taskGraph);
+
+        int expected = 0;
+        for (int i = 0; i < SIZE; i++) {
+            expected |= input.get(i);
+        }
+        assertEquals(expected, result.get(0));
+    }
+
+    @Test
+    public void testReduceXor() throws TornadoExecutionPlanException {
+        LongArray input = new LongArray(SIZE);
+        LongArray result = new LongArray(1);
+        for (int i = 0; i < SIZE; i++) {
+            input.set(i, (long) i * 0x9E3779B97F4A7C15L);
+        }
+        result.set(0, 0L);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, input) //
+                .task("t0", TestReductionsBitwise::reductionXor, input, result) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, result);
+        execute(taskGraph);
+
+        long expected = 0L;
+        for (int i = 0; i < SIZE; i++) {
+            expected ^= input.get(i);
+        }
+        assertEquals(expected, result.get(0));
+    }
+
+    @Test
+    public void testReduceWithCombineMethod() throws TornadoExecutionPlanException {
+        // All flags are set except one, so the result is 0
+        IntArray input = new IntArray(SIZE);
+        IntArray result = new IntArray(1);
+        input.init(1);
+        input.set(SIZE / 2, 0);
+        result.set(0, 1);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, input) //
+                .task("t0", TestReductionsBitwise::reductionWithCombineMethod, input, result) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, result);
+        execute(taskGraph);
+
+        assertEquals(0, result.get(0));
+    }
+}
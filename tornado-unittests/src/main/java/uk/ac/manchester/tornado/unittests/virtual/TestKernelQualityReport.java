@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.unittests.virtual;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Test;
+
+import uk.ac.manchester.tornado.api.ImmutableTaskGraph;
+import uk.ac.manchester.tornado.api.TaskGraph;
+import uk.ac.manchester.tornado.api.TornadoExecutionPlan;
+import uk.ac.manchester.tornado.api.annotations.Parallel;
+import uk.ac.manchester.tornado.api.enums.DataTransferMode;
+import uk.ac.manchester.tornado.api.exceptions.TornadoExecutionPlanException;
+import uk.ac.manchester.tornado.unittests.common.TornadoTestBase;
+
+/**
+ * <p>
+ * How to run?
+ * </p>
+ * <code>
+ * tornado-test -V --jvm="-Dtornado.device.desc=virtual-device-GPU.json -Dtornado.virtual.device=True
+ * -Dtornado.kernel.quality.report=kernelQuality.csv" uk.ac.manchester.tornado.unittests.virtual.TestKernelQualityReport
+ * </code>
+ */
+public class TestKernelQualityReport extends TornadoTestBase {
+
+    private static final String REPORT_FILE = System.getProperty("tornado.kernel.quality.report");
+    private static final int SIZE = 1024;
+
+    private static void vectorAdd(float[] a, float[] b, float[] c) {
+        for (@Parallel int i = 0; i < c.length; i++) {
+            c[i] = a[i] + b[i];
+        }
+    }
+
+    @After
+    public void after() {
+        if (REPORT_FILE != null) {
+            File report = new File(REPORT_FILE);
+            if (report.exists()) {
+                report.delete();
+            }
+        }
+    }
+
+    @Test
+    public void testKernelQualityReport() throws TornadoExecutionPlanException, IOException {
+        assertNotNull("The test must be run with -Dtornado.kernel.quality.report", REPORT_FILE);
+
+        float[] a = new float[SIZE];
+        float[] b = new float[SIZE];
+        float[] c = new float[SIZE];
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, a, b) //
+                .task("t0", TestKernelQualityReport::vectorAdd, a, b, c) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, c);
+
+        ImmutableTaskGraph immutableTaskGraph = taskGraph.snapshot();
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(immutableTaskGraph)) {
+            executionPlan.execute();
+        }
+
+        List<String> lines = Files.readAllLines(Paths.get(REPORT_FILE));
+        assertTrue(lines.size() >= 2);
+
+        List<String> header = Arrays.asList(lines.get(0).split(","));
+        assertEquals(List.of("backend", "kernel", "device"), header.subList(0, 3));
+
+        String[] row = lines.stream() //
+                .map(line -> line.split(",")) //
+                .filter(columns -> columns[1].endsWith("TestKernelQualityReport.vectorAdd")) //
+                .findFirst() //
+                .orElseThrow(() -> new AssertionError("Kernel not found in the report"));
+        assertEquals(header.size(), row.length);
+        assertTrue(Long.parseLong(row[header.indexOf("totalNs")]) > 0);
+        assertTrue(Long.parseLong(row[header.indexOf("codeBytes")]) > 0);
+        assertTrue(Long.parseLong(row[header.indexOf("instructions")]) > 0);
+        assertTrue(Long.parseLong(row[header.indexOf("GLOBAL_LOADS")]) >= 2);
+        assertTrue(Long.parseLong(row[header.indexOf("GLOBAL_STORES")]) >= 1);
+    }
+}
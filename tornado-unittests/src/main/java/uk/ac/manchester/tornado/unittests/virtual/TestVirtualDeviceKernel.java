@@ -19,9 +19,16 @@ package uk.ac.manchester.tornado.unittests.virtual;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import org.junit.After;
 import org.junit.Assert;
@@ -32,6 +39,7 @@ import uk.ac.manchester.tornado.api.TaskGraph;
 import uk.ac.manchester.tornado.api.TornadoExecutionPlan;
 import uk.ac.manchester.tornado.api.annotations.Parallel;
 import uk.ac.manchester.tornado.api.annotations.Reduce;
+import uk.ac.manchester.tornado.api.common.TornadoDevice;
 import uk.ac.manchester.tornado.api.enums.DataTransferMode;
 import uk.ac.manchester.tornado.api.enums.TornadoVMBackendType;
 import uk.ac.manchester.tornado.api.exceptions.TornadoExecutionPlanException;
@@ -44,12 +52,14 @@ import uk.ac.manchester.tornado.unittests.common.TornadoTestBase;
  * </p>
  * <code>
  * tornado-test -V --jvm="-Dtornado.device.desc=virtual-device-GPU.json -Dtornado.printKernel=True -Dtornado.virtual.device=True
- * -Dtornado.print.kernel.dir=virtualKernelOut.out" uk.ac.manchester.tornado.unittests.virtual.TestVirtualDeviceKernel
+ * -Dtornado.print.kernel.dir=virtualKernelOut.out -Dtornado.aot.output=virtualKernelBundle" uk.ac.manchester.tornado.unittests.virtual.TestVirtualDeviceKernel
  * </code>
  */
 public class TestVirtualDeviceKernel extends TornadoTestBase {
 
     private static final String SOURCE_DIR = System.getProperty("tornado.print.kernel.dir");
+    private static final String DEVICE_DESCRIPTOR = System.getProperty("tornado.device.desc");
+    private static final String BUNDLE_DIR = System.getProperty("tornado.aot.output");
     private static final int SIZE = 8192;
 
     private static void maxReduction(float[] input, @Reduce float[] result) {
@@ -69,7 +79,7 @@ public class TestVirtualDeviceKernel extends TornadoTestBase {
         }
     }
 
-    private void testVirtualDeviceKernel(String expectedCodeFile) throws TornadoExecutionPlanException {
+    private void compileMaxReduction() throws TornadoExecutionPlanException {
         float[] input = new float[SIZE];
         float[] result = new float[1];
         IntStream.range(0, SIZE).forEach(idx -> input[idx] = idx);
@@ -85,6 +95,10 @@ public class TestVirtualDeviceKernel extends TornadoTestBase {
         try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(immutableTaskGraph)) {
             executionPlan.execute();
         }
+    }
+
+    private void testVirtualDeviceKernel(String expectedCodeFile) throws TornadoExecutionPlanException {
+        compileMaxReduction();
 
         String tornadoSDK = System.getenv("TORNADOVM_HOME");
         String filePath = tornadoSDK + "/examples/generated/virtualDevice/" + expectedCodeFile;
@@ -115,4 +129,90 @@ public class TestVirtualDeviceKernel extends TornadoTestBase {
         String kernelFile = coops ? "virtualDeviceKernelGPU.cl" : "virtualDeviceKernelGPU_uncompressed.cl";
         testVirtualDeviceKernel(kernelFile);
     }
+
+    private static String readDescriptorValue(String descriptor, String key) {
+        Matcher matcher = Pattern.compile("\"" + key + "\"\\s*:\\s*\"?([^\",}]*)").matcher(descriptor);
+        return matcher.find() ? matcher.group(1).trim() : null;
+    }
+
+    /**
+     * Virtual devices report {@link TornadoVMBackendType#VIRTUAL}. The backend
+     * that generates the code is the one of the driver the device belongs to.
+     */
+    private static TornadoVMBackendType getCodeGenerationBackend(TornadoDevice device) {
+        return getTornadoRuntime().getBackend(device.getBackendIndex()).getBackendType();
+    }
+
+    private static String getKernelSignature(TornadoVMBackendType backend) {
+        return switch (backend) {
+            case OPENCL -> "__kernel void";
+            case CUDA -> "__global__";
+            case PTX -> ".entry";
+            case SPIRV -> "OpEntryPoint";
+            case METAL -> "kernel void";
+            default -> throw new IllegalArgumentException("Backend without virtual devices: " + backend);
+        };
+    }
+
+    /**
+     * Virtual devices of all backends must emit the generated code without any
+     * accelerator installed. The code must contain a kernel of the backend for
+     * the task, and the device must expose the properties of the JSON
+     * descriptor.
+     */
+    @Test
+    public void testVirtualDeviceCodeGeneration() throws TornadoExecutionPlanException, IOException {
+        Assert.assertNotNull("tornado.print.kernel.dir must be set", SOURCE_DIR);
+        Assert.assertNotNull("tornado.device.desc must be set", DEVICE_DESCRIPTOR);
+        compileMaxReduction();
+
+        File fileLog = new File(SOURCE_DIR);
+        Assert.assertTrue("No kernel generated by the virtual device", fileLog.exists());
+        String code = Files.readString(fileLog.toPath());
+
+        TornadoDevice device = TornadoExecutionPlan.DEFAULT_DEVICE;
+        TornadoVMBackendType backend = getCodeGenerationBackend(device);
+        Assert.assertTrue("The generated code is not a kernel of " + backend, code.contains(getKernelSignature(backend)));
+        Assert.assertTrue("The generated code does not contain the task", code.contains("maxReduction"));
+
+        String descriptor = Files.readString(Paths.get(DEVICE_DESCRIPTOR));
+        Assert.assertEquals(readDescriptorValue(descriptor, "deviceName"), device.getPhysicalDevice().getDeviceName());
+        String doubleFPSupport = readDescriptorValue(descriptor, "doubleFPSupport");
+        if (doubleFPSupport != null) {
+            Assert.assertEquals(Boolean.parseBoolean(doubleFPSupport), device.getDeviceContext().isFP64Supported());
+        }
+        String localMemorySize = readDescriptorValue(descriptor, "localMemorySize");
+        if (localMemorySize != null) {
+            Assert.assertEquals(Long.parseLong(localMemorySize), device.getDeviceLocalMemorySize());
+        }
+    }
+
+    /**
+     * Kernels compiled by a virtual device are recorded in the kernel bundle with
+     * the same code that is dumped.
+     */
+    @Test
+    public void testVirtualDeviceKernelBundle() throws TornadoExecutionPlanException, IOException {
+        Assert.assertNotNull("tornado.print.kernel.dir must be set", SOURCE_DIR);
+        Assert.assertNotNull("tornado.aot.output must be set", BUNDLE_DIR);
+        compileMaxReduction();
+
+        TornadoVMBackendType backend = getCodeGenerationBackend(TornadoExecutionPlan.DEFAULT_DEVICE);
+        Path backendDirectory = Paths.get(BUNDLE_DIR, backend.name().toLowerCase());
+        List<Path> kernels;
+        try (Stream<Path> files = Files.list(backendDirectory)) {
+            kernels = files.filter(path -> path.getFileName().toString().contains(".maxReduction-")).toList();
+        }
+        Assert.assertEquals("The kernel of the task is not in the bundle", 1, kernels.size());
+
+        byte[] kernel = Files.readAllBytes(kernels.get(0));
+        if (backend == TornadoVMBackendType.SPIRV) {
+            // The bundle keeps the SPIR-V binary, while the dump is disassembled
+            Assert.assertTrue(kernel.length > 4);
+            Assert.assertEquals(0x07230203, (kernel[0] & 0xFF) | (kernel[1] & 0xFF) << 8 | (kernel[2] & 0xFF) << 16 | (kernel[3] & 0xFF) << 24);
+        } else {
+            String code = Files.readString(Paths.get(SOURCE_DIR));
+            Assert.assertTrue("The bundle and the dump contain different code", code.contains(new String(kernel, StandardCharsets.UTF_8)));
+        }
+    }
 }